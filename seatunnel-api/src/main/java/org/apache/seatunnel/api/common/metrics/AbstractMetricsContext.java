@@ -58,6 +58,25 @@ public abstract class AbstractMetricsContext implements MetricsContext, Serializ
         return meter;
     }
 
+    /**
+     * Registers {@link StripedCounter} and {@link StripedQPSMeter} which are not registered yet.
+     */
+    @Override
+    public RowMetrics rowMetrics(
+            String countName, String qpsName, String bytesName, String bytesPerSecondsName) {
+        return new RowMetrics(
+                (Counter) metrics.computeIfAbsent(countName, StripedCounter::new),
+                (Meter) metrics.computeIfAbsent(qpsName, StripedQPSMeter::new),
+                (Counter) metrics.computeIfAbsent(bytesName, StripedCounter::new),
+                (Meter) metrics.computeIfAbsent(bytesPerSecondsName, StripedQPSMeter::new),
+                getBytesMetricsMode());
+    }
+
+    /** How the byte size of rows is accounted in the {@link RowMetrics} of this context. */
+    protected BytesMetricsMode getBytesMetricsMode() {
+        return BytesMetricsMode.EXACT;
+    }
+
     protected void addMetric(String name, Metric metric) {
         if (metric == null) {
             log.warn("Ignoring attempted add of a metric due to being null for name {}.", name);
@@ -0,0 +1,33 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.api.common.metrics;
+
+/** How the byte size of rows is accounted in the {@link RowMetrics}. */
+public enum BytesMetricsMode {
+    /** The size of every row is calculated. */
+    EXACT,
+
+    /**
+     * The size of one row out of {@link RowMetrics#BYTES_SAMPLE_INTERVAL} is calculated and counted
+     * for all rows of the interval.
+     */
+    SAMPLED,
+
+    /** The byte size metrics are not updated. */
+    OFF
+}
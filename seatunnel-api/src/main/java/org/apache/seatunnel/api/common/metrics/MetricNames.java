@@ -33,4 +33,8 @@ public final class MetricNames {
     public static final String SINK_WRITE_BYTES = "SinkWriteBytes";
     public static final String SINK_WRITE_QPS = "SinkWriteQPS";
     public static final String SINK_WRITE_BYTES_PER_SECONDS = "SinkWriteBytesPerSeconds";
+    public static final String MULTI_TABLE_SINK_QUEUE_DEPTH = "MultiTableSinkQueueDepth";
+    public static final String MULTI_TABLE_SINK_STALL_TIME = "MultiTableSinkStallTimeMillis";
+    public static final String INTERMEDIATE_QUEUE_OCCUPANCY = "IntermediateQueueOccupancy";
+    public static final String INTERMEDIATE_QUEUE_WAIT_TIME = "IntermediateQueueWaitTimeMillis";
 }
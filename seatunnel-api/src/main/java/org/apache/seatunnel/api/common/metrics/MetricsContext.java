@@ -54,4 +54,20 @@ public interface MetricsContext {
      * @return the registered meter
      */
     <M extends Meter> M meter(String name, M meter);
+
+    /**
+     * Registers the count, QPS, bytes and bytes per second metrics of rows and returns a handle to
+     * update them together on the hot path.
+     *
+     * @return the handle of the registered metrics
+     */
+    default RowMetrics rowMetrics(
+            String countName, String qpsName, String bytesName, String bytesPerSecondsName) {
+        return new RowMetrics(
+                counter(countName),
+                meter(qpsName),
+                counter(bytesName),
+                meter(bytesPerSecondsName),
+                BytesMetricsMode.EXACT);
+    }
 }
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.api.common.metrics;
+
+import org.apache.seatunnel.api.table.type.ColumnarBatch;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+
+/**
+ * Resolved count, QPS, bytes and bytes per second metrics of rows, e.g. of one table. Keep the
+ * handle instead of looking up the metrics by name for every row, see {@link
+ * MetricsContext#rowMetrics(String, String, String, String)}.
+ */
+public final class RowMetrics {
+
+    public static final int BYTES_SAMPLE_INTERVAL = 16;
+
+    private final Counter count;
+    private final Meter qps;
+    private final Counter bytes;
+    private final Meter bytesPerSeconds;
+    private final BytesMetricsMode bytesMetricsMode;
+
+    /** Not synchronized, concurrent updates may only shift which rows are sampled. */
+    private int unsampledRows;
+
+    public RowMetrics(
+            Counter count,
+            Meter qps,
+            Counter bytes,
+            Meter bytesPerSeconds,
+            BytesMetricsMode bytesMetricsMode) {
+        this.count = count;
+        this.qps = qps;
+        this.bytes = bytes;
+        this.bytesPerSeconds = bytesPerSeconds;
+        this.bytesMetricsMode = bytesMetricsMode;
+    }
+
+    /** Records a record which is not a row, it has no byte size. */
+    public void record() {
+        count.inc();
+        qps.markEvent();
+    }
+
+    public void record(SeaTunnelRow row) {
+        count.inc();
+        qps.markEvent();
+        switch (bytesMetricsMode) {
+            case EXACT:
+                recordBytes(row.getBytesSize());
+                break;
+            case SAMPLED:
+                if (unsampledRows == 0) {
+                    recordBytes((long) row.getBytesSize() * BYTES_SAMPLE_INTERVAL);
+                }
+                unsampledRows = (unsampledRows + 1) % BYTES_SAMPLE_INTERVAL;
+                break;
+            case OFF:
+            default:
+                break;
+        }
+    }
+
+    public void record(ColumnarBatch batch) {
+        int rowCount = batch.getRowCount();
+        count.inc(rowCount);
+        qps.markEvent(rowCount);
+        switch (bytesMetricsMode) {
+            case EXACT:
+                recordBytes(batch.getBytesSize());
+                break;
+            case SAMPLED:
+                // the rows of a batch are sampled by the first row
+                if (rowCount > 0) {
+                    recordBytes((long) batch.getRow(0).getBytesSize() * rowCount);
+                }
+                break;
+            case OFF:
+            default:
+                break;
+        }
+    }
+
+    private void recordBytes(long size) {
+        bytes.inc(size);
+        bytesPerSeconds.markEvent(size);
+    }
+
+    public BytesMetricsMode getBytesMetricsMode() {
+        return bytesMetricsMode;
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.api.common.metrics;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link Counter} for hot paths. Increments from several threads go to separate cells which are
+ * only summed up when the count is read.
+ */
+public class StripedCounter implements Counter, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String name;
+
+    private final LongAdder value = new LongAdder();
+
+    public StripedCounter(String name) {
+        this.name = name;
+    }
+
+    @Override
+    public void inc() {
+        value.increment();
+    }
+
+    @Override
+    public void inc(long n) {
+        value.add(n);
+    }
+
+    @Override
+    public void dec() {
+        value.decrement();
+    }
+
+    @Override
+    public void dec(long n) {
+        value.add(-n);
+    }
+
+    @Override
+    public void set(long n) {
+        value.reset();
+        value.add(n);
+    }
+
+    @Override
+    public long getCount() {
+        return value.sum();
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public Unit unit() {
+        return Unit.COUNT;
+    }
+
+    @Override
+    public String toString() {
+        return "StripedCounter{" + "name='" + name + '\'' + ", value=" + value + '}';
+    }
+}
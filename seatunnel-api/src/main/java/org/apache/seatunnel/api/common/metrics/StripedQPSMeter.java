@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.api.common.metrics;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.LongAdder;
+
+/** A {@link ThreadSafeQPSMeter} whose events are counted in cells summed up on read. */
+public class StripedQPSMeter implements Meter, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String name;
+
+    private final LongAdder value = new LongAdder();
+
+    private final long timestamp;
+
+    public StripedQPSMeter(String name) {
+        this.name = name;
+        timestamp = System.currentTimeMillis();
+    }
+
+    @Override
+    public void markEvent() {
+        value.increment();
+    }
+
+    @Override
+    public void markEvent(long n) {
+        value.add(n);
+    }
+
+    @Override
+    public double getRate() {
+        long cost = System.currentTimeMillis() - timestamp;
+        return (double) value.sum() * 1000 / cost;
+    }
+
+    @Override
+    public long getCount() {
+        return value.sum();
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public Unit unit() {
+        return Unit.COUNT;
+    }
+
+    @Override
+    public String toString() {
+        return "StripedQPSMeter{"
+                + "name='"
+                + name
+                + '\''
+                + ", value="
+                + value
+                + ", timestamp="
+                + timestamp
+                + '}';
+    }
+}
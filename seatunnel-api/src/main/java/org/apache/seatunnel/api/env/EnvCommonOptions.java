@@ -84,6 +84,13 @@ public interface EnvCommonOptions {
                     .noDefaultValue()
                     .withDescription("The timeout (in milliseconds) for a checkpoint.");
 
+    Option<Boolean> CHECKPOINT_UNALIGNED =
+            Options.key("checkpoint.unaligned")
+                    .booleanType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "Whether checkpoint barriers overtake the records buffered in shuffle channels, defaults to the engine configuration.");
+
     Option<SaveModeExecuteLocation> SAVEMODE_EXECUTE_LOCATION =
             Options.key("savemode.execute.location")
                     .enumType(SaveModeExecuteLocation.class)
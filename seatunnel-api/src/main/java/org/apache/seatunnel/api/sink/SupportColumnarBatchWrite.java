@@ -0,0 +1,37 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.api.sink;
+
+import org.apache.seatunnel.api.table.type.ColumnarBatch;
+
+import java.io.IOException;
+
+/**
+ * The Sink Connector Writer which can write a {@link ColumnarBatch} without converting it to rows
+ * should implement this interface, the other writers receive the rows of the batch one by one.
+ */
+public interface SupportColumnarBatchWrite {
+
+    /**
+     * write a batch of rows to third party data receiver.
+     *
+     * @param batch the rows need be written.
+     * @throws IOException throw IOException when write data failed.
+     */
+    void write(ColumnarBatch batch) throws IOException;
+}
@@ -17,11 +17,17 @@
 
 package org.apache.seatunnel.api.sink.multitablesink;
 
+import org.apache.seatunnel.api.common.metrics.Counter;
+import org.apache.seatunnel.api.common.metrics.MetricNames;
+import org.apache.seatunnel.api.common.metrics.MetricsContext;
+import org.apache.seatunnel.api.common.metrics.ThreadSafeCounter;
 import org.apache.seatunnel.api.sink.MultiTableResourceManager;
 import org.apache.seatunnel.api.sink.SinkWriter;
+import org.apache.seatunnel.api.sink.SupportColumnarBatchWrite;
 import org.apache.seatunnel.api.sink.SupportMultiTableSinkWriter;
 import org.apache.seatunnel.api.sink.event.WriterCloseEvent;
 import org.apache.seatunnel.api.table.event.SchemaChangeEvent;
+import org.apache.seatunnel.api.table.type.ColumnarBatch;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.tracing.MDCTracer;
 
@@ -33,20 +39,26 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Random;
-import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
 
 @Slf4j
 public class MultiTableSinkWriter
-        implements SinkWriter<SeaTunnelRow, MultiTableCommitInfo, MultiTableState> {
+        implements SinkWriter<SeaTunnelRow, MultiTableCommitInfo, MultiTableState>,
+                SupportColumnarBatchWrite {
+
+    private static final int QUEUE_CAPACITY = 1024;
+    // rows are handed over to the sub-writers in batches of this size at most, pending rows of
+    // idle sub-writers are published every that many writes
+    private static final int PUBLISH_BATCH_SIZE = 64;
+    private static final int MAX_WRITE_BATCH_SIZE = 256;
+    private static final long STALL_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
 
     private final Map<SinkIdentifier, SinkWriter<SeaTunnelRow, ?, ?>> sinkWriters;
     private final Map<SinkIdentifier, SinkWriter.Context> sinkWritersContext;
@@ -54,8 +66,12 @@ public class MultiTableSinkWriter
     private final List<ConcurrentMap<SinkIdentifier, SinkWriter<SeaTunnelRow, ?, ?>>>
             sinkWritersWithIndex;
     private final List<MultiTableWriterRunnable> runnable = new ArrayList<>();
-    private final Random random = new Random();
-    private final List<BlockingQueue<SeaTunnelRow>> blockingQueues = new ArrayList<>();
+    private final List<RowRingBuffer> queues = new ArrayList<>();
+    private final List<Counter> queueDepths = new ArrayList<>();
+    private final List<Counter> stallTimes = new ArrayList<>();
+    private final long[] stallNanos;
+    private int keylessQueueIndex = 0;
+    private int writesSinceFlush = 0;
     private final ExecutorService executorService;
     private MultiTableResourceManager resourceManager;
     private volatile boolean submitted = false;
@@ -83,9 +99,15 @@ public class MultiTableSinkWriter
                                                     + cnt.incrementAndGet());
                                     return thread;
                                 }));
+        MetricsContext metricsContext =
+                sinkWritersContext.values().stream()
+                        .findFirst()
+                        .map(SinkWriter.Context::getMetricsContext)
+                        .orElse(null);
+        stallNanos = new long[queueSize];
         sinkWritersWithIndex = new ArrayList<>();
         for (int i = 0; i < queueSize; i++) {
-            BlockingQueue<SeaTunnelRow> queue = new LinkedBlockingQueue<>(1024);
+            RowRingBuffer queue = new RowRingBuffer(QUEUE_CAPACITY, PUBLISH_BATCH_SIZE);
             Map<String, SinkWriter<SeaTunnelRow, ?, ?>> tableIdWriterMap = new HashMap<>();
             ConcurrentMap<SinkIdentifier, SinkWriter<SeaTunnelRow, ?, ?>> sinkIdentifierMap =
                     new ConcurrentHashMap<>();
@@ -100,14 +122,23 @@ public class MultiTableSinkWriter
                             });
 
             sinkWritersWithIndex.add(sinkIdentifierMap);
-            blockingQueues.add(queue);
-            MultiTableWriterRunnable r = new MultiTableWriterRunnable(tableIdWriterMap, queue);
+            queues.add(queue);
+            queueDepths.add(
+                    counter(metricsContext, MetricNames.MULTI_TABLE_SINK_QUEUE_DEPTH + "-" + i));
+            stallTimes.add(
+                    counter(metricsContext, MetricNames.MULTI_TABLE_SINK_STALL_TIME + "-" + i));
+            MultiTableWriterRunnable r =
+                    new MultiTableWriterRunnable(tableIdWriterMap, queue, MAX_WRITE_BATCH_SIZE);
             runnable.add(r);
         }
         log.info("init multi table sink writer, queue size: {}", queueSize);
         initResourceManager(queueSize);
     }
 
+    private static Counter counter(MetricsContext metricsContext, String name) {
+        return metricsContext == null ? new ThreadSafeCounter(name) : metricsContext.counter(name);
+    }
+
     private void initResourceManager(int queueSize) {
         for (SinkIdentifier tableIdentifier : sinkWriters.keySet()) {
             SinkWriter<SeaTunnelRow, ?, ?> sink = sinkWriters.get(tableIdentifier);
@@ -140,6 +171,8 @@ public class MultiTableSinkWriter
 
     @Override
     public void applySchemaChange(SchemaChangeEvent event) throws IOException {
+        // rows of the old schema must reach the sub-writers before the schema changes
+        checkQueueRemain();
         subSinkErrorCheck();
         for (int i = 0; i < sinkWritersWithIndex.size(); i++) {
             for (Map.Entry<SinkIdentifier, SinkWriter<SeaTunnelRow, ?, ?>> sinkWriterEntry :
@@ -166,36 +199,134 @@ public class MultiTableSinkWriter
 
     @Override
     public void write(SeaTunnelRow element) throws IOException {
+        submitRunnable();
+        subSinkErrorCheck();
+        Optional<Integer> primaryKey = sinkPrimaryKeys.get(element.getTableId());
+        int index;
+        if (isKeyless(primaryKey)) {
+            index = keylessQueueIndex();
+        } else if (primaryKey == null) {
+            throw new RuntimeException(
+                    "multi table sink can not write table: " + element.getTableId());
+        } else {
+            // rows with the same primary key always go to the same sub-writer to keep their order
+            Object object = element.getField(primaryKey.get());
+            index = 0;
+            if (object != null) {
+                index = (object.hashCode() & Integer.MAX_VALUE) % queues.size();
+            }
+        }
+        offer(index, element);
+    }
+
+    /**
+     * Hands the batch to one sub-writer without converting it to rows, if the table has no primary
+     * key and the sub-writer can write columnar batches. The rows queued for that sub-writer are
+     * written first. Otherwise the rows of the batch are queued one by one.
+     */
+    @Override
+    public void write(ColumnarBatch batch) throws IOException {
+        submitRunnable();
+        subSinkErrorCheck();
+        SinkWriter<SeaTunnelRow, ?, ?> subWriter = null;
+        int index = 0;
+        if (isKeyless(sinkPrimaryKeys.get(batch.getTableId()))) {
+            index = keylessQueueIndex();
+            subWriter = getSubWriter(index, batch.getTableId());
+        }
+        if (!(subWriter instanceof SupportColumnarBatchWrite)) {
+            for (int row = 0; row < batch.getRowCount(); row++) {
+                write(batch.getRow(row));
+            }
+            return;
+        }
+        RowRingBuffer queue = queues.get(index);
+        queue.publish();
+        while (!queue.isEmpty()) {
+            LockSupport.parkNanos(this, STALL_PARK_NANOS);
+            if (Thread.interrupted()) {
+                throw new IOException(new InterruptedException());
+            }
+            subSinkErrorCheck();
+        }
+        synchronized (runnable.get(index)) {
+            ((SupportColumnarBatchWrite) subWriter).write(batch);
+        }
+    }
+
+    private void submitRunnable() {
         if (!submitted) {
             submitted = true;
             runnable.forEach(executorService::submit);
         }
-        subSinkErrorCheck();
-        Optional<Integer> primaryKey = sinkPrimaryKeys.get(element.getTableId());
-        try {
-            if ((primaryKey == null && sinkPrimaryKeys.size() == 1)
-                    || (primaryKey != null && !primaryKey.isPresent())) {
-                int index = random.nextInt(blockingQueues.size());
-                BlockingQueue<SeaTunnelRow> queue = blockingQueues.get(index);
-                while (!queue.offer(element, 500, TimeUnit.MILLISECONDS)) {
-                    subSinkErrorCheck();
-                }
-            } else if (primaryKey == null) {
-                throw new RuntimeException(
-                        "multi table sink can not write table: " + element.getTableId());
-            } else {
-                Object object = element.getField(primaryKey.get());
-                int index = 0;
-                if (object != null) {
-                    index = Math.abs(object.hashCode()) % blockingQueues.size();
-                }
-                BlockingQueue<SeaTunnelRow> queue = blockingQueues.get(index);
-                while (!queue.offer(element, 500, TimeUnit.MILLISECONDS)) {
-                    subSinkErrorCheck();
-                }
+    }
+
+    private boolean isKeyless(Optional<Integer> primaryKey) {
+        return (primaryKey == null && sinkPrimaryKeys.size() == 1)
+                || (primaryKey != null && !primaryKey.isPresent());
+    }
+
+    private SinkWriter<SeaTunnelRow, ?, ?> getSubWriter(int index, String tableId) {
+        Map<SinkIdentifier, SinkWriter<SeaTunnelRow, ?, ?>> writers =
+                sinkWritersWithIndex.get(index);
+        if (writers.size() == 1) {
+            return writers.values().iterator().next();
+        }
+        for (Map.Entry<SinkIdentifier, SinkWriter<SeaTunnelRow, ?, ?>> entry : writers.entrySet()) {
+            if (entry.getKey().getTableIdentifier().equals(tableId)) {
+                return entry.getValue();
             }
-        } catch (InterruptedException e) {
-            throw new IOException(e);
+        }
+        return null;
+    }
+
+    /**
+     * Rows without primary key stick to one sub-writer until its pending batch is handed over, then
+     * move on to the sub-writer with the fewest queued rows.
+     */
+    private int keylessQueueIndex() {
+        if (queues.get(keylessQueueIndex).hasPending()) {
+            return keylessQueueIndex;
+        }
+        int leastLoaded = keylessQueueIndex;
+        int minSize = queues.get(leastLoaded).size();
+        for (int i = 0; i < queues.size() && minSize > 0; i++) {
+            int size = queues.get(i).size();
+            if (size < minSize) {
+                leastLoaded = i;
+                minSize = size;
+            }
+        }
+        keylessQueueIndex = leastLoaded;
+        return leastLoaded;
+    }
+
+    private void offer(int index, SeaTunnelRow element) throws IOException {
+        RowRingBuffer queue = queues.get(index);
+        if (!queue.offer(element)) {
+            long start = System.nanoTime();
+            do {
+                LockSupport.parkNanos(this, STALL_PARK_NANOS);
+                if (Thread.interrupted()) {
+                    throw new IOException(new InterruptedException());
+                }
+                subSinkErrorCheck();
+            } while (!queue.offer(element));
+            stallNanos[index] += System.nanoTime() - start;
+            stallTimes.get(index).set(TimeUnit.NANOSECONDS.toMillis(stallNanos[index]));
+        }
+        if (++writesSinceFlush >= PUBLISH_BATCH_SIZE) {
+            publishQueues();
+        }
+    }
+
+    /** Hands over the pending rows of all sub-writers and refreshes the queue depth metrics. */
+    private void publishQueues() {
+        writesSinceFlush = 0;
+        for (int i = 0; i < queues.size(); i++) {
+            RowRingBuffer queue = queues.get(i);
+            queue.publish();
+            queueDepths.get(i).set(queue.size());
         }
     }
 
@@ -337,9 +468,10 @@ public class MultiTableSinkWriter
     }
 
     private void checkQueueRemain() {
+        publishQueues();
         try {
-            for (BlockingQueue<SeaTunnelRow> blockingQueue : blockingQueues) {
-                while (!blockingQueue.isEmpty()) {
+            for (RowRingBuffer queue : queues) {
+                while (!queue.isEmpty()) {
                     Thread.sleep(100);
                     subSinkErrorCheck();
                 }
@@ -347,5 +479,8 @@ public class MultiTableSinkWriter
         } catch (InterruptedException e) {
             throw new RuntimeException(e);
         }
+        for (Counter queueDepth : queueDepths) {
+            queueDepth.set(0);
+        }
     }
 }
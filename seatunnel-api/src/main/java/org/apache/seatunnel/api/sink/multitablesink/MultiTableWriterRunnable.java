@@ -23,44 +23,43 @@ import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.Map;
-import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.TimeUnit;
 
 @Slf4j
 public class MultiTableWriterRunnable implements Runnable {
 
     private final Map<String, SinkWriter<SeaTunnelRow, ?, ?>> tableIdWriterMap;
-    private final BlockingQueue<SeaTunnelRow> queue;
+    private final RowRingBuffer queue;
+    private final SeaTunnelRow[] batch;
     private volatile Throwable throwable;
 
     public MultiTableWriterRunnable(
             Map<String, SinkWriter<SeaTunnelRow, ?, ?>> tableIdWriterMap,
-            BlockingQueue<SeaTunnelRow> queue) {
+            RowRingBuffer queue,
+            int maxBatchSize) {
         this.tableIdWriterMap = tableIdWriterMap;
         this.queue = queue;
+        this.batch = new SeaTunnelRow[maxBatchSize];
     }
 
     @Override
     public void run() {
         while (true) {
             try {
-                SeaTunnelRow row = queue.poll(100, TimeUnit.MILLISECONDS);
-                if (row == null) {
+                int size = queue.peek(batch, 100, TimeUnit.MILLISECONDS);
+                if (size == 0) {
                     continue;
                 }
-                SinkWriter<SeaTunnelRow, ?, ?> writer = tableIdWriterMap.get(row.getTableId());
-                if (writer == null) {
-                    if (tableIdWriterMap.size() == 1) {
-                        writer = tableIdWriterMap.values().stream().findFirst().get();
-                    } else {
-                        throw new RuntimeException(
-                                "MultiTableWriterRunnable can't find writer for tableId: "
-                                        + row.getTableId());
-                    }
-                }
                 synchronized (this) {
-                    writer.write(row);
+                    for (int i = 0; i < size; i++) {
+                        SeaTunnelRow row = batch[i];
+                        batch[i] = null;
+                        getWriter(row).write(row);
+                    }
                 }
+                // release the slots after the rows are written, so the sink writer only sees an
+                // empty queue once all rows reached the sub-writers
+                queue.release(size);
             } catch (InterruptedException e) {
                 // When the job finished, the thread will be interrupted, so we ignore this
                 // exception.
@@ -74,6 +73,20 @@ public class MultiTableWriterRunnable implements Runnable {
         }
     }
 
+    private SinkWriter<SeaTunnelRow, ?, ?> getWriter(SeaTunnelRow row) {
+        SinkWriter<SeaTunnelRow, ?, ?> writer = tableIdWriterMap.get(row.getTableId());
+        if (writer == null) {
+            if (tableIdWriterMap.size() == 1) {
+                writer = tableIdWriterMap.values().stream().findFirst().get();
+            } else {
+                throw new RuntimeException(
+                        "MultiTableWriterRunnable can't find writer for tableId: "
+                                + row.getTableId());
+            }
+        }
+        return writer;
+    }
+
     public Throwable getThrowable() {
         return throwable;
     }
@@ -0,0 +1,181 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.api.sink.multitablesink;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A bounded single-producer/single-consumer ring buffer which hands rows from the {@link
+ * MultiTableSinkWriter} over to one {@link MultiTableWriterRunnable}.
+ *
+ * <p>The producer writes rows into preallocated slots and publishes them in batches, when {@code
+ * publishBatchSize} rows are pending, when the consumer released all published rows or when it is
+ * waiting for rows. The consumer peeks all published rows at once and releases their slots only
+ * after they have been written, so an empty buffer means every handed over row has reached the
+ * sub-writer. A consumer which runs out of published rows also takes the pending ones, so a row
+ * offered while the consumer was busy is not held back longer than the timeout of {@link #peek}.
+ */
+public class RowRingBuffer {
+
+    private final SeaTunnelRow[] slots;
+    private final int mask;
+    private final int publishBatchSize;
+
+    /** Slots released by the consumer, written by the consumer only. */
+    private final AtomicLong head = new AtomicLong();
+    /** Slots published by the producer, written by the producer only. */
+    private final AtomicLong tail = new AtomicLong();
+    /**
+     * Slots written by the producer including the pending ones, written by the producer only and
+     * read by the consumer only when it ran out of published rows.
+     */
+    private final AtomicLong written = new AtomicLong();
+
+    // producer local cursors
+    private long pendingTail;
+    private long publishedTail;
+    private long cachedHead;
+
+    // consumer local cursor
+    private long consumerHead;
+    private volatile Thread consumer;
+    private volatile boolean consumerWaiting;
+
+    public RowRingBuffer(int capacity, int publishBatchSize) {
+        if (capacity < 1 || publishBatchSize < 1) {
+            throw new IllegalArgumentException(
+                    "capacity and publishBatchSize must be positive, but got "
+                            + capacity
+                            + " and "
+                            + publishBatchSize);
+        }
+        int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.slots = new SeaTunnelRow[size];
+        this.mask = size - 1;
+        this.publishBatchSize = Math.min(publishBatchSize, size);
+    }
+
+    /**
+     * Adds a row on the producer side.
+     *
+     * @return false if the buffer is full, the pending rows are published in that case so the
+     *     consumer can make progress
+     */
+    public boolean offer(SeaTunnelRow row) {
+        if (pendingTail - cachedHead >= slots.length) {
+            cachedHead = head.get();
+            if (pendingTail - cachedHead >= slots.length) {
+                publish();
+                return false;
+            }
+        }
+        slots[(int) pendingTail & mask] = row;
+        pendingTail++;
+        // a full fence, so either the producer sees the consumer waiting or the waiting consumer
+        // sees the row
+        written.set(pendingTail);
+        if (pendingTail - publishedTail >= publishBatchSize
+                || consumerWaiting
+                || head.get() == publishedTail) {
+            publish();
+        }
+        return true;
+    }
+
+    /** Makes all pending rows visible to the consumer. Called by the producer. */
+    public void publish() {
+        if (pendingTail == publishedTail) {
+            return;
+        }
+        publishedTail = pendingTail;
+        tail.set(publishedTail);
+        if (consumerWaiting) {
+            Thread waiter = consumer;
+            if (waiter != null) {
+                LockSupport.unpark(waiter);
+            }
+        }
+    }
+
+    /** Whether there are rows which are not published yet. Called by the producer. */
+    public boolean hasPending() {
+        return pendingTail != publishedTail;
+    }
+
+    /** Number of rows which have not been released by the consumer yet. Called by the producer. */
+    public int size() {
+        return (int) (pendingTail - head.get());
+    }
+
+    /** Whether all offered rows have been released by the consumer. Called by the producer. */
+    public boolean isEmpty() {
+        return pendingTail == head.get();
+    }
+
+    /**
+     * Copies the published rows into {@code batch} without releasing them. If there are none, the
+     * rows which are not published yet are taken, waiting up to the given timeout for rows. Called
+     * by the consumer.
+     *
+     * @return the number of rows copied into {@code batch}
+     */
+    public int peek(SeaTunnelRow[] batch, long timeout, TimeUnit unit) throws InterruptedException {
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+        // the consumer may have taken rows which are not published yet
+        long available = tail.get() - consumerHead;
+        if (available <= 0) {
+            consumer = Thread.currentThread();
+            consumerWaiting = true;
+            try {
+                available = written.get() - consumerHead;
+                if (available == 0) {
+                    LockSupport.parkNanos(this, unit.toNanos(timeout));
+                    available = written.get() - consumerHead;
+                }
+            } finally {
+                consumerWaiting = false;
+            }
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            if (available == 0) {
+                return 0;
+            }
+        }
+        int count = (int) Math.min(available, batch.length);
+        for (int i = 0; i < count; i++) {
+            batch[i] = slots[(int) (consumerHead + i) & mask];
+        }
+        return count;
+    }
+
+    /** Releases the slots of rows returned by {@link #peek}. Called by the consumer. */
+    public void release(int count) {
+        for (int i = 0; i < count; i++) {
+            slots[(int) (consumerHead + i) & mask] = null;
+        }
+        consumerHead += count;
+        head.lazySet(consumerHead);
+    }
+}
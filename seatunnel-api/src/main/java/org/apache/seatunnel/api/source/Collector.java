@@ -18,6 +18,7 @@
 package org.apache.seatunnel.api.source;
 
 import org.apache.seatunnel.api.table.event.SchemaChangeEvent;
+import org.apache.seatunnel.api.table.type.ColumnarBatch;
 
 /**
  * A {@link Collector} is used to collect data from {@link SourceReader}.
@@ -28,6 +29,19 @@ public interface Collector<T> {
 
     void collect(T record);
 
+    /**
+     * Collects the rows of a columnar batch at once, the collector passes the batch downstream if
+     * it can, otherwise the rows are collected one by one.
+     *
+     * @param batch the batch, which must not be changed afterwards.
+     */
+    @SuppressWarnings("unchecked")
+    default void collectBatch(ColumnarBatch batch) {
+        for (int row = 0; row < batch.getRowCount(); row++) {
+            collect((T) batch.getRow(row));
+        }
+    }
+
     default void markSchemaChangeBeforeCheckpoint() {}
 
     default void collect(SchemaChangeEvent event) {}
@@ -110,6 +110,13 @@ public interface SourceReader<T, SplitT extends SourceSplit>
          */
         void sendSourceEventToEnumerator(SourceEvent sourceEvent);
 
+        /**
+         * Signals that records became available for the next {@link #pollNext} call, e.g. after a
+         * fetcher thread owned by the reader enqueued records. Engines which back off readers that
+         * returned no records poll the reader again right away.
+         */
+        default void signalDataAvailable() {}
+
         /** @return metricsContext of this reader. */
         MetricsContext getMetricsContext();
 
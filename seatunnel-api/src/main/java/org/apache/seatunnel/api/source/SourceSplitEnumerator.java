@@ -128,5 +128,16 @@ public interface SourceSplitEnumerator<SplitT extends SourceSplit, StateT>
          * @return
          */
         EventListener getEventListener();
+
+        /**
+         * Fails the enumerator because of an error which happened outside of the calls made by the
+         * engine, e.g. in a thread owned by the enumerator.
+         *
+         * <p>Engines which can't fail the enumerator from another thread ignore it, so the
+         * enumerator must still raise the error on its next call.
+         *
+         * @param cause the error which failed the enumerator.
+         */
+        default void failEnumerator(Throwable cause) {}
     }
 }
@@ -17,5 +17,21 @@
 
 package org.apache.seatunnel.api.source;
 
+import java.util.List;
+
 /** Mark whether the Source connector supports ColumnProjection */
-public interface SupportColumnProjection {}
+public interface SupportColumnProjection {
+
+    /**
+     * Projects the fields of the single produced table to the given fields, it is called before the
+     * enumerator and the readers are created. When the projection is applied, {@link
+     * SeaTunnelSource#getProducedCatalogTables()} returns the projected table, which contains the
+     * given fields in the original order and may keep a few others, e.g. partition fields.
+     *
+     * @param fieldNames the names of the fields which are read from the source
+     * @return whether the projection is applied
+     */
+    default boolean applyProjection(List<String> fieldNames) {
+        return false;
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.api.source;
+
+import org.apache.seatunnel.api.source.filter.Predicate;
+
+import java.util.List;
+
+/**
+ * Mark whether the Source connector supports filter push down.
+ *
+ * <p>The predicates come from a filter which is still evaluated on the rows of the source, so the
+ * source only uses them to skip reading rows which can not match, e.g. with a WHERE clause or by
+ * file statistics, it may still return rows which don't match.
+ */
+public interface SupportFilterPushDown {
+
+    /**
+     * Pushes the predicates down to the source, it is called before the enumerator and the readers
+     * are created.
+     *
+     * @param predicates the conjuncts of the filter on the fields of the single produced table
+     * @return the predicates which are used by the source
+     */
+    List<Predicate> applyFilters(List<Predicate> predicates);
+}
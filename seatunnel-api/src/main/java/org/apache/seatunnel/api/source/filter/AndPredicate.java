@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.api.source.filter;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/** The conjunction of predicates. */
+@Getter
+@EqualsAndHashCode
+public class AndPredicate implements Predicate {
+    private static final long serialVersionUID = 1L;
+
+    private final List<Predicate> children;
+
+    public AndPredicate(@NonNull List<Predicate> children) {
+        this.children = children;
+    }
+
+    @Override
+    public <T> T accept(PredicateVisitor<T> visitor) {
+        return visitor.visit(this);
+    }
+
+    @Override
+    public String toString() {
+        return children.stream()
+                .map(child -> "(" + child + ")")
+                .collect(Collectors.joining(" AND "));
+    }
+}
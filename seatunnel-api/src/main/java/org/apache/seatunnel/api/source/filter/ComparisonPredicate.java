@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.api.source.filter;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+
+/** Compares a field with a value, the predicate is false if the field is null. */
+@Getter
+@EqualsAndHashCode
+public class ComparisonPredicate implements Predicate {
+    private static final long serialVersionUID = 1L;
+
+    private final String fieldName;
+    private final Operator operator;
+    private final Object value;
+
+    public ComparisonPredicate(
+            @NonNull String fieldName, @NonNull Operator operator, @NonNull Object value) {
+        this.fieldName = fieldName;
+        this.operator = operator;
+        this.value = value;
+    }
+
+    @Override
+    public <T> T accept(PredicateVisitor<T> visitor) {
+        return visitor.visit(this);
+    }
+
+    @Override
+    public String toString() {
+        return fieldName + " " + operator.getSymbol() + " " + value;
+    }
+
+    @Getter
+    public enum Operator {
+        EQUALS("="),
+        LESS_THAN("<"),
+        LESS_THAN_OR_EQUALS("<="),
+        GREATER_THAN(">"),
+        GREATER_THAN_OR_EQUALS(">=");
+
+        private final String symbol;
+
+        Operator(String symbol) {
+            this.symbol = symbol;
+        }
+
+        /** The operator with the operands swapped, e.g. {@code a < b} is {@code b > a}. */
+        public Operator reverse() {
+            switch (this) {
+                case LESS_THAN:
+                    return GREATER_THAN;
+                case LESS_THAN_OR_EQUALS:
+                    return GREATER_THAN_OR_EQUALS;
+                case GREATER_THAN:
+                    return LESS_THAN;
+                case GREATER_THAN_OR_EQUALS:
+                    return LESS_THAN_OR_EQUALS;
+                default:
+                    return this;
+            }
+        }
+    }
+}
@@ -0,0 +1,32 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.api.source.filter;
+
+import java.io.Serializable;
+
+/**
+ * A predicate on the fields of the rows produced by a source, which is pushed down to the source by
+ * {@link org.apache.seatunnel.api.source.SupportFilterPushDown}.
+ *
+ * <p>The values of the predicates are {@link Long} for the integer fields and {@link String} for
+ * the string fields.
+ */
+public interface Predicate extends Serializable {
+
+    <T> T accept(PredicateVisitor<T> visitor);
+}
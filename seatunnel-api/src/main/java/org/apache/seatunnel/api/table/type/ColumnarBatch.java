@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.api.table.type;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A batch of rows of one table stored column by column, e.g. in the column vectors of a columnar
+ * file. It is emitted by columnar sources instead of single {@link SeaTunnelRow}s, the engine
+ * converts it to rows only for the transforms and sinks which can not consume it directly.
+ *
+ * <p>The values have the same java types as the fields of a {@link SeaTunnelRow} of the table, all
+ * rows are {@link RowKind#INSERT} rows. A batch is handed over to other threads, so it must not be
+ * changed after it is emitted.
+ */
+public interface ColumnarBatch {
+
+    /** The id of the table of the rows, see {@link SeaTunnelRow#getTableId()}. */
+    String getTableId();
+
+    int getRowCount();
+
+    int getColumnCount();
+
+    boolean isNullAt(int column, int row);
+
+    /** Get the value of the column in the row, the value is boxed. */
+    Object getValue(int column, int row);
+
+    /**
+     * Get the value of a {@link SqlType#INT} column in the row, without boxing if possible. The
+     * value must not be null, see {@link #isNullAt(int, int)}.
+     */
+    default int getInt(int column, int row) {
+        return (Integer) getValue(column, row);
+    }
+
+    /**
+     * Get the value of a {@link SqlType#BIGINT} column in the row, without boxing if possible. The
+     * value must not be null.
+     */
+    default long getLong(int column, int row) {
+        return (Long) getValue(column, row);
+    }
+
+    /**
+     * Get the value of a {@link SqlType#DOUBLE} column in the row, without boxing if possible. The
+     * value must not be null.
+     */
+    default double getDouble(int column, int row) {
+        return (Double) getValue(column, row);
+    }
+
+    default SeaTunnelRow getRow(int row) {
+        Object[] fields = new Object[getColumnCount()];
+        for (int column = 0; column < fields.length; column++) {
+            fields[column] = getValue(column, row);
+        }
+        SeaTunnelRow seaTunnelRow = new SeaTunnelRow(fields);
+        seaTunnelRow.setTableId(getTableId());
+        return seaTunnelRow;
+    }
+
+    default List<SeaTunnelRow> toRows() {
+        int rowCount = getRowCount();
+        List<SeaTunnelRow> rows = new ArrayList<>(rowCount);
+        for (int row = 0; row < rowCount; row++) {
+            rows.add(getRow(row));
+        }
+        return rows;
+    }
+
+    /**
+     * The sum of the {@link SeaTunnelRow#getBytesSize()} of the rows, computed column by column
+     * without creating the rows. Values whose size does not depend on the value, like numbers and
+     * dates, are only counted. The size is used by the metrics and the flow control of every batch,
+     * so implementations should cache it.
+     */
+    default long getBytesSize() {
+        long size = 0;
+        int rowCount = getRowCount();
+        for (int column = 0; column < getColumnCount(); column++) {
+            int fixedSize = -1;
+            for (int row = 0; row < rowCount; row++) {
+                if (isNullAt(column, row)) {
+                    continue;
+                }
+                if (fixedSize >= 0) {
+                    size += fixedSize;
+                    continue;
+                }
+                Object value = getValue(column, row);
+                int valueSize = SeaTunnelRow.getBytesForValue(value);
+                if (SeaTunnelRow.isFixedBytesSize(value)) {
+                    fixedSize = valueSize;
+                }
+                size += valueSize;
+            }
+        }
+        return size;
+    }
+}
@@ -18,7 +18,11 @@
 package org.apache.seatunnel.api.table.type;
 
 import java.io.Serializable;
+import java.math.BigDecimal;
 import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.Arrays;
 import java.util.Map;
 import java.util.Objects;
@@ -194,7 +198,7 @@ public final class SeaTunnelRow implements Serializable {
         }
     }
 
-    private int getBytesForArray(Object v, SeaTunnelDataType<?> dataType) {
+    private static int getBytesForArray(Object v, SeaTunnelDataType<?> dataType) {
         switch (dataType.getSqlType()) {
             case STRING:
                 int s = 0;
@@ -222,7 +226,7 @@ public final class SeaTunnelRow implements Serializable {
         }
     }
 
-    private int getArrayNotNullSize(Object[] values) {
+    private static int getArrayNotNullSize(Object[] values) {
         int c = 0;
         for (Object value : values) {
             if (value != null) {
@@ -243,7 +247,7 @@ public final class SeaTunnelRow implements Serializable {
         return size;
     }
 
-    private int getBytesForValue(Object v) {
+    static int getBytesForValue(Object v) {
         if (v == null) {
             return 0;
         }
@@ -319,6 +323,21 @@ public final class SeaTunnelRow implements Serializable {
         }
     }
 
+    /** Whether {@link #getBytesForValue(Object)} is the same for all values of the class. */
+    static boolean isFixedBytesSize(Object v) {
+        return v instanceof Boolean
+                || v instanceof Byte
+                || v instanceof Short
+                || v instanceof Integer
+                || v instanceof Float
+                || v instanceof Long
+                || v instanceof Double
+                || v instanceof BigDecimal
+                || v instanceof LocalDate
+                || v instanceof LocalTime
+                || v instanceof LocalDateTime;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
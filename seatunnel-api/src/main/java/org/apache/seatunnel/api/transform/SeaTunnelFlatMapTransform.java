@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.api.transform;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A transform which receives the rows in micro batches and may emit any number of rows for each
+ * input row, e.g. to split one row into many rows, or to handle many rows with one request to a
+ * remote model.
+ *
+ * <p>The engine groups the rows received between two checkpoint barriers into batches of at most
+ * {@link #getBatchSize()} rows, all rows emitted for a batch are sent downstream before the next
+ * barrier. Transforms which only implement {@link #map(Object)} are called row by row.
+ */
+public interface SeaTunnelFlatMapTransform<T> extends SeaTunnelTransform<T> {
+
+    int DEFAULT_BATCH_SIZE = 1024;
+
+    /** The max number of rows passed to {@link #flatMap(List, Collector)} at once. */
+    default int getBatchSize() {
+        return DEFAULT_BATCH_SIZE;
+    }
+
+    /**
+     * Transform a batch of input data to {@link
+     * this#getProducedCatalogTable().getSeaTunnelRowType()} types data.
+     *
+     * @param rows the data need be transformed.
+     * @param collector the collector of the transformed data.
+     */
+    void flatMap(List<T> rows, Collector<T> collector);
+
+    /**
+     * Transform one row with {@link #flatMap(List, Collector)}, for engines which call the
+     * transforms row by row.
+     *
+     * @throws UnsupportedOperationException if more than one row is emitted for the row
+     */
+    @Override
+    default T map(T row) {
+        List<T> output = new ArrayList<>(1);
+        flatMap(
+                Collections.singletonList(row),
+                new Collector<T>() {
+                    @Override
+                    public void collect(T record) {
+                        output.add(record);
+                    }
+
+                    @Override
+                    public void close() {}
+                });
+        if (output.size() > 1) {
+            throw new UnsupportedOperationException(
+                    String.format(
+                            "Transform %s emits %d rows for one row, which is not supported by map",
+                            getPluginName(), output.size()));
+        }
+        return output.isEmpty() ? null : output.get(0);
+    }
+}
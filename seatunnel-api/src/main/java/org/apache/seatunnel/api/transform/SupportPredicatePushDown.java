@@ -0,0 +1,38 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.api.transform;
+
+import org.apache.seatunnel.api.source.SupportFilterPushDown;
+import org.apache.seatunnel.api.source.filter.Predicate;
+
+import java.util.List;
+
+/**
+ * Mark whether the Transform filters its input rows with predicates which can be pushed down to a
+ * {@link SupportFilterPushDown} source.
+ */
+public interface SupportPredicatePushDown {
+
+    /**
+     * Get the predicates which every row kept by the transform matches, the transform still filters
+     * the rows when they are pushed down.
+     *
+     * @return the conjuncts on the fields of the input table
+     */
+    List<Predicate> getPushDownPredicates();
+}
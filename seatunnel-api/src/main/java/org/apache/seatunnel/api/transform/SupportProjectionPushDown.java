@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.api.transform;
+
+import org.apache.seatunnel.api.source.SupportColumnProjection;
+import org.apache.seatunnel.api.table.catalog.CatalogTable;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Mark whether the Transform reads only a part of the fields of its input, so that the other fields
+ * can be pruned by a {@link SupportColumnProjection} source.
+ */
+public interface SupportProjectionPushDown {
+
+    /**
+     * Get the names of the input fields which are read by the transform.
+     *
+     * @return the field names, or empty if the transform reads all fields
+     */
+    Optional<List<String>> getRequiredInputFields();
+
+    /**
+     * Replaces the input table with the table projected by the source, which contains at least the
+     * required fields. The produced table of the transform doesn't change.
+     *
+     * @param projectedInputTable the projected input table
+     */
+    void applyInputProjection(CatalogTable projectedInputTable);
+}
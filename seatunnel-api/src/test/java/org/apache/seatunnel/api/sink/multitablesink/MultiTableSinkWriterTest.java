@@ -17,15 +17,21 @@
 
 package org.apache.seatunnel.api.sink.multitablesink;
 
+import org.apache.seatunnel.api.common.metrics.AbstractMetricsContext;
+import org.apache.seatunnel.api.common.metrics.Counter;
+import org.apache.seatunnel.api.common.metrics.MetricNames;
 import org.apache.seatunnel.api.common.metrics.MetricsContext;
 import org.apache.seatunnel.api.event.DefaultEventProcessor;
 import org.apache.seatunnel.api.event.EventListener;
 import org.apache.seatunnel.api.serialization.DefaultSerializer;
 import org.apache.seatunnel.api.sink.SinkWriter;
+import org.apache.seatunnel.api.sink.SupportColumnarBatchWrite;
 import org.apache.seatunnel.api.sink.SupportMultiTableSinkWriter;
 import org.apache.seatunnel.api.table.catalog.TablePath;
+import org.apache.seatunnel.api.table.type.ColumnarBatch;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import lombok.AllArgsConstructor;
@@ -33,6 +39,8 @@ import lombok.Data;
 
 import java.io.IOException;
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -62,11 +70,228 @@ public class MultiTableSinkWriterTest {
         }
     }
 
+    @Test
+    public void testRowsWithSamePrimaryKeyKeepOrder() throws IOException {
+        int threads = 4;
+        Map<SinkIdentifier, SinkWriter<SeaTunnelRow, ?, ?>> sinkWriters = new HashMap<>();
+        Map<SinkIdentifier, SinkWriter.Context> sinkWritersContext = new HashMap<>();
+        List<TestSinkWriter> writers = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            TestSinkWriter writer = new TestSinkWriter(Optional.of(0));
+            writers.add(writer);
+            sinkWriters.put(SinkIdentifier.of(TablePath.DEFAULT.toString(), i), writer);
+            sinkWritersContext.put(
+                    SinkIdentifier.of(TablePath.DEFAULT.toString(), i),
+                    new TestSinkWriterContext());
+        }
+        MultiTableSinkWriter multiTableSinkWriter =
+                new MultiTableSinkWriter(sinkWriters, threads, sinkWritersContext);
+
+        int keys = 100;
+        int rowsPerKey = 100;
+        for (int seq = 0; seq < rowsPerKey; seq++) {
+            for (int key = 0; key < keys; key++) {
+                SeaTunnelRow row = new SeaTunnelRow(new Object[] {key, seq});
+                row.setTableId(TablePath.DEFAULT.getFullName());
+                multiTableSinkWriter.write(row);
+            }
+        }
+        multiTableSinkWriter.prepareCommit();
+
+        Map<Object, Integer> keyWriters = new HashMap<>();
+        Map<Object, Integer> lastSeq = new HashMap<>();
+        int total = 0;
+        for (int i = 0; i < threads; i++) {
+            for (SeaTunnelRow row : writers.get(i).getRows()) {
+                Object key = row.getField(0);
+                Integer owner = keyWriters.putIfAbsent(key, i);
+                Assertions.assertTrue(owner == null || owner == i);
+                Assertions.assertEquals(lastSeq.getOrDefault(key, -1) + 1, row.getField(1));
+                lastSeq.put(key, (Integer) row.getField(1));
+                total++;
+            }
+        }
+        Assertions.assertEquals(keys * rowsPerKey, total);
+        multiTableSinkWriter.close();
+    }
+
+    @Test
+    public void testRowsWithoutPrimaryKeyGoToLeastLoadedWriter() throws Exception {
+        int threads = 2;
+        Map<SinkIdentifier, SinkWriter<SeaTunnelRow, ?, ?>> sinkWriters = new HashMap<>();
+        Map<SinkIdentifier, SinkWriter.Context> sinkWritersContext = new HashMap<>();
+        MetricsContext metricsContext = new AbstractMetricsContext() {};
+        TestSinkWriter blocked = new TestSinkWriter(Optional.empty());
+        TestSinkWriter idle = new TestSinkWriter(Optional.empty());
+        for (int i = 0; i < threads; i++) {
+            sinkWriters.put(
+                    SinkIdentifier.of(TablePath.DEFAULT.toString(), i), i == 0 ? blocked : idle);
+            sinkWritersContext.put(
+                    SinkIdentifier.of(TablePath.DEFAULT.toString(), i),
+                    new TestSinkWriterContext(metricsContext));
+        }
+        MultiTableSinkWriter multiTableSinkWriter =
+                new MultiTableSinkWriter(sinkWriters, threads, sinkWritersContext);
+
+        // the first sub-writer hangs on its first row, so it may only be handed over another batch
+        // once it has fewer queued rows than the second one
+        int rows = 1000;
+        synchronized (blocked) {
+            for (int i = 0; i < rows; i++) {
+                SeaTunnelRow row = new SeaTunnelRow(new Object[] {i});
+                row.setTableId(TablePath.DEFAULT.getFullName());
+                multiTableSinkWriter.write(row);
+            }
+            Counter blockedDepth =
+                    metricsContext.counter(MetricNames.MULTI_TABLE_SINK_QUEUE_DEPTH + "-0");
+            Assertions.assertTrue(blockedDepth.getCount() > 0);
+        }
+        multiTableSinkWriter.prepareCommit();
+
+        Assertions.assertTrue(blocked.getRows().size() <= idle.getRows().size() + 64);
+        Assertions.assertEquals(rows, blocked.getRows().size() + idle.getRows().size());
+        Assertions.assertEquals(
+                0,
+                metricsContext.counter(MetricNames.MULTI_TABLE_SINK_QUEUE_DEPTH + "-0").getCount());
+        multiTableSinkWriter.close();
+    }
+
+    @Test
+    public void testColumnarBatchIsHandedToSubWriter() throws Exception {
+        Map<SinkIdentifier, SinkWriter<SeaTunnelRow, ?, ?>> sinkWriters = new HashMap<>();
+        Map<SinkIdentifier, SinkWriter.Context> sinkWritersContext = new HashMap<>();
+        TestColumnarSinkWriter writer = new TestColumnarSinkWriter(Optional.empty());
+        sinkWriters.put(SinkIdentifier.of(TablePath.DEFAULT.toString(), 0), writer);
+        sinkWritersContext.put(
+                SinkIdentifier.of(TablePath.DEFAULT.toString(), 0), new TestSinkWriterContext());
+        MultiTableSinkWriter multiTableSinkWriter =
+                new MultiTableSinkWriter(sinkWriters, 1, sinkWritersContext);
+
+        SeaTunnelRow row = new SeaTunnelRow(new Object[] {0});
+        row.setTableId(TablePath.DEFAULT.getFullName());
+        multiTableSinkWriter.write(row);
+        ColumnarBatch batch = new TestColumnarBatch(3);
+        multiTableSinkWriter.write(batch);
+        multiTableSinkWriter.prepareCommit();
+
+        // the queued row is written before the batch, the batch is not converted to rows
+        Assertions.assertEquals(Collections.singletonList(row), writer.getRows());
+        Assertions.assertEquals(Collections.singletonList(batch), writer.getBatches());
+        multiTableSinkWriter.close();
+    }
+
+    @Test
+    public void testColumnarBatchWithPrimaryKeyIsSplitIntoRows() throws Exception {
+        int threads = 2;
+        Map<SinkIdentifier, SinkWriter<SeaTunnelRow, ?, ?>> sinkWriters = new HashMap<>();
+        Map<SinkIdentifier, SinkWriter.Context> sinkWritersContext = new HashMap<>();
+        List<TestColumnarSinkWriter> writers = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            TestColumnarSinkWriter writer = new TestColumnarSinkWriter(Optional.of(0));
+            writers.add(writer);
+            sinkWriters.put(SinkIdentifier.of(TablePath.DEFAULT.toString(), i), writer);
+            sinkWritersContext.put(
+                    SinkIdentifier.of(TablePath.DEFAULT.toString(), i),
+                    new TestSinkWriterContext());
+        }
+        MultiTableSinkWriter multiTableSinkWriter =
+                new MultiTableSinkWriter(sinkWriters, threads, sinkWritersContext);
+
+        multiTableSinkWriter.write(new TestColumnarBatch(10));
+        multiTableSinkWriter.prepareCommit();
+
+        int rows = 0;
+        for (TestColumnarSinkWriter writer : writers) {
+            Assertions.assertTrue(writer.getBatches().isEmpty());
+            rows += writer.getRows().size();
+        }
+        Assertions.assertEquals(10, rows);
+        multiTableSinkWriter.close();
+    }
+
+    static class TestColumnarSinkWriter extends TestSinkWriter
+            implements SupportColumnarBatchWrite {
+
+        private final List<ColumnarBatch> batches = Collections.synchronizedList(new ArrayList<>());
+
+        TestColumnarSinkWriter(Optional<Integer> primaryKey) {
+            super(primaryKey);
+        }
+
+        List<ColumnarBatch> getBatches() {
+            return batches;
+        }
+
+        @Override
+        public void write(ColumnarBatch batch) {
+            batches.add(batch);
+        }
+    }
+
+    static class TestColumnarBatch implements ColumnarBatch {
+
+        private final int rowCount;
+
+        TestColumnarBatch(int rowCount) {
+            this.rowCount = rowCount;
+        }
+
+        @Override
+        public String getTableId() {
+            return TablePath.DEFAULT.getFullName();
+        }
+
+        @Override
+        public int getRowCount() {
+            return rowCount;
+        }
+
+        @Override
+        public int getColumnCount() {
+            return 1;
+        }
+
+        @Override
+        public boolean isNullAt(int column, int row) {
+            return false;
+        }
+
+        @Override
+        public Object getValue(int column, int row) {
+            return row;
+        }
+    }
+
     static class TestSinkWriter
             implements SinkWriter<SeaTunnelRow, TestSinkState, Object>,
                     SupportMultiTableSinkWriter {
+
+        private final Optional<Integer> primaryKey;
+        private final List<SeaTunnelRow> rows = Collections.synchronizedList(new ArrayList<>());
+
+        TestSinkWriter() {
+            this(Optional.empty());
+        }
+
+        TestSinkWriter(Optional<Integer> primaryKey) {
+            this.primaryKey = primaryKey;
+        }
+
+        List<SeaTunnelRow> getRows() {
+            return rows;
+        }
+
+        @Override
+        public Optional<Integer> primaryKey() {
+            return primaryKey;
+        }
+
         @Override
-        public void write(SeaTunnelRow seaTunnelRow) {}
+        public void write(SeaTunnelRow seaTunnelRow) {
+            synchronized (this) {
+                rows.add(seaTunnelRow);
+            }
+        }
 
         @Override
         public Optional<TestSinkState> prepareCommit() throws IOException {
@@ -87,6 +312,16 @@ public class MultiTableSinkWriterTest {
 
     static class TestSinkWriterContext implements SinkWriter.Context {
 
+        private final MetricsContext metricsContext;
+
+        TestSinkWriterContext() {
+            this(null);
+        }
+
+        TestSinkWriterContext(MetricsContext metricsContext) {
+            this.metricsContext = metricsContext;
+        }
+
         @Override
         public int getIndexOfSubtask() {
             return 0;
@@ -94,7 +329,7 @@ public class MultiTableSinkWriterTest {
 
         @Override
         public MetricsContext getMetricsContext() {
-            return null;
+            return metricsContext;
         }
 
         @Override
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.api.sink.multitablesink;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+public class RowRingBufferTest {
+
+    @Test
+    public void testRowOfferedWhileConsumerIsBusyIsNotHeldBack() throws InterruptedException {
+        RowRingBuffer buffer = new RowRingBuffer(16, 8);
+        SeaTunnelRow[] batch = new SeaTunnelRow[16];
+        SeaTunnelRow first = new SeaTunnelRow(new Object[] {1});
+        SeaTunnelRow second = new SeaTunnelRow(new Object[] {2});
+
+        Assertions.assertTrue(buffer.offer(first));
+        Assertions.assertEquals(1, buffer.peek(batch, 0, TimeUnit.MILLISECONDS));
+        // the consumer is still writing the first row, the second one is not published
+        Assertions.assertTrue(buffer.offer(second));
+        Assertions.assertTrue(buffer.hasPending());
+        buffer.release(1);
+
+        long start = System.nanoTime();
+        Assertions.assertEquals(1, buffer.peek(batch, 10, TimeUnit.SECONDS));
+        Assertions.assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+        Assertions.assertSame(second, batch[0]);
+        buffer.release(1);
+        Assertions.assertTrue(buffer.isEmpty());
+    }
+
+    @Test
+    public void testWaitingConsumerIsWokenUp() throws Exception {
+        RowRingBuffer buffer = new RowRingBuffer(16, 8);
+        SeaTunnelRow[] batch = new SeaTunnelRow[16];
+        Assertions.assertTrue(buffer.offer(new SeaTunnelRow(new Object[] {1})));
+        Assertions.assertEquals(1, buffer.peek(batch, 0, TimeUnit.MILLISECONDS));
+
+        Thread consumer =
+                new Thread(
+                        () -> {
+                            try {
+                                buffer.release(1);
+                                batch[0] = null;
+                                buffer.peek(batch, 10, TimeUnit.SECONDS);
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            }
+                        });
+        consumer.start();
+        SeaTunnelRow second = new SeaTunnelRow(new Object[] {2});
+        Assertions.assertTrue(buffer.offer(second));
+        consumer.join(TimeUnit.SECONDS.toMillis(5));
+        Assertions.assertFalse(consumer.isAlive());
+        Assertions.assertSame(second, batch[0]);
+    }
+}
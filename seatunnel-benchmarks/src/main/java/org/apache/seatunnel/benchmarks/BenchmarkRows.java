@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.benchmarks;
+
+import org.apache.seatunnel.api.table.catalog.CatalogTable;
+import org.apache.seatunnel.api.table.catalog.CatalogTableUtil;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.LocalTimeType;
+import org.apache.seatunnel.api.table.type.RowKind;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/** The rows all benchmarks work on, shaped like the rows of a typical orders table. */
+public final class BenchmarkRows {
+
+    public static final String TABLE_ID = "benchmark.orders";
+
+    public static final SeaTunnelRowType ROW_TYPE =
+            new SeaTunnelRowType(
+                    new String[] {"id", "name", "flag", "amount", "price", "score", "day", "ts"},
+                    new SeaTunnelDataType[] {
+                        BasicType.LONG_TYPE,
+                        BasicType.STRING_TYPE,
+                        BasicType.BOOLEAN_TYPE,
+                        BasicType.INT_TYPE,
+                        new DecimalType(20, 4),
+                        BasicType.DOUBLE_TYPE,
+                        LocalTimeType.LOCAL_DATE_TYPE,
+                        LocalTimeType.LOCAL_DATE_TIME_TYPE
+                    });
+
+    private BenchmarkRows() {}
+
+    public static CatalogTable catalogTable() {
+        return CatalogTableUtil.getCatalogTable(TABLE_ID, ROW_TYPE);
+    }
+
+    public static SeaTunnelRow createRow(int index) {
+        SeaTunnelRow row =
+                new SeaTunnelRow(
+                        new Object[] {
+                            (long) index,
+                            "customer_name_" + index,
+                            index % 2 == 0,
+                            index % 1000,
+                            new BigDecimal(index % 10_000 + ".1234"),
+                            index * 0.25d,
+                            LocalDate.of(2024, 1, 1).plusDays(index % 365),
+                            LocalDateTime.of(2024, 1, 1, 0, 0).plusSeconds(index)
+                        });
+        row.setTableId(TABLE_ID);
+        row.setRowKind(RowKind.INSERT);
+        return row;
+    }
+
+    public static SeaTunnelRow[] createRows(int count) {
+        SeaTunnelRow[] rows = new SeaTunnelRow[count];
+        for (int i = 0; i < count; i++) {
+            rows[i] = createRow(i);
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks with the allocation profiler and writes the results as JSON, so the results
+ * of two releases can be compared with any JMH result viewer.
+ *
+ * <pre>
+ * java -jar seatunnel-benchmarks/target/benchmarks.jar [include regex...]
+ * </pre>
+ *
+ * <p>The result file defaults to {@code jmh-result.json} and can be changed by the {@code
+ * seatunnel.benchmark.result} system property. Use {@code org.openjdk.jmh.Main} as main class for
+ * the full JMH command line instead.
+ */
+public class BenchmarkRunner {
+
+    public static final String RESULT_FILE_PROPERTY = "seatunnel.benchmark.result";
+
+    public static void main(String[] args) throws RunnerException {
+        ChainedOptionsBuilder options =
+                new OptionsBuilder()
+                        .addProfiler(GCProfiler.class)
+                        .resultFormat(ResultFormatType.JSON)
+                        .result(System.getProperty(RESULT_FILE_PROPERTY, "jmh-result.json"));
+        if (args.length == 0) {
+            options.include(BenchmarkRunner.class.getPackage().getName() + ".*");
+        }
+        for (String include : args) {
+            options.include(include);
+        }
+        new Runner(options.build()).run();
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.benchmarks.api;
+
+import org.apache.seatunnel.api.table.converter.BasicDataConverter;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.benchmarks.BenchmarkRows;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/** Converts the values of one row from the types an external system hands out. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class BasicDataConverterBenchmark {
+
+    private static final BasicDataConverter<Object> CONVERTER = () -> "benchmark";
+
+    /**
+     * native: the values already have the SeaTunnel types, jdbc: the types of a JDBC driver, text:
+     * all values are strings.
+     */
+    @Param({"native", "jdbc", "text"})
+    public String source;
+
+    private SeaTunnelDataType<?>[] fieldTypes;
+    private Object[] values;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        fieldTypes = BenchmarkRows.ROW_TYPE.getFieldTypes();
+        LocalDateTime ts = LocalDateTime.of(2024, 1, 1, 12, 30, 15);
+        switch (source) {
+            case "native":
+                values = BenchmarkRows.createRow(42).getFields();
+                break;
+            case "jdbc":
+                values =
+                        new Object[] {
+                            42,
+                            "customer_name_42",
+                            1,
+                            42L,
+                            new BigDecimal("42.1234"),
+                            10.5f,
+                            LocalDate.of(2024, 1, 1),
+                            Timestamp.valueOf(ts)
+                        };
+                break;
+            case "text":
+                values =
+                        new Object[] {
+                            "42",
+                            "customer_name_42",
+                            "true",
+                            "42",
+                            "42.1234",
+                            "10.5",
+                            "2024-01-01",
+                            ts.toString()
+                        };
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown source " + source);
+        }
+    }
+
+    @Benchmark
+    public void convertRow(Blackhole blackhole) {
+        for (int i = 0; i < values.length; i++) {
+            blackhole.consume(CONVERTER.convert(fieldTypes[i], values[i]));
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.benchmarks.api;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.benchmarks.BenchmarkRows;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link SeaTunnelRow#getBytesSize}, which is called for every row by the metrics. The
+ * size is cached in the row, so every call works on a fresh row over the same fields.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class SeaTunnelRowBenchmark {
+
+    private static final int ROW_COUNT = 1024;
+
+    private Object[][] fields;
+    private int index;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        fields = new Object[ROW_COUNT][];
+        SeaTunnelRow[] rows = BenchmarkRows.createRows(ROW_COUNT);
+        for (int i = 0; i < ROW_COUNT; i++) {
+            fields[i] = rows[i].getFields();
+        }
+    }
+
+    @Benchmark
+    public int bytesSizeWithRowType() {
+        return new SeaTunnelRow(fields[next()]).getBytesSize(BenchmarkRows.ROW_TYPE);
+    }
+
+    @Benchmark
+    public int bytesSizeWithoutRowType() {
+        return new SeaTunnelRow(fields[next()]).getBytesSize();
+    }
+
+    private int next() {
+        index = (index + 1) & (ROW_COUNT - 1);
+        return index;
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.benchmarks.connector.jdbc;
+
+import org.apache.seatunnel.api.table.type.RowKind;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.benchmarks.BenchmarkRows;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.BufferReducedBatchStatementExecutor;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.JdbcBatchStatementExecutor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Buffers and reduces a batch of changelog rows by key and flushes it. The statements are in memory
+ * stand-ins which only count the rows, so only the executor itself is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class BufferReducedBatchStatementExecutorBenchmark {
+
+    private static final int BATCH_SIZE = 1000;
+
+    /** Number of distinct keys in a batch, fewer keys mean more rows reduced in the buffer. */
+    @Param({"1000", "100"})
+    public int distinctKeys;
+
+    private SeaTunnelRow[] rows;
+    private CountingStatementExecutor upsertExecutor;
+    private CountingStatementExecutor deleteExecutor;
+    private BufferReducedBatchStatementExecutor executor;
+
+    @Setup(Level.Trial)
+    public void setup() throws SQLException {
+        rows = new SeaTunnelRow[BATCH_SIZE];
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            rows[i] = BenchmarkRows.createRow(i % distinctKeys);
+            rows[i].setRowKind(i % 10 == 9 ? RowKind.DELETE : RowKind.UPDATE_AFTER);
+        }
+        upsertExecutor = new CountingStatementExecutor();
+        deleteExecutor = new CountingStatementExecutor();
+        executor =
+                new BufferReducedBatchStatementExecutor(
+                        upsertExecutor,
+                        deleteExecutor,
+                        row -> new SeaTunnelRow(new Object[] {row.getField(0)}),
+                        row -> row);
+        executor.prepareStatements(null);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public long addAndExecuteBatch() throws SQLException {
+        for (SeaTunnelRow row : rows) {
+            executor.addToBatch(row);
+        }
+        executor.executeBatch();
+        return upsertExecutor.rows + deleteExecutor.rows;
+    }
+
+    /** Counts the rows of a statement instead of sending them to a database. */
+    private static class CountingStatementExecutor
+            implements JdbcBatchStatementExecutor<SeaTunnelRow> {
+        private long rows;
+
+        @Override
+        public void prepareStatements(Connection connection) {}
+
+        @Override
+        public void addToBatch(SeaTunnelRow record) {
+            rows++;
+        }
+
+        @Override
+        public void executeBatch() {}
+
+        @Override
+        public void closeStatements() {}
+    }
+}
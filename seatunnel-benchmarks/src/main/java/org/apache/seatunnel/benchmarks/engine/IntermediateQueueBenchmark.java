@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.benchmarks.engine;
+
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.transform.Collector;
+import org.apache.seatunnel.benchmarks.BenchmarkRows;
+import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
+import org.apache.seatunnel.engine.server.task.flow.IntermediateQueueFlowLifeCycle;
+import org.apache.seatunnel.engine.server.task.group.TaskGroupWithIntermediateBlockingQueue;
+import org.apache.seatunnel.engine.server.task.group.TaskGroupWithIntermediateDisruptor;
+import org.apache.seatunnel.engine.server.task.group.queue.AbstractIntermediateQueue;
+import org.apache.seatunnel.engine.server.task.group.queue.IntermediateBlockingQueue;
+import org.apache.seatunnel.engine.server.task.group.queue.IntermediateDisruptor;
+import org.apache.seatunnel.engine.server.task.group.queue.disruptor.RecordEventFactory;
+
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.lmax.disruptor.YieldingWaitStrategy;
+import com.lmax.disruptor.dsl.Disruptor;
+import com.lmax.disruptor.dsl.ProducerType;
+import com.lmax.disruptor.util.DaemonThreadFactory;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hands records from one task to the next through the intermediate queue of a task group, with the
+ * producer on the benchmark thread and the consumer on its own thread.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class IntermediateQueueBenchmark {
+
+    private static final int BATCH_SIZE = 10_000;
+
+    @Param({"blockingQueue", "disruptor"})
+    public String queueType;
+
+    private IntermediateQueueFlowLifeCycle<?> flowLifeCycle;
+    private Record<?>[] records;
+    private CountingCollector collector;
+    private Thread consumer;
+    private volatile boolean running;
+    private long expected;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        AbstractIntermediateQueue<?> queue;
+        if ("blockingQueue".equals(queueType)) {
+            queue =
+                    new IntermediateBlockingQueue(
+                            new ArrayBlockingQueue<>(
+                                    TaskGroupWithIntermediateBlockingQueue.QUEUE_SIZE
+                                            / AbstractIntermediateQueue.BATCH_SIZE));
+        } else {
+            queue =
+                    new IntermediateDisruptor(
+                            new Disruptor<>(
+                                    new RecordEventFactory(),
+                                    TaskGroupWithIntermediateDisruptor.RING_BUFFER_SIZE,
+                                    DaemonThreadFactory.INSTANCE,
+                                    ProducerType.SINGLE,
+                                    new YieldingWaitStrategy()));
+        }
+        // records never carry barriers here, so the task is only asked for its context
+        SeaTunnelTask task = Mockito.mock(SeaTunnelTask.class);
+        flowLifeCycle =
+                new IntermediateQueueFlowLifeCycle<>(task, new CompletableFuture<>(), queue);
+        records = new Record<?>[BATCH_SIZE];
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            records[i] = new Record<>(BenchmarkRows.createRow(i));
+        }
+        collector = new CountingCollector();
+        running = true;
+        if (queue instanceof IntermediateDisruptor) {
+            // starts the handler thread of the disruptor, which consumes the records from now on
+            flowLifeCycle.collect(collector);
+            return;
+        }
+        consumer =
+                new Thread(
+                        () -> {
+                            try {
+                                while (running) {
+                                    flowLifeCycle.collect(collector);
+                                }
+                            } catch (Exception e) {
+                                throw new RuntimeException(e);
+                            }
+                        },
+                        "intermediate-queue-consumer");
+        consumer.start();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException, IOException {
+        running = false;
+        if (consumer != null) {
+            consumer.join();
+        }
+        flowLifeCycle.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public long handOver() {
+        for (Record<?> record : records) {
+            flowLifeCycle.received(record);
+        }
+        // publishes the last partial batch, as the task does at the end of a round
+        flowLifeCycle.flush();
+        expected += BATCH_SIZE;
+        while (collector.count < expected) {
+            Thread.yield();
+        }
+        return collector.count;
+    }
+
+    private static class CountingCollector implements Collector<Record<?>> {
+        private volatile long count;
+
+        @Override
+        public void collect(Record<?> record) {
+            // only the single consumer thread writes the count
+            count = count + 1;
+        }
+
+        @Override
+        public void close() {}
+    }
+}
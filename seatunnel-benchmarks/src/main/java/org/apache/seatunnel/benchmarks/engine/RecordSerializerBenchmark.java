@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.benchmarks.engine;
+
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.benchmarks.BenchmarkRows;
+import org.apache.seatunnel.engine.server.serializable.RecordSerializer;
+import org.apache.seatunnel.engine.server.serializable.SeaTunnelRowCodecRegistry;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.hazelcast.config.SerializationConfig;
+import com.hazelcast.config.SerializerConfig;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/** Serializes records the way they are sent between members, in both row formats. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class RecordSerializerBenchmark {
+
+    private static final int ROW_COUNT = 1024;
+
+    /** generic: rows without a registered schema, schema: rows of a registered table. */
+    @Param({"generic", "schema"})
+    public String format;
+
+    private SerializationService serializationService;
+    private Record<?>[] records;
+    private Data[] data;
+    private int index;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        SerializationConfig serializationConfig = new SerializationConfig();
+        serializationConfig.addSerializerConfig(
+                new SerializerConfig()
+                        .setTypeClass(Record.class)
+                        .setImplementation(new RecordSerializer()));
+        serializationService =
+                new DefaultSerializationServiceBuilder().setConfig(serializationConfig).build();
+        if ("schema".equals(format)) {
+            SeaTunnelRowCodecRegistry.getInstance()
+                    .register(BenchmarkRows.TABLE_ID, BenchmarkRows.ROW_TYPE);
+        }
+        SeaTunnelRow[] rows = BenchmarkRows.createRows(ROW_COUNT);
+        records = new Record<?>[ROW_COUNT];
+        data = new Data[ROW_COUNT];
+        for (int i = 0; i < ROW_COUNT; i++) {
+            records[i] = new Record<>(rows[i]);
+            data[i] = serializationService.toData(records[i]);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if ("schema".equals(format)) {
+            SeaTunnelRowCodecRegistry.getInstance()
+                    .release(BenchmarkRows.TABLE_ID, BenchmarkRows.ROW_TYPE);
+        }
+    }
+
+    @Benchmark
+    public Data serialize() {
+        return serializationService.toData(records[next()]);
+    }
+
+    @Benchmark
+    public Record<?> deserialize() {
+        return serializationService.toObject(data[next()]);
+    }
+
+    private int next() {
+        index = (index + 1) & (ROW_COUNT - 1);
+        return index;
+    }
+}
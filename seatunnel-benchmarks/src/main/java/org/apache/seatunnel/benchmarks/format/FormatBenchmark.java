@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.benchmarks.format;
+
+import org.apache.seatunnel.api.serialization.DeserializationSchema;
+import org.apache.seatunnel.api.serialization.SerializationSchema;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.benchmarks.BenchmarkRows;
+import org.apache.seatunnel.format.avro.AvroDeserializationSchema;
+import org.apache.seatunnel.format.avro.AvroSerializationSchema;
+import org.apache.seatunnel.format.json.JsonDeserializationSchema;
+import org.apache.seatunnel.format.json.JsonSerializationSchema;
+import org.apache.seatunnel.format.text.TextDeserializationSchema;
+import org.apache.seatunnel.format.text.TextSerializationSchema;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/** Serializes and deserializes rows with the formats the connectors share. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class FormatBenchmark {
+
+    private static final int ROW_COUNT = 1024;
+
+    @Param({"json", "json_streaming", "text", "avro"})
+    public String format;
+
+    private SerializationSchema serializationSchema;
+    private DeserializationSchema<SeaTunnelRow> deserializationSchema;
+    private SeaTunnelRow[] rows;
+    private byte[][] messages;
+    private int index;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        switch (format) {
+            case "json":
+                serializationSchema = new JsonSerializationSchema(BenchmarkRows.ROW_TYPE);
+                deserializationSchema =
+                        new JsonDeserializationSchema(BenchmarkRows.catalogTable(), false, false);
+                break;
+            case "json_streaming":
+                serializationSchema = new JsonSerializationSchema(BenchmarkRows.ROW_TYPE);
+                deserializationSchema =
+                        new JsonDeserializationSchema(
+                                BenchmarkRows.catalogTable(), false, false, true);
+                break;
+            case "text":
+                serializationSchema =
+                        TextSerializationSchema.builder()
+                                .seaTunnelRowType(BenchmarkRows.ROW_TYPE)
+                                .delimiter(",")
+                                .build();
+                deserializationSchema =
+                        TextDeserializationSchema.builder()
+                                .seaTunnelRowType(BenchmarkRows.ROW_TYPE)
+                                .delimiter(",")
+                                .build();
+                break;
+            case "avro":
+                serializationSchema = new AvroSerializationSchema(BenchmarkRows.ROW_TYPE);
+                deserializationSchema = new AvroDeserializationSchema(BenchmarkRows.catalogTable());
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown format " + format);
+        }
+        rows = BenchmarkRows.createRows(ROW_COUNT);
+        messages = new byte[ROW_COUNT][];
+        for (int i = 0; i < ROW_COUNT; i++) {
+            messages[i] = serializationSchema.serialize(rows[i]);
+        }
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return serializationSchema.serialize(rows[next()]);
+    }
+
+    @Benchmark
+    public SeaTunnelRow deserialize() throws IOException {
+        return deserializationSchema.deserialize(messages[next()]);
+    }
+
+    private int next() {
+        index = (index + 1) & (ROW_COUNT - 1);
+        return index;
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.benchmarks.transform;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.benchmarks.BenchmarkRows;
+import org.apache.seatunnel.transform.sql.SQLEngine;
+import org.apache.seatunnel.transform.sql.SQLEngineFactory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/** Evaluates Zeta SQL queries of the sql transform on single rows. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ZetaSQLBenchmark {
+
+    private static final int ROW_COUNT = 1024;
+
+    @Param({
+        "select * from orders",
+        "select id, name, amount * 2 as double_amount, price + 1 as price from orders",
+        "select id, upper(name) as name, score from orders where amount > 100 and score < 1000",
+        "select id, concat(name, '_', amount) as label,"
+                + " case when score > 100 then 'high' else 'low' end as level from orders"
+    })
+    public String query;
+
+    private SQLEngine sqlEngine;
+    private SeaTunnelRow[] rows;
+    private int index;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        sqlEngine = SQLEngineFactory.getSQLEngine(SQLEngineFactory.EngineType.ZETA);
+        sqlEngine.init("orders", "orders", BenchmarkRows.ROW_TYPE, query);
+        sqlEngine.typeMapping(new ArrayList<>());
+        rows = BenchmarkRows.createRows(ROW_COUNT);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sqlEngine.close();
+    }
+
+    @Benchmark
+    public SeaTunnelRow transform() {
+        index = (index + 1) & (ROW_COUNT - 1);
+        return sqlEngine.transformBySQL(rows[index]);
+    }
+}
@@ -44,6 +44,22 @@ public class SourceOptions {
                     .withDescription(
                             "The maximum fetch size for per poll when read table snapshot.");
 
+    public static final Option<Integer> SNAPSHOT_SPLIT_PARALLELISM =
+            Options.key("snapshot.split.parallelism")
+                    .intType()
+                    .defaultValue(0)
+                    .withDescription(
+                            "The number of background threads the enumerator uses to split tables into snapshot splits ahead of the readers. "
+                                    + "0 means tables are split one by one when readers request splits.");
+
+    public static final Option<Integer> SNAPSHOT_SPLIT_LOOK_AHEAD =
+            Options.key("snapshot.split.look-ahead")
+                    .intType()
+                    .defaultValue(4)
+                    .withDescription(
+                            "The maximum number of tables which are being split or have snapshot splits waiting to be assigned, "
+                                    + "when splitting tables in background.");
+
     public static final Option<Long> STARTUP_TIMESTAMP =
             Options.key("startup.timestamp")
                     .longType()
@@ -112,6 +128,7 @@ public class SourceOptions {
         return OptionRule.builder()
                 .optional(FORMAT)
                 .optional(SNAPSHOT_SPLIT_SIZE, SNAPSHOT_FETCH_SIZE)
+                .optional(SNAPSHOT_SPLIT_PARALLELISM, SNAPSHOT_SPLIT_LOOK_AHEAD)
                 .optional(INCREMENTAL_PARALLELISM)
                 .optional(DEBEZIUM_PROPERTIES);
     }
@@ -40,6 +40,7 @@ import org.apache.seatunnel.connectors.cdc.base.source.enumerator.HybridSplitAss
 import org.apache.seatunnel.connectors.cdc.base.source.enumerator.IncrementalSourceEnumerator;
 import org.apache.seatunnel.connectors.cdc.base.source.enumerator.IncrementalSplitAssigner;
 import org.apache.seatunnel.connectors.cdc.base.source.enumerator.SplitAssigner;
+import org.apache.seatunnel.connectors.cdc.base.source.enumerator.splitter.ChunkSplitterState;
 import org.apache.seatunnel.connectors.cdc.base.source.enumerator.state.HybridPendingSplitsState;
 import org.apache.seatunnel.connectors.cdc.base.source.enumerator.state.IncrementalPhaseState;
 import org.apache.seatunnel.connectors.cdc.base.source.enumerator.state.PendingSplitsState;
@@ -63,6 +64,7 @@ import com.google.common.collect.Sets;
 import io.debezium.relational.TableId;
 import lombok.NoArgsConstructor;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -72,6 +74,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -88,6 +91,8 @@ public abstract class IncrementalSource<T, C extends SourceConfig>
     protected StartupConfig startupConfig;
 
     protected int incrementalParallelism;
+    protected int snapshotSplitParallelism;
+    protected int snapshotSplitLookAhead;
     protected StopConfig stopConfig;
     protected List<CatalogTable> catalogTables;
 
@@ -107,6 +112,9 @@ public abstract class IncrementalSource<T, C extends SourceConfig>
         this.stopConfig = getStopConfig(readonlyConfig);
         this.stopMode = stopConfig.getStopMode();
         this.incrementalParallelism = readonlyConfig.get(SourceOptions.INCREMENTAL_PARALLELISM);
+        this.snapshotSplitParallelism =
+                readonlyConfig.get(SourceOptions.SNAPSHOT_SPLIT_PARALLELISM);
+        this.snapshotSplitLookAhead = readonlyConfig.get(SourceOptions.SNAPSHOT_SPLIT_LOOK_AHEAD);
         this.configFactory = createSourceConfigFactory(readonlyConfig);
         this.dataSourceDialect = createDataSourceDialect(readonlyConfig);
         this.deserializationSchema = createDebeziumDeserializationSchema(readonlyConfig);
@@ -217,6 +225,8 @@ public abstract class IncrementalSource<T, C extends SourceConfig>
                                 incrementalParallelism,
                                 remainingTables,
                                 isTableIdCaseSensitive,
+                                snapshotSplitParallelism,
+                                snapshotSplitLookAhead,
                                 dataSourceDialect,
                                 offsetFactory);
             } catch (Exception e) {
@@ -257,6 +267,8 @@ public abstract class IncrementalSource<T, C extends SourceConfig>
                             enumeratorContext.currentParallelism(),
                             incrementalParallelism,
                             (HybridPendingSplitsState) checkpointState,
+                            snapshotSplitParallelism,
+                            snapshotSplitLookAhead,
                             dataSourceDialect,
                             offsetFactory);
         } else if (checkpointState instanceof IncrementalPhaseState) {
@@ -276,10 +288,17 @@ public abstract class IncrementalSource<T, C extends SourceConfig>
     private HybridPendingSplitsState restore(
             Set<TableId> capturedTables, HybridPendingSplitsState checkpointState) {
         SnapshotPhaseState checkpointSnapshotState = checkpointState.getSnapshotPhaseState();
+        List<ChunkSplitterState> checkpointSplittingTables =
+                checkpointSnapshotState.getSplittingTables() == null
+                        ? new ArrayList<>()
+                        : checkpointSnapshotState.getSplittingTables();
         Set<TableId> checkpointCapturedTables =
-                Stream.concat(
+                Stream.of(
                                 checkpointSnapshotState.getAlreadyProcessedTables().stream(),
-                                checkpointSnapshotState.getRemainingTables().stream())
+                                checkpointSnapshotState.getRemainingTables().stream(),
+                                checkpointSplittingTables.stream()
+                                        .map(ChunkSplitterState::getTableId))
+                        .flatMap(Function.identity())
                         .collect(Collectors.toSet());
         Set<TableId> newTables = Sets.difference(capturedTables, checkpointCapturedTables);
         Set<TableId> deletedTables = Sets.difference(checkpointCapturedTables, capturedTables);
@@ -287,6 +306,7 @@ public abstract class IncrementalSource<T, C extends SourceConfig>
         checkpointSnapshotState.getRemainingTables().addAll(newTables);
         checkpointSnapshotState.getRemainingTables().removeAll(deletedTables);
         checkpointSnapshotState.getAlreadyProcessedTables().removeAll(deletedTables);
+        checkpointSplittingTables.removeIf(state -> deletedTables.contains(state.getTableId()));
         Set<String> deletedSplitIds = new HashSet<>();
         Iterator<SnapshotSplit> splitIterator =
                 checkpointSnapshotState.getRemainingSplits().iterator();
@@ -311,7 +331,8 @@ public abstract class IncrementalSource<T, C extends SourceConfig>
                 });
 
         if ((!checkpointSnapshotState.getRemainingTables().isEmpty()
-                        || !checkpointSnapshotState.getRemainingSplits().isEmpty())
+                        || !checkpointSnapshotState.getRemainingSplits().isEmpty()
+                        || !checkpointSplittingTables.isEmpty())
                 && checkpointSnapshotState.isAssignerCompleted()) {
             // If there are still unprocessed tables or splits, and the assigner has completed, the
             // assigner status needs to be reset
@@ -324,7 +345,8 @@ public abstract class IncrementalSource<T, C extends SourceConfig>
                             false,
                             checkpointSnapshotState.getRemainingTables(),
                             checkpointSnapshotState.isTableIdCaseSensitive(),
-                            checkpointSnapshotState.isRemainingTablesCheckpointed()),
+                            checkpointSnapshotState.isRemainingTablesCheckpointed(),
+                            checkpointSplittingTables),
                     checkpointState.getIncrementalPhaseState());
         }
         return checkpointState;
@@ -37,6 +37,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 /** Assigner for Hybrid split which contains snapshot splits and incremental splits. */
@@ -54,6 +55,8 @@ public class HybridSplitAssigner<C extends SourceConfig> implements SplitAssigne
             int incrementalParallelism,
             List<TableId> remainingTables,
             boolean isTableIdCaseSensitive,
+            int splitParallelism,
+            int splitLookAhead,
             DataSourceDialect<C> dialect,
             OffsetFactory offsetFactory) {
         this(
@@ -62,6 +65,8 @@ public class HybridSplitAssigner<C extends SourceConfig> implements SplitAssigne
                         currentParallelism,
                         remainingTables,
                         isTableIdCaseSensitive,
+                        splitParallelism,
+                        splitLookAhead,
                         dialect),
                 new IncrementalSplitAssigner<>(context, incrementalParallelism, offsetFactory));
     }
@@ -71,11 +76,18 @@ public class HybridSplitAssigner<C extends SourceConfig> implements SplitAssigne
             int currentParallelism,
             int incrementalParallelism,
             HybridPendingSplitsState checkpoint,
+            int splitParallelism,
+            int splitLookAhead,
             DataSourceDialect<C> dialect,
             OffsetFactory offsetFactory) {
         this(
                 new SnapshotSplitAssigner<>(
-                        context, currentParallelism, checkpoint.getSnapshotPhaseState(), dialect),
+                        context,
+                        currentParallelism,
+                        checkpoint.getSnapshotPhaseState(),
+                        splitParallelism,
+                        splitLookAhead,
+                        dialect),
                 new IncrementalSplitAssigner<>(context, incrementalParallelism, offsetFactory));
     }
 
@@ -152,6 +164,22 @@ public class HybridSplitAssigner<C extends SourceConfig> implements SplitAssigne
         incrementalSplitAssigner.notifyCheckpointComplete(checkpointId);
     }
 
+    @Override
+    public void setSplitsAvailableListener(Runnable splitsAvailableListener) {
+        snapshotSplitAssigner.setSplitsAvailableListener(splitsAvailableListener);
+    }
+
+    @Override
+    public void setSplitFailureListener(Consumer<Throwable> splitFailureListener) {
+        snapshotSplitAssigner.setSplitFailureListener(splitFailureListener);
+    }
+
+    @Override
+    public void close() {
+        snapshotSplitAssigner.close();
+        incrementalSplitAssigner.close();
+    }
+
     @VisibleForTesting
     IncrementalSplitAssigner<C> getIncrementalSplitAssigner() {
         return incrementalSplitAssigner;
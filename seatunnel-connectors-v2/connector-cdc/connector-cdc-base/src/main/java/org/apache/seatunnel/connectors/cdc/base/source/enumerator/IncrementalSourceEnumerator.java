@@ -61,6 +61,8 @@ public class IncrementalSourceEnumerator
 
     @Override
     public void open() {
+        splitAssigner.setSplitsAvailableListener(this::onSplitsAvailable);
+        splitAssigner.setSplitFailureListener(this::onSplitFailure);
         splitAssigner.open();
     }
 
@@ -155,6 +157,16 @@ public class IncrementalSourceEnumerator
 
     // ------------------------------------------------------------------------------------------
 
+    private synchronized void onSplitsAvailable() {
+        if (running) {
+            assignSplits();
+        }
+    }
+
+    private void onSplitFailure(Throwable e) {
+        context.failEnumerator(new RuntimeException("Failed to split tables into chunks", e));
+    }
+
     private void assignSplits() {
         final Iterator<Integer> awaitingReader = readersAwaitingSplit.iterator();
 
@@ -22,6 +22,7 @@ import org.apache.seatunnel.shade.com.google.common.annotations.VisibleForTestin
 import org.apache.seatunnel.connectors.cdc.base.config.SourceConfig;
 import org.apache.seatunnel.connectors.cdc.base.dialect.DataSourceDialect;
 import org.apache.seatunnel.connectors.cdc.base.source.enumerator.splitter.ChunkSplitter;
+import org.apache.seatunnel.connectors.cdc.base.source.enumerator.splitter.ChunkSplitterState;
 import org.apache.seatunnel.connectors.cdc.base.source.enumerator.state.SnapshotPhaseState;
 import org.apache.seatunnel.connectors.cdc.base.source.event.SnapshotSplitWatermark;
 import org.apache.seatunnel.connectors.cdc.base.source.split.SnapshotSplit;
@@ -30,14 +31,17 @@ import org.apache.seatunnel.connectors.cdc.base.source.split.SourceSplitBase;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.debezium.relational.TableId;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -45,6 +49,9 @@ import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import static org.apache.seatunnel.shade.com.google.common.base.Preconditions.checkArgument;
@@ -65,6 +72,30 @@ public class SnapshotSplitAssigner<C extends SourceConfig> implements SplitAssig
     private final Deque<TableId> remainingTables;
     private final boolean isRemainingTablesCheckpointed;
 
+    /**
+     * The number of background threads splitting tables ahead of the readers, tables are split
+     * synchronously in {@link #getNext()} when it is 0.
+     */
+    private final int splitParallelism;
+
+    /** The maximum number of tables which are being split or have remaining splits. */
+    private final int splitLookAhead;
+
+    /** The tables being split, mapped to the progress to resume splitting from (if any). */
+    private final Map<TableId, ChunkSplitterState> splittingTables;
+
+    /** The partially split tables restored from checkpoint, they are resumed firstly. */
+    private final Deque<ChunkSplitterState> restoredSplittingTables;
+
+    /** The number of remaining splits of each table, used to limit the tables split ahead. */
+    private final Map<TableId, Integer> remainingSplitCounts;
+
+    private ExecutorService splitExecutor;
+    private Runnable splitsAvailableListener;
+    private Consumer<Throwable> splitFailureListener;
+    private volatile Throwable splitFailure;
+    private volatile boolean closed;
+
     private ChunkSplitter chunkSplitter;
     private boolean isTableIdCaseSensitive;
 
@@ -76,6 +107,8 @@ public class SnapshotSplitAssigner<C extends SourceConfig> implements SplitAssig
             int currentParallelism,
             List<TableId> remainingTables,
             boolean isTableIdCaseSensitive,
+            int splitParallelism,
+            int splitLookAhead,
             DataSourceDialect<C> dialect) {
         this(
                 context,
@@ -88,6 +121,9 @@ public class SnapshotSplitAssigner<C extends SourceConfig> implements SplitAssig
                 remainingTables,
                 isTableIdCaseSensitive,
                 true,
+                new ArrayList<>(),
+                splitParallelism,
+                splitLookAhead,
                 dialect);
     }
 
@@ -95,6 +131,8 @@ public class SnapshotSplitAssigner<C extends SourceConfig> implements SplitAssig
             SplitAssigner.Context<C> context,
             int currentParallelism,
             SnapshotPhaseState checkpoint,
+            int splitParallelism,
+            int splitLookAhead,
             DataSourceDialect<C> dialect) {
         this(
                 context,
@@ -107,6 +145,11 @@ public class SnapshotSplitAssigner<C extends SourceConfig> implements SplitAssig
                 checkpoint.getRemainingTables(),
                 checkpoint.isTableIdCaseSensitive(),
                 checkpoint.isRemainingTablesCheckpointed(),
+                checkpoint.getSplittingTables() == null
+                        ? new ArrayList<>()
+                        : checkpoint.getSplittingTables(),
+                splitParallelism,
+                splitLookAhead,
                 dialect);
     }
 
@@ -121,6 +164,9 @@ public class SnapshotSplitAssigner<C extends SourceConfig> implements SplitAssig
             List<TableId> remainingTables,
             boolean isTableIdCaseSensitive,
             boolean isRemainingTablesCheckpointed,
+            List<ChunkSplitterState> splittingTables,
+            int splitParallelism,
+            int splitLookAhead,
             DataSourceDialect<C> dialect) {
         this.context = context;
         this.sourceConfig = context.getSourceConfig();
@@ -133,9 +179,18 @@ public class SnapshotSplitAssigner<C extends SourceConfig> implements SplitAssig
         this.remainingTables = new ConcurrentLinkedDeque<>(remainingTables);
         this.isRemainingTablesCheckpointed = isRemainingTablesCheckpointed;
         this.isTableIdCaseSensitive = isTableIdCaseSensitive;
+        this.splittingTables = new LinkedHashMap<>();
+        this.restoredSplittingTables = new ArrayDeque<>(splittingTables);
+        this.remainingSplitCounts = new HashMap<>();
+        this.remainingSplits.forEach(split -> increaseRemainingSplitCount(split.getTableId(), 1));
+        this.splitParallelism = splitParallelism;
+        this.splitLookAhead = Math.max(splitLookAhead, splitParallelism);
         this.dialect = dialect;
 
         LOG.info("SnapshotSplitAssigner created with remaining tables: {}", this.remainingTables);
+        LOG.info(
+                "SnapshotSplitAssigner created with partially split tables: {}",
+                this.restoredSplittingTables);
         LOG.info(
                 "SnapshotSplitAssigner created with remaining splits: [{}]",
                 this.remainingSplits.stream()
@@ -162,13 +217,29 @@ public class SnapshotSplitAssigner<C extends SourceConfig> implements SplitAssig
                 throw new RuntimeException("Failed to discover remaining tables to capture", e);
             }
         }
+
+        if (splitParallelism > 0 && !assignerCompleted) {
+            splitExecutor =
+                    Executors.newFixedThreadPool(
+                            splitParallelism,
+                            new ThreadFactoryBuilder()
+                                    .setNameFormat("snapshot-split-assigner-%d")
+                                    .setDaemon(true)
+                                    .build());
+            synchronized (this) {
+                scheduleSplitting();
+            }
+        }
     }
 
     @Override
-    public Optional<SourceSplitBase> getNext() {
+    public synchronized Optional<SourceSplitBase> getNext() {
         if (chunkSplitter == null) {
             return Optional.empty();
         }
+        if (splitFailure != null) {
+            throw new RuntimeException("Failed to split tables into chunks", splitFailure);
+        }
         if (!remainingSplits.isEmpty()) {
             // return remaining splits firstly
             Iterator<SnapshotSplit> iterator = remainingSplits.iterator();
@@ -176,15 +247,27 @@ public class SnapshotSplitAssigner<C extends SourceConfig> implements SplitAssig
             iterator.remove();
             assignedSplits.put(split.splitId(), split);
             context.getAssignedSnapshotSplit().put(split.splitId(), split);
+            increaseRemainingSplitCount(split.getTableId(), -1);
+            if (splitExecutor != null) {
+                scheduleSplitting();
+            }
             return Optional.of(split);
+        } else if (splitExecutor != null) {
+            // the upcoming tables are split in background, the readers will be notified by the
+            // splits available listener once new splits are generated
+            scheduleSplitting();
+            return Optional.empty();
         } else {
             // it's turn for new table
-            TableId nextTable = remainingTables.pollFirst();
+            ChunkSplitterState restoredState = restoredSplittingTables.pollFirst();
+            TableId nextTable =
+                    restoredState != null
+                            ? restoredState.getTableId()
+                            : remainingTables.pollFirst();
             if (nextTable != null) {
                 // split the given table into chunks (snapshot splits)
-                Collection<SnapshotSplit> splits = chunkSplitter.generateSplits(nextTable);
-                remainingSplits.addAll(splits);
-                alreadyProcessedTables.add(nextTable);
+                splittingTables.put(nextTable, restoredState);
+                splitTable(nextTable, restoredState);
                 return getNext();
             } else {
                 return Optional.empty();
@@ -192,13 +275,119 @@ public class SnapshotSplitAssigner<C extends SourceConfig> implements SplitAssig
         }
     }
 
+    @Override
+    public void setSplitsAvailableListener(Runnable splitsAvailableListener) {
+        this.splitsAvailableListener = splitsAvailableListener;
+    }
+
+    @Override
+    public void setSplitFailureListener(Consumer<Throwable> splitFailureListener) {
+        this.splitFailureListener = splitFailureListener;
+    }
+
+    /** Submits the upcoming tables to the splitting threads, until the look ahead is reached. */
+    private void scheduleSplitting() {
+        while (!closed && splitFailure == null && tablesAhead() < splitLookAhead) {
+            ChunkSplitterState restoredState = restoredSplittingTables.pollFirst();
+            TableId nextTable =
+                    restoredState != null
+                            ? restoredState.getTableId()
+                            : remainingTables.pollFirst();
+            if (nextTable == null) {
+                return;
+            }
+            splittingTables.put(nextTable, restoredState);
+            splitExecutor.execute(
+                    () -> {
+                        try {
+                            splitTable(nextTable, restoredState);
+                        } catch (Throwable e) {
+                            if (!closed) {
+                                LOG.error("Failed to split table {} into chunks", nextTable, e);
+                                splitFailure = e;
+                                notifySplitFailure(e);
+                            }
+                        }
+                        notifySplitsAvailable();
+                    });
+        }
+    }
+
+    /** Returns the number of tables which are being split or have remaining splits. */
+    private int tablesAhead() {
+        int tablesAhead = splittingTables.size();
+        for (TableId tableId : remainingSplitCounts.keySet()) {
+            if (!splittingTables.containsKey(tableId)) {
+                tablesAhead++;
+            }
+        }
+        return tablesAhead;
+    }
+
+    private void splitTable(TableId tableId, ChunkSplitterState state) {
+        chunkSplitter.generateSplits(
+                tableId,
+                state,
+                (splits, nextState) -> {
+                    onSplitsGenerated(tableId, splits, nextState);
+                    if (splitExecutor != null && nextState != null) {
+                        // let readers start on the first chunks of a large table while the
+                        // remaining chunks are still being computed
+                        notifySplitsAvailable();
+                    }
+                });
+    }
+
+    private synchronized void onSplitsGenerated(
+            TableId tableId, Collection<SnapshotSplit> splits, ChunkSplitterState nextState) {
+        if (closed) {
+            throw new IllegalStateException("The snapshot split assigner has been closed");
+        }
+        remainingSplits.addAll(splits);
+        increaseRemainingSplitCount(tableId, splits.size());
+        if (nextState != null) {
+            splittingTables.put(tableId, nextState);
+        } else {
+            // the table is completely split
+            splittingTables.remove(tableId);
+            alreadyProcessedTables.add(tableId);
+            if (splitExecutor != null) {
+                scheduleSplitting();
+            }
+        }
+    }
+
+    private void notifySplitsAvailable() {
+        Runnable listener = splitsAvailableListener;
+        if (listener != null) {
+            listener.run();
+        }
+    }
+
+    private void notifySplitFailure(Throwable e) {
+        Consumer<Throwable> listener = splitFailureListener;
+        if (listener != null) {
+            listener.accept(e);
+        }
+    }
+
+    private void increaseRemainingSplitCount(TableId tableId, int delta) {
+        remainingSplitCounts.compute(
+                tableId,
+                (table, count) -> {
+                    int newCount = (count == null ? 0 : count) + delta;
+                    return newCount > 0 ? newCount : null;
+                });
+    }
+
     @Override
     public boolean waitingForCompletedSplits() {
         return !allSplitsCompleted();
     }
 
     @Override
-    public void onCompletedSplits(List<SnapshotSplitWatermark> completedSplitWatermarks) {
+    public synchronized void onCompletedSplits(
+            List<SnapshotSplitWatermark> completedSplitWatermarks) {
         completedSplitWatermarks.forEach(
                 watermark -> this.splitCompletedOffsets.put(watermark.getSplitId(), watermark));
         if (allSplitsCompleted()) {
@@ -216,9 +405,10 @@ public class SnapshotSplitAssigner<C extends SourceConfig> implements SplitAssig
     }
 
     @Override
-    public void addSplits(Collection<SourceSplitBase> splits) {
+    public synchronized void addSplits(Collection<SourceSplitBase> splits) {
         for (SourceSplitBase split : splits) {
             remainingSplits.add(split.asSnapshotSplit());
+            increaseRemainingSplitCount(split.asSnapshotSplit().getTableId(), 1);
             // we should remove the add-backed splits from the assigned list, because they are
             // failed
             assignedSplits.remove(split.splitId());
@@ -227,7 +417,21 @@ public class SnapshotSplitAssigner<C extends SourceConfig> implements SplitAssig
     }
 
     @Override
-    public SnapshotPhaseState snapshotState(long checkpointId) {
+    public synchronized SnapshotPhaseState snapshotState(long checkpointId) {
+        // the tables which are being split without any generated splits are split from scratch
+        // after restored, the others are resumed from their progress
+        List<TableId> checkpointRemainingTables = new ArrayList<>();
+        List<ChunkSplitterState> checkpointSplittingTables =
+                new ArrayList<>(restoredSplittingTables);
+        splittingTables.forEach(
+                (tableId, state) -> {
+                    if (state == null) {
+                        checkpointRemainingTables.add(tableId);
+                    } else {
+                        checkpointSplittingTables.add(state);
+                    }
+                });
+        checkpointRemainingTables.addAll(remainingTables);
         SnapshotPhaseState state =
                 new SnapshotPhaseState(
                         alreadyProcessedTables,
@@ -237,11 +441,10 @@ public class SnapshotSplitAssigner<C extends SourceConfig> implements SplitAssig
                         assignedSplits,
                         splitCompletedOffsets,
                         assignerCompleted,
-                        remainingTables.isEmpty()
-                                ? new ArrayList<>()
-                                : new ArrayList<>(remainingTables),
+                        checkpointRemainingTables,
                         isTableIdCaseSensitive,
-                        true);
+                        true,
+                        checkpointSplittingTables);
         // we need a complete checkpoint before mark this assigner to be completed, to wait for all
         // records of snapshot splits are completely processed
         if (checkpointIdToFinish == null && !assignerCompleted && allSplitsCompleted()) {
@@ -260,9 +463,20 @@ public class SnapshotSplitAssigner<C extends SourceConfig> implements SplitAssig
         }
     }
 
+    @Override
+    public void close() {
+        closed = true;
+        if (splitExecutor != null) {
+            splitExecutor.shutdownNow();
+        }
+    }
+
     /** Indicates there is no more splits available in this assigner. */
-    public boolean noMoreSplits() {
-        return remainingTables.isEmpty() && remainingSplits.isEmpty();
+    public synchronized boolean noMoreSplits() {
+        return remainingTables.isEmpty()
+                && remainingSplits.isEmpty()
+                && splittingTables.isEmpty()
+                && restoredSplittingTables.isEmpty();
     }
 
     /**
@@ -32,6 +32,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * The {@code SplitAssigner} is responsible for deciding what split should be processed. It
@@ -98,6 +99,18 @@ public interface SplitAssigner {
      */
     void notifyCheckpointComplete(long checkpointId);
 
+    /**
+     * Registers the listener to call when new splits become available asynchronously, that is after
+     * {@link #getNext()} returned an empty {@code Optional} while waiting for them.
+     */
+    default void setSplitsAvailableListener(Runnable splitsAvailableListener) {}
+
+    /**
+     * Registers the listener to call when the splits can't be computed asynchronously, so the
+     * failure is raised without waiting for the next call of {@link #getNext()}.
+     */
+    default void setSplitFailureListener(Consumer<Throwable> splitFailureListener) {}
+
     /**
      * Called to close the assigner, in case it holds on to any resources, like threads or network
      * connections.
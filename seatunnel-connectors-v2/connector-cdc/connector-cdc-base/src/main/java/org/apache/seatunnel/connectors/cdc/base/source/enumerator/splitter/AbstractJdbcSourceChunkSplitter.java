@@ -39,6 +39,8 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 import static java.math.BigDecimal.ROUND_CEILING;
 import static org.apache.seatunnel.connectors.cdc.base.utils.ObjectUtils.doubleCompare;
@@ -57,12 +59,22 @@ public abstract class AbstractJdbcSourceChunkSplitter implements JdbcSourceChunk
 
     @Override
     public Collection<SnapshotSplit> generateSplits(TableId tableId) {
+        List<SnapshotSplit> splits = new ArrayList<>();
+        generateSplits(tableId, null, (generated, state) -> splits.addAll(generated));
+        return splits;
+    }
+
+    @Override
+    public void generateSplits(
+            TableId tableId,
+            ChunkSplitterState state,
+            BiConsumer<Collection<SnapshotSplit>, ChunkSplitterState> splitsConsumer) {
         try (JdbcConnection jdbc = dialect.openJdbcConnection(sourceConfig)) {
             log.info("Start splitting table {} into chunks...", tableId);
             long start = System.currentTimeMillis();
 
             Column splitColumn = getSplitColumn(jdbc, dialect, tableId);
-            List<SnapshotSplit> splits = new ArrayList<>();
+            int splitCount;
             if (splitColumn == null) {
                 if (sourceConfig.isExactlyOnce()) {
                     throw new UnsupportedOperationException(
@@ -71,57 +83,92 @@ public abstract class AbstractJdbcSourceChunkSplitter implements JdbcSourceChunk
                                     tableId));
                 }
                 SnapshotSplit singleSplit = createSnapshotSplit(jdbc, tableId, 0, null, null, null);
-                splits.add(singleSplit);
+                splitsConsumer.accept(Collections.singletonList(singleSplit), null);
+                splitCount = 1;
                 log.warn(
                         "No evenly split column found for table {}, use single split {}",
                         tableId,
                         singleSplit);
             } else {
-                final List<ChunkRange> chunks;
+                // convert chunks into splits as soon as they are computed
+                SeaTunnelRowType splitType = getSplitType(splitColumn);
+                int[] nextChunkId = {state == null ? 0 : state.getNextChunkId()};
+                Consumer<ChunkRange> chunkConsumer =
+                        chunk -> {
+                            SnapshotSplit split =
+                                    createSnapshotSplit(
+                                            jdbc,
+                                            tableId,
+                                            nextChunkId[0]++,
+                                            splitType,
+                                            chunk.getChunkStart(),
+                                            chunk.getChunkEnd());
+                            // the ending chunk is always unbounded
+                            splitsConsumer.accept(
+                                    Collections.singletonList(split),
+                                    chunk.getChunkEnd() == null
+                                            ? null
+                                            : new ChunkSplitterState(
+                                                    tableId, split.getSplitEnd(), nextChunkId[0]));
+                        };
                 try {
-                    chunks = splitTableIntoChunks(jdbc, tableId, splitColumn);
+                    if (state != null) {
+                        log.info(
+                                "Resume splitting table {} from chunk {}, chunk start: {}",
+                                tableId,
+                                state.getNextChunkId(),
+                                state.getNextChunkStart()[0]);
+                    }
+                    // currently, we only support single split column
+                    splitTableIntoChunks(
+                            jdbc,
+                            tableId,
+                            splitColumn,
+                            state == null ? null : state.getNextChunkStart()[0],
+                            chunkConsumer);
                 } catch (SQLException e) {
                     throw new RuntimeException("Failed to split chunks for table " + tableId, e);
                 }
-
-                // convert chunks into splits
-                SeaTunnelRowType splitType = getSplitType(splitColumn);
-                for (int i = 0; i < chunks.size(); i++) {
-                    ChunkRange chunk = chunks.get(i);
-                    SnapshotSplit split =
-                            createSnapshotSplit(
-                                    jdbc,
-                                    tableId,
-                                    i,
-                                    splitType,
-                                    chunk.getChunkStart(),
-                                    chunk.getChunkEnd());
-                    splits.add(split);
-                }
+                splitCount = nextChunkId[0];
             }
 
             long end = System.currentTimeMillis();
             log.info(
                     "Split table {} into {} chunks, time cost: {}ms.",
                     tableId,
-                    splits.size(),
+                    splitCount,
                     end - start);
-            return splits;
         } catch (Exception e) {
             throw new RuntimeException(
                     String.format("Generate Splits for table %s error", tableId), e);
         }
     }
 
-    private List<ChunkRange> splitTableIntoChunks(
-            JdbcConnection jdbc, TableId tableId, Column splitColumn) throws Exception {
+    /**
+     * Splits the table into chunks with the strategy chosen by the statistics of the split column.
+     * A partially split table is resumed from {@code chunkStart}, the end of its last generated
+     * chunk, with the strategy chosen by the current statistics.
+     */
+    private void splitTableIntoChunks(
+            JdbcConnection jdbc,
+            TableId tableId,
+            Column splitColumn,
+            Object chunkStart,
+            Consumer<ChunkRange> chunkConsumer)
+            throws Exception {
         final String splitColumnName = splitColumn.name();
         final Object[] minMax = queryMinMax(jdbc, tableId, splitColumn);
         final Object min = minMax[0];
         final Object max = minMax[1];
-        if (min == null || max == null || min.equals(max)) {
+        if (chunkStart != null && (max == null || ObjectCompare(chunkStart, max) >= 0)) {
+            // the rest of the table is the ending chunk
+            chunkConsumer.accept(ChunkRange.of(chunkStart, null));
+            return;
+        }
+        if (chunkStart == null && (min == null || max == null || min.equals(max))) {
             // empty table, or only one row, return full table scan as a chunk
-            return Collections.singletonList(ChunkRange.all());
+            chunkConsumer.accept(ChunkRange.all());
+            return;
         }
 
         final int chunkSize = sourceConfig.getSplitSize();
@@ -153,8 +200,15 @@ public abstract class AbstractJdbcSourceChunkSplitter implements JdbcSourceChunk
             if (dataIsEvenlyDistributed) {
                 // the minimum dynamic chunk size is at least 1
                 final int dynamicChunkSize = Math.max((int) (distributionFactor * chunkSize), 1);
-                return splitEvenlySizedChunks(
-                        tableId, min, max, approximateRowCnt, chunkSize, dynamicChunkSize);
+                splitEvenlySizedChunks(
+                        tableId,
+                        chunkStart,
+                        min,
+                        max,
+                        approximateRowCnt,
+                        chunkSize,
+                        dynamicChunkSize,
+                        chunkConsumer);
             } else {
                 int shardCount = (int) (approximateRowCnt / chunkSize);
                 int inverseSamplingRate = sourceConfig.getInverseSamplingRate();
@@ -182,13 +236,28 @@ public abstract class AbstractJdbcSourceChunkSplitter implements JdbcSourceChunk
                             "Sample data from table {} end, the sample size is {}",
                             tableId,
                             sample.length);
-                    return efficientShardingThroughSampling(
-                            tableId, sample, approximateRowCnt, shardCount);
+                    efficientShardingThroughSampling(
+                            tableId,
+                            chunkStart,
+                            sample,
+                            approximateRowCnt,
+                            shardCount,
+                            chunkConsumer);
+                } else {
+                    splitUnevenlySizedChunks(
+                            jdbc,
+                            tableId,
+                            splitColumn,
+                            chunkStart,
+                            min,
+                            max,
+                            chunkSize,
+                            chunkConsumer);
                 }
-                return splitUnevenlySizedChunks(jdbc, tableId, splitColumn, min, max, chunkSize);
             }
         } else {
-            return splitUnevenlySizedChunks(jdbc, tableId, splitColumn, min, max, chunkSize);
+            splitUnevenlySizedChunks(
+                    jdbc, tableId, splitColumn, chunkStart, min, max, chunkSize, chunkConsumer);
         }
     }
 
@@ -201,23 +270,47 @@ public abstract class AbstractJdbcSourceChunkSplitter implements JdbcSourceChunk
             Object max,
             int chunkSize)
             throws SQLException {
+        final List<ChunkRange> splits = new ArrayList<>();
+        splitUnevenlySizedChunks(
+                jdbc, tableId, splitColumn, null, min, max, chunkSize, splits::add);
+        return splits;
+    }
+
+    /**
+     * Split the range starting from {@code chunkStart}, or from the first row if it is null, into
+     * unevenly sized chunks, and hand each chunk to the consumer as soon as its end is calculated.
+     */
+    protected void splitUnevenlySizedChunks(
+            JdbcConnection jdbc,
+            TableId tableId,
+            Column splitColumn,
+            Object chunkStart,
+            Object min,
+            Object max,
+            int chunkSize,
+            Consumer<ChunkRange> chunkConsumer)
+            throws SQLException {
         log.info(
                 "Use unevenly-sized chunks for table {}, the chunk size is {}", tableId, chunkSize);
-        final List<ChunkRange> splits = new ArrayList<>();
-        Object chunkStart = null;
-        Object chunkEnd = nextChunkEnd(jdbc, min, tableId, splitColumn, max, chunkSize);
+        Object chunkEnd =
+                nextChunkEnd(
+                        jdbc,
+                        chunkStart == null ? min : chunkStart,
+                        tableId,
+                        splitColumn,
+                        max,
+                        chunkSize);
         int count = 0;
         while (chunkEnd != null && ObjectCompare(chunkEnd, max) <= 0) {
             // we start from [null, min + chunk_size) and avoid [null, min)
-            splits.add(ChunkRange.of(chunkStart, chunkEnd));
+            chunkConsumer.accept(ChunkRange.of(chunkStart, chunkEnd));
             // may sleep a while to avoid DDOS on MySQL server
             maySleep(count++, tableId);
             chunkStart = chunkEnd;
             chunkEnd = nextChunkEnd(jdbc, chunkEnd, tableId, splitColumn, max, chunkSize);
         }
         // add the ending split
-        splits.add(ChunkRange.of(chunkStart, null));
-        return splits;
+        chunkConsumer.accept(ChunkRange.of(chunkStart, null));
     }
 
     protected Object nextChunkEnd(
@@ -245,50 +338,82 @@ public abstract class AbstractJdbcSourceChunkSplitter implements JdbcSourceChunk
 
     protected List<ChunkRange> efficientShardingThroughSampling(
             TableId tableId, Object[] sampleData, long approximateRowCnt, int shardCount) {
+        final List<ChunkRange> splits = new ArrayList<>();
+        efficientShardingThroughSampling(
+                tableId, null, sampleData, approximateRowCnt, shardCount, splits::add);
+        return splits;
+    }
+
+    /**
+     * Split the table at the sampled values and hand each chunk to the consumer. The chunks before
+     * {@code chunkStart} are skipped when a partially split table is resumed.
+     */
+    protected void efficientShardingThroughSampling(
+            TableId tableId,
+            Object chunkStart,
+            Object[] sampleData,
+            long approximateRowCnt,
+            int shardCount,
+            Consumer<ChunkRange> chunkConsumer) {
         log.info(
                 "Use efficient sharding through sampling optimization for table {}, the approximate row count is {}, the shardCount is {}",
                 tableId,
                 approximateRowCnt,
                 shardCount);
 
-        final List<ChunkRange> splits = new ArrayList<>();
+        final Consumer<ChunkRange> splits =
+                chunkStart == null ? chunkConsumer : skipChunksBefore(chunkStart, chunkConsumer);
 
         if (shardCount == 0) {
-            splits.add(ChunkRange.of(null, null));
-            return splits;
+            splits.accept(ChunkRange.of(null, null));
+            return;
         }
 
         double approxSamplePerShard = (double) sampleData.length / shardCount;
 
         Object lastEnd = null;
         if (approxSamplePerShard <= 1) {
-            splits.add(ChunkRange.of(null, sampleData[0]));
+            splits.accept(ChunkRange.of(null, sampleData[0]));
             lastEnd = sampleData[0];
             for (int i = 1; i < sampleData.length; i++) {
                 // avoid split duplicate data
                 if (!sampleData[i].equals(lastEnd)) {
-                    splits.add(ChunkRange.of(lastEnd, sampleData[i]));
+                    splits.accept(ChunkRange.of(lastEnd, sampleData[i]));
                     lastEnd = sampleData[i];
                 }
             }
 
-            splits.add(ChunkRange.of(lastEnd, null));
+            splits.accept(ChunkRange.of(lastEnd, null));
 
         } else {
             for (int i = 0; i < shardCount; i++) {
-                Object chunkStart = lastEnd;
+                Object start = lastEnd;
                 Object chunkEnd =
                         (i < shardCount - 1)
                                 ? sampleData[(int) ((i + 1) * approxSamplePerShard)]
                                 : null;
                 // avoid split duplicate data
-                if (i == 0 || i == shardCount - 1 || !Objects.equals(chunkEnd, chunkStart)) {
-                    splits.add(ChunkRange.of(chunkStart, chunkEnd));
+                if (i == 0 || i == shardCount - 1 || !Objects.equals(chunkEnd, start)) {
+                    splits.accept(ChunkRange.of(start, chunkEnd));
                     lastEnd = chunkEnd;
                 }
             }
         }
-        return splits;
+    }
+
+    /** Skips the chunks which end before the given start, the next chunk begins at the start. */
+    private Consumer<ChunkRange> skipChunksBefore(
+            Object chunkStart, Consumer<ChunkRange> chunkConsumer) {
+        boolean[] started = {false};
+        return chunk -> {
+            if (started[0]) {
+                chunkConsumer.accept(chunk);
+            } else if (chunk.getChunkEnd() == null
+                    || ObjectCompare(chunk.getChunkEnd(), chunkStart) > 0) {
+                started[0] = true;
+                chunkConsumer.accept(ChunkRange.of(chunkStart, chunk.getChunkEnd()));
+            }
+        };
     }
 
     /**
@@ -302,6 +427,32 @@ public abstract class AbstractJdbcSourceChunkSplitter implements JdbcSourceChunk
             long approximateRowCnt,
             int chunkSize,
             int dynamicChunkSize) {
+        final List<ChunkRange> splits = new ArrayList<>();
+        splitEvenlySizedChunks(
+                tableId,
+                null,
+                min,
+                max,
+                approximateRowCnt,
+                chunkSize,
+                dynamicChunkSize,
+                splits::add);
+        return splits;
+    }
+
+    /**
+     * Split the range starting from {@code chunkStart}, or from the min value if it is null, into
+     * evenly sized chunks and hand each chunk to the consumer.
+     */
+    protected void splitEvenlySizedChunks(
+            TableId tableId,
+            Object chunkStart,
+            Object min,
+            Object max,
+            long approximateRowCnt,
+            int chunkSize,
+            int dynamicChunkSize,
+            Consumer<ChunkRange> chunkConsumer) {
         log.info(
                 "Use evenly-sized chunk optimization for table {}, the approximate row count is {}, the chunk size is {}, the dynamic chunk size is {}",
                 tableId,
@@ -309,15 +460,14 @@ public abstract class AbstractJdbcSourceChunkSplitter implements JdbcSourceChunk
                 chunkSize,
                 dynamicChunkSize);
         if (approximateRowCnt <= chunkSize) {
-            // there is no more than one chunk, return full table as a chunk
-            return Collections.singletonList(ChunkRange.all());
+            // there is no more than one chunk, return the rest of the table as a chunk
+            chunkConsumer.accept(ChunkRange.of(chunkStart, null));
+            return;
         }
 
-        final List<ChunkRange> splits = new ArrayList<>();
-        Object chunkStart = null;
-        Object chunkEnd = ObjectUtils.plus(min, dynamicChunkSize);
+        Object chunkEnd = ObjectUtils.plus(chunkStart == null ? min : chunkStart, dynamicChunkSize);
         while (ObjectCompare(chunkEnd, max) <= 0) {
-            splits.add(ChunkRange.of(chunkStart, chunkEnd));
+            chunkConsumer.accept(ChunkRange.of(chunkStart, chunkEnd));
             chunkStart = chunkEnd;
             try {
                 chunkEnd = ObjectUtils.plus(chunkEnd, dynamicChunkSize);
@@ -327,8 +477,7 @@ public abstract class AbstractJdbcSourceChunkSplitter implements JdbcSourceChunk
             }
         }
         // add the ending split
-        splits.add(ChunkRange.of(chunkStart, null));
-        return splits;
+        chunkConsumer.accept(ChunkRange.of(chunkStart, null));
     }
 
     // ------------------------------------------------------------------------------------------
@@ -22,10 +22,35 @@ import org.apache.seatunnel.connectors.cdc.base.source.split.SnapshotSplit;
 import io.debezium.relational.TableId;
 
 import java.util.Collection;
+import java.util.function.BiConsumer;
 
 /** The splitter used to split collection into a set of chunks. */
 public interface ChunkSplitter {
 
     /** Generates all snapshot splits (chunks) for the give data collection. */
     Collection<SnapshotSplit> generateSplits(TableId tableId);
+
+    /**
+     * Generates the snapshot splits (chunks) for the given data collection and hands them over to
+     * the consumer as soon as they are computed, so that they can be assigned to readers before the
+     * whole data collection is split.
+     *
+     * @param tableId the data collection to split.
+     * @param state the progress to resume splitting from, null if splitting from scratch.
+     * @param splitsConsumer the consumer of the generated splits and the progress to resume
+     *     splitting from after them, the progress is null when the data collection is completely
+     *     split.
+     */
+    default void generateSplits(
+            TableId tableId,
+            ChunkSplitterState state,
+            BiConsumer<Collection<SnapshotSplit>, ChunkSplitterState> splitsConsumer) {
+        if (state != null) {
+            throw new UnsupportedOperationException(
+                    String.format(
+                            "%s does not support resuming splitting of table %s",
+                            getClass().getSimpleName(), tableId));
+        }
+        splitsConsumer.accept(generateSplits(tableId), null);
+    }
 }
@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.cdc.base.source.enumerator.splitter;
+
+import io.debezium.relational.TableId;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.io.Serializable;
+
+/**
+ * The progress of a table which is partially split into chunks, splitting of the table can be
+ * resumed from {@link #nextChunkStart} after a failover.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+public class ChunkSplitterState implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final TableId tableId;
+
+    /** The (inclusive) start of the next chunk, that is the end of the last generated chunk. */
+    private final Object[] nextChunkStart;
+
+    /** The id of the next chunk. */
+    private final int nextChunkId;
+
+    public ChunkSplitterState(TableId tableId, Object[] nextChunkStart, int nextChunkId) {
+        this.tableId = tableId;
+        this.nextChunkStart = nextChunkStart;
+        this.nextChunkId = nextChunkId;
+    }
+}
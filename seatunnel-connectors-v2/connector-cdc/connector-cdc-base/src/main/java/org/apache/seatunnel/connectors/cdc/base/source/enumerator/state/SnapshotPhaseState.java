@@ -18,6 +18,7 @@
 package org.apache.seatunnel.connectors.cdc.base.source.enumerator.state;
 
 import org.apache.seatunnel.connectors.cdc.base.source.enumerator.IncrementalSourceEnumerator;
+import org.apache.seatunnel.connectors.cdc.base.source.enumerator.splitter.ChunkSplitterState;
 import org.apache.seatunnel.connectors.cdc.base.source.event.SnapshotSplitWatermark;
 import org.apache.seatunnel.connectors.cdc.base.source.reader.IncrementalSourceSplitReader;
 import org.apache.seatunnel.connectors.cdc.base.source.split.SnapshotSplit;
@@ -27,6 +28,7 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -36,6 +38,9 @@ import java.util.Map;
 @EqualsAndHashCode
 public class SnapshotPhaseState implements PendingSplitsState {
 
+    /** Pinned to the value computed before {@link #splittingTables} was added. */
+    private static final long serialVersionUID = -7999905418635008020L;
+
     /** The tables in the checkpoint. */
     private final List<TableId> remainingTables;
 
@@ -72,6 +77,12 @@ public class SnapshotPhaseState implements PendingSplitsState {
     /** Whether the remaining tables are keep when snapshot state. */
     private final boolean isRemainingTablesCheckpointed;
 
+    /**
+     * The tables which are partially split into chunks, the splitting is resumed from the recorded
+     * progress. It is null when restored from a state created before this field was added.
+     */
+    private final List<ChunkSplitterState> splittingTables;
+
     public SnapshotPhaseState(
             List<TableId> alreadyProcessedTables,
             List<SnapshotSplit> remainingSplits,
@@ -81,6 +92,28 @@ public class SnapshotPhaseState implements PendingSplitsState {
             List<TableId> remainingTables,
             boolean isTableIdCaseSensitive,
             boolean isRemainingTablesCheckpointed) {
+        this(
+                alreadyProcessedTables,
+                remainingSplits,
+                assignedSplits,
+                splitCompletedOffsets,
+                isAssignerCompleted,
+                remainingTables,
+                isTableIdCaseSensitive,
+                isRemainingTablesCheckpointed,
+                new ArrayList<>());
+    }
+
+    public SnapshotPhaseState(
+            List<TableId> alreadyProcessedTables,
+            List<SnapshotSplit> remainingSplits,
+            Map<String, SnapshotSplit> assignedSplits,
+            Map<String, SnapshotSplitWatermark> splitCompletedOffsets,
+            boolean isAssignerCompleted,
+            List<TableId> remainingTables,
+            boolean isTableIdCaseSensitive,
+            boolean isRemainingTablesCheckpointed,
+            List<ChunkSplitterState> splittingTables) {
         this.alreadyProcessedTables = alreadyProcessedTables;
         this.remainingSplits = remainingSplits;
         this.assignedSplits = assignedSplits;
@@ -89,5 +122,6 @@ public class SnapshotPhaseState implements PendingSplitsState {
         this.remainingTables = remainingTables;
         this.isTableIdCaseSensitive = isTableIdCaseSensitive;
         this.isRemainingTablesCheckpointed = isRemainingTablesCheckpointed;
+        this.splittingTables = splittingTables;
     }
 }
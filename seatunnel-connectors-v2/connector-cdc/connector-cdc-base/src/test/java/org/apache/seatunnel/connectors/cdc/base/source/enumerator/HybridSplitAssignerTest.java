@@ -58,7 +58,7 @@ public class HybridSplitAssignerTest {
                         checkpointState.getSnapshotPhaseState().getAssignedSplits(),
                         checkpointState.getSnapshotPhaseState().getSplitCompletedOffsets());
         HybridSplitAssigner splitAssigner =
-                new HybridSplitAssigner<>(context, 1, 1, checkpointState, null, null);
+                new HybridSplitAssigner<>(context, 1, 1, checkpointState, 0, 0, null, null);
         splitAssigner.getIncrementalSplitAssigner().setSplitAssigned(true);
 
         Assertions.assertFalse(
@@ -0,0 +1,276 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.cdc.base.source.enumerator;
+
+import org.apache.seatunnel.api.source.SourceSplitEnumerator;
+import org.apache.seatunnel.connectors.cdc.base.config.SourceConfig;
+import org.apache.seatunnel.connectors.cdc.base.dialect.DataSourceDialect;
+import org.apache.seatunnel.connectors.cdc.base.source.enumerator.splitter.ChunkSplitter;
+import org.apache.seatunnel.connectors.cdc.base.source.enumerator.splitter.ChunkSplitterState;
+import org.apache.seatunnel.connectors.cdc.base.source.enumerator.state.SnapshotPhaseState;
+import org.apache.seatunnel.connectors.cdc.base.source.split.SnapshotSplit;
+import org.apache.seatunnel.connectors.cdc.base.source.split.SourceSplitBase;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import io.debezium.relational.TableId;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+public class SnapshotSplitAssignerTest {
+
+    private static final int CHUNKS_PER_TABLE = 3;
+
+    @Test
+    public void testSplitTablesInBackground() throws Exception {
+        List<TableId> tables =
+                Arrays.asList(
+                        TableId.parse("db1.table1"),
+                        TableId.parse("db1.table2"),
+                        TableId.parse("db1.table3"),
+                        TableId.parse("db1.table4"));
+        SplitAssigner.Context<SourceConfig> context = createContext();
+        SnapshotSplitAssigner<SourceConfig> assigner =
+                new SnapshotSplitAssigner<>(
+                        context,
+                        1,
+                        new ArrayList<>(tables),
+                        false,
+                        2,
+                        2,
+                        mockDialect(new StreamingChunkSplitter(null)));
+        AtomicInteger notifications = new AtomicInteger();
+        assigner.setSplitsAvailableListener(notifications::incrementAndGet);
+        assigner.open();
+
+        Set<String> assigned = new HashSet<>();
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!assigner.noMoreSplits() && System.currentTimeMillis() < deadline) {
+            Optional<SourceSplitBase> split = assigner.getNext();
+            if (split.isPresent()) {
+                Assertions.assertTrue(assigned.add(split.get().splitId()));
+            } else {
+                Thread.sleep(10);
+            }
+        }
+        assigner.close();
+
+        Assertions.assertTrue(assigner.noMoreSplits());
+        Assertions.assertEquals(tables.size() * CHUNKS_PER_TABLE, assigned.size());
+        Assertions.assertTrue(notifications.get() > 0);
+        SnapshotPhaseState state = assigner.snapshotState(1);
+        Assertions.assertEquals(
+                new HashSet<>(tables), new HashSet<>(state.getAlreadyProcessedTables()));
+        Assertions.assertTrue(state.getRemainingTables().isEmpty());
+        Assertions.assertTrue(state.getSplittingTables().isEmpty());
+    }
+
+    @Test
+    public void testRestorePartiallySplitTable() throws Exception {
+        TableId table = TableId.parse("db1.table1");
+        CountDownLatch blockSplitting = new CountDownLatch(1);
+        SnapshotSplitAssigner<SourceConfig> assigner =
+                new SnapshotSplitAssigner<>(
+                        createContext(),
+                        1,
+                        new ArrayList<>(Collections.singletonList(table)),
+                        false,
+                        1,
+                        1,
+                        mockDialect(new StreamingChunkSplitter(blockSplitting)));
+        assigner.open();
+
+        // the first chunks are available before the table is completely split
+        long deadline = System.currentTimeMillis() + 10_000;
+        Optional<SourceSplitBase> first = assigner.getNext();
+        while (!first.isPresent() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+            first = assigner.getNext();
+        }
+        Assertions.assertTrue(first.isPresent());
+        Assertions.assertFalse(assigner.noMoreSplits());
+
+        SnapshotPhaseState state = assigner.snapshotState(1);
+        assigner.close();
+        blockSplitting.countDown();
+
+        Assertions.assertTrue(state.getRemainingTables().isEmpty());
+        Assertions.assertTrue(state.getAlreadyProcessedTables().isEmpty());
+        Assertions.assertEquals(1, state.getSplittingTables().size());
+        ChunkSplitterState splitterState = state.getSplittingTables().get(0);
+        Assertions.assertEquals(table, splitterState.getTableId());
+        Assertions.assertEquals(CHUNKS_PER_TABLE - 1, splitterState.getNextChunkId());
+
+        // restore and resume splitting in synchronous mode
+        SplitAssigner.Context<SourceConfig> context = createContext();
+        SnapshotSplitAssigner<SourceConfig> restored =
+                new SnapshotSplitAssigner<>(
+                        context, 1, state, 0, 1, mockDialect(new StreamingChunkSplitter(null)));
+        restored.open();
+        List<String> assigned = new ArrayList<>();
+        Optional<SourceSplitBase> split;
+        while ((split = restored.getNext()).isPresent()) {
+            assigned.add(split.get().splitId());
+        }
+        restored.close();
+
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < CHUNKS_PER_TABLE; i++) {
+            expected.add(splitId(table, i));
+        }
+        expected.remove(first.get().splitId());
+        Assertions.assertEquals(expected, assigned);
+        Assertions.assertTrue(restored.noMoreSplits());
+        Assertions.assertEquals(
+                Collections.singletonList(table),
+                restored.snapshotState(2).getAlreadyProcessedTables());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testSplitFailureFailsEnumeratorImmediately() {
+        IllegalStateException splitError = new IllegalStateException("chunk query failed");
+        SnapshotSplitAssigner<SourceConfig> assigner =
+                new SnapshotSplitAssigner<>(
+                        createContext(),
+                        1,
+                        new ArrayList<>(Collections.singletonList(TableId.parse("db1.table1"))),
+                        false,
+                        1,
+                        1,
+                        mockDialect(new FailingChunkSplitter(splitError)));
+        SourceSplitEnumerator.Context<SourceSplitBase> enumeratorContext =
+                Mockito.mock(SourceSplitEnumerator.Context.class);
+        IncrementalSourceEnumerator enumerator =
+                new IncrementalSourceEnumerator(enumeratorContext, assigner);
+        enumerator.open();
+
+        // the failure reaches the engine without any reader asking for a split
+        ArgumentCaptor<Throwable> failure = ArgumentCaptor.forClass(Throwable.class);
+        Mockito.verify(enumeratorContext, Mockito.timeout(10_000))
+                .failEnumerator(failure.capture());
+        Assertions.assertSame(splitError, failure.getValue().getCause());
+
+        RuntimeException thrown =
+                Assertions.assertThrows(RuntimeException.class, assigner::getNext);
+        Assertions.assertSame(splitError, thrown.getCause());
+        assigner.close();
+    }
+
+    private static SplitAssigner.Context<SourceConfig> createContext() {
+        return new SplitAssigner.Context<>(
+                Mockito.mock(SourceConfig.class),
+                new HashSet<>(),
+                new HashMap<>(),
+                new HashMap<>());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static DataSourceDialect<SourceConfig> mockDialect(ChunkSplitter chunkSplitter) {
+        DataSourceDialect<SourceConfig> dialect = Mockito.mock(DataSourceDialect.class);
+        Mockito.when(dialect.createChunkSplitter(Mockito.any())).thenReturn(chunkSplitter);
+        return dialect;
+    }
+
+    private static String splitId(TableId tableId, int chunkId) {
+        return tableId + ":" + chunkId;
+    }
+
+    /** Fails the splitting of every table. */
+    private static class FailingChunkSplitter implements ChunkSplitter {
+        private final RuntimeException error;
+
+        private FailingChunkSplitter(RuntimeException error) {
+            this.error = error;
+        }
+
+        @Override
+        public Collection<SnapshotSplit> generateSplits(TableId tableId) {
+            throw error;
+        }
+
+        @Override
+        public void generateSplits(
+                TableId tableId,
+                ChunkSplitterState state,
+                BiConsumer<Collection<SnapshotSplit>, ChunkSplitterState> splitsConsumer) {
+            throw error;
+        }
+    }
+
+    /**
+     * Generates {@link #CHUNKS_PER_TABLE} chunks per table one by one, optionally blocking before
+     * the ending chunk.
+     */
+    private static class StreamingChunkSplitter implements ChunkSplitter {
+        private final CountDownLatch blockEndingChunk;
+
+        private StreamingChunkSplitter(CountDownLatch blockEndingChunk) {
+            this.blockEndingChunk = blockEndingChunk;
+        }
+
+        @Override
+        public Collection<SnapshotSplit> generateSplits(TableId tableId) {
+            List<SnapshotSplit> splits = new ArrayList<>();
+            generateSplits(tableId, null, (generated, state) -> splits.addAll(generated));
+            return splits;
+        }
+
+        @Override
+        public void generateSplits(
+                TableId tableId,
+                ChunkSplitterState state,
+                BiConsumer<Collection<SnapshotSplit>, ChunkSplitterState> splitsConsumer) {
+            int chunkId = state == null ? 0 : state.getNextChunkId();
+            for (; chunkId < CHUNKS_PER_TABLE; chunkId++) {
+                boolean ending = chunkId == CHUNKS_PER_TABLE - 1;
+                if (ending && blockEndingChunk != null) {
+                    try {
+                        blockEndingChunk.await(10, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new RuntimeException(e);
+                    }
+                }
+                Object[] splitStart = chunkId == 0 ? null : new Object[] {chunkId};
+                Object[] splitEnd = ending ? null : new Object[] {chunkId + 1};
+                SnapshotSplit split =
+                        new SnapshotSplit(
+                                splitId(tableId, chunkId), tableId, null, splitStart, splitEnd);
+                splitsConsumer.accept(
+                        Collections.singletonList(split),
+                        ending ? null : new ChunkSplitterState(tableId, splitEnd, chunkId + 1));
+            }
+        }
+    }
+}
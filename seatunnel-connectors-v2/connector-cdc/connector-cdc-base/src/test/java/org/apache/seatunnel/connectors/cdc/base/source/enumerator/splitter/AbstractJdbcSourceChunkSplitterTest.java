@@ -28,7 +28,9 @@ import io.debezium.relational.Table;
 import io.debezium.relational.TableId;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -149,6 +151,65 @@ public class AbstractJdbcSourceChunkSplitterTest {
                         ChunkRange.of(6, null)));
     }
 
+    @Test
+    public void testSplitEvenlySizedChunksFromChunkStart() {
+        UtJdbcSourceChunkSplitter utJdbcSourceChunkSplitter = new UtJdbcSourceChunkSplitter();
+
+        List<ChunkRange> chunks = new ArrayList<>();
+        utJdbcSourceChunkSplitter.splitEvenlySizedChunks(
+                null, null, 1, 10, 1000, 100, 3, chunks::add);
+        check(
+                chunks,
+                Arrays.asList(
+                        ChunkRange.of(null, 4),
+                        ChunkRange.of(4, 7),
+                        ChunkRange.of(7, 10),
+                        ChunkRange.of(10, null)));
+        assertEquals(
+                chunks,
+                utJdbcSourceChunkSplitter.splitEvenlySizedChunks(null, 1, 10, 1000, 100, 3));
+
+        // a resumed table continues with the same step from the resumed chunk start
+        chunks.clear();
+        utJdbcSourceChunkSplitter.splitEvenlySizedChunks(null, 4, 1, 10, 1000, 100, 3, chunks::add);
+        assertEquals(
+                Arrays.asList(ChunkRange.of(4, 7), ChunkRange.of(7, 10), ChunkRange.of(10, null)),
+                chunks);
+
+        chunks.clear();
+        utJdbcSourceChunkSplitter.splitEvenlySizedChunks(null, 4, 1, 10, 50, 100, 3, chunks::add);
+        assertEquals(Collections.singletonList(ChunkRange.of(4, null)), chunks);
+    }
+
+    @Test
+    public void testEfficientShardingThroughSamplingFromChunkStart() {
+        UtJdbcSourceChunkSplitter utJdbcSourceChunkSplitter = new UtJdbcSourceChunkSplitter();
+        Object[] sampleData = new Object[] {1, 2, 3, 4, 5, 6};
+
+        // the chunks before the resumed chunk start are skipped
+        List<ChunkRange> chunks = new ArrayList<>();
+        utJdbcSourceChunkSplitter.efficientShardingThroughSampling(
+                null, 3, sampleData, 1000, 6, chunks::add);
+        assertEquals(
+                Arrays.asList(
+                        ChunkRange.of(3, 4),
+                        ChunkRange.of(4, 5),
+                        ChunkRange.of(5, 6),
+                        ChunkRange.of(6, null)),
+                chunks);
+
+        // the first remaining chunk starts at the resumed chunk start
+        chunks.clear();
+        utJdbcSourceChunkSplitter.efficientShardingThroughSampling(
+                null, 3, sampleData, 1000, 2, chunks::add);
+        assertEquals(Arrays.asList(ChunkRange.of(3, 4), ChunkRange.of(4, null)), chunks);
+
+        chunks.clear();
+        utJdbcSourceChunkSplitter.efficientShardingThroughSampling(
+                null, 7, sampleData, 1000, 6, chunks::add);
+        assertEquals(Collections.singletonList(ChunkRange.of(7, null)), chunks);
+    }
+
     private void check(List<ChunkRange> a, List<ChunkRange> b) {
         checkRule(b);
         assertEquals(a, b);
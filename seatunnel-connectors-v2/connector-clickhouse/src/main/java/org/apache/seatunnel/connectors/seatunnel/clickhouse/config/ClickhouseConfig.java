@@ -118,6 +118,45 @@ public class ClickhouseConfig {
                     .withDescription(
                             "Allow experimental lightweight delete based on `*MergeTree` table engine");
 
+    public static final Option<ClickhouseWriteMode> WRITE_MODE =
+            Options.key("write_mode")
+                    .enumType(ClickhouseWriteMode.class)
+                    .defaultValue(ClickhouseWriteMode.JDBC)
+                    .withDescription(
+                            "How the sink writes rows: JDBC binds the values to insert statements, "
+                                    + "ROW_BINARY encodes the rows in the RowBinary format and posts "
+                                    + "gzip compressed batches to the HTTP interface of each shard");
+
+    public static final Option<Integer> MAX_IN_FLIGHT_INSERTS =
+            Options.key("max_in_flight_inserts")
+                    .intType()
+                    .defaultValue(2)
+                    .withDescription(
+                            "The number of concurrent inserts per shard in ROW_BINARY write mode");
+
+    public static final Option<Integer> CONNECT_TIMEOUT_MS =
+            Options.key("connect_timeout_ms")
+                    .intType()
+                    .defaultValue(12000)
+                    .withDescription(
+                            "The timeout to connect to the HTTP interface in ROW_BINARY write mode");
+
+    public static final Option<Integer> SOCKET_TIMEOUT_MS =
+            Options.key("socket_timeout_ms")
+                    .intType()
+                    .defaultValue(60000)
+                    .withDescription(
+                            "The timeout to wait for the response of an insert in ROW_BINARY write mode");
+
+    public static final Option<Integer> BATCH_INTERVAL_MS =
+            Options.key("batch_interval_ms")
+                    .intType()
+                    .defaultValue(1000)
+                    .withDescription(
+                            "The longest time an insert of ROW_BINARY write mode stays open before "
+                                    + "it is completed, even when it holds less than bulk_size rows, "
+                                    + "a value less than 1 disables it");
+
     /** ClickhouseFile sink connector used clickhouse-local program's path */
     public static final Option<String> CLICKHOUSE_LOCAL_PATH =
             Options.key("clickhouse_local_path")
@@ -41,4 +41,10 @@ public class ReaderOption implements Serializable {
     @Setter private SeaTunnelRowType seaTunnelRowType;
     private Properties properties;
     private int bulkSize;
+    private ClickhouseWriteMode writeMode;
+    private int maxInFlightInserts;
+    private int connectTimeoutMs;
+    private int socketTimeoutMs;
+    private int batchIntervalMs;
+    private String serverTimeZone;
 }
@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.client;
+
+import org.apache.seatunnel.api.sink.SinkWriter;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.common.config.Common;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.config.ReaderOption;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.shard.Shard;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.client.binary.RowBinaryEncoder;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.client.binary.RowBinaryShardInserter;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.state.CKCommitInfo;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.state.ClickhouseSinkState;
+
+import org.apache.commons.lang3.StringUtils;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes the rows in the RowBinary format over HTTP instead of binding them to JDBC statements.
+ * Every shard of the {@link ShardRouter} gets its own {@link RowBinaryShardInserter}, the inserts
+ * of all shards run on a shared pool. All rows are inserted, as with the JDBC writer without
+ * primary key. A timer completes the batches which are open longer than the batch interval, so that
+ * the server does not drop an idle insert.
+ */
+@Slf4j
+public class ClickhouseRowBinarySinkWriter
+        implements SinkWriter<SeaTunnelRow, CKCommitInfo, ClickhouseSinkState> {
+
+    private final ReaderOption option;
+    private final ShardRouter shardRouter;
+    private final transient ClickhouseProxy proxy;
+    private final int shardKeyIndex;
+    private final ExecutorService insertExecutor;
+    private final ScheduledExecutorService flushScheduler;
+    private final Map<Shard, RowBinaryShardInserter> inserterMap;
+
+    ClickhouseRowBinarySinkWriter(ReaderOption option) throws IOException {
+        this.option = option;
+        this.proxy = new ClickhouseProxy(option.getShardMetadata().getDefaultShard().getNode());
+        this.shardRouter = new ShardRouter(proxy, option.getShardMetadata());
+        String shardKey = option.getShardMetadata().getShardKey();
+        this.shardKeyIndex =
+                StringUtils.isNotEmpty(shardKey)
+                        ? option.getSeaTunnelRowType().indexOf(shardKey)
+                        : -1;
+        int maxInFlight = Math.max(1, option.getMaxInFlightInserts());
+        this.insertExecutor =
+                Executors.newFixedThreadPool(
+                        shardRouter.getShards().size() * maxInFlight,
+                        new ThreadFactoryBuilder()
+                                .setNameFormat("clickhouse-row-binary-insert-%d")
+                                .setDaemon(true)
+                                .build());
+        RowBinaryEncoder encoder =
+                new RowBinaryEncoder(
+                        option.getSeaTunnelRowType(),
+                        option.getTableSchema(),
+                        ZoneId.of(option.getServerTimeZone()));
+        this.inserterMap = new HashMap<>(Common.COLLECTION_SIZE);
+        for (Shard shard : shardRouter.getShards().values()) {
+            inserterMap.put(
+                    shard,
+                    new RowBinaryShardInserter(
+                            shard.getNode().getAddress().getHostName(),
+                            shard.getNode().getAddress().getPort(),
+                            shard.getNode().getDatabase().get(),
+                            shardRouter.getShardTable(),
+                            option.getProperties().getProperty("user"),
+                            option.getProperties().getProperty("password"),
+                            option.getConnectTimeoutMs(),
+                            option.getSocketTimeoutMs(),
+                            encoder,
+                            insertExecutor,
+                            maxInFlight,
+                            option.getBatchIntervalMs()));
+        }
+        this.flushScheduler =
+                Executors.newSingleThreadScheduledExecutor(
+                        new ThreadFactoryBuilder()
+                                .setNameFormat("clickhouse-row-binary-flush-%d")
+                                .setDaemon(true)
+                                .build());
+        if (option.getBatchIntervalMs() > 0) {
+            flushScheduler.scheduleWithFixedDelay(
+                    this::flushExpiredBatches,
+                    option.getBatchIntervalMs(),
+                    option.getBatchIntervalMs(),
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public void write(SeaTunnelRow element) throws IOException {
+        Object shardKey = shardKeyIndex < 0 ? null : element.getField(shardKeyIndex);
+        RowBinaryShardInserter inserter = inserterMap.get(shardRouter.getShard(shardKey));
+        inserter.write(element);
+        if (inserter.getBatchRows() >= option.getBulkSize()) {
+            inserter.flush();
+        }
+    }
+
+    @Override
+    public Optional<CKCommitInfo> prepareCommit() throws IOException {
+        flushAndAwait();
+        return Optional.empty();
+    }
+
+    @Override
+    public void abortPrepare() {}
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flushAndAwait();
+        } finally {
+            flushScheduler.shutdownNow();
+            insertExecutor.shutdownNow();
+            proxy.close();
+        }
+    }
+
+    private void flushExpiredBatches() {
+        for (RowBinaryShardInserter inserter : inserterMap.values()) {
+            inserter.flushIfExpired();
+        }
+    }
+
+    private void flushAndAwait() throws IOException {
+        for (RowBinaryShardInserter inserter : inserterMap.values()) {
+            inserter.flush();
+        }
+        for (RowBinaryShardInserter inserter : inserterMap.values()) {
+            inserter.await();
+        }
+    }
+}
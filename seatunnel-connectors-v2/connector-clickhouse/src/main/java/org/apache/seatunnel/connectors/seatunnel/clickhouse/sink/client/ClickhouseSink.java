@@ -32,6 +32,7 @@ import org.apache.seatunnel.common.config.CheckConfigUtil;
 import org.apache.seatunnel.common.config.CheckResult;
 import org.apache.seatunnel.common.constants.PluginType;
 import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.config.ClickhouseWriteMode;
 import org.apache.seatunnel.connectors.seatunnel.clickhouse.config.ReaderOption;
 import org.apache.seatunnel.connectors.seatunnel.clickhouse.exception.ClickhouseConnectorException;
 import org.apache.seatunnel.connectors.seatunnel.clickhouse.shard.Shard;
@@ -54,18 +55,23 @@ import java.util.Optional;
 import java.util.Properties;
 
 import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.ClickhouseConfig.ALLOW_EXPERIMENTAL_LIGHTWEIGHT_DELETE;
+import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.ClickhouseConfig.BATCH_INTERVAL_MS;
 import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.ClickhouseConfig.BULK_SIZE;
 import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.ClickhouseConfig.CLICKHOUSE_CONFIG;
+import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.ClickhouseConfig.CONNECT_TIMEOUT_MS;
 import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.ClickhouseConfig.DATABASE;
 import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.ClickhouseConfig.HOST;
+import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.ClickhouseConfig.MAX_IN_FLIGHT_INSERTS;
 import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.ClickhouseConfig.PASSWORD;
 import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.ClickhouseConfig.PRIMARY_KEY;
 import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.ClickhouseConfig.SERVER_TIME_ZONE;
 import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.ClickhouseConfig.SHARDING_KEY;
+import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.ClickhouseConfig.SOCKET_TIMEOUT_MS;
 import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.ClickhouseConfig.SPLIT_MODE;
 import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.ClickhouseConfig.SUPPORT_UPSERT;
 import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.ClickhouseConfig.TABLE;
 import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.ClickhouseConfig.USERNAME;
+import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.ClickhouseConfig.WRITE_MODE;
 
 @AutoService(SeaTunnelSink.class)
 public class ClickhouseSink
@@ -101,6 +107,11 @@ public class ClickhouseSink
                         .put(BULK_SIZE.key(), BULK_SIZE.defaultValue())
                         .put(SPLIT_MODE.key(), SPLIT_MODE.defaultValue())
                         .put(SERVER_TIME_ZONE.key(), SERVER_TIME_ZONE.defaultValue())
+                        .put(WRITE_MODE.key(), WRITE_MODE.defaultValue().name())
+                        .put(MAX_IN_FLIGHT_INSERTS.key(), MAX_IN_FLIGHT_INSERTS.defaultValue())
+                        .put(CONNECT_TIMEOUT_MS.key(), CONNECT_TIMEOUT_MS.defaultValue())
+                        .put(SOCKET_TIMEOUT_MS.key(), SOCKET_TIMEOUT_MS.defaultValue())
+                        .put(BATCH_INTERVAL_MS.key(), BATCH_INTERVAL_MS.defaultValue())
                         .build();
 
         config = config.withFallback(ConfigFactory.parseMap(defaultConfig));
@@ -200,6 +211,13 @@ public class ClickhouseSink
             }
             primaryKeys = new String[] {primaryKey};
         }
+        ClickhouseWriteMode writeMode =
+                ClickhouseWriteMode.valueOf(config.getString(WRITE_MODE.key()).toUpperCase());
+        if (writeMode == ClickhouseWriteMode.ROW_BINARY && primaryKeys != null) {
+            throw new ClickhouseConnectorException(
+                    CommonErrorCodeDeprecated.ILLEGAL_ARGUMENT,
+                    "write_mode ROW_BINARY only inserts rows, it can not be used with primary_key");
+        }
         boolean supportUpsert = SUPPORT_UPSERT.defaultValue();
         if (config.hasPath(SUPPORT_UPSERT.key())) {
             supportUpsert = config.getBoolean(SUPPORT_UPSERT.key());
@@ -220,12 +238,21 @@ public class ClickhouseSink
                         .primaryKeys(primaryKeys)
                         .supportUpsert(supportUpsert)
                         .allowExperimentalLightweightDelete(allowExperimentalLightweightDelete)
+                        .writeMode(writeMode)
+                        .maxInFlightInserts(config.getInt(MAX_IN_FLIGHT_INSERTS.key()))
+                        .connectTimeoutMs(config.getInt(CONNECT_TIMEOUT_MS.key()))
+                        .socketTimeoutMs(config.getInt(SOCKET_TIMEOUT_MS.key()))
+                        .batchIntervalMs(config.getInt(BATCH_INTERVAL_MS.key()))
+                        .serverTimeZone(config.getString(SERVER_TIME_ZONE.key()))
                         .build();
     }
 
     @Override
     public SinkWriter<SeaTunnelRow, CKCommitInfo, ClickhouseSinkState> createWriter(
             SinkWriter.Context context) throws IOException {
+        if (option.getWriteMode() == ClickhouseWriteMode.ROW_BINARY) {
+            return new ClickhouseRowBinarySinkWriter(option);
+        }
         return new ClickhouseSinkWriter(option, context);
     }
 
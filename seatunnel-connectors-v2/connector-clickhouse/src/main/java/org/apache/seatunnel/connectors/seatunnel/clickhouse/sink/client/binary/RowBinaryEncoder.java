@@ -0,0 +1,472 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.client.binary;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.exception.ClickhouseConnectorException;
+
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Encodes rows in the RowBinary format of ClickHouse. The encoding of every column is derived once
+ * from its ClickHouse type, so that writing a row is a plain sequence of buffer writes.
+ *
+ * <p>Null values of columns which are not {@code Nullable} are written as the default value of the
+ * type, like ClickHouse does for inserts with {@code input_format_null_as_default}.
+ */
+public class RowBinaryEncoder {
+
+    private static final Pattern ENUM_VALUE =
+            Pattern.compile("'((?:[^'\\\\]|\\\\.)*)'\\s*=\\s*(-?\\d+)");
+    private static final long[] POWERS_OF_TEN = new long[10];
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    private final String[] columns;
+    private final int[] fieldIndexes;
+    private final ValueWriter[] writers;
+
+    public RowBinaryEncoder(
+            SeaTunnelRowType rowType, Map<String, String> tableSchema, ZoneId serverTimeZone) {
+        List<String> columnList = new ArrayList<>();
+        for (String fieldName : rowType.getFieldNames()) {
+            if (tableSchema.containsKey(fieldName)) {
+                columnList.add(fieldName);
+            }
+        }
+        this.columns = columnList.toArray(new String[0]);
+        this.fieldIndexes = new int[columns.length];
+        this.writers = new ValueWriter[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            fieldIndexes[i] = rowType.indexOf(columns[i]);
+            writers[i] = createWriter(tableSchema.get(columns[i]), serverTimeZone);
+        }
+    }
+
+    /** The columns of the table which are written, in the order of the encoded values. */
+    public String[] getColumns() {
+        return columns;
+    }
+
+    public void encode(SeaTunnelRow row, RowBinaryOutput output) {
+        for (int i = 0; i < writers.length; i++) {
+            writers[i].write(output, row.getField(fieldIndexes[i]));
+        }
+    }
+
+    @FunctionalInterface
+    interface ValueWriter {
+        void write(RowBinaryOutput output, Object value);
+    }
+
+    static ValueWriter createWriter(String type, ZoneId serverTimeZone) {
+        String trimmedType = type.trim();
+        int open = trimmedType.indexOf('(');
+        String name = open < 0 ? trimmedType : trimmedType.substring(0, open).trim();
+        List<String> arguments =
+                open < 0
+                        ? Collections.emptyList()
+                        : splitArguments(
+                                trimmedType.substring(open + 1, trimmedType.lastIndexOf(')')));
+        switch (name) {
+            case "Nullable":
+                ValueWriter nestedWriter = createWriter(arguments.get(0), serverTimeZone);
+                return (output, value) -> {
+                    if (value == null) {
+                        output.writeByte(1);
+                    } else {
+                        output.writeByte(0);
+                        nestedWriter.write(output, value);
+                    }
+                };
+            case "LowCardinality":
+                return createWriter(arguments.get(0), serverTimeZone);
+            case "SimpleAggregateFunction":
+                return createWriter(arguments.get(arguments.size() - 1), serverTimeZone);
+            case "Bool":
+            case "Int8":
+            case "UInt8":
+                return (output, value) -> output.writeByte((int) toLong(value));
+            case "Int16":
+            case "UInt16":
+                return (output, value) -> output.writeShort((int) toLong(value));
+            case "Int32":
+            case "UInt32":
+                return (output, value) -> output.writeInt((int) toLong(value));
+            case "Int64":
+            case "UInt64":
+                return (output, value) -> output.writeLong(toLong(value));
+            case "Int128":
+            case "UInt128":
+                return (output, value) -> writeBigInteger(output, toBigInteger(value), 16);
+            case "Int256":
+            case "UInt256":
+                return (output, value) -> writeBigInteger(output, toBigInteger(value), 32);
+            case "Float32":
+                return (output, value) ->
+                        output.writeInt(
+                                Float.floatToIntBits(
+                                        value == null ? 0 : ((Number) value).floatValue()));
+            case "Float64":
+                return (output, value) ->
+                        output.writeLong(
+                                Double.doubleToLongBits(
+                                        value == null ? 0 : ((Number) value).doubleValue()));
+            case "String":
+                return (output, value) -> {
+                    byte[] bytes = toBytes(value);
+                    output.writeVarInt(bytes.length);
+                    output.writeBytes(bytes);
+                };
+            case "FixedString":
+                int length = Integer.parseInt(arguments.get(0));
+                return (output, value) -> writeFixedString(output, toBytes(value), length);
+            case "UUID":
+                return (output, value) -> {
+                    UUID uuid = value == null ? new UUID(0, 0) : toUuid(value);
+                    output.writeLong(uuid.getMostSignificantBits());
+                    output.writeLong(uuid.getLeastSignificantBits());
+                };
+            case "Date":
+                return (output, value) -> output.writeShort((int) toEpochDay(value));
+            case "Date32":
+                return (output, value) -> output.writeInt((int) toEpochDay(value));
+            case "DateTime":
+                ZoneId dateTimeZone =
+                        arguments.isEmpty() ? serverTimeZone : ZoneId.of(unquote(arguments.get(0)));
+                return (output, value) ->
+                        output.writeInt((int) toInstant(value, dateTimeZone).getEpochSecond());
+            case "DateTime64":
+                int precision = Integer.parseInt(arguments.get(0).trim());
+                ZoneId dateTime64Zone =
+                        arguments.size() < 2
+                                ? serverTimeZone
+                                : ZoneId.of(unquote(arguments.get(1)));
+                return (output, value) -> {
+                    Instant instant = toInstant(value, dateTime64Zone);
+                    output.writeLong(
+                            instant.getEpochSecond() * POWERS_OF_TEN[precision]
+                                    + instant.getNano() / POWERS_OF_TEN[9 - precision]);
+                };
+            case "Decimal":
+                int decimalPrecision = Integer.parseInt(arguments.get(0).trim());
+                return createDecimalWriter(
+                        decimalWidth(decimalPrecision), Integer.parseInt(arguments.get(1).trim()));
+            case "Decimal32":
+                return createDecimalWriter(4, Integer.parseInt(arguments.get(0).trim()));
+            case "Decimal64":
+                return createDecimalWriter(8, Integer.parseInt(arguments.get(0).trim()));
+            case "Decimal128":
+                return createDecimalWriter(16, Integer.parseInt(arguments.get(0).trim()));
+            case "Decimal256":
+                return createDecimalWriter(32, Integer.parseInt(arguments.get(0).trim()));
+            case "Enum8":
+                Map<String, Integer> enum8Values = parseEnumValues(arguments);
+                return (output, value) -> output.writeByte(toEnumValue(value, enum8Values));
+            case "Enum16":
+                Map<String, Integer> enum16Values = parseEnumValues(arguments);
+                return (output, value) -> output.writeShort(toEnumValue(value, enum16Values));
+            case "Array":
+                ValueWriter elementWriter = createWriter(arguments.get(0), serverTimeZone);
+                return (output, value) -> {
+                    if (value == null) {
+                        output.writeVarInt(0);
+                    } else if (value instanceof Collection) {
+                        Collection<?> collection = (Collection<?>) value;
+                        output.writeVarInt(collection.size());
+                        for (Object element : collection) {
+                            elementWriter.write(output, element);
+                        }
+                    } else {
+                        int size = Array.getLength(value);
+                        output.writeVarInt(size);
+                        for (int i = 0; i < size; i++) {
+                            elementWriter.write(output, Array.get(value, i));
+                        }
+                    }
+                };
+            case "Map":
+                ValueWriter keyWriter = createWriter(arguments.get(0), serverTimeZone);
+                ValueWriter valueWriter = createWriter(arguments.get(1), serverTimeZone);
+                return (output, value) -> {
+                    if (value == null) {
+                        output.writeVarInt(0);
+                        return;
+                    }
+                    Map<?, ?> map = (Map<?, ?>) value;
+                    output.writeVarInt(map.size());
+                    for (Map.Entry<?, ?> entry : map.entrySet()) {
+                        keyWriter.write(output, entry.getKey());
+                        valueWriter.write(output, entry.getValue());
+                    }
+                };
+            default:
+                if (name.startsWith("Interval")) {
+                    return (output, value) -> output.writeLong(toLong(value));
+                }
+                throw new ClickhouseConnectorException(
+                        CommonErrorCodeDeprecated.UNSUPPORTED_DATA_TYPE,
+                        "Clickhouse type " + type + " is not supported by the RowBinary encoding");
+        }
+    }
+
+    /** Splits the arguments of a type on the top level commas. */
+    static List<String> splitArguments(String arguments) {
+        List<String> result = new ArrayList<>();
+        int depth = 0;
+        boolean quoted = false;
+        int start = 0;
+        for (int i = 0; i < arguments.length(); i++) {
+            char c = arguments.charAt(i);
+            if (quoted) {
+                if (c == '\\') {
+                    i++;
+                } else if (c == '\'') {
+                    quoted = false;
+                }
+            } else if (c == '\'') {
+                quoted = true;
+            } else if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                depth--;
+            } else if (c == ',' && depth == 0) {
+                result.add(arguments.substring(start, i).trim());
+                start = i + 1;
+            }
+        }
+        result.add(arguments.substring(start).trim());
+        return result;
+    }
+
+    private static int decimalWidth(int precision) {
+        if (precision <= 9) {
+            return 4;
+        }
+        if (precision <= 18) {
+            return 8;
+        }
+        return precision <= 38 ? 16 : 32;
+    }
+
+    private static ValueWriter createDecimalWriter(int width, int scale) {
+        return (output, value) -> {
+            BigInteger unscaled =
+                    value == null
+                            ? BigInteger.ZERO
+                            : toBigDecimal(value)
+                                    .setScale(scale, RoundingMode.HALF_UP)
+                                    .unscaledValue();
+            if (width == 4) {
+                output.writeInt(unscaled.intValue());
+            } else if (width == 8) {
+                output.writeLong(unscaled.longValue());
+            } else {
+                writeBigInteger(output, unscaled, width);
+            }
+        };
+    }
+
+    private static void writeBigInteger(RowBinaryOutput output, BigInteger value, int width) {
+        byte[] bytes = value.toByteArray();
+        // an unsigned value using all bits has an additional leading zero byte
+        if (bytes.length > width + 1 || (bytes.length == width + 1 && bytes[0] != 0)) {
+            throw new ClickhouseConnectorException(
+                    CommonErrorCodeDeprecated.ILLEGAL_ARGUMENT,
+                    "Value " + value + " does not fit into " + width * 8 + " bits");
+        }
+        output.writeBigEndianAsLittleEndian(bytes, width);
+    }
+
+    private static void writeFixedString(RowBinaryOutput output, byte[] bytes, int length) {
+        if (bytes.length > length) {
+            throw new ClickhouseConnectorException(
+                    CommonErrorCodeDeprecated.ILLEGAL_ARGUMENT,
+                    "Value of "
+                            + bytes.length
+                            + " bytes is too long for FixedString("
+                            + length
+                            + ")");
+        }
+        output.writeBytes(bytes);
+        for (int i = bytes.length; i < length; i++) {
+            output.writeByte(0);
+        }
+    }
+
+    private static Map<String, Integer> parseEnumValues(List<String> arguments) {
+        Map<String, Integer> values = new HashMap<>();
+        for (String argument : arguments) {
+            Matcher matcher = ENUM_VALUE.matcher(argument);
+            if (matcher.matches()) {
+                values.put(
+                        matcher.group(1).replaceAll("\\\\(.)", "$1"),
+                        Integer.parseInt(matcher.group(2)));
+            }
+        }
+        return values;
+    }
+
+    private static int toEnumValue(Object value, Map<String, Integer> values) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof Number) {
+            return ((Number) value).intValue();
+        }
+        Integer enumValue = values.get(value.toString());
+        if (enumValue == null) {
+            throw new ClickhouseConnectorException(
+                    CommonErrorCodeDeprecated.ILLEGAL_ARGUMENT,
+                    "Unknown enum value '" + value + "', expected one of " + values.keySet());
+        }
+        return enumValue;
+    }
+
+    private static String unquote(String value) {
+        String trimmed = value.trim();
+        if (trimmed.length() >= 2 && trimmed.startsWith("'") && trimmed.endsWith("'")) {
+            return trimmed.substring(1, trimmed.length() - 1);
+        }
+        return trimmed;
+    }
+
+    private static long toLong(Object value) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof Number) {
+            return ((Number) value).longValue();
+        }
+        if (value instanceof Boolean) {
+            return (Boolean) value ? 1 : 0;
+        }
+        return Long.parseLong(value.toString().trim());
+    }
+
+    private static BigInteger toBigInteger(Object value) {
+        if (value == null) {
+            return BigInteger.ZERO;
+        }
+        if (value instanceof BigInteger) {
+            return (BigInteger) value;
+        }
+        if (value instanceof BigDecimal) {
+            return ((BigDecimal) value).toBigInteger();
+        }
+        if (value instanceof Number) {
+            return BigInteger.valueOf(((Number) value).longValue());
+        }
+        return new BigInteger(value.toString().trim());
+    }
+
+    private static BigDecimal toBigDecimal(Object value) {
+        if (value instanceof BigDecimal) {
+            return (BigDecimal) value;
+        }
+        if (value instanceof BigInteger) {
+            return new BigDecimal((BigInteger) value);
+        }
+        return new BigDecimal(value.toString().trim());
+    }
+
+    private static byte[] toBytes(Object value) {
+        if (value == null) {
+            return new byte[0];
+        }
+        if (value instanceof byte[]) {
+            return (byte[]) value;
+        }
+        return value.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static UUID toUuid(Object value) {
+        return value instanceof UUID ? (UUID) value : UUID.fromString(value.toString().trim());
+    }
+
+    private static long toEpochDay(Object value) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof LocalDate) {
+            return ((LocalDate) value).toEpochDay();
+        }
+        if (value instanceof LocalDateTime) {
+            return ((LocalDateTime) value).toLocalDate().toEpochDay();
+        }
+        if (value instanceof java.sql.Date) {
+            return ((java.sql.Date) value).toLocalDate().toEpochDay();
+        }
+        return LocalDate.parse(value.toString().trim()).toEpochDay();
+    }
+
+    private static Instant toInstant(Object value, ZoneId zoneId) {
+        if (value == null) {
+            return Instant.EPOCH;
+        }
+        if (value instanceof LocalDateTime) {
+            return ((LocalDateTime) value).atZone(zoneId).toInstant();
+        }
+        if (value instanceof Timestamp) {
+            return ((Timestamp) value).toLocalDateTime().atZone(zoneId).toInstant();
+        }
+        if (value instanceof LocalDate) {
+            return ((LocalDate) value).atStartOfDay(zoneId).toInstant();
+        }
+        if (value instanceof OffsetDateTime) {
+            return ((OffsetDateTime) value).toInstant();
+        }
+        if (value instanceof ZonedDateTime) {
+            return ((ZonedDateTime) value).toInstant();
+        }
+        if (value instanceof Instant) {
+            return (Instant) value;
+        }
+        return Timestamp.valueOf(value.toString().trim())
+                .toLocalDateTime()
+                .atZone(zoneId)
+                .toInstant();
+    }
+}
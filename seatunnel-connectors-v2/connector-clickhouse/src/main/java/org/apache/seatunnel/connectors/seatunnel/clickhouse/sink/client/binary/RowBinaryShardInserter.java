@@ -0,0 +1,283 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.client.binary;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.exception.ClickhouseConnectorException;
+
+import org.apache.commons.io.IOUtils;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Inserts the rows routed to one shard with {@code INSERT ... FORMAT RowBinary} requests to the
+ * HTTP interface of ClickHouse.
+ *
+ * <p>The rows are encoded and gzip compressed straight into the body of the current request as they
+ * are written, the body is sent with chunked transfer encoding. Flushing completes the body and
+ * waits for the response on the executor. Up to {@code maxInFlight} requests of the shard are open
+ * at the same time, the one being written included; starting a batch waits while that many are
+ * open. A failed insert is reported by the next call on the writer thread.
+ *
+ * <p>The server drops a request whose body stays idle longer than its receive timeout, so a batch
+ * is completed by {@link #flushIfExpired()} once it is open longer than {@code batchIntervalMs},
+ * even when it is not full yet. The methods which touch the current batch are synchronized, as
+ * {@link #flushIfExpired()} is called by a timer.
+ */
+@Slf4j
+public class RowBinaryShardInserter {
+
+    private static final int CHUNK_SIZE = 64 * 1024;
+
+    private final URL url;
+    private final String username;
+    private final String password;
+    private final int connectTimeoutMs;
+    private final int socketTimeoutMs;
+    private final RowBinaryEncoder encoder;
+    private final Executor executor;
+    private final int maxInFlight;
+    private final long batchIntervalNanos;
+    private final Semaphore inFlight;
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+    private final RowBinaryOutput rowOutput = new RowBinaryOutput();
+
+    private HttpURLConnection batchConnection;
+    private OutputStream batchStream;
+    private int batchRows;
+    private long batchStartNanos;
+
+    public RowBinaryShardInserter(
+            String host,
+            int port,
+            String database,
+            String table,
+            String username,
+            String password,
+            int connectTimeoutMs,
+            int socketTimeoutMs,
+            RowBinaryEncoder encoder,
+            Executor executor,
+            int maxInFlight,
+            long batchIntervalMs)
+            throws IOException {
+        String query =
+                String.format(
+                        "INSERT INTO %s.%s (%s) FORMAT RowBinary",
+                        quoteIdentifier(database),
+                        quoteIdentifier(table),
+                        Arrays.stream(encoder.getColumns())
+                                .map(RowBinaryShardInserter::quoteIdentifier)
+                                .collect(Collectors.joining(", ")));
+        this.url =
+                new URL(
+                        "http",
+                        host,
+                        port,
+                        "/?query=" + URLEncoder.encode(query, StandardCharsets.UTF_8.name()));
+        this.username = username;
+        this.password = password;
+        this.connectTimeoutMs = connectTimeoutMs;
+        this.socketTimeoutMs = socketTimeoutMs;
+        this.encoder = encoder;
+        this.executor = executor;
+        this.maxInFlight = maxInFlight;
+        this.inFlight = new Semaphore(maxInFlight);
+        this.batchIntervalNanos = TimeUnit.MILLISECONDS.toNanos(batchIntervalMs);
+    }
+
+    public synchronized void write(SeaTunnelRow row) throws IOException {
+        checkFailure();
+        rowOutput.reset();
+        encoder.encode(row, rowOutput);
+        if (batchStream == null) {
+            startBatch();
+        }
+        try {
+            rowOutput.writeTo(batchStream);
+        } catch (IOException e) {
+            abortBatch();
+            throw e;
+        }
+        batchRows++;
+    }
+
+    public synchronized int getBatchRows() {
+        return batchRows;
+    }
+
+    /** Completes the current batch, its response is read on the executor. */
+    public synchronized void flush() throws IOException {
+        checkFailure();
+        if (batchRows == 0) {
+            return;
+        }
+        HttpURLConnection connection = batchConnection;
+        int rows = batchRows;
+        try {
+            // finishes the gzip stream and sends the last chunk
+            batchStream.close();
+        } catch (IOException e) {
+            abortBatch();
+            throw e;
+        }
+        batchConnection = null;
+        batchStream = null;
+        batchRows = 0;
+        try {
+            executor.execute(
+                    () -> {
+                        try {
+                            readResponse(connection, rows);
+                        } catch (Throwable t) {
+                            failure.compareAndSet(null, t);
+                            connection.disconnect();
+                        } finally {
+                            inFlight.release();
+                        }
+                    });
+        } catch (RuntimeException e) {
+            connection.disconnect();
+            inFlight.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Completes the current batch if it is open longer than the batch interval. A failure is
+     * reported by the next call on the writer thread.
+     */
+    public synchronized void flushIfExpired() {
+        if (batchRows == 0 || System.nanoTime() - batchStartNanos < batchIntervalNanos) {
+            return;
+        }
+        try {
+            flush();
+        } catch (Throwable t) {
+            failure.compareAndSet(null, t);
+        }
+    }
+
+    /** Waits until all flushed batches are inserted, and fails if any of them failed. */
+    public synchronized void await() throws IOException {
+        acquire(maxInFlight);
+        inFlight.release(maxInFlight);
+        checkFailure();
+    }
+
+    private void startBatch() throws IOException {
+        acquire(1);
+        HttpURLConnection connection = null;
+        try {
+            connection = (HttpURLConnection) url.openConnection();
+            connection.setConnectTimeout(connectTimeoutMs);
+            connection.setReadTimeout(socketTimeoutMs);
+            connection.setRequestMethod("POST");
+            connection.setDoOutput(true);
+            connection.setChunkedStreamingMode(CHUNK_SIZE);
+            connection.setRequestProperty("Content-Encoding", "gzip");
+            connection.setRequestProperty("Content-Type", "application/octet-stream");
+            if (username != null) {
+                connection.setRequestProperty("X-ClickHouse-User", username);
+                connection.setRequestProperty("X-ClickHouse-Key", password);
+            }
+            batchStream = new GZIPOutputStream(connection.getOutputStream(), CHUNK_SIZE);
+            batchConnection = connection;
+            batchStartNanos = System.nanoTime();
+        } catch (IOException | RuntimeException e) {
+            if (connection != null) {
+                connection.disconnect();
+            }
+            inFlight.release();
+            throw e;
+        }
+    }
+
+    private void abortBatch() {
+        if (batchConnection == null) {
+            return;
+        }
+        batchConnection.disconnect();
+        batchConnection = null;
+        batchStream = null;
+        batchRows = 0;
+        inFlight.release();
+    }
+
+    private void readResponse(HttpURLConnection connection, int rows) throws IOException {
+        int responseCode = connection.getResponseCode();
+        if (responseCode != HttpURLConnection.HTTP_OK) {
+            String message;
+            try (InputStream errorStream = connection.getErrorStream()) {
+                message =
+                        errorStream == null
+                                ? ""
+                                : IOUtils.toString(errorStream, StandardCharsets.UTF_8);
+            }
+            throw new IOException(
+                    String.format(
+                            "Insert of %d rows into %s failed with HTTP %d: %s",
+                            rows, url.getHost(), responseCode, message.trim()));
+        }
+        // read the response to the end, so that the connection is kept alive for the next insert
+        try (InputStream inputStream = connection.getInputStream()) {
+            IOUtils.toByteArray(inputStream);
+        }
+        log.debug("Inserted {} rows into {}", rows, url.getHost());
+    }
+
+    private void acquire(int permits) throws IOException {
+        try {
+            inFlight.acquire(permits);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for in-flight inserts", e);
+        }
+    }
+
+    private void checkFailure() {
+        Throwable cause = failure.get();
+        if (cause != null) {
+            abortBatch();
+            throw new ClickhouseConnectorException(
+                    CommonErrorCodeDeprecated.FLUSH_DATA_FAILED,
+                    "Clickhouse RowBinary insert error",
+                    cause);
+        }
+    }
+
+    private static String quoteIdentifier(String identifier) {
+        return "`" + identifier.replace("\\", "\\\\").replace("`", "\\`") + "`";
+    }
+}
@@ -0,0 +1,325 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.client.binary;
+
+import org.apache.seatunnel.api.table.type.ArrayType;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.LocalTimeType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.exception.ClickhouseConnectorException;
+
+import org.apache.commons.io.IOUtils;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.net.URLDecoder;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+public class RowBinaryShardInserterTest {
+
+    private static final SeaTunnelRowType ROW_TYPE =
+            new SeaTunnelRowType(
+                    new String[] {"id", "name", "ignored", "tags", "amount", "created"},
+                    new SeaTunnelDataType<?>[] {
+                        BasicType.LONG_TYPE,
+                        BasicType.STRING_TYPE,
+                        BasicType.INT_TYPE,
+                        ArrayType.STRING_ARRAY_TYPE,
+                        new DecimalType(10, 2),
+                        LocalTimeType.LOCAL_DATE_TIME_TYPE
+                    });
+
+    private final List<String> queries = new CopyOnWriteArrayList<>();
+    private final List<byte[]> bodies = new CopyOnWriteArrayList<>();
+    private final List<String> transferEncodings = new CopyOnWriteArrayList<>();
+    private final AtomicInteger concurrentRequests = new AtomicInteger();
+    private final AtomicInteger maxConcurrentRequests = new AtomicInteger();
+    private volatile int responseCode = 200;
+    private volatile long responseDelayMillis = 50;
+    private HttpServer server;
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext(
+                "/",
+                exchange -> {
+                    int concurrent = concurrentRequests.incrementAndGet();
+                    maxConcurrentRequests.accumulateAndGet(concurrent, Math::max);
+                    try {
+                        queries.add(
+                                URLDecoder.decode(
+                                        exchange.getRequestURI().getRawQuery(),
+                                        StandardCharsets.UTF_8.name()));
+                        Assertions.assertEquals(
+                                "gzip", exchange.getRequestHeaders().getFirst("Content-Encoding"));
+                        Assertions.assertEquals(
+                                "default",
+                                exchange.getRequestHeaders().getFirst("X-ClickHouse-User"));
+                        transferEncodings.add(
+                                String.valueOf(
+                                        exchange.getRequestHeaders()
+                                                .getFirst("Transfer-Encoding")));
+                        try (InputStream body = new GZIPInputStream(exchange.getRequestBody())) {
+                            bodies.add(IOUtils.toByteArray(body));
+                        }
+                        Thread.sleep(responseDelayMillis);
+                        byte[] response =
+                                responseCode == 200
+                                        ? new byte[0]
+                                        : "Code: 60. DB::Exception: Table does not exist"
+                                                .getBytes(StandardCharsets.UTF_8);
+                        exchange.sendResponseHeaders(responseCode, response.length);
+                        try (OutputStream outputStream = exchange.getResponseBody()) {
+                            outputStream.write(response);
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        concurrentRequests.decrementAndGet();
+                    }
+                });
+        server.start();
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    public void stopServer() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testEncodeRow() {
+        RowBinaryEncoder encoder = createEncoder();
+        Assertions.assertArrayEquals(
+                new String[] {"id", "name", "tags", "amount", "created"}, encoder.getColumns());
+
+        RowBinaryOutput output = new RowBinaryOutput();
+        encoder.encode(row(1L, "ab"), output);
+        encoder.encode(row(2L, null), output);
+
+        Assertions.assertArrayEquals(
+                concat(expectedRow(1L, "ab"), expectedRow(2L, null)), output.toByteArray());
+    }
+
+    @Test
+    public void testEncodeTypes() {
+        ZoneId utc = ZoneId.of("UTC");
+        Assertions.assertArrayEquals(
+                new byte[] {-1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1},
+                encode("Int128", -1L, utc));
+        Assertions.assertArrayEquals(
+                new byte[] {2}, encode("Enum8('a' = 1, 'b,\\'' = 2)", "b,'", utc));
+        Assertions.assertArrayEquals(new byte[] {0x61, 0, 0}, encode("FixedString(3)", "a", utc));
+        Assertions.assertArrayEquals(
+                new byte[] {1, 0, 0, 2, 0, 0, 0},
+                encode("Map(String, Nullable(UInt32))", singletonMap("", 2), utc));
+        Assertions.assertArrayEquals(new byte[] {(byte) 0xAC, 0x02}, varInt(300));
+        Assertions.assertThrows(
+                ClickhouseConnectorException.class,
+                () -> RowBinaryEncoder.createWriter("AggregateFunction(sum, Int32)", utc));
+    }
+
+    @Test
+    public void testInsertBatches() throws IOException {
+        RowBinaryShardInserter inserter = createInserter(2);
+        for (long id = 0; id < 6; id++) {
+            inserter.write(row(id, "name"));
+            if (inserter.getBatchRows() == 2) {
+                inserter.flush();
+            }
+        }
+        inserter.await();
+
+        Assertions.assertEquals(3, bodies.size());
+        Assertions.assertTrue(maxConcurrentRequests.get() <= 2, maxConcurrentRequests::toString);
+        Assertions.assertEquals(
+                "query=INSERT INTO `db`.`events` (`id`, `name`, `tags`, `amount`, `created`) FORMAT RowBinary",
+                queries.get(0));
+        int totalBytes = bodies.stream().mapToInt(body -> body.length).sum();
+        Assertions.assertEquals(6 * expectedRow(0L, "name").length, totalBytes);
+        // the batches are streamed, not buffered to send them with a content length
+        Assertions.assertTrue(
+                transferEncodings.stream().allMatch("chunked"::equalsIgnoreCase),
+                transferEncodings::toString);
+    }
+
+    @Test
+    public void testFlushExpiredBatch() throws Exception {
+        RowBinaryShardInserter inserter = createInserter(1, 10000, 100);
+        inserter.write(row(1L, "name"));
+        inserter.flushIfExpired();
+        Assertions.assertEquals(1, inserter.getBatchRows());
+
+        Thread.sleep(150);
+        inserter.flushIfExpired();
+        Assertions.assertEquals(0, inserter.getBatchRows());
+        inserter.await();
+        Assertions.assertEquals(1, bodies.size());
+        Assertions.assertArrayEquals(expectedRow(1L, "name"), bodies.get(0));
+    }
+
+    @Test
+    public void testReportTimedOutInsert() throws IOException {
+        responseDelayMillis = 2000;
+        RowBinaryShardInserter inserter = createInserter(1, 200);
+        inserter.write(row(1L, "name"));
+        inserter.flush();
+        ClickhouseConnectorException exception =
+                Assertions.assertThrows(ClickhouseConnectorException.class, inserter::await);
+        Assertions.assertInstanceOf(SocketTimeoutException.class, exception.getCause());
+    }
+
+    @Test
+    public void testReportFailedInsert() throws IOException {
+        responseCode = 500;
+        RowBinaryShardInserter inserter = createInserter(1);
+        inserter.write(row(1L, "name"));
+        inserter.flush();
+        ClickhouseConnectorException exception =
+                Assertions.assertThrows(ClickhouseConnectorException.class, inserter::await);
+        Assertions.assertTrue(
+                exception.getCause().getMessage().contains("Table does not exist"),
+                exception.getCause().getMessage());
+    }
+
+    private RowBinaryShardInserter createInserter(int maxInFlight) throws IOException {
+        return createInserter(maxInFlight, 10000);
+    }
+
+    private RowBinaryShardInserter createInserter(int maxInFlight, int socketTimeoutMs)
+            throws IOException {
+        return createInserter(maxInFlight, socketTimeoutMs, 60000);
+    }
+
+    private RowBinaryShardInserter createInserter(
+            int maxInFlight, int socketTimeoutMs, long batchIntervalMs) throws IOException {
+        return new RowBinaryShardInserter(
+                "localhost",
+                server.getAddress().getPort(),
+                "db",
+                "events",
+                "default",
+                "",
+                1000,
+                socketTimeoutMs,
+                createEncoder(),
+                executor,
+                maxInFlight,
+                batchIntervalMs);
+    }
+
+    private static RowBinaryEncoder createEncoder() {
+        Map<String, String> tableSchema = new HashMap<>();
+        tableSchema.put("id", "Int64");
+        tableSchema.put("name", "Nullable(String)");
+        tableSchema.put("tags", "Array(LowCardinality(String))");
+        tableSchema.put("amount", "Decimal(10, 2)");
+        tableSchema.put("created", "DateTime64(3, 'UTC')");
+        tableSchema.put("not_written", "String");
+        return new RowBinaryEncoder(ROW_TYPE, tableSchema, ZoneId.of("Asia/Shanghai"));
+    }
+
+    private static SeaTunnelRow row(long id, String name) {
+        return new SeaTunnelRow(
+                new Object[] {
+                    id,
+                    name,
+                    7,
+                    new String[] {"x", "yz"},
+                    new BigDecimal("12.345"),
+                    LocalDateTime.of(2024, 1, 2, 3, 4, 5, 6_000_000)
+                });
+    }
+
+    private static byte[] expectedRow(long id, String name) {
+        ByteBuffer buffer = ByteBuffer.allocate(64).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putLong(id);
+        if (name == null) {
+            buffer.put((byte) 1);
+        } else {
+            buffer.put((byte) 0)
+                    .put((byte) name.length())
+                    .put(name.getBytes(StandardCharsets.UTF_8));
+        }
+        buffer.put((byte) 2).put((byte) 1).put((byte) 'x').put((byte) 2).put("yz".getBytes());
+        // Decimal(10, 2) is a Decimal64, 12.345 is rounded half up to the scale of 2
+        buffer.putLong(1235);
+        // 2024-01-02T03:04:05.006 UTC in milliseconds
+        buffer.putLong(1704164645006L);
+        byte[] bytes = new byte[buffer.position()];
+        buffer.flip();
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    private static byte[] encode(String type, Object value, ZoneId zoneId) {
+        RowBinaryOutput output = new RowBinaryOutput();
+        RowBinaryEncoder.createWriter(type, zoneId).write(output, value);
+        return output.toByteArray();
+    }
+
+    private static byte[] varInt(long value) {
+        RowBinaryOutput output = new RowBinaryOutput();
+        output.writeVarInt(value);
+        return output.toByteArray();
+    }
+
+    private static Map<String, Integer> singletonMap(String key, Integer value) {
+        Map<String, Integer> map = new HashMap<>();
+        map.put(key, value);
+        return map;
+    }
+
+    private static byte[] concat(byte[] first, byte[] second) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        outputStream.write(first, 0, first.length);
+        outputStream.write(second, 0, second.length);
+        return outputStream.toByteArray();
+    }
+}
@@ -79,6 +79,7 @@ public abstract class SourceReaderBase<E, T, SplitT extends SourceSplit, SplitSt
         this.splitStates = new ConcurrentHashMap<>();
         this.options = options;
         this.context = context;
+        splitFetcherManager.setElementsAvailableHook(context::signalDataAvailable);
     }
 
     @Override
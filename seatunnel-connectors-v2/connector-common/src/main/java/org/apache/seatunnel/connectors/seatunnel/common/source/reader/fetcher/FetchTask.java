@@ -40,6 +40,7 @@ class FetchTask<E, SplitT extends SourceSplit> implements SplitFetcherTask {
     private final SplitReader<E, SplitT> splitReader;
     private final BlockingQueue<RecordsWithSplitIds<E>> elementsQueue;
     private final Consumer<Collection<String>> splitFinishedCallback;
+    private final Runnable elementsAvailableCallback;
     private final int fetcherIndex;
 
     @Getter(value = AccessLevel.PRIVATE)
@@ -61,6 +62,7 @@ class FetchTask<E, SplitT extends SourceSplit> implements SplitFetcherTask {
                         splitFinishedCallback.accept(lastRecords.finishedSplits());
                     }
                     lastRecords = null;
+                    elementsAvailableCallback.run();
                     log.debug("Enqueued records from split fetcher {}", fetcherIndex);
                 } else {
                     log.debug(
@@ -57,7 +57,8 @@ public class SplitFetcher<E, SplitT extends SourceSplit> implements Runnable {
             @NonNull SplitReader<E, SplitT> splitReader,
             @NonNull Consumer<Throwable> errorHandler,
             @NonNull Runnable shutdownHook,
-            @NonNull Consumer<Collection<String>> splitFinishedHook) {
+            @NonNull Consumer<Collection<String>> splitFinishedHook,
+            @NonNull Runnable elementsAvailableHook) {
         this.fetcherId = fetcherId;
         this.splitReader = splitReader;
         this.errorHandler = errorHandler;
@@ -71,6 +72,7 @@ public class SplitFetcher<E, SplitT extends SourceSplit> implements Runnable {
                             splitFinishedHook.accept(finishedSplits);
                             log.info("Finished reading from splits {}", finishedSplits);
                         },
+                        elementsAvailableHook,
                         fetcherId);
     }
 
@@ -55,6 +55,7 @@ public abstract class SplitFetcherManager<E, SplitT extends SourceSplit> {
     private final AtomicReference<Throwable> uncaughtFetcherException;
     private final Consumer<Throwable> errorHandler;
     private final ExecutorService executors;
+    private volatile Runnable elementsAvailableHook = () -> {};
     private volatile boolean closed;
 
     public SplitFetcherManager(
@@ -89,6 +90,11 @@ public abstract class SplitFetcherManager<E, SplitT extends SourceSplit> {
 
     public abstract void addSplits(Collection<SplitT> splitsToAdd);
 
+    /** Sets the hook which is called whenever a fetcher enqueued records. */
+    public void setElementsAvailableHook(Runnable elementsAvailableHook) {
+        this.elementsAvailableHook = elementsAvailableHook;
+    }
+
     protected void startFetcher(SplitFetcher<E, SplitT> fetcher) {
         executors.submit(fetcher);
     }
@@ -109,7 +115,8 @@ public abstract class SplitFetcherManager<E, SplitT extends SourceSplit> {
                         () -> {
                             fetchers.remove(fetcherId);
                         },
-                        this.splitFinishedHook);
+                        this.splitFinishedHook,
+                        () -> elementsAvailableHook.run());
         fetchers.put(fetcherId, splitFetcher);
         return splitFetcher;
     }
@@ -51,6 +51,7 @@ import org.apache.http.util.EntityUtils;
 
 import org.elasticsearch.client.Request;
 import org.elasticsearch.client.Response;
+import org.elasticsearch.client.ResponseException;
 import org.elasticsearch.client.RestClient;
 import org.elasticsearch.client.RestClientBuilder;
 
@@ -61,6 +62,7 @@ import javax.net.ssl.SSLContext;
 import java.io.Closeable;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -83,6 +85,8 @@ public class EsRestClient implements Closeable {
 
     private static final int SOCKET_TIMEOUT = 5 * 60 * 1000;
 
+    private static final int TOO_MANY_REQUESTS = 429;
+
     private final RestClient restClient;
 
     private EsRestClient(RestClient restClient) {
@@ -220,7 +224,13 @@ public class EsRestClient implements Closeable {
                 JsonNode json = objectMapper.readTree(entity);
                 int took = json.get("took").asInt();
                 boolean errors = json.get("errors").asBoolean();
-                return new BulkResponse(errors, took, entity);
+                List<Integer> itemStatuses =
+                        errors ? getItemStatuses(json) : Collections.emptyList();
+                return new BulkResponse(errors, took, entity, itemStatuses);
+            } else if (response.getStatusLine().getStatusCode() == TOO_MANY_REQUESTS) {
+                throw new ElasticsearchConnectorException(
+                        ElasticsearchConnectorErrorCode.BULK_TOO_MANY_REQUESTS,
+                        "bulk es response status code=" + TOO_MANY_REQUESTS);
             } else {
                 throw new ElasticsearchConnectorException(
                         ElasticsearchConnectorErrorCode.BULK_RESPONSE_ERROR,
@@ -229,6 +239,15 @@ public class EsRestClient implements Closeable {
                                 response.getStatusLine().getStatusCode(), requestBody));
             }
         } catch (IOException e) {
+            // the rest client throws a ResponseException for every status code except 2xx
+            if (e instanceof ResponseException
+                    && ((ResponseException) e).getResponse().getStatusLine().getStatusCode()
+                            == TOO_MANY_REQUESTS) {
+                throw new ElasticsearchConnectorException(
+                        ElasticsearchConnectorErrorCode.BULK_TOO_MANY_REQUESTS,
+                        "bulk es response status code=" + TOO_MANY_REQUESTS,
+                        e);
+            }
             throw new ElasticsearchConnectorException(
                     ElasticsearchConnectorErrorCode.BULK_RESPONSE_ERROR,
                     String.format("bulk es error,request boy=%s", requestBody),
@@ -236,6 +255,19 @@ public class EsRestClient implements Closeable {
         }
     }
 
+    private static List<Integer> getItemStatuses(JsonNode json) {
+        List<Integer> itemStatuses = new ArrayList<>();
+        JsonNode items = json.get("items");
+        if (items != null) {
+            for (JsonNode item : items) {
+                // every item has a single field named by its action, e.g. index or delete
+                JsonNode result = item.elements().next();
+                itemStatuses.add(result.get("status").asInt());
+            }
+        }
+        return itemStatuses;
+    }
+
     public ElasticsearchClusterInfo getClusterInfo() {
         Request request = new Request("GET", "/");
         try {
@@ -64,6 +64,19 @@ public class SinkConfig {
                     .defaultValue(10)
                     .withDescription("batch bulk doc max size");
 
+    public static final Option<Long> MAX_BATCH_BYTES =
+            Options.key("max_batch_bytes")
+                    .longType()
+                    .defaultValue(5L * 1024 * 1024)
+                    .withDescription("batch bulk request max size in bytes");
+
+    public static final Option<Integer> MAX_IN_FLIGHT_BULKS =
+            Options.key("max_in_flight_bulks")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "max number of concurrent bulk requests of one writer, the writer blocks while all of them are running");
+
     public static final Option<Integer> MAX_RETRY_COUNT =
             Options.key("max_retry_count")
                     .intType()
@@ -17,12 +17,17 @@
 
 package org.apache.seatunnel.connectors.seatunnel.elasticsearch.dto;
 
+import java.util.Collections;
+import java.util.List;
+
 /** the response of bulk ES by http request */
 public class BulkResponse {
 
     private boolean errors;
     private int took;
     private String response;
+    /** The status of every item in the order of the request, only parsed if there are errors. */
+    private List<Integer> itemStatuses = Collections.emptyList();
 
     public BulkResponse() {}
 
@@ -32,6 +37,11 @@ public class BulkResponse {
         this.response = response;
     }
 
+    public BulkResponse(boolean errors, int took, String response, List<Integer> itemStatuses) {
+        this(errors, took, response);
+        this.itemStatuses = itemStatuses;
+    }
+
     public boolean isErrors() {
         return errors;
     }
@@ -55,4 +65,12 @@ public class BulkResponse {
     public void setResponse(String response) {
         this.response = response;
     }
+
+    public List<Integer> getItemStatuses() {
+        return itemStatuses;
+    }
+
+    public void setItemStatuses(List<Integer> itemStatuses) {
+        this.itemStatuses = itemStatuses;
+    }
 }
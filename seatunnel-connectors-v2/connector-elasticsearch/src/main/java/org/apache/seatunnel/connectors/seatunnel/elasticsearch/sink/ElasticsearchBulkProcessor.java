@@ -0,0 +1,273 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.elasticsearch.sink;
+
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.JsonNode;
+
+import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
+import org.apache.seatunnel.common.utils.JsonUtils;
+import org.apache.seatunnel.common.utils.RetryUtils.RetryMaterial;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.client.EsRestClient;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.dto.BulkResponse;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.exception.ElasticsearchConnectorErrorCode;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.exception.ElasticsearchConnectorException;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Sends the bulk requests of a {@link ElasticsearchSinkWriter}.
+ *
+ * <p>With one in-flight bulk the requests are sent by the writer thread. Otherwise they are sent by
+ * a pool of threads, and {@link #submit(List)} blocks while all of them are busy. Only the failed
+ * items of a bulk are retried, along with the later items of the same documents. Bulks with items
+ * or a whole request rejected with {@code 429 Too Many Requests} are retried with an exponential
+ * backoff.
+ */
+@Slf4j
+class ElasticsearchBulkProcessor {
+
+    static final int TOO_MANY_REQUESTS = 429;
+
+    private static final long DEFAULT_SLEEP_TIME_MS = 200L;
+
+    private final EsRestClient esRestClient;
+    private final int maxInFlightBulks;
+    private final RetryMaterial retryMaterial;
+    private final RetryMaterial throttledRetryMaterial;
+    private final ExecutorService bulkExecutor;
+
+    private final Object inFlightLock = new Object();
+    private int inFlightBulks;
+    private volatile Exception bulkException;
+
+    ElasticsearchBulkProcessor(EsRestClient esRestClient, int maxRetryCount, int maxInFlightBulks) {
+        this.esRestClient = esRestClient;
+        this.maxInFlightBulks = Math.max(1, maxInFlightBulks);
+        this.retryMaterial =
+                new RetryMaterial(maxRetryCount, true, exception -> true, DEFAULT_SLEEP_TIME_MS);
+        this.throttledRetryMaterial =
+                new RetryMaterial(
+                        maxRetryCount, true, exception -> true, DEFAULT_SLEEP_TIME_MS, true);
+        this.bulkExecutor =
+                this.maxInFlightBulks == 1
+                        ? null
+                        : Executors.newFixedThreadPool(
+                                this.maxInFlightBulks,
+                                new ThreadFactoryBuilder()
+                                        .setNameFormat("elasticsearch-bulk-%d")
+                                        .setDaemon(true)
+                                        .build());
+    }
+
+    /** Sends the requests, it blocks until a bulk can be started. */
+    void submit(List<String> requests) {
+        checkBulkException();
+        if (requests.isEmpty()) {
+            return;
+        }
+        if (bulkExecutor == null) {
+            bulkWithRetry(requests);
+            return;
+        }
+        synchronized (inFlightLock) {
+            while (inFlightBulks >= maxInFlightBulks) {
+                waitForBulks();
+                checkBulkException();
+            }
+            inFlightBulks++;
+        }
+        bulkExecutor.execute(
+                () -> {
+                    try {
+                        if (bulkException == null) {
+                            bulkWithRetry(requests);
+                        }
+                    } catch (Exception e) {
+                        log.error("Bulk of {} requests failed.", requests.size(), e);
+                        bulkException = e;
+                    } finally {
+                        synchronized (inFlightLock) {
+                            inFlightBulks--;
+                            inFlightLock.notifyAll();
+                        }
+                    }
+                });
+    }
+
+    /** Waits until all in-flight bulks are finished. */
+    void flush() {
+        synchronized (inFlightLock) {
+            while (inFlightBulks > 0) {
+                waitForBulks();
+            }
+        }
+        checkBulkException();
+    }
+
+    void close() {
+        try {
+            flush();
+        } finally {
+            if (bulkExecutor != null) {
+                bulkExecutor.shutdownNow();
+            }
+        }
+    }
+
+    private void waitForBulks() {
+        try {
+            inFlightLock.wait();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ElasticsearchConnectorException(
+                    CommonErrorCodeDeprecated.SQL_OPERATION_FAILED,
+                    "Interrupted while waiting for the ElasticSearch bulk requests",
+                    e);
+        }
+    }
+
+    private void checkBulkException() {
+        if (bulkException != null) {
+            throw new ElasticsearchConnectorException(
+                    CommonErrorCodeDeprecated.SQL_OPERATION_FAILED,
+                    "ElasticSearch execute batch statement error",
+                    bulkException);
+        }
+    }
+
+    private void bulkWithRetry(List<String> requests) {
+        List<String> pendingRequests = requests;
+        for (int attempt = 1; ; attempt++) {
+            boolean lastAttempt = attempt >= retryMaterial.getRetryTimes();
+            BulkResponse bulkResponse;
+            try {
+                bulkResponse = esRestClient.bulk(String.join("\n", pendingRequests) + "\n");
+            } catch (RuntimeException e) {
+                if (lastAttempt) {
+                    throw new ElasticsearchConnectorException(
+                            CommonErrorCodeDeprecated.SQL_OPERATION_FAILED,
+                            "ElasticSearch execute batch statement error",
+                            e);
+                }
+                boolean throttled = isThrottled(e);
+                log.warn(
+                        "Bulk es {}, retrying attempt ({}/{}).",
+                        throttled ? "was throttled" : "failed",
+                        attempt,
+                        retryMaterial.getRetryTimes(),
+                        e);
+                sleep(retryWaitTimeMillis(attempt, throttled));
+                continue;
+            }
+            if (!bulkResponse.isErrors()) {
+                return;
+            }
+            if (lastAttempt) {
+                throw new ElasticsearchConnectorException(
+                        ElasticsearchConnectorErrorCode.BULK_RESPONSE_ERROR,
+                        "bulk es error: " + bulkResponse.getResponse());
+            }
+            List<Integer> itemStatuses = bulkResponse.getItemStatuses();
+            boolean throttled = false;
+            if (itemStatuses.size() == pendingRequests.size()) {
+                for (int status : itemStatuses) {
+                    throttled |= status == TOO_MANY_REQUESTS;
+                }
+                pendingRequests = requestsToRetry(pendingRequests, itemStatuses);
+                if (pendingRequests.isEmpty()) {
+                    return;
+                }
+            }
+            log.warn(
+                    "Bulk es has {} failed items, retrying attempt ({}/{}).",
+                    pendingRequests.size(),
+                    attempt,
+                    retryMaterial.getRetryTimes());
+            sleep(retryWaitTimeMillis(attempt, throttled));
+        }
+    }
+
+    /**
+     * Returns the failed requests in their original order, together with the later requests which
+     * write a document of a failed request. Resending only the failed request would let it
+     * overwrite the result of a later write of the same document.
+     */
+    static List<String> requestsToRetry(List<String> requests, List<Integer> itemStatuses) {
+        List<String> retryRequests = new ArrayList<>();
+        Set<String> failedDocuments = new HashSet<>();
+        for (int i = 0; i < requests.size(); i++) {
+            String request = requests.get(i);
+            String document = documentKey(request);
+            if (itemStatuses.get(i) >= 300) {
+                retryRequests.add(request);
+                if (document != null) {
+                    failedDocuments.add(document);
+                }
+            } else if (document != null && failedDocuments.contains(document)) {
+                retryRequests.add(request);
+            }
+        }
+        return retryRequests;
+    }
+
+    /** Returns the index and id of the document, or null if the request has no document id. */
+    private static String documentKey(String request) {
+        int lineEnd = request.indexOf('\n');
+        String actionLine = lineEnd < 0 ? request : request.substring(0, lineEnd);
+        JsonNode metadata;
+        try {
+            metadata = JsonUtils.parseObject(actionLine).elements().next();
+        } catch (RuntimeException e) {
+            return null;
+        }
+        JsonNode id = metadata.get("_id");
+        return id == null ? null : metadata.path("_index").asText() + "/" + id.asText();
+    }
+
+    long retryWaitTimeMillis(int attempt, boolean throttled) {
+        return throttled
+                ? throttledRetryMaterial.computeRetryWaitTimeMillis(attempt)
+                : retryMaterial.computeRetryWaitTimeMillis(attempt);
+    }
+
+    private static boolean isThrottled(RuntimeException e) {
+        return e instanceof ElasticsearchConnectorException
+                && ((ElasticsearchConnectorException) e).getSeaTunnelErrorCode()
+                        == ElasticsearchConnectorErrorCode.BULK_TOO_MANY_REQUESTS;
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ElasticsearchConnectorException(
+                    CommonErrorCodeDeprecated.SQL_OPERATION_FAILED,
+                    "Interrupted while retrying the ElasticSearch bulk request",
+                    e);
+        }
+    }
+}
@@ -23,14 +23,9 @@ import org.apache.seatunnel.api.sink.SupportMultiTableSinkWriter;
 import org.apache.seatunnel.api.table.catalog.CatalogTable;
 import org.apache.seatunnel.api.table.type.RowKind;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
-import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
-import org.apache.seatunnel.common.utils.RetryUtils;
-import org.apache.seatunnel.common.utils.RetryUtils.RetryMaterial;
 import org.apache.seatunnel.connectors.seatunnel.elasticsearch.client.EsRestClient;
-import org.apache.seatunnel.connectors.seatunnel.elasticsearch.dto.BulkResponse;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.config.SinkConfig;
 import org.apache.seatunnel.connectors.seatunnel.elasticsearch.dto.IndexInfo;
-import org.apache.seatunnel.connectors.seatunnel.elasticsearch.exception.ElasticsearchConnectorErrorCode;
-import org.apache.seatunnel.connectors.seatunnel.elasticsearch.exception.ElasticsearchConnectorException;
 import org.apache.seatunnel.connectors.seatunnel.elasticsearch.serialize.ElasticsearchRowSerializer;
 import org.apache.seatunnel.connectors.seatunnel.elasticsearch.serialize.SeaTunnelRowSerializer;
 import org.apache.seatunnel.connectors.seatunnel.elasticsearch.state.ElasticsearchCommitInfo;
@@ -55,11 +50,13 @@ public class ElasticsearchSinkWriter
 
     private final int maxBatchSize;
 
+    private final long maxBatchBytes;
+
     private final SeaTunnelRowSerializer seaTunnelRowSerializer;
-    private final List<String> requestEsList;
+    private List<String> requestEsList;
+    private long requestEsBytes;
     private EsRestClient esRestClient;
-    private RetryMaterial retryMaterial;
-    private static final long DEFAULT_SLEEP_TIME_MS = 200L;
+    private final ElasticsearchBulkProcessor bulkProcessor;
 
     public ElasticsearchSinkWriter(
             Context context,
@@ -69,6 +66,7 @@ public class ElasticsearchSinkWriter
             int maxRetryCount) {
         this.context = context;
         this.maxBatchSize = maxBatchSize;
+        this.maxBatchBytes = config.get(SinkConfig.MAX_BATCH_BYTES);
 
         IndexInfo indexInfo = new IndexInfo(catalogTable.getTableId().getTableName(), config);
         esRestClient = EsRestClient.createInstance(config);
@@ -79,8 +77,15 @@ public class ElasticsearchSinkWriter
                         catalogTable.getSeaTunnelRowType());
 
         this.requestEsList = new ArrayList<>(maxBatchSize);
-        this.retryMaterial =
-                new RetryMaterial(maxRetryCount, true, exception -> true, DEFAULT_SLEEP_TIME_MS);
+        int maxInFlightBulks = config.get(SinkConfig.MAX_IN_FLIGHT_BULKS);
+        if (indexInfo.getPrimaryKeys() != null && maxInFlightBulks > 1) {
+            log.warn(
+                    "Upsert/delete by primary keys requires the bulks to be sent in order, ignore max_in_flight_bulks = {}.",
+                    maxInFlightBulks);
+            maxInFlightBulks = 1;
+        }
+        this.bulkProcessor =
+                new ElasticsearchBulkProcessor(esRestClient, maxRetryCount, maxInFlightBulks);
     }
 
     @Override
@@ -91,50 +96,56 @@ public class ElasticsearchSinkWriter
 
         String indexRequestRow = seaTunnelRowSerializer.serializeRow(element);
         requestEsList.add(indexRequestRow);
-        if (requestEsList.size() >= maxBatchSize) {
-            bulkEsWithRetry(this.esRestClient, this.requestEsList);
+        // one more byte for the line separator
+        requestEsBytes += utf8Length(indexRequestRow) + 1;
+        if (requestEsList.size() >= maxBatchSize || requestEsBytes >= maxBatchBytes) {
+            submitBulk();
         }
     }
 
     @Override
     public Optional<ElasticsearchCommitInfo> prepareCommit() {
-        bulkEsWithRetry(this.esRestClient, this.requestEsList);
+        // the checkpoint must not complete before all in-flight bulks succeeded
+        submitBulk();
+        bulkProcessor.flush();
         return Optional.empty();
     }
 
     @Override
     public void abortPrepare() {}
 
-    public synchronized void bulkEsWithRetry(
-            EsRestClient esRestClient, List<String> requestEsList) {
-        try {
-            RetryUtils.retryWithException(
-                    () -> {
-                        if (requestEsList.size() > 0) {
-                            String requestBody = String.join("\n", requestEsList) + "\n";
-                            BulkResponse bulkResponse = esRestClient.bulk(requestBody);
-                            if (bulkResponse.isErrors()) {
-                                throw new ElasticsearchConnectorException(
-                                        ElasticsearchConnectorErrorCode.BULK_RESPONSE_ERROR,
-                                        "bulk es error: " + bulkResponse.getResponse());
-                            }
-                            return bulkResponse;
-                        }
-                        return null;
-                    },
-                    retryMaterial);
-            requestEsList.clear();
-        } catch (Exception e) {
-            throw new ElasticsearchConnectorException(
-                    CommonErrorCodeDeprecated.SQL_OPERATION_FAILED,
-                    "ElasticSearch execute batch statement error",
-                    e);
+    private void submitBulk() {
+        if (requestEsList.isEmpty()) {
+            return;
         }
+        List<String> requests = requestEsList;
+        requestEsList = new ArrayList<>(maxBatchSize);
+        requestEsBytes = 0;
+        bulkProcessor.submit(requests);
+    }
+
+    private static int utf8Length(String value) {
+        int length = value.length();
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= 0x80) {
+                length++;
+            }
+            // a surrogate pair is encoded with 4 bytes
+            if (c >= 0x800 && !Character.isSurrogate(c)) {
+                length++;
+            }
+        }
+        return length;
     }
 
     @Override
     public void close() throws IOException {
-        bulkEsWithRetry(this.esRestClient, this.requestEsList);
-        esRestClient.close();
+        try {
+            submitBulk();
+            bulkProcessor.close();
+        } finally {
+            esRestClient.close();
+        }
     }
 }
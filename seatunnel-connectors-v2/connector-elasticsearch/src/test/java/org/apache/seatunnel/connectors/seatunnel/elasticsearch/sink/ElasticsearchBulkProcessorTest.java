@@ -0,0 +1,211 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.elasticsearch.sink;
+
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.client.EsRestClient;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.dto.BulkResponse;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.exception.ElasticsearchConnectorException;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ElasticsearchBulkProcessorTest {
+
+    @Test
+    public void testRetryFailedItemsOnly() {
+        EsRestClient esRestClient = Mockito.mock(EsRestClient.class);
+        Mockito.when(esRestClient.bulk(Mockito.anyString()))
+                .thenReturn(
+                        new BulkResponse(
+                                true,
+                                1,
+                                "{\"errors\":true}",
+                                Arrays.asList(
+                                        201,
+                                        ElasticsearchBulkProcessor.TOO_MANY_REQUESTS,
+                                        200,
+                                        503)))
+                .thenReturn(new BulkResponse(false, 1, "{\"errors\":false}"));
+        ElasticsearchBulkProcessor bulkProcessor =
+                new ElasticsearchBulkProcessor(esRestClient, 3, 1);
+
+        bulkProcessor.submit(Arrays.asList("a", "b", "c", "d"));
+        bulkProcessor.close();
+
+        ArgumentCaptor<String> requestBodies = ArgumentCaptor.forClass(String.class);
+        Mockito.verify(esRestClient, Mockito.times(2)).bulk(requestBodies.capture());
+        Assertions.assertEquals(
+                Arrays.asList("a\nb\nc\nd\n", "b\nd\n"), requestBodies.getAllValues());
+    }
+
+    @Test
+    public void testRetryLaterItemsOfFailedDocuments() {
+        String upsert1 =
+                "{ \"update\" :{\"_index\":\"users\",\"_id\":\"1\"} }\n{ \"doc\" :{\"age\":1}, \"doc_as_upsert\" : true }";
+        String upsert2 =
+                "{ \"update\" :{\"_index\":\"users\",\"_id\":\"2\"} }\n{ \"doc\" :{\"age\":2}, \"doc_as_upsert\" : true }";
+        String delete1 = "{ \"delete\" :{\"_index\":\"users\",\"_id\":\"1\"} }";
+        String deleteOther1 = "{ \"delete\" :{\"_index\":\"other\",\"_id\":\"1\"} }";
+        String insert = "{ \"index\" :{\"_index\":\"users\"} }\n{\"age\":3}";
+
+        // the delete of document 1 succeeded after its upsert failed, so both are sent again
+        Assertions.assertEquals(
+                Arrays.asList(upsert1, delete1),
+                ElasticsearchBulkProcessor.requestsToRetry(
+                        Arrays.asList(upsert1, upsert2, deleteOther1, delete1, insert),
+                        Arrays.asList(503, 200, 200, 200, 201)));
+        Assertions.assertEquals(
+                Arrays.asList(upsert2, insert),
+                ElasticsearchBulkProcessor.requestsToRetry(
+                        Arrays.asList(upsert1, upsert2, delete1, insert),
+                        Arrays.asList(200, 429, 200, 503)));
+    }
+
+    @Test
+    public void testBackOffWhenWholeBulkIsThrottled() throws IOException {
+        AtomicInteger bulks = new AtomicInteger();
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext(
+                "/_bulk",
+                exchange -> {
+                    byte[] response =
+                            (bulks.incrementAndGet() == 1
+                                            ? "{\"error\":\"es_rejected_execution_exception\"}"
+                                            : "{\"took\":1,\"errors\":false}")
+                                    .getBytes(StandardCharsets.UTF_8);
+                    exchange.getResponseHeaders().add("Content-Type", "application/json");
+                    exchange.sendResponseHeaders(
+                            bulks.get() == 1 ? ElasticsearchBulkProcessor.TOO_MANY_REQUESTS : 200,
+                            response.length);
+                    try (OutputStream outputStream = exchange.getResponseBody()) {
+                        outputStream.write(response);
+                    }
+                });
+        server.start();
+        try (EsRestClient esRestClient =
+                EsRestClient.createInstance(
+                        Collections.singletonList(
+                                "http://localhost:" + server.getAddress().getPort()),
+                        Optional.empty(),
+                        Optional.empty(),
+                        false,
+                        false,
+                        Optional.empty(),
+                        Optional.empty(),
+                        Optional.empty(),
+                        Optional.empty())) {
+            ElasticsearchBulkProcessor bulkProcessor =
+                    Mockito.spy(new ElasticsearchBulkProcessor(esRestClient, 3, 1));
+
+            bulkProcessor.submit(Collections.singletonList("a"));
+            bulkProcessor.close();
+
+            Assertions.assertEquals(2, bulks.get());
+            Mockito.verify(bulkProcessor).retryWaitTimeMillis(1, true);
+            Mockito.verify(bulkProcessor, Mockito.never())
+                    .retryWaitTimeMillis(Mockito.anyInt(), Mockito.eq(false));
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    public void testFailAfterMaxRetryCount() {
+        EsRestClient esRestClient = Mockito.mock(EsRestClient.class);
+        Mockito.when(esRestClient.bulk(Mockito.anyString()))
+                .thenReturn(
+                        new BulkResponse(
+                                true, 1, "{\"errors\":true}", Collections.singletonList(400)));
+        ElasticsearchBulkProcessor bulkProcessor =
+                new ElasticsearchBulkProcessor(esRestClient, 2, 1);
+
+        Assertions.assertThrows(
+                ElasticsearchConnectorException.class,
+                () -> bulkProcessor.submit(Collections.singletonList("a")));
+        Mockito.verify(esRestClient, Mockito.times(2)).bulk(Mockito.anyString());
+    }
+
+    @Test
+    public void testConcurrentBulks() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        EsRestClient esRestClient = Mockito.mock(EsRestClient.class);
+        Mockito.when(esRestClient.bulk(Mockito.anyString()))
+                .thenAnswer(
+                        invocation -> {
+                            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                            release.await();
+                            running.decrementAndGet();
+                            return new BulkResponse(false, 1, "{\"errors\":false}");
+                        });
+        ElasticsearchBulkProcessor bulkProcessor =
+                new ElasticsearchBulkProcessor(esRestClient, 3, 2);
+
+        bulkProcessor.submit(Collections.singletonList("a"));
+        bulkProcessor.submit(Collections.singletonList("b"));
+        // the third bulk waits until one of the running bulks is finished
+        CompletableFuture<Void> third =
+                CompletableFuture.runAsync(
+                        () -> bulkProcessor.submit(Collections.singletonList("c")));
+        Assertions.assertThrows(
+                TimeoutException.class, () -> third.get(200, TimeUnit.MILLISECONDS));
+
+        release.countDown();
+        third.get(10, TimeUnit.SECONDS);
+        bulkProcessor.flush();
+
+        Assertions.assertEquals(0, running.get());
+        Assertions.assertEquals(2, maxRunning.get());
+        Mockito.verify(esRestClient, Mockito.times(3)).bulk(Mockito.anyString());
+        bulkProcessor.close();
+    }
+
+    @Test
+    public void testFailedBulkFailsFlush() {
+        EsRestClient esRestClient = Mockito.mock(EsRestClient.class);
+        Mockito.when(esRestClient.bulk(Mockito.anyString()))
+                .thenThrow(new RuntimeException("connection refused"));
+        ElasticsearchBulkProcessor bulkProcessor =
+                new ElasticsearchBulkProcessor(esRestClient, 1, 2);
+
+        bulkProcessor.submit(Collections.singletonList("a"));
+        Assertions.assertThrows(ElasticsearchConnectorException.class, bulkProcessor::flush);
+        Assertions.assertThrows(
+                ElasticsearchConnectorException.class,
+                () -> bulkProcessor.submit(Collections.singletonList("b")));
+        Mockito.verify(esRestClient, Mockito.times(1)).bulk(Mockito.anyString());
+    }
+}
@@ -21,7 +21,9 @@ import org.apache.seatunnel.api.configuration.ReadonlyConfig;
 import org.apache.seatunnel.api.table.catalog.CatalogTable;
 import org.apache.seatunnel.api.table.catalog.CatalogTableUtil;
 import org.apache.seatunnel.api.table.catalog.Column;
+import org.apache.seatunnel.api.table.catalog.ConstraintKey;
 import org.apache.seatunnel.api.table.catalog.PhysicalColumn;
+import org.apache.seatunnel.api.table.catalog.PrimaryKey;
 import org.apache.seatunnel.api.table.catalog.TableSchema;
 import org.apache.seatunnel.api.table.catalog.schema.TableSchemaOptions;
 import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
@@ -37,6 +39,7 @@ import lombok.Getter;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -47,7 +50,7 @@ public abstract class BaseFileSourceConfig implements Serializable {
 
     private static final long serialVersionUID = 1L;
 
-    private final CatalogTable catalogTable;
+    private CatalogTable catalogTable;
     private final FileFormat fileFormat;
     private final ReadStrategy readStrategy;
     private final List<String> filePaths;
@@ -66,6 +69,19 @@ public abstract class BaseFileSourceConfig implements Serializable {
         this.catalogTable = parseCatalogTable(readonlyConfig);
     }
 
+    /**
+     * Projects the fields read from the files to the given fields, see {@link
+     * ReadStrategy#applyProjection(List)}.
+     */
+    public boolean applyProjection(List<String> fieldNames) {
+        if (!readStrategy.applyProjection(fieldNames)) {
+            return false;
+        }
+        this.catalogTable =
+                newCatalogTable(catalogTable, readStrategy.getActualSeaTunnelRowTypeInfo());
+        return true;
+    }
+
     private List<String> parseFilePaths(ReadonlyConfig readonlyConfig) {
         String rootPath = null;
         try {
@@ -133,11 +149,27 @@ public abstract class BaseFileSourceConfig implements Serializable {
             }
         }
 
+        List<String> finalFieldNames = Arrays.asList(fieldNames);
+        PrimaryKey primaryKey = tableSchema.getPrimaryKey();
+        if (primaryKey != null && !finalFieldNames.containsAll(primaryKey.getColumnNames())) {
+            primaryKey = null;
+        }
+        List<ConstraintKey> constraintKeys =
+                tableSchema.getConstraintKeys().stream()
+                        .filter(
+                                key ->
+                                        key.getColumnNames().stream()
+                                                .map(
+                                                        ConstraintKey.ConstraintKeyColumn
+                                                                ::getColumnName)
+                                                .allMatch(finalFieldNames::contains))
+                        .collect(Collectors.toList());
+
         TableSchema finalSchema =
                 TableSchema.builder()
                         .columns(finalColumns)
-                        .primaryKey(tableSchema.getPrimaryKey())
-                        .constraintKey(tableSchema.getConstraintKeys())
+                        .primaryKey(primaryKey)
+                        .constraintKey(constraintKeys)
                         .build();
 
         return CatalogTable.of(
@@ -170,6 +170,21 @@ public class BaseSourceConfigOptions {
                     .defaultValue(ArchiveCompressFormat.NONE)
                     .withDescription("Archive compression codec");
 
+    public static final Option<Boolean> ENABLE_FILE_SPLIT =
+            Options.key("enable_file_split")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to split large files into multiple splits so that they can be read in parallel, "
+                                    + "only valid for uncompressed text/csv/json files and for parquet/orc files.");
+
+    public static final Option<Long> FILE_SPLIT_SIZE =
+            Options.key("file_split_size")
+                    .longType()
+                    .defaultValue(128 * 1024 * 1024L)
+                    .withDescription(
+                            "The target size in bytes of each split when enable_file_split is true.");
+
     public static final Option<List<Map<String, Object>>> TABLE_CONFIGS =
             Options.key("tables_configs")
                     .type(new TypeReference<List<Map<String, Object>>>() {})
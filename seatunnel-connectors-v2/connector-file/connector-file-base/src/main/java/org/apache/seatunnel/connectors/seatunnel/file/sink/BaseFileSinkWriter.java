@@ -18,7 +18,9 @@
 package org.apache.seatunnel.connectors.seatunnel.file.sink;
 
 import org.apache.seatunnel.api.sink.SinkWriter;
+import org.apache.seatunnel.api.sink.SupportColumnarBatchWrite;
 import org.apache.seatunnel.api.sink.SupportMultiTableSinkWriter;
+import org.apache.seatunnel.api.table.type.ColumnarBatch;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.common.exception.CommonError;
 import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
@@ -45,7 +47,8 @@ import java.util.stream.Collectors;
 
 public class BaseFileSinkWriter
         implements SinkWriter<SeaTunnelRow, FileCommitInfo, FileSinkState>,
-                SupportMultiTableSinkWriter<WriteStrategy> {
+                SupportMultiTableSinkWriter<WriteStrategy>,
+                SupportColumnarBatchWrite {
 
     protected final WriteStrategy writeStrategy;
 
@@ -137,6 +140,16 @@ public class BaseFileSinkWriter
         }
     }
 
+    @Override
+    public void write(ColumnarBatch batch) throws IOException {
+        try {
+            writeStrategy.write(batch);
+        } catch (SeaTunnelRuntimeException e) {
+            throw CommonError.writeSeaTunnelRowFailed(
+                    "FileConnector", batch.getRowCount() + " rows of " + batch.getTableId(), e);
+        }
+    }
+
     @Override
     public Optional<FileCommitInfo> prepareCommit() throws IOException {
         return writeStrategy.prepareCommit();
@@ -18,6 +18,7 @@
 package org.apache.seatunnel.connectors.seatunnel.file.sink.writer;
 
 import org.apache.seatunnel.api.table.type.ArrayType;
+import org.apache.seatunnel.api.table.type.ColumnarBatch;
 import org.apache.seatunnel.api.table.type.DecimalType;
 import org.apache.seatunnel.api.table.type.MapType;
 import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
@@ -28,6 +29,7 @@ import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
 import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
 import org.apache.seatunnel.connectors.seatunnel.file.sink.config.FileSinkConfig;
 
+import org.apache.commons.collections4.CollectionUtils;
 import org.apache.hadoop.fs.Path;
 import org.apache.orc.OrcFile;
 import org.apache.orc.TypeDescription;
@@ -90,6 +92,46 @@ public class OrcWriteStrategy extends AbstractWriteStrategy {
         }
     }
 
+    /**
+     * Copies the columns of the batch into one {@link VectorizedRowBatch} per file part. The rows
+     * of a partitioned table may belong to different files, so they are written one by one.
+     */
+    @Override
+    public void write(@NonNull ColumnarBatch batch) {
+        if (!CollectionUtils.isEmpty(fileSinkConfig.getPartitionFieldsIndexInRow())) {
+            super.write(batch);
+            return;
+        }
+        int rowCount = batch.getRowCount();
+        int start = 0;
+        while (start < rowCount) {
+            if (currentBatchSize >= batchSize) {
+                newFilePart();
+                currentBatchSize = 0;
+            }
+            int count = Math.min(rowCount - start, batchSize - currentBatchSize);
+            currentBatchSize += count;
+            String filePath = getOrCreateFilePathBeingWritten(batch.getRow(start));
+            Writer writer = getOrCreateWriter(filePath);
+            VectorizedRowBatch rowBatch = buildSchemaWithRowType().createRowBatch(count);
+            int i = 0;
+            for (Integer index : sinkColumnsIndexInRow) {
+                ColumnVector vector = rowBatch.cols[i];
+                for (int row = 0; row < count; row++) {
+                    setColumn(batch.getValue(index, start + row), vector, row);
+                }
+                i++;
+            }
+            rowBatch.size = count;
+            try {
+                writer.addRowBatch(rowBatch);
+            } catch (IOException e) {
+                throw CommonError.fileOperationFailed("OrcFile", "write", filePath, e);
+            }
+            start += count;
+        }
+    }
+
     @Override
     public void finishAndCloseFile() {
         this.beingWrittenWriter.forEach(
@@ -271,6 +313,8 @@ public class OrcWriteStrategy extends AbstractWriteStrategy {
             mapColumnVector.offsets[row] = mapColumnVector.childCount;
             mapColumnVector.lengths[row] = map.size();
             mapColumnVector.childCount += map.size();
+            mapColumnVector.keys.ensureSize(mapColumnVector.childCount, true);
+            mapColumnVector.values.ensureSize(mapColumnVector.childCount, true);
 
             int i = 0;
             for (Map.Entry<?, ?> entry : map.entrySet()) {
@@ -303,6 +347,7 @@ public class OrcWriteStrategy extends AbstractWriteStrategy {
         listColumnVector.offsets[row] = listColumnVector.childCount;
         listColumnVector.lengths[row] = valueArray.length;
         listColumnVector.childCount += valueArray.length;
+        listColumnVector.child.ensureSize(listColumnVector.childCount, true);
 
         for (int i = 0; i < valueArray.length; i++) {
             int listElem = (int) listColumnVector.offsets[row] + i;
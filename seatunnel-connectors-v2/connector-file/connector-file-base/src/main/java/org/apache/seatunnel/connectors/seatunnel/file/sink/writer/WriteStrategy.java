@@ -17,6 +17,7 @@
 
 package org.apache.seatunnel.connectors.seatunnel.file.sink.writer;
 
+import org.apache.seatunnel.api.table.type.ColumnarBatch;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.connectors.seatunnel.file.config.HadoopConf;
@@ -55,6 +56,19 @@ public interface WriteStrategy extends Transaction, Serializable, Closeable {
      */
     void write(SeaTunnelRow seaTunnelRow) throws FileConnectorException;
 
+    /**
+     * write a batch of rows stored column by column to target datasource, the rows are written one
+     * by one unless the strategy can write the columns directly
+     *
+     * @param batch the rows
+     * @throws FileConnectorException Exceptions
+     */
+    default void write(ColumnarBatch batch) throws FileConnectorException {
+        for (int row = 0; row < batch.getRowCount(); row++) {
+            write(batch.getRow(row));
+        }
+    }
+
     /**
      * set seaTunnelRowTypeInfo in writer
      *
@@ -22,7 +22,9 @@ import org.apache.seatunnel.api.source.SeaTunnelSource;
 import org.apache.seatunnel.api.source.SourceReader;
 import org.apache.seatunnel.api.source.SourceSplitEnumerator;
 import org.apache.seatunnel.api.source.SupportColumnProjection;
+import org.apache.seatunnel.api.source.SupportFilterPushDown;
 import org.apache.seatunnel.api.source.SupportParallelism;
+import org.apache.seatunnel.api.source.filter.Predicate;
 import org.apache.seatunnel.api.table.catalog.CatalogTable;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.connectors.seatunnel.file.config.BaseFileSourceConfig;
@@ -32,13 +34,15 @@ import org.apache.seatunnel.connectors.seatunnel.file.source.split.FileSourceSpl
 import org.apache.seatunnel.connectors.seatunnel.file.source.split.MultipleTableFileSourceSplitEnumerator;
 import org.apache.seatunnel.connectors.seatunnel.file.source.state.FileSourceState;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
 public abstract class BaseMultipleTableFileSource
         implements SeaTunnelSource<SeaTunnelRow, FileSourceSplit, FileSourceState>,
                 SupportParallelism,
-                SupportColumnProjection {
+                SupportColumnProjection,
+                SupportFilterPushDown {
 
     private final BaseMultipleTableFileSourceConfig baseMultipleTableFileSourceConfig;
 
@@ -62,6 +66,24 @@ public abstract class BaseMultipleTableFileSource
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public boolean applyProjection(List<String> fieldNames) {
+        List<BaseFileSourceConfig> fileSourceConfigs =
+                baseMultipleTableFileSourceConfig.getFileSourceConfigs();
+        return fileSourceConfigs.size() == 1
+                && fileSourceConfigs.get(0).applyProjection(fieldNames);
+    }
+
+    @Override
+    public List<Predicate> applyFilters(List<Predicate> predicates) {
+        List<BaseFileSourceConfig> fileSourceConfigs =
+                baseMultipleTableFileSourceConfig.getFileSourceConfigs();
+        if (fileSourceConfigs.size() != 1) {
+            return Collections.emptyList();
+        }
+        return fileSourceConfigs.get(0).getReadStrategy().applyFilters(predicates);
+    }
+
     @Override
     public SourceReader<SeaTunnelRow, FileSourceSplit> createReader(
             SourceReader.Context readerContext) {
@@ -19,6 +19,7 @@ package org.apache.seatunnel.connectors.seatunnel.file.source.reader;
 
 import org.apache.seatunnel.shade.com.typesafe.config.Config;
 
+import org.apache.seatunnel.api.common.SeaTunnelAPIErrorCode;
 import org.apache.seatunnel.api.source.Collector;
 import org.apache.seatunnel.api.table.type.BasicType;
 import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
@@ -28,11 +29,15 @@ import org.apache.seatunnel.connectors.seatunnel.file.config.ArchiveCompressForm
 import org.apache.seatunnel.connectors.seatunnel.file.config.BaseSourceConfigOptions;
 import org.apache.seatunnel.connectors.seatunnel.file.config.FileFormat;
 import org.apache.seatunnel.connectors.seatunnel.file.config.HadoopConf;
+import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
 import org.apache.seatunnel.connectors.seatunnel.file.hadoop.HadoopFileSystemProxy;
+import org.apache.seatunnel.connectors.seatunnel.file.source.split.FileSourceSplit;
 
 import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
 import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
 import org.apache.commons.compress.compressors.gzip.GzipCompressorInputStream;
+import org.apache.commons.compress.utils.BoundedInputStream;
+import org.apache.hadoop.fs.FSDataInputStream;
 import org.apache.hadoop.fs.FileStatus;
 
 import lombok.extern.slf4j.Slf4j;
@@ -42,16 +47,19 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.math.BigDecimal;
+import java.nio.charset.Charset;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 
@@ -82,6 +90,8 @@ public abstract class AbstractReadStrategy implements ReadStrategy {
     protected HadoopFileSystemProxy hadoopFileSystemProxy;
     protected ArchiveCompressFormat archiveCompressFormat =
             BaseSourceConfigOptions.ARCHIVE_COMPRESS_CODEC.defaultValue();
+    protected boolean enableFileSplit = BaseSourceConfigOptions.ENABLE_FILE_SPLIT.defaultValue();
+    protected long fileSplitSize = BaseSourceConfigOptions.FILE_SPLIT_SIZE.defaultValue();
 
     protected Pattern pattern;
 
@@ -167,6 +177,135 @@ public abstract class AbstractReadStrategy implements ReadStrategy {
                     pluginConfig.getString(BaseSourceConfigOptions.FILE_FILTER_PATTERN.key());
             this.pattern = Pattern.compile(Matcher.quoteReplacement(filterPattern));
         }
+        if (pluginConfig.hasPath(BaseSourceConfigOptions.ENABLE_FILE_SPLIT.key())) {
+            enableFileSplit =
+                    pluginConfig.getBoolean(BaseSourceConfigOptions.ENABLE_FILE_SPLIT.key());
+        }
+        if (pluginConfig.hasPath(BaseSourceConfigOptions.FILE_SPLIT_SIZE.key())) {
+            fileSplitSize = pluginConfig.getLong(BaseSourceConfigOptions.FILE_SPLIT_SIZE.key());
+            if (fileSplitSize <= 0) {
+                throw new FileConnectorException(
+                        SeaTunnelAPIErrorCode.CONFIG_VALIDATION_FAILED,
+                        String.format(
+                                "The [%s] must be greater than 0, but is [%s]",
+                                BaseSourceConfigOptions.FILE_SPLIT_SIZE.key(), fileSplitSize));
+            }
+        }
+    }
+
+    @Override
+    public List<FileSourceSplit> getFileSplits(String tableId, String path) throws IOException {
+        if (!enableFileSplit || !isSplittable(path)) {
+            return ReadStrategy.super.getFileSplits(tableId, path);
+        }
+        long fileLength = hadoopFileSystemProxy.getFileStatus(path).getLen();
+        if (fileLength <= fileSplitSize) {
+            return ReadStrategy.super.getFileSplits(tableId, path);
+        }
+        List<FileSourceSplit> splits = new ArrayList<>();
+        for (long start = 0; start < fileLength; start += fileSplitSize) {
+            long length = Math.min(fileSplitSize, fileLength - start);
+            splits.add(new FileSourceSplit(tableId, path, start, length));
+        }
+        return splits;
+    }
+
+    /**
+     * Whether the file can be read by byte range, see {@link #read(FileSourceSplit, String,
+     * Collector)}
+     */
+    protected boolean isSplittable(String path) {
+        return false;
+    }
+
+    /**
+     * Whether line boundaries can be found by scanning the bytes of a file in this encoding for
+     * '\n'
+     */
+    protected static boolean isLineSplittable(String encoding) {
+        byte[] newline = "\n".getBytes(Charset.forName(encoding));
+        return newline.length == 1 && newline[0] == '\n';
+    }
+
+    /**
+     * Limit the input stream to the lines that start inside the byte range of the split, so that
+     * every line of the file is read by exactly one split.
+     */
+    protected InputStream getLineAlignedInputStream(
+            FSDataInputStream inputStream, FileSourceSplit split) throws IOException {
+        long fileLength = hadoopFileSystemProxy.getFileStatus(split.getFilePath()).getLen();
+        long end = split.getStart() + split.getLength();
+        long alignedStart = alignToLineStart(inputStream, split.getStart());
+        long alignedEnd = end >= fileLength ? fileLength : alignToLineStart(inputStream, end);
+        inputStream.seek(alignedStart);
+        return new BoundedInputStream(inputStream, Math.max(0, alignedEnd - alignedStart));
+    }
+
+    /** Returns the start of the first line that starts at or after the position */
+    private static long alignToLineStart(FSDataInputStream inputStream, long position)
+            throws IOException {
+        if (position == 0) {
+            return 0;
+        }
+        inputStream.seek(position - 1);
+        long offset = position - 1;
+        byte[] buffer = new byte[8192];
+        int bytesRead;
+        while ((bytesRead = inputStream.read(buffer)) != -1) {
+            for (int i = 0; i < bytesRead; i++) {
+                if (buffer[i] == '\n') {
+                    return offset + i + 1;
+                }
+            }
+            offset += bytesRead;
+        }
+        return offset;
+    }
+
+    /**
+     * Get the fields of the row type which are in the given fields, or an empty list if no field is
+     * pruned.
+     */
+    protected List<String> getProjectedFieldNames(List<String> fieldNames) {
+        if (seaTunnelRowType == null) {
+            return Collections.emptyList();
+        }
+        List<String> projectedFieldNames =
+                Arrays.stream(seaTunnelRowType.getFieldNames())
+                        .filter(fieldNames::contains)
+                        .collect(Collectors.toList());
+        if (projectedFieldNames.size() == seaTunnelRowType.getTotalFields()) {
+            return Collections.emptyList();
+        }
+        return projectedFieldNames;
+    }
+
+    /** Projects the row type to the given fields, the partition fields are kept. */
+    protected void projectRowType(List<String> projectedFieldNames) {
+        String[] fieldNames = projectedFieldNames.toArray(TYPE_ARRAY_STRING);
+        SeaTunnelDataType<?>[] fieldTypes = new SeaTunnelDataType<?>[fieldNames.length];
+        for (int i = 0; i < fieldNames.length; i++) {
+            fieldTypes[i] = seaTunnelRowType.getFieldType(seaTunnelRowType.indexOf(fieldNames[i]));
+        }
+        SeaTunnelRowType projectedRowType = new SeaTunnelRowType(fieldNames, fieldTypes);
+        if (seaTunnelRowTypeWithPartition != null) {
+            // the partition fields are appended to the fields of the files
+            int fieldsCount = seaTunnelRowType.getTotalFields();
+            int partitionsCount = seaTunnelRowTypeWithPartition.getTotalFields() - fieldsCount;
+            String[] mergedNames = Arrays.copyOf(fieldNames, fieldNames.length + partitionsCount);
+            SeaTunnelDataType<?>[] mergedTypes =
+                    Arrays.copyOf(fieldTypes, fieldTypes.length + partitionsCount);
+            for (int i = 0; i < partitionsCount; i++) {
+                mergedNames[fieldNames.length + i] =
+                        seaTunnelRowTypeWithPartition.getFieldName(fieldsCount + i);
+                mergedTypes[fieldNames.length + i] =
+                        seaTunnelRowTypeWithPartition.getFieldType(fieldsCount + i);
+            }
+            seaTunnelRowTypeWithPartition = new SeaTunnelRowType(mergedNames, mergedTypes);
+        }
+        seaTunnelRowType = projectedRowType;
+        readColumns.clear();
+        readColumns.addAll(projectedFieldNames);
     }
 
     @Override
@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.file.source.reader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * Reads the lines of an ASCII compatible input stream as byte ranges of a shared buffer, with the
+ * same line terminators as {@link java.io.BufferedReader#readLine()}: {@code \n}, {@code \r} and
+ * {@code \r\n}. The range of a line is only valid until the next call of {@link #next()}.
+ */
+class ByteLineReader {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final InputStream inputStream;
+    private byte[] buffer = new byte[BUFFER_SIZE];
+    private int limit;
+    private int lineStart;
+    private int lineEnd;
+    private int nextLineStart;
+    private boolean skipLineFeed;
+    private boolean eof;
+
+    ByteLineReader(InputStream inputStream) {
+        this.inputStream = inputStream;
+    }
+
+    /** Moves to the next line, returns false at the end of the stream. */
+    boolean next() throws IOException {
+        lineStart = nextLineStart;
+        int scan = lineStart;
+        while (true) {
+            if (scan == limit) {
+                if (lineStart > 0) {
+                    System.arraycopy(buffer, lineStart, buffer, 0, limit - lineStart);
+                    limit -= lineStart;
+                    scan -= lineStart;
+                    lineStart = 0;
+                }
+                if (limit == buffer.length) {
+                    buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                }
+                int read = eof ? -1 : inputStream.read(buffer, limit, buffer.length - limit);
+                if (read < 0) {
+                    eof = true;
+                    lineEnd = scan;
+                    nextLineStart = scan;
+                    return scan > lineStart;
+                }
+                limit += read;
+                continue;
+            }
+            byte b = buffer[scan];
+            if (skipLineFeed) {
+                skipLineFeed = false;
+                if (b == '\n') {
+                    lineStart = ++scan;
+                    continue;
+                }
+            }
+            if (b == '\n' || b == '\r') {
+                skipLineFeed = b == '\r';
+                lineEnd = scan;
+                nextLineStart = scan + 1;
+                return true;
+            }
+            scan++;
+        }
+    }
+
+    byte[] getBuffer() {
+        return buffer;
+    }
+
+    int getLineStart() {
+        return lineStart;
+    }
+
+    int getLineLength() {
+        return lineEnd - lineStart;
+    }
+}
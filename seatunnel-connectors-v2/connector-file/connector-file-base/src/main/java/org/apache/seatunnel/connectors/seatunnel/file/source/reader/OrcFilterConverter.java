@@ -0,0 +1,205 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.file.source.reader;
+
+import org.apache.seatunnel.api.source.filter.AndPredicate;
+import org.apache.seatunnel.api.source.filter.ComparisonPredicate;
+import org.apache.seatunnel.api.source.filter.InPredicate;
+import org.apache.seatunnel.api.source.filter.IsNullPredicate;
+import org.apache.seatunnel.api.source.filter.OrPredicate;
+import org.apache.seatunnel.api.source.filter.Predicate;
+import org.apache.seatunnel.api.source.filter.PredicateVisitor;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import org.apache.orc.storage.ql.io.sarg.PredicateLeaf;
+import org.apache.orc.storage.ql.io.sarg.SearchArgument;
+import org.apache.orc.storage.ql.io.sarg.SearchArgumentFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Converts the pushed down {@link Predicate}s to an orc {@link SearchArgument}, which skips the row
+ * groups by their statistics.
+ */
+public class OrcFilterConverter {
+
+    private final SeaTunnelRowType rowType;
+
+    public OrcFilterConverter(SeaTunnelRowType rowType) {
+        this.rowType = rowType;
+    }
+
+    /** The predicates which can be converted. */
+    public List<Predicate> supportedPredicates(List<Predicate> predicates) {
+        List<Predicate> supportedPredicates = new ArrayList<>();
+        for (Predicate predicate : predicates) {
+            if (predicate.accept(new SupportChecker())) {
+                supportedPredicates.add(predicate);
+            }
+        }
+        return supportedPredicates;
+    }
+
+    /** Converts the conjuncts, returns null if none of them can be converted. */
+    public SearchArgument convert(List<Predicate> predicates) {
+        List<Predicate> supportedPredicates = supportedPredicates(predicates);
+        if (supportedPredicates.isEmpty()) {
+            return null;
+        }
+        SearchArgument.Builder builder = SearchArgumentFactory.newBuilder().startAnd();
+        SearchArgumentAppender appender = new SearchArgumentAppender(builder);
+        for (Predicate predicate : supportedPredicates) {
+            predicate.accept(appender);
+        }
+        return builder.end().build();
+    }
+
+    private PredicateLeaf.Type leafType(String fieldName, Object value) {
+        int index = rowType.indexOf(fieldName, false);
+        if (index == -1 || fieldName.contains(".")) {
+            return null;
+        }
+        switch (rowType.getFieldType(index).getSqlType()) {
+            case TINYINT:
+            case SMALLINT:
+            case INT:
+            case BIGINT:
+                return value == null || value instanceof Long ? PredicateLeaf.Type.LONG : null;
+            case STRING:
+                return value == null || value instanceof String ? PredicateLeaf.Type.STRING : null;
+            default:
+                return null;
+        }
+    }
+
+    private class SupportChecker implements PredicateVisitor<Boolean> {
+
+        @Override
+        public Boolean visit(ComparisonPredicate predicate) {
+            return leafType(predicate.getFieldName(), predicate.getValue()) != null;
+        }
+
+        @Override
+        public Boolean visit(InPredicate predicate) {
+            for (Object value : predicate.getValues()) {
+                if (leafType(predicate.getFieldName(), value) == null) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public Boolean visit(IsNullPredicate predicate) {
+            return leafType(predicate.getFieldName(), null) != null;
+        }
+
+        @Override
+        public Boolean visit(AndPredicate predicate) {
+            return allSupported(predicate.getChildren());
+        }
+
+        @Override
+        public Boolean visit(OrPredicate predicate) {
+            return allSupported(predicate.getChildren());
+        }
+
+        private boolean allSupported(List<Predicate> children) {
+            for (Predicate child : children) {
+                if (!child.accept(this)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private class SearchArgumentAppender implements PredicateVisitor<Void> {
+
+        private final SearchArgument.Builder builder;
+
+        private SearchArgumentAppender(SearchArgument.Builder builder) {
+            this.builder = builder;
+        }
+
+        @Override
+        public Void visit(ComparisonPredicate predicate) {
+            String name = predicate.getFieldName();
+            Object value = predicate.getValue();
+            PredicateLeaf.Type type = leafType(name, value);
+            switch (predicate.getOperator()) {
+                case EQUALS:
+                    builder.equals(name, type, value);
+                    break;
+                case LESS_THAN:
+                    builder.lessThan(name, type, value);
+                    break;
+                case LESS_THAN_OR_EQUALS:
+                    builder.lessThanEquals(name, type, value);
+                    break;
+                case GREATER_THAN:
+                    builder.startNot().lessThanEquals(name, type, value).end();
+                    break;
+                case GREATER_THAN_OR_EQUALS:
+                    builder.startNot().lessThan(name, type, value).end();
+                    break;
+                default:
+                    throw new IllegalArgumentException(
+                            "Unsupported operator " + predicate.getOperator());
+            }
+            return null;
+        }
+
+        @Override
+        public Void visit(InPredicate predicate) {
+            builder.in(
+                    predicate.getFieldName(),
+                    leafType(predicate.getFieldName(), null),
+                    predicate.getValues().toArray());
+            return null;
+        }
+
+        @Override
+        public Void visit(IsNullPredicate predicate) {
+            PredicateLeaf.Type type = leafType(predicate.getFieldName(), null);
+            if (predicate.isNegated()) {
+                builder.startNot().isNull(predicate.getFieldName(), type).end();
+            } else {
+                builder.isNull(predicate.getFieldName(), type);
+            }
+            return null;
+        }
+
+        @Override
+        public Void visit(AndPredicate predicate) {
+            builder.startAnd();
+            predicate.getChildren().forEach(child -> child.accept(this));
+            builder.end();
+            return null;
+        }
+
+        @Override
+        public Void visit(OrPredicate predicate) {
+            builder.startOr();
+            predicate.getChildren().forEach(child -> child.accept(this));
+            builder.end();
+            return null;
+        }
+    }
+}
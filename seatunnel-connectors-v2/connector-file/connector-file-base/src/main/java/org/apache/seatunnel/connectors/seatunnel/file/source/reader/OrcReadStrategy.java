@@ -19,8 +19,10 @@ package org.apache.seatunnel.connectors.seatunnel.file.source.reader;
 
 import org.apache.seatunnel.api.configuration.ReadonlyConfig;
 import org.apache.seatunnel.api.source.Collector;
+import org.apache.seatunnel.api.source.filter.Predicate;
 import org.apache.seatunnel.api.table.type.ArrayType;
 import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.ColumnarBatch;
 import org.apache.seatunnel.api.table.type.DecimalType;
 import org.apache.seatunnel.api.table.type.LocalTimeType;
 import org.apache.seatunnel.api.table.type.MapType;
@@ -33,6 +35,7 @@ import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
 import org.apache.seatunnel.connectors.seatunnel.file.config.BaseSourceConfigOptions;
 import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorErrorCode;
 import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.file.source.split.FileSourceSplit;
 
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.hadoop.fs.FSDataInputStream;
@@ -53,6 +56,7 @@ import org.apache.orc.storage.ql.exec.vector.StructColumnVector;
 import org.apache.orc.storage.ql.exec.vector.TimestampColumnVector;
 import org.apache.orc.storage.ql.exec.vector.UnionColumnVector;
 import org.apache.orc.storage.ql.exec.vector.VectorizedRowBatch;
+import org.apache.orc.storage.ql.io.sarg.SearchArgument;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -69,6 +73,7 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -80,9 +85,18 @@ import static org.apache.seatunnel.connectors.seatunnel.file.sink.writer.OrcWrit
 public class OrcReadStrategy extends AbstractReadStrategy {
     private static final long MIN_SIZE = 16 * 1024;
 
+    private List<Predicate> pushDownPredicates = Collections.emptyList();
+
     @Override
     public void read(String path, String tableId, Collector<SeaTunnelRow> output)
             throws FileConnectorException, IOException {
+        read(new FileSourceSplit(tableId, path), tableId, output);
+    }
+
+    @Override
+    public void read(FileSourceSplit split, String tableId, Collector<SeaTunnelRow> output)
+            throws FileConnectorException, IOException {
+        String path = split.getFilePath();
         if (Boolean.FALSE.equals(checkFileType(path))) {
             String errorMsg =
                     String.format(
@@ -105,44 +119,56 @@ public class OrcReadStrategy extends AbstractReadStrategy {
                 schema.addField(seaTunnelRowType.getFieldName(i), typeDescription);
             }
             List<TypeDescription> children = schema.getChildren();
-            RecordReader rows = reader.rows(reader.options().schema(schema));
+            Reader.Options options = reader.options().schema(schema);
+            if (!split.isWholeFile()) {
+                // only the stripes which start inside the range are read
+                options.range(split.getStart(), split.getLength());
+            }
+            SearchArgument searchArgument =
+                    new OrcFilterConverter(seaTunnelRowType).convert(pushDownPredicates);
+            if (searchArgument != null) {
+                options.searchArgument(searchArgument, seaTunnelRowType.getFieldNames());
+            }
+            RecordReader rows = reader.rows(options);
+            Object[] partitionValues =
+                    isMergePartition ? partitionsMap.values().toArray() : new Object[0];
             VectorizedRowBatch rowBatch = schema.createRowBatch();
             while (rows.nextBatch(rowBatch)) {
-                int num = 0;
-                for (int i = 0; i < rowBatch.size; i++) {
-                    int numCols = rowBatch.numCols;
-                    Object[] fields;
-                    if (isMergePartition) {
-                        int index = numCols;
-                        fields = new Object[numCols + partitionsMap.size()];
-                        for (String value : partitionsMap.values()) {
-                            fields[index++] = value;
-                        }
-                    } else {
-                        fields = new Object[numCols];
-                    }
-                    ColumnVector[] cols = rowBatch.cols;
-                    for (int j = 0; j < numCols; j++) {
-                        if (cols[j] == null) {
-                            fields[j] = null;
-                        } else {
-                            fields[j] =
-                                    readColumn(
-                                            cols[j],
-                                            children.get(j),
-                                            seaTunnelRowType.getFieldType(j),
-                                            num);
-                        }
-                    }
-                    SeaTunnelRow seaTunnelRow = new SeaTunnelRow(fields);
-                    seaTunnelRow.setTableId(tableId);
-                    output.collect(seaTunnelRow);
-                    num++;
+                if (rowBatch.size == 0) {
+                    continue;
                 }
+                output.collectBatch(
+                        new OrcColumnarBatch(
+                                tableId, rowBatch, children, seaTunnelRowType, partitionValues));
+                // the emitted batch may still be read downstream
+                rowBatch = schema.createRowBatch();
             }
         }
     }
 
+    @Override
+    public List<Predicate> applyFilters(List<Predicate> predicates) {
+        this.pushDownPredicates =
+                new OrcFilterConverter(seaTunnelRowType).supportedPredicates(predicates);
+        return pushDownPredicates;
+    }
+
+    @Override
+    public boolean applyProjection(List<String> fieldNames) {
+        List<String> projectedFieldNames = getProjectedFieldNames(fieldNames);
+        if (projectedFieldNames.isEmpty()) {
+            return false;
+        }
+        // the read schema is built from the row type, so only the projected columns are read
+        projectRowType(projectedFieldNames);
+        return true;
+    }
+
+    @Override
+    protected boolean isSplittable(String path) {
+        return true;
+    }
+
     @Override
     public SeaTunnelRowType getSeaTunnelRowTypeInfo(String path) throws FileConnectorException {
         return getSeaTunnelRowTypeInfoWithUserConfigRowType(path, null);
@@ -845,4 +871,136 @@ public class OrcReadStrategy extends AbstractReadStrategy {
             return timestampList.toArray(TYPE_ARRAY_LOCAL_DATETIME);
         }
     }
+
+    /**
+     * The rows of a {@link VectorizedRowBatch}, the values are converted like the ones of the rows
+     * when they are read, the partition values are appended.
+     */
+    class OrcColumnarBatch implements ColumnarBatch {
+        private final String tableId;
+        private final VectorizedRowBatch rowBatch;
+        private final List<TypeDescription> columnTypes;
+        private final SeaTunnelRowType rowType;
+        private final Object[] partitionValues;
+        private long bytesSize = -1;
+
+        OrcColumnarBatch(
+                String tableId,
+                VectorizedRowBatch rowBatch,
+                List<TypeDescription> columnTypes,
+                SeaTunnelRowType rowType,
+                Object[] partitionValues) {
+            this.tableId = tableId;
+            this.rowBatch = rowBatch;
+            this.columnTypes = columnTypes;
+            this.rowType = rowType;
+            this.partitionValues = partitionValues;
+        }
+
+        @Override
+        public String getTableId() {
+            return tableId;
+        }
+
+        @Override
+        public int getRowCount() {
+            return rowBatch.size;
+        }
+
+        @Override
+        public int getColumnCount() {
+            return rowBatch.numCols + partitionValues.length;
+        }
+
+        @Override
+        public boolean isNullAt(int column, int row) {
+            if (column >= rowBatch.numCols) {
+                return partitionValues[column - rowBatch.numCols] == null;
+            }
+            ColumnVector columnVector = rowBatch.cols[column];
+            return columnVector == null || isNull(columnVector, row);
+        }
+
+        @Override
+        public Object getValue(int column, int row) {
+            if (column >= rowBatch.numCols) {
+                return partitionValues[column - rowBatch.numCols];
+            }
+            ColumnVector columnVector = rowBatch.cols[column];
+            if (columnVector == null) {
+                return null;
+            }
+            if (isNull(columnVector, row)) {
+                return null;
+            }
+            return readColumn(
+                    columnVector,
+                    columnTypes.get(column),
+                    rowType.getFieldType(column),
+                    index(columnVector, row));
+        }
+
+        @Override
+        public int getInt(int column, int row) {
+            if (isPrimitive(column, TypeDescription.Category.INT, SqlType.INT)) {
+                LongColumnVector vector = (LongColumnVector) primitiveVector(column, row);
+                return (int) vector.vector[index(vector, row)];
+            }
+            return ColumnarBatch.super.getInt(column, row);
+        }
+
+        @Override
+        public long getLong(int column, int row) {
+            if (isPrimitive(column, TypeDescription.Category.LONG, SqlType.BIGINT)) {
+                LongColumnVector vector = (LongColumnVector) primitiveVector(column, row);
+                return vector.vector[index(vector, row)];
+            }
+            return ColumnarBatch.super.getLong(column, row);
+        }
+
+        @Override
+        public double getDouble(int column, int row) {
+            if (isPrimitive(column, TypeDescription.Category.DOUBLE, SqlType.DOUBLE)) {
+                DoubleColumnVector vector = (DoubleColumnVector) primitiveVector(column, row);
+                return vector.vector[index(vector, row)];
+            }
+            return ColumnarBatch.super.getDouble(column, row);
+        }
+
+        @Override
+        public long getBytesSize() {
+            // the batch is not changed after it was emitted
+            if (bytesSize < 0) {
+                bytesSize = ColumnarBatch.super.getBytesSize();
+            }
+            return bytesSize;
+        }
+
+        private ColumnVector primitiveVector(int column, int row) {
+            ColumnVector columnVector = rowBatch.cols[column];
+            if (isNull(columnVector, row)) {
+                throw new NullPointerException(
+                        String.format("The value of column %d in row %d is null", column, row));
+            }
+            return columnVector;
+        }
+
+        /** A repeating vector holds the value of all rows in its first slot. */
+        private int index(ColumnVector columnVector, int row) {
+            return columnVector.isRepeating ? 0 : row;
+        }
+
+        private boolean isNull(ColumnVector columnVector, int row) {
+            return !columnVector.noNulls && columnVector.isNull[index(columnVector, row)];
+        }
+
+        /** Whether the values of the column are read from the vector as they are. */
+        private boolean isPrimitive(
+                int column, TypeDescription.Category category, SqlType sqlType) {
+            return column < rowBatch.numCols
+                    && rowBatch.cols[column] != null
+                    && columnTypes.get(column).getCategory() == category
+                    && rowType.getFieldType(column).getSqlType() == sqlType;
+        }
+    }
 }
@@ -0,0 +1,209 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.file.source.reader;
+
+import org.apache.seatunnel.api.source.filter.AndPredicate;
+import org.apache.seatunnel.api.source.filter.ComparisonPredicate;
+import org.apache.seatunnel.api.source.filter.InPredicate;
+import org.apache.seatunnel.api.source.filter.IsNullPredicate;
+import org.apache.seatunnel.api.source.filter.OrPredicate;
+import org.apache.seatunnel.api.source.filter.Predicate;
+import org.apache.seatunnel.api.source.filter.PredicateVisitor;
+
+import org.apache.parquet.filter2.predicate.FilterApi;
+import org.apache.parquet.filter2.predicate.FilterPredicate;
+import org.apache.parquet.filter2.predicate.Operators;
+import org.apache.parquet.io.api.Binary;
+import org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Converts the pushed down {@link Predicate}s to a parquet {@link FilterPredicate}, which skips the
+ * row groups by their statistics and dictionaries and the records which don't match. Returns null
+ * for the predicates which can't be converted.
+ */
+public class ParquetFilterConverter implements PredicateVisitor<FilterPredicate> {
+
+    /** The physical types of the top level columns which can be filtered. */
+    private final Map<String, PrimitiveTypeName> columnTypes;
+
+    public ParquetFilterConverter(Map<String, PrimitiveTypeName> columnTypes) {
+        this.columnTypes = columnTypes;
+    }
+
+    /** Converts the conjuncts, returns null if none of them can be converted. */
+    public FilterPredicate convert(List<Predicate> predicates) {
+        FilterPredicate result = null;
+        for (Predicate predicate : predicates) {
+            FilterPredicate filter = predicate.accept(this);
+            if (filter != null) {
+                result = result == null ? filter : FilterApi.and(result, filter);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public FilterPredicate visit(ComparisonPredicate predicate) {
+        PrimitiveTypeName typeName = columnTypes.get(predicate.getFieldName());
+        Comparable<?> value = toParquetValue(typeName, predicate.getValue());
+        if (value == null) {
+            return null;
+        }
+        switch (typeName) {
+            case INT32:
+                return compare(
+                        FilterApi.intColumn(predicate.getFieldName()),
+                        predicate.getOperator(),
+                        (Integer) value);
+            case INT64:
+                return compare(
+                        FilterApi.longColumn(predicate.getFieldName()),
+                        predicate.getOperator(),
+                        (Long) value);
+            case BINARY:
+                return compare(
+                        FilterApi.binaryColumn(predicate.getFieldName()),
+                        predicate.getOperator(),
+                        (Binary) value);
+            default:
+                return null;
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public FilterPredicate visit(InPredicate predicate) {
+        PrimitiveTypeName typeName = columnTypes.get(predicate.getFieldName());
+        Set<Comparable<?>> values = new HashSet<>();
+        for (Object value : predicate.getValues()) {
+            Comparable<?> parquetValue = toParquetValue(typeName, value);
+            if (parquetValue == null) {
+                return null;
+            }
+            values.add(parquetValue);
+        }
+        switch (typeName) {
+            case INT32:
+                return FilterApi.in(FilterApi.intColumn(predicate.getFieldName()), (Set) values);
+            case INT64:
+                return FilterApi.in(FilterApi.longColumn(predicate.getFieldName()), (Set) values);
+            case BINARY:
+                return FilterApi.in(FilterApi.binaryColumn(predicate.getFieldName()), (Set) values);
+            default:
+                return null;
+        }
+    }
+
+    @Override
+    public FilterPredicate visit(IsNullPredicate predicate) {
+        PrimitiveTypeName typeName = columnTypes.get(predicate.getFieldName());
+        if (typeName == null) {
+            return null;
+        }
+        switch (typeName) {
+            case INT32:
+                Operators.IntColumn intColumn = FilterApi.intColumn(predicate.getFieldName());
+                return predicate.isNegated()
+                        ? FilterApi.notEq(intColumn, null)
+                        : FilterApi.eq(intColumn, null);
+            case INT64:
+                Operators.LongColumn longColumn = FilterApi.longColumn(predicate.getFieldName());
+                return predicate.isNegated()
+                        ? FilterApi.notEq(longColumn, null)
+                        : FilterApi.eq(longColumn, null);
+            case BINARY:
+                Operators.BinaryColumn binaryColumn =
+                        FilterApi.binaryColumn(predicate.getFieldName());
+                return predicate.isNegated()
+                        ? FilterApi.notEq(binaryColumn, null)
+                        : FilterApi.eq(binaryColumn, null);
+            default:
+                return null;
+        }
+    }
+
+    @Override
+    public FilterPredicate visit(AndPredicate predicate) {
+        return combine(predicate.getChildren(), true);
+    }
+
+    @Override
+    public FilterPredicate visit(OrPredicate predicate) {
+        return combine(predicate.getChildren(), false);
+    }
+
+    private FilterPredicate combine(List<Predicate> children, boolean and) {
+        FilterPredicate result = null;
+        for (Predicate child : children) {
+            FilterPredicate filter = child.accept(this);
+            if (filter == null) {
+                return null;
+            }
+            if (result == null) {
+                result = filter;
+            } else {
+                result = and ? FilterApi.and(result, filter) : FilterApi.or(result, filter);
+            }
+        }
+        return result;
+    }
+
+    private static <T extends Comparable<T>, C extends Operators.Column<T> & Operators.SupportsLtGt>
+            FilterPredicate compare(C column, ComparisonPredicate.Operator operator, T value) {
+        switch (operator) {
+            case EQUALS:
+                return FilterApi.eq(column, value);
+            case LESS_THAN:
+                return FilterApi.lt(column, value);
+            case LESS_THAN_OR_EQUALS:
+                return FilterApi.ltEq(column, value);
+            case GREATER_THAN:
+                return FilterApi.gt(column, value);
+            case GREATER_THAN_OR_EQUALS:
+                return FilterApi.gtEq(column, value);
+            default:
+                return null;
+        }
+    }
+
+    private static Comparable<?> toParquetValue(PrimitiveTypeName typeName, Object value) {
+        if (typeName == null) {
+            return null;
+        }
+        switch (typeName) {
+            case INT32:
+                if (value instanceof Long
+                        && (Long) value >= Integer.MIN_VALUE
+                        && (Long) value <= Integer.MAX_VALUE) {
+                    return ((Long) value).intValue();
+                }
+                return null;
+            case INT64:
+                return value instanceof Long ? (Long) value : null;
+            case BINARY:
+                return value instanceof String ? Binary.fromString((String) value) : null;
+            default:
+                return null;
+        }
+    }
+}
@@ -18,6 +18,7 @@
 package org.apache.seatunnel.connectors.seatunnel.file.source.reader;
 
 import org.apache.seatunnel.api.source.Collector;
+import org.apache.seatunnel.api.source.filter.Predicate;
 import org.apache.seatunnel.api.table.catalog.TablePath;
 import org.apache.seatunnel.api.table.type.ArrayType;
 import org.apache.seatunnel.api.table.type.BasicType;
@@ -33,16 +34,23 @@ import org.apache.seatunnel.common.exception.CommonError;
 import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
 import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorErrorCode;
 import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.file.source.split.FileSourceSplit;
 
 import org.apache.avro.Conversions;
+import org.apache.avro.Schema;
 import org.apache.avro.data.TimeConversions;
 import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.avro.util.Utf8;
+import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.FSDataInputStream;
 import org.apache.hadoop.fs.Path;
 import org.apache.parquet.avro.AvroParquetReader;
+import org.apache.parquet.avro.AvroReadSupport;
+import org.apache.parquet.avro.AvroSchemaConverter;
 import org.apache.parquet.example.data.simple.NanoTime;
+import org.apache.parquet.filter2.compat.FilterCompat;
+import org.apache.parquet.filter2.predicate.FilterPredicate;
 import org.apache.parquet.hadoop.ParquetFileReader;
 import org.apache.parquet.hadoop.ParquetReader;
 import org.apache.parquet.hadoop.metadata.FileMetaData;
@@ -53,6 +61,7 @@ import org.apache.parquet.schema.GroupType;
 import org.apache.parquet.schema.LogicalTypeAnnotation;
 import org.apache.parquet.schema.MessageType;
 import org.apache.parquet.schema.OriginalType;
+import org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName;
 import org.apache.parquet.schema.Type;
 
 import lombok.extern.slf4j.Slf4j;
@@ -65,6 +74,7 @@ import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -79,12 +89,26 @@ public class ParquetReadStrategy extends AbstractReadStrategy {
     private static final long MILLIS_PER_DAY = TimeUnit.DAYS.toMillis(1L);
     private static final long JULIAN_DAY_NUMBER_FOR_UNIX_EPOCH = 2440588;
     private static final String PARQUET = "Parquet";
+    private static final String AVRO_SCHEMA_METADATA_KEY = "parquet.avro.schema";
+    private static final String OLD_AVRO_SCHEMA_METADATA_KEY = "avro.schema";
 
     private int[] indexes;
+    private final Map<String, PrimitiveTypeName> filterColumnTypes = new HashMap<>();
+    private List<Predicate> pushDownPredicates = Collections.emptyList();
+    private transient MessageType fileSchema;
+    private transient String fileAvroSchema;
+    private String requestedProjection;
 
     @Override
     public void read(String path, String tableId, Collector<SeaTunnelRow> output)
             throws FileConnectorException, IOException {
+        read(new FileSourceSplit(tableId, path), tableId, output);
+    }
+
+    @Override
+    public void read(FileSourceSplit split, String tableId, Collector<SeaTunnelRow> output)
+            throws FileConnectorException, IOException {
+        String path = split.getFilePath();
         if (Boolean.FALSE.equals(checkFileType(path))) {
             String errorMsg =
                     String.format(
@@ -104,10 +128,27 @@ public class ParquetReadStrategy extends AbstractReadStrategy {
         dataModel.addLogicalTypeConversion(new TimeConversions.DateConversion());
         dataModel.addLogicalTypeConversion(new TimeConversions.LocalTimestampMillisConversion());
         GenericRecord record;
-        try (ParquetReader<GenericData.Record> reader =
+        ParquetReader.Builder<GenericData.Record> readerBuilder =
                 AvroParquetReader.<GenericData.Record>builder(hadoopInputFile)
-                        .withDataModel(dataModel)
-                        .build()) {
+                        .withDataModel(dataModel);
+        if (requestedProjection != null) {
+            // a new configuration resets the other options of the builder, so set it first
+            Configuration configuration = new Configuration(hadoopInputFile.getConfiguration());
+            Schema projection = new Schema.Parser().parse(requestedProjection);
+            AvroReadSupport.setRequestedProjection(configuration, projection);
+            AvroReadSupport.setAvroReadSchema(configuration, projection);
+            readerBuilder.withConf(configuration);
+        }
+        if (!split.isWholeFile()) {
+            // only the row groups whose midpoint is inside the range are read
+            readerBuilder.withFileRange(split.getStart(), split.getStart() + split.getLength());
+        }
+        FilterPredicate filter =
+                new ParquetFilterConverter(filterColumnTypes).convert(pushDownPredicates);
+        if (filter != null) {
+            readerBuilder.withFilter(FilterCompat.get(filter));
+        }
+        try (ParquetReader<GenericData.Record> reader = readerBuilder.build()) {
             while ((record = reader.read()) != null) {
                 Object[] fields;
                 if (isMergePartition) {
@@ -130,6 +171,103 @@ public class ParquetReadStrategy extends AbstractReadStrategy {
         }
     }
 
+    @Override
+    public List<Predicate> applyFilters(List<Predicate> predicates) {
+        ParquetFilterConverter converter = new ParquetFilterConverter(filterColumnTypes);
+        List<Predicate> acceptedPredicates = new ArrayList<>();
+        for (Predicate predicate : predicates) {
+            if (predicate.accept(converter) != null) {
+                acceptedPredicates.add(predicate);
+            }
+        }
+        this.pushDownPredicates = acceptedPredicates;
+        return acceptedPredicates;
+    }
+
+    @Override
+    public boolean applyProjection(List<String> fieldNames) {
+        List<String> projectedFieldNames = getProjectedFieldNames(fieldNames);
+        if (projectedFieldNames.isEmpty() || fileSchema == null) {
+            return false;
+        }
+        int[] projectedIndexes =
+                projectedFieldNames.stream()
+                        .mapToInt(fieldName -> indexes[seaTunnelRowType.indexOf(fieldName)])
+                        .toArray();
+        // nested columns may be converted to another structure than the one of the file, so
+        // they are still read with all other columns
+        Schema projection =
+                projectedFieldNames.stream()
+                                .allMatch(fieldName -> fileSchema.getType(fieldName).isPrimitive())
+                        ? getAvroProjection(projectedFieldNames)
+                        : null;
+        projectRowType(projectedFieldNames);
+        filterColumnTypes.keySet().retainAll(projectedFieldNames);
+        if (projection != null) {
+            // the records only contain the projected fields in the order of the row type
+            indexes = IntStream.range(0, projectedFieldNames.size()).toArray();
+            requestedProjection = projection.toString();
+        } else {
+            indexes = projectedIndexes;
+            requestedProjection = null;
+        }
+        return true;
+    }
+
+    /**
+     * The avro schema of the projected columns, it is derived from the avro schema written to the
+     * file if there is one, because the records are read with it.
+     */
+    private Schema getAvroProjection(List<String> projectedFieldNames) {
+        Schema schema;
+        if (fileAvroSchema != null) {
+            schema = new Schema.Parser().parse(fileAvroSchema);
+        } else {
+            schema =
+                    hadoopFileSystemProxy.doWithHadoopAuth(
+                            (configuration, userGroupInformation) ->
+                                    new AvroSchemaConverter(configuration).convert(fileSchema));
+        }
+        List<Schema.Field> fields = new ArrayList<>();
+        for (String fieldName : projectedFieldNames) {
+            Schema.Field field = schema.getField(fieldName);
+            if (field == null) {
+                return null;
+            }
+            fields.add(new Schema.Field(field, field.schema()));
+        }
+        return Schema.createRecord(
+                schema.getName(), schema.getDoc(), schema.getNamespace(), schema.isError(), fields);
+    }
+
+    /** The physical type of the column if its values can be compared with the filter values. */
+    private static PrimitiveTypeName filterColumnType(Type type) {
+        if (!type.isPrimitive() || type.isRepetition(Type.Repetition.REPEATED)) {
+            return null;
+        }
+        PrimitiveTypeName typeName = type.asPrimitiveType().getPrimitiveTypeName();
+        OriginalType originalType = type.asPrimitiveType().getOriginalType();
+        switch (typeName) {
+            case INT32:
+                return originalType == null
+                                || originalType == OriginalType.INT_8
+                                || originalType == OriginalType.INT_16
+                        ? typeName
+                        : null;
+            case INT64:
+                return originalType == null ? typeName : null;
+            case BINARY:
+                return originalType == OriginalType.UTF8 ? typeName : null;
+            default:
+                return null;
+        }
+    }
+
+    @Override
+    protected boolean isSplittable(String path) {
+        return true;
+    }
+
     private Object resolveObject(Object field, SeaTunnelDataType<?> fieldType) {
         if (field == null) {
             return null;
@@ -279,6 +417,19 @@ public class ParquetReadStrategy extends AbstractReadStrategy {
                     indexes[i] = fieldIndex;
                     types[i] = parquetType2SeaTunnelType(type, fields[i]);
                 });
+        filterColumnTypes.clear();
+        for (String field : fields) {
+            PrimitiveTypeName typeName = filterColumnType(originalSchema.getType(field));
+            if (typeName != null && !field.contains(".")) {
+                filterColumnTypes.put(field, typeName);
+            }
+        }
+        fileSchema = originalSchema;
+        Map<String, String> keyValueMetaData = fileMetaData.getKeyValueMetaData();
+        fileAvroSchema =
+                keyValueMetaData.getOrDefault(
+                        AVRO_SCHEMA_METADATA_KEY,
+                        keyValueMetaData.get(OLD_AVRO_SCHEMA_METADATA_KEY));
         seaTunnelRowType = new SeaTunnelRowType(fields, types);
         seaTunnelRowTypeWithPartition = mergePartitionTypes(path, seaTunnelRowType);
         return getActualSeaTunnelRowTypeInfo();
@@ -20,6 +20,7 @@ package org.apache.seatunnel.connectors.seatunnel.file.source.reader;
 import org.apache.seatunnel.shade.com.typesafe.config.Config;
 
 import org.apache.seatunnel.api.source.Collector;
+import org.apache.seatunnel.api.source.filter.Predicate;
 import org.apache.seatunnel.api.table.catalog.TablePath;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
@@ -28,10 +29,12 @@ import org.apache.seatunnel.common.exception.CommonErrorCode;
 import org.apache.seatunnel.common.exception.SeaTunnelRuntimeException;
 import org.apache.seatunnel.connectors.seatunnel.file.config.HadoopConf;
 import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.file.source.split.FileSourceSplit;
 
 import java.io.Closeable;
 import java.io.IOException;
 import java.io.Serializable;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -44,6 +47,23 @@ public interface ReadStrategy extends Serializable, Closeable {
     void read(String path, String tableId, Collector<SeaTunnelRow> output)
             throws IOException, FileConnectorException;
 
+    default void read(FileSourceSplit split, String tableId, Collector<SeaTunnelRow> output)
+            throws IOException, FileConnectorException {
+        read(split.getFilePath(), tableId, output);
+    }
+
+    /**
+     * Get the splits of the file, a file that can not be read by byte range is returned as one
+     * split covering the whole file.
+     *
+     * @param tableId table id of the file
+     * @param path file path
+     * @return splits of the file
+     */
+    default List<FileSourceSplit> getFileSplits(String tableId, String path) throws IOException {
+        return Collections.singletonList(new FileSourceSplit(tableId, path));
+    }
+
     SeaTunnelRowType getSeaTunnelRowTypeInfo(String path) throws FileConnectorException;
 
     default SeaTunnelRowType getSeaTunnelRowTypeInfo(TablePath tablePath, String path)
@@ -64,6 +84,29 @@ public interface ReadStrategy extends Serializable, Closeable {
     // todo: use ReadonlyConfig
     void setPluginConfig(Config pluginConfig);
 
+    /**
+     * Push down the filter predicates on the fields of the files, which are used to skip reading
+     * the rows which can not match. It is called after the row type is resolved.
+     *
+     * @param predicates the conjuncts of the filter
+     * @return the predicates which are used
+     */
+    default List<Predicate> applyFilters(List<Predicate> predicates) {
+        return Collections.emptyList();
+    }
+
+    /**
+     * Projects the fields read from the files to the given fields, it is called after the row type
+     * is resolved. When it is applied, {@link #getActualSeaTunnelRowTypeInfo()} returns the
+     * projected row type, the partition fields are kept.
+     *
+     * @param fieldNames the names of the fields which are read
+     * @return whether the projection is applied
+     */
+    default boolean applyProjection(List<String> fieldNames) {
+        return false;
+    }
+
     // todo: use CatalogTable
     SeaTunnelRowType getActualSeaTunnelRowTypeInfo();
 
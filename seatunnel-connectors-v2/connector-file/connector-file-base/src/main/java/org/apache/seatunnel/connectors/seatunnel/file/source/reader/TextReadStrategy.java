@@ -19,7 +19,6 @@ package org.apache.seatunnel.connectors.seatunnel.file.source.reader;
 
 import org.apache.seatunnel.api.common.SeaTunnelAPIErrorCode;
 import org.apache.seatunnel.api.configuration.ReadonlyConfig;
-import org.apache.seatunnel.api.serialization.DeserializationSchema;
 import org.apache.seatunnel.api.source.Collector;
 import org.apache.seatunnel.api.table.catalog.CatalogTableUtil;
 import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
@@ -27,18 +26,23 @@ import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.common.utils.DateTimeUtils;
 import org.apache.seatunnel.common.utils.DateUtils;
+import org.apache.seatunnel.common.utils.EncodingUtils;
 import org.apache.seatunnel.common.utils.TimeUtils;
+import org.apache.seatunnel.connectors.seatunnel.file.config.ArchiveCompressFormat;
 import org.apache.seatunnel.connectors.seatunnel.file.config.BaseSourceConfigOptions;
 import org.apache.seatunnel.connectors.seatunnel.file.config.CompressFormat;
 import org.apache.seatunnel.connectors.seatunnel.file.config.FileFormat;
 import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorErrorCode;
 import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.file.source.split.FileSourceSplit;
 import org.apache.seatunnel.format.text.TextDeserializationSchema;
 import org.apache.seatunnel.format.text.constant.TextFormatConstant;
 import org.apache.seatunnel.format.text.splitor.CsvLineSplitor;
 import org.apache.seatunnel.format.text.splitor.DefaultTextLineSplitor;
 import org.apache.seatunnel.format.text.splitor.TextLineSplitor;
 
+import org.apache.hadoop.fs.FSDataInputStream;
+
 import io.airlift.compress.lzo.LzopCodec;
 import lombok.extern.slf4j.Slf4j;
 
@@ -52,7 +56,7 @@ import java.util.Optional;
 
 @Slf4j
 public class TextReadStrategy extends AbstractReadStrategy {
-    private DeserializationSchema<SeaTunnelRow> deserializationSchema;
+    private TextDeserializationSchema deserializationSchema;
     private String fieldDelimiter = BaseSourceConfigOptions.FIELD_DELIMITER.defaultValue();
     private DateUtils.Formatter dateFormat = BaseSourceConfigOptions.DATE_FORMAT.defaultValue();
     private DateTimeUtils.Formatter datetimeFormat =
@@ -70,6 +74,37 @@ public class TextReadStrategy extends AbstractReadStrategy {
         resolveArchiveCompressedInputStream(path, tableId, output, partitionsMap, FileFormat.TEXT);
     }
 
+    @Override
+    public void read(FileSourceSplit split, String tableId, Collector<SeaTunnelRow> output)
+            throws FileConnectorException, IOException {
+        if (split.isWholeFile()) {
+            read(split.getFilePath(), tableId, output);
+            return;
+        }
+        String path = split.getFilePath();
+        Map<String, String> partitionsMap = parsePartitionsByPath(path);
+        try (FSDataInputStream inputStream = hadoopFileSystemProxy.getInputStream(path)) {
+            readProcess(
+                    path,
+                    tableId,
+                    output,
+                    getLineAlignedInputStream(inputStream, split),
+                    partitionsMap,
+                    split.getStart() == 0 ? skipHeaderNumber : 0);
+        }
+    }
+
+    /**
+     * Csv records are read line by line as well, a quoted line break is not supported even when the
+     * whole file is read, so line aligned splits read the same records.
+     */
+    @Override
+    protected boolean isSplittable(String path) {
+        return compressFormat == CompressFormat.NONE
+                && archiveCompressFormat == ArchiveCompressFormat.NONE
+                && isLineSplittable(encoding);
+    }
+
     @Override
     public void readProcess(
             String path,
@@ -79,6 +114,17 @@ public class TextReadStrategy extends AbstractReadStrategy {
             Map<String, String> partitionsMap,
             String currentFileName)
             throws IOException {
+        readProcess(path, tableId, output, inputStream, partitionsMap, skipHeaderNumber);
+    }
+
+    private void readProcess(
+            String path,
+            String tableId,
+            Collector<SeaTunnelRow> output,
+            InputStream inputStream,
+            Map<String, String> partitionsMap,
+            long skipLines)
+            throws IOException {
         InputStream actualInputStream;
         switch (compressFormat) {
             case LZO:
@@ -96,54 +142,77 @@ public class TextReadStrategy extends AbstractReadStrategy {
                 break;
         }
 
+        if (StandardCharsets.UTF_8.equals(EncodingUtils.tryParseCharset(encoding))) {
+            // the lines are already utf-8 encoded, hand them to the deserializer without decoding
+            try (InputStream in = actualInputStream) {
+                ByteLineReader reader = new ByteLineReader(in);
+                long lineNumber = 0;
+                while (reader.next()) {
+                    if (lineNumber++ >= skipLines) {
+                        collectLine(
+                                reader.getBuffer(),
+                                reader.getLineStart(),
+                                reader.getLineLength(),
+                                tableId,
+                                output,
+                                partitionsMap);
+                    }
+                }
+            }
+            return;
+        }
         try (BufferedReader reader =
                 new BufferedReader(new InputStreamReader(actualInputStream, encoding))) {
             reader.lines()
-                    .skip(skipHeaderNumber)
+                    .skip(skipLines)
                     .forEach(
                             line -> {
-                                try {
-                                    SeaTunnelRow seaTunnelRow =
-                                            deserializationSchema.deserialize(
-                                                    line.getBytes(StandardCharsets.UTF_8));
-                                    if (!readColumns.isEmpty()) {
-                                        // need column projection
-                                        Object[] fields;
-                                        if (isMergePartition) {
-                                            fields =
-                                                    new Object
-                                                            [readColumns.size()
-                                                                    + partitionsMap.size()];
-                                        } else {
-                                            fields = new Object[readColumns.size()];
-                                        }
-                                        for (int i = 0; i < indexes.length; i++) {
-                                            fields[i] = seaTunnelRow.getField(indexes[i]);
-                                        }
-                                        seaTunnelRow = new SeaTunnelRow(fields);
-                                    }
-                                    if (isMergePartition) {
-                                        int index = seaTunnelRowType.getTotalFields();
-                                        for (String value : partitionsMap.values()) {
-                                            seaTunnelRow.setField(index++, value);
-                                        }
-                                    }
-                                    seaTunnelRow.setTableId(tableId);
-                                    output.collect(seaTunnelRow);
-                                } catch (IOException e) {
-                                    String errorMsg =
-                                            String.format(
-                                                    "Deserialize this data [%s] failed, please check the origin data",
-                                                    line);
-                                    throw new FileConnectorException(
-                                            FileConnectorErrorCode.DATA_DESERIALIZE_FAILED,
-                                            errorMsg,
-                                            e);
-                                }
+                                byte[] bytes = line.getBytes(StandardCharsets.UTF_8);
+                                collectLine(bytes, 0, bytes.length, tableId, output, partitionsMap);
                             });
         }
     }
 
+    private void collectLine(
+            byte[] bytes,
+            int offset,
+            int length,
+            String tableId,
+            Collector<SeaTunnelRow> output,
+            Map<String, String> partitionsMap) {
+        try {
+            SeaTunnelRow seaTunnelRow = deserializationSchema.deserialize(bytes, offset, length);
+            if (!readColumns.isEmpty()) {
+                // need column projection
+                Object[] fields;
+                if (isMergePartition) {
+                    fields = new Object[readColumns.size() + partitionsMap.size()];
+                } else {
+                    fields = new Object[readColumns.size()];
+                }
+                for (int i = 0; i < indexes.length; i++) {
+                    fields[i] = seaTunnelRow.getField(indexes[i]);
+                }
+                seaTunnelRow = new SeaTunnelRow(fields);
+            }
+            if (isMergePartition) {
+                int index = seaTunnelRowType.getTotalFields();
+                for (String value : partitionsMap.values()) {
+                    seaTunnelRow.setField(index++, value);
+                }
+            }
+            seaTunnelRow.setTableId(tableId);
+            output.collect(seaTunnelRow);
+        } catch (IOException e) {
+            String errorMsg =
+                    String.format(
+                            "Deserialize this data [%s] failed, please check the origin data",
+                            new String(bytes, offset, length, StandardCharsets.UTF_8));
+            throw new FileConnectorException(
+                    FileConnectorErrorCode.DATA_DESERIALIZE_FAILED, errorMsg, e);
+        }
+    }
+
     @Override
     public SeaTunnelRowType getSeaTunnelRowTypeInfo(String path) {
         this.seaTunnelRowType = CatalogTableUtil.buildSimpleTextSchema();
@@ -197,20 +266,26 @@ public class TextReadStrategy extends AbstractReadStrategy {
                 TextDeserializationSchema.builder()
                         .delimiter(fieldDelimiter)
                         .textLineSplitor(textLineSplitor);
+        // column projection
+        if (pluginConfig.hasPath(BaseSourceConfigOptions.READ_COLUMNS.key())) {
+            // get the read column index from user-defined row type
+            indexes = new int[readColumns.size()];
+            for (int i = 0; i < indexes.length; i++) {
+                indexes[i] = seaTunnelRowType.indexOf(readColumns.get(i));
+            }
+            // only the read columns are parsed from the lines
+            builder.readFields(indexes);
+        }
         if (isMergePartition) {
             deserializationSchema =
                     builder.seaTunnelRowType(userDefinedRowTypeWithPartition).build();
         } else {
             deserializationSchema = builder.seaTunnelRowType(seaTunnelRowType).build();
         }
-        // column projection
         if (pluginConfig.hasPath(BaseSourceConfigOptions.READ_COLUMNS.key())) {
-            // get the read column index from user-defined row type
-            indexes = new int[readColumns.size()];
-            String[] fields = new String[readColumns.size()];
-            SeaTunnelDataType<?>[] types = new SeaTunnelDataType[readColumns.size()];
+            String[] fields = new String[indexes.length];
+            SeaTunnelDataType<?>[] types = new SeaTunnelDataType[indexes.length];
             for (int i = 0; i < indexes.length; i++) {
-                indexes[i] = seaTunnelRowType.indexOf(readColumns.get(i));
                 fields[i] = seaTunnelRowType.getFieldName(indexes[i]);
                 types[i] = seaTunnelRowType.getFieldType(indexes[i]);
             }
@@ -19,31 +19,54 @@ package org.apache.seatunnel.connectors.seatunnel.file.source.split;
 
 import org.apache.seatunnel.api.source.SourceSplit;
 
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 
+@EqualsAndHashCode
 public class FileSourceSplit implements SourceSplit {
     private static final long serialVersionUID = 1L;
 
     @Getter private final String tableId;
     @Getter private final String filePath;
 
+    /**
+     * The byte range of the file covered by this split. A length of 0 means the whole file, which
+     * is also what splits restored from states written before ranges were added carry.
+     */
+    @Getter private final long start;
+
+    @Getter private final long length;
+
     public FileSourceSplit(String splitId) {
         this.filePath = splitId;
         this.tableId = null;
+        this.start = 0;
+        this.length = 0;
     }
 
     public FileSourceSplit(String tableId, String filePath) {
+        this(tableId, filePath, 0, 0);
+    }
+
+    public FileSourceSplit(String tableId, String filePath, long start, long length) {
         this.tableId = tableId;
         this.filePath = filePath;
+        this.start = start;
+        this.length = length;
+    }
+
+    public boolean isWholeFile() {
+        return length <= 0;
     }
 
     @Override
     public String splitId() {
         // In order to be compatible with the split before the upgrade, when tableId is null,
         // filePath is directly returned
-        if (tableId == null) {
-            return filePath;
+        String fileSplitId = tableId == null ? filePath : tableId + "_" + filePath;
+        if (isWholeFile()) {
+            return fileSplitId;
         }
-        return tableId + "_" + filePath;
+        return fileSplitId + "_" + start;
     }
 }
@@ -18,6 +18,9 @@
 package org.apache.seatunnel.connectors.seatunnel.file.source.split;
 
 import org.apache.seatunnel.api.source.SourceSplitEnumerator;
+import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorErrorCode;
+import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.ReadStrategy;
 import org.apache.seatunnel.connectors.seatunnel.file.source.state.FileSourceState;
 
 import org.slf4j.Logger;
@@ -39,19 +42,24 @@ public class FileSourceSplitEnumerator
     private final Set<FileSourceSplit> pendingSplit = new HashSet<>();
     private Set<FileSourceSplit> assignedSplit;
     private final List<String> filePaths;
+    private final ReadStrategy readStrategy;
 
     public FileSourceSplitEnumerator(
-            SourceSplitEnumerator.Context<FileSourceSplit> context, List<String> filePaths) {
+            SourceSplitEnumerator.Context<FileSourceSplit> context,
+            List<String> filePaths,
+            ReadStrategy readStrategy) {
         this.context = context;
         this.filePaths = filePaths;
+        this.readStrategy = readStrategy;
         this.assignedSplit = new HashSet<>();
     }
 
     public FileSourceSplitEnumerator(
             SourceSplitEnumerator.Context<FileSourceSplit> context,
             List<String> filePaths,
+            ReadStrategy readStrategy,
             FileSourceState sourceState) {
-        this(context, filePaths);
+        this(context, filePaths, readStrategy);
         this.assignedSplit = sourceState.getAssignedSplit();
     }
 
@@ -70,7 +78,17 @@ public class FileSourceSplitEnumerator
 
     private Set<FileSourceSplit> discoverySplits() {
         Set<FileSourceSplit> fileSourceSplits = new HashSet<>();
-        filePaths.forEach(k -> fileSourceSplits.add(new FileSourceSplit(k)));
+        for (String filePath : filePaths) {
+            try {
+                fileSourceSplits.addAll(readStrategy.getFileSplits(null, filePath));
+            } catch (IOException e) {
+                String errorMsg = String.format("Get splits of this file [%s] failed", filePath);
+                throw new FileConnectorException(
+                        FileConnectorErrorCode.FILE_LIST_GET_FAILED, errorMsg, e);
+            }
+        }
+        // the splits restored from the checkpoint are owned by the readers
+        fileSourceSplits.removeAll(assignedSplit);
         return fileSourceSplits;
     }
 
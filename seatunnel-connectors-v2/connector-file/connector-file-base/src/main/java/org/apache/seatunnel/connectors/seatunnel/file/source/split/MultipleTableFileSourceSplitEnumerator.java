@@ -20,6 +20,9 @@ package org.apache.seatunnel.connectors.seatunnel.file.source.split;
 import org.apache.seatunnel.api.source.SourceSplitEnumerator;
 import org.apache.seatunnel.connectors.seatunnel.file.config.BaseFileSourceConfig;
 import org.apache.seatunnel.connectors.seatunnel.file.config.BaseMultipleTableFileSourceConfig;
+import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorErrorCode;
+import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.ReadStrategy;
 import org.apache.seatunnel.connectors.seatunnel.file.source.state.FileSourceState;
 
 import org.apache.commons.collections4.CollectionUtils;
@@ -42,6 +45,8 @@ public class MultipleTableFileSourceSplitEnumerator
     private final Set<FileSourceSplit> pendingSplit;
     private final Set<FileSourceSplit> assignedSplit;
     private final Map<String, List<String>> filePathMap;
+    private final Map<String, ReadStrategy> readStrategyMap;
+    private List<FileSourceSplit> fileSplits;
 
     public MultipleTableFileSourceSplitEnumerator(
             Context<FileSourceSplit> context,
@@ -58,6 +63,17 @@ public class MultipleTableFileSourceSplitEnumerator
                                                         .toTablePath()
                                                         .toString(),
                                         BaseFileSourceConfig::getFilePaths));
+        this.readStrategyMap =
+                multipleTableFileSourceConfig.getFileSourceConfigs().stream()
+                        .collect(
+                                Collectors.toMap(
+                                        fileSourceConfig ->
+                                                fileSourceConfig
+                                                        .getCatalogTable()
+                                                        .getTableId()
+                                                        .toTablePath()
+                                                        .toString(),
+                                        BaseFileSourceConfig::getReadStrategy));
         this.assignedSplit = new HashSet<>();
         this.pendingSplit = new HashSet<>();
     }
@@ -89,14 +105,35 @@ public class MultipleTableFileSourceSplitEnumerator
 
     @Override
     public void registerReader(int subtaskId) {
+        if (fileSplits == null) {
+            fileSplits = discoverySplits();
+        }
+        for (FileSourceSplit fileSplit : fileSplits) {
+            // the splits restored from the checkpoint are owned by the readers
+            if (!assignedSplit.contains(fileSplit)) {
+                pendingSplit.add(fileSplit);
+            }
+        }
+        assignSplit(subtaskId);
+    }
+
+    private List<FileSourceSplit> discoverySplits() {
+        List<FileSourceSplit> splits = new ArrayList<>();
         for (Map.Entry<String, List<String>> filePathEntry : filePathMap.entrySet()) {
             String tableId = filePathEntry.getKey();
-            List<String> filePaths = filePathEntry.getValue();
-            for (String filePath : filePaths) {
-                pendingSplit.add(new FileSourceSplit(tableId, filePath));
+            ReadStrategy readStrategy = readStrategyMap.get(tableId);
+            for (String filePath : filePathEntry.getValue()) {
+                try {
+                    splits.addAll(readStrategy.getFileSplits(tableId, filePath));
+                } catch (IOException e) {
+                    String errorMsg =
+                            String.format("Get splits of this file [%s] failed", filePath);
+                    throw new FileConnectorException(
+                            FileConnectorErrorCode.FILE_LIST_GET_FAILED, errorMsg, e);
+                }
             }
         }
-        assignSplit(subtaskId);
+        return splits;
     }
 
     @Override
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.file.source.reader;
+
+import org.apache.commons.lang3.StringUtils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class ByteLineReaderTest {
+
+    @Test
+    public void testReadLinesLikeBufferedReader() throws IOException {
+        String longLine = StringUtils.repeat("中文", 10_000);
+        String[] contents =
+                new String[] {
+                    "",
+                    "a",
+                    "a\n",
+                    "a\r\nb\rc\n\nd",
+                    "\r\n\r\n",
+                    "a\r",
+                    longLine + "\r\n" + longLine,
+                    StringUtils.repeat("x", 8191) + "\r\nb"
+                };
+        for (String content : contents) {
+            byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+            List<String> expected =
+                    new BufferedReader(
+                                    new InputStreamReader(
+                                            new ByteArrayInputStream(bytes),
+                                            StandardCharsets.UTF_8))
+                            .lines()
+                            .collect(Collectors.toList());
+            ByteLineReader reader = new ByteLineReader(new ByteArrayInputStream(bytes));
+            List<String> lines = new ArrayList<>();
+            while (reader.next()) {
+                lines.add(
+                        new String(
+                                reader.getBuffer(),
+                                reader.getLineStart(),
+                                reader.getLineLength(),
+                                StandardCharsets.UTF_8));
+            }
+            Assertions.assertEquals(expected, lines);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.file.source.reader;
+
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.ColumnarBatch;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import org.apache.orc.TypeDescription;
+import org.apache.orc.storage.ql.exec.vector.BytesColumnVector;
+import org.apache.orc.storage.ql.exec.vector.DoubleColumnVector;
+import org.apache.orc.storage.ql.exec.vector.LongColumnVector;
+import org.apache.orc.storage.ql.exec.vector.VectorizedRowBatch;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+public class OrcColumnarBatchTest {
+
+    @Test
+    public void testRepeatingVectors() {
+        TypeDescription schema = TypeDescription.fromString("struct<c:int,d:double,s:string>");
+        VectorizedRowBatch rowBatch = schema.createRowBatch();
+        rowBatch.size = 4;
+        LongColumnVector ints = (LongColumnVector) rowBatch.cols[0];
+        ints.isRepeating = true;
+        ints.vector[0] = 7;
+        DoubleColumnVector doubles = (DoubleColumnVector) rowBatch.cols[1];
+        doubles.isRepeating = true;
+        doubles.noNulls = false;
+        doubles.isNull[0] = true;
+        BytesColumnVector strings = (BytesColumnVector) rowBatch.cols[2];
+        strings.isRepeating = true;
+        strings.setVal(0, "x".getBytes(StandardCharsets.UTF_8));
+        SeaTunnelRowType rowType =
+                new SeaTunnelRowType(
+                        new String[] {"c", "d", "s"},
+                        new SeaTunnelDataType<?>[] {
+                            BasicType.INT_TYPE, BasicType.DOUBLE_TYPE, BasicType.STRING_TYPE
+                        });
+
+        ColumnarBatch batch =
+                new OrcReadStrategy()
+                .new OrcColumnarBatch(
+                        "db.t", rowBatch, schema.getChildren(), rowType, new Object[0]);
+        for (int row = 0; row < 4; row++) {
+            Assertions.assertFalse(batch.isNullAt(0, row));
+            Assertions.assertEquals(7, batch.getInt(0, row));
+            Assertions.assertEquals(7, batch.getValue(0, row));
+            Assertions.assertTrue(batch.isNullAt(1, row));
+            Assertions.assertNull(batch.getValue(1, row));
+            int nullRow = row;
+            Assertions.assertThrows(NullPointerException.class, () -> batch.getDouble(1, nullRow));
+            Assertions.assertEquals("x", batch.getValue(2, row));
+        }
+        Assertions.assertEquals(4 * (4 + 1), batch.getBytesSize());
+    }
+}
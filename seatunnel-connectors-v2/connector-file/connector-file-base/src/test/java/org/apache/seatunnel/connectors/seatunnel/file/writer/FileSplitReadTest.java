@@ -0,0 +1,232 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.file.writer;
+
+import org.apache.seatunnel.shade.com.typesafe.config.Config;
+import org.apache.seatunnel.shade.com.typesafe.config.ConfigFactory;
+
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.connectors.seatunnel.file.config.BaseSourceConfigOptions;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.AbstractReadStrategy;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.OrcReadStrategy;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.ParquetReadStrategy;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.TextReadStrategy;
+import org.apache.seatunnel.connectors.seatunnel.file.source.split.FileSourceSplit;
+import org.apache.seatunnel.connectors.seatunnel.file.writer.ReadStrategyEncodingTest.LocalConf;
+import org.apache.seatunnel.connectors.seatunnel.file.writer.ReadStrategyEncodingTest.TestCollector;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.apache.hadoop.fs.CommonConfigurationKeysPublic.FS_DEFAULT_NAME_DEFAULT;
+
+public class FileSplitReadTest {
+
+    @TempDir private Path tempDir;
+
+    @Test
+    public void testTextSplitRead() throws Exception {
+        StringBuilder content = new StringBuilder("id,name\n");
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            String name = "name_" + repeat('x', i % 37);
+            content.append(i).append(',').append(name).append('\n');
+            expected.add(i + "," + name);
+        }
+        // the last line has no line separator
+        content.append(500).append(",last");
+        expected.add("500,last");
+        File file = tempDir.resolve("test.csv").toFile();
+        Files.write(file.toPath(), content.toString().getBytes(StandardCharsets.UTF_8));
+
+        Map<String, Object> config = new HashMap<>();
+        config.put(BaseSourceConfigOptions.FILE_FORMAT_TYPE.key(), "csv");
+        config.put(BaseSourceConfigOptions.SKIP_HEADER_ROW_NUMBER.key(), 1);
+        config.put(BaseSourceConfigOptions.ENABLE_FILE_SPLIT.key(), true);
+        config.put(BaseSourceConfigOptions.FILE_SPLIT_SIZE.key(), 100);
+        try (TextReadStrategy readStrategy = new TextReadStrategy()) {
+            initReadStrategy(readStrategy, ConfigFactory.parseMap(config), file.getPath());
+            readStrategy.setSeaTunnelRowTypeInfo(
+                    new SeaTunnelRowType(
+                            new String[] {"id", "name"},
+                            new SeaTunnelDataType[] {BasicType.INT_TYPE, BasicType.STRING_TYPE}));
+
+            List<FileSourceSplit> splits = readStrategy.getFileSplits("t", file.getPath());
+            Assertions.assertEquals((file.length() + 99) / 100, splits.size());
+            List<String> actual =
+                    readSplits(readStrategy, splits).stream()
+                            .map(row -> row.getField(0) + "," + row.getField(1))
+                            .collect(Collectors.toList());
+            Assertions.assertEquals(expected, actual);
+        }
+    }
+
+    @Test
+    public void testQuotedCsvSplitRead() throws Exception {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            content.append(i).append(",\"name, ").append(i).append("\"\n");
+            if (i % 10 == 0) {
+                // csv records are read line by line, a quoted line break ends the record
+                content.append(i).append(",\"first\nsecond\"\n");
+            }
+        }
+        File file = tempDir.resolve("quoted.csv").toFile();
+        Files.write(file.toPath(), content.toString().getBytes(StandardCharsets.UTF_8));
+
+        Map<String, Object> config = new HashMap<>();
+        config.put(BaseSourceConfigOptions.FILE_FORMAT_TYPE.key(), "csv");
+        config.put(BaseSourceConfigOptions.ENABLE_FILE_SPLIT.key(), true);
+        config.put(BaseSourceConfigOptions.FILE_SPLIT_SIZE.key(), 64);
+        try (TextReadStrategy readStrategy = new TextReadStrategy()) {
+            initReadStrategy(readStrategy, ConfigFactory.parseMap(config), file.getPath());
+            readStrategy.setSeaTunnelRowTypeInfo(
+                    new SeaTunnelRowType(
+                            new String[] {"id", "name"},
+                            new SeaTunnelDataType[] {
+                                BasicType.STRING_TYPE, BasicType.STRING_TYPE
+                            }));
+
+            TestCollector wholeFile = new TestCollector();
+            readStrategy.read(file.getPath(), "t", wholeFile);
+            List<FileSourceSplit> splits = readStrategy.getFileSplits("t", file.getPath());
+            Assertions.assertTrue(splits.size() > 1);
+            List<SeaTunnelRow> splitRows = readSplits(readStrategy, splits);
+            Assertions.assertEquals(toString(wholeFile.getRows()), toString(splitRows));
+            Assertions.assertEquals("[1,name, 1]", toString(splitRows.get(3)));
+        }
+    }
+
+    @Test
+    public void testCompressedTextNotSplit() throws Exception {
+        File file = tempDir.resolve("test.lzo").toFile();
+        Files.write(file.toPath(), new byte[1000]);
+        Map<String, Object> config = new HashMap<>();
+        config.put(BaseSourceConfigOptions.FILE_FORMAT_TYPE.key(), "text");
+        config.put(BaseSourceConfigOptions.COMPRESS_CODEC.key(), "lzo");
+        config.put(BaseSourceConfigOptions.ENABLE_FILE_SPLIT.key(), true);
+        config.put(BaseSourceConfigOptions.FILE_SPLIT_SIZE.key(), 100);
+        try (TextReadStrategy readStrategy = new TextReadStrategy()) {
+            initReadStrategy(readStrategy, ConfigFactory.parseMap(config), file.getPath());
+            readStrategy.setSeaTunnelRowTypeInfo(
+                    new SeaTunnelRowType(
+                            new String[] {"line"},
+                            new SeaTunnelDataType[] {BasicType.STRING_TYPE}));
+            List<FileSourceSplit> splits = readStrategy.getFileSplits("t", file.getPath());
+            Assertions.assertEquals(1, splits.size());
+            Assertions.assertTrue(splits.get(0).isWholeFile());
+        }
+    }
+
+    @Test
+    public void testParquetSplitRead() throws Exception {
+        String path = resourcePath("/timestamp_as_int64.parquet");
+        try (ParquetReadStrategy readStrategy = new ParquetReadStrategy()) {
+            testColumnarSplitRead(readStrategy, path);
+        }
+    }
+
+    @Test
+    public void testOrcSplitRead() throws Exception {
+        String path = resourcePath("/test.orc");
+        try (OrcReadStrategy readStrategy = new OrcReadStrategy()) {
+            testColumnarSplitRead(readStrategy, path);
+        }
+    }
+
+    private void testColumnarSplitRead(AbstractReadStrategy readStrategy, String path)
+            throws Exception {
+        long fileLength = new File(path).length();
+        Map<String, Object> config = new HashMap<>();
+        config.put(BaseSourceConfigOptions.ENABLE_FILE_SPLIT.key(), true);
+        config.put(BaseSourceConfigOptions.FILE_SPLIT_SIZE.key(), fileLength / 3);
+        initReadStrategy(readStrategy, ConfigFactory.parseMap(config), path);
+        readStrategy.getSeaTunnelRowTypeInfo(path);
+
+        TestCollector wholeFile = new TestCollector();
+        readStrategy.read(path, "t", wholeFile);
+        Assertions.assertFalse(wholeFile.getRows().isEmpty());
+
+        List<FileSourceSplit> splits = readStrategy.getFileSplits("t", path);
+        Assertions.assertTrue(splits.size() > 1);
+        Assertions.assertEquals(
+                toString(wholeFile.getRows()), toString(readSplits(readStrategy, splits)));
+    }
+
+    private static void initReadStrategy(
+            AbstractReadStrategy readStrategy, Config pluginConfig, String path) throws Exception {
+        readStrategy.setPluginConfig(pluginConfig);
+        readStrategy.init(new LocalConf(FS_DEFAULT_NAME_DEFAULT));
+        readStrategy.getFileNamesByPath(path);
+    }
+
+    private static List<SeaTunnelRow> readSplits(
+            AbstractReadStrategy readStrategy, List<FileSourceSplit> splits) throws Exception {
+        TestCollector collector = new TestCollector();
+        for (FileSourceSplit split : splits) {
+            readStrategy.read(split, split.getTableId(), collector);
+        }
+        return collector.getRows();
+    }
+
+    private static String resourcePath(String name) throws Exception {
+        return Paths.get(FileSplitReadTest.class.getResource(name).toURI()).toString();
+    }
+
+    private static String toString(Object value) {
+        if (value instanceof SeaTunnelRow) {
+            return toString(((SeaTunnelRow) value).getFields());
+        }
+        if (value instanceof List) {
+            return toString(((List<?>) value).toArray());
+        }
+        if (value instanceof byte[]) {
+            return Arrays.toString((byte[]) value);
+        }
+        if (value instanceof Object[]) {
+            return Arrays.stream((Object[]) value)
+                    .map(FileSplitReadTest::toString)
+                    .collect(Collectors.joining(",", "[", "]"));
+        }
+        return String.valueOf(value);
+    }
+
+    private static String repeat(char c, int count) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            builder.append(c);
+        }
+        return builder.toString();
+    }
+}
@@ -21,20 +21,37 @@ import org.apache.seatunnel.shade.com.typesafe.config.Config;
 import org.apache.seatunnel.shade.com.typesafe.config.ConfigFactory;
 
 import org.apache.seatunnel.api.source.Collector;
+import org.apache.seatunnel.api.source.filter.ComparisonPredicate;
+import org.apache.seatunnel.api.source.filter.Predicate;
+import org.apache.seatunnel.api.table.type.ColumnarBatch;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.connectors.seatunnel.file.config.HadoopConf;
 import org.apache.seatunnel.connectors.seatunnel.file.source.reader.OrcReadStrategy;
 
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.Path;
+import org.apache.orc.OrcFile;
+import org.apache.orc.TypeDescription;
+import org.apache.orc.Writer;
+import org.apache.orc.storage.ql.exec.vector.BytesColumnVector;
+import org.apache.orc.storage.ql.exec.vector.DoubleColumnVector;
+import org.apache.orc.storage.ql.exec.vector.LongColumnVector;
+import org.apache.orc.storage.ql.exec.vector.VectorizedRowBatch;
+
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.File;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import static org.apache.hadoop.fs.CommonConfigurationKeysPublic.FS_DEFAULT_NAME_DEFAULT;
@@ -88,6 +105,203 @@ public class OrcReadStrategyTest {
         }
     }
 
+    @Test
+    public void testOrcReadWithPushDownFilters(@TempDir java.nio.file.Path tempDir)
+            throws Exception {
+        String orcFilePath = tempDir.resolve("filter.orc").toString();
+        TypeDescription schema = TypeDescription.fromString("struct<id:bigint,name:string>");
+        try (Writer writer =
+                OrcFile.createWriter(
+                        new Path(orcFilePath),
+                        OrcFile.writerOptions(new Configuration())
+                                .setSchema(schema)
+                                .rowIndexStride(1000))) {
+            VectorizedRowBatch batch = schema.createRowBatch();
+            for (int i = 0; i < 2000; i++) {
+                int row = batch.size++;
+                ((LongColumnVector) batch.cols[0]).vector[row] = i;
+                ((BytesColumnVector) batch.cols[1])
+                        .setVal(row, ("n" + i).getBytes(StandardCharsets.UTF_8));
+                if (batch.size == batch.getMaxSize()) {
+                    writer.addRowBatch(batch);
+                    batch.reset();
+                }
+            }
+            writer.addRowBatch(batch);
+        }
+        OrcReadStrategy orcReadStrategy = new OrcReadStrategy();
+        orcReadStrategy.init(new LocalConf(FS_DEFAULT_NAME_DEFAULT));
+        orcReadStrategy.getSeaTunnelRowTypeInfo(orcFilePath);
+
+        // only the row groups whose statistics may match are read
+        List<Predicate> predicates =
+                Collections.singletonList(
+                        new ComparisonPredicate(
+                                "id", ComparisonPredicate.Operator.GREATER_THAN_OR_EQUALS, 1500L));
+        Assertions.assertEquals(predicates, orcReadStrategy.applyFilters(predicates));
+        TestCollector testCollector = new TestCollector();
+        orcReadStrategy.read(orcFilePath, "", testCollector);
+        Assertions.assertEquals(1000, testCollector.getRows().size());
+        Assertions.assertEquals(1000L, testCollector.getRows().get(0).getField(0));
+
+        orcReadStrategy.applyFilters(
+                Collections.singletonList(
+                        new ComparisonPredicate(
+                                "name", ComparisonPredicate.Operator.EQUALS, "n5")));
+        testCollector = new TestCollector();
+        orcReadStrategy.read(orcFilePath, "", testCollector);
+        Assertions.assertEquals(1000, testCollector.getRows().size());
+        Assertions.assertEquals(0L, testCollector.getRows().get(0).getField(0));
+    }
+
+    @Test
+    public void testOrcReadWithProjection() throws Exception {
+        URL orcFile = OrcReadStrategyTest.class.getResource("/test.orc");
+        Assertions.assertNotNull(orcFile);
+        String orcFilePath = Paths.get(orcFile.toURI()).toString();
+        OrcReadStrategy orcReadStrategy = new OrcReadStrategy();
+        orcReadStrategy.init(new LocalConf(FS_DEFAULT_NAME_DEFAULT));
+        SeaTunnelRowType fullRowType = orcReadStrategy.getSeaTunnelRowTypeInfo(orcFilePath);
+        TestCollector testCollector = new TestCollector();
+        orcReadStrategy.read(orcFilePath, "", testCollector);
+        SeaTunnelRow fullRow = testCollector.getRows().get(0);
+
+        List<String> fieldNames =
+                Arrays.asList(fullRowType.getFieldName(2), fullRowType.getFieldName(0));
+        Assertions.assertTrue(orcReadStrategy.applyProjection(fieldNames));
+        Assertions.assertArrayEquals(
+                new String[] {fullRowType.getFieldName(0), fullRowType.getFieldName(2)},
+                orcReadStrategy.getActualSeaTunnelRowTypeInfo().getFieldNames());
+        testCollector = new TestCollector();
+        orcReadStrategy.read(orcFilePath, "", testCollector);
+        SeaTunnelRow projectedRow = testCollector.getRows().get(0);
+        Assertions.assertEquals(2, projectedRow.getArity());
+        Assertions.assertEquals(fullRow.getField(0), projectedRow.getField(0));
+        Assertions.assertEquals(fullRow.getField(2), projectedRow.getField(1));
+    }
+
+    @Test
+    public void testOrcReadColumnarBatch(@TempDir java.nio.file.Path tempDir) throws Exception {
+        String orcFilePath = tempDir.resolve("batch.orc").toString();
+        TypeDescription schema = TypeDescription.fromString("struct<id:bigint,name:string>");
+        try (Writer writer =
+                OrcFile.createWriter(
+                        new Path(orcFilePath),
+                        OrcFile.writerOptions(new Configuration()).setSchema(schema))) {
+            VectorizedRowBatch batch = schema.createRowBatch();
+            for (int i = 0; i < 1500; i++) {
+                int row = batch.size++;
+                ((LongColumnVector) batch.cols[0]).vector[row] = i;
+                ((BytesColumnVector) batch.cols[1])
+                        .setVal(row, ("n" + i).getBytes(StandardCharsets.UTF_8));
+                if (batch.size == batch.getMaxSize()) {
+                    writer.addRowBatch(batch);
+                    batch.reset();
+                }
+            }
+            writer.addRowBatch(batch);
+        }
+        OrcReadStrategy orcReadStrategy = new OrcReadStrategy();
+        orcReadStrategy.init(new LocalConf(FS_DEFAULT_NAME_DEFAULT));
+        orcReadStrategy.getSeaTunnelRowTypeInfo(orcFilePath);
+
+        List<ColumnarBatch> batches = new ArrayList<>();
+        orcReadStrategy.read(
+                orcFilePath,
+                "db.t",
+                new TestCollector() {
+                    @Override
+                    public void collectBatch(ColumnarBatch batch) {
+                        batches.add(batch);
+                    }
+                });
+        Assertions.assertEquals(2, batches.size());
+        Assertions.assertNotSame(batches.get(0), batches.get(1));
+        // the batches are not reused by the reader
+        ColumnarBatch first = batches.get(0);
+        Assertions.assertEquals(1024, first.getRowCount());
+        Assertions.assertEquals(2, first.getColumnCount());
+        Assertions.assertEquals("db.t", first.getTableId());
+        Assertions.assertEquals(10L, first.getLong(0, 10));
+        Assertions.assertEquals(10L, first.getValue(0, 10));
+        Assertions.assertEquals("n10", first.getValue(1, 10));
+        Assertions.assertFalse(first.isNullAt(1, 10));
+        Assertions.assertEquals(1499L, batches.get(1).getLong(0, 1499 - 1024));
+
+        // a collector which only collects rows receives the rows of the batches
+        TestCollector testCollector = new TestCollector();
+        orcReadStrategy.read(orcFilePath, "db.t", testCollector);
+        Assertions.assertEquals(1500, testCollector.getRows().size());
+        SeaTunnelRow row = testCollector.getRows().get(1024);
+        Assertions.assertArrayEquals(new Object[] {1024L, "n1024"}, row.getFields());
+        Assertions.assertEquals("db.t", row.getTableId());
+    }
+
+    @Test
+    public void testOrcReadColumnarBatchWithRepeatingAndNullValues(
+            @TempDir java.nio.file.Path tempDir) throws Exception {
+        String orcFilePath = tempDir.resolve("repeating.orc").toString();
+        TypeDescription schema =
+                TypeDescription.fromString("struct<id:bigint,c:int,d:double,n:bigint>");
+        try (Writer writer =
+                OrcFile.createWriter(
+                        new Path(orcFilePath),
+                        OrcFile.writerOptions(new Configuration()).setSchema(schema))) {
+            VectorizedRowBatch batch = schema.createRowBatch();
+            DoubleColumnVector doubles = (DoubleColumnVector) batch.cols[2];
+            LongColumnVector nulls = (LongColumnVector) batch.cols[3];
+            for (int i = 0; i < 100; i++) {
+                int row = batch.size++;
+                ((LongColumnVector) batch.cols[0]).vector[row] = i;
+                ((LongColumnVector) batch.cols[1]).vector[row] = 7;
+                if (i % 2 == 0) {
+                    doubles.vector[row] = i;
+                } else {
+                    doubles.noNulls = false;
+                    doubles.isNull[row] = true;
+                }
+                nulls.noNulls = false;
+                nulls.isNull[row] = true;
+            }
+            writer.addRowBatch(batch);
+        }
+        OrcReadStrategy orcReadStrategy = new OrcReadStrategy();
+        orcReadStrategy.init(new LocalConf(FS_DEFAULT_NAME_DEFAULT));
+        orcReadStrategy.getSeaTunnelRowTypeInfo(orcFilePath);
+
+        List<ColumnarBatch> batches = new ArrayList<>();
+        orcReadStrategy.read(
+                orcFilePath,
+                "db.t",
+                new TestCollector() {
+                    @Override
+                    public void collectBatch(ColumnarBatch batch) {
+                        batches.add(batch);
+                    }
+                });
+        Assertions.assertEquals(1, batches.size());
+        ColumnarBatch batch = batches.get(0);
+        long bytesSize = 0;
+        for (int row = 0; row < 100; row++) {
+            Assertions.assertEquals(row, batch.getLong(0, row));
+            Assertions.assertEquals(7, batch.getInt(1, row));
+            Assertions.assertEquals(7, batch.getValue(1, row));
+            Assertions.assertEquals(row % 2 != 0, batch.isNullAt(2, row));
+            if (row % 2 == 0) {
+                Assertions.assertEquals(row, batch.getDouble(2, row));
+            } else {
+                Assertions.assertNull(batch.getValue(2, row));
+            }
+            Assertions.assertTrue(batch.isNullAt(3, row));
+            Assertions.assertNull(batch.getValue(3, row));
+            bytesSize += batch.getRow(row).getBytesSize();
+        }
+        int nullRow = 1;
+        Assertions.assertThrows(NullPointerException.class, () -> batch.getDouble(2, nullRow));
+        Assertions.assertThrows(NullPointerException.class, () -> batch.getLong(3, nullRow));
+        Assertions.assertEquals(bytesSize, batch.getBytesSize());
+    }
+
     public static class TestCollector implements Collector<SeaTunnelRow> {
 
         private final List<SeaTunnelRow> rows = new ArrayList<>();
@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.file.writer;
+
+import org.apache.seatunnel.shade.com.typesafe.config.ConfigFactory;
+
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.ColumnarBatch;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.connectors.seatunnel.file.config.FileFormat;
+import org.apache.seatunnel.connectors.seatunnel.file.sink.config.FileSinkConfig;
+import org.apache.seatunnel.connectors.seatunnel.file.sink.writer.OrcWriteStrategy;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.OrcReadStrategy;
+import org.apache.seatunnel.connectors.seatunnel.file.writer.ReadStrategyEncodingTest.LocalConf;
+import org.apache.seatunnel.connectors.seatunnel.file.writer.ReadStrategyEncodingTest.TestCollector;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.apache.hadoop.fs.CommonConfigurationKeysPublic.FS_DEFAULT_NAME_DEFAULT;
+
+public class OrcWriteStrategyTest {
+
+    @TempDir private Path tempDir;
+
+    @DisabledOnOs(OS.WINDOWS)
+    @Test
+    public void testWriteColumnarBatch() throws Exception {
+        String tmpPath = "file://" + tempDir.resolve("tmp");
+        Map<String, Object> writeConfig = new HashMap<>();
+        writeConfig.put("tmp_path", tmpPath);
+        writeConfig.put("path", "file://" + tempDir.resolve("target"));
+        writeConfig.put("file_format_type", FileFormat.ORC.name());
+        writeConfig.put("batch_size", 4);
+
+        SeaTunnelRowType rowType =
+                new SeaTunnelRowType(
+                        new String[] {"id", "name"},
+                        new SeaTunnelDataType[] {BasicType.INT_TYPE, BasicType.STRING_TYPE});
+        OrcWriteStrategy writeStrategy =
+                new OrcWriteStrategy(
+                        new FileSinkConfig(ConfigFactory.parseMap(writeConfig), rowType));
+        LocalConf hadoopConf = new LocalConf(FS_DEFAULT_NAME_DEFAULT);
+        writeStrategy.setSeaTunnelRowTypeInfo(rowType);
+        writeStrategy.init(hadoopConf, "test1", "test1", 0);
+        writeStrategy.beginTransaction(1L);
+        writeStrategy.write(new TestColumnarBatch(3));
+        writeStrategy.write(new TestColumnarBatch(7));
+        writeStrategy.finishAndCloseFile();
+        writeStrategy.close();
+
+        OrcReadStrategy readStrategy = new OrcReadStrategy();
+        readStrategy.init(hadoopConf);
+        List<String> files = readStrategy.getFileNamesByPath(tmpPath);
+        // the rows are rolled over into a new file every batch_size rows
+        Assertions.assertEquals(3, files.size());
+        TestCollector collector = new TestCollector();
+        for (String file : files) {
+            readStrategy.getSeaTunnelRowTypeInfo(file);
+            readStrategy.read(file, "test", collector);
+        }
+        List<String> expected = new ArrayList<>();
+        for (int row = 0; row < 3; row++) {
+            expected.add(row + "," + TestColumnarBatch.name(row));
+        }
+        for (int row = 0; row < 7; row++) {
+            expected.add(row + "," + TestColumnarBatch.name(row));
+        }
+        List<String> actual =
+                collector.getRows().stream()
+                        .map(row -> row.getField(0) + "," + row.getField(1))
+                        .sorted()
+                        .collect(Collectors.toList());
+        Assertions.assertEquals(expected.stream().sorted().collect(Collectors.toList()), actual);
+        readStrategy.close();
+    }
+
+    private static class TestColumnarBatch implements ColumnarBatch {
+
+        private final int rowCount;
+
+        private TestColumnarBatch(int rowCount) {
+            this.rowCount = rowCount;
+        }
+
+        private static String name(int row) {
+            return row % 3 == 0 ? null : "name_" + row;
+        }
+
+        @Override
+        public String getTableId() {
+            return "test";
+        }
+
+        @Override
+        public int getRowCount() {
+            return rowCount;
+        }
+
+        @Override
+        public int getColumnCount() {
+            return 2;
+        }
+
+        @Override
+        public boolean isNullAt(int column, int row) {
+            return getValue(column, row) == null;
+        }
+
+        @Override
+        public Object getValue(int column, int row) {
+            return column == 0 ? row : name(row);
+        }
+    }
+}
@@ -21,6 +21,10 @@ import org.apache.seatunnel.shade.com.typesafe.config.Config;
 import org.apache.seatunnel.shade.com.typesafe.config.ConfigFactory;
 
 import org.apache.seatunnel.api.source.Collector;
+import org.apache.seatunnel.api.source.filter.ComparisonPredicate;
+import org.apache.seatunnel.api.source.filter.InPredicate;
+import org.apache.seatunnel.api.source.filter.IsNullPredicate;
+import org.apache.seatunnel.api.source.filter.Predicate;
 import org.apache.seatunnel.api.table.type.ArrayType;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
@@ -52,6 +56,8 @@ import java.net.URL;
 import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.TimeZone;
 
@@ -168,6 +174,95 @@ public class ParquetReadStrategyTest {
         parquetReadStrategy.read(path, "", testCollector);
     }
 
+    @Test
+    public void testParquetReadWithPushDownFilters() throws Exception {
+        AutoGenerateParquetData.generateTestData();
+        ParquetReadStrategy parquetReadStrategy = new ParquetReadStrategy();
+        LocalConf localConf = new LocalConf(FS_DEFAULT_NAME_DEFAULT);
+        parquetReadStrategy.init(localConf);
+        parquetReadStrategy.getSeaTunnelRowTypeInfo(AutoGenerateParquetData.DATA_FILE_PATH);
+
+        List<Predicate> predicates =
+                Arrays.asList(
+                        new ComparisonPredicate(
+                                "id", ComparisonPredicate.Operator.GREATER_THAN_OR_EQUALS, 2L),
+                        new InPredicate("name", Arrays.asList("Bob", "Carol")),
+                        new IsNullPredicate("salary", true),
+                        new IsNullPredicate("skills", true));
+        Assertions.assertEquals(
+                predicates.subList(0, 2), parquetReadStrategy.applyFilters(predicates));
+        TestCollector testCollector = new TestCollector();
+        parquetReadStrategy.read(AutoGenerateParquetData.DATA_FILE_PATH, "1", testCollector);
+        Assertions.assertEquals(1, testCollector.getRows().size());
+        Assertions.assertEquals("Bob", testCollector.getRows().get(0).getField(1).toString());
+
+        parquetReadStrategy.applyFilters(
+                Collections.singletonList(
+                        new ComparisonPredicate(
+                                "name", ComparisonPredicate.Operator.EQUALS, "Dave")));
+        testCollector = new TestCollector();
+        parquetReadStrategy.read(AutoGenerateParquetData.DATA_FILE_PATH, "1", testCollector);
+        Assertions.assertTrue(testCollector.getRows().isEmpty());
+        AutoGenerateParquetData.deleteFile();
+    }
+
+    @DisabledOnOs(OS.WINDOWS)
+    @Test
+    public void testParquetReadWithProjection() throws Exception {
+        AutoGenerateParquetData.generateTestData();
+        ParquetReadStrategy parquetReadStrategy = new ParquetReadStrategy();
+        LocalConf localConf = new LocalConf(FS_DEFAULT_NAME_DEFAULT);
+        parquetReadStrategy.init(localConf);
+        parquetReadStrategy.getSeaTunnelRowTypeInfo(AutoGenerateParquetData.DATA_FILE_PATH);
+
+        Assertions.assertFalse(
+                parquetReadStrategy.applyProjection(
+                        Arrays.asList("id", "name", "salary", "skills", "other")));
+        Assertions.assertTrue(parquetReadStrategy.applyProjection(Arrays.asList("name", "id")));
+        SeaTunnelRowType rowType = parquetReadStrategy.getActualSeaTunnelRowTypeInfo();
+        Assertions.assertArrayEquals(new String[] {"id", "name"}, rowType.getFieldNames());
+        TestCollector testCollector = new TestCollector();
+        parquetReadStrategy.read(AutoGenerateParquetData.DATA_FILE_PATH, "1", testCollector);
+        List<SeaTunnelRow> rows = testCollector.getRows();
+        Assertions.assertEquals(2, rows.size());
+        Assertions.assertEquals(2, rows.get(1).getArity());
+        Assertions.assertEquals(2, rows.get(1).getField(0));
+        Assertions.assertEquals("Bob", rows.get(1).getField(1).toString());
+
+        // the nested columns are pruned after reading
+        parquetReadStrategy = new ParquetReadStrategy();
+        parquetReadStrategy.init(localConf);
+        parquetReadStrategy.getSeaTunnelRowTypeInfo(AutoGenerateParquetData.DATA_FILE_PATH);
+        Assertions.assertTrue(parquetReadStrategy.applyProjection(Arrays.asList("skills", "id")));
+        testCollector = new TestCollector();
+        parquetReadStrategy.read(AutoGenerateParquetData.DATA_FILE_PATH, "1", testCollector);
+        rows = testCollector.getRows();
+        Assertions.assertEquals(2, rows.get(0).getArity());
+        Assertions.assertEquals(1, rows.get(0).getField(0));
+        Assertions.assertEquals("Java", ((String[]) rows.get(0).getField(1))[0]);
+        AutoGenerateParquetData.deleteFile();
+
+        // a file without avro schema
+        URL resource = ParquetReadStrategyTest.class.getResource("/hive.parquet");
+        String path = Paths.get(resource.toURI()).toString();
+        parquetReadStrategy = new ParquetReadStrategy();
+        parquetReadStrategy.init(localConf);
+        SeaTunnelRowType fullRowType = parquetReadStrategy.getSeaTunnelRowTypeInfo(path);
+        testCollector = new TestCollector();
+        parquetReadStrategy.read(path, "", testCollector);
+        SeaTunnelRow fullRow = testCollector.getRows().get(0);
+
+        String lastField = fullRowType.getFieldName(fullRowType.getTotalFields() - 1);
+        Assertions.assertTrue(
+                parquetReadStrategy.applyProjection(Collections.singletonList(lastField)));
+        testCollector = new TestCollector();
+        parquetReadStrategy.read(path, "", testCollector);
+        SeaTunnelRow projectedRow = testCollector.getRows().get(0);
+        Assertions.assertEquals(1, projectedRow.getArity());
+        Assertions.assertEquals(
+                fullRow.getField(fullRowType.getTotalFields() - 1), projectedRow.getField(0));
+    }
+
     @DisabledOnOs(OS.WINDOWS)
     @Test
     public void testParquetReadArray() throws Exception {
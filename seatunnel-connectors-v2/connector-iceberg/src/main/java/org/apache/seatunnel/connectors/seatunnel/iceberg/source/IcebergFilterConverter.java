@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.iceberg.source;
+
+import org.apache.seatunnel.api.source.filter.AndPredicate;
+import org.apache.seatunnel.api.source.filter.ComparisonPredicate;
+import org.apache.seatunnel.api.source.filter.InPredicate;
+import org.apache.seatunnel.api.source.filter.IsNullPredicate;
+import org.apache.seatunnel.api.source.filter.OrPredicate;
+import org.apache.seatunnel.api.source.filter.Predicate;
+import org.apache.seatunnel.api.source.filter.PredicateVisitor;
+
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.expressions.Expression;
+import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.types.Type;
+import org.apache.iceberg.types.Types;
+
+import java.util.List;
+
+/**
+ * Converts the pushed down {@link Predicate}s to iceberg {@link Expression}s, returns null for the
+ * predicates on the columns whose values can't be compared with the predicate values.
+ */
+public class IcebergFilterConverter implements PredicateVisitor<Expression> {
+
+    private final Schema schema;
+
+    public IcebergFilterConverter(Schema schema) {
+        this.schema = schema;
+    }
+
+    @Override
+    public Expression visit(ComparisonPredicate predicate) {
+        String name = predicate.getFieldName();
+        Object value = predicate.getValue();
+        if (!isComparable(name, value)) {
+            return null;
+        }
+        switch (predicate.getOperator()) {
+            case EQUALS:
+                return Expressions.equal(name, value);
+            case LESS_THAN:
+                return Expressions.lessThan(name, value);
+            case LESS_THAN_OR_EQUALS:
+                return Expressions.lessThanOrEqual(name, value);
+            case GREATER_THAN:
+                return Expressions.greaterThan(name, value);
+            case GREATER_THAN_OR_EQUALS:
+                return Expressions.greaterThanOrEqual(name, value);
+            default:
+                return null;
+        }
+    }
+
+    @Override
+    public Expression visit(InPredicate predicate) {
+        for (Object value : predicate.getValues()) {
+            if (!isComparable(predicate.getFieldName(), value)) {
+                return null;
+            }
+        }
+        return Expressions.in(predicate.getFieldName(), predicate.getValues());
+    }
+
+    @Override
+    public Expression visit(IsNullPredicate predicate) {
+        if (schema.findField(predicate.getFieldName()) == null) {
+            return null;
+        }
+        return predicate.isNegated()
+                ? Expressions.notNull(predicate.getFieldName())
+                : Expressions.isNull(predicate.getFieldName());
+    }
+
+    @Override
+    public Expression visit(AndPredicate predicate) {
+        return combine(predicate.getChildren(), true);
+    }
+
+    @Override
+    public Expression visit(OrPredicate predicate) {
+        return combine(predicate.getChildren(), false);
+    }
+
+    private Expression combine(List<Predicate> children, boolean and) {
+        Expression result = null;
+        for (Predicate child : children) {
+            Expression expression = child.accept(this);
+            if (expression == null) {
+                return null;
+            }
+            if (result == null) {
+                result = expression;
+            } else {
+                result =
+                        and
+                                ? Expressions.and(result, expression)
+                                : Expressions.or(result, expression);
+            }
+        }
+        return result;
+    }
+
+    private boolean isComparable(String name, Object value) {
+        Types.NestedField field = schema.findField(name);
+        if (field == null) {
+            return false;
+        }
+        Type.TypeID typeId = field.type().typeId();
+        if (value instanceof Long) {
+            return typeId == Type.TypeID.INTEGER || typeId == Type.TypeID.LONG;
+        }
+        if (value instanceof String) {
+            return typeId == Type.TypeID.STRING;
+        }
+        return false;
+    }
+}
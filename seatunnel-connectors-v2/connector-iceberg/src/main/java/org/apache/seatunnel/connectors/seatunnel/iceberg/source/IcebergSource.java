@@ -26,7 +26,9 @@ import org.apache.seatunnel.api.source.SeaTunnelSource;
 import org.apache.seatunnel.api.source.SourceReader;
 import org.apache.seatunnel.api.source.SourceSplitEnumerator;
 import org.apache.seatunnel.api.source.SupportColumnProjection;
+import org.apache.seatunnel.api.source.SupportFilterPushDown;
 import org.apache.seatunnel.api.source.SupportParallelism;
+import org.apache.seatunnel.api.source.filter.Predicate;
 import org.apache.seatunnel.api.table.catalog.CatalogTable;
 import org.apache.seatunnel.api.table.catalog.CatalogTableUtil;
 import org.apache.seatunnel.api.table.catalog.schema.TableSchemaOptions;
@@ -47,9 +49,12 @@ import org.apache.seatunnel.connectors.seatunnel.iceberg.source.split.IcebergFil
 import org.apache.seatunnel.connectors.seatunnel.iceberg.utils.SchemaUtils;
 
 import org.apache.iceberg.Schema;
+import org.apache.iceberg.expressions.Expression;
+import org.apache.iceberg.expressions.Expressions;
 import org.apache.iceberg.types.Types;
 
 import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -57,11 +62,13 @@ import java.util.List;
 
 import static org.apache.seatunnel.shade.com.google.common.base.Preconditions.checkArgument;
 
+@Slf4j
 public class IcebergSource
         implements SeaTunnelSource<
                         SeaTunnelRow, IcebergFileScanTaskSplit, IcebergSplitEnumeratorState>,
                 SupportParallelism,
-                SupportColumnProjection {
+                SupportColumnProjection,
+                SupportFilterPushDown {
 
     private static final long serialVersionUID = 4343414808223919870L;
 
@@ -71,6 +78,7 @@ public class IcebergSource
     private final SeaTunnelRowType seaTunnelRowType;
     private JobContext jobContext;
     private final CatalogTable catalogTable;
+    private Expression pushedFilter;
 
     public IcebergSource(ReadonlyConfig config, CatalogTable catalogTable) {
         this.sourceConfig = SourceConfig.loadConfig(config);
@@ -133,6 +141,35 @@ public class IcebergSource
         return originalRowType;
     }
 
+    @Override
+    public List<Predicate> applyFilters(List<Predicate> predicates) {
+        IcebergFilterConverter converter = new IcebergFilterConverter(tableSchema);
+        List<Predicate> acceptedPredicates = new ArrayList<>();
+        for (Predicate predicate : predicates) {
+            Expression expression = predicate.accept(converter);
+            if (expression != null) {
+                acceptedPredicates.add(predicate);
+                pushedFilter =
+                        pushedFilter == null
+                                ? expression
+                                : Expressions.and(pushedFilter, expression);
+            }
+        }
+        log.info("Push down filter {} to iceberg scan", pushedFilter);
+        return acceptedPredicates;
+    }
+
+    private IcebergScanContext withPushedFilter(IcebergScanContext scanContext) {
+        if (pushedFilter == null) {
+            return scanContext;
+        }
+        Expression filter =
+                scanContext.getFilter() == null
+                        ? pushedFilter
+                        : Expressions.and(scanContext.getFilter(), pushedFilter);
+        return scanContext.toBuilder().filter(filter).build();
+    }
+
     @Override
     public Boundedness getBoundedness() {
         return JobMode.BATCH.equals(jobContext.getJobMode())
@@ -164,14 +201,15 @@ public class IcebergSource
         if (Boundedness.BOUNDED.equals(getBoundedness())) {
             return new IcebergBatchSplitEnumerator(
                     enumeratorContext,
-                    IcebergScanContext.scanContext(sourceConfig, projectedSchema),
+                    withPushedFilter(IcebergScanContext.scanContext(sourceConfig, projectedSchema)),
                     sourceConfig,
                     null,
                     catalogTable);
         }
         return new IcebergStreamSplitEnumerator(
                 enumeratorContext,
-                IcebergScanContext.streamScanContext(sourceConfig, projectedSchema),
+                withPushedFilter(
+                        IcebergScanContext.streamScanContext(sourceConfig, projectedSchema)),
                 sourceConfig,
                 null,
                 catalogTable);
@@ -185,14 +223,15 @@ public class IcebergSource
         if (Boundedness.BOUNDED.equals(getBoundedness())) {
             return new IcebergBatchSplitEnumerator(
                     enumeratorContext,
-                    IcebergScanContext.scanContext(sourceConfig, projectedSchema),
+                    withPushedFilter(IcebergScanContext.scanContext(sourceConfig, projectedSchema)),
                     sourceConfig,
                     checkpointState,
                     catalogTable);
         }
         return new IcebergStreamSplitEnumerator(
                 enumeratorContext,
-                IcebergScanContext.streamScanContext(sourceConfig, projectedSchema),
+                withPushedFilter(
+                        IcebergScanContext.streamScanContext(sourceConfig, projectedSchema)),
                 sourceConfig,
                 checkpointState,
                 catalogTable);
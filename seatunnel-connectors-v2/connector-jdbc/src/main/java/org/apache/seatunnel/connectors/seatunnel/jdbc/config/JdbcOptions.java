@@ -164,6 +164,13 @@ public interface JdbcOptions {
                     .defaultValue(false)
                     .withDescription("support copy in statement (postgresql)");
 
+    Option<Boolean> USE_LOAD_DATA_STATEMENT =
+            Options.key("use_load_data_statement")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "support load data local infile statement (mysql, oceanbase mysql mode)");
+
     /** source config */
     Option<String> PARTITION_COLUMN =
             Options.key("partition_column")
@@ -18,6 +18,7 @@
 package org.apache.seatunnel.connectors.seatunnel.jdbc.internal;
 
 import org.apache.seatunnel.api.table.catalog.Column;
+import org.apache.seatunnel.api.table.catalog.ConstraintKey;
 import org.apache.seatunnel.api.table.catalog.TablePath;
 import org.apache.seatunnel.api.table.catalog.TableSchema;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
@@ -31,6 +32,7 @@ import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.CopyMana
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.FieldNamedPreparedStatement;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.InsertOrUpdateBatchStatementExecutor;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.JdbcBatchStatementExecutor;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.LoadDataBatchStatementExecutor;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.SimpleBatchStatementExecutor;
 
 import org.apache.commons.lang3.StringUtils;
@@ -79,7 +81,13 @@ public class JdbcOutputFormatBuilder {
                                     dialect.getRowConverter());
         } else if (primaryKeys == null || primaryKeys.isEmpty()) {
             statementExecutorFactory =
-                    () -> createSimpleBufferedExecutor(dialect, database, table, tableSchema);
+                    () ->
+                            createSimpleBufferedExecutor(
+                                    dialect,
+                                    database,
+                                    table,
+                                    tableSchema,
+                                    jdbcSinkConfig.isUseLoadDataStatement());
         } else {
             statementExecutorFactory =
                     () ->
@@ -91,7 +99,8 @@ public class JdbcOutputFormatBuilder {
                                     primaryKeys.toArray(new String[0]),
                                     jdbcSinkConfig.isEnableUpsert(),
                                     jdbcSinkConfig.isPrimaryKeyUpdated(),
-                                    jdbcSinkConfig.isSupportUpsertByInsertOnly());
+                                    jdbcSinkConfig.isSupportUpsertByInsertOnly(),
+                                    jdbcSinkConfig.isUseLoadDataStatement());
         }
 
         return new JdbcOutputFormat(
@@ -101,10 +110,22 @@ public class JdbcOutputFormatBuilder {
     }
 
     private static JdbcBatchStatementExecutor<SeaTunnelRow> createSimpleBufferedExecutor(
-            JdbcDialect dialect, String database, String table, TableSchema tableSchema) {
+            JdbcDialect dialect,
+            String database,
+            String table,
+            TableSchema tableSchema,
+            boolean useLoadDataStatement) {
         String insertSQL =
                 dialect.getInsertIntoStatement(database, table, tableSchema.getFieldNames());
-        return createSimpleBufferedExecutor(insertSQL, tableSchema, dialect.getRowConverter());
+        JdbcBatchStatementExecutor<SeaTunnelRow> simpleRowExecutor =
+                createSimpleExecutor(insertSQL, tableSchema, dialect.getRowConverter());
+        if (useLoadDataStatement) {
+            // like the insert statement, a load which skips a duplicate row fails the batch
+            simpleRowExecutor =
+                    createLoadDataExecutor(
+                            dialect, database, table, tableSchema, false, simpleRowExecutor);
+        }
+        return new BufferedBatchStatementExecutor(simpleRowExecutor, Function.identity());
     }
 
     private static JdbcBatchStatementExecutor<SeaTunnelRow> createSimpleBufferedExecutor(
@@ -122,7 +143,8 @@ public class JdbcOutputFormatBuilder {
             String[] pkNames,
             boolean enableUpsert,
             boolean isPrimaryKeyUpdated,
-            boolean supportUpsertByInsertOnly) {
+            boolean supportUpsertByInsertOnly,
+            boolean useLoadDataStatement) {
         int[] pkFields =
                 Arrays.stream(pkNames)
                         .mapToInt(tableSchema.toPhysicalRowDataType()::indexOf)
@@ -152,6 +174,25 @@ public class JdbcOutputFormatBuilder {
                         enableUpsert,
                         isPrimaryKeyUpdated,
                         supportUpsertByInsertOnly);
+        if (useLoadDataStatement) {
+            if (supportUpsertByInsertOnly) {
+                upsertExecutor =
+                        createLoadDataExecutor(
+                                dialect, database, table, tableSchema, false, upsertExecutor);
+            } else if (enableUpsert && !hasUniqueKeys(tableSchema)) {
+                // REPLACE overwrites the row with the same primary key, as the upsert does
+                upsertExecutor =
+                        createLoadDataExecutor(
+                                dialect, database, table, tableSchema, true, upsertExecutor);
+            } else {
+                // REPLACE would also delete the rows with the same value of another unique key,
+                // and it deletes the row instead of updating it in place
+                log.warn(
+                        "Load data statement does not match the upsert of table {} with enable_upsert = {}, ignore option use_load_data_statement.",
+                        table,
+                        enableUpsert);
+            }
+        }
         return new BufferReducedBatchStatementExecutor(
                 upsertExecutor, deleteExecutor, keyExtractor, Function.identity());
     }
@@ -208,6 +249,35 @@ public class JdbcOutputFormatBuilder {
         return new CopyManagerBatchStatementExecutor(copyInSql, tableSchema);
     }
 
+    private static JdbcBatchStatementExecutor<SeaTunnelRow> createLoadDataExecutor(
+            JdbcDialect dialect,
+            String database,
+            String table,
+            TableSchema tableSchema,
+            boolean replace,
+            JdbcBatchStatementExecutor<SeaTunnelRow> fallbackExecutor) {
+        Optional<String> loadDataSQL =
+                dialect.getLoadDataStatement(database, table, tableSchema, replace);
+        if (!loadDataSQL.isPresent()) {
+            log.warn(
+                    "Dialect {} does not support load data statement for table {}, ignore option use_load_data_statement.",
+                    dialect.dialectName(),
+                    table);
+            return fallbackExecutor;
+        }
+        return new LoadDataBatchStatementExecutor(
+                loadDataSQL.get(), replace, tableSchema, fallbackExecutor);
+    }
+
+    private static boolean hasUniqueKeys(TableSchema tableSchema) {
+        return tableSchema.getConstraintKeys() != null
+                && tableSchema.getConstraintKeys().stream()
+                        .anyMatch(
+                                key ->
+                                        key.getConstraintType()
+                                                == ConstraintKey.ConstraintType.UNIQUE_KEY);
+    }
+
     private static JdbcBatchStatementExecutor<SeaTunnelRow> createInsertOnlyExecutor(
             JdbcDialect dialect, String database, String table, TableSchema tableSchema) {
 
@@ -19,6 +19,7 @@ package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect;
 
 import org.apache.seatunnel.api.table.catalog.Column;
 import org.apache.seatunnel.api.table.catalog.TablePath;
+import org.apache.seatunnel.api.table.catalog.TableSchema;
 import org.apache.seatunnel.api.table.converter.BasicTypeDefine;
 import org.apache.seatunnel.api.table.converter.ConverterLoader;
 import org.apache.seatunnel.api.table.converter.TypeConverter;
@@ -231,6 +232,24 @@ public interface JdbcDialect extends Serializable {
     Optional<String> getUpsertStatement(
             String database, String tableName, String[] fieldNames, String[] uniqueKeyFields);
 
+    /**
+     * Constructs the dialects bulk load statement if supported; such as MySQL's {@code LOAD DATA
+     * LOCAL INFILE}.
+     *
+     * <p>The statement reads tab separated lines from the input stream set on the JDBC statement.
+     * Fields are escaped with a backslash, {@code \N} stands for NULL and {@code BYTES} values are
+     * sent as hexadecimal strings.
+     *
+     * @param replace whether rows with duplicate unique keys replace the existing rows or are
+     *     skipped
+     * @return the dialects bulk load statement or {@link Optional#empty()} if the dialect or a
+     *     column type of the table is not supported.
+     */
+    default Optional<String> getLoadDataStatement(
+            String database, String tableName, TableSchema tableSchema, boolean replace) {
+        return Optional.empty();
+    }
+
     /**
      * Different dialects optimize their PreparedStatement
      *
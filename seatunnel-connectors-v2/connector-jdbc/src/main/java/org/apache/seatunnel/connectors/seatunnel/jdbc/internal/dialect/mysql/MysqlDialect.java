@@ -18,13 +18,18 @@
 package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.mysql;
 
 import org.apache.seatunnel.api.table.catalog.TablePath;
+import org.apache.seatunnel.api.table.catalog.TableSchema;
 import org.apache.seatunnel.api.table.converter.BasicTypeDefine;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.api.table.type.SqlType;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.converter.JdbcRowConverter;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.DatabaseIdentifier;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialect;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialectTypeMapper;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.SQLUtils;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.dialectenum.FieldIdeEnum;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.LoadDataBatchStatementExecutor;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.source.JdbcSourceTable;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.utils.MysqlDefaultValueUtils;
 
@@ -109,6 +114,58 @@ public class MysqlDialect implements JdbcDialect {
         return Optional.of(upsertSQL);
     }
 
+    @Override
+    public Optional<String> getLoadDataStatement(
+            String database, String tableName, TableSchema tableSchema, boolean replace) {
+        return buildLoadDataStatement(this, database, tableName, tableSchema, replace);
+    }
+
+    /**
+     * Builds the {@code LOAD DATA LOCAL INFILE} statement of the MySQL compatible dialects, the
+     * identifiers are quoted by the given dialect.
+     */
+    public static Optional<String> buildLoadDataStatement(
+            JdbcDialect dialect,
+            String database,
+            String tableName,
+            TableSchema tableSchema,
+            boolean replace) {
+        SeaTunnelRowType rowType = tableSchema.toPhysicalRowDataType();
+        List<String> columns = new ArrayList<>();
+        List<String> setClauses = new ArrayList<>();
+        for (int i = 0; i < rowType.getTotalFields(); i++) {
+            SeaTunnelDataType<?> fieldType = rowType.getFieldType(i);
+            if (!LoadDataBatchStatementExecutor.isSupportedType(fieldType)) {
+                log.warn(
+                        "Column {} of type {} can not be written with LOAD DATA LOCAL INFILE.",
+                        rowType.getFieldName(i),
+                        fieldType);
+                return Optional.empty();
+            }
+            String column = dialect.quoteIdentifier(rowType.getFieldName(i));
+            if (fieldType.getSqlType() == SqlType.BYTES) {
+                String variable = "@hex" + i;
+                columns.add(variable);
+                setClauses.add(column + " = UNHEX(" + variable + ")");
+            } else {
+                columns.add(column);
+            }
+        }
+        // the default field and line terminators are tabs and newlines escaped by a backslash
+        String loadDataSQL =
+                "LOAD DATA LOCAL INFILE 'seatunnel' "
+                        + (replace ? "REPLACE" : "IGNORE")
+                        + " INTO TABLE "
+                        + dialect.tableIdentifier(database, tableName)
+                        + " CHARACTER SET utf8mb4 ("
+                        + String.join(", ", columns)
+                        + ")";
+        if (!setClauses.isEmpty()) {
+            loadDataSQL += " SET " + String.join(", ", setClauses);
+        }
+        return Optional.of(loadDataSQL);
+    }
+
     @Override
     public PreparedStatement creatPreparedStatement(
             Connection connection, String queryTemplate, int fetchSize) throws SQLException {
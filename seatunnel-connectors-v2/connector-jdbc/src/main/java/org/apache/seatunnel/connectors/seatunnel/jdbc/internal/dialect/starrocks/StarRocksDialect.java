@@ -17,8 +17,11 @@
 
 package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.starrocks;
 
+import org.apache.seatunnel.api.table.catalog.TableSchema;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.mysql.MysqlDialect;
 
+import java.util.Optional;
+
 public class StarRocksDialect extends MysqlDialect {
 
     public StarRocksDialect() {}
@@ -31,4 +34,11 @@ public class StarRocksDialect extends MysqlDialect {
     public String hashModForField(String fieldName, int mod) {
         return "ABS(murmur_hash3_32(" + quoteIdentifier(fieldName) + ") % " + mod + ")";
     }
+
+    @Override
+    public Optional<String> getLoadDataStatement(
+            String database, String tableName, TableSchema tableSchema, boolean replace) {
+        // StarRocks loads data through stream load instead of LOAD DATA LOCAL INFILE
+        return Optional.empty();
+    }
 }
@@ -0,0 +1,366 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor;
+
+import org.apache.seatunnel.api.table.catalog.TableSchema;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.exception.JdbcConnectorException;
+
+import org.apache.commons.codec.binary.Hex;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLWarning;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Writes each batch with a single {@code LOAD DATA LOCAL INFILE} statement, which reads the rows as
+ * tab separated lines from an in-memory input stream set on the JDBC statement.
+ *
+ * <p>The server reports invalid values and skipped duplicate rows as warnings instead of errors, so
+ * the update count and the warnings of the statement are checked after each batch. A {@code
+ * REPLACE} load can be repeated without changing the result, its batch is replayed through the
+ * fallback executor if the check or the statement fails. Any other load fails the batch, unless the
+ * server refused to read local data before loading any row.
+ *
+ * <p>If the driver does not support local input streams or the statement is replayed, the fallback
+ * executor is used for all following batches as well.
+ */
+@Slf4j
+public class LoadDataBatchStatementExecutor implements JdbcBatchStatementExecutor<SeaTunnelRow> {
+
+    static final String NULL_VALUE = "\\N";
+
+    private static final String SET_INPUT_STREAM_METHOD = "setLocalInfileInputStream";
+
+    /**
+     * The errors raised when local infile is disabled on the client or the server, e.g. {@code
+     * ER_NOT_ALLOWED_COMMAND} and {@code ER_CLIENT_LOCAL_FILES_DISABLED}. No row has been loaded.
+     */
+    private static final Set<Integer> LOCAL_INFILE_DISABLED_ERRORS =
+            new HashSet<>(Arrays.asList(1148, 3948));
+
+    private static final int MAX_REPORTED_WARNINGS = 3;
+
+    private static final DateTimeFormatter TIMESTAMP_FORMATTER =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSSSSS");
+
+    private final String loadDataSql;
+    private final boolean replace;
+    private final SeaTunnelRowType rowType;
+    private final JdbcBatchStatementExecutor<SeaTunnelRow> fallbackExecutor;
+
+    private final StringBuilder buffer = new StringBuilder();
+    private final List<SeaTunnelRow> rows = new ArrayList<>();
+
+    private Connection connection;
+    private Statement statement;
+    private Object loadDataStatement;
+    private Method setInputStreamMethod;
+    private boolean fallback;
+    private boolean fallbackPrepared;
+
+    public LoadDataBatchStatementExecutor(
+            String loadDataSql,
+            boolean replace,
+            TableSchema tableSchema,
+            JdbcBatchStatementExecutor<SeaTunnelRow> fallbackExecutor) {
+        this.loadDataSql = loadDataSql;
+        this.replace = replace;
+        this.rowType = tableSchema.toPhysicalRowDataType();
+        this.fallbackExecutor = fallbackExecutor;
+    }
+
+    /** Whether the values of the type can be written, {@code MAP}, {@code ARRAY} etc. can not. */
+    public static boolean isSupportedType(SeaTunnelDataType<?> dataType) {
+        switch (dataType.getSqlType()) {
+            case STRING:
+            case BOOLEAN:
+            case TINYINT:
+            case SMALLINT:
+            case INT:
+            case BIGINT:
+            case FLOAT:
+            case DOUBLE:
+            case DECIMAL:
+            case DATE:
+            case TIME:
+            case TIMESTAMP:
+            case BYTES:
+            case NULL:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void prepareStatements(Connection connection) throws SQLException {
+        this.connection = connection;
+        if (fallback) {
+            prepareFallback();
+            return;
+        }
+        this.statement = connection.createStatement();
+        this.loadDataStatement = statement.unwrap(Statement.class);
+        try {
+            this.setInputStreamMethod =
+                    loadDataStatement
+                            .getClass()
+                            .getMethod(SET_INPUT_STREAM_METHOD, InputStream.class);
+        } catch (NoSuchMethodException e) {
+            log.warn(
+                    "JDBC statement {} does not support LOAD DATA LOCAL INFILE from an input stream, write with batch statements instead.",
+                    loadDataStatement.getClass().getName());
+            switchToFallback();
+        }
+    }
+
+    @Override
+    public void addToBatch(SeaTunnelRow record) throws SQLException {
+        if (fallback) {
+            fallbackExecutor.addToBatch(record);
+            return;
+        }
+        appendRow(buffer, rowType, record);
+        rows.add(record);
+    }
+
+    @Override
+    public void executeBatch() throws SQLException {
+        if (fallback) {
+            fallbackExecutor.executeBatch();
+            return;
+        }
+        if (rows.isEmpty()) {
+            return;
+        }
+        try {
+            loadData();
+            checkLoaded();
+        } catch (SQLException | IllegalAccessException | InvocationTargetException e) {
+            if (!replace && !isLocalInfileDisabled(e)) {
+                // the rows loaded before the failure would be inserted twice by a replay
+                throw new JdbcConnectorException(
+                        CommonErrorCodeDeprecated.SQL_OPERATION_FAILED,
+                        "Failed to execute " + loadDataSql,
+                        e);
+            }
+            log.warn("Failed to execute {}, write with batch statements instead.", loadDataSql, e);
+            switchToFallback();
+            for (SeaTunnelRow row : rows) {
+                fallbackExecutor.addToBatch(row);
+            }
+            fallbackExecutor.executeBatch();
+        } finally {
+            buffer.setLength(0);
+            rows.clear();
+        }
+    }
+
+    @Override
+    public void closeStatements() throws SQLException {
+        try {
+            if (!rows.isEmpty()) {
+                executeBatch();
+            }
+        } finally {
+            buffer.setLength(0);
+            rows.clear();
+            closeLoadDataStatement();
+            if (fallbackPrepared) {
+                fallbackPrepared = false;
+                fallbackExecutor.closeStatements();
+            }
+        }
+    }
+
+    boolean isFallback() {
+        return fallback;
+    }
+
+    private void loadData() throws SQLException, IllegalAccessException, InvocationTargetException {
+        byte[] data = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        setInputStreamMethod.invoke(loadDataStatement, new ByteArrayInputStream(data));
+        statement.clearWarnings();
+        try {
+            statement.execute(loadDataSql);
+        } finally {
+            setInputStreamMethod.invoke(loadDataStatement, (Object) null);
+        }
+    }
+
+    /**
+     * Fails if a row was skipped or a value was truncated or converted. {@code REPLACE} counts a
+     * replaced row twice, once for the deleted and once for the inserted row.
+     */
+    private void checkLoaded() throws SQLException {
+        int updateCount = statement.getUpdateCount();
+        SQLWarning warning = statement.getWarnings();
+        boolean allLoaded = replace ? updateCount >= rows.size() : updateCount == rows.size();
+        if (allLoaded && warning == null) {
+            return;
+        }
+        StringBuilder message =
+                new StringBuilder("Loaded ")
+                        .append(updateCount)
+                        .append(" of ")
+                        .append(rows.size())
+                        .append(" rows");
+        for (int i = 0; warning != null && i < MAX_REPORTED_WARNINGS; i++) {
+            message.append(i == 0 ? ", warnings: " : "; ").append(warning.getMessage());
+            warning = warning.getNextWarning();
+        }
+        throw new SQLException(message.toString());
+    }
+
+    private static boolean isLocalInfileDisabled(Exception e) {
+        return e instanceof SQLException
+                && LOCAL_INFILE_DISABLED_ERRORS.contains(((SQLException) e).getErrorCode());
+    }
+
+    private void switchToFallback() throws SQLException {
+        fallback = true;
+        closeLoadDataStatement();
+        prepareFallback();
+    }
+
+    private void prepareFallback() throws SQLException {
+        if (fallbackPrepared) {
+            fallbackExecutor.closeStatements();
+        }
+        fallbackExecutor.prepareStatements(connection);
+        fallbackPrepared = true;
+    }
+
+    private void closeLoadDataStatement() throws SQLException {
+        if (statement != null) {
+            try {
+                statement.close();
+            } finally {
+                statement = null;
+                loadDataStatement = null;
+                setInputStreamMethod = null;
+            }
+        }
+    }
+
+    static void appendRow(StringBuilder buffer, SeaTunnelRowType rowType, SeaTunnelRow row) {
+        for (int fieldIndex = 0; fieldIndex < rowType.getTotalFields(); fieldIndex++) {
+            if (fieldIndex > 0) {
+                buffer.append('\t');
+            }
+            appendField(buffer, rowType.getFieldType(fieldIndex), row.getField(fieldIndex));
+        }
+        buffer.append('\n');
+    }
+
+    private static void appendField(
+            StringBuilder buffer, SeaTunnelDataType<?> dataType, Object value) {
+        if (value == null) {
+            buffer.append(NULL_VALUE);
+            return;
+        }
+        switch (dataType.getSqlType()) {
+            case STRING:
+                appendEscaped(buffer, (String) value);
+                break;
+            case BOOLEAN:
+                buffer.append((Boolean) value ? '1' : '0');
+                break;
+            case TINYINT:
+            case SMALLINT:
+            case INT:
+            case BIGINT:
+            case FLOAT:
+            case DOUBLE:
+                buffer.append(value);
+                break;
+            case DECIMAL:
+                buffer.append(((BigDecimal) value).toPlainString());
+                break;
+            case DATE:
+                buffer.append((LocalDate) value);
+                break;
+            case TIME:
+                buffer.append(DateTimeFormatter.ISO_LOCAL_TIME.format((LocalTime) value));
+                break;
+            case TIMESTAMP:
+                buffer.append(TIMESTAMP_FORMATTER.format((LocalDateTime) value));
+                break;
+            case BYTES:
+                buffer.append(Hex.encodeHex((byte[]) value));
+                break;
+            case NULL:
+                buffer.append(NULL_VALUE);
+                break;
+            case MAP:
+            case ARRAY:
+            case ROW:
+            default:
+                throw new JdbcConnectorException(
+                        CommonErrorCodeDeprecated.UNSUPPORTED_DATA_TYPE,
+                        "Unexpected value: " + dataType);
+        }
+    }
+
+    private static void appendEscaped(StringBuilder buffer, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\':
+                    buffer.append("\\\\");
+                    break;
+                case '\t':
+                    buffer.append("\\t");
+                    break;
+                case '\n':
+                    buffer.append("\\n");
+                    break;
+                case '\r':
+                    buffer.append("\\r");
+                    break;
+                case '\0':
+                    buffer.append("\\0");
+                    break;
+                default:
+                    buffer.append(c);
+            }
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.source;
+
+import org.apache.seatunnel.api.source.filter.AndPredicate;
+import org.apache.seatunnel.api.source.filter.ComparisonPredicate;
+import org.apache.seatunnel.api.source.filter.InPredicate;
+import org.apache.seatunnel.api.source.filter.IsNullPredicate;
+import org.apache.seatunnel.api.source.filter.OrPredicate;
+import org.apache.seatunnel.api.source.filter.Predicate;
+import org.apache.seatunnel.api.source.filter.PredicateVisitor;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialect;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Converts the pushed down {@link Predicate}s to a SQL condition, returns null for the predicates
+ * which can't be converted.
+ *
+ * <p>Strings with backslashes are not converted because some databases treat them as escape
+ * characters in string literals.
+ */
+public class JdbcFilterConverter implements PredicateVisitor<String> {
+
+    private final JdbcDialect jdbcDialect;
+
+    public JdbcFilterConverter(JdbcDialect jdbcDialect) {
+        this.jdbcDialect = jdbcDialect;
+    }
+
+    @Override
+    public String visit(ComparisonPredicate predicate) {
+        String value = literal(predicate.getValue());
+        if (value == null) {
+            return null;
+        }
+        return String.format(
+                "%s %s %s",
+                jdbcDialect.quoteIdentifier(predicate.getFieldName()),
+                predicate.getOperator().getSymbol(),
+                value);
+    }
+
+    @Override
+    public String visit(InPredicate predicate) {
+        List<String> values = new ArrayList<>();
+        for (Object value : predicate.getValues()) {
+            String literal = literal(value);
+            if (literal == null) {
+                return null;
+            }
+            values.add(literal);
+        }
+        return String.format(
+                "%s IN (%s)",
+                jdbcDialect.quoteIdentifier(predicate.getFieldName()), String.join(", ", values));
+    }
+
+    @Override
+    public String visit(IsNullPredicate predicate) {
+        return String.format(
+                "%s IS %sNULL",
+                jdbcDialect.quoteIdentifier(predicate.getFieldName()),
+                predicate.isNegated() ? "NOT " : "");
+    }
+
+    @Override
+    public String visit(AndPredicate predicate) {
+        return join(predicate.getChildren(), " AND ");
+    }
+
+    @Override
+    public String visit(OrPredicate predicate) {
+        return join(predicate.getChildren(), " OR ");
+    }
+
+    private String join(List<Predicate> children, String delimiter) {
+        List<String> conditions = new ArrayList<>();
+        for (Predicate child : children) {
+            String condition = child.accept(this);
+            if (condition == null) {
+                return null;
+            }
+            conditions.add("(" + condition + ")");
+        }
+        return String.join(delimiter, conditions);
+    }
+
+    private static String literal(Object value) {
+        if (value instanceof Long) {
+            return value.toString();
+        }
+        if (value instanceof String) {
+            String string = (String) value;
+            if (string.indexOf('\\') >= 0 || string.indexOf('\0') >= 0) {
+                return null;
+            }
+            return "'" + string.replace("'", "''") + "'";
+        }
+        return null;
+    }
+}
@@ -23,19 +23,27 @@ import org.apache.seatunnel.api.source.SeaTunnelSource;
 import org.apache.seatunnel.api.source.SourceReader;
 import org.apache.seatunnel.api.source.SourceSplitEnumerator;
 import org.apache.seatunnel.api.source.SupportColumnProjection;
+import org.apache.seatunnel.api.source.SupportFilterPushDown;
 import org.apache.seatunnel.api.source.SupportParallelism;
+import org.apache.seatunnel.api.source.filter.Predicate;
 import org.apache.seatunnel.api.table.catalog.CatalogTable;
 import org.apache.seatunnel.api.table.catalog.TablePath;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcSourceConfig;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialect;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialectLoader;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.state.JdbcSourceState;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.utils.JdbcCatalogUtils;
 
+import org.apache.commons.lang3.StringUtils;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import lombok.SneakyThrows;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -44,7 +52,8 @@ import java.util.stream.Collectors;
 public class JdbcSource
         implements SeaTunnelSource<SeaTunnelRow, JdbcSourceSplit, JdbcSourceState>,
                 SupportParallelism,
-                SupportColumnProjection {
+                SupportColumnProjection,
+                SupportFilterPushDown {
     protected static final Logger LOG = LoggerFactory.getLogger(JdbcSource.class);
 
     private final JdbcSourceConfig jdbcSourceConfig;
@@ -76,6 +85,49 @@ public class JdbcSource
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<Predicate> applyFilters(List<Predicate> predicates) {
+        if (jdbcSourceTables.size() != 1) {
+            return Collections.emptyList();
+        }
+        JdbcDialect jdbcDialect =
+                JdbcDialectLoader.load(
+                        jdbcSourceConfig.getJdbcConnectionConfig().getUrl(),
+                        jdbcSourceConfig.getCompatibleMode());
+        JdbcFilterConverter converter = new JdbcFilterConverter(jdbcDialect);
+        List<Predicate> acceptedPredicates = new ArrayList<>();
+        List<String> conditions = new ArrayList<>();
+        for (Predicate predicate : predicates) {
+            String condition = predicate.accept(converter);
+            if (condition != null) {
+                acceptedPredicates.add(predicate);
+                conditions.add("(" + condition + ")");
+            }
+        }
+        if (conditions.isEmpty()) {
+            return acceptedPredicates;
+        }
+
+        TablePath tablePath = jdbcSourceTables.keySet().iterator().next();
+        JdbcSourceTable table = jdbcSourceTables.get(tablePath);
+        String whereClause = String.join(" AND ", conditions);
+        String query;
+        if (StringUtils.isNotBlank(table.getQuery())) {
+            query =
+                    String.format(
+                            "SELECT * FROM (%s) st_jdbc_filter WHERE %s",
+                            table.getQuery(), whereClause);
+        } else {
+            query =
+                    String.format(
+                            "SELECT * FROM %s WHERE %s",
+                            jdbcDialect.tableIdentifier(tablePath), whereClause);
+        }
+        LOG.info("Push down filters to table {}, the query is {}", tablePath, query);
+        jdbcSourceTables.put(tablePath, table.toBuilder().query(query).build());
+        return acceptedPredicates;
+    }
+
     @Override
     public SourceReader<SeaTunnelRow, JdbcSourceSplit> createReader(
             SourceReader.Context readerContext) throws Exception {
@@ -27,7 +27,7 @@ import java.io.Serializable;
 import java.math.BigDecimal;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 public class JdbcSourceTable implements Serializable {
     private static final long serialVersionUID = 1L;
 
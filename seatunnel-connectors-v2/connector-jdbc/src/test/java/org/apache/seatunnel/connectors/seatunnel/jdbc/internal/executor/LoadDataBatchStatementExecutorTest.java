@@ -0,0 +1,357 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor;
+
+import org.apache.seatunnel.api.table.catalog.PhysicalColumn;
+import org.apache.seatunnel.api.table.catalog.TableSchema;
+import org.apache.seatunnel.api.table.type.ArrayType;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.LocalTimeType;
+import org.apache.seatunnel.api.table.type.PrimitiveByteArrayType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.exception.JdbcConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.mysql.MysqlDialect;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.oceanbase.OceanBaseMysqlDialect;
+
+import org.apache.commons.io.IOUtils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLWarning;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class LoadDataBatchStatementExecutorTest {
+
+    private static final TableSchema TABLE_SCHEMA =
+            TableSchema.builder()
+                    .column(PhysicalColumn.of("id", BasicType.LONG_TYPE, 0L, false, null, null))
+                    .column(PhysicalColumn.of("name", BasicType.STRING_TYPE, 0L, true, null, null))
+                    .column(PhysicalColumn.of("flag", BasicType.BOOLEAN_TYPE, 0L, true, null, null))
+                    .column(
+                            PhysicalColumn.of(
+                                    "amount", new DecimalType(10, 2), 0L, true, null, null))
+                    .column(
+                            PhysicalColumn.of(
+                                    "birthday",
+                                    LocalTimeType.LOCAL_DATE_TYPE,
+                                    0L,
+                                    true,
+                                    null,
+                                    null))
+                    .column(
+                            PhysicalColumn.of(
+                                    "alarm", LocalTimeType.LOCAL_TIME_TYPE, 0L, true, null, null))
+                    .column(
+                            PhysicalColumn.of(
+                                    "created",
+                                    LocalTimeType.LOCAL_DATE_TIME_TYPE,
+                                    0L,
+                                    true,
+                                    null,
+                                    null))
+                    .column(
+                            PhysicalColumn.of(
+                                    "payload",
+                                    PrimitiveByteArrayType.INSTANCE,
+                                    0L,
+                                    true,
+                                    null,
+                                    null))
+                    .build();
+
+    private static final String LOAD_DATA_SQL =
+            new MysqlDialect().getLoadDataStatement("db", "t", TABLE_SCHEMA, true).get();
+
+    @Test
+    public void testLoadDataStatement() {
+        Assertions.assertEquals(
+                "LOAD DATA LOCAL INFILE 'seatunnel' REPLACE INTO TABLE `db`.`t` CHARACTER SET utf8mb4 "
+                        + "(`id`, `name`, `flag`, `amount`, `birthday`, `alarm`, `created`, @hex7) "
+                        + "SET `payload` = UNHEX(@hex7)",
+                LOAD_DATA_SQL);
+        Assertions.assertTrue(
+                new MysqlDialect()
+                        .getLoadDataStatement("db", "t", TABLE_SCHEMA, false)
+                        .get()
+                        .startsWith("LOAD DATA LOCAL INFILE 'seatunnel' IGNORE INTO TABLE"));
+    }
+
+    @Test
+    public void testLoadDataStatementWithUnsupportedType() {
+        TableSchema tableSchema =
+                TableSchema.builder()
+                        .column(PhysicalColumn.of("id", BasicType.LONG_TYPE, 0L, false, null, null))
+                        .column(
+                                PhysicalColumn.of(
+                                        "tags", ArrayType.STRING_ARRAY_TYPE, 0L, true, null, null))
+                        .build();
+        Assertions.assertFalse(
+                new MysqlDialect().getLoadDataStatement("db", "t", tableSchema, true).isPresent());
+        Assertions.assertFalse(
+                new OceanBaseMysqlDialect()
+                        .getLoadDataStatement("db", "t", tableSchema, true)
+                        .isPresent());
+    }
+
+    @Test
+    public void testEncodeRows() {
+        StringBuilder buffer = new StringBuilder();
+        LoadDataBatchStatementExecutor.appendRow(
+                buffer,
+                TABLE_SCHEMA.toPhysicalRowDataType(),
+                new SeaTunnelRow(
+                        new Object[] {
+                            1L,
+                            "a\tb\nc\rd\\e\0f\\N",
+                            true,
+                            new BigDecimal("1E+3"),
+                            LocalDate.of(2024, 1, 2),
+                            LocalTime.of(3, 4),
+                            LocalDateTime.of(2024, 1, 2, 3, 4, 5, 6000),
+                            new byte[] {0, 15, -1}
+                        }));
+        LoadDataBatchStatementExecutor.appendRow(
+                buffer,
+                TABLE_SCHEMA.toPhysicalRowDataType(),
+                new SeaTunnelRow(new Object[] {2L, null, false, null, null, null, null, null}));
+
+        Assertions.assertEquals(
+                "1\ta\\tb\\nc\\rd\\\\e\\0f\\\\N\t1\t1000\t2024-01-02\t03:04:00"
+                        + "\t2024-01-02 03:04:05.000006\t000fff\n"
+                        + "2\t\\N\t0\t\\N\t\\N\t\\N\t\\N\t\\N\n",
+                buffer.toString());
+    }
+
+    @Test
+    public void testLoadDataFromInputStream() throws SQLException {
+        List<String> loaded = new ArrayList<>();
+        InfileStatement statement = mockInfileStatement(loaded);
+        Mockito.when(statement.getUpdateCount()).thenReturn(2);
+        RecordingExecutor fallback = new RecordingExecutor();
+        LoadDataBatchStatementExecutor executor =
+                new LoadDataBatchStatementExecutor(LOAD_DATA_SQL, true, TABLE_SCHEMA, fallback);
+        executor.prepareStatements(mockConnection(statement));
+
+        executor.addToBatch(row(1L, "a"));
+        executor.addToBatch(row(2L, "b"));
+        executor.executeBatch();
+        executor.executeBatch();
+        executor.closeStatements();
+
+        Assertions.assertFalse(executor.isFallback());
+        Mockito.verify(statement, Mockito.times(1)).execute(LOAD_DATA_SQL);
+        Assertions.assertEquals(1, loaded.size());
+        Assertions.assertTrue(loaded.get(0).startsWith("1\ta\t"));
+        Assertions.assertEquals(2, loaded.get(0).split("\n").length);
+        Assertions.assertTrue(fallback.executed.isEmpty());
+        Assertions.assertFalse(fallback.prepared);
+        Mockito.verify(statement).close();
+    }
+
+    @Test
+    public void testFallbackOnLoadDataFailure() throws SQLException {
+        InfileStatement statement = mockInfileStatement(new ArrayList<>());
+        Mockito.when(statement.execute(LOAD_DATA_SQL))
+                .thenThrow(new SQLException("Deadlock found when trying to get lock"));
+        RecordingExecutor fallback = new RecordingExecutor();
+        LoadDataBatchStatementExecutor executor =
+                new LoadDataBatchStatementExecutor(LOAD_DATA_SQL, true, TABLE_SCHEMA, fallback);
+        executor.prepareStatements(mockConnection(statement));
+
+        SeaTunnelRow first = row(1L, "a");
+        SeaTunnelRow second = row(2L, "b");
+        executor.addToBatch(first);
+        executor.addToBatch(second);
+        executor.executeBatch();
+
+        Assertions.assertTrue(executor.isFallback());
+        Assertions.assertEquals(Arrays.asList(first, second), fallback.executed);
+
+        // following batches go to the fallback executor directly
+        SeaTunnelRow third = row(3L, "c");
+        executor.addToBatch(third);
+        executor.executeBatch();
+        executor.closeStatements();
+
+        Assertions.assertEquals(Arrays.asList(first, second, third), fallback.executed);
+        Mockito.verify(statement, Mockito.times(1)).execute(LOAD_DATA_SQL);
+        Assertions.assertFalse(fallback.prepared);
+    }
+
+    @Test
+    public void testReplayReplaceLoadWithWarnings() throws SQLException {
+        InfileStatement statement = mockInfileStatement(new ArrayList<>());
+        Mockito.when(statement.getUpdateCount()).thenReturn(2);
+        Mockito.when(statement.getWarnings())
+                .thenReturn(new SQLWarning("Data truncated for column 'name' at row 2"));
+        RecordingExecutor fallback = new RecordingExecutor();
+        LoadDataBatchStatementExecutor executor =
+                new LoadDataBatchStatementExecutor(LOAD_DATA_SQL, true, TABLE_SCHEMA, fallback);
+        executor.prepareStatements(mockConnection(statement));
+
+        SeaTunnelRow first = row(1L, "a");
+        SeaTunnelRow second = row(2L, "b");
+        executor.addToBatch(first);
+        executor.addToBatch(second);
+        executor.executeBatch();
+
+        // the batch is written again by the fallback instead of keeping the truncated values
+        Assertions.assertTrue(executor.isFallback());
+        Assertions.assertEquals(Arrays.asList(first, second), fallback.executed);
+    }
+
+    @Test
+    public void testFailIgnoreLoadWithSkippedRows() throws SQLException {
+        String loadDataSql =
+                new MysqlDialect().getLoadDataStatement("db", "t", TABLE_SCHEMA, false).get();
+        InfileStatement statement = mockInfileStatement(new ArrayList<>());
+        Mockito.when(statement.getUpdateCount()).thenReturn(1);
+        Mockito.when(statement.getWarnings())
+                .thenReturn(new SQLWarning("Duplicate entry '1' for key 'PRIMARY'"));
+        RecordingExecutor fallback = new RecordingExecutor();
+        LoadDataBatchStatementExecutor executor =
+                new LoadDataBatchStatementExecutor(loadDataSql, false, TABLE_SCHEMA, fallback);
+        executor.prepareStatements(mockConnection(statement));
+
+        executor.addToBatch(row(1L, "a"));
+        executor.addToBatch(row(2L, "b"));
+        JdbcConnectorException exception =
+                Assertions.assertThrows(JdbcConnectorException.class, executor::executeBatch);
+        Assertions.assertTrue(
+                exception.getCause().getMessage().contains("Loaded 1 of 2 rows"),
+                exception.getCause().getMessage());
+        // a replay would insert the loaded row twice
+        Assertions.assertFalse(executor.isFallback());
+        Assertions.assertTrue(fallback.executed.isEmpty());
+    }
+
+    @Test
+    public void testFallbackIgnoreLoadWhenLocalInfileDisabled() throws SQLException {
+        String loadDataSql =
+                new MysqlDialect().getLoadDataStatement("db", "t", TABLE_SCHEMA, false).get();
+        InfileStatement statement = mockInfileStatement(new ArrayList<>());
+        Mockito.when(statement.execute(loadDataSql))
+                .thenThrow(
+                        new SQLException(
+                                "Loading local data is disabled; this must be enabled on both the client and server sides",
+                                "42000",
+                                3948));
+        RecordingExecutor fallback = new RecordingExecutor();
+        LoadDataBatchStatementExecutor executor =
+                new LoadDataBatchStatementExecutor(loadDataSql, false, TABLE_SCHEMA, fallback);
+        executor.prepareStatements(mockConnection(statement));
+
+        SeaTunnelRow first = row(1L, "a");
+        executor.addToBatch(first);
+        executor.executeBatch();
+
+        Assertions.assertTrue(executor.isFallback());
+        Assertions.assertEquals(Arrays.asList(first), fallback.executed);
+    }
+
+    @Test
+    public void testFallbackWithoutInputStreamSupport() throws SQLException {
+        Statement statement = Mockito.mock(Statement.class);
+        Mockito.when(statement.unwrap(Statement.class)).thenReturn(statement);
+        RecordingExecutor fallback = new RecordingExecutor();
+        LoadDataBatchStatementExecutor executor =
+                new LoadDataBatchStatementExecutor(LOAD_DATA_SQL, true, TABLE_SCHEMA, fallback);
+        executor.prepareStatements(mockConnection(statement));
+
+        Assertions.assertTrue(executor.isFallback());
+        Assertions.assertTrue(fallback.prepared);
+        SeaTunnelRow first = row(1L, "a");
+        executor.addToBatch(first);
+        executor.executeBatch();
+        Assertions.assertEquals(Arrays.asList(first), fallback.executed);
+        Mockito.verify(statement, Mockito.never()).execute(Mockito.anyString());
+    }
+
+    private static SeaTunnelRow row(long id, String name) {
+        return new SeaTunnelRow(new Object[] {id, name, null, null, null, null, null, null});
+    }
+
+    private static Connection mockConnection(Statement statement) throws SQLException {
+        Connection connection = Mockito.mock(Connection.class);
+        Mockito.when(connection.createStatement()).thenReturn(statement);
+        return connection;
+    }
+
+    private static InfileStatement mockInfileStatement(List<String> loaded) throws SQLException {
+        InfileStatement statement = Mockito.mock(InfileStatement.class);
+        Mockito.when(statement.unwrap(Statement.class)).thenReturn(statement);
+        Mockito.doAnswer(
+                        invocation -> {
+                            InputStream inputStream = invocation.getArgument(0);
+                            if (inputStream != null) {
+                                loaded.add(IOUtils.toString(inputStream, StandardCharsets.UTF_8));
+                            }
+                            return null;
+                        })
+                .when(statement)
+                .setLocalInfileInputStream(Mockito.any());
+        return statement;
+    }
+
+    /** A statement of a driver which can read local infile data from an input stream. */
+    public abstract static class InfileStatement implements Statement {
+        public abstract void setLocalInfileInputStream(InputStream inputStream);
+    }
+
+    private static class RecordingExecutor implements JdbcBatchStatementExecutor<SeaTunnelRow> {
+        private final List<SeaTunnelRow> batch = new ArrayList<>();
+        private final List<SeaTunnelRow> executed = new ArrayList<>();
+        private boolean prepared;
+
+        @Override
+        public void prepareStatements(Connection connection) {
+            prepared = true;
+        }
+
+        @Override
+        public void addToBatch(SeaTunnelRow record) {
+            Assertions.assertTrue(prepared);
+            batch.add(record);
+        }
+
+        @Override
+        public void executeBatch() {
+            executed.addAll(batch);
+            batch.clear();
+        }
+
+        @Override
+        public void closeStatements() {
+            prepared = false;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.source;
+
+import org.apache.seatunnel.api.source.filter.AndPredicate;
+import org.apache.seatunnel.api.source.filter.ComparisonPredicate;
+import org.apache.seatunnel.api.source.filter.InPredicate;
+import org.apache.seatunnel.api.source.filter.IsNullPredicate;
+import org.apache.seatunnel.api.source.filter.OrPredicate;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.mysql.MysqlDialect;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+public class JdbcFilterConverterTest {
+
+    private final JdbcFilterConverter converter = new JdbcFilterConverter(new MysqlDialect());
+
+    @Test
+    public void testConvertPredicates() {
+        Assertions.assertEquals(
+                "`id` >= -5",
+                new ComparisonPredicate(
+                                "id", ComparisonPredicate.Operator.GREATER_THAN_OR_EQUALS, -5L)
+                        .accept(converter));
+        Assertions.assertEquals(
+                "`name` = 'O''Brien'",
+                new ComparisonPredicate("name", ComparisonPredicate.Operator.EQUALS, "O'Brien")
+                        .accept(converter));
+        Assertions.assertEquals(
+                "`id` IN (1, 2)", new InPredicate("id", Arrays.asList(1L, 2L)).accept(converter));
+        Assertions.assertEquals(
+                "(`name` IS NULL) OR ((`id` < 3) AND (`name` IS NOT NULL))",
+                new OrPredicate(
+                                Arrays.asList(
+                                        new IsNullPredicate("name", false),
+                                        new AndPredicate(
+                                                Arrays.asList(
+                                                        new ComparisonPredicate(
+                                                                "id",
+                                                                ComparisonPredicate.Operator
+                                                                        .LESS_THAN,
+                                                                3L),
+                                                        new IsNullPredicate("name", true)))))
+                        .accept(converter));
+    }
+
+    @Test
+    public void testSkipUnsafeStrings() {
+        Assertions.assertNull(
+                new ComparisonPredicate("name", ComparisonPredicate.Operator.EQUALS, "a\\'b")
+                        .accept(converter));
+        Assertions.assertNull(
+                new OrPredicate(
+                                Arrays.asList(
+                                        new IsNullPredicate("name", false),
+                                        new InPredicate("name", Arrays.asList("a", "b\\"))))
+                        .accept(converter));
+    }
+}
@@ -105,6 +105,14 @@ public class Config {
                     .defaultValue(true)
                     .withDescription("Does the debezium record carry a schema.");
 
+    public static final Option<Boolean> JSON_STREAMING_PARSE =
+            Options.key("json_streaming_parse")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether the json, canal_json, debezium_json, maxwell_json and ogg_json formats "
+                                    + "convert the records to rows while parsing them, without building a JSON node tree first.");
+
     public static final Option<String> FIELD_DELIMITER =
             Options.key("field_delimiter")
                     .stringType()
@@ -168,6 +176,21 @@ public class Config {
                     .defaultValue(10000L)
                     .withDescription("The interval for poll message");
 
+    public static final Option<Integer> FETCHER_THREADS =
+            Options.key("fetcher_threads")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "The number of consumer threads of one reader. The assigned partitions are spread over the threads and each partition is fetched by one thread only.");
+
+    public static final Option<Boolean> DESERIALIZE_IN_FETCHER =
+            Options.key("deserialize_in_fetcher")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Deserialize the records in the fetcher threads instead of the reader thread. "
+                                    + "The partitions of different fetcher threads are deserialized in parallel, the records of one partition keep their order.");
+
     public static final Option<MessageFormatErrorHandleWay> MESSAGE_FORMAT_ERROR_HANDLE_WAY_OPTION =
             Options.key("format_error_handle_way")
                     .enumType(MessageFormatErrorHandleWay.class)
@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.kafka.source;
+
+import org.apache.seatunnel.api.source.Collector;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+
+import java.util.List;
+
+/**
+ * A consumer record which was deserialized by the fetcher thread of its partition, it carries the
+ * rows or the deserialization error to the {@link KafkaRecordEmitter}.
+ */
+class DeserializedConsumerRecord extends ConsumerRecord<byte[], byte[]> {
+
+    private final List<SeaTunnelRow> rows;
+    private final Exception error;
+
+    DeserializedConsumerRecord(
+            ConsumerRecord<byte[], byte[]> record, List<SeaTunnelRow> rows, Exception error) {
+        super(
+                record.topic(),
+                record.partition(),
+                record.offset(),
+                record.timestamp(),
+                record.timestampType(),
+                record.serializedKeySize(),
+                record.serializedValueSize(),
+                record.key(),
+                record.value(),
+                record.headers(),
+                record.leaderEpoch());
+        this.rows = rows;
+        this.error = error;
+    }
+
+    void emit(Collector<SeaTunnelRow> collector) throws Exception {
+        if (error != null) {
+            throw error;
+        }
+        for (SeaTunnelRow row : rows) {
+            collector.collect(row);
+        }
+    }
+}
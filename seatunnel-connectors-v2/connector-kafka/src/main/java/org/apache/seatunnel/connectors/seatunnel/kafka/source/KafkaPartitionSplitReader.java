@@ -17,9 +17,16 @@
 
 package org.apache.seatunnel.connectors.seatunnel.kafka.source;
 
+import org.apache.seatunnel.shade.com.google.common.annotations.VisibleForTesting;
 import org.apache.seatunnel.shade.com.google.common.base.Preconditions;
 
+import org.apache.seatunnel.api.serialization.DeserializationSchema;
+import org.apache.seatunnel.api.source.Collector;
 import org.apache.seatunnel.api.source.SourceReader;
+import org.apache.seatunnel.api.table.catalog.TablePath;
+import org.apache.seatunnel.api.table.event.SchemaChangeEvent;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.common.utils.SerializationUtils;
 import org.apache.seatunnel.common.utils.TemporaryClassLoaderContext;
 import org.apache.seatunnel.connectors.seatunnel.common.source.reader.RecordsWithSplitIds;
 import org.apache.seatunnel.connectors.seatunnel.common.source.reader.splitreader.SplitReader;
@@ -75,14 +82,34 @@ public class KafkaPartitionSplitReader
 
     private final long pollTimeout;
 
+    private final boolean deserializeInFetcher;
+
+    private final Map<TopicPartition, TablePath> partitionTablePaths = new HashMap<>();
+
+    // Copies of the deserialization schemas used by this fetcher thread only
+    private final Map<TablePath, DeserializationSchema<SeaTunnelRow>> deserializationSchemas =
+            new HashMap<>();
+
     public KafkaPartitionSplitReader(
-            KafkaSourceConfig kafkaSourceConfig, SourceReader.Context context) {
+            KafkaSourceConfig kafkaSourceConfig, SourceReader.Context context, int fetcherIndex) {
+        this(
+                kafkaSourceConfig,
+                initConsumer(
+                        kafkaSourceConfig,
+                        clientIdSuffix(
+                                kafkaSourceConfig, context.getIndexOfSubtask(), fetcherIndex)));
+    }
+
+    @VisibleForTesting
+    KafkaPartitionSplitReader(
+            KafkaSourceConfig kafkaSourceConfig, KafkaConsumer<byte[], byte[]> consumer) {
         this.kafkaSourceConfig = kafkaSourceConfig;
-        this.consumer = initConsumer(kafkaSourceConfig, context.getIndexOfSubtask());
+        this.consumer = consumer;
         this.stoppingOffsets = new HashMap<>();
         this.groupId =
                 kafkaSourceConfig.getProperties().getProperty(ConsumerConfig.GROUP_ID_CONFIG);
         this.pollTimeout = kafkaSourceConfig.getPollTimeout();
+        this.deserializeInFetcher = kafkaSourceConfig.isDeserializeInFetcher();
     }
 
     @Override
@@ -127,6 +154,10 @@ public class KafkaPartitionSplitReader
             }
         }
 
+        if (deserializeInFetcher) {
+            deserializeRecords(consumerRecords, recordsBySplits);
+        }
+
         markEmptySplitsAsFinished(recordsBySplits);
 
         if (!finishedPartitions.isEmpty()) {
@@ -136,6 +167,62 @@ public class KafkaPartitionSplitReader
         return recordsBySplits;
     }
 
+    private void deserializeRecords(
+            ConsumerRecords<byte[], byte[]> consumerRecords,
+            KafkaPartitionSplitRecords recordsBySplits) {
+        FetcherCollector collector = new FetcherCollector();
+        for (TopicPartition tp : consumerRecords.partitions()) {
+            DeserializationSchema<SeaTunnelRow> deserializationSchema =
+                    getDeserializationSchema(tp);
+            long stoppingOffset = getStoppingOffset(tp);
+            List<ConsumerRecord<byte[], byte[]>> recordsFromPartition = consumerRecords.records(tp);
+            List<ConsumerRecord<byte[], byte[]>> deserializedRecords =
+                    new ArrayList<>(recordsFromPartition.size());
+            for (ConsumerRecord<byte[], byte[]> record : recordsFromPartition) {
+                if (record.offset() >= stoppingOffset) {
+                    break;
+                }
+                deserializedRecords.add(deserialize(deserializationSchema, record, collector));
+            }
+            recordsBySplits.setPartitionRecords(tp, deserializedRecords);
+        }
+    }
+
+    private ConsumerRecord<byte[], byte[]> deserialize(
+            DeserializationSchema<SeaTunnelRow> deserializationSchema,
+            ConsumerRecord<byte[], byte[]> record,
+            FetcherCollector collector) {
+        collector.reset();
+        try {
+            KafkaRecordEmitter.deserialize(deserializationSchema, record, collector);
+        } catch (Exception e) {
+            // The error is raised by the emitter, so it fails the reader at the same record
+            return new DeserializedConsumerRecord(record, null, e);
+        }
+        if (collector.schemaChanged) {
+            // Schema change events must be emitted by the reader thread, leave the record to the
+            // emitter to be deserialized again there
+            return record;
+        }
+        return new DeserializedConsumerRecord(record, collector.rows, null);
+    }
+
+    private DeserializationSchema<SeaTunnelRow> getDeserializationSchema(TopicPartition tp) {
+        return deserializationSchemas.computeIfAbsent(
+                partitionTablePaths.get(tp),
+                tablePath -> {
+                    DeserializationSchema<SeaTunnelRow> deserializationSchema =
+                            kafkaSourceConfig
+                                    .getMapMetadata()
+                                    .get(tablePath)
+                                    .getDeserializationSchema();
+                    // The schemas are not thread safe, every fetcher works on its own copy
+                    return SerializationUtils.deserialize(
+                            SerializationUtils.serialize(deserializationSchema),
+                            deserializationSchema.getClass().getClassLoader());
+                });
+    }
+
     private void finishSplitAtRecord(
             TopicPartition tp,
             long stoppingOffset,
@@ -185,6 +272,7 @@ public class KafkaPartitionSplitReader
                 .forEach(
                         s -> {
                             newPartitionAssignments.add(s.getTopicPartition());
+                            partitionTablePaths.put(s.getTopicPartition(), s.getTablePath());
                             parseStartingOffsets(
                                     s,
                                     partitionsStartingFromEarliest,
@@ -343,8 +431,22 @@ public class KafkaPartitionSplitReader
         consumer.commitAsync(offsetsToCommit, offsetCommitCallback);
     }
 
-    private KafkaConsumer<byte[], byte[]> initConsumer(
-            KafkaSourceConfig kafkaSourceConfig, int subtaskId) {
+    /**
+     * Every fetcher thread owns a consumer, so the fetcher index is appended to the subtask id when
+     * there is more than one fetcher. Kafka expects the client.id of the consumers to be unique,
+     * otherwise their JMX metrics and quotas collide.
+     */
+    @VisibleForTesting
+    static String clientIdSuffix(
+            KafkaSourceConfig kafkaSourceConfig, int subtaskId, int fetcherIndex) {
+        if (kafkaSourceConfig.getFetcherThreads() > 1) {
+            return subtaskId + "-" + fetcherIndex;
+        }
+        return String.valueOf(subtaskId);
+    }
+
+    private static KafkaConsumer<byte[], byte[]> initConsumer(
+            KafkaSourceConfig kafkaSourceConfig, String clientIdSuffix) {
 
         try (TemporaryClassLoaderContext ignored =
                 TemporaryClassLoaderContext.of(kafkaSourceConfig.getClass().getClassLoader())) {
@@ -357,16 +459,16 @@ public class KafkaPartitionSplitReader
             props.setProperty(ConsumerConfig.GROUP_ID_CONFIG, kafkaSourceConfig.getConsumerGroup());
             props.setProperty(
                     ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaSourceConfig.getBootstrap());
-            if (this.kafkaSourceConfig.getProperties().get("client.id") == null) {
+            if (kafkaSourceConfig.getProperties().get("client.id") == null) {
                 props.setProperty(
                         ConsumerConfig.CLIENT_ID_CONFIG,
-                        CLIENT_ID_PREFIX + "-consumer-" + subtaskId);
+                        CLIENT_ID_PREFIX + "-consumer-" + clientIdSuffix);
             } else {
                 props.setProperty(
                         ConsumerConfig.CLIENT_ID_CONFIG,
-                        this.kafkaSourceConfig.getProperties().get("client.id").toString()
+                        kafkaSourceConfig.getProperties().get("client.id").toString()
                                 + "-"
-                                + subtaskId);
+                                + clientIdSuffix);
             }
             props.setProperty(
                     ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG,
@@ -395,11 +497,51 @@ public class KafkaPartitionSplitReader
         }
     }
 
+    /** Collects the rows of one record deserialized in the fetcher thread. */
+    private static class FetcherCollector implements Collector<SeaTunnelRow> {
+
+        private final Object checkpointLock = new Object();
+        private List<SeaTunnelRow> rows;
+        private boolean schemaChanged;
+
+        private void reset() {
+            rows = new ArrayList<>(1);
+            schemaChanged = false;
+        }
+
+        @Override
+        public void collect(SeaTunnelRow record) {
+            rows.add(record);
+        }
+
+        @Override
+        public void markSchemaChangeBeforeCheckpoint() {
+            schemaChanged = true;
+        }
+
+        @Override
+        public void collect(SchemaChangeEvent event) {
+            schemaChanged = true;
+        }
+
+        @Override
+        public void markSchemaChangeAfterCheckpoint() {
+            schemaChanged = true;
+        }
+
+        @Override
+        public Object getCheckpointLock() {
+            return checkpointLock;
+        }
+    }
+
     private static class KafkaPartitionSplitRecords
             implements RecordsWithSplitIds<ConsumerRecord<byte[], byte[]>> {
 
         private final Set<String> finishedSplits = new HashSet<>();
         private final Map<TopicPartition, Long> stoppingOffsets = new HashMap<>();
+        private final Map<TopicPartition, List<ConsumerRecord<byte[], byte[]>>> partitionRecords =
+                new HashMap<>();
         private final ConsumerRecords<byte[], byte[]> consumerRecords;
         private final Iterator<TopicPartition> splitIterator;
         private Iterator<ConsumerRecord<byte[], byte[]>> recordIterator;
@@ -416,6 +558,11 @@ public class KafkaPartitionSplitReader
             stoppingOffsets.put(topicPartition, stoppingOffset);
         }
 
+        private void setPartitionRecords(
+                TopicPartition topicPartition, List<ConsumerRecord<byte[], byte[]>> records) {
+            partitionRecords.put(topicPartition, records);
+        }
+
         private void addFinishedSplit(String splitId) {
             finishedSplits.add(splitId);
         }
@@ -424,7 +571,12 @@ public class KafkaPartitionSplitReader
         public String nextSplit() {
             if (splitIterator.hasNext()) {
                 currentTopicPartition = splitIterator.next();
-                recordIterator = consumerRecords.records(currentTopicPartition).iterator();
+                recordIterator =
+                        partitionRecords
+                                .getOrDefault(
+                                        currentTopicPartition,
+                                        consumerRecords.records(currentTopicPartition))
+                                .iterator();
                 currentSplitStoppingOffset =
                         stoppingOffsets.getOrDefault(currentTopicPartition, Long.MAX_VALUE);
                 return currentTopicPartition.toString();
@@ -58,15 +58,15 @@ public class KafkaRecordEmitter
             KafkaSourceSplitState splitState)
             throws Exception {
         outputCollector.output = collector;
-        // todo there is an additional loss in this place for non-multi-table scenarios
-        DeserializationSchema<SeaTunnelRow> deserializationSchema =
-                mapMetadata.get(splitState.getTablePath()).getDeserializationSchema();
         try {
-            if (deserializationSchema instanceof CompatibleKafkaConnectDeserializationSchema) {
-                ((CompatibleKafkaConnectDeserializationSchema) deserializationSchema)
-                        .deserialize(consumerRecord, outputCollector);
+            if (consumerRecord instanceof DeserializedConsumerRecord) {
+                ((DeserializedConsumerRecord) consumerRecord).emit(collector);
             } else {
-                deserializationSchema.deserialize(consumerRecord.value(), outputCollector);
+                // todo there is an additional loss in this place for non-multi-table scenarios
+                deserialize(
+                        mapMetadata.get(splitState.getTablePath()).getDeserializationSchema(),
+                        consumerRecord,
+                        outputCollector);
             }
             // consumerRecord.offset + 1 is the offset commit to Kafka and also the start offset
             // for the next run
@@ -81,6 +81,19 @@ public class KafkaRecordEmitter
         }
     }
 
+    static void deserialize(
+            DeserializationSchema<SeaTunnelRow> deserializationSchema,
+            ConsumerRecord<byte[], byte[]> consumerRecord,
+            Collector<SeaTunnelRow> collector)
+            throws Exception {
+        if (deserializationSchema instanceof CompatibleKafkaConnectDeserializationSchema) {
+            ((CompatibleKafkaConnectDeserializationSchema) deserializationSchema)
+                    .deserialize(consumerRecord, collector);
+        } else {
+            deserializationSchema.deserialize(consumerRecord.value(), collector);
+        }
+    }
+
     private static class OutputCollector<T> implements Collector<T> {
         private Collector<T> output;
 
@@ -39,6 +39,7 @@ import com.google.common.base.Supplier;
 import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 public class KafkaSource
@@ -81,12 +82,17 @@ public class KafkaSource
         BlockingQueue<RecordsWithSplitIds<ConsumerRecord<byte[], byte[]>>> elementsQueue =
                 new LinkedBlockingQueue<>();
 
+        AtomicInteger fetcherIndex = new AtomicInteger();
         Supplier<KafkaPartitionSplitReader> kafkaPartitionSplitReaderSupplier =
-                () -> new KafkaPartitionSplitReader(kafkaSourceConfig, readerContext);
+                () ->
+                        new KafkaPartitionSplitReader(
+                                kafkaSourceConfig, readerContext, fetcherIndex.getAndIncrement());
 
         KafkaSourceFetcherManager kafkaSourceFetcherManager =
                 new KafkaSourceFetcherManager(
-                        elementsQueue, kafkaPartitionSplitReaderSupplier::get);
+                        elementsQueue,
+                        kafkaPartitionSplitReaderSupplier::get,
+                        kafkaSourceConfig.getFetcherThreads());
         KafkaRecordEmitter kafkaRecordEmitter =
                 new KafkaRecordEmitter(
                         kafkaSourceConfig.getMapMetadata(),
@@ -66,8 +66,11 @@ import static org.apache.seatunnel.connectors.seatunnel.kafka.config.Config.BOOT
 import static org.apache.seatunnel.connectors.seatunnel.kafka.config.Config.COMMIT_ON_CHECKPOINT;
 import static org.apache.seatunnel.connectors.seatunnel.kafka.config.Config.CONSUMER_GROUP;
 import static org.apache.seatunnel.connectors.seatunnel.kafka.config.Config.DEBEZIUM_RECORD_INCLUDE_SCHEMA;
+import static org.apache.seatunnel.connectors.seatunnel.kafka.config.Config.DESERIALIZE_IN_FETCHER;
+import static org.apache.seatunnel.connectors.seatunnel.kafka.config.Config.FETCHER_THREADS;
 import static org.apache.seatunnel.connectors.seatunnel.kafka.config.Config.FIELD_DELIMITER;
 import static org.apache.seatunnel.connectors.seatunnel.kafka.config.Config.FORMAT;
+import static org.apache.seatunnel.connectors.seatunnel.kafka.config.Config.JSON_STREAMING_PARSE;
 import static org.apache.seatunnel.connectors.seatunnel.kafka.config.Config.KAFKA_CONFIG;
 import static org.apache.seatunnel.connectors.seatunnel.kafka.config.Config.KEY_PARTITION_DISCOVERY_INTERVAL_MILLIS;
 import static org.apache.seatunnel.connectors.seatunnel.kafka.config.Config.KEY_POLL_TIMEOUT;
@@ -92,6 +95,8 @@ public class KafkaSourceConfig implements Serializable {
     @Getter private final MessageFormatErrorHandleWay messageFormatErrorHandleWay;
     @Getter private final String consumerGroup;
     @Getter private final long pollTimeout;
+    @Getter private final int fetcherThreads;
+    @Getter private final boolean deserializeInFetcher;
 
     public KafkaSourceConfig(ReadonlyConfig readonlyConfig) {
         this.bootstrap = readonlyConfig.get(BOOTSTRAP_SERVERS);
@@ -103,6 +108,8 @@ public class KafkaSourceConfig implements Serializable {
                 readonlyConfig.get(MESSAGE_FORMAT_ERROR_HANDLE_WAY_OPTION);
         this.pollTimeout = readonlyConfig.get(KEY_POLL_TIMEOUT);
         this.consumerGroup = readonlyConfig.get(CONSUMER_GROUP);
+        this.fetcherThreads = Math.max(1, readonlyConfig.get(FETCHER_THREADS));
+        this.deserializeInFetcher = readonlyConfig.get(DESERIALIZE_IN_FETCHER);
     }
 
     private Properties createKafkaProperties(ReadonlyConfig readonlyConfig) {
@@ -250,9 +257,10 @@ public class KafkaSourceConfig implements Serializable {
                     .build();
         }
 
+        boolean streamingParse = readonlyConfig.get(JSON_STREAMING_PARSE);
         switch (format) {
             case JSON:
-                return new JsonDeserializationSchema(catalogTable, false, false);
+                return new JsonDeserializationSchema(catalogTable, false, false, streamingParse);
             case TEXT:
                 String delimiter = readonlyConfig.get(FIELD_DELIMITER);
                 return TextDeserializationSchema.builder()
@@ -262,14 +270,17 @@ public class KafkaSourceConfig implements Serializable {
             case CANAL_JSON:
                 return CanalJsonDeserializationSchema.builder(catalogTable)
                         .setIgnoreParseErrors(true)
+                        .setStreamingParse(streamingParse)
                         .build();
             case OGG_JSON:
                 return OggJsonDeserializationSchema.builder(catalogTable)
                         .setIgnoreParseErrors(true)
+                        .setStreamingParse(streamingParse)
                         .build();
             case MAXWELL_JSON:
                 return MaxWellJsonDeserializationSchema.builder(catalogTable)
                         .setIgnoreParseErrors(true)
+                        .setStreamingParse(streamingParse)
                         .build();
 
             case COMPATIBLE_KAFKA_CONNECT_JSON:
@@ -283,7 +294,8 @@ public class KafkaSourceConfig implements Serializable {
                         catalogTable, keySchemaEnable, valueSchemaEnable, false, false);
             case DEBEZIUM_JSON:
                 boolean includeSchema = readonlyConfig.get(DEBEZIUM_RECORD_INCLUDE_SCHEMA);
-                return new DebeziumJsonDeserializationSchema(catalogTable, true, includeSchema);
+                return new DebeziumJsonDeserializationSchema(
+                        catalogTable, true, includeSchema, streamingParse);
             case AVRO:
                 return new AvroDeserializationSchema(catalogTable);
             case PROTOBUF:
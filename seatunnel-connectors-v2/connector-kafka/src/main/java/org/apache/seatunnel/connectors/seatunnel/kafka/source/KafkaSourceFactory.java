@@ -53,7 +53,10 @@ public class KafkaSourceFactory implements TableSourceFactory {
                         Config.SCHEMA,
                         Config.FORMAT,
                         Config.DEBEZIUM_RECORD_INCLUDE_SCHEMA,
-                        Config.KEY_PARTITION_DISCOVERY_INTERVAL_MILLIS)
+                        Config.JSON_STREAMING_PARSE,
+                        Config.KEY_PARTITION_DISCOVERY_INTERVAL_MILLIS,
+                        Config.FETCHER_THREADS,
+                        Config.DESERIALIZE_IN_FETCHER)
                 .conditional(Config.START_MODE, StartMode.TIMESTAMP, Config.START_MODE_TIMESTAMP)
                 .conditional(
                         Config.START_MODE, StartMode.SPECIFIC_OFFSETS, Config.START_MODE_OFFSETS)
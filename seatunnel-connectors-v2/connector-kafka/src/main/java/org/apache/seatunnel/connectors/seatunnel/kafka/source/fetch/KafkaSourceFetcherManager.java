@@ -18,8 +18,8 @@
 package org.apache.seatunnel.connectors.seatunnel.kafka.source.fetch;
 
 import org.apache.seatunnel.connectors.seatunnel.common.source.reader.RecordsWithSplitIds;
-import org.apache.seatunnel.connectors.seatunnel.common.source.reader.fetcher.SingleThreadFetcherManager;
 import org.apache.seatunnel.connectors.seatunnel.common.source.reader.fetcher.SplitFetcher;
+import org.apache.seatunnel.connectors.seatunnel.common.source.reader.fetcher.SplitFetcherManager;
 import org.apache.seatunnel.connectors.seatunnel.common.source.reader.fetcher.SplitFetcherTask;
 import org.apache.seatunnel.connectors.seatunnel.common.source.reader.splitreader.SplitReader;
 import org.apache.seatunnel.connectors.seatunnel.kafka.source.KafkaPartitionSplitReader;
@@ -34,22 +34,49 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
+/**
+ * Fetches the splits of a reader with a fixed number of fetchers, each with its own consumer. A
+ * split is assigned to one fetcher for its whole lifetime, so the records of a partition are always
+ * fetched in order by the same thread.
+ */
 public class KafkaSourceFetcherManager
-        extends SingleThreadFetcherManager<ConsumerRecord<byte[], byte[]>, KafkaSourceSplit> {
+        extends SplitFetcherManager<ConsumerRecord<byte[], byte[]>, KafkaSourceSplit> {
 
     private static final Logger logger = LoggerFactory.getLogger(KafkaSourceFetcherManager.class);
 
+    private final List<SplitFetcher<ConsumerRecord<byte[], byte[]>, KafkaSourceSplit>> slotFetchers;
+    private final Map<TopicPartition, Integer> partitionSlots = new ConcurrentHashMap<>();
+    private int nextSlot;
+
     public KafkaSourceFetcherManager(
             BlockingQueue<RecordsWithSplitIds<ConsumerRecord<byte[], byte[]>>> elementsQueue,
             Supplier<SplitReader<ConsumerRecord<byte[], byte[]>, KafkaSourceSplit>>
                     splitReaderSupplier) {
+        this(elementsQueue, splitReaderSupplier, 1);
+    }
+
+    public KafkaSourceFetcherManager(
+            BlockingQueue<RecordsWithSplitIds<ConsumerRecord<byte[], byte[]>>> elementsQueue,
+            Supplier<SplitReader<ConsumerRecord<byte[], byte[]>, KafkaSourceSplit>>
+                    splitReaderSupplier,
+            int fetcherThreads) {
         super(elementsQueue, splitReaderSupplier);
+        this.slotFetchers = new ArrayList<>();
+        for (int i = 0; i < fetcherThreads; i++) {
+            slotFetchers.add(null);
+        }
     }
 
     public KafkaSourceFetcherManager(
@@ -58,24 +85,96 @@ public class KafkaSourceFetcherManager
                     splitReaderSupplier,
             Consumer<Collection<String>> splitFinishedHook) {
         super(elementsQueue, splitReaderSupplier, splitFinishedHook);
+        this.slotFetchers = new ArrayList<>();
+        slotFetchers.add(null);
+    }
+
+    @Override
+    public synchronized void addSplits(Collection<KafkaSourceSplit> splitsToAdd) {
+        Map<Integer, List<KafkaSourceSplit>> splitsBySlot = new HashMap<>();
+        for (KafkaSourceSplit split : splitsToAdd) {
+            Integer slot = partitionSlots.get(split.getTopicPartition());
+            if (slot == null) {
+                slot = nextSlot;
+                nextSlot = (nextSlot + 1) % slotFetchers.size();
+                partitionSlots.put(split.getTopicPartition(), slot);
+            }
+            splitsBySlot.computeIfAbsent(slot, ignored -> new ArrayList<>()).add(split);
+        }
+        splitsBySlot.forEach(
+                (slot, splits) -> {
+                    SplitFetcher<ConsumerRecord<byte[], byte[]>, KafkaSourceSplit> fetcher =
+                            getRunningFetcher(slot);
+                    if (fetcher == null) {
+                        fetcher = createSlotFetcher(slot);
+                        fetcher.addSplits(splits);
+                        startFetcher(fetcher);
+                    } else {
+                        fetcher.addSplits(splits);
+                    }
+                });
     }
 
-    public void commitOffsets(
+    /**
+     * Commits the offsets with the consumers which fetch the partitions. The callback is called
+     * once after all consumers completed their commit.
+     */
+    public synchronized void commitOffsets(
             Map<TopicPartition, OffsetAndMetadata> offsetsToCommit, OffsetCommitCallback callback) {
         logger.debug("Committing offsets {}", offsetsToCommit);
         if (offsetsToCommit.isEmpty()) {
             return;
         }
-        SplitFetcher<ConsumerRecord<byte[], byte[]>, KafkaSourceSplit> splitFetcher =
-                fetchers.get(0);
-        if (splitFetcher != null) {
-            // The fetcher thread is still running. This should be the majority of the cases.
-            enqueueOffsetsCommitTask(splitFetcher, offsetsToCommit, callback);
-        } else {
-            splitFetcher = createSplitFetcher();
-            enqueueOffsetsCommitTask(splitFetcher, offsetsToCommit, callback);
-            startFetcher(splitFetcher);
-        }
+        Map<Integer, Map<TopicPartition, OffsetAndMetadata>> offsetsBySlot = new HashMap<>();
+        offsetsToCommit.forEach(
+                (partition, offset) ->
+                        offsetsBySlot
+                                .computeIfAbsent(
+                                        partitionSlots.getOrDefault(partition, 0),
+                                        ignored -> new HashMap<>())
+                                .put(partition, offset));
+
+        AtomicInteger pendingCommits = new AtomicInteger(offsetsBySlot.size());
+        AtomicReference<Exception> commitError = new AtomicReference<>();
+        OffsetCommitCallback slotCallback =
+                (offsets, e) -> {
+                    if (e != null && !commitError.compareAndSet(null, e)) {
+                        commitError.get().addSuppressed(e);
+                    }
+                    if (pendingCommits.decrementAndGet() == 0) {
+                        callback.onComplete(offsetsToCommit, commitError.get());
+                    }
+                };
+        offsetsBySlot.forEach(
+                (slot, offsets) -> {
+                    SplitFetcher<ConsumerRecord<byte[], byte[]>, KafkaSourceSplit> splitFetcher =
+                            getRunningFetcher(slot);
+                    if (splitFetcher != null) {
+                        // The fetcher thread is still running. This should be the majority of the
+                        // cases.
+                        enqueueOffsetsCommitTask(splitFetcher, offsets, slotCallback);
+                    } else {
+                        splitFetcher = createSlotFetcher(slot);
+                        enqueueOffsetsCommitTask(splitFetcher, offsets, slotCallback);
+                        startFetcher(splitFetcher);
+                    }
+                });
+    }
+
+    private SplitFetcher<ConsumerRecord<byte[], byte[]>, KafkaSourceSplit> getRunningFetcher(
+            int slot) {
+        SplitFetcher<ConsumerRecord<byte[], byte[]>, KafkaSourceSplit> fetcher =
+                slotFetchers.get(slot);
+        // idle fetchers are shut down and removed by the manager
+        return fetcher != null && fetchers.get(fetcher.getFetcherId()) == fetcher ? fetcher : null;
+    }
+
+    private SplitFetcher<ConsumerRecord<byte[], byte[]>, KafkaSourceSplit> createSlotFetcher(
+            int slot) {
+        SplitFetcher<ConsumerRecord<byte[], byte[]>, KafkaSourceSplit> fetcher =
+                createSplitFetcher();
+        slotFetchers.set(slot, fetcher);
+        return fetcher;
     }
 
     private void enqueueOffsetsCommitTask(
@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.kafka.source;
+
+import org.apache.seatunnel.api.serialization.DeserializationSchema;
+import org.apache.seatunnel.api.source.Collector;
+import org.apache.seatunnel.api.table.catalog.TablePath;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.connectors.seatunnel.common.source.reader.RecordsWithSplitIds;
+import org.apache.seatunnel.connectors.seatunnel.common.source.reader.splitreader.SplitsAddition;
+import org.apache.seatunnel.connectors.seatunnel.kafka.config.MessageFormatErrorHandleWay;
+import org.apache.seatunnel.connectors.seatunnel.kafka.config.StartMode;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.TopicPartition;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+class KafkaPartitionSplitReaderTest {
+
+    private static final TablePath TABLE_PATH = TablePath.of("db", "t");
+    private static final TopicPartition PARTITION = new TopicPartition("test", 0);
+
+    @Test
+    void testDeserializeInFetcher() throws Exception {
+        IntDeserializationSchema deserializationSchema = new IntDeserializationSchema();
+        ConsumerMetadata metadata = new ConsumerMetadata();
+        metadata.setStartMode(StartMode.EARLIEST);
+        metadata.setDeserializationSchema(deserializationSchema);
+        KafkaSourceConfig kafkaSourceConfig = Mockito.mock(KafkaSourceConfig.class);
+        Mockito.when(kafkaSourceConfig.getProperties()).thenReturn(new Properties());
+        Mockito.when(kafkaSourceConfig.getMapMetadata())
+                .thenReturn(Collections.singletonMap(TABLE_PATH, metadata));
+        Mockito.when(kafkaSourceConfig.getPollTimeout()).thenReturn(100L);
+        Mockito.when(kafkaSourceConfig.isDeserializeInFetcher()).thenReturn(true);
+
+        KafkaConsumer<byte[], byte[]> consumer = Mockito.mock(KafkaConsumer.class);
+        Mockito.when(consumer.poll(Mockito.any(Duration.class)))
+                .thenReturn(
+                        new ConsumerRecords<>(
+                                Collections.singletonMap(
+                                        PARTITION,
+                                        Arrays.asList(
+                                                record(0, "1"),
+                                                record(1, "bad"),
+                                                record(2, "3"),
+                                                record(3, "4")))));
+
+        KafkaPartitionSplitReader splitReader =
+                new KafkaPartitionSplitReader(kafkaSourceConfig, consumer);
+        KafkaSourceSplit split = new KafkaSourceSplit(TABLE_PATH, PARTITION, 0, 3);
+        splitReader.handleSplitsChanges(new SplitsAddition<>(Collections.singletonList(split)));
+        RecordsWithSplitIds<ConsumerRecord<byte[], byte[]>> records = splitReader.fetch();
+        Assertions.assertEquals(Collections.singleton(split.splitId()), records.finishedSplits());
+        Assertions.assertEquals(split.splitId(), records.nextSplit());
+
+        KafkaRecordEmitter recordEmitter =
+                new KafkaRecordEmitter(
+                        Collections.singletonMap(TABLE_PATH, metadata),
+                        MessageFormatErrorHandleWay.FAIL);
+        KafkaSourceSplitState splitState = new KafkaSourceSplitState(split);
+        List<Object> rows = new ArrayList<>();
+        ListCollector collector = new ListCollector(rows);
+
+        ConsumerRecord<byte[], byte[]> record = records.nextRecordFromSplit();
+        Assertions.assertInstanceOf(DeserializedConsumerRecord.class, record);
+        recordEmitter.emitRecord(record, collector, splitState);
+        Assertions.assertEquals(1L, splitState.getCurrentOffset());
+
+        // the error of the fetcher is raised when the record is emitted
+        ConsumerRecord<byte[], byte[]> badRecord = records.nextRecordFromSplit();
+        Assertions.assertInstanceOf(DeserializedConsumerRecord.class, badRecord);
+        Assertions.assertThrows(
+                IOException.class,
+                () -> recordEmitter.emitRecord(badRecord, collector, splitState));
+
+        record = records.nextRecordFromSplit();
+        Assertions.assertInstanceOf(DeserializedConsumerRecord.class, record);
+        recordEmitter.emitRecord(record, collector, splitState);
+        Assertions.assertEquals(3L, splitState.getCurrentOffset());
+
+        // the record at the stopping offset is not emitted
+        Assertions.assertNull(records.nextRecordFromSplit());
+        Assertions.assertEquals(Arrays.asList(1, 3), rows);
+        // the rows were deserialized by the copy of the schema owned by the fetcher
+        Assertions.assertEquals(0, deserializationSchema.deserializedRecords);
+    }
+
+    @Test
+    void testClientIdSuffix() {
+        KafkaSourceConfig kafkaSourceConfig = Mockito.mock(KafkaSourceConfig.class);
+        Mockito.when(kafkaSourceConfig.getFetcherThreads()).thenReturn(1);
+        Assertions.assertEquals(
+                "3", KafkaPartitionSplitReader.clientIdSuffix(kafkaSourceConfig, 3, 0));
+
+        // the consumers of the fetchers of the same subtask get distinct client ids
+        Mockito.when(kafkaSourceConfig.getFetcherThreads()).thenReturn(2);
+        Assertions.assertEquals(
+                "3-0", KafkaPartitionSplitReader.clientIdSuffix(kafkaSourceConfig, 3, 0));
+        Assertions.assertEquals(
+                "3-1", KafkaPartitionSplitReader.clientIdSuffix(kafkaSourceConfig, 3, 1));
+    }
+
+    private static ConsumerRecord<byte[], byte[]> record(long offset, String value) {
+        return new ConsumerRecord<>(
+                PARTITION.topic(),
+                PARTITION.partition(),
+                offset,
+                null,
+                value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static class IntDeserializationSchema implements DeserializationSchema<SeaTunnelRow> {
+
+        private int deserializedRecords;
+
+        @Override
+        public SeaTunnelRow deserialize(byte[] message) throws IOException {
+            deserializedRecords++;
+            try {
+                return new SeaTunnelRow(
+                        new Object[] {
+                            Integer.parseInt(new String(message, StandardCharsets.UTF_8))
+                        });
+            } catch (NumberFormatException e) {
+                throw new IOException(e);
+            }
+        }
+
+        @Override
+        public SeaTunnelDataType<SeaTunnelRow> getProducedType() {
+            return new SeaTunnelRowType(
+                    new String[] {"value"}, new SeaTunnelDataType[] {BasicType.INT_TYPE});
+        }
+    }
+
+    private static class ListCollector implements Collector<SeaTunnelRow> {
+        private final List<Object> output;
+
+        private ListCollector(List<Object> output) {
+            this.output = output;
+        }
+
+        @Override
+        public void collect(SeaTunnelRow record) {
+            output.add(record.getField(0));
+        }
+
+        @Override
+        public Object getCheckpointLock() {
+            return this;
+        }
+    }
+}
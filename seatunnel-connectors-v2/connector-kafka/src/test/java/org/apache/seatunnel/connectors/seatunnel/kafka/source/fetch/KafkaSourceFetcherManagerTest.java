@@ -0,0 +1,174 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.kafka.source.fetch;
+
+import org.apache.seatunnel.connectors.seatunnel.common.source.reader.RecordsWithSplitIds;
+import org.apache.seatunnel.connectors.seatunnel.common.source.reader.splitreader.SplitsChange;
+import org.apache.seatunnel.connectors.seatunnel.kafka.source.KafkaPartitionSplitReader;
+import org.apache.seatunnel.connectors.seatunnel.kafka.source.KafkaSourceSplit;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetCommitCallback;
+import org.apache.kafka.common.TopicPartition;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+class KafkaSourceFetcherManagerTest {
+
+    private static final TopicPartition PARTITION_0 = new TopicPartition("test", 0);
+    private static final TopicPartition PARTITION_1 = new TopicPartition("test", 1);
+    private static final TopicPartition PARTITION_2 = new TopicPartition("test", 2);
+
+    private final List<KafkaPartitionSplitReader> splitReaders = new ArrayList<>();
+    private final KafkaSourceFetcherManager fetcherManager =
+            new KafkaSourceFetcherManager(new LinkedBlockingQueue<>(), this::createSplitReader, 2);
+
+    @AfterEach
+    void close() throws Exception {
+        fetcherManager.close(1000);
+    }
+
+    @Test
+    void testPartitionIsPinnedToOneFetcher() throws Exception {
+        fetcherManager.addSplits(
+                Arrays.asList(split(PARTITION_0), split(PARTITION_1), split(PARTITION_2)));
+        Assertions.assertEquals(2, splitReaders.size());
+        Assertions.assertEquals(
+                Collections.singletonList(Arrays.asList(PARTITION_0, PARTITION_2)),
+                assignedPartitions(0, 1));
+        Assertions.assertEquals(
+                Collections.singletonList(Collections.singletonList(PARTITION_1)),
+                assignedPartitions(1, 1));
+
+        // a partition assigned again goes to the fetcher which read it before
+        fetcherManager.addSplits(Collections.singletonList(split(PARTITION_1)));
+        Assertions.assertEquals(2, splitReaders.size());
+        Assertions.assertEquals(
+                Arrays.asList(
+                        Collections.singletonList(PARTITION_1),
+                        Collections.singletonList(PARTITION_1)),
+                assignedPartitions(1, 2));
+        Assertions.assertEquals(
+                Collections.singletonList(Arrays.asList(PARTITION_0, PARTITION_2)),
+                assignedPartitions(0, 1));
+        fetcherManager.checkErrors();
+    }
+
+    @Test
+    void testCommitIsRoutedToFetchersOfPartitions() throws Exception {
+        fetcherManager.addSplits(
+                Arrays.asList(split(PARTITION_0), split(PARTITION_1), split(PARTITION_2)));
+        Exception commitError = new Exception("commit failed");
+        for (int i = 0; i < splitReaders.size(); i++) {
+            Exception error = i == 1 ? commitError : null;
+            Mockito.doAnswer(
+                            invocation -> {
+                                OffsetCommitCallback callback = invocation.getArgument(1);
+                                callback.onComplete(invocation.getArgument(0), error);
+                                return null;
+                            })
+                    .when(splitReaders.get(i))
+                    .notifyCheckpointComplete(Mockito.any(), Mockito.any());
+        }
+
+        Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+        offsets.put(PARTITION_0, new OffsetAndMetadata(10));
+        offsets.put(PARTITION_1, new OffsetAndMetadata(20));
+        offsets.put(PARTITION_2, new OffsetAndMetadata(30));
+        AtomicInteger callbacks = new AtomicInteger();
+        CompletableFuture<Exception> completed = new CompletableFuture<>();
+        fetcherManager.commitOffsets(
+                offsets,
+                (committed, e) -> {
+                    callbacks.incrementAndGet();
+                    Assertions.assertEquals(offsets, committed);
+                    completed.complete(e);
+                });
+
+        Assertions.assertSame(commitError, completed.get(10, TimeUnit.SECONDS));
+        Assertions.assertEquals(
+                new HashSet<>(Arrays.asList(PARTITION_0, PARTITION_2)), committedPartitions(0));
+        Assertions.assertEquals(Collections.singleton(PARTITION_1), committedPartitions(1));
+        Assertions.assertEquals(1, callbacks.get());
+        fetcherManager.checkErrors();
+    }
+
+    private KafkaPartitionSplitReader createSplitReader() {
+        KafkaPartitionSplitReader splitReader = Mockito.mock(KafkaPartitionSplitReader.class);
+        RecordsWithSplitIds<ConsumerRecord<byte[], byte[]>> emptyRecords =
+                Mockito.mock(RecordsWithSplitIds.class);
+        Mockito.when(emptyRecords.finishedSplits()).thenReturn(Collections.emptySet());
+        try {
+            Mockito.when(splitReader.fetch())
+                    .thenAnswer(
+                            invocation -> {
+                                Thread.sleep(10);
+                                return emptyRecords;
+                            });
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+        splitReaders.add(splitReader);
+        return splitReader;
+    }
+
+    private List<List<TopicPartition>> assignedPartitions(int fetcher, int times) {
+        ArgumentCaptor<SplitsChange<KafkaSourceSplit>> splitsChange =
+                ArgumentCaptor.forClass(SplitsChange.class);
+        Mockito.verify(splitReaders.get(fetcher), Mockito.timeout(10000).times(times))
+                .handleSplitsChanges(splitsChange.capture());
+        return splitsChange.getAllValues().stream()
+                .map(
+                        change ->
+                                change.splits().stream()
+                                        .map(KafkaSourceSplit::getTopicPartition)
+                                        .collect(Collectors.toList()))
+                .collect(Collectors.toList());
+    }
+
+    private Set<TopicPartition> committedPartitions(int fetcher) {
+        ArgumentCaptor<Map<TopicPartition, OffsetAndMetadata>> offsets =
+                ArgumentCaptor.forClass(Map.class);
+        Mockito.verify(splitReaders.get(fetcher))
+                .notifyCheckpointComplete(offsets.capture(), Mockito.any());
+        return offsets.getValue().keySet();
+    }
+
+    private static KafkaSourceSplit split(TopicPartition partition) {
+        return new KafkaSourceSplit(null, partition, 0, 100);
+    }
+}
@@ -124,9 +124,14 @@ public class HttpHelper {
         }
     }
 
-    @SuppressWarnings("unchecked")
     public Map<String, Object> doHttpPut(String url, byte[] data, Map<String, String> header)
             throws IOException {
+        return doHttpPut(url, data, data.length, header);
+    }
+
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> doHttpPut(
+            String url, byte[] data, int length, Map<String, String> header) throws IOException {
         final HttpClientBuilder httpClientBuilder =
                 HttpClients.custom()
                         .addInterceptorFirst(
@@ -151,7 +156,7 @@ public class HttpHelper {
                     httpPut.setHeader(entry.getKey(), String.valueOf(entry.getValue()));
                 }
             }
-            httpPut.setEntity(new ByteArrayEntity(data));
+            httpPut.setEntity(new ByteArrayEntity(data, 0, length));
             httpPut.setConfig(
                     RequestConfig.custom()
                             .setSocketTimeout(sinkConfig.getHttpSocketTimeout())
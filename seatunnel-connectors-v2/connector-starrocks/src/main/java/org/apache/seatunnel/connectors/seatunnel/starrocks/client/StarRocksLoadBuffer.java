@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.starrocks.client;
+
+import org.apache.seatunnel.connectors.seatunnel.starrocks.config.SinkConfig;
+import org.apache.seatunnel.connectors.seatunnel.starrocks.exception.StarRocksConnectorErrorCode;
+import org.apache.seatunnel.connectors.seatunnel.starrocks.exception.StarRocksConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.starrocks.serialize.StarRocksDelimiterParser;
+
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * The body of one stream load. Records are encoded as UTF-8 straight into a reusable byte array,
+ * already joined in the layout of the load format, so a batch costs no per record allocation and
+ * can be sent again as is when the load is retried. Buffers keep their capacity and are pooled by
+ * the {@link StarRocksSinkManager}.
+ */
+public class StarRocksLoadBuffer {
+
+    private static final int INITIAL_CAPACITY = 64 * 1024;
+
+    private final boolean json;
+    private final byte[] rowDelimiter;
+
+    @Getter private byte[] data;
+    @Getter private int size;
+    @Getter private int rowCount;
+    private boolean finished;
+
+    public StarRocksLoadBuffer(SinkConfig sinkConfig) {
+        if (SinkConfig.StreamLoadFormat.CSV.equals(sinkConfig.getLoadFormat())) {
+            this.json = false;
+            this.rowDelimiter =
+                    StarRocksDelimiterParser.parse(
+                                    (String) sinkConfig.getStreamLoadProps().get("row_delimiter"),
+                                    "\n")
+                            .getBytes(StandardCharsets.UTF_8);
+        } else if (SinkConfig.StreamLoadFormat.JSON.equals(sinkConfig.getLoadFormat())) {
+            this.json = true;
+            this.rowDelimiter = new byte[] {','};
+        } else {
+            throw new StarRocksConnectorException(
+                    StarRocksConnectorErrorCode.FLUSH_DATA_FAILED,
+                    "Failed to join rows data, unsupported `format` from stream load properties:");
+        }
+        this.data = new byte[INITIAL_CAPACITY];
+    }
+
+    /** Appends a serialized record, returns the number of bytes the record took. */
+    public int append(String record) {
+        int start = size;
+        if (json) {
+            writeByte(rowCount == 0 ? (byte) '[' : rowDelimiter[0]);
+        }
+        writeUtf8(record);
+        if (!json) {
+            ensureCapacity(rowDelimiter.length);
+            System.arraycopy(rowDelimiter, 0, data, size, rowDelimiter.length);
+            size += rowDelimiter.length;
+        }
+        rowCount++;
+        return size - start;
+    }
+
+    /** Completes the body before it is sent, no more records can be appended until reset. */
+    public void finish() {
+        if (!finished) {
+            if (json) {
+                if (rowCount == 0) {
+                    writeByte((byte) '[');
+                }
+                writeByte((byte) ']');
+            }
+            finished = true;
+        }
+    }
+
+    public boolean isEmpty() {
+        return rowCount == 0;
+    }
+
+    public void reset() {
+        size = 0;
+        rowCount = 0;
+        finished = false;
+    }
+
+    private void writeUtf8(String value) {
+        int length = value.length();
+        // a char takes at most three bytes, surrogate pairs take four bytes for two chars
+        ensureCapacity(length * 3);
+        byte[] bytes = data;
+        int position = size;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                bytes[position++] = (byte) c;
+            } else if (c < 0x800) {
+                bytes[position++] = (byte) (0xC0 | (c >> 6));
+                bytes[position++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c)
+                    && i + 1 < length
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                bytes[position++] = (byte) (0xF0 | (codePoint >> 18));
+                bytes[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                bytes[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                bytes[position++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                // unpaired surrogate, replaced like String#getBytes does
+                bytes[position++] = '?';
+            } else {
+                bytes[position++] = (byte) (0xE0 | (c >> 12));
+                bytes[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                bytes[position++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        size = position;
+    }
+
+    private void writeByte(byte value) {
+        ensureCapacity(1);
+        data[size++] = value;
+    }
+
+    private void ensureCapacity(int additional) {
+        if (finished) {
+            throw new IllegalStateException("The load buffer is already finished");
+        }
+        int required = size + additional;
+        if (required > data.length) {
+            data = Arrays.copyOf(data, Math.max(required, data.length * 2));
+        }
+    }
+}
@@ -22,64 +22,150 @@ import org.apache.seatunnel.connectors.seatunnel.starrocks.exception.StarRocksCo
 import org.apache.seatunnel.connectors.seatunnel.starrocks.exception.StarRocksConnectorException;
 
 import com.google.common.base.Strings;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
-
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Buffers the records of one table and sends them with stream loads which run on a pool of load
+ * threads, so the writer keeps serializing records while up to {@code max_in_flight_loads} batches
+ * are loaded. The batch buffers are pooled, when all of them are loading the writer waits for the
+ * next one to be released.
+ */
 @Slf4j
 public class StarRocksSinkManager {
 
     private final SinkConfig sinkConfig;
-    private final List<byte[]> batchList;
-
     private final StarRocksStreamLoadVisitor starrocksStreamLoadVisitor;
-    private volatile boolean initialize;
+    // one buffer for every running load and one more which is filled meanwhile
+    private final BlockingQueue<StarRocksLoadBuffer> bufferPool;
+    private final ExecutorService loadExecutor;
+    private final Object inFlightLock = new Object();
+    private int inFlightLoads;
+
     private volatile Exception flushException;
-    private int batchRowCount = 0;
-    private long batchBytesSize = 0;
+    private StarRocksLoadBuffer currentBuffer;
 
     public StarRocksSinkManager(SinkConfig sinkConfig, List<String> fileNames) {
-        this.sinkConfig = sinkConfig;
-        this.batchList = new ArrayList<>();
-        starrocksStreamLoadVisitor = new StarRocksStreamLoadVisitor(sinkConfig, fileNames);
+        this(sinkConfig, new StarRocksStreamLoadVisitor(sinkConfig, fileNames));
     }
 
-    private void tryInit() throws IOException {
-        if (initialize) {
-            return;
+    StarRocksSinkManager(
+            SinkConfig sinkConfig, StarRocksStreamLoadVisitor starrocksStreamLoadVisitor) {
+        this.sinkConfig = sinkConfig;
+        this.starrocksStreamLoadVisitor = starrocksStreamLoadVisitor;
+        int maxInFlightLoads = Math.max(1, sinkConfig.getMaxInFlightLoads());
+        if (sinkConfig.isEnableUpsertDelete() && maxInFlightLoads > 1) {
+            log.warn(
+                    "Upsert/delete requires the batches to be loaded in order, ignore max_in_flight_loads = {}.",
+                    maxInFlightLoads);
+            maxInFlightLoads = 1;
+        }
+        this.bufferPool = new ArrayBlockingQueue<>(maxInFlightLoads + 1);
+        for (int i = 0; i <= maxInFlightLoads; i++) {
+            bufferPool.add(new StarRocksLoadBuffer(sinkConfig));
         }
-        initialize = true;
+        this.loadExecutor =
+                Executors.newFixedThreadPool(
+                        maxInFlightLoads,
+                        new ThreadFactoryBuilder()
+                                .setNameFormat("starrocks-stream-load-%d")
+                                .setDaemon(true)
+                                .build());
     }
 
-    public synchronized void write(String record) throws IOException {
-        tryInit();
+    public void write(String record) throws IOException {
         checkFlushException();
-        byte[] bts = record.getBytes(StandardCharsets.UTF_8);
-        batchList.add(bts);
-        batchRowCount++;
-        batchBytesSize += bts.length;
-        if (batchRowCount >= sinkConfig.getBatchMaxSize()
-                || batchBytesSize >= sinkConfig.getBatchMaxBytes()) {
-            flush();
+        if (currentBuffer == null) {
+            currentBuffer = takeBuffer();
+        }
+        currentBuffer.append(record);
+        if (currentBuffer.getRowCount() >= sinkConfig.getBatchMaxSize()
+                || currentBuffer.getSize() >= sinkConfig.getBatchMaxBytes()) {
+            submitLoad();
         }
     }
 
-    public synchronized void close() throws IOException {
-        flush();
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            loadExecutor.shutdownNow();
+        }
     }
 
-    public synchronized void flush() throws IOException {
+    /** Sends the buffered records and waits until all running loads are finished. */
+    public void flush() throws IOException {
+        checkFlushException();
+        if (currentBuffer != null && !currentBuffer.isEmpty()) {
+            submitLoad();
+        }
+        synchronized (inFlightLock) {
+            while (inFlightLoads > 0) {
+                try {
+                    inFlightLock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new StarRocksConnectorException(
+                            StarRocksConnectorErrorCode.FLUSH_DATA_FAILED, e);
+                }
+            }
+        }
         checkFlushException();
-        if (batchList.isEmpty()) {
-            return;
+    }
+
+    private StarRocksLoadBuffer takeBuffer() {
+        try {
+            StarRocksLoadBuffer buffer = null;
+            while (buffer == null) {
+                checkFlushException();
+                buffer = bufferPool.poll(100, TimeUnit.MILLISECONDS);
+            }
+            return buffer;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new StarRocksConnectorException(StarRocksConnectorErrorCode.FLUSH_DATA_FAILED, e);
         }
-        String label = createBatchLabel();
-        StarRocksFlushTuple tuple =
-                new StarRocksFlushTuple(label, batchBytesSize, new ArrayList<>(batchList));
+    }
+
+    private void submitLoad() {
+        StarRocksLoadBuffer buffer = currentBuffer;
+        currentBuffer = null;
+        buffer.finish();
+        // the label is created in the writer thread, so batches keep the order of the records
+        StarRocksFlushTuple tuple = new StarRocksFlushTuple(createBatchLabel(), buffer);
+        synchronized (inFlightLock) {
+            inFlightLoads++;
+        }
+        loadExecutor.execute(
+                () -> {
+                    try {
+                        if (flushException == null) {
+                            load(tuple);
+                        }
+                    } catch (Exception e) {
+                        log.error("Stream load of label [{}] failed.", tuple.getLabel(), e);
+                        flushException = e;
+                    } finally {
+                        buffer.reset();
+                        bufferPool.add(buffer);
+                        synchronized (inFlightLock) {
+                            inFlightLoads--;
+                            inFlightLock.notifyAll();
+                        }
+                    }
+                });
+    }
+
+    private void load(StarRocksFlushTuple tuple) {
         for (int i = 0; i <= sinkConfig.getMaxRetries(); i++) {
             try {
                 Boolean successFlag = starrocksStreamLoadVisitor.doStreamLoad(tuple);
@@ -118,9 +204,6 @@ public class StarRocksSinkManager {
                 }
             }
         }
-        batchList.clear();
-        batchRowCount = 0;
-        batchBytesSize = 0;
     }
 
     private void checkFlushException() {
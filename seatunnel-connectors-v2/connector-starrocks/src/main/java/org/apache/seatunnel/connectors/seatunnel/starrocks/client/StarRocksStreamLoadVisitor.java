@@ -22,7 +22,6 @@ import org.apache.seatunnel.common.utils.JsonUtils;
 import org.apache.seatunnel.connectors.seatunnel.starrocks.config.SinkConfig;
 import org.apache.seatunnel.connectors.seatunnel.starrocks.exception.StarRocksConnectorErrorCode;
 import org.apache.seatunnel.connectors.seatunnel.starrocks.exception.StarRocksConnectorException;
-import org.apache.seatunnel.connectors.seatunnel.starrocks.serialize.StarRocksDelimiterParser;
 
 import org.apache.commons.codec.binary.Base64;
 
@@ -30,7 +29,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
-import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.List;
@@ -79,18 +77,18 @@ public class StarRocksStreamLoadVisitor {
                         .append(sinkConfig.getTable())
                         .append("/_stream_load")
                         .toString();
+        StarRocksLoadBuffer buffer = flushData.getBuffer();
         if (LOG.isDebugEnabled()) {
             LOG.debug(
                     String.format(
-                            "Start to join batch data: rows[%d] bytes[%d] label[%s].",
-                            flushData.getRows().size(),
-                            flushData.getBytes(),
-                            flushData.getLabel()));
+                            "Start to load batch data: rows[%d] bytes[%d] label[%s].",
+                            buffer.getRowCount(), buffer.getSize(), flushData.getLabel()));
         }
         Map<String, Object> loadResult =
                 httpHelper.doHttpPut(
                         loadUrl,
-                        joinRows(flushData.getRows(), flushData.getBytes().intValue()),
+                        buffer.getData(),
+                        buffer.getSize(),
                         getStreamLoadHttpHeader(flushData.getLabel()));
         final String keyStatus = "Status";
         if (null == loadResult || !loadResult.containsKey(keyStatus)) {
@@ -136,7 +134,7 @@ public class StarRocksStreamLoadVisitor {
         return RESULT_SUCCESS.equals(loadResult.get(keyStatus));
     }
 
-    private String getAvailableHost() {
+    private synchronized String getAvailableHost() {
         List<String> hostList = sinkConfig.getNodeUrls();
         long tmp = pos + hostList.size();
         for (; pos < tmp; pos++) {
@@ -148,41 +146,6 @@ public class StarRocksStreamLoadVisitor {
         return null;
     }
 
-    private byte[] joinRows(List<byte[]> rows, int totalBytes) {
-        if (SinkConfig.StreamLoadFormat.CSV.equals(sinkConfig.getLoadFormat())) {
-            Map<String, Object> props = sinkConfig.getStreamLoadProps();
-            byte[] lineDelimiter =
-                    StarRocksDelimiterParser.parse((String) props.get("row_delimiter"), "\n")
-                            .getBytes(StandardCharsets.UTF_8);
-            ByteBuffer bos = ByteBuffer.allocate(totalBytes + rows.size() * lineDelimiter.length);
-            for (byte[] row : rows) {
-                bos.put(row);
-                bos.put(lineDelimiter);
-            }
-            return bos.array();
-        }
-
-        if (SinkConfig.StreamLoadFormat.JSON.equals(sinkConfig.getLoadFormat())) {
-            ByteBuffer bos =
-                    ByteBuffer.allocate(totalBytes + (rows.isEmpty() ? 2 : rows.size() + 1));
-            bos.put("[".getBytes(StandardCharsets.UTF_8));
-            byte[] jsonDelimiter = ",".getBytes(StandardCharsets.UTF_8);
-            boolean isFirstElement = true;
-            for (byte[] row : rows) {
-                if (!isFirstElement) {
-                    bos.put(jsonDelimiter);
-                }
-                bos.put(row);
-                isFirstElement = false;
-            }
-            bos.put("]".getBytes(StandardCharsets.UTF_8));
-            return bos.array();
-        }
-        throw new StarRocksConnectorException(
-                StarRocksConnectorErrorCode.FLUSH_DATA_FAILED,
-                "Failed to join rows data, unsupported `format` from stream load properties:");
-    }
-
     @SuppressWarnings("unchecked")
     private void checkLabelState(String host, String label) throws IOException {
         int idx = 0;
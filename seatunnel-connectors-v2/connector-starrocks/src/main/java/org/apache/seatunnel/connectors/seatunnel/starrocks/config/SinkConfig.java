@@ -55,6 +55,7 @@ public class SinkConfig implements Serializable {
     private int maxRetries;
     private int retryBackoffMultiplierMs;
     private int maxRetryBackoffMs;
+    private int maxInFlightLoads;
     private boolean enableUpsertDelete;
 
     private String saveModeCreateTemplate;
@@ -83,6 +84,7 @@ public class SinkConfig implements Serializable {
                 .ifPresent(sinkConfig::setRetryBackoffMultiplierMs);
         config.getOptional(StarRocksSinkOptions.MAX_RETRY_BACKOFF_MS)
                 .ifPresent(sinkConfig::setMaxRetryBackoffMs);
+        sinkConfig.setMaxInFlightLoads(config.get(StarRocksSinkOptions.MAX_IN_FLIGHT_LOADS));
         config.getOptional(StarRocksSinkOptions.ENABLE_UPSERT_DELETE)
                 .ifPresent(sinkConfig::setEnableUpsertDelete);
         sinkConfig.setSaveModeCreateTemplate(
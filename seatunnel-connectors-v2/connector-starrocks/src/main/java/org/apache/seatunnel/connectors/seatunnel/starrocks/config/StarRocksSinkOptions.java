@@ -114,6 +114,14 @@ public interface StarRocksSinkOptions {
                     .withDescription(
                             "The amount of time to wait before attempting to retry a request to StarRocks");
 
+    Option<Integer> MAX_IN_FLIGHT_LOADS =
+            Options.key("max_in_flight_loads")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "The number of stream loads which may run at the same time, further batches are buffered while the loads are running and the writer waits when all buffers are in use. "
+                                    + "Loads of more than one batch may become visible out of order, so upsert/delete always uses a single load.");
+
     Option<Boolean> ENABLE_UPSERT_DELETE =
             Options.key("enable_upsert_delete")
                     .booleanType()
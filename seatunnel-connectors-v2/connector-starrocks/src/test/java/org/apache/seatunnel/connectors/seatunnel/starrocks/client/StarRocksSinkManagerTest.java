@@ -0,0 +1,189 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.starrocks.client;
+
+import org.apache.seatunnel.connectors.seatunnel.starrocks.config.SinkConfig;
+import org.apache.seatunnel.connectors.seatunnel.starrocks.exception.StarRocksConnectorException;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class StarRocksSinkManagerTest {
+
+    private final List<String> labels = new CopyOnWriteArrayList<>();
+    private final List<String> bodies = new CopyOnWriteArrayList<>();
+    private final AtomicInteger concurrentLoads = new AtomicInteger();
+    private final AtomicInteger maxConcurrentLoads = new AtomicInteger();
+
+    @Test
+    public void testJoinRowsInLoadBuffer() {
+        SinkConfig csvConfig = sinkConfig(SinkConfig.StreamLoadFormat.CSV, 1);
+        csvConfig.getStreamLoadProps().put("row_delimiter", "\\x02");
+        StarRocksLoadBuffer csvBuffer = new StarRocksLoadBuffer(csvConfig);
+        String record = "a,é中😀";
+        Assertions.assertEquals(
+                record.getBytes(StandardCharsets.UTF_8).length + 1, csvBuffer.append(record));
+        csvBuffer.append("b");
+        csvBuffer.finish();
+        Assertions.assertEquals(2, csvBuffer.getRowCount());
+        Assertions.assertEquals(record + "\u0002b\u0002", text(csvBuffer));
+
+        StarRocksLoadBuffer jsonBuffer =
+                new StarRocksLoadBuffer(sinkConfig(SinkConfig.StreamLoadFormat.JSON, 1));
+        jsonBuffer.finish();
+        Assertions.assertEquals("[]", text(jsonBuffer));
+        jsonBuffer.reset();
+        jsonBuffer.append("{\"id\":1}");
+        jsonBuffer.append("{\"id\":2}");
+        jsonBuffer.finish();
+        Assertions.assertEquals("[{\"id\":1},{\"id\":2}]", text(jsonBuffer));
+        Assertions.assertThrows(IllegalStateException.class, () -> jsonBuffer.append("{}"));
+    }
+
+    @Test
+    public void testConcurrentLoads() throws IOException {
+        SinkConfig sinkConfig = sinkConfig(SinkConfig.StreamLoadFormat.CSV, 2);
+        StarRocksSinkManager manager = new StarRocksSinkManager(sinkConfig, recordingVisitor(null));
+        for (int i = 0; i < 9; i++) {
+            manager.write(String.valueOf(i));
+        }
+        manager.flush();
+
+        Assertions.assertEquals(5, bodies.size());
+        Assertions.assertEquals(5, new HashSet<>(labels).size());
+        Assertions.assertTrue(maxConcurrentLoads.get() <= 2, maxConcurrentLoads::toString);
+        List<String> records = new ArrayList<>();
+        bodies.forEach(body -> records.addAll(Arrays.asList(body.split("\n"))));
+        records.sort(null);
+        Assertions.assertEquals(
+                Arrays.asList("0", "1", "2", "3", "4", "5", "6", "7", "8"), records);
+        manager.close();
+    }
+
+    @Test
+    public void testUpsertDeleteLoadsInOrder() throws IOException {
+        SinkConfig sinkConfig = sinkConfig(SinkConfig.StreamLoadFormat.CSV, 4);
+        sinkConfig.setEnableUpsertDelete(true);
+        StarRocksSinkManager manager = new StarRocksSinkManager(sinkConfig, recordingVisitor(null));
+        for (int i = 0; i < 6; i++) {
+            manager.write(String.valueOf(i));
+        }
+        manager.close();
+
+        Assertions.assertEquals(Arrays.asList("0\n1\n", "2\n3\n", "4\n5\n"), bodies);
+        Assertions.assertEquals(1, maxConcurrentLoads.get());
+    }
+
+    @Test
+    public void testWaitForBufferWhenAllLoadsAreRunning() throws Exception {
+        CountDownLatch releaseLoads = new CountDownLatch(1);
+        SinkConfig sinkConfig = sinkConfig(SinkConfig.StreamLoadFormat.JSON, 1);
+        sinkConfig.setBatchMaxSize(1);
+        StarRocksSinkManager manager =
+                new StarRocksSinkManager(sinkConfig, recordingVisitor(releaseLoads));
+        // the first batch is loading and the second one waits for the load thread
+        manager.write("{\"id\":1}");
+        manager.write("{\"id\":2}");
+
+        CompletableFuture<Void> third =
+                CompletableFuture.runAsync(
+                        () -> {
+                            try {
+                                manager.write("{\"id\":3}");
+                            } catch (IOException e) {
+                                throw new RuntimeException(e);
+                            }
+                        });
+        Assertions.assertThrows(
+                TimeoutException.class, () -> third.get(300, TimeUnit.MILLISECONDS));
+
+        releaseLoads.countDown();
+        third.get(5, TimeUnit.SECONDS);
+        manager.close();
+        Assertions.assertEquals(
+                Arrays.asList("[{\"id\":1}]", "[{\"id\":2}]", "[{\"id\":3}]"), bodies);
+    }
+
+    @Test
+    public void testFailedLoadIsReported() throws IOException {
+        StarRocksStreamLoadVisitor visitor = Mockito.mock(StarRocksStreamLoadVisitor.class);
+        Mockito.when(visitor.doStreamLoad(Mockito.any()))
+                .thenThrow(new IOException("Connection refused"));
+        SinkConfig sinkConfig = sinkConfig(SinkConfig.StreamLoadFormat.CSV, 2);
+        sinkConfig.setMaxRetries(1);
+        StarRocksSinkManager manager = new StarRocksSinkManager(sinkConfig, visitor);
+        manager.write("1");
+
+        Assertions.assertThrows(StarRocksConnectorException.class, manager::flush);
+        Assertions.assertThrows(StarRocksConnectorException.class, () -> manager.write("2"));
+        Mockito.verify(visitor, Mockito.times(2)).doStreamLoad(Mockito.any());
+        Assertions.assertThrows(StarRocksConnectorException.class, manager::close);
+    }
+
+    private StarRocksStreamLoadVisitor recordingVisitor(CountDownLatch releaseLoads)
+            throws IOException {
+        StarRocksStreamLoadVisitor visitor = Mockito.mock(StarRocksStreamLoadVisitor.class);
+        Mockito.when(visitor.doStreamLoad(Mockito.any()))
+                .thenAnswer(
+                        invocation -> {
+                            StarRocksFlushTuple tuple = invocation.getArgument(0);
+                            int concurrent = concurrentLoads.incrementAndGet();
+                            maxConcurrentLoads.accumulateAndGet(concurrent, Math::max);
+                            try {
+                                if (releaseLoads != null) {
+                                    releaseLoads.await();
+                                }
+                                Thread.sleep(20);
+                                labels.add(tuple.getLabel());
+                                bodies.add(text(tuple.getBuffer()));
+                                return true;
+                            } finally {
+                                concurrentLoads.decrementAndGet();
+                            }
+                        });
+        return visitor;
+    }
+
+    private static SinkConfig sinkConfig(SinkConfig.StreamLoadFormat format, int maxInFlight) {
+        SinkConfig sinkConfig = new SinkConfig();
+        sinkConfig.setLoadFormat(format);
+        sinkConfig.setBatchMaxSize(2);
+        sinkConfig.setBatchMaxBytes(1024);
+        sinkConfig.setMaxInFlightLoads(maxInFlight);
+        sinkConfig.setLabelPrefix("test-");
+        return sinkConfig;
+    }
+
+    private static String text(StarRocksLoadBuffer buffer) {
+        return new String(buffer.getData(), 0, buffer.getSize(), StandardCharsets.UTF_8);
+    }
+}
@@ -19,6 +19,7 @@ package org.apache.seatunnel.core.starter.flowcontrol;
 
 import org.apache.seatunnel.shade.com.google.common.util.concurrent.RateLimiter;
 
+import org.apache.seatunnel.api.table.type.ColumnarBatch;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 
 import java.util.Optional;
@@ -48,6 +49,19 @@ public class FlowControlGate {
         countRateLimiter.ifPresent(RateLimiter::acquire);
     }
 
+    public void audit(ColumnarBatch batch) {
+        bytesRateLimiter.ifPresent(
+                rateLimiter -> {
+                    long bytesSize = batch.getBytesSize();
+                    if (bytesSize > 0) {
+                        rateLimiter.acquire((int) Math.min(bytesSize, Integer.MAX_VALUE));
+                    }
+                });
+        if (batch.getRowCount() > 0) {
+            countRateLimiter.ifPresent(rateLimiter -> rateLimiter.acquire(batch.getRowCount()));
+        }
+    }
+
     public static FlowControlGate create(FlowControlStrategy flowControlStrategy) {
         return new FlowControlGate(flowControlStrategy);
     }
@@ -20,6 +20,7 @@ package org.apache.seatunnel.engine.client;
 import org.apache.seatunnel.shade.com.typesafe.config.Config;
 
 import org.apache.seatunnel.api.common.JobContext;
+import org.apache.seatunnel.api.transform.SeaTunnelTransform;
 import org.apache.seatunnel.common.config.Common;
 import org.apache.seatunnel.common.config.DeployMode;
 import org.apache.seatunnel.core.starter.utils.ConfigBuilder;
@@ -27,6 +28,8 @@ import org.apache.seatunnel.engine.common.config.JobConfig;
 import org.apache.seatunnel.engine.common.utils.IdGenerator;
 import org.apache.seatunnel.engine.core.dag.actions.Action;
 import org.apache.seatunnel.engine.core.dag.actions.SinkAction;
+import org.apache.seatunnel.engine.core.dag.actions.SourceAction;
+import org.apache.seatunnel.engine.core.dag.actions.TransformAction;
 import org.apache.seatunnel.engine.core.parse.MultipleTableJobConfigParser;
 
 import org.apache.commons.lang3.tuple.ImmutablePair;
@@ -38,6 +41,7 @@ import java.io.IOException;
 import java.net.URL;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 
@@ -147,4 +151,75 @@ public class MultipleTableJobConfigParserTest {
         Assertions.assertEquals("Transform[0]-sql", actions.get(0).getUpstream().get(0).getName());
         Assertions.assertEquals("Transform[1]-sql", actions.get(1).getUpstream().get(0).getName());
     }
+
+    @Test
+    public void testPushDownProjectionToParquetSource() {
+        Common.setDeployMode(DeployMode.CLIENT);
+        // users.parquet has the fields id, name, age and city
+        String parquetPath = TestUtils.getResource("/projection");
+        String filePath = TestUtils.getResource("/batch_parquet_to_console_with_projection.conf");
+        JobConfig jobConfig = new JobConfig();
+        jobConfig.setJobContext(new JobContext());
+        Config config =
+                ConfigBuilder.of(
+                        Paths.get(filePath),
+                        Collections.singletonList("parquet_path=" + parquetPath));
+        MultipleTableJobConfigParser jobConfigParser =
+                new MultipleTableJobConfigParser(config, new IdGenerator(), jobConfig);
+        List<Action> actions = jobConfigParser.parse(null).getLeft();
+        Assertions.assertEquals(6, actions.size());
+
+        // SQL reads the fields used by its select list
+        TransformAction sql = (TransformAction) actions.get(0).getUpstream().get(0);
+        assertProjectedSource(sql, Arrays.asList("name", "age"), Arrays.asList("id", "city"));
+        Assertions.assertEquals(
+                Arrays.asList("name", "next_age"), getProducedFieldNames(sql.getTransform()));
+
+        // FieldMapper reads the mapped fields
+        TransformAction fieldMapper = (TransformAction) actions.get(1).getUpstream().get(0);
+        assertProjectedSource(
+                fieldMapper, Arrays.asList("id", "city"), Arrays.asList("name", "age"));
+        Assertions.assertEquals(
+                Arrays.asList("user_id", "city"),
+                getProducedFieldNames(fieldMapper.getTransform()));
+
+        // Filter reads the fields which are not excluded
+        TransformAction filter = (TransformAction) actions.get(2).getUpstream().get(0);
+        assertProjectedSource(filter, Arrays.asList("id", "name"), Arrays.asList("age", "city"));
+        Assertions.assertEquals(
+                Arrays.asList("id", "name"), getProducedFieldNames(filter.getTransform()));
+
+        // in a chain the transform next to the source decides the projection
+        TransformAction chainSql = (TransformAction) actions.get(3).getUpstream().get(0);
+        TransformAction chainFilter = (TransformAction) chainSql.getUpstream().get(0);
+        assertProjectedSource(
+                chainFilter, Arrays.asList("id", "name", "age"), Arrays.asList("city"));
+        Assertions.assertEquals(
+                Arrays.asList("name"), getProducedFieldNames(chainSql.getTransform()));
+
+        // the source shared by two transforms keeps all fields
+        TransformAction shared = (TransformAction) actions.get(4).getUpstream().get(0);
+        assertProjectedSource(
+                shared, Arrays.asList("id", "name", "age", "city"), Collections.emptyList());
+    }
+
+    private static void assertProjectedSource(
+            TransformAction transform, List<String> fieldNames, List<String> prunedColumns) {
+        Assertions.assertEquals(1, transform.getUpstream().size());
+        SourceAction<?, ?, ?> source = (SourceAction<?, ?, ?>) transform.getUpstream().get(0);
+        Assertions.assertEquals(prunedColumns, source.getPrunedColumns());
+        Assertions.assertEquals(
+                fieldNames,
+                Arrays.asList(
+                        source.getSource()
+                                .getProducedCatalogTables()
+                                .get(0)
+                                .getSeaTunnelRowType()
+                                .getFieldNames()));
+    }
+
+    private static List<String> getProducedFieldNames(SeaTunnelTransform<?> transform) {
+        return Arrays.asList(
+                transform.getProducedCatalogTable().getSeaTunnelRowType().getFieldNames());
+    }
 }
@@ -63,5 +63,11 @@ public class Constant {
 
     public static final String IMAP_CONNECTOR_JAR_REF_COUNTERS = "engine_connectorJarRefCounters";
 
+    /**
+     * Members of the readers of direct shuffle channels. Without the engine_ prefix on purpose, the
+     * entries only live as long as the reading tasks and must not be persisted.
+     */
+    public static final String IMAP_SHUFFLE_ENDPOINTS = "shuffle_endpoints";
+
     public static final String PROP_FILE = "zeta.version.properties";
 }
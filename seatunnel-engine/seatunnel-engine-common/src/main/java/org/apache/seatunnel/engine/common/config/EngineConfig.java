@@ -17,11 +17,13 @@
 
 package org.apache.seatunnel.engine.common.config;
 
+import org.apache.seatunnel.api.common.metrics.BytesMetricsMode;
 import org.apache.seatunnel.engine.common.config.server.CheckpointConfig;
 import org.apache.seatunnel.engine.common.config.server.ConnectorJarStorageConfig;
 import org.apache.seatunnel.engine.common.config.server.HttpConfig;
 import org.apache.seatunnel.engine.common.config.server.QueueType;
 import org.apache.seatunnel.engine.common.config.server.ServerConfigOptions;
+import org.apache.seatunnel.engine.common.config.server.ShuffleMode;
 import org.apache.seatunnel.engine.common.config.server.SlotServiceConfig;
 import org.apache.seatunnel.engine.common.config.server.TelemetryConfig;
 import org.apache.seatunnel.engine.common.config.server.ThreadShareMode;
@@ -33,6 +35,7 @@ import java.util.Collections;
 import java.util.Map;
 
 import static com.hazelcast.internal.util.Preconditions.checkBackupCount;
+import static com.hazelcast.internal.util.Preconditions.checkNotNegative;
 import static com.hazelcast.internal.util.Preconditions.checkNotNull;
 import static com.hazelcast.internal.util.Preconditions.checkPositive;
 
@@ -49,9 +52,21 @@ public class EngineConfig {
     private int jobMetricsBackupInterval =
             ServerConfigOptions.JOB_METRICS_BACKUP_INTERVAL.defaultValue();
 
+    private BytesMetricsMode bytesMetricsMode =
+            ServerConfigOptions.BYTES_METRICS_MODE.defaultValue();
+
     private ThreadShareMode taskExecutionThreadShareMode =
             ServerConfigOptions.TASK_EXECUTION_THREAD_SHARE_MODE.defaultValue();
 
+    private int cooperativeWorkerCount =
+            ServerConfigOptions.COOPERATIVE_WORKER_COUNT.defaultValue();
+
+    private int cooperativeSlowCallThreshold =
+            ServerConfigOptions.COOPERATIVE_SLOW_CALL_THRESHOLD.defaultValue();
+
+    private int cooperativeMaxDedicatedWorkerCount =
+            ServerConfigOptions.COOPERATIVE_MAX_DEDICATED_WORKER_COUNT.defaultValue();
+
     private SlotServiceConfig slotServiceConfig = ServerConfigOptions.SLOT_SERVICE.defaultValue();
 
     private CheckpointConfig checkpointConfig = ServerConfigOptions.CHECKPOINT.defaultValue();
@@ -63,6 +78,7 @@ public class EngineConfig {
             ServerConfigOptions.CLASSLOADER_CACHE_MODE.defaultValue();
 
     private QueueType queueType = ServerConfigOptions.QUEUE_TYPE.defaultValue();
+    private ShuffleMode shuffleMode = ServerConfigOptions.SHUFFLE_MODE.defaultValue();
     private int historyJobExpireMinutes =
             ServerConfigOptions.HISTORY_JOB_EXPIRE_MINUTES.defaultValue();
 
@@ -108,6 +124,27 @@ public class EngineConfig {
         this.taskExecutionThreadShareMode = taskExecutionThreadShareMode;
     }
 
+    public void setCooperativeWorkerCount(int cooperativeWorkerCount) {
+        checkNotNegative(
+                cooperativeWorkerCount,
+                ServerConfigOptions.COOPERATIVE_WORKER_COUNT + " must be >= 0");
+        this.cooperativeWorkerCount = cooperativeWorkerCount;
+    }
+
+    public void setCooperativeSlowCallThreshold(int cooperativeSlowCallThreshold) {
+        checkPositive(
+                cooperativeSlowCallThreshold,
+                ServerConfigOptions.COOPERATIVE_SLOW_CALL_THRESHOLD + " must be > 0");
+        this.cooperativeSlowCallThreshold = cooperativeSlowCallThreshold;
+    }
+
+    public void setCooperativeMaxDedicatedWorkerCount(int cooperativeMaxDedicatedWorkerCount) {
+        checkNotNegative(
+                cooperativeMaxDedicatedWorkerCount,
+                ServerConfigOptions.COOPERATIVE_MAX_DEDICATED_WORKER_COUNT + " must be >= 0");
+        this.cooperativeMaxDedicatedWorkerCount = cooperativeMaxDedicatedWorkerCount;
+    }
+
     public void setHistoryJobExpireMinutes(int historyJobExpireMinutes) {
         checkPositive(
                 historyJobExpireMinutes,
@@ -121,6 +158,18 @@ public class EngineConfig {
         return this;
     }
 
+    public EngineConfig setShuffleMode(ShuffleMode shuffleMode) {
+        checkNotNull(shuffleMode);
+        this.shuffleMode = shuffleMode;
+        return this;
+    }
+
+    public EngineConfig setBytesMetricsMode(BytesMetricsMode bytesMetricsMode) {
+        checkNotNull(bytesMetricsMode);
+        this.bytesMetricsMode = bytesMetricsMode;
+        return this;
+    }
+
     public enum ClusterRole {
         MASTER_AND_WORKER,
         MASTER,
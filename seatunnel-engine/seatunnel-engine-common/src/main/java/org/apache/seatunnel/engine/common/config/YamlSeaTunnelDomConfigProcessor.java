@@ -17,6 +17,7 @@
 
 package org.apache.seatunnel.engine.common.config;
 
+import org.apache.seatunnel.api.common.metrics.BytesMetricsMode;
 import org.apache.seatunnel.engine.common.config.server.CheckpointConfig;
 import org.apache.seatunnel.engine.common.config.server.CheckpointStorageConfig;
 import org.apache.seatunnel.engine.common.config.server.ConnectorJarHAStorageConfig;
@@ -25,6 +26,7 @@ import org.apache.seatunnel.engine.common.config.server.ConnectorJarStorageMode;
 import org.apache.seatunnel.engine.common.config.server.HttpConfig;
 import org.apache.seatunnel.engine.common.config.server.QueueType;
 import org.apache.seatunnel.engine.common.config.server.ServerConfigOptions;
+import org.apache.seatunnel.engine.common.config.server.ShuffleMode;
 import org.apache.seatunnel.engine.common.config.server.SlotServiceConfig;
 import org.apache.seatunnel.engine.common.config.server.TelemetryConfig;
 import org.apache.seatunnel.engine.common.config.server.TelemetryMetricConfig;
@@ -115,6 +117,12 @@ public class YamlSeaTunnelDomConfigProcessor extends AbstractDomConfigProcessor
             } else if (ServerConfigOptions.QUEUE_TYPE.key().equals(name)) {
                 engineConfig.setQueueType(
                         QueueType.valueOf(getTextContent(node).toUpperCase(Locale.ROOT)));
+            } else if (ServerConfigOptions.SHUFFLE_MODE.key().equals(name)) {
+                engineConfig.setShuffleMode(
+                        ShuffleMode.valueOf(getTextContent(node).toUpperCase(Locale.ROOT)));
+            } else if (ServerConfigOptions.BYTES_METRICS_MODE.key().equals(name)) {
+                engineConfig.setBytesMetricsMode(
+                        BytesMetricsMode.valueOf(getTextContent(node).toUpperCase(Locale.ROOT)));
             } else if (ServerConfigOptions.PRINT_EXECUTION_INFO_INTERVAL.key().equals(name)) {
                 engineConfig.setPrintExecutionInfoInterval(
                         getIntegerValue(
@@ -138,6 +146,23 @@ public class YamlSeaTunnelDomConfigProcessor extends AbstractDomConfigProcessor
                                     + " must in [ALL, OFF, PART]");
                 }
                 engineConfig.setTaskExecutionThreadShareMode(ThreadShareMode.valueOf(mode));
+            } else if (ServerConfigOptions.COOPERATIVE_WORKER_COUNT.key().equals(name)) {
+                engineConfig.setCooperativeWorkerCount(
+                        getIntegerValue(
+                                ServerConfigOptions.COOPERATIVE_WORKER_COUNT.key(),
+                                getTextContent(node)));
+            } else if (ServerConfigOptions.COOPERATIVE_SLOW_CALL_THRESHOLD.key().equals(name)) {
+                engineConfig.setCooperativeSlowCallThreshold(
+                        getIntegerValue(
+                                ServerConfigOptions.COOPERATIVE_SLOW_CALL_THRESHOLD.key(),
+                                getTextContent(node)));
+            } else if (ServerConfigOptions.COOPERATIVE_MAX_DEDICATED_WORKER_COUNT
+                    .key()
+                    .equals(name)) {
+                engineConfig.setCooperativeMaxDedicatedWorkerCount(
+                        getIntegerValue(
+                                ServerConfigOptions.COOPERATIVE_MAX_DEDICATED_WORKER_COUNT.key(),
+                                getTextContent(node)));
             } else if (ServerConfigOptions.SLOT_SERVICE.key().equals(name)) {
                 engineConfig.setSlotServiceConfig(parseSlotServiceConfig(node));
             } else if (ServerConfigOptions.CHECKPOINT.key().equals(name)) {
@@ -197,6 +222,13 @@ public class YamlSeaTunnelDomConfigProcessor extends AbstractDomConfigProcessor
                         getIntegerValue(
                                 ServerConfigOptions.SCHEMA_CHANGE_CHECKPOINT_TIMEOUT.key(),
                                 getTextContent(node)));
+            } else if (ServerConfigOptions.CHECKPOINT_MAX_CONCURRENT_PERSISTS.key().equals(name)) {
+                checkpointConfig.setMaxConcurrentPersists(
+                        getIntegerValue(
+                                ServerConfigOptions.CHECKPOINT_MAX_CONCURRENT_PERSISTS.key(),
+                                getTextContent(node)));
+            } else if (ServerConfigOptions.CHECKPOINT_UNALIGNED.key().equals(name)) {
+                checkpointConfig.setUnaligned(getBooleanValue(getTextContent(node)));
             } else if (ServerConfigOptions.CHECKPOINT_STORAGE.key().equals(name)) {
                 checkpointConfig.setStorage(parseCheckpointStorageConfig(node));
             } else {
@@ -33,6 +33,11 @@ public class CheckpointConfig implements Serializable {
     private long schemaChangeCheckpointTimeout =
             ServerConfigOptions.SCHEMA_CHANGE_CHECKPOINT_TIMEOUT.defaultValue();
 
+    private int maxConcurrentPersists =
+            ServerConfigOptions.CHECKPOINT_MAX_CONCURRENT_PERSISTS.defaultValue();
+
+    private boolean unaligned = ServerConfigOptions.CHECKPOINT_UNALIGNED.defaultValue();
+
     private CheckpointStorageConfig storage = ServerConfigOptions.CHECKPOINT_STORAGE.defaultValue();
 
     private boolean checkpointEnable = true;
@@ -57,4 +62,11 @@ public class CheckpointConfig implements Serializable {
                 "The minimum checkpoint timeout is 10 ms.");
         this.schemaChangeCheckpointTimeout = checkpointTimeout;
     }
+
+    public void setMaxConcurrentPersists(int maxConcurrentPersists) {
+        checkArgument(
+                maxConcurrentPersists >= 1,
+                "The minimum number of concurrent checkpoint persists is 1.");
+        this.maxConcurrentPersists = maxConcurrentPersists;
+    }
 }
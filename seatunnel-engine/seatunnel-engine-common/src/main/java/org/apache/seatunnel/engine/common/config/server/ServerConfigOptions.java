@@ -19,6 +19,7 @@ package org.apache.seatunnel.engine.common.config.server;
 
 import org.apache.seatunnel.shade.com.fasterxml.jackson.core.type.TypeReference;
 
+import org.apache.seatunnel.api.common.metrics.BytesMetricsMode;
 import org.apache.seatunnel.api.configuration.Option;
 import org.apache.seatunnel.api.configuration.Options;
 
@@ -58,6 +59,34 @@ public class ServerConfigOptions {
                     .withDescription(
                             "The thread sharing mode of TaskExecutionServer, including ALL, OFF, PART. Default is OFF");
 
+    public static final Option<BytesMetricsMode> BYTES_METRICS_MODE =
+            Options.key("bytes-metrics-mode")
+                    .enumType(BytesMetricsMode.class)
+                    .defaultValue(BytesMetricsMode.EXACT)
+                    .withDescription(
+                            "How the byte size of the rows read by sources and written by sinks is accounted in the task metrics, EXACT calculates it for every row, SAMPLED for one row out of 16 and OFF does not update the bytes metrics.");
+
+    public static final Option<Integer> COOPERATIVE_WORKER_COUNT =
+            Options.key("cooperative-worker-count")
+                    .intType()
+                    .defaultValue(0)
+                    .withDescription(
+                            "The number of worker threads which run the thread shared tasks, 0 means one per available processor.");
+
+    public static final Option<Integer> COOPERATIVE_SLOW_CALL_THRESHOLD =
+            Options.key("cooperative-slow-call-threshold")
+                    .intType()
+                    .defaultValue(500)
+                    .withDescription(
+                            "The time (in milliseconds) after which a blocking call of a thread shared task gets the thread of its worker for good and a new worker takes over the other tasks.");
+
+    public static final Option<Integer> COOPERATIVE_MAX_DEDICATED_WORKER_COUNT =
+            Options.key("cooperative-max-dedicated-worker-count")
+                    .intType()
+                    .defaultValue(0)
+                    .withDescription(
+                            "The maximum number of worker threads handed over to thread shared tasks after a slow call at the same time, 0 means as many as there are cooperative workers.");
+
     public static final Option<Boolean> DYNAMIC_SLOT =
             Options.key("dynamic-slot")
                     .booleanType()
@@ -91,6 +120,20 @@ public class ServerConfigOptions {
                     .withDescription(
                             "The timeout (in milliseconds) for a schema change checkpoint.");
 
+    public static final Option<Integer> CHECKPOINT_MAX_CONCURRENT_PERSISTS =
+            Options.key("max-concurrent-persists")
+                    .intType()
+                    .defaultValue(2)
+                    .withDescription(
+                            "The maximum number of completed checkpoints of a pipeline which are written to the checkpoint storage at the same time.");
+
+    public static final Option<Boolean> CHECKPOINT_UNALIGNED =
+            Options.key("unaligned")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether checkpoint barriers overtake the records buffered in shuffle channels, the overtaken records are stored with the checkpoint.");
+
     public static final Option<String> CHECKPOINT_STORAGE_TYPE =
             Options.key("type")
                     .stringType()
@@ -109,6 +152,13 @@ public class ServerConfigOptions {
                     .defaultValue(QueueType.BLOCKINGQUEUE)
                     .withDescription("The internal data cache queue type.");
 
+    public static final Option<ShuffleMode> SHUFFLE_MODE =
+            Options.key("shuffle-mode")
+                    .type(new TypeReference<ShuffleMode>() {})
+                    .defaultValue(ShuffleMode.QUEUE)
+                    .withDescription(
+                            "How shuffle records are exchanged between tasks, QUEUE uses distributed Hazelcast queues, DIRECT sends record batches to the member of the reading task.");
+
     public static final Option<CheckpointStorageConfig> CHECKPOINT_STORAGE =
             Options.key("storage")
                     .type(new TypeReference<CheckpointStorageConfig>() {})
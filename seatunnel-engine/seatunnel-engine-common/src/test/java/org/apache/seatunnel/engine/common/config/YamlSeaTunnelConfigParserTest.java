@@ -17,6 +17,9 @@
 
 package org.apache.seatunnel.engine.common.config;
 
+import org.apache.seatunnel.api.common.metrics.BytesMetricsMode;
+import org.apache.seatunnel.engine.common.config.server.ShuffleMode;
+
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -43,6 +46,16 @@ public class YamlSeaTunnelConfigParserTest {
 
         Assertions.assertEquals(2, config.getEngineConfig().getPrintExecutionInfoInterval());
 
+        Assertions.assertEquals(ShuffleMode.DIRECT, config.getEngineConfig().getShuffleMode());
+
+        Assertions.assertEquals(
+                BytesMetricsMode.SAMPLED, config.getEngineConfig().getBytesMetricsMode());
+
+        Assertions.assertEquals(3, config.getEngineConfig().getCooperativeWorkerCount());
+        Assertions.assertEquals(1000, config.getEngineConfig().getCooperativeSlowCallThreshold());
+        Assertions.assertEquals(
+                2, config.getEngineConfig().getCooperativeMaxDedicatedWorkerCount());
+
         Assertions.assertFalse(config.getEngineConfig().getSlotServiceConfig().isDynamicSlot());
 
         Assertions.assertEquals(5, config.getEngineConfig().getSlotServiceConfig().getSlotNum());
@@ -53,6 +66,11 @@ public class YamlSeaTunnelConfigParserTest {
         Assertions.assertEquals(
                 7000, config.getEngineConfig().getCheckpointConfig().getCheckpointTimeout());
 
+        Assertions.assertEquals(
+                4, config.getEngineConfig().getCheckpointConfig().getMaxConcurrentPersists());
+
+        Assertions.assertTrue(config.getEngineConfig().getCheckpointConfig().isUnaligned());
+
         Assertions.assertEquals(
                 "hdfs", config.getEngineConfig().getCheckpointConfig().getStorage().getStorage());
 
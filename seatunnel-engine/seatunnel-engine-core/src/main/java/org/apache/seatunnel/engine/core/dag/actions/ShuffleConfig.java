@@ -17,6 +17,8 @@
 
 package org.apache.seatunnel.engine.core.dag.actions;
 
+import org.apache.seatunnel.engine.common.config.server.ShuffleMode;
+
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
@@ -35,6 +37,10 @@ public class ShuffleConfig implements Config {
 
     @Builder.Default private int batchSize = DEFAULT_BATCH_SIZE;
     @Builder.Default private long batchFlushInterval = DEFAULT_BATCH_FLUSH_INTERVAL;
+    @Builder.Default private ShuffleMode shuffleMode = ShuffleMode.QUEUE;
+    /** Whether checkpoint barriers overtake the records buffered in the shuffle channels. */
+    @Builder.Default private boolean unalignedCheckpoint = false;
+
     private ShuffleStrategy shuffleStrategy;
 
     @Tolerate
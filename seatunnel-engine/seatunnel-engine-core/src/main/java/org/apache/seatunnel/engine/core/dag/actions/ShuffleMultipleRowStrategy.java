@@ -22,8 +22,6 @@ import org.apache.seatunnel.api.table.event.SchemaChangeEvent;
 import org.apache.seatunnel.api.table.type.Record;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 
-import com.hazelcast.collection.IQueue;
-import com.hazelcast.core.HazelcastInstance;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
@@ -31,12 +29,10 @@ import lombok.experimental.SuperBuilder;
 import lombok.experimental.Tolerate;
 import lombok.extern.slf4j.Slf4j;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 @Slf4j
 @SuperBuilder(toBuilder = true)
@@ -51,25 +47,20 @@ public class ShuffleMultipleRowStrategy extends ShuffleStrategy {
     public ShuffleMultipleRowStrategy() {}
 
     @Override
-    public Map<String, IQueue<Record<?>>> createShuffles(
-            HazelcastInstance hazelcast, int pipelineId, int inputIndex) {
-        Map<String, IQueue<Record<?>>> shuffleMap = new HashMap<>();
+    public List<String> createShuffleNames(int pipelineId, int inputIndex) {
+        List<String> queueNames = new ArrayList<>();
         for (CatalogTable entry : catalogTables) {
             String tableId = entry.getTableId().toTablePath().toString();
-            String queueName = generateQueueName(pipelineId, inputIndex, tableId);
-            IQueue<Record<?>> queue = getIQueue(hazelcast, queueName);
-            // clear old data when job restore
-            queue.clear();
-            shuffleMap.put(queueName, queue);
+            queueNames.add(generateQueueName(pipelineId, inputIndex, tableId));
         }
 
         log.info(
                 "pipeline[{}] / reader[{}] assigned shuffle queue list: {}",
                 pipelineId,
                 inputIndex,
-                shuffleMap.keySet());
+                queueNames);
 
-        return shuffleMap;
+        return queueNames;
     }
 
     @Override
@@ -86,22 +77,20 @@ public class ShuffleMultipleRowStrategy extends ShuffleStrategy {
     }
 
     @Override
-    public IQueue<Record<?>>[] getShuffles(
-            HazelcastInstance hazelcast, int pipelineId, int targetIndex) {
-        IQueue<Record<?>>[] queues = new IQueue[getInputPartitions()];
+    public String[] getShuffleNames(int pipelineId, int targetIndex) {
+        String[] queueNames = new String[getInputPartitions()];
         for (int inputIndex = 0; inputIndex < getInputPartitions(); inputIndex++) {
             Objects.requireNonNull(targetTableId);
-            String queueName = generateQueueName(pipelineId, inputIndex, targetTableId);
-            queues[inputIndex] = getIQueue(hazelcast, queueName);
+            queueNames[inputIndex] = generateQueueName(pipelineId, inputIndex, targetTableId);
         }
 
         log.info(
                 "pipeline[{}] / writer[{}] assigned shuffle queue list: {}",
                 pipelineId,
                 targetIndex,
-                Stream.of(queues).map(e -> e.getName()).collect(Collectors.toList()));
+                Arrays.asList(queueNames));
 
-        return queues;
+        return queueNames;
     }
 
     private String generateQueueName(int pipelineId, int inputIndex, String tableId) {
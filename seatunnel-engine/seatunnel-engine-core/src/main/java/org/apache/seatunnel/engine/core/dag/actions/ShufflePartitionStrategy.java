@@ -19,8 +19,6 @@ package org.apache.seatunnel.engine.core.dag.actions;
 
 import org.apache.seatunnel.api.table.type.Record;
 
-import com.hazelcast.collection.IQueue;
-import com.hazelcast.core.HazelcastInstance;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
@@ -28,12 +26,12 @@ import lombok.experimental.SuperBuilder;
 import lombok.experimental.Tolerate;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
-import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ThreadLocalRandom;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import static org.apache.seatunnel.shade.com.google.common.base.Preconditions.checkArgument;
 
@@ -50,25 +48,20 @@ public class ShufflePartitionStrategy extends ShuffleStrategy {
     public ShufflePartitionStrategy() {}
 
     @Override
-    public Map<String, IQueue<Record<?>>> createShuffles(
-            HazelcastInstance hazelcast, int pipelineId, int inputIndex) {
+    public List<String> createShuffleNames(int pipelineId, int inputIndex) {
         checkArgument(inputIndex >= 0 && inputIndex < getInputPartitions());
-        Map<String, IQueue<Record<?>>> shuffleMap = new LinkedHashMap<>();
+        List<String> queueNames = new ArrayList<>();
         for (int targetIndex = 0; targetIndex < targetPartitions; targetIndex++) {
-            String queueName = generateQueueName(pipelineId, inputIndex, targetIndex);
-            IQueue<Record<?>> queue = getIQueue(hazelcast, queueName);
-            // clear old data when job restore
-            queue.clear();
-            shuffleMap.put(queueName, queue);
+            queueNames.add(generateQueueName(pipelineId, inputIndex, targetIndex));
         }
 
         log.info(
                 "pipeline[{}] / reader[{}] assigned shuffle queue list: {}",
                 pipelineId,
                 inputIndex,
-                shuffleMap.keySet());
+                queueNames);
 
-        return shuffleMap;
+        return queueNames;
     }
 
     @Override
@@ -90,22 +83,20 @@ public class ShufflePartitionStrategy extends ShuffleStrategy {
     }
 
     @Override
-    public IQueue<Record<?>>[] getShuffles(
-            HazelcastInstance hazelcast, int pipelineId, int targetIndex) {
+    public String[] getShuffleNames(int pipelineId, int targetIndex) {
         checkArgument(targetIndex >= 0 && targetIndex < targetPartitions);
-        IQueue<Record<?>>[] shuffles = new IQueue[getInputPartitions()];
+        String[] queueNames = new String[getInputPartitions()];
         for (int inputIndex = 0; inputIndex < getInputPartitions(); inputIndex++) {
-            String queueName = generateQueueName(pipelineId, inputIndex, targetIndex);
-            shuffles[inputIndex] = getIQueue(hazelcast, queueName);
+            queueNames[inputIndex] = generateQueueName(pipelineId, inputIndex, targetIndex);
         }
 
         log.info(
                 "pipeline[{}] / writer[{}] assigned shuffle queue list: {}",
                 pipelineId,
                 targetIndex,
-                Stream.of(shuffles).map(e -> e.getName()).collect(Collectors.toList()));
+                Arrays.asList(queueNames));
 
-        return shuffles;
+        return queueNames;
     }
 
     private String generateQueueName(int pipelineId, int inputIndex, int targetIndex) {
@@ -30,6 +30,8 @@ import lombok.experimental.SuperBuilder;
 import lombok.experimental.Tolerate;
 
 import java.io.Serializable;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 @SuperBuilder(toBuilder = true)
@@ -51,13 +53,41 @@ public abstract class ShuffleStrategy implements Serializable {
     @Tolerate
     public ShuffleStrategy() {}
 
-    public abstract Map<String, IQueue<Record<?>>> createShuffles(
-            HazelcastInstance hazelcast, int pipelineId, int inputIndex);
+    /** The names of the shuffles the writer with the given input index sends records to. */
+    public abstract List<String> createShuffleNames(int pipelineId, int inputIndex);
+
+    /** The names of the shuffles the reader with the given target index consumes. */
+    public abstract String[] getShuffleNames(int pipelineId, int targetIndex);
 
     public abstract String createShuffleKey(Record<?> record, int pipelineId, int inputIndex);
 
-    public abstract IQueue<Record<?>>[] getShuffles(
-            HazelcastInstance hazelcast, int pipelineId, int targetIndex);
+    /** Whether the shuffle name was created by a strategy for the given pipeline of the job. */
+    public static boolean isShuffleOfPipeline(String shuffleName, long jobId, int pipelineId) {
+        // the names look like <strategy>-Queue_<jobId>_<pipelineId>_...
+        return shuffleName.contains("-Queue_" + jobId + "_" + pipelineId + "_");
+    }
+
+    public Map<String, IQueue<Record<?>>> createShuffles(
+            HazelcastInstance hazelcast, int pipelineId, int inputIndex) {
+        Map<String, IQueue<Record<?>>> shuffleMap = new LinkedHashMap<>();
+        for (String queueName : createShuffleNames(pipelineId, inputIndex)) {
+            IQueue<Record<?>> queue = getIQueue(hazelcast, queueName);
+            // clear old data when job restore
+            queue.clear();
+            shuffleMap.put(queueName, queue);
+        }
+        return shuffleMap;
+    }
+
+    public IQueue<Record<?>>[] getShuffles(
+            HazelcastInstance hazelcast, int pipelineId, int targetIndex) {
+        String[] queueNames = getShuffleNames(pipelineId, targetIndex);
+        IQueue<Record<?>>[] queues = new IQueue[queueNames.length];
+        for (int i = 0; i < queueNames.length; i++) {
+            queues[i] = getIQueue(hazelcast, queueNames[i]);
+        }
+        return queues;
+    }
 
     protected IQueue<Record<?>> getIQueue(HazelcastInstance hazelcast, String queueName) {
         QueueConfig targetQueueConfig = hazelcast.getConfig().getQueueConfig(queueName);
@@ -26,6 +26,8 @@ import lombok.NonNull;
 
 import java.io.Serializable;
 import java.net.URL;
+import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 
 public class SourceAction<T, SplitT extends SourceSplit, StateT extends Serializable>
@@ -33,6 +35,7 @@ public class SourceAction<T, SplitT extends SourceSplit, StateT extends Serializ
 
     private static final long serialVersionUID = -4104531889750766731L;
     private final SeaTunnelSource<T, SplitT, StateT> source;
+    private List<String> prunedColumns = Collections.emptyList();
 
     public SourceAction(
             long id,
@@ -47,4 +50,13 @@ public class SourceAction<T, SplitT extends SourceSplit, StateT extends Serializ
     public SeaTunnelSource<T, SplitT, StateT> getSource() {
         return source;
     }
+
+    /** The columns of the source table which are not read, because no downstream uses them. */
+    public List<String> getPrunedColumns() {
+        return prunedColumns;
+    }
+
+    public void setPrunedColumns(@NonNull List<String> prunedColumns) {
+        this.prunedColumns = prunedColumns;
+    }
 }
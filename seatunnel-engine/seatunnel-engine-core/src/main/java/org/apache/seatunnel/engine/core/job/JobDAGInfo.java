@@ -66,6 +66,11 @@ public class JobDAGInfo implements Serializable {
                 tablePaths.add(tablePath.toString());
             }
             vertexInfoJsonObj.add("tablePaths", tablePaths);
+            JsonArray prunedColumns = new JsonArray();
+            if (vertexInfo.getPrunedColumns() != null) {
+                vertexInfo.getPrunedColumns().forEach(prunedColumns::add);
+            }
+            vertexInfoJsonObj.add("prunedColumns", prunedColumns);
             vertexInfoMapString.add(vertexInfoJsonObj);
         }
         jsonObject.add("vertexInfoMap", vertexInfoMapString);
@@ -39,4 +39,6 @@ public class VertexInfo implements Serializable {
     private String connectorType;
 
     private List<TablePath> tablePaths;
+
+    private List<String> prunedColumns;
 }
@@ -30,6 +30,9 @@ import org.apache.seatunnel.api.sink.SupportMultiTableSink;
 import org.apache.seatunnel.api.sink.SupportSaveMode;
 import org.apache.seatunnel.api.source.SeaTunnelSource;
 import org.apache.seatunnel.api.source.SourceSplit;
+import org.apache.seatunnel.api.source.SupportColumnProjection;
+import org.apache.seatunnel.api.source.SupportFilterPushDown;
+import org.apache.seatunnel.api.source.filter.Predicate;
 import org.apache.seatunnel.api.table.catalog.CatalogTable;
 import org.apache.seatunnel.api.table.factory.Factory;
 import org.apache.seatunnel.api.table.factory.FactoryUtil;
@@ -37,6 +40,8 @@ import org.apache.seatunnel.api.table.factory.TableSinkFactory;
 import org.apache.seatunnel.api.table.factory.TableSourceFactory;
 import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
 import org.apache.seatunnel.api.transform.SeaTunnelTransform;
+import org.apache.seatunnel.api.transform.SupportPredicatePushDown;
+import org.apache.seatunnel.api.transform.SupportProjectionPushDown;
 import org.apache.seatunnel.common.Constants;
 import org.apache.seatunnel.common.config.Common;
 import org.apache.seatunnel.common.config.TypesafeConfigUtils;
@@ -76,10 +81,12 @@ import java.net.URL;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
@@ -220,6 +227,8 @@ public class MultipleTableJobConfigParser {
                 sinkActions.addAll(
                         parseSink(configIndex, sinkConfig, classLoader, tableWithActionMap));
             }
+            pushDownProjections(sinkActions);
+            pushDownFilters(sinkActions);
             Set<URL> factoryUrls = getUsedFactoryUrls(sinkActions);
             return new ImmutablePair<>(sinkActions, factoryUrls);
         } finally {
@@ -277,6 +286,121 @@ public class MultipleTableJobConfigParser {
         return new SeaTunnelSinkPluginDiscovery().getPluginJarPaths(factoryIds);
     }
 
+    /**
+     * Prunes the columns of a source which are not read by its transform, if the transform is the
+     * only downstream of the source. The transform is rebound to the projected table and still
+     * produces the same table.
+     */
+    private void pushDownProjections(List<Action> sinkActions) {
+        Map<Action, Set<Action>> downstreams = new IdentityHashMap<>();
+        fillDownstreams(sinkActions, downstreams);
+        for (Action action : downstreams.keySet()) {
+            if (!(action instanceof TransformAction) || action.getUpstream().size() != 1) {
+                continue;
+            }
+            Action upstream = action.getUpstream().get(0);
+            SeaTunnelTransform<?> transform = ((TransformAction) action).getTransform();
+            if (!(upstream instanceof SourceAction)
+                    || downstreams.get(upstream).size() != 1
+                    || !(transform instanceof SupportProjectionPushDown)
+                    || !(((SourceAction<?, ?, ?>) upstream).getSource()
+                            instanceof SupportColumnProjection)) {
+                continue;
+            }
+            SourceAction<?, ?, ?> sourceAction = (SourceAction<?, ?, ?>) upstream;
+            Optional<List<String>> requiredFields =
+                    ((SupportProjectionPushDown) transform).getRequiredInputFields();
+            List<CatalogTable> producedTables;
+            try {
+                producedTables = sourceAction.getSource().getProducedCatalogTables();
+            } catch (UnsupportedOperationException e) {
+                continue;
+            }
+            if (!requiredFields.isPresent()
+                    || requiredFields.get().isEmpty()
+                    || producedTables.size() != 1) {
+                continue;
+            }
+            List<String> fieldNames =
+                    Arrays.asList(producedTables.get(0).getSeaTunnelRowType().getFieldNames());
+            if (requiredFields.get().containsAll(fieldNames)
+                    || !((SupportColumnProjection) sourceAction.getSource())
+                            .applyProjection(requiredFields.get())) {
+                continue;
+            }
+            CatalogTable projectedTable =
+                    sourceAction.getSource().getProducedCatalogTables().get(0);
+            List<String> projectedFieldNames =
+                    Arrays.asList(projectedTable.getSeaTunnelRowType().getFieldNames());
+            ((SupportProjectionPushDown) transform).applyInputProjection(projectedTable);
+            List<String> prunedColumns =
+                    fieldNames.stream()
+                            .filter(fieldName -> !projectedFieldNames.contains(fieldName))
+                            .collect(Collectors.toList());
+            sourceAction.setPrunedColumns(prunedColumns);
+            log.info(
+                    "Push down projection {} of transform {} to source {}, pruned columns {}",
+                    projectedFieldNames,
+                    action.getName(),
+                    upstream.getName(),
+                    prunedColumns);
+        }
+    }
+
+    /**
+     * Pushes the predicates of a transform down to its source, if the transform is the only
+     * downstream of the source. The transform still filters the rows, so the source may skip only a
+     * part of the rows which don't match.
+     */
+    private void pushDownFilters(List<Action> sinkActions) {
+        Map<Action, Set<Action>> downstreams = new IdentityHashMap<>();
+        fillDownstreams(sinkActions, downstreams);
+        for (Action action : downstreams.keySet()) {
+            if (!(action instanceof TransformAction) || action.getUpstream().size() != 1) {
+                continue;
+            }
+            Action upstream = action.getUpstream().get(0);
+            SeaTunnelTransform<?> transform = ((TransformAction) action).getTransform();
+            if (!(upstream instanceof SourceAction)
+                    || downstreams.get(upstream).size() != 1
+                    || !(transform instanceof SupportPredicatePushDown)
+                    || !(((SourceAction<?, ?, ?>) upstream).getSource()
+                            instanceof SupportFilterPushDown)) {
+                continue;
+            }
+            List<Predicate> predicates =
+                    ((SupportPredicatePushDown) transform).getPushDownPredicates();
+            if (predicates.isEmpty()) {
+                continue;
+            }
+            List<Predicate> acceptedPredicates =
+                    ((SupportFilterPushDown) ((SourceAction<?, ?, ?>) upstream).getSource())
+                            .applyFilters(predicates);
+            log.info(
+                    "Push down filters {} of transform {} to source {}",
+                    acceptedPredicates,
+                    action.getName(),
+                    upstream.getName());
+        }
+    }
+
+    private void fillDownstreams(List<Action> actions, Map<Action, Set<Action>> downstreams) {
+        for (Action action : actions) {
+            downstreams.computeIfAbsent(
+                    action, key -> Collections.newSetFromMap(new IdentityHashMap<>()));
+            for (Action upstream : action.getUpstream()) {
+                boolean visited = downstreams.containsKey(upstream);
+                downstreams
+                        .computeIfAbsent(
+                                upstream, key -> Collections.newSetFromMap(new IdentityHashMap<>()))
+                        .add(action);
+                if (!visited) {
+                    fillDownstreams(Collections.singletonList(upstream), downstreams);
+                }
+            }
+        }
+    }
+
     private void fillUsedFactoryUrls(List<Action> actions, Set<URL> result) {
         actions.forEach(
                 action -> {
@@ -39,6 +39,8 @@ import org.apache.seatunnel.engine.core.job.JobInfo;
 import org.apache.seatunnel.engine.core.job.JobResult;
 import org.apache.seatunnel.engine.core.job.JobStatus;
 import org.apache.seatunnel.engine.core.job.PipelineStatus;
+import org.apache.seatunnel.engine.server.checkpoint.CheckpointManager;
+import org.apache.seatunnel.engine.server.checkpoint.CheckpointPersistMetrics;
 import org.apache.seatunnel.engine.server.dag.physical.PhysicalVertex;
 import org.apache.seatunnel.engine.server.dag.physical.PipelineLocation;
 import org.apache.seatunnel.engine.server.dag.physical.SubPlan;
@@ -57,6 +59,7 @@ import org.apache.seatunnel.engine.server.resourcemanager.ResourceManagerFactory
 import org.apache.seatunnel.engine.server.resourcemanager.resource.SlotProfile;
 import org.apache.seatunnel.engine.server.service.jar.ConnectorPackageService;
 import org.apache.seatunnel.engine.server.task.operation.GetMetricsOperation;
+import org.apache.seatunnel.engine.server.task.shuffle.DirectShuffleInput;
 import org.apache.seatunnel.engine.server.telemetry.metrics.entity.JobCounter;
 import org.apache.seatunnel.engine.server.telemetry.metrics.entity.ThreadPoolStatus;
 import org.apache.seatunnel.engine.server.utils.NodeEngineUtil;
@@ -774,6 +777,8 @@ public class CoordinatorService {
     public void memberRemoved(MembershipServiceEvent event) {
         if (isCoordinatorActive()) {
             this.getResourceManager().memberRemoved(event);
+            DirectShuffleInput.removeEndpoints(
+                    nodeEngine.getHazelcastInstance(), event.getMember().getAddress());
         }
         this.failedTaskOnMemberRemoved(event);
     }
@@ -877,6 +882,23 @@ public class CoordinatorService {
                 finishedJobCount.longValue());
     }
 
+    /**
+     * The checkpoint persist metrics of the running jobs. <br>
+     * key: the job id; <br>
+     * value: the metrics of the pipelines, keyed by the pipeline id;
+     */
+    public Map<Long, Map<Integer, CheckpointPersistMetrics>> getCheckpointPersistMetrics() {
+        Map<Long, Map<Integer, CheckpointPersistMetrics>> metrics = new HashMap<>();
+        runningJobMasterMap.forEach(
+                (jobId, jobMaster) -> {
+                    CheckpointManager checkpointManager = jobMaster.getCheckpointManager();
+                    if (checkpointManager != null) {
+                        metrics.put(jobId, checkpointManager.getPersistMetrics());
+                    }
+                });
+        return metrics;
+    }
+
     public ThreadPoolStatus getThreadPoolStatusMetrics() {
         ThreadPoolExecutor threadPoolExecutor = (ThreadPoolExecutor) executorService;
 
@@ -17,6 +17,7 @@
 
 package org.apache.seatunnel.engine.server;
 
+import org.apache.seatunnel.api.common.metrics.BytesMetricsMode;
 import org.apache.seatunnel.api.common.metrics.MetricTags;
 import org.apache.seatunnel.api.event.Event;
 import org.apache.seatunnel.api.tracing.MDCExecutorService;
@@ -25,6 +26,7 @@ import org.apache.seatunnel.common.utils.ExceptionUtils;
 import org.apache.seatunnel.common.utils.StringFormatUtils;
 import org.apache.seatunnel.engine.common.Constant;
 import org.apache.seatunnel.engine.common.config.ConfigProvider;
+import org.apache.seatunnel.engine.common.config.EngineConfig;
 import org.apache.seatunnel.engine.common.config.SeaTunnelConfig;
 import org.apache.seatunnel.engine.common.config.server.ThreadShareMode;
 import org.apache.seatunnel.engine.common.exception.JobNotFoundException;
@@ -32,10 +34,10 @@ import org.apache.seatunnel.engine.common.utils.PassiveCompletableFuture;
 import org.apache.seatunnel.engine.core.classloader.ClassLoaderService;
 import org.apache.seatunnel.engine.core.job.ConnectorJarIdentifier;
 import org.apache.seatunnel.engine.server.exception.TaskGroupContextNotFoundException;
+import org.apache.seatunnel.engine.server.execution.CooperativeTaskScheduler;
 import org.apache.seatunnel.engine.server.execution.ExecutionState;
 import org.apache.seatunnel.engine.server.execution.ProgressState;
 import org.apache.seatunnel.engine.server.execution.Task;
-import org.apache.seatunnel.engine.server.execution.TaskCallTimer;
 import org.apache.seatunnel.engine.server.execution.TaskDeployState;
 import org.apache.seatunnel.engine.server.execution.TaskExecutionContext;
 import org.apache.seatunnel.engine.server.execution.TaskExecutionState;
@@ -50,6 +52,7 @@ import org.apache.seatunnel.engine.server.service.jar.ServerConnectorPackageClie
 import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
 import org.apache.seatunnel.engine.server.task.TaskGroupImmutableInformation;
 import org.apache.seatunnel.engine.server.task.operation.NotifyTaskStatusOperation;
+import org.apache.seatunnel.engine.server.task.shuffle.ShuffleChannelRegistry;
 
 import org.apache.commons.collections4.CollectionUtils;
 
@@ -60,14 +63,16 @@ import com.hazelcast.internal.metrics.DynamicMetricsProvider;
 import com.hazelcast.internal.metrics.MetricDescriptor;
 import com.hazelcast.internal.metrics.MetricsCollectionContext;
 import com.hazelcast.internal.metrics.MetricsRegistry;
+import com.hazelcast.internal.metrics.ProbeLevel;
+import com.hazelcast.internal.metrics.ProbeUnit;
 import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.jet.impl.execution.init.CustomClassLoadedObject;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.map.IMap;
 import com.hazelcast.spi.impl.NodeEngineImpl;
 import com.hazelcast.spi.impl.operationservice.impl.InvocationFuture;
+import lombok.Getter;
 import lombok.NonNull;
-import lombok.SneakyThrows;
 
 import java.io.IOException;
 import java.net.URL;
@@ -79,7 +84,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
@@ -89,8 +93,6 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
-import java.util.concurrent.LinkedBlockingDeque;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
@@ -98,11 +100,9 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.stream.Stream;
 
 import static com.hazelcast.jet.impl.util.ExceptionUtil.withTryCatch;
 import static com.hazelcast.jet.impl.util.Util.uncheckRun;
-import static java.lang.Thread.currentThread;
 import static java.util.Collections.emptyList;
 import static java.util.concurrent.Executors.newCachedThreadPool;
 import static java.util.stream.Collectors.partitioningBy;
@@ -121,12 +121,9 @@ public class TaskExecutionService implements DynamicMetricsProvider {
     private final ClassLoaderService classLoaderService;
     private final ILogger logger;
     private volatile boolean isRunning = true;
-    private final LinkedBlockingDeque<TaskTracker> threadShareTaskQueue =
-            new LinkedBlockingDeque<>();
     private final ExecutorService executorService =
             newCachedThreadPool(new BlockingTaskThreadFactory());
-    private final RunBusWorkSupplier runBusWorkSupplier =
-            new RunBusWorkSupplier(executorService, threadShareTaskQueue);
+    private final CooperativeTaskScheduler cooperativeTaskScheduler;
     // key: TaskID
     private final ConcurrentMap<TaskGroupLocation, TaskGroupContext> executionContexts =
             new ConcurrentHashMap<>();
@@ -146,6 +143,9 @@ public class TaskExecutionService implements DynamicMetricsProvider {
 
     private final EventService eventService;
 
+    @Getter
+    private final ShuffleChannelRegistry shuffleChannelRegistry = new ShuffleChannelRegistry();
+
     public TaskExecutionService(
             ClassLoaderService classLoaderService,
             NodeEngineImpl nodeEngine,
@@ -156,6 +156,21 @@ public class TaskExecutionService implements DynamicMetricsProvider {
         this.classLoaderService = classLoaderService;
         this.logger = nodeEngine.getLoggingService().getLogger(TaskExecutionService.class);
 
+        EngineConfig engineConfig = seaTunnelConfig.getEngineConfig();
+        int cooperativeWorkerCount =
+                engineConfig.getCooperativeWorkerCount() > 0
+                        ? engineConfig.getCooperativeWorkerCount()
+                        : Runtime.getRuntime().availableProcessors();
+        this.cooperativeTaskScheduler =
+                new CooperativeTaskScheduler(
+                        String.format("hz.%s.seaTunnel.cooperative.thread", hzInstanceName),
+                        cooperativeWorkerCount,
+                        engineConfig.getCooperativeSlowCallThreshold(),
+                        engineConfig.getCooperativeMaxDedicatedWorkerCount() > 0
+                                ? engineConfig.getCooperativeMaxDedicatedWorkerCount()
+                                : cooperativeWorkerCount,
+                        this::callCooperativeTask);
+
         MetricsRegistry registry = nodeEngine.getMetricsRegistry();
         MetricDescriptor descriptor =
                 registry.newMetricDescriptor()
@@ -176,11 +191,12 @@ public class TaskExecutionService implements DynamicMetricsProvider {
     }
 
     public void start() {
-        runBusWorkSupplier.runNewBusWork(false);
+        cooperativeTaskScheduler.start();
     }
 
     public void shutdown() {
         isRunning = false;
+        cooperativeTaskScheduler.shutdown();
         executorService.shutdownNow();
         scheduledExecutorService.shutdown();
     }
@@ -210,29 +226,71 @@ public class TaskExecutionService implements DynamicMetricsProvider {
 
     private void submitThreadShareTask(
             TaskGroupExecutionTracker taskGroupExecutionTracker, List<Task> tasks) {
-        Stream<TaskTracker> taskTrackerStream =
-                tasks.stream()
-                        .map(
-                                t -> {
-                                    if (!taskGroupExecutionTracker
-                                            .executionCompletedExceptionally()) {
-                                        try {
-                                            TaskTracker taskTracker =
-                                                    new TaskTracker(t, taskGroupExecutionTracker);
-                                            taskTracker.task.init();
-                                            return taskTracker;
-                                        } catch (Exception e) {
-                                            taskGroupExecutionTracker.exception(e);
-                                            taskGroupExecutionTracker.taskDone(t);
-                                        }
-                                    }
-                                    return null;
-                                });
+        List<TaskTracker> taskTrackers = new ArrayList<>(tasks.size());
+        for (Task t : tasks) {
+            if (taskGroupExecutionTracker.executionCompletedExceptionally()) {
+                break;
+            }
+            try {
+                TaskTracker taskTracker = new TaskTracker(t, taskGroupExecutionTracker);
+                taskTracker.task.init();
+                taskTrackers.add(taskTracker);
+            } catch (Exception e) {
+                taskGroupExecutionTracker.exception(e);
+                taskGroupExecutionTracker.taskDone(t);
+            }
+        }
         if (!taskGroupExecutionTracker.executionCompletedExceptionally()) {
-            taskTrackerStream.forEach(threadShareTaskQueue::add);
+            taskGroupExecutionTracker.cooperativeTaskTrackers = taskTrackers;
+            taskTrackers.forEach(cooperativeTaskScheduler::submit);
         }
     }
 
+    /**
+     * Runs one call of a cooperative task on a worker of the {@link CooperativeTaskScheduler}.
+     *
+     * @return null if the task is finished by a failure and must not be called again
+     */
+    private ProgressState callCooperativeTask(TaskTracker taskTracker) {
+        TaskGroupExecutionTracker taskGroupExecutionTracker = taskTracker.taskGroupExecutionTracker;
+        Task task = taskTracker.task;
+        if (taskGroupExecutionTracker.executionCompletedExceptionally()) {
+            taskGroupExecutionTracker.taskDone(task);
+            return null;
+        }
+        Thread currentThread = Thread.currentThread();
+        ClassLoader oldClassLoader = currentThread.getContextClassLoader();
+        ProgressState call;
+        try {
+            currentThread.setContextClassLoader(
+                    executionContexts
+                            .get(taskGroupExecutionTracker.taskGroup.getTaskGroupLocation())
+                            .getClassLoaders()
+                            .get(task.getTaskID()));
+            call = task.call();
+        } catch (InterruptedException e) {
+            if (taskGroupExecutionTracker.executionException.get() == null
+                    && !taskGroupExecutionTracker.isCancel.get()) {
+                taskGroupExecutionTracker.exception(e);
+            }
+            taskGroupExecutionTracker.taskDone(task);
+            logger.warning("Exception in " + task, e);
+            return null;
+        } catch (Throwable e) {
+            // task Failure and complete
+            taskGroupExecutionTracker.exception(e);
+            taskGroupExecutionTracker.taskDone(task);
+            logger.warning("Exception in " + task, e);
+            return null;
+        } finally {
+            currentThread.setContextClassLoader(oldClassLoader);
+        }
+        if (call.isDone()) {
+            taskGroupExecutionTracker.taskDone(task);
+        }
+        return call;
+    }
+
     private void submitBlockingTask(
             TaskGroupExecutionTracker taskGroupExecutionTracker, List<Task> tasks) {
         MDCExecutorService mdcExecutorService = MDCTracer.tracing(executorService);
@@ -561,6 +619,18 @@ public class TaskExecutionService implements DynamicMetricsProvider {
                                                                     TASK_ID,
                                                                     String.valueOf(taskID));
                                             task.provideDynamicMetrics(copy3, context);
+                                            TaskExecutionContext taskExecutionContext =
+                                                    task.getExecutionContext();
+                                            if (taskExecutionContext != null) {
+                                                context.collect(
+                                                        copy3,
+                                                        "TaskCpuTime",
+                                                        ProbeLevel.INFO,
+                                                        ProbeUnit.MS,
+                                                        TimeUnit.NANOSECONDS.toMillis(
+                                                                taskExecutionContext
+                                                                        .getCpuTimeNanos()));
+                                            }
                                         });
                     });
         } catch (Throwable t) {
@@ -642,7 +712,7 @@ public class TaskExecutionService implements DynamicMetricsProvider {
         if (logger.isFineEnabled()) {
             ThreadPoolExecutor threadPoolExecutor = (ThreadPoolExecutor) executorService;
             int activeCount = threadPoolExecutor.getActiveCount();
-            int taskQueueSize = threadShareTaskQueue.size();
+            int taskQueueSize = cooperativeTaskScheduler.getQueuedTaskCount();
             long completedTaskCount = threadPoolExecutor.getCompletedTaskCount();
             long taskCount = threadPoolExecutor.getTaskCount();
             logger.fine(
@@ -652,6 +722,10 @@ public class TaskExecutionService implements DynamicMetricsProvider {
                             activeCount,
                             "threadShareTaskQueueSize",
                             taskQueueSize,
+                            "cooperativeWorkerCount",
+                            cooperativeTaskScheduler.getWorkerCount(),
+                            "dedicatedCooperativeWorkerCount",
+                            cooperativeTaskScheduler.getDedicatedWorkerCount(),
                             "completedTaskCount",
                             completedTaskCount,
                             "taskCount",
@@ -690,7 +764,7 @@ public class TaskExecutionService implements DynamicMetricsProvider {
                 startedLatch.countDown();
                 t.init();
                 do {
-                    result = t.call();
+                    result = tracker.call(tt -> t.call());
                 } while (!result.isDone()
                         && isRunning
                         && !taskGroupExecutionTracker.executionCompletedExceptionally());
@@ -730,141 +804,6 @@ public class TaskExecutionService implements DynamicMetricsProvider {
         }
     }
 
-    /**
-     * CooperativeTaskWorker is used to poll the task call method, When a task times out, a new
-     * BusWork will be created to take over the execution of the task
-     */
-    public final class CooperativeTaskWorker implements Runnable {
-
-        AtomicBoolean keep = new AtomicBoolean(true);
-        public AtomicReference<TaskTracker> exclusiveTaskTracker = new AtomicReference<>();
-        final TaskCallTimer timer;
-        private Thread myThread;
-        public LinkedBlockingDeque<TaskTracker> taskQueue;
-        private Future<?> thisTaskFuture;
-        private BlockingQueue<Future<?>> futureBlockingQueue;
-
-        public CooperativeTaskWorker(
-                LinkedBlockingDeque<TaskTracker> taskQueue,
-                RunBusWorkSupplier runBusWorkSupplier,
-                BlockingQueue<Future<?>> futureBlockingQueue) {
-            logger.info(String.format("Created new BusWork : %s", this.hashCode()));
-            this.taskQueue = taskQueue;
-            this.timer = new TaskCallTimer(50, keep, runBusWorkSupplier, this);
-            this.futureBlockingQueue = futureBlockingQueue;
-        }
-
-        @SneakyThrows
-        @Override
-        public void run() {
-            thisTaskFuture = futureBlockingQueue.take();
-            futureBlockingQueue = null;
-            myThread = currentThread();
-            while (keep.get() && isRunning) {
-                TaskTracker taskTracker =
-                        null != exclusiveTaskTracker.get()
-                                ? exclusiveTaskTracker.get()
-                                : taskQueue.takeFirst();
-                TaskGroupExecutionTracker taskGroupExecutionTracker =
-                        taskTracker.taskGroupExecutionTracker;
-                if (taskGroupExecutionTracker.executionCompletedExceptionally()) {
-                    taskGroupExecutionTracker.taskDone(taskTracker.task);
-                    if (null != exclusiveTaskTracker.get()) {
-                        // If it's exclusive need to end the work
-                        break;
-                    } else {
-                        // No action required and don't put back
-                        continue;
-                    }
-                }
-                taskGroupExecutionTracker.currRunningTaskFuture.put(
-                        taskTracker.task.getTaskID(), thisTaskFuture);
-                // start timer, if it's exclusive, don't need to start
-                if (null == exclusiveTaskTracker.get()) {
-                    timer.timerStart(taskTracker);
-                }
-                ProgressState call = null;
-                try {
-                    // run task
-                    myThread.setContextClassLoader(
-                            executionContexts
-                                    .get(taskGroupExecutionTracker.taskGroup.getTaskGroupLocation())
-                                    .getClassLoaders()
-                                    .get(taskTracker.task.getTaskID()));
-                    call = taskTracker.task.call();
-                    synchronized (timer) {
-                        timer.timerStop();
-                    }
-                } catch (InterruptedException e) {
-                    if (taskGroupExecutionTracker.executionException.get() == null
-                            && !taskGroupExecutionTracker.isCancel.get()) {
-                        taskGroupExecutionTracker.exception(e);
-                    }
-                    taskGroupExecutionTracker.taskDone(taskTracker.task);
-                    logger.warning("Exception in " + taskTracker.task, e);
-                    if (null != exclusiveTaskTracker.get()) {
-                        break;
-                    }
-                } catch (Throwable e) {
-                    // task Failure and complete
-                    taskGroupExecutionTracker.exception(e);
-                    taskGroupExecutionTracker.taskDone(taskTracker.task);
-                    // If it's exclusive need to end the work
-                    logger.warning("Exception in " + taskTracker.task, e);
-                    if (null != exclusiveTaskTracker.get()) {
-                        break;
-                    }
-                } finally {
-                    // stop timer
-                    timer.timerStop();
-                    taskGroupExecutionTracker.currRunningTaskFuture.remove(
-                            taskTracker.task.getTaskID());
-                }
-                // task call finished
-                if (null != call) {
-                    if (call.isDone()) {
-                        // If it's exclusive, you need to end the work
-                        taskGroupExecutionTracker.taskDone(taskTracker.task);
-                        if (null != exclusiveTaskTracker.get()) {
-                            break;
-                        }
-                    } else {
-                        // Task is not completed. Put task to the end of the queue
-                        // If the current work has an exclusive tracker, it will not be put back
-                        if (null == exclusiveTaskTracker.get()) {
-                            taskQueue.offer(taskTracker);
-                        }
-                    }
-                }
-            }
-        }
-    }
-
-    /** Used to create a new BusWork and run */
-    public final class RunBusWorkSupplier {
-
-        ExecutorService executorService;
-        LinkedBlockingDeque<TaskTracker> taskQueue;
-
-        public RunBusWorkSupplier(
-                ExecutorService executorService, LinkedBlockingDeque<TaskTracker> taskqueue) {
-            this.executorService = executorService;
-            this.taskQueue = taskqueue;
-        }
-
-        public boolean runNewBusWork(boolean checkTaskQueue) {
-            if (!checkTaskQueue || !taskQueue.isEmpty()) {
-                BlockingQueue<Future<?>> futureBlockingQueue = new LinkedBlockingQueue<>();
-                CooperativeTaskWorker cooperativeTaskWorker =
-                        new CooperativeTaskWorker(taskQueue, this, futureBlockingQueue);
-                Future<?> submit = executorService.submit(cooperativeTaskWorker);
-                futureBlockingQueue.add(submit);
-                return true;
-            }
-            return false;
-        }
-    }
-
     /**
      * Internal utility class to track the overall state of tasklet execution. There's one instance
      * of this class per job.
@@ -880,7 +819,7 @@ public class TaskExecutionService implements DynamicMetricsProvider {
 
         private final AtomicBoolean isCancel = new AtomicBoolean(false);
 
-        private final Map<Long, Future<?>> currRunningTaskFuture = new ConcurrentHashMap<>();
+        volatile List<TaskTracker> cooperativeTaskTrackers = emptyList();
 
         TaskGroupExecutionTracker(
                 @NonNull CompletableFuture<Void> cancellationFuture,
@@ -911,7 +850,7 @@ public class TaskExecutionService implements DynamicMetricsProvider {
         private void cancelAllTask(TaskGroupLocation taskGroupLocation) {
             try {
                 blockingFutures.forEach(f -> f.cancel(true));
-                currRunningTaskFuture.values().forEach(f -> f.cancel(true));
+                cooperativeTaskTrackers.forEach(TaskTracker::cancel);
             } catch (CancellationException ignore) {
                 // ignore
             }
@@ -1000,6 +939,10 @@ public class TaskExecutionService implements DynamicMetricsProvider {
         return serverConnectorPackageClient;
     }
 
+    public BytesMetricsMode getBytesMetricsMode() {
+        return seaTunnelConfig.getEngineConfig().getBytesMetricsMode();
+    }
+
     public static class NamedTaskWrapper implements Runnable {
         private final Runnable task;
         private final String threadName;
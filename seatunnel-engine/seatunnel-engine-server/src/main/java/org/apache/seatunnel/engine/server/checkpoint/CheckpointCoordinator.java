@@ -75,7 +75,6 @@ import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
-import static org.apache.seatunnel.engine.common.utils.ExceptionUtil.sneakyThrow;
 import static org.apache.seatunnel.engine.core.checkpoint.CheckpointType.CHECKPOINT_TYPE;
 import static org.apache.seatunnel.engine.core.checkpoint.CheckpointType.SAVEPOINT_TYPE;
 import static org.apache.seatunnel.engine.server.checkpoint.CheckpointPlan.COORDINATOR_INDEX;
@@ -95,12 +94,12 @@ public class CheckpointCoordinator {
 
     private final CheckpointManager checkpointManager;
 
-    private final CheckpointStorage checkpointStorage;
-
     @Getter private final CheckpointIDCounter checkpointIdCounter;
 
     private final transient Serializer serializer;
 
+    private final CheckpointPersister checkpointPersister;
+
     /**
      * All tasks in this pipeline. <br>
      * key: the task id; <br>
@@ -167,7 +166,6 @@ public class CheckpointCoordinator {
 
         this.executorService = executorService;
         this.checkpointManager = manager;
-        this.checkpointStorage = checkpointStorage;
         this.jobId = jobId;
         this.pipelineId = plan.getPipelineId();
         this.checkpointStateImapKey = "checkpoint_state_" + jobId + "_" + pipelineId;
@@ -190,6 +188,12 @@ public class CheckpointCoordinator {
         ((ScheduledThreadPoolExecutor) this.scheduler).setRemoveOnCancelPolicy(true);
         this.scheduler = MDCTracer.tracing(scheduler);
         this.serializer = new ProtoStuffSerializer();
+        this.checkpointPersister =
+                new CheckpointPersister(
+                        checkpointStorage,
+                        serializer,
+                        executorService,
+                        checkpointConfig.getMaxConcurrentPersists());
         this.pipelineTasks = getPipelineTasks(plan.getPipelineSubtasks());
         this.pipelineTaskStatus = new ConcurrentHashMap<>();
         this.checkpointIdCounter = checkpointIdCounter;
@@ -524,6 +528,13 @@ public class CheckpointCoordinator {
                 return;
             }
 
+            if (checkpointType.isGeneralCheckpoint() && !checkpointPersister.hasCapacity()) {
+                scheduleTriggerPendingCheckpoint(checkpointType, 500L);
+                LOG.debug(
+                        "skip trigger checkpoint because too many completed checkpoints are not persisted yet.");
+                return;
+            }
+
             CompletableFuture<PendingCheckpoint> pendingCheckpoint =
                     createPendingCheckpoint(currentTimestamp, checkpointType);
             startTriggerPendingCheckpoint(pendingCheckpoint);
@@ -837,7 +848,7 @@ public class CheckpointCoordinator {
         }
     }
 
-    public synchronized void completePendingCheckpoint(CompletedCheckpoint completedCheckpoint) {
+    public void completePendingCheckpoint(CompletedCheckpoint completedCheckpoint) {
         LOG.debug(
                 "pending checkpoint({}/{}@{}) completed! cost: {}, trigger: {}, completed: {}",
                 completedCheckpoint.getCheckpointId(),
@@ -848,38 +859,49 @@ public class CheckpointCoordinator {
                 completedCheckpoint.getCheckpointTimestamp(),
                 completedCheckpoint.getCompletedTimestamp());
         final long checkpointId = completedCheckpoint.getCheckpointId();
+        pendingCheckpoints.remove(checkpointId).abortCheckpointTimeoutFutureWhenIsCompleted();
+        checkpointPersister
+                .persist(completedCheckpoint, this::checkpointPersisted)
+                .whenComplete(
+                        (v, error) -> {
+                            if (error != null) {
+                                handleCoordinatorError(
+                                        "persist checkpoint failed",
+                                        error,
+                                        CheckpointCloseReason.CHECKPOINT_INSIDE_ERROR);
+                            }
+                        });
+        // a general checkpoint does not need to be durable before the next one is triggered, the
+        // tasks are only notified about it after it is persisted
+        if (completedCheckpoint.getCheckpointType().isGeneralCheckpoint()) {
+            pendingCounter.decrementAndGet();
+        }
+    }
+
+    /**
+     * Called in checkpoint order, after the checkpoint and all checkpoints before it are stored.
+     */
+    private void checkpointPersisted(CompletedCheckpoint completedCheckpoint) {
+        if (checkpointCoordinatorFuture.isDone()) {
+            LOG.info(
+                    "skip notify checkpoint({}/{}@{}) completed, because the checkpoint coordinator is already ended.",
+                    completedCheckpoint.getCheckpointId(),
+                    completedCheckpoint.getPipelineId(),
+                    completedCheckpoint.getJobId());
+            return;
+        }
         completedCheckpointIds.addLast(String.valueOf(completedCheckpoint.getCheckpointId()));
-        try {
-            if (completedCheckpoint.getCheckpointType().notCompletedCheckpoint()) {
-                byte[] states = serializer.serialize(completedCheckpoint);
-                checkpointStorage.storeCheckPoint(
-                        PipelineState.builder()
-                                .checkpointId(checkpointId)
-                                .jobId(String.valueOf(jobId))
-                                .pipelineId(pipelineId)
-                                .states(states)
-                                .build());
+        int maxRetainedCheckpoints = coordinatorConfig.getStorage().getMaxRetainedCheckpoints();
+        if (completedCheckpointIds.size() % maxRetainedCheckpoints == 0
+                && completedCheckpointIds.size() / maxRetainedCheckpoints > 1) {
+            List<String> needDeleteCheckpointId = new ArrayList<>();
+            for (int i = 0; i < maxRetainedCheckpoints; i++) {
+                needDeleteCheckpointId.add(completedCheckpointIds.removeFirst());
             }
-            if (completedCheckpointIds.size()
-                                    % coordinatorConfig.getStorage().getMaxRetainedCheckpoints()
-                            == 0
-                    && completedCheckpointIds.size()
-                                    / coordinatorConfig.getStorage().getMaxRetainedCheckpoints()
-                            > 1) {
-                List<String> needDeleteCheckpointId = new ArrayList<>();
-                for (int i = 0;
-                        i < coordinatorConfig.getStorage().getMaxRetainedCheckpoints();
-                        i++) {
-                    needDeleteCheckpointId.add(completedCheckpointIds.removeFirst());
-                }
-                checkpointStorage.deleteCheckpoint(
-                        String.valueOf(completedCheckpoint.getJobId()),
-                        String.valueOf(completedCheckpoint.getPipelineId()),
-                        needDeleteCheckpointId);
-            }
-        } catch (Throwable e) {
-            LOG.error("store checkpoint states failed.", e);
-            sneakyThrow(e);
+            checkpointPersister.delete(
+                    String.valueOf(completedCheckpoint.getJobId()),
+                    String.valueOf(completedCheckpoint.getPipelineId()),
+                    needDeleteCheckpointId);
         }
         LOG.info(
                 "pending checkpoint({}/{}@{}) notify finished!",
@@ -888,8 +910,9 @@ public class CheckpointCoordinator {
                 completedCheckpoint.getJobId());
         latestCompletedCheckpoint = completedCheckpoint;
         notifyCompleted(completedCheckpoint);
-        pendingCheckpoints.remove(checkpointId).abortCheckpointTimeoutFutureWhenIsCompleted();
-        pendingCounter.decrementAndGet();
+        if (!completedCheckpoint.getCheckpointType().isGeneralCheckpoint()) {
+            pendingCounter.decrementAndGet();
+        }
         if (isCompleted()) {
             cleanPendingCheckpoint(CheckpointCloseReason.CHECKPOINT_COORDINATOR_COMPLETED);
             if (latestCompletedCheckpoint.getCheckpointType().isSavepoint()) {
@@ -904,6 +927,10 @@ public class CheckpointCoordinator {
         }
     }
 
+    public CheckpointPersistMetrics getPersistMetrics() {
+        return checkpointPersister.getMetrics();
+    }
+
     public InvocationFuture<?>[] notifyCheckpointCompleted(CompletedCheckpoint checkpoint) {
         if (checkpoint.getCheckpointType().isSchemaChangeAfterCheckpoint()) {
             completeSchemaChangeAfterCheckpoint(checkpoint);
@@ -307,6 +307,15 @@ public class CheckpointManager {
         coordinator.scheduleSchemaChangeAfterCheckpoint();
     }
 
+    /** The checkpoint persist metrics of all pipelines, key: the pipeline id. */
+    public Map<Integer, CheckpointPersistMetrics> getPersistMetrics() {
+        return coordinatorMap.values().stream()
+                .collect(
+                        Collectors.toMap(
+                                CheckpointCoordinator::getPipelineId,
+                                CheckpointCoordinator::getPersistMetrics));
+    }
+
     public boolean isSavePointEnd() {
         return coordinatorMap.values().stream()
                 .map(CheckpointCoordinator::isEndOfSavePoint)
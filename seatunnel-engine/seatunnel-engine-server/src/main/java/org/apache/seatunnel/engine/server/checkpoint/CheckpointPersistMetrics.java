@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.checkpoint;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/** Latencies of persisting the completed checkpoints of a pipeline, per phase. */
+public class CheckpointPersistMetrics {
+
+    public enum Phase {
+        SERIALIZE,
+        UPLOAD,
+        DELETE
+    }
+
+    private final Map<Phase, LongAdder> counts = new EnumMap<>(Phase.class);
+    private final Map<Phase, LongAdder> totalNanos = new EnumMap<>(Phase.class);
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public CheckpointPersistMetrics() {
+        for (Phase phase : Phase.values()) {
+            counts.put(phase, new LongAdder());
+            totalNanos.put(phase, new LongAdder());
+        }
+    }
+
+    void record(Phase phase, long nanos) {
+        counts.get(phase).increment();
+        totalNanos.get(phase).add(nanos);
+    }
+
+    void incrementInFlight() {
+        inFlight.incrementAndGet();
+    }
+
+    void decrementInFlight() {
+        inFlight.decrementAndGet();
+    }
+
+    /** The number of times the phase ran. */
+    public long getCount(Phase phase) {
+        return counts.get(phase).sum();
+    }
+
+    /** The total time spent in the phase, in nanoseconds. */
+    public long getTotalNanos(Phase phase) {
+        return totalNanos.get(phase).sum();
+    }
+
+    /** The number of completed checkpoints which are not durable yet. */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.checkpoint;
+
+import org.apache.seatunnel.engine.checkpoint.storage.PipelineState;
+import org.apache.seatunnel.engine.checkpoint.storage.api.CheckpointStorage;
+import org.apache.seatunnel.engine.serializer.api.Serializer;
+import org.apache.seatunnel.engine.server.checkpoint.CheckpointPersistMetrics.Phase;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+import static org.apache.seatunnel.engine.common.utils.ExceptionUtil.sneakyThrow;
+
+/**
+ * Writes the completed checkpoints of a pipeline to the {@link CheckpointStorage} without holding
+ * any lock of the {@link CheckpointCoordinator}.
+ *
+ * <p>Several checkpoints may be serialized and uploaded at the same time, but they are reported as
+ * persisted in the order they were completed. Outdated checkpoints may be deleted while uploads of
+ * any pipeline of the job are running, the storage keeps the state chunks of an upload until its
+ * checkpoint file is written.
+ */
+@Slf4j
+public class CheckpointPersister {
+
+    private final CheckpointStorage checkpointStorage;
+    private final Serializer serializer;
+    private final Executor executor;
+    private final int maxConcurrentPersists;
+    private final CheckpointPersistMetrics metrics = new CheckpointPersistMetrics();
+
+    private CompletableFuture<Void> lastPersisted = CompletableFuture.completedFuture(null);
+
+    public CheckpointPersister(
+            CheckpointStorage checkpointStorage,
+            Serializer serializer,
+            Executor executor,
+            int maxConcurrentPersists) {
+        this.checkpointStorage = checkpointStorage;
+        this.serializer = serializer;
+        this.executor = executor;
+        this.maxConcurrentPersists = maxConcurrentPersists;
+    }
+
+    /**
+     * Stores the checkpoint asynchronously and calls {@code onPersisted} once it and all
+     * checkpoints submitted before it are durable. If one of them fails, the returned future and
+     * the futures of all following checkpoints complete exceptionally.
+     */
+    public synchronized CompletableFuture<Void> persist(
+            CompletedCheckpoint checkpoint, Consumer<CompletedCheckpoint> onPersisted) {
+        metrics.incrementInFlight();
+        CompletableFuture<Void> stored =
+                checkpoint.getCheckpointType().notCompletedCheckpoint()
+                        ? CompletableFuture.runAsync(() -> store(checkpoint), executor)
+                        : CompletableFuture.completedFuture(null);
+        // the checkpoint leaves the in-flight count before its future completes
+        CompletableFuture<Void> persisted =
+                CompletableFuture.allOf(lastPersisted, stored)
+                        .thenRunAsync(() -> onPersisted.accept(checkpoint), executor)
+                        .whenComplete((v, error) -> metrics.decrementInFlight());
+        lastPersisted = persisted;
+        return persisted;
+    }
+
+    /** Deletes outdated checkpoints asynchronously, failures are only logged. */
+    public CompletableFuture<Void> delete(
+            String jobId, String pipelineId, List<String> checkpointIds) {
+        return CompletableFuture.runAsync(
+                () -> {
+                    long start = System.nanoTime();
+                    try {
+                        checkpointStorage.deleteCheckpoint(jobId, pipelineId, checkpointIds);
+                    } catch (Throwable e) {
+                        log.warn(
+                                "delete checkpoints {} of pipeline({}@{}) failed.",
+                                checkpointIds,
+                                pipelineId,
+                                jobId,
+                                e);
+                    } finally {
+                        metrics.record(Phase.DELETE, System.nanoTime() - start);
+                    }
+                },
+                executor);
+    }
+
+    /** Whether another checkpoint can be completed without exceeding the concurrent persists. */
+    public boolean hasCapacity() {
+        return metrics.getInFlight() < maxConcurrentPersists;
+    }
+
+    public CheckpointPersistMetrics getMetrics() {
+        return metrics;
+    }
+
+    private void store(CompletedCheckpoint checkpoint) {
+        try {
+            long start = System.nanoTime();
+            byte[] states = serializer.serialize(checkpoint);
+            long serialized = System.nanoTime();
+            metrics.record(Phase.SERIALIZE, serialized - start);
+            checkpointStorage.storeCheckPoint(
+                    PipelineState.builder()
+                            .checkpointId(checkpoint.getCheckpointId())
+                            .jobId(String.valueOf(checkpoint.getJobId()))
+                            .pipelineId(checkpoint.getPipelineId())
+                            .states(states)
+                            .build());
+            metrics.record(Phase.UPLOAD, System.nanoTime() - serialized);
+        } catch (Throwable e) {
+            log.error("store checkpoint states failed.", e);
+            sneakyThrow(e);
+        }
+    }
+}
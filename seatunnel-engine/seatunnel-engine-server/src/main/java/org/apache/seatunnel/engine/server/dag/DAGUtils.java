@@ -82,7 +82,8 @@ public class DAGUtils {
                                                             ActionUtils.getActionType(
                                                                     vertex.getAction()),
                                                             vertex.getAction().getName(),
-                                                            getTablePaths(vertex.getAction())));
+                                                            getTablePaths(vertex.getAction()),
+                                                            getPrunedColumns(vertex.getAction())));
                                         });
                     });
             return new JobDAGInfo(
@@ -103,7 +104,8 @@ public class DAGUtils {
                                                     v.getVertexId(),
                                                     ActionUtils.getActionType(v.getAction()),
                                                     v.getAction().getName(),
-                                                    getTablePaths(v.getAction())))
+                                                    getTablePaths(v.getAction()),
+                                                    getPrunedColumns(v.getAction())))
                             .collect(
                                     Collectors.toMap(VertexInfo::getVertexId, Function.identity()));
 
@@ -134,6 +136,13 @@ public class DAGUtils {
         }
     }
 
+    private static List<String> getPrunedColumns(Action action) {
+        if (action instanceof SourceAction) {
+            return new ArrayList<>(((SourceAction<?, ?, ?>) action).getPrunedColumns());
+        }
+        return new ArrayList<>();
+    }
+
     private static List<TablePath> getTablePaths(Action action) {
 
         List<TablePath> tablePaths = new ArrayList<>();
@@ -17,6 +17,7 @@
 
 package org.apache.seatunnel.engine.server.dag.execution;
 
+import org.apache.seatunnel.api.env.EnvCommonOptions;
 import org.apache.seatunnel.api.table.catalog.CatalogTable;
 import org.apache.seatunnel.api.transform.SeaTunnelTransform;
 import org.apache.seatunnel.common.utils.SeaTunnelException;
@@ -260,7 +261,11 @@ public class ExecutionPlanGenerator {
                                                 * 3))
                         .build();
         ShuffleConfig shuffleConfig =
-                ShuffleConfig.builder().shuffleStrategy(shuffleStrategy).build();
+                ShuffleConfig.builder()
+                        .shuffleStrategy(shuffleStrategy)
+                        .shuffleMode(engineConfig.getShuffleMode())
+                        .unalignedCheckpoint(isUnalignedCheckpoint())
+                        .build();
 
         long shuffleVertexId = idGenerator.getNextId();
         String shuffleActionName = String.format("Shuffle [%s]", sourceAction.getName());
@@ -281,6 +286,18 @@ public class ExecutionPlanGenerator {
         return newExecutionEdges;
     }
 
+    private boolean isUnalignedCheckpoint() {
+        Object jobUnaligned =
+                jobImmutableInformation
+                        .getJobConfig()
+                        .getEnvOptions()
+                        .get(EnvCommonOptions.CHECKPOINT_UNALIGNED.key());
+        if (jobUnaligned != null) {
+            return Boolean.parseBoolean(jobUnaligned.toString());
+        }
+        return engineConfig.getCheckpointConfig().isUnaligned();
+    }
+
     private Set<ExecutionEdge> generateTransformChainEdges(Set<ExecutionEdge> executionEdges) {
         Map<Long, List<ExecutionVertex>> inputVerticesMap = new HashMap<>();
         Map<Long, List<ExecutionVertex>> targetVerticesMap = new HashMap<>();
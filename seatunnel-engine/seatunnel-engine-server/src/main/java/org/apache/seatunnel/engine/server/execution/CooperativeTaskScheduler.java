@@ -0,0 +1,433 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.execution;
+
+import org.apache.seatunnel.shade.com.google.common.annotations.VisibleForTesting;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Runs cooperative tasks on a fixed number of workers. Every worker owns a deque of runnable tasks
+ * and steals from the other workers when its own deque is empty.
+ *
+ * <p>A task whose call reports {@link ProgressState#NO_PROGRESS} is parked instead of being polled
+ * again. It is resumed by {@link TaskTracker#wakeUp()}, usually signalled by one of its inputs, or
+ * when its park time elapses, which doubles with every idle call up to {@link #MAX_PARK_NANOS}. A
+ * task waiting for an input which does not wake it up, e.g. a source reader polling an external
+ * system, therefore sees new data up to 100ms late once it has been idle for a while.
+ *
+ * <p>A call which takes longer than the slow call threshold blocks its worker, so the worker is
+ * handed over to that task for good and a new worker takes over its deque. At most {@code
+ * maxDedicatedWorkers} workers are handed over at the same time, beyond that a blocked worker keeps
+ * its deque and the other workers steal its tasks.
+ */
+@Slf4j
+public class CooperativeTaskScheduler {
+
+    static final long MIN_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long IDLE_WORKER_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private static final int NOT_CALLING = 0;
+    private static final int CALLING = 1;
+    private static final int DETACHED = 2;
+
+    private final String threadNamePrefix;
+    private final TaskTracker.TaskCaller caller;
+    private final long slowCallThresholdNanos;
+    private final int maxDedicatedWorkers;
+    private final long minParkNanos;
+    private final long maxParkNanos;
+    private final WorkerSlot[] slots;
+    private final AtomicInteger nextSlot = new AtomicInteger();
+    private final AtomicInteger threadSequence = new AtomicInteger();
+    private final AtomicInteger idleWorkers = new AtomicInteger();
+    private final AtomicInteger dedicatedWorkers = new AtomicInteger();
+    private ScheduledExecutorService timer;
+    private volatile boolean started;
+    private volatile boolean running = true;
+
+    public CooperativeTaskScheduler(
+            String threadNamePrefix,
+            int workerCount,
+            long slowCallThresholdMillis,
+            int maxDedicatedWorkers,
+            TaskTracker.TaskCaller caller) {
+        this(
+                threadNamePrefix,
+                workerCount,
+                slowCallThresholdMillis,
+                maxDedicatedWorkers,
+                MIN_PARK_NANOS,
+                MAX_PARK_NANOS,
+                caller);
+    }
+
+    @VisibleForTesting
+    CooperativeTaskScheduler(
+            String threadNamePrefix,
+            int workerCount,
+            long slowCallThresholdMillis,
+            int maxDedicatedWorkers,
+            long minParkNanos,
+            long maxParkNanos,
+            TaskTracker.TaskCaller caller) {
+        if (workerCount < 1) {
+            throw new IllegalArgumentException("workerCount must be > 0, but is " + workerCount);
+        }
+        if (maxDedicatedWorkers < 0) {
+            throw new IllegalArgumentException(
+                    "maxDedicatedWorkers must be >= 0, but is " + maxDedicatedWorkers);
+        }
+        this.threadNamePrefix = threadNamePrefix;
+        this.caller = caller;
+        this.slowCallThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowCallThresholdMillis);
+        this.maxDedicatedWorkers = maxDedicatedWorkers;
+        this.minParkNanos = minParkNanos;
+        this.maxParkNanos = maxParkNanos;
+        this.slots = new WorkerSlot[workerCount];
+        for (int i = 0; i < workerCount; i++) {
+            slots[i] = new WorkerSlot();
+        }
+    }
+
+    /** Schedules a task which has not been scheduled before. */
+    public void submit(TaskTracker tracker) {
+        start();
+        tracker.scheduler = this;
+        tracker.parkNanos = minParkNanos;
+        tracker.state.set(TaskTracker.QUEUED);
+        enqueue(tracker);
+    }
+
+    /** Called for a task which moved from parked to queued. */
+    void resume(TaskTracker tracker) {
+        Thread dedicatedThread = tracker.dedicatedThread;
+        if (dedicatedThread != null) {
+            LockSupport.unpark(dedicatedThread);
+        } else {
+            enqueue(tracker);
+        }
+    }
+
+    public int getWorkerCount() {
+        return slots.length;
+    }
+
+    /** The number of workers which were handed over to a single task after a slow call. */
+    public int getDedicatedWorkerCount() {
+        return dedicatedWorkers.get();
+    }
+
+    /** The number of tasks waiting in the worker deques. */
+    public int getQueuedTaskCount() {
+        int count = 0;
+        for (WorkerSlot slot : slots) {
+            count += slot.deque.size();
+        }
+        return count;
+    }
+
+    public void shutdown() {
+        running = false;
+        synchronized (this) {
+            if (timer != null) {
+                timer.shutdownNow();
+            }
+        }
+        for (WorkerSlot slot : slots) {
+            Worker worker = slot.worker;
+            if (worker != null) {
+                worker.interrupt();
+            }
+        }
+    }
+
+    /** Starts the workers, called on the first submit at the latest. */
+    public synchronized void start() {
+        if (started || !running) {
+            return;
+        }
+        timer =
+                Executors.newSingleThreadScheduledExecutor(
+                        r -> {
+                            Thread thread = new Thread(r, threadNamePrefix + "-timer");
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+        for (WorkerSlot slot : slots) {
+            startWorker(slot);
+        }
+        long checkInterval = Math.max(1, TimeUnit.NANOSECONDS.toMillis(slowCallThresholdNanos) / 2);
+        timer.scheduleWithFixedDelay(
+                this::detachSlowWorkers, checkInterval, checkInterval, TimeUnit.MILLISECONDS);
+        started = true;
+        log.info("Started {} cooperative task workers", slots.length);
+    }
+
+    private void startWorker(WorkerSlot slot) {
+        Worker worker = new Worker(slot, threadNamePrefix + "-" + threadSequence.getAndIncrement());
+        worker.setDaemon(true);
+        slot.worker = worker;
+        worker.start();
+    }
+
+    private void enqueue(TaskTracker tracker) {
+        Thread current = Thread.currentThread();
+        WorkerSlot target;
+        if (current instanceof Worker && ((Worker) current).scheduler() == this) {
+            // keep the task on the worker which wakes it up, it likely produced its input
+            target = ((Worker) current).slot;
+        } else {
+            target = slots[Math.floorMod(nextSlot.getAndIncrement(), slots.length)];
+        }
+        target.deque.offerLast(tracker);
+        if (idleWorkers.get() > 0) {
+            wakeUpIdleWorker(target);
+        }
+    }
+
+    private void wakeUpIdleWorker(WorkerSlot preferred) {
+        Worker worker = preferred.worker;
+        if (worker != null && worker.idle) {
+            LockSupport.unpark(worker);
+            return;
+        }
+        for (WorkerSlot slot : slots) {
+            worker = slot.worker;
+            if (worker != null && worker.idle) {
+                LockSupport.unpark(worker);
+                return;
+            }
+        }
+    }
+
+    private TaskTracker steal(WorkerSlot own) {
+        int start = ThreadLocalRandom.current().nextInt(slots.length);
+        for (int i = 0; i < slots.length; i++) {
+            WorkerSlot slot = slots[(start + i) % slots.length];
+            if (slot != own) {
+                TaskTracker tracker = slot.deque.pollLast();
+                if (tracker != null) {
+                    return tracker;
+                }
+            }
+        }
+        return null;
+    }
+
+    private boolean hasQueuedTasks() {
+        for (WorkerSlot slot : slots) {
+            if (!slot.deque.isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void detachSlowWorkers() {
+        if (!running) {
+            return;
+        }
+        long now = System.nanoTime();
+        for (WorkerSlot slot : slots) {
+            Worker worker = slot.worker;
+            TaskTracker tracker = worker.current;
+            long callStartNanos = worker.callStartNanos;
+            if (worker.callState.get() != CALLING
+                    || now - callStartNanos <= slowCallThresholdNanos) {
+                continue;
+            }
+            if (dedicatedWorkers.get() >= maxDedicatedWorkers) {
+                if (worker.reportedCallStartNanos != callStartNanos) {
+                    worker.reportedCallStartNanos = callStartNanos;
+                    log.warn(
+                            "Call of {} took more than {}ms, but {} workers are handed over already, "
+                                    + "the other workers take over the tasks of worker {}",
+                            tracker,
+                            TimeUnit.NANOSECONDS.toMillis(slowCallThresholdNanos),
+                            maxDedicatedWorkers,
+                            worker.getName());
+                }
+                continue;
+            }
+            if (worker.callState.compareAndSet(CALLING, DETACHED)) {
+                dedicatedWorkers.incrementAndGet();
+                log.info(
+                        "Call of {} took more than {}ms, hand over worker {} to it",
+                        tracker,
+                        TimeUnit.NANOSECONDS.toMillis(slowCallThresholdNanos),
+                        worker.getName());
+                startWorker(slot);
+            }
+        }
+    }
+
+    private ProgressState call(TaskTracker tracker) {
+        tracker.signaled = false;
+        tracker.state.set(TaskTracker.RUNNING);
+        try {
+            return tracker.call(caller);
+        } catch (Throwable e) {
+            log.error("Unexpected exception while calling " + tracker, e);
+            return null;
+        }
+    }
+
+    /** Decides what happens to a task after the given call on a shared worker. */
+    private void reschedule(WorkerSlot slot, TaskTracker tracker, ProgressState progress) {
+        if (progress == null || progress.isDone()) {
+            tracker.state.set(TaskTracker.DONE);
+        } else if (progress.isMadeProgress()) {
+            tracker.parkNanos = minParkNanos;
+            tracker.state.set(TaskTracker.QUEUED);
+            slot.deque.offerLast(tracker);
+        } else {
+            long parkNanos = nextParkNanos(tracker);
+            long sequence = park(tracker);
+            if (tracker.state.get() == TaskTracker.PARKED && running) {
+                timer.schedule(
+                        () -> {
+                            if (tracker.parkSequence == sequence
+                                    && tracker.state.compareAndSet(
+                                            TaskTracker.PARKED, TaskTracker.QUEUED)) {
+                                resume(tracker);
+                            }
+                        },
+                        parkNanos,
+                        TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    private long nextParkNanos(TaskTracker tracker) {
+        long parkNanos = tracker.parkNanos;
+        tracker.parkNanos = Math.min(parkNanos * 2, maxParkNanos);
+        return parkNanos;
+    }
+
+    /**
+     * Parks the task unless it was signalled during its last call, in which case it is resumed
+     * right away.
+     */
+    private long park(TaskTracker tracker) {
+        long sequence = tracker.parkSequence + 1;
+        tracker.parkSequence = sequence;
+        tracker.state.set(TaskTracker.PARKED);
+        if (tracker.signaled
+                && tracker.state.compareAndSet(TaskTracker.PARKED, TaskTracker.QUEUED)) {
+            resume(tracker);
+        }
+        return sequence;
+    }
+
+    /** Keeps calling a task on the thread of a detached worker until the task is done. */
+    private void runDedicated(TaskTracker tracker, ProgressState progress) {
+        tracker.dedicatedThread = Thread.currentThread();
+        try {
+            while (running && progress != null && !progress.isDone()) {
+                if (progress.isMadeProgress()) {
+                    tracker.parkNanos = minParkNanos;
+                } else {
+                    long deadline = System.nanoTime() + nextParkNanos(tracker);
+                    park(tracker);
+                    long remaining;
+                    while (tracker.state.get() == TaskTracker.PARKED
+                            && (remaining = deadline - System.nanoTime()) > 0
+                            && running) {
+                        LockSupport.parkNanos(this, remaining);
+                    }
+                }
+                progress = call(tracker);
+            }
+            tracker.state.set(TaskTracker.DONE);
+        } finally {
+            dedicatedWorkers.decrementAndGet();
+        }
+    }
+
+    private static final class WorkerSlot {
+        private final ConcurrentLinkedDeque<TaskTracker> deque = new ConcurrentLinkedDeque<>();
+        private volatile Worker worker;
+    }
+
+    private final class Worker extends Thread {
+        private final WorkerSlot slot;
+        private final AtomicInteger callState = new AtomicInteger(NOT_CALLING);
+        private volatile TaskTracker current;
+        private volatile long callStartNanos;
+        // the start of the slow call which could not be handed over, only used by the timer
+        private long reportedCallStartNanos;
+        private volatile boolean idle;
+
+        private Worker(WorkerSlot slot, String name) {
+            super(name);
+            this.slot = slot;
+        }
+
+        private CooperativeTaskScheduler scheduler() {
+            return CooperativeTaskScheduler.this;
+        }
+
+        @Override
+        public void run() {
+            while (running) {
+                TaskTracker tracker = slot.deque.pollFirst();
+                if (tracker == null) {
+                    tracker = steal(slot);
+                }
+                if (tracker == null) {
+                    idle();
+                    continue;
+                }
+                current = tracker;
+                callStartNanos = System.nanoTime();
+                callState.set(CALLING);
+                ProgressState progress = call(tracker);
+                current = null;
+                if (!callState.compareAndSet(CALLING, NOT_CALLING)) {
+                    // the slot is served by a new worker, this thread belongs to the task now
+                    runDedicated(tracker, progress);
+                    return;
+                }
+                reschedule(slot, tracker, progress);
+            }
+        }
+
+        private void idle() {
+            idle = true;
+            idleWorkers.incrementAndGet();
+            try {
+                if (!hasQueuedTasks()) {
+                    LockSupport.parkNanos(this, IDLE_WORKER_PARK_NANOS);
+                }
+            } finally {
+                idleWorkers.decrementAndGet();
+                idle = false;
+            }
+        }
+    }
+}
@@ -37,6 +37,7 @@ public class TaskExecutionContext {
     private final Task task;
     private final NodeEngineImpl nodeEngine;
     private final TaskExecutionService taskExecutionService;
+    private volatile TaskTracker taskTracker;
 
     public TaskExecutionContext(
             Task task, NodeEngineImpl nodeEngine, TaskExecutionService taskExecutionService) {
@@ -62,9 +63,14 @@ public class TaskExecutionContext {
                 nodeEngine.getHazelcastInstance().getMap(Constant.IMAP_RUNNING_JOB_METRICS);
         HashMap<TaskLocation, SeaTunnelMetricsContext> centralMap =
                 map.get(Constant.IMAP_RUNNING_JOB_METRICS_KEY);
-        return centralMap == null || centralMap.get(taskLocation) == null
-                ? new SeaTunnelMetricsContext()
-                : centralMap.get(taskLocation);
+        SeaTunnelMetricsContext metricsContext =
+                centralMap == null || centralMap.get(taskLocation) == null
+                        ? new SeaTunnelMetricsContext()
+                        : centralMap.get(taskLocation);
+        if (taskExecutionService != null) {
+            metricsContext.setBytesMetricsMode(taskExecutionService.getBytesMetricsMode());
+        }
+        return metricsContext;
     }
 
     public <T> T getTask() {
@@ -78,4 +84,28 @@ public class TaskExecutionContext {
     public HazelcastInstance getInstance() {
         return nodeEngine.getHazelcastInstance();
     }
+
+    void setTaskTracker(TaskTracker taskTracker) {
+        this.taskTracker = taskTracker;
+    }
+
+    /** Signals the task that there may be new input, see {@link TaskTracker#wakeUp()}. */
+    public void wakeUp() {
+        TaskTracker tracker = taskTracker;
+        if (tracker != null) {
+            tracker.wakeUp();
+        }
+    }
+
+    /** Whether the task runs on the shared cooperative workers and must not block when idle. */
+    public boolean isCooperative() {
+        TaskTracker tracker = taskTracker;
+        return tracker != null && tracker.isCooperative();
+    }
+
+    /** The CPU time the task spent in its calls so far, in nanoseconds. */
+    public long getCpuTimeNanos() {
+        TaskTracker tracker = taskTracker;
+        return tracker == null ? 0 : tracker.getCpuTimeNanos();
+    }
 }
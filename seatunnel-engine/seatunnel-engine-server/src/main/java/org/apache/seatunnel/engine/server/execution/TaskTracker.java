@@ -19,21 +19,135 @@ package org.apache.seatunnel.engine.server.execution;
 
 import org.apache.seatunnel.engine.server.TaskExecutionService;
 
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class TaskTracker {
-    public final AtomicInteger expiredTimes = new AtomicInteger(0);
+
+    static final int QUEUED = 0;
+    static final int RUNNING = 1;
+    static final int PARKED = 2;
+    static final int DONE = 3;
+
+    private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+    private static final boolean CPU_TIME_SUPPORTED =
+            THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported()
+                    && THREAD_MX_BEAN.isThreadCpuTimeEnabled();
+
     public final TaskExecutionService.TaskGroupExecutionTracker taskGroupExecutionTracker;
     public final Task task;
 
+    final AtomicInteger state = new AtomicInteger(QUEUED);
+    /** Set when the task is woken up while it is running, so it is not parked afterwards. */
+    volatile boolean signaled;
+    /** Incremented on every park, so stale park timeouts can be ignored. */
+    volatile long parkSequence;
+
+    long parkNanos;
+    volatile CooperativeTaskScheduler scheduler;
+    /** The thread this task got promoted to after a call took too long, null otherwise. */
+    volatile Thread dedicatedThread;
+
+    private Thread runner;
+    private final AtomicLong cpuTimeNanos = new AtomicLong();
+
     public TaskTracker(
             Task task, TaskExecutionService.TaskGroupExecutionTracker taskGroupExecutionTracker) {
         this.task = task;
         this.taskGroupExecutionTracker = taskGroupExecutionTracker;
+        TaskExecutionContext executionContext = task.getExecutionContext();
+        if (executionContext != null) {
+            executionContext.setTaskTracker(this);
+        }
+    }
+
+    /**
+     * Signals that there may be new input for the task. A parked cooperative task is scheduled
+     * again, a running one is not parked after its current call.
+     */
+    public void wakeUp() {
+        if (state.get() == PARKED) {
+            resume();
+            return;
+        }
+        if (!signaled) {
+            signaled = true;
+            // the task may have been parked before it saw the signal
+            if (state.get() == PARKED) {
+                resume();
+            }
+        }
+    }
+
+    /** Interrupts the current call of the task and wakes it up if it is parked. */
+    public void cancel() {
+        synchronized (this) {
+            if (runner != null) {
+                runner.interrupt();
+            }
+        }
+        wakeUp();
+    }
+
+    /** Whether the task runs on the shared cooperative workers. */
+    public boolean isCooperative() {
+        return scheduler != null;
+    }
+
+    /** The CPU time the task spent in {@link Task#call()}, in nanoseconds. */
+    public long getCpuTimeNanos() {
+        return cpuTimeNanos.get();
+    }
+
+    /** Calls the task on the current thread and accounts its CPU time. */
+    public ProgressState call(TaskCaller caller) throws Exception {
+        long cpuStart = currentThreadCpuTime();
+        synchronized (this) {
+            runner = Thread.currentThread();
+        }
+        try {
+            return caller.call(this);
+        } finally {
+            synchronized (this) {
+                runner = null;
+                if (isCooperative()) {
+                    // an interrupt aimed at this task must not hit the next task of the worker
+                    Thread.interrupted();
+                }
+            }
+            if (cpuStart >= 0) {
+                cpuTimeNanos.addAndGet(currentThreadCpuTime() - cpuStart);
+            }
+        }
+    }
+
+    private void resume() {
+        if (state.compareAndSet(PARKED, QUEUED)) {
+            CooperativeTaskScheduler taskScheduler = scheduler;
+            if (taskScheduler != null) {
+                taskScheduler.resume(this);
+            }
+        }
+    }
+
+    private static long currentThreadCpuTime() {
+        return CPU_TIME_SUPPORTED ? THREAD_MX_BEAN.getCurrentThreadCpuTime() : -1;
     }
 
     @Override
     public String toString() {
         return "Tracking " + task;
     }
+
+    /** Runs one call of a tracked task. */
+    @FunctionalInterface
+    public interface TaskCaller {
+
+        /**
+         * @return the progress of the call, or null if the task failed and must not be called again
+         */
+        ProgressState call(TaskTracker tracker) throws Exception;
+    }
 }
@@ -68,6 +68,7 @@ import org.apache.seatunnel.engine.server.resourcemanager.ResourceManager;
 import org.apache.seatunnel.engine.server.resourcemanager.resource.SlotProfile;
 import org.apache.seatunnel.engine.server.task.operation.CleanTaskGroupContextOperation;
 import org.apache.seatunnel.engine.server.task.operation.GetTaskGroupMetricsOperation;
+import org.apache.seatunnel.engine.server.task.shuffle.DirectShuffleInput;
 import org.apache.seatunnel.engine.server.utils.NodeEngineUtil;
 
 import com.hazelcast.cluster.Address;
@@ -302,6 +303,8 @@ public class JobMaster {
         CheckpointConfig jobCheckpointConfig = new CheckpointConfig();
         jobCheckpointConfig.setCheckpointTimeout(defaultCheckpointConfig.getCheckpointTimeout());
         jobCheckpointConfig.setCheckpointInterval(defaultCheckpointConfig.getCheckpointInterval());
+        jobCheckpointConfig.setMaxConcurrentPersists(
+                defaultCheckpointConfig.getMaxConcurrentPersists());
 
         CheckpointStorageConfig jobCheckpointStorageConfig = new CheckpointStorageConfig();
         jobCheckpointStorageConfig.setStorage(defaultCheckpointConfig.getStorage().getStorage());
@@ -487,6 +490,17 @@ public class JobMaster {
     }
 
     public void releasePipelineResource(SubPlan subPlan) {
+        try {
+            DirectShuffleInput.removeEndpoints(
+                    nodeEngine.getHazelcastInstance(),
+                    jobImmutableInformation.getJobId(),
+                    subPlan.getPipelineId());
+        } catch (Exception e) {
+            LOGGER.warning(
+                    String.format(
+                            "remove the shuffle endpoints of pipeline %s failed, with exception: %s ",
+                            subPlan.getPipelineFullName(), ExceptionUtils.getMessage(e)));
+        }
         try {
             Map<TaskGroupLocation, SlotProfile> taskGroupLocationSlotProfileMap =
                     ownedSlotProfilesIMap.get(subPlan.getPipelineLocation());
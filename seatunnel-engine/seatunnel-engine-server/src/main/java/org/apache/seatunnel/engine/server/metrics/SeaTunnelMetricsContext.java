@@ -18,6 +18,7 @@
 package org.apache.seatunnel.engine.server.metrics;
 
 import org.apache.seatunnel.api.common.metrics.AbstractMetricsContext;
+import org.apache.seatunnel.api.common.metrics.BytesMetricsMode;
 import org.apache.seatunnel.api.common.metrics.Counter;
 import org.apache.seatunnel.api.common.metrics.Meter;
 import org.apache.seatunnel.api.common.metrics.Unit;
@@ -34,6 +35,19 @@ import lombok.extern.slf4j.Slf4j;
 public class SeaTunnelMetricsContext extends AbstractMetricsContext
         implements DynamicMetricsProvider {
 
+    /** Taken from the engine config of the member the task runs on, not backed up. */
+    private transient volatile BytesMetricsMode bytesMetricsMode;
+
+    public void setBytesMetricsMode(BytesMetricsMode bytesMetricsMode) {
+        this.bytesMetricsMode = bytesMetricsMode;
+    }
+
+    @Override
+    protected BytesMetricsMode getBytesMetricsMode() {
+        BytesMetricsMode mode = bytesMetricsMode;
+        return mode == null ? super.getBytesMetricsMode() : mode;
+    }
+
     @Override
     public void provideDynamicMetrics(MetricDescriptor tagger, MetricsCollectionContext context) {
         metrics.forEach(
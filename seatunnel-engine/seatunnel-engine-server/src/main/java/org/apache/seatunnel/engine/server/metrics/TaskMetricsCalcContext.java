@@ -14,12 +14,14 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
+
 package org.apache.seatunnel.engine.server.metrics;
 
-import org.apache.seatunnel.api.common.metrics.Counter;
-import org.apache.seatunnel.api.common.metrics.Meter;
+import org.apache.seatunnel.api.common.metrics.BytesMetricsMode;
 import org.apache.seatunnel.api.common.metrics.MetricsContext;
+import org.apache.seatunnel.api.common.metrics.RowMetrics;
 import org.apache.seatunnel.api.table.catalog.TablePath;
+import org.apache.seatunnel.api.table.type.ColumnarBatch;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.common.constants.PluginType;
 
@@ -27,7 +29,6 @@ import org.apache.commons.lang3.StringUtils;
 
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 
 import static org.apache.seatunnel.api.common.metrics.MetricNames.SINK_WRITE_BYTES;
@@ -45,21 +46,23 @@ public class TaskMetricsCalcContext {
 
     private final PluginType type;
 
-    private Counter count;
-
-    private Map<String, Counter> countPerTable = new ConcurrentHashMap<>();
+    private String countName;
 
-    private Meter QPS;
+    private String qpsName;
 
-    private Map<String, Meter> QPSPerTable = new ConcurrentHashMap<>();
+    private String bytesName;
 
-    private Counter bytes;
+    private String bytesPerSecondsName;
 
-    private Map<String, Counter> bytesPerTable = new ConcurrentHashMap<>();
+    private RowMetrics metrics;
 
-    private Meter bytesPerSeconds;
+    /**
+     * The metrics per table id of the rows. Rows of a table share the same table id instance, so
+     * the lookup neither parses the id nor compares its characters.
+     */
+    private final Map<String, RowMetrics> metricsPerTableId = new ConcurrentHashMap<>();
 
-    private Map<String, Meter> bytesPerSecondsPerTable = new ConcurrentHashMap<>();
+    private final Map<String, RowMetrics> metricsPerTable = new ConcurrentHashMap<>();
 
     public TaskMetricsCalcContext(
             MetricsContext metricsContext,
@@ -98,114 +101,75 @@ public class TaskMetricsCalcContext {
             String qpsName,
             String bytesName,
             String bytesPerSecondsName) {
-        count = metricsContext.counter(countName);
-        QPS = metricsContext.meter(qpsName);
-        bytes = metricsContext.counter(bytesName);
-        bytesPerSeconds = metricsContext.meter(bytesPerSecondsName);
+        this.countName = countName;
+        this.qpsName = qpsName;
+        this.bytesName = bytesName;
+        this.bytesPerSecondsName = bytesPerSecondsName;
+        metrics = metricsContext.rowMetrics(countName, qpsName, bytesName, bytesPerSecondsName);
         if (isMulti) {
-            tables.forEach(
-                    tablePath -> {
-                        countPerTable.put(
-                                tablePath.getFullName(),
-                                metricsContext.counter(countName + "#" + tablePath.getFullName()));
-                        QPSPerTable.put(
-                                tablePath.getFullName(),
-                                metricsContext.meter(qpsName + "#" + tablePath.getFullName()));
-                        bytesPerTable.put(
-                                tablePath.getFullName(),
-                                metricsContext.counter(bytesName + "#" + tablePath.getFullName()));
-                        bytesPerSecondsPerTable.put(
-                                tablePath.getFullName(),
-                                metricsContext.meter(
-                                        bytesPerSecondsName + "#" + tablePath.getFullName()));
-                    });
+            tables.forEach(tablePath -> tableMetrics(tablePath.getFullName()));
         }
     }
 
     public void updateMetrics(Object data) {
-        count.inc();
-        QPS.markEvent();
-        if (data instanceof SeaTunnelRow) {
-            SeaTunnelRow row = (SeaTunnelRow) data;
-            bytes.inc(row.getBytesSize());
-            bytesPerSeconds.markEvent(row.getBytesSize());
-            String tableId = row.getTableId();
-
-            if (StringUtils.isNotBlank(tableId)) {
-                String tableName = TablePath.of(tableId).getFullName();
-
-                // Processing count
-                processMetrics(
-                        countPerTable,
-                        Counter.class,
-                        tableName,
-                        SINK_WRITE_COUNT,
-                        SOURCE_RECEIVED_COUNT,
-                        Counter::inc);
-
-                // Processing bytes
-                processMetrics(
-                        bytesPerTable,
-                        Counter.class,
-                        tableName,
-                        SINK_WRITE_BYTES,
-                        SOURCE_RECEIVED_BYTES,
-                        counter -> counter.inc(row.getBytesSize()));
-
-                // Processing QPS
-                processMetrics(
-                        QPSPerTable,
-                        Meter.class,
-                        tableName,
-                        SINK_WRITE_QPS,
-                        SOURCE_RECEIVED_QPS,
-                        Meter::markEvent);
-
-                // Processing bytes rate
-                processMetrics(
-                        bytesPerSecondsPerTable,
-                        Meter.class,
-                        tableName,
-                        SINK_WRITE_BYTES_PER_SECONDS,
-                        SOURCE_RECEIVED_BYTES_PER_SECONDS,
-                        meter -> meter.markEvent(row.getBytesSize()));
+        if (data instanceof ColumnarBatch) {
+            updateMetrics((ColumnarBatch) data);
+            return;
+        }
+        if (!(data instanceof SeaTunnelRow)) {
+            metrics.record();
+            return;
+        }
+        SeaTunnelRow row = (SeaTunnelRow) data;
+        metrics.record(row);
+        String tableId = row.getTableId();
+        if (tableId != null) {
+            RowMetrics tableMetrics = metricsPerTableId.get(tableId);
+            if (tableMetrics == null) {
+                tableMetrics = resolveTableMetrics(tableId);
+            }
+            if (tableMetrics != null) {
+                tableMetrics.record(row);
             }
         }
     }
 
-    private <T> void processMetrics(
-            Map<String, T> metricMap,
-            Class<T> cls,
-            String tableName,
-            String sinkMetric,
-            String sourceMetric,
-            MetricProcessor<T> processor) {
-        T metric = metricMap.get(tableName);
-        if (Objects.nonNull(metric)) {
-            processor.process(metric);
-        } else {
-            String metricName =
-                    PluginType.SINK.equals(type)
-                            ? sinkMetric + "#" + tableName
-                            : sourceMetric + "#" + tableName;
-            T newMetric = createMetric(metricsContext, metricName, cls);
-            processor.process(newMetric);
-            metricMap.put(tableName, newMetric);
+    private void updateMetrics(ColumnarBatch batch) {
+        metrics.record(batch);
+        String tableId = batch.getTableId();
+        if (tableId != null) {
+            RowMetrics tableMetrics = metricsPerTableId.get(tableId);
+            if (tableMetrics == null) {
+                tableMetrics = resolveTableMetrics(tableId);
+            }
+            if (tableMetrics != null) {
+                tableMetrics.record(batch);
+            }
         }
     }
 
-    private <T> T createMetric(
-            MetricsContext metricsContext, String metricName, Class<T> metricClass) {
-        if (metricClass == Counter.class) {
-            return metricClass.cast(metricsContext.counter(metricName));
-        } else if (metricClass == Meter.class) {
-            return metricClass.cast(metricsContext.meter(metricName));
+    /** Whether the byte size of every row is used by the metrics. */
+    public boolean isExactBytesSize() {
+        return metrics.getBytesMetricsMode() == BytesMetricsMode.EXACT;
+    }
+
+    private RowMetrics resolveTableMetrics(String tableId) {
+        if (StringUtils.isBlank(tableId)) {
+            return null;
         }
-        throw new IllegalArgumentException("Unsupported metric class: " + metricClass.getName());
+        RowMetrics tableMetrics = tableMetrics(TablePath.of(tableId).getFullName());
+        metricsPerTableId.put(tableId, tableMetrics);
+        return tableMetrics;
     }
 
-    @FunctionalInterface
-    interface MetricProcessor<T> {
-        void process(T t);
+    private RowMetrics tableMetrics(String tableName) {
+        return metricsPerTable.computeIfAbsent(
+                tableName,
+                name ->
+                        metricsContext.rowMetrics(
+                                countName + "#" + name,
+                                qpsName + "#" + name,
+                                bytesName + "#" + name,
+                                bytesPerSecondsName + "#" + name));
     }
 }
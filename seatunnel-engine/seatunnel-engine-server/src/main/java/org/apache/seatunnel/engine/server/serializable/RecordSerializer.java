@@ -33,9 +33,12 @@ import java.io.UnsupportedEncodingException;
 public class RecordSerializer implements StreamSerializer<Record> {
     enum RecordDataType {
         CHECKPOINT_BARRIER,
-        SEATUNNEL_ROW;
+        SEATUNNEL_ROW,
+        SEATUNNEL_ROW_WITH_SCHEMA;
     }
 
+    private final SeaTunnelRowCodecRegistry codecRegistry = SeaTunnelRowCodecRegistry.getInstance();
+
     @Override
     public void write(ObjectDataOutput out, Record record) throws IOException {
         Object data = record.getData();
@@ -49,6 +52,16 @@ public class RecordSerializer implements StreamSerializer<Record> {
             out.writeObject(checkpointBarrier.getClosedTasks());
         } else if (data instanceof SeaTunnelRow) {
             SeaTunnelRow row = (SeaTunnelRow) data;
+            SeaTunnelRowCodec codec = codecRegistry.getWriteCodec(row.getTableId());
+            if (codec != null && codec.canEncode(row)) {
+                out.writeByte(RecordDataType.SEATUNNEL_ROW_WITH_SCHEMA.ordinal());
+                out.writeLong(codec.getSchemaId());
+                // the table id lets the reader name the table if it does not know the schema id
+                out.writeString(codec.getTableId());
+                out.writeByte(row.getRowKind().toByteValue());
+                codec.writeFields(out, row.getFields());
+                return;
+            }
             out.writeByte(RecordDataType.SEATUNNEL_ROW.ordinal());
             out.writeString(row.getTableId());
             out.writeByte(row.getRowKind().toByteValue());
@@ -85,6 +98,23 @@ public class RecordSerializer implements StreamSerializer<Record> {
                 row.setField(i, in.readObject());
             }
             data = row;
+        } else if (dataType == RecordDataType.SEATUNNEL_ROW_WITH_SCHEMA.ordinal()) {
+            long schemaId = in.readLong();
+            String tableId = in.readString();
+            SeaTunnelRowCodec codec = codecRegistry.getReadCodec(schemaId);
+            if (codec == null || !codec.getTableId().equals(tableId)) {
+                throw new IOException(
+                        String.format(
+                                "Can not read a row of table %s: its schema id %d is not registered "
+                                        + "on this member, the schema of the table is unknown "
+                                        + "or differs from the one of the writing task",
+                                tableId, schemaId));
+            }
+            byte rowKind = in.readByte();
+            SeaTunnelRow row = new SeaTunnelRow(codec.readFields(in));
+            row.setTableId(codec.getTableId());
+            row.setRowKind(RowKind.fromByteValue(rowKind));
+            data = row;
         } else {
             throw new UnsupportedEncodingException(
                     "Unsupported deserialize data type: " + dataType);
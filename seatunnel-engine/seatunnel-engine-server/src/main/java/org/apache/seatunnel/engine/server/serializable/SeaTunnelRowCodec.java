@@ -0,0 +1,236 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.serializable;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.api.table.type.SqlType;
+
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * Encodes the fields of a {@link SeaTunnelRow} against a known {@link SeaTunnelRowType}.
+ *
+ * <p>The layout is a null bitmap followed by the non-null values written with their primitive
+ * representation, so no per-field type header is needed. Types without a fixed layout (array, map,
+ * row, vectors) are still written with {@link ObjectDataOutput#writeObject(Object)}.
+ */
+public final class SeaTunnelRowCodec {
+
+    @Getter private final long schemaId;
+    @Getter private final String tableId;
+    @Getter private final SeaTunnelRowType rowType;
+    private final SqlType[] sqlTypes;
+    private final Class<?>[] valueClasses;
+    private final int bitmapLength;
+
+    public SeaTunnelRowCodec(long schemaId, String tableId, SeaTunnelRowType rowType) {
+        this.schemaId = schemaId;
+        this.tableId = tableId;
+        this.rowType = rowType;
+        int arity = rowType.getTotalFields();
+        this.sqlTypes = new SqlType[arity];
+        this.valueClasses = new Class<?>[arity];
+        for (int i = 0; i < arity; i++) {
+            SeaTunnelDataType<?> fieldType = rowType.getFieldType(i);
+            sqlTypes[i] = fieldType.getSqlType();
+            valueClasses[i] = valueClassOf(sqlTypes[i]);
+        }
+        this.bitmapLength = (arity + 7) >>> 3;
+    }
+
+    /**
+     * Whether the row matches the schema of this codec. Rows produced after a schema change may no
+     * longer match, they must be written with the generic format.
+     */
+    public boolean canEncode(SeaTunnelRow row) {
+        Object[] fields = row.getFields();
+        if (fields.length != sqlTypes.length || !tableId.equals(row.getTableId())) {
+            return false;
+        }
+        for (int i = 0; i < fields.length; i++) {
+            Object field = fields[i];
+            if (field == null) {
+                continue;
+            }
+            if (sqlTypes[i] == SqlType.NULL) {
+                return false;
+            }
+            if (valueClasses[i] != null && valueClasses[i] != field.getClass()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public void writeFields(ObjectDataOutput out, Object[] fields) throws IOException {
+        byte[] nullBitmap = new byte[bitmapLength];
+        for (int i = 0; i < fields.length; i++) {
+            if (fields[i] == null) {
+                nullBitmap[i >>> 3] |= (byte) (1 << (i & 7));
+            }
+        }
+        out.write(nullBitmap);
+        for (int i = 0; i < fields.length; i++) {
+            if (fields[i] != null) {
+                writeField(out, sqlTypes[i], fields[i]);
+            }
+        }
+    }
+
+    public Object[] readFields(ObjectDataInput in) throws IOException {
+        byte[] nullBitmap = new byte[bitmapLength];
+        in.readFully(nullBitmap);
+        Object[] fields = new Object[sqlTypes.length];
+        for (int i = 0; i < fields.length; i++) {
+            if ((nullBitmap[i >>> 3] & (1 << (i & 7))) == 0) {
+                fields[i] = readField(in, sqlTypes[i]);
+            }
+        }
+        return fields;
+    }
+
+    private static void writeField(ObjectDataOutput out, SqlType sqlType, Object value)
+            throws IOException {
+        switch (sqlType) {
+            case STRING:
+                out.writeString((String) value);
+                break;
+            case BOOLEAN:
+                out.writeBoolean((Boolean) value);
+                break;
+            case TINYINT:
+                out.writeByte((Byte) value);
+                break;
+            case SMALLINT:
+                out.writeShort((Short) value);
+                break;
+            case INT:
+                out.writeInt((Integer) value);
+                break;
+            case BIGINT:
+                out.writeLong((Long) value);
+                break;
+            case FLOAT:
+                out.writeFloat((Float) value);
+                break;
+            case DOUBLE:
+                out.writeDouble((Double) value);
+                break;
+            case DECIMAL:
+                BigDecimal decimal = (BigDecimal) value;
+                out.writeInt(decimal.scale());
+                out.writeByteArray(decimal.unscaledValue().toByteArray());
+                break;
+            case BYTES:
+                out.writeByteArray((byte[]) value);
+                break;
+            case DATE:
+                out.writeLong(((LocalDate) value).toEpochDay());
+                break;
+            case TIME:
+                out.writeLong(((LocalTime) value).toNanoOfDay());
+                break;
+            case TIMESTAMP:
+                LocalDateTime dateTime = (LocalDateTime) value;
+                out.writeLong(dateTime.toLocalDate().toEpochDay());
+                out.writeLong(dateTime.toLocalTime().toNanoOfDay());
+                break;
+            default:
+                out.writeObject(value);
+        }
+    }
+
+    private static Object readField(ObjectDataInput in, SqlType sqlType) throws IOException {
+        switch (sqlType) {
+            case STRING:
+                return in.readString();
+            case BOOLEAN:
+                return in.readBoolean();
+            case TINYINT:
+                return in.readByte();
+            case SMALLINT:
+                return in.readShort();
+            case INT:
+                return in.readInt();
+            case BIGINT:
+                return in.readLong();
+            case FLOAT:
+                return in.readFloat();
+            case DOUBLE:
+                return in.readDouble();
+            case DECIMAL:
+                int scale = in.readInt();
+                return new BigDecimal(new BigInteger(in.readByteArray()), scale);
+            case BYTES:
+                return in.readByteArray();
+            case DATE:
+                return LocalDate.ofEpochDay(in.readLong());
+            case TIME:
+                return LocalTime.ofNanoOfDay(in.readLong());
+            case TIMESTAMP:
+                LocalDate date = LocalDate.ofEpochDay(in.readLong());
+                return LocalDateTime.of(date, LocalTime.ofNanoOfDay(in.readLong()));
+            default:
+                return in.readObject();
+        }
+    }
+
+    private static Class<?> valueClassOf(SqlType sqlType) {
+        switch (sqlType) {
+            case STRING:
+                return String.class;
+            case BOOLEAN:
+                return Boolean.class;
+            case TINYINT:
+                return Byte.class;
+            case SMALLINT:
+                return Short.class;
+            case INT:
+                return Integer.class;
+            case BIGINT:
+                return Long.class;
+            case FLOAT:
+                return Float.class;
+            case DOUBLE:
+                return Double.class;
+            case DECIMAL:
+                return BigDecimal.class;
+            case BYTES:
+                return byte[].class;
+            case DATE:
+                return LocalDate.class;
+            case TIME:
+                return LocalTime.class;
+            case TIMESTAMP:
+                return LocalDateTime.class;
+            default:
+                return null;
+        }
+    }
+}
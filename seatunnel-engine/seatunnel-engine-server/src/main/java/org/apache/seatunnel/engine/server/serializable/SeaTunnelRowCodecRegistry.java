@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.serializable;
+
+import org.apache.seatunnel.api.table.catalog.CatalogTable;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds the {@link SeaTunnelRowCodec}s known by this member.
+ *
+ * <p>Serializers on different members share no state, so the id written on the wire must be derived
+ * from the schema itself: it is a 64-bit fingerprint of the table id and row type. Both the writing
+ * and the reading task register the same tables before any row is exchanged, which makes the id
+ * resolvable on both sides. The table id is written next to the schema id, so that a row whose id
+ * is unknown on the reading member fails with an error which names its table. A table registered
+ * with more than one schema on this member is not encoded by the codec at all.
+ */
+@Slf4j
+public final class SeaTunnelRowCodecRegistry {
+
+    private static final SeaTunnelRowCodecRegistry INSTANCE = new SeaTunnelRowCodecRegistry();
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final Map<Long, Registration> registrations = new HashMap<>();
+    private final Map<String, Set<Long>> tableSchemaIds = new HashMap<>();
+    private final Map<Long, SeaTunnelRowCodec> readCodecs = new ConcurrentHashMap<>();
+    private final Map<String, SeaTunnelRowCodec> writeCodecs = new ConcurrentHashMap<>();
+
+    private SeaTunnelRowCodecRegistry() {}
+
+    public static SeaTunnelRowCodecRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    public synchronized void registerTables(Collection<CatalogTable> catalogTables) {
+        for (CatalogTable catalogTable : catalogTables) {
+            register(
+                    catalogTable.getTableId().toTablePath().toString(),
+                    catalogTable.getSeaTunnelRowType());
+        }
+    }
+
+    public synchronized void releaseTables(Collection<CatalogTable> catalogTables) {
+        for (CatalogTable catalogTable : catalogTables) {
+            release(
+                    catalogTable.getTableId().toTablePath().toString(),
+                    catalogTable.getSeaTunnelRowType());
+        }
+    }
+
+    public synchronized void register(String tableId, SeaTunnelRowType rowType) {
+        long schemaId = schemaId(tableId, rowType);
+        Registration registration = registrations.get(schemaId);
+        if (registration != null) {
+            if (!registration.codec.getTableId().equals(tableId)
+                    || !registration.codec.getRowType().equals(rowType)) {
+                log.warn(
+                        "Schema id collision with table {}, rows of table {} will use the generic format",
+                        registration.codec.getTableId(),
+                        tableId);
+                return;
+            }
+            registration.refCount++;
+            return;
+        }
+        SeaTunnelRowCodec codec = new SeaTunnelRowCodec(schemaId, tableId, rowType);
+        registrations.put(schemaId, new Registration(codec, 1));
+        readCodecs.put(schemaId, codec);
+        tableSchemaIds.computeIfAbsent(tableId, key -> new HashSet<>()).add(schemaId);
+        refreshWriteCodec(tableId);
+    }
+
+    public synchronized void release(String tableId, SeaTunnelRowType rowType) {
+        long schemaId = schemaId(tableId, rowType);
+        Registration registration = registrations.get(schemaId);
+        if (registration == null || !registration.codec.getTableId().equals(tableId)) {
+            return;
+        }
+        if (--registration.refCount > 0) {
+            return;
+        }
+        registrations.remove(schemaId);
+        readCodecs.remove(schemaId);
+        Set<Long> schemaIds = tableSchemaIds.get(tableId);
+        schemaIds.remove(schemaId);
+        if (schemaIds.isEmpty()) {
+            tableSchemaIds.remove(tableId);
+        }
+        refreshWriteCodec(tableId);
+    }
+
+    /** The codec to write rows of the table, or null if the table has no unambiguous schema. */
+    public SeaTunnelRowCodec getWriteCodec(String tableId) {
+        return tableId == null ? null : writeCodecs.get(tableId);
+    }
+
+    public SeaTunnelRowCodec getReadCodec(long schemaId) {
+        return readCodecs.get(schemaId);
+    }
+
+    private void refreshWriteCodec(String tableId) {
+        Set<Long> schemaIds = tableSchemaIds.get(tableId);
+        if (schemaIds != null && schemaIds.size() == 1) {
+            writeCodecs.put(tableId, readCodecs.get(schemaIds.iterator().next()));
+        } else {
+            writeCodecs.remove(tableId);
+        }
+    }
+
+    static long schemaId(String tableId, SeaTunnelRowType rowType) {
+        byte[] bytes = (tableId + "|" + rowType).getBytes(StandardCharsets.UTF_8);
+        long hash = FNV_OFFSET_BASIS;
+        for (byte b : bytes) {
+            hash ^= b & 0xff;
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+    @AllArgsConstructor
+    private static class Registration {
+        private final SeaTunnelRowCodec codec;
+        private int refCount;
+    }
+}
@@ -32,6 +32,8 @@ import org.apache.seatunnel.engine.server.task.operation.GetTaskGroupAddressOper
 import org.apache.seatunnel.engine.server.task.operation.GetTaskGroupMetricsOperation;
 import org.apache.seatunnel.engine.server.task.operation.NotifyTaskStatusOperation;
 import org.apache.seatunnel.engine.server.task.operation.SendConnectorJarToMemberNodeOperation;
+import org.apache.seatunnel.engine.server.task.operation.ShuffleCreditOperation;
+import org.apache.seatunnel.engine.server.task.operation.ShuffleRecordsOperation;
 import org.apache.seatunnel.engine.server.task.operation.checkpoint.BarrierFlowOperation;
 import org.apache.seatunnel.engine.server.task.operation.checkpoint.CloseRequestOperation;
 import org.apache.seatunnel.engine.server.task.operation.sink.SinkPrepareCommitOperation;
@@ -104,6 +106,10 @@ public class TaskDataSerializerHook implements DataSerializerHook {
 
     public static final int CLOSE_READER_OPERATION = 26;
 
+    public static final int SHUFFLE_RECORDS_OPERATION = 27;
+
+    public static final int SHUFFLE_CREDIT_OPERATION = 28;
+
     public static final int FACTORY_ID =
             FactoryIdHelper.getFactoryId(
                     SeaTunnelFactoryIdConstant.SEATUNNEL_TASK_DATA_SERIALIZER_FACTORY,
@@ -176,6 +182,10 @@ public class TaskDataSerializerHook implements DataSerializerHook {
                     return new JobEventReportOperation();
                 case CLOSE_READER_OPERATION:
                     return new CloseIdleReaderOperation();
+                case SHUFFLE_RECORDS_OPERATION:
+                    return new ShuffleRecordsOperation();
+                case SHUFFLE_CREDIT_OPERATION:
+                    return new ShuffleCreditOperation();
                 default:
                     throw new IllegalArgumentException("Unknown type id " + typeId);
             }
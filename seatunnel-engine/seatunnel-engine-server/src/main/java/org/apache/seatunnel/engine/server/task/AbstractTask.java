@@ -80,6 +80,7 @@ public abstract class AbstractTask implements Task {
     @Override
     public void init() throws Exception {
         this.restoreComplete = new CompletableFuture<>();
+        restoreComplete.whenComplete((v, e) -> wakeUp());
         progress.start();
     }
 
@@ -117,8 +118,27 @@ public abstract class AbstractTask implements Task {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Waits up to the given time for something to do. A cooperative task returns right away and
+     * reports no progress instead, so its worker parks it until it is woken up.
+     */
+    public void idle(long millis) throws InterruptedException {
+        progress.noProgress();
+        if (executionContext == null || !executionContext.isCooperative()) {
+            Thread.sleep(millis);
+        }
+    }
+
+    /** Resumes the task if it is parked while waiting for input or a state change. */
+    public void wakeUp() {
+        if (executionContext != null) {
+            executionContext.wakeUp();
+        }
+    }
+
     public void startCall() {
         startCalled = true;
+        wakeUp();
     }
 
     public void tryClose(long checkpointId) {
@@ -129,5 +149,6 @@ public abstract class AbstractTask implements Task {
 
     public void closeCall() {
         closeCalled = true;
+        wakeUp();
     }
 }
@@ -23,6 +23,7 @@ import org.apache.seatunnel.api.table.catalog.TablePath;
 import org.apache.seatunnel.api.table.event.SchemaChangeEvent;
 import org.apache.seatunnel.api.table.event.handler.DataTypeChangeEventDispatcher;
 import org.apache.seatunnel.api.table.event.handler.DataTypeChangeEventHandler;
+import org.apache.seatunnel.api.table.type.ColumnarBatch;
 import org.apache.seatunnel.api.table.type.MultipleRowType;
 import org.apache.seatunnel.api.table.type.Record;
 import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
@@ -96,15 +97,17 @@ public class SeaTunnelSourceCollector<T> implements Collector<T> {
     public void collect(T row) {
         try {
             if (row instanceof SeaTunnelRow) {
-                String tableId = ((SeaTunnelRow) row).getTableId();
-                int size;
-                if (rowType instanceof SeaTunnelRowType) {
-                    size = ((SeaTunnelRow) row).getBytesSize((SeaTunnelRowType) rowType);
-                } else if (rowType instanceof MultipleRowType) {
-                    size = ((SeaTunnelRow) row).getBytesSize(rowTypeMap.get(tableId));
-                } else {
-                    throw new SeaTunnelEngineException(
-                            "Unsupported row type: " + rowType.getClass().getName());
+                if (taskMetricsCalcContext.isExactBytesSize()) {
+                    // the size calculated with the row type is cached in the row for the metrics
+                    String tableId = ((SeaTunnelRow) row).getTableId();
+                    if (rowType instanceof SeaTunnelRowType) {
+                        ((SeaTunnelRow) row).getBytesSize((SeaTunnelRowType) rowType);
+                    } else if (rowType instanceof MultipleRowType) {
+                        ((SeaTunnelRow) row).getBytesSize(rowTypeMap.get(tableId));
+                    } else {
+                        throw new SeaTunnelEngineException(
+                                "Unsupported row type: " + rowType.getClass().getName());
+                    }
                 }
                 flowControlGate.audit((SeaTunnelRow) row);
                 taskMetricsCalcContext.updateMetrics(row);
@@ -116,6 +119,22 @@ public class SeaTunnelSourceCollector<T> implements Collector<T> {
         }
     }
 
+    @Override
+    public void collectBatch(ColumnarBatch batch) {
+        if (batch.getRowCount() == 0) {
+            return;
+        }
+        try {
+            flowControlGate.audit(batch);
+            taskMetricsCalcContext.updateMetrics(batch);
+            // the batch is converted to rows by the downstream which can not consume it
+            sendRecordToNext(new Record<>(batch));
+            emptyThisPollNext = false;
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     @Override
     public void collect(SchemaChangeEvent event) {
         try {
@@ -93,6 +93,9 @@ import static org.apache.seatunnel.engine.server.task.statemachine.SeaTunnelTask
 public abstract class SeaTunnelTask extends AbstractTask {
     private static final long serialVersionUID = 2604309561613784425L;
 
+    /** How long a task which does not run on the cooperative workers waits for shuffle room. */
+    private static final long BLOCKED_SHUFFLE_IDLE_MILLIS = 10;
+
     protected volatile SeaTunnelTaskState currState;
     private final Flow executionFlow;
 
@@ -102,6 +105,12 @@ public abstract class SeaTunnelTask extends AbstractTask {
 
     protected List<OneInputFlowLifeCycle<Record<?>>> outputs;
 
+    /** The flows which buffer the records, ordered from downstream to upstream. */
+    private List<FlowLifeCycle> bufferedFlows;
+
+    /** The writing ends of shuffles, whose readers may have no room for the records. */
+    private List<ShuffleSinkFlowLifeCycle> shuffleSinkFlows;
+
     protected List<CompletableFuture<Void>> flowFutures;
 
     protected final Map<Long, List<ActionSubtaskState>> checkpointStates =
@@ -129,6 +138,8 @@ public abstract class SeaTunnelTask extends AbstractTask {
         this.currState = SeaTunnelTaskState.INIT;
         flowFutures = new ArrayList<>();
         allCycles = new ArrayList<>();
+        bufferedFlows = new ArrayList<>();
+        shuffleSinkFlows = new ArrayList<>();
         startFlowLifeCycle = convertFlowToActionLifeCycle(executionFlow);
         for (FlowLifeCycle cycle : allCycles) {
             cycle.init();
@@ -151,21 +162,27 @@ public abstract class SeaTunnelTask extends AbstractTask {
                     currState = READY_START;
                     reportTaskStatus(READY_START);
                 } else {
-                    Thread.sleep(100);
+                    idle(100);
                 }
                 break;
             case READY_START:
                 if (startCalled) {
                     currState = STARTING;
                 } else {
-                    Thread.sleep(100);
+                    idle(100);
                 }
                 break;
             case STARTING:
                 currState = RUNNING;
                 break;
             case RUNNING:
-                collect();
+                if (flushBlockedShuffles()) {
+                    // the shuffle readers wake the task up once they have room
+                    idle(BLOCKED_SHUFFLE_IDLE_MILLIS);
+                } else {
+                    collect();
+                    flushBufferedFlows();
+                }
                 if (prepareCloseStatus) {
                     currState = PREPARE_CLOSE;
                 }
@@ -174,7 +191,9 @@ public abstract class SeaTunnelTask extends AbstractTask {
                 if (closeCalled) {
                     currState = CLOSED;
                 } else {
-                    Thread.sleep(100);
+                    // the records before the closing barrier may still wait for shuffle room
+                    flushBlockedShuffles();
+                    idle(isShuffleBlocked() ? BLOCKED_SHUFFLE_IDLE_MILLIS : 100);
                 }
                 break;
             case CLOSED:
@@ -231,23 +250,29 @@ public abstract class SeaTunnelTask extends AbstractTask {
                                 completableFuture,
                                 this.getMetricsContext());
             } else if (f.getAction() instanceof TransformChainAction) {
-                lifeCycle =
+                TransformFlowLifeCycle<SeaTunnelRow> transformFlowLifeCycle =
                         new TransformFlowLifeCycle<SeaTunnelRow>(
                                 (TransformChainAction) f.getAction(),
                                 this,
                                 new SeaTunnelTransformCollector(flowLifeCycles),
                                 completableFuture);
+                if (transformFlowLifeCycle.isBatched()) {
+                    bufferedFlows.add(transformFlowLifeCycle);
+                }
+                lifeCycle = transformFlowLifeCycle;
             } else if (f.getAction() instanceof ShuffleAction) {
                 ShuffleAction shuffleAction = (ShuffleAction) f.getAction();
                 HazelcastInstance hazelcastInstance = getExecutionContext().getInstance();
                 if (flow.getNext().isEmpty()) {
-                    lifeCycle =
+                    ShuffleSinkFlowLifeCycle shuffleSinkFlowLifeCycle =
                             new ShuffleSinkFlowLifeCycle(
                                     this,
                                     indexID,
                                     shuffleAction,
                                     hazelcastInstance,
                                     completableFuture);
+                    shuffleSinkFlows.add(shuffleSinkFlowLifeCycle);
+                    lifeCycle = shuffleSinkFlowLifeCycle;
                 } else {
                     lifeCycle =
                             new ShuffleSourceFlowLifeCycle(
@@ -270,6 +295,10 @@ public abstract class SeaTunnelTask extends AbstractTask {
                             completableFuture,
                             ((AbstractTaskGroupWithIntermediateQueue) taskBelongGroup)
                                     .getQueueCache(config.getQueueID()));
+            if (flow.getNext().isEmpty()) {
+                // the writing end of the queue publishes the records in batches
+                bufferedFlows.add(lifeCycle);
+            }
             outputs = flowLifeCycles;
         } else {
             throw new UnknownFlowException(flow);
@@ -286,6 +315,39 @@ public abstract class SeaTunnelTask extends AbstractTask {
 
     protected abstract void collect() throws Exception;
 
+    /**
+     * Sends the records buffered by the transforms and intermediate queues downstream once the
+     * available input is collected, so that a batch is not delayed until it is full or the next
+     * barrier arrives.
+     */
+    protected void flushBufferedFlows() {
+        // the upstream flows are flushed first, their output is buffered by the downstream ones
+        for (int i = bufferedFlows.size() - 1; i >= 0; i--) {
+            bufferedFlows.get(i).flush();
+        }
+    }
+
+    protected boolean hasBufferedFlows() {
+        return !bufferedFlows.isEmpty();
+    }
+
+    /**
+     * Sends the records the shuffle readers had no room for.
+     *
+     * @return true if the task has to wait for room before it takes more records
+     */
+    private boolean flushBlockedShuffles() throws IOException {
+        boolean backPressured = false;
+        for (ShuffleSinkFlowLifeCycle shuffleSinkFlow : shuffleSinkFlows) {
+            backPressured |= shuffleSinkFlow.flushBlocked();
+        }
+        return backPressured;
+    }
+
+    private boolean isShuffleBlocked() {
+        return shuffleSinkFlows.stream().anyMatch(ShuffleSinkFlowLifeCycle::isBlocked);
+    }
+
     @Override
     public Set<URL> getJarsUrl() {
         return getFlowInfo((action, set) -> set.addAll(action.getJarUrls()));
@@ -137,11 +137,13 @@ public class SinkAggregatedCommitterTask<CommandInfoT, AggregatedCommitInfoT>
         this.writerAddressMap.put(writerID.getTaskID(), address);
         if (maxWriterSize <= writerAddressMap.size()) {
             receivedSinkWriter = true;
+            wakeUp();
         }
     }
 
     @NonNull @Override
     public ProgressState call() throws Exception {
+        progress.makeProgress();
         stateProcess();
         return progress.toState();
     }
@@ -157,35 +159,35 @@ public class SinkAggregatedCommitterTask<CommandInfoT, AggregatedCommitInfoT>
                     currState = READY_START;
                     reportTaskStatus(READY_START);
                 } else {
-                    Thread.sleep(100);
+                    idle(100);
                 }
                 break;
             case READY_START:
                 if (startCalled) {
                     currState = STARTING;
                 } else {
-                    Thread.sleep(100);
+                    idle(100);
                 }
                 break;
             case STARTING:
                 if (receivedSinkWriter) {
                     currState = RUNNING;
                 } else {
-                    Thread.sleep(100);
+                    idle(100);
                 }
                 break;
             case RUNNING:
                 if (prepareCloseStatus) {
                     currState = PREPARE_CLOSE;
                 } else {
-                    Thread.sleep(100);
+                    idle(100);
                 }
                 break;
             case PREPARE_CLOSE:
                 if (closeCalled) {
                     currState = CLOSED;
                 } else {
-                    Thread.sleep(100);
+                    idle(100);
                 }
                 break;
             case CLOSED:
@@ -237,6 +239,7 @@ public class SinkAggregatedCommitterTask<CommandInfoT, AggregatedCommitInfoT>
         if (barrier.prepareClose(this.taskLocation)) {
             this.prepareCloseStatus = true;
             this.prepareCloseBarrierId.set(barrier.getId());
+            wakeUp();
         }
         if (barrier.snapshot()) {
             if (commitInfoCache.containsKey(barrier.getId())) {
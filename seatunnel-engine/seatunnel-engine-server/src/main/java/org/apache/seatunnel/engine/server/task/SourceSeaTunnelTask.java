@@ -127,8 +127,19 @@ public class SourceSeaTunnelTask<T, SplitT extends SourceSplit> extends SeaTunne
         ((SourceFlowLifeCycle<T, SplitT>) startFlowLifeCycle).collect();
     }
 
+    @Override
+    protected void flushBufferedFlows() {
+        if (hasBufferedFlows()) {
+            // the barriers are sent by another thread with the checkpoint lock held
+            synchronized (checkpointLock) {
+                super.flushBufferedFlows();
+            }
+        }
+    }
+
     @NonNull @Override
     public ProgressState call() throws Exception {
+        progress.makeProgress();
         stateProcess();
         return progress.toState();
     }
@@ -95,6 +95,8 @@ public class SourceSplitEnumeratorTask<SplitT extends SourceSplit> extends Coord
 
     private volatile boolean prepareCloseTriggered;
 
+    private volatile Throwable enumeratorFailure;
+
     @Override
     public void init() throws Exception {
         currState = SeaTunnelTaskState.INIT;
@@ -138,6 +140,7 @@ public class SourceSplitEnumeratorTask<SplitT extends SourceSplit> extends Coord
 
     @NonNull @Override
     public ProgressState call() throws Exception {
+        progress.makeProgress();
         stateProcess();
         return progress.toState();
     }
@@ -226,6 +229,7 @@ public class SourceSplitEnumeratorTask<SplitT extends SourceSplit> extends Coord
         int taskSize = taskMemberMapping.size();
         if (maxReaderSize == taskSize) {
             readerRegisterComplete = true;
+            wakeUp();
             log.debug(String.format("reader register complete, current task size %d", taskSize));
         } else {
             log.debug(
@@ -283,6 +287,7 @@ public class SourceSplitEnumeratorTask<SplitT extends SourceSplit> extends Coord
         unfinishedReaders.remove(taskLocation.getTaskID());
         if (unfinishedReaders.isEmpty()) {
             prepareCloseStatus = true;
+            wakeUp();
         } else if (Boundedness.UNBOUNDED.equals(this.source.getSource().getBoundedness())) {
             log.info(
                     "Send close idle reader {} operation of unbounded job. {}",
@@ -294,7 +299,19 @@ public class SourceSplitEnumeratorTask<SplitT extends SourceSplit> extends Coord
         }
     }
 
+    /** Fails this task on its next call because the enumerator failed in one of its threads. */
+    public void failEnumerator(Throwable cause) {
+        log.error("The split enumerator of source {} failed", source.getName(), cause);
+        enumeratorFailure = cause;
+        wakeUp();
+    }
+
     private void stateProcess() throws Exception {
+        if (enumeratorFailure != null) {
+            throw new TaskRuntimeException(
+                    "The split enumerator of source " + source.getName() + " failed",
+                    enumeratorFailure);
+        }
         switch (currState) {
             case INIT:
                 currState = WAITING_RESTORE;
@@ -305,7 +322,7 @@ public class SourceSplitEnumeratorTask<SplitT extends SourceSplit> extends Coord
                     currState = READY_START;
                     reportTaskStatus(READY_START);
                 } else {
-                    Thread.sleep(100);
+                    idle(100);
                 }
                 break;
             case READY_START:
@@ -314,7 +331,7 @@ public class SourceSplitEnumeratorTask<SplitT extends SourceSplit> extends Coord
                     enumerator.open();
                     enumeratorContext.getEventListener().onEvent(new EnumeratorOpenEvent());
                 } else {
-                    Thread.sleep(100);
+                    idle(100);
                 }
                 break;
             case STARTING:
@@ -331,14 +348,14 @@ public class SourceSplitEnumeratorTask<SplitT extends SourceSplit> extends Coord
                 } else if (prepareCloseTriggered) {
                     currState = PREPARE_CLOSE;
                 } else {
-                    Thread.sleep(100);
+                    idle(100);
                 }
                 break;
             case PREPARE_CLOSE:
                 if (closeCalled) {
                     currState = CLOSED;
                 } else {
-                    Thread.sleep(100);
+                    idle(100);
                 }
                 break;
             case CLOSED:
@@ -75,6 +75,7 @@ public class TransformSeaTunnelTask extends SeaTunnelTask {
 
     @NonNull @Override
     public ProgressState call() throws Exception {
+        progress.makeProgress();
         stateProcess();
         return progress.toState();
     }
@@ -109,4 +109,9 @@ public class SeaTunnelSplitEnumeratorContext<SplitT extends SourceSplit>
     public EventListener getEventListener() {
         return eventListener;
     }
+
+    @Override
+    public void failEnumerator(Throwable cause) {
+        task.failEnumerator(cause);
+    }
 }
@@ -73,6 +73,11 @@ public class SourceReaderContext implements SourceReader.Context {
         sourceActionLifeCycle.sendSourceEventToEnumerator(sourceEvent);
     }
 
+    @Override
+    public void signalDataAvailable() {
+        sourceActionLifeCycle.signalDataAvailable();
+    }
+
     @Override
     public MetricsContext getMetricsContext() {
         return metricsContext;
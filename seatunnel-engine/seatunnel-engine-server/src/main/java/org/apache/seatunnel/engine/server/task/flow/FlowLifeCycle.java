@@ -28,4 +28,7 @@ public interface FlowLifeCycle {
     default void close() throws IOException {}
 
     default void prepareClose() throws IOException {}
+
+    /** Sends the records buffered by this flow downstream. */
+    default void flush() {}
 }
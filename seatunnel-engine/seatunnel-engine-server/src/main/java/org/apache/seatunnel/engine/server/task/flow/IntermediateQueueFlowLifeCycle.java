@@ -46,6 +46,11 @@ public class IntermediateQueueFlowLifeCycle<T extends AbstractIntermediateQueue<
         queue.received(record);
     }
 
+    @Override
+    public void flush() {
+        queue.flush();
+    }
+
     @Override
     public void collect(Collector<Record<?>> collector) throws Exception {
         queue.collect(collector);
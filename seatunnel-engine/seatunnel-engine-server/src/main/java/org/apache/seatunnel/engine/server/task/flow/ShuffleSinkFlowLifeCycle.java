@@ -17,13 +17,20 @@
 
 package org.apache.seatunnel.engine.server.task.flow;
 
+import org.apache.seatunnel.api.table.catalog.CatalogTable;
 import org.apache.seatunnel.api.table.event.SchemaChangeEvent;
+import org.apache.seatunnel.api.table.type.ColumnarBatch;
 import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.engine.common.config.server.ShuffleMode;
 import org.apache.seatunnel.engine.core.dag.actions.ShuffleAction;
+import org.apache.seatunnel.engine.core.dag.actions.ShuffleMultipleRowStrategy;
 import org.apache.seatunnel.engine.core.dag.actions.ShuffleStrategy;
-import org.apache.seatunnel.engine.server.checkpoint.ActionStateKey;
+import org.apache.seatunnel.engine.server.serializable.SeaTunnelRowCodecRegistry;
 import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
 import org.apache.seatunnel.engine.server.task.record.Barrier;
+import org.apache.seatunnel.engine.server.task.shuffle.DirectShuffleOutput;
+import org.apache.seatunnel.engine.server.task.shuffle.QueueShuffleOutput;
+import org.apache.seatunnel.engine.server.task.shuffle.ShuffleOutput;
 
 import com.hazelcast.collection.IQueue;
 import com.hazelcast.core.HazelcastInstance;
@@ -32,7 +39,9 @@ import lombok.extern.slf4j.Slf4j;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
@@ -44,13 +53,16 @@ public class ShuffleSinkFlowLifeCycle extends AbstractFlowLifeCycle
     private final int pipelineId;
     private final int taskIndex;
     private final ShuffleAction shuffleAction;
-    private final Map<String, IQueue<Record<?>>> shuffles;
+    private final Map<String, ShuffleOutput> shuffles;
     private final int shuffleBatchSize;
     private final long shuffleBatchFlushInterval;
     private final Map<String, Queue<Record<?>>> shuffleBuffer;
     private final ShuffleStrategy shuffleStrategy;
+    private final List<CatalogTable> codecTables;
     private int shuffleBufferSize;
     private long lastModify;
+    /** Set when the readers had no room for the records of the last flush. */
+    private boolean blocked;
 
     public ShuffleSinkFlowLifeCycle(
             SeaTunnelTask runningTask,
@@ -63,10 +75,41 @@ public class ShuffleSinkFlowLifeCycle extends AbstractFlowLifeCycle
         this.taskIndex = taskIndex;
         this.shuffleAction = shuffleAction;
         this.shuffleStrategy = shuffleAction.getConfig().getShuffleStrategy();
-        this.shuffles = shuffleStrategy.createShuffles(hazelcastInstance, pipelineId, taskIndex);
         this.shuffleBatchSize = shuffleAction.getConfig().getBatchSize();
+        this.shuffles = createShuffles(hazelcastInstance);
         this.shuffleBatchFlushInterval = shuffleAction.getConfig().getBatchFlushInterval();
         this.shuffleBuffer = new HashMap<>();
+        this.codecTables =
+                shuffleStrategy instanceof ShuffleMultipleRowStrategy
+                        ? ((ShuffleMultipleRowStrategy) shuffleStrategy).getCatalogTables()
+                        : Collections.emptyList();
+        SeaTunnelRowCodecRegistry.getInstance().registerTables(codecTables);
+        for (ShuffleOutput shuffle : shuffles.values()) {
+            shuffle.setAvailableListener(runningTask::wakeUp);
+        }
+    }
+
+    private Map<String, ShuffleOutput> createShuffles(HazelcastInstance hazelcastInstance) {
+        Map<String, ShuffleOutput> outputs = new LinkedHashMap<>();
+        if (shuffleAction.getConfig().getShuffleMode() == ShuffleMode.DIRECT) {
+            for (String name : shuffleStrategy.createShuffleNames(pipelineId, taskIndex)) {
+                outputs.put(
+                        name,
+                        new DirectShuffleOutput(
+                                name,
+                                shuffleBatchSize,
+                                runningTask.getExecutionContext(),
+                                hazelcastInstance));
+            }
+        } else {
+            for (Map.Entry<String, IQueue<Record<?>>> shuffle :
+                    shuffleStrategy
+                            .createShuffles(hazelcastInstance, pipelineId, taskIndex)
+                            .entrySet()) {
+                outputs.put(shuffle.getKey(), new QueueShuffleOutput(shuffle.getValue()));
+            }
+        }
+        return outputs;
     }
 
     @Override
@@ -81,21 +124,12 @@ public class ShuffleSinkFlowLifeCycle extends AbstractFlowLifeCycle
             if (barrier.prepareClose(runningTask.getTaskLocation())) {
                 prepareClose = true;
             }
-            if (barrier.snapshot()) {
-                runningTask.addState(
-                        barrier, ActionStateKey.of(shuffleAction), Collections.emptyList());
-            }
+            // the state of the shuffle action is reported by the reading side only, it holds the
+            // in-flight records of unaligned checkpoints
             runningTask.ack(barrier);
 
             // The barrier needs to be replicated to all channels
-            for (Map.Entry<String, IQueue<Record<?>>> shuffle : shuffles.entrySet()) {
-                IQueue<Record<?>> shuffleQueue = shuffle.getValue();
-                try {
-                    shuffleQueue.put(record);
-                } catch (InterruptedException e) {
-                    throw new RuntimeException(e);
-                }
-            }
+            shuffleBarrier(record);
 
             log.debug(
                     "trigger barrier [{}] finished, cost: {}ms. taskLocation: [{}]",
@@ -113,6 +147,14 @@ public class ShuffleSinkFlowLifeCycle extends AbstractFlowLifeCycle
                 return;
             }
 
+            if (record.getData() instanceof ColumnarBatch) {
+                // the rows are shuffled one by one
+                ColumnarBatch batch = (ColumnarBatch) record.getData();
+                for (int row = 0; row < batch.getRowCount(); row++) {
+                    shuffleItem(new Record<>(batch.getRow(row)));
+                }
+                return;
+            }
             shuffleItem(record);
         }
     }
@@ -120,45 +162,63 @@ public class ShuffleSinkFlowLifeCycle extends AbstractFlowLifeCycle
     @Override
     public void close() throws IOException {
         super.close();
-        for (Map.Entry<String, IQueue<Record<?>>> shuffleItem : shuffles.entrySet()) {
-            log.info("destroy shuffle queue: {}", shuffleItem.getKey());
-            shuffleItem.getValue().destroy();
+        for (ShuffleOutput shuffle : shuffles.values()) {
+            shuffle.close();
+        }
+        SeaTunnelRowCodecRegistry.getInstance().releaseTables(codecTables);
+    }
+
+    /**
+     * Sends the records which the readers had no room for, once the task is woken up.
+     *
+     * @return true if too many records wait for room, the task stops taking records until then
+     */
+    public synchronized boolean flushBlocked() throws IOException {
+        if (isBlocked()) {
+            shuffleFlush();
         }
+        return shuffleBufferSize >= shuffleBatchSize;
+    }
+
+    /** Whether records, or the last barrier, wait for the readers to have room. */
+    public synchronized boolean isBlocked() {
+        return blocked || shuffles.values().stream().anyMatch(ShuffleOutput::hasPendingRecords);
     }
 
-    private synchronized void shuffleItem(Record<?> record) {
+    private synchronized void shuffleItem(Record<?> record) throws IOException {
         String shuffleKey = shuffleStrategy.createShuffleKey(record, pipelineId, taskIndex);
         shuffleBuffer.computeIfAbsent(shuffleKey, key -> new LinkedList<>()).add(record);
         shuffleBufferSize++;
 
-        if (shuffleBufferSize >= shuffleBatchSize
-                || (shuffleBufferSize > 1
-                        && System.currentTimeMillis() - lastModify > shuffleBatchFlushInterval)) {
+        // a blocked flush is retried by the task once the readers have room
+        if (!blocked
+                && (shuffleBufferSize >= shuffleBatchSize
+                        || (shuffleBufferSize > 1
+                                && System.currentTimeMillis() - lastModify
+                                        > shuffleBatchFlushInterval))) {
             shuffleFlush();
         }
     }
 
-    private synchronized void shuffleFlush() {
+    private synchronized void shuffleBarrier(Record<?> barrier) throws IOException {
+        for (String shuffleKey : shuffles.keySet()) {
+            shuffleBuffer.computeIfAbsent(shuffleKey, key -> new LinkedList<>()).add(barrier);
+            shuffleBufferSize++;
+        }
+        shuffleFlush();
+    }
+
+    private synchronized void shuffleFlush() throws IOException {
+        int remaining = 0;
         for (Map.Entry<String, Queue<Record<?>>> shuffleBatch : shuffleBuffer.entrySet()) {
-            IQueue<Record<?>> shuffleQueue = shuffles.get(shuffleBatch.getKey());
+            ShuffleOutput shuffle = shuffles.get(shuffleBatch.getKey());
             Queue<Record<?>> shuffleQueueBatch = shuffleBatch.getValue();
-            if (shuffleQueue.remainingCapacity() <= 0
-                    || !shuffleQueue.addAll(shuffleBatch.getValue())) {
-                for (; ; ) {
-                    Record<?> shuffleItem = shuffleQueueBatch.poll();
-                    if (shuffleItem == null) {
-                        break;
-                    }
-                    try {
-                        shuffleQueue.put(shuffleItem);
-                    } catch (InterruptedException e) {
-                        throw new RuntimeException(e);
-                    }
-                }
-            }
-            shuffleQueueBatch.clear();
+            // the records the reader has no room for are left in the queue
+            shuffle.write(shuffleQueueBatch);
+            remaining += shuffleQueueBatch.size();
         }
-        shuffleBufferSize = 0;
+        shuffleBufferSize = remaining;
+        blocked = remaining > 0;
         lastModify = System.currentTimeMillis();
     }
 }
@@ -17,60 +17,128 @@
 
 package org.apache.seatunnel.engine.server.task.flow;
 
+import org.apache.seatunnel.api.table.catalog.CatalogTable;
 import org.apache.seatunnel.api.table.type.Record;
 import org.apache.seatunnel.api.transform.Collector;
+import org.apache.seatunnel.engine.common.config.server.ShuffleMode;
 import org.apache.seatunnel.engine.core.dag.actions.ShuffleAction;
+import org.apache.seatunnel.engine.core.dag.actions.ShuffleMultipleRowStrategy;
+import org.apache.seatunnel.engine.core.dag.actions.ShuffleStrategy;
 import org.apache.seatunnel.engine.server.checkpoint.ActionStateKey;
+import org.apache.seatunnel.engine.server.checkpoint.ActionSubtaskState;
+import org.apache.seatunnel.engine.server.checkpoint.CheckpointBarrier;
+import org.apache.seatunnel.engine.server.serializable.SeaTunnelRowCodecRegistry;
 import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
 import org.apache.seatunnel.engine.server.task.record.Barrier;
+import org.apache.seatunnel.engine.server.task.shuffle.DirectShuffleInput;
+import org.apache.seatunnel.engine.server.task.shuffle.QueueShuffleInput;
+import org.apache.seatunnel.engine.server.task.shuffle.ShuffleInput;
 
 import com.hazelcast.collection.IQueue;
 import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.serialization.impl.HeapData;
+import com.hazelcast.spi.impl.SerializationServiceSupport;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @SuppressWarnings("MagicNumber")
-public class ShuffleSourceFlowLifeCycle<T> extends AbstractFlowLifeCycle
+public class ShuffleSourceFlowLifeCycle<T> extends ActionFlowLifeCycle
         implements OneOutputFlowLifeCycle<Record<?>> {
     private final ShuffleAction shuffleAction;
     private final int shuffleBatchSize;
-    private final IQueue<Record<?>>[] shuffles;
+    private final ShuffleInput[] shuffles;
+    private final List<CatalogTable> codecTables;
+    private final SerializationService serializationService;
     private Map<Integer, List<Record<?>>> unsentBufferMap = new HashMap<>();
     private final Map<Integer, Barrier> alignedBarriers = new HashMap<>();
     private long currentCheckpointId = Long.MAX_VALUE;
     private int alignedBarriersCounter = 0;
 
+    /**
+     * In unaligned mode a general checkpoint barrier is forwarded as soon as it arrives on the
+     * first channel. The records read afterwards from the channels whose barrier has not arrived
+     * yet are in flight: they are stored with the checkpoint and replayed on restore.
+     */
+    private final boolean unalignedCheckpoint;
+
+    private final Set<Integer> unalignedBarrierChannels = new HashSet<>();
+    private final List<Record<?>> inFlightRecords = new ArrayList<>();
+    private final LinkedList<Record<?>> restoredRecords = new LinkedList<>();
+    private Barrier unalignedBarrier;
+    /** The id of the last unaligned barrier which was forwarded, older ones are stale. */
+    private long lastUnalignedBarrierId = -1;
+
     public ShuffleSourceFlowLifeCycle(
             SeaTunnelTask runningTask,
             int taskIndex,
             ShuffleAction shuffleAction,
             HazelcastInstance hazelcastInstance,
             CompletableFuture<Void> completableFuture) {
-        super(runningTask, completableFuture);
+        super(shuffleAction, runningTask, completableFuture);
         int pipelineId = runningTask.getTaskLocation().getPipelineId();
         this.shuffleAction = shuffleAction;
-        this.shuffles =
-                shuffleAction
-                        .getConfig()
-                        .getShuffleStrategy()
-                        .getShuffles(hazelcastInstance, pipelineId, taskIndex);
+        ShuffleStrategy shuffleStrategy = shuffleAction.getConfig().getShuffleStrategy();
+        if (shuffleAction.getConfig().getShuffleMode() == ShuffleMode.DIRECT) {
+            String[] names = shuffleStrategy.getShuffleNames(pipelineId, taskIndex);
+            this.shuffles = new ShuffleInput[names.length];
+            for (int i = 0; i < names.length; i++) {
+                shuffles[i] =
+                        new DirectShuffleInput(
+                                names[i],
+                                shuffleStrategy.getQueueMaxSize(),
+                                runningTask
+                                        .getExecutionContext()
+                                        .getTaskExecutionService()
+                                        .getShuffleChannelRegistry(),
+                                hazelcastInstance);
+            }
+        } else {
+            IQueue<Record<?>>[] queues =
+                    shuffleStrategy.getShuffles(hazelcastInstance, pipelineId, taskIndex);
+            this.shuffles = new ShuffleInput[queues.length];
+            for (int i = 0; i < queues.length; i++) {
+                shuffles[i] = new QueueShuffleInput(queues[i]);
+            }
+        }
+        for (ShuffleInput shuffle : shuffles) {
+            shuffle.setDataAvailableListener(runningTask::wakeUp);
+        }
         this.shuffleBatchSize = shuffleAction.getConfig().getBatchSize();
+        this.codecTables =
+                shuffleStrategy instanceof ShuffleMultipleRowStrategy
+                        ? ((ShuffleMultipleRowStrategy) shuffleStrategy).getCatalogTables()
+                        : Collections.emptyList();
+        SeaTunnelRowCodecRegistry.getInstance().registerTables(codecTables);
+        this.unalignedCheckpoint = shuffleAction.getConfig().isUnalignedCheckpoint();
+        this.serializationService =
+                ((SerializationServiceSupport) hazelcastInstance).getSerializationService();
     }
 
     @Override
     public void collect(Collector<Record<?>> collector) throws Exception {
+        if (!restoredRecords.isEmpty()) {
+            // the records which were in flight at the restored checkpoint go first
+            for (int i = 0; i < shuffleBatchSize && !restoredRecords.isEmpty(); i++) {
+                collector.collect(restoredRecords.poll());
+            }
+            return;
+        }
         int emptyShuffleQueueCount = 0;
 
         for (int i = 0; i < shuffles.length; i++) {
-            IQueue<Record<?>> shuffleQueue = shuffles[i];
+            ShuffleInput shuffleQueue = shuffles[i];
             List<Record<?>> unsentBuffer =
                     unsentBufferMap.computeIfAbsent(i, k -> new LinkedList<>());
             if (shuffleQueue.size() == 0) {
@@ -95,7 +163,10 @@ public class ShuffleSourceFlowLifeCycle<T> extends AbstractFlowLifeCycle
 
             for (int recordIndex = 0; recordIndex < shuffleBatch.size(); recordIndex++) {
                 Record<?> record = shuffleBatch.get(recordIndex);
-                if (record.getData() instanceof Barrier) {
+                if (record.getData() instanceof Barrier
+                        && isUnaligned((Barrier) record.getData())) {
+                    receiveUnalignedBarrier(i, record, collector);
+                } else if (record.getData() instanceof Barrier) {
                     long startTime = System.currentTimeMillis();
 
                     Barrier barrier = (Barrier) record.getData();
@@ -138,22 +209,104 @@ public class ShuffleSourceFlowLifeCycle<T> extends AbstractFlowLifeCycle
                     if (prepareClose) {
                         return;
                     }
+                    if (unalignedBarrier != null && !unalignedBarrierChannels.contains(i)) {
+                        inFlightRecords.add(record);
+                    }
                     collector.collect(record);
                 }
             }
         }
 
         if (emptyShuffleQueueCount == shuffles.length) {
-            Thread.sleep(100);
+            runningTask.idle(100);
+        }
+    }
+
+    private boolean isUnaligned(Barrier barrier) {
+        // savepoints, final and schema change checkpoints stay aligned, they must not leave
+        // records behind
+        return unalignedCheckpoint
+                && barrier instanceof CheckpointBarrier
+                && ((CheckpointBarrier) barrier).getCheckpointType().isGeneralCheckpoint()
+                && !barrier.prepareClose(runningTask.getTaskLocation());
+    }
+
+    private void receiveUnalignedBarrier(
+            int channel, Record<?> record, Collector<Record<?>> collector) throws Exception {
+        Barrier barrier = (Barrier) record.getData();
+        if (barrier.getId() < lastUnalignedBarrierId
+                || (barrier.getId() == lastUnalignedBarrierId && unalignedBarrier == null)) {
+            log.debug(
+                    "ignore stale unaligned barrier [{}] of channel {}, the current one is [{}]. taskLocation: [{}]",
+                    barrier.getId(),
+                    channel,
+                    lastUnalignedBarrierId,
+                    runningTask.getTaskLocation());
+            return;
+        }
+        if (unalignedBarrier != null && barrier.getId() > unalignedBarrier.getId()) {
+            // the previous checkpoint was given up before its barrier arrived on all channels,
+            // the records in flight so far were forwarded before the newer barrier
+            log.warn(
+                    "unaligned barrier [{}] arrived before barrier [{}] was received from all channels, the older one is dropped. taskLocation: [{}]",
+                    barrier.getId(),
+                    unalignedBarrier.getId(),
+                    runningTask.getTaskLocation());
+            resetUnalignedBarrier();
+        }
+        if (unalignedBarrier == null) {
+            // the barrier overtakes the records still buffered in the other channels
+            unalignedBarrier = barrier;
+            lastUnalignedBarrierId = barrier.getId();
+            collector.collect(record);
+        }
+        unalignedBarrierChannels.add(channel);
+        if (unalignedBarrierChannels.size() < shuffles.length) {
+            return;
+        }
+        List<byte[]> state = new ArrayList<>(inFlightRecords.size());
+        for (Record<?> inFlightRecord : inFlightRecords) {
+            state.add(serializationService.toData(inFlightRecord).toByteArray());
+        }
+        runningTask.addState(barrier, ActionStateKey.of(shuffleAction), state);
+        runningTask.ack(barrier);
+        log.debug(
+                "unaligned barrier [{}] received from all channels, in-flight records: {}. taskLocation: [{}]",
+                barrier.getId(),
+                inFlightRecords.size(),
+                runningTask.getTaskLocation());
+
+        resetUnalignedBarrier();
+    }
+
+    private void resetUnalignedBarrier() {
+        inFlightRecords.clear();
+        unalignedBarrierChannels.clear();
+        unalignedBarrier = null;
+    }
+
+    @Override
+    public void restoreState(List<ActionSubtaskState> actionStateList) throws Exception {
+        for (ActionSubtaskState actionState : actionStateList) {
+            for (byte[] bytes : actionState.getState()) {
+                restoredRecords.add(serializationService.toObject(new HeapData(bytes)));
+            }
+        }
+        if (!restoredRecords.isEmpty()) {
+            log.info(
+                    "restored {} in-flight records of {}. taskLocation: [{}]",
+                    restoredRecords.size(),
+                    shuffleAction.getName(),
+                    runningTask.getTaskLocation());
         }
     }
 
     @Override
     public void close() throws IOException {
         super.close();
-        for (IQueue<Record<?>> shuffleQueue : shuffles) {
-            log.info("destroy shuffle queue: {}", shuffleQueue.getName());
-            shuffleQueue.destroy();
+        for (ShuffleInput shuffleQueue : shuffles) {
+            shuffleQueue.close();
         }
+        SeaTunnelRowCodecRegistry.getInstance().releaseTables(codecTables);
     }
 }
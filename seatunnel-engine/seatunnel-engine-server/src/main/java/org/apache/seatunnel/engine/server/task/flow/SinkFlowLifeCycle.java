@@ -23,11 +23,13 @@ import org.apache.seatunnel.api.serialization.Serializer;
 import org.apache.seatunnel.api.sink.MultiTableResourceManager;
 import org.apache.seatunnel.api.sink.SinkCommitter;
 import org.apache.seatunnel.api.sink.SinkWriter;
+import org.apache.seatunnel.api.sink.SupportColumnarBatchWrite;
 import org.apache.seatunnel.api.sink.SupportResourceShare;
 import org.apache.seatunnel.api.sink.event.WriterCloseEvent;
 import org.apache.seatunnel.api.sink.multitablesink.MultiTableSink;
 import org.apache.seatunnel.api.table.catalog.TablePath;
 import org.apache.seatunnel.api.table.event.SchemaChangeEvent;
+import org.apache.seatunnel.api.table.type.ColumnarBatch;
 import org.apache.seatunnel.api.table.type.Record;
 import org.apache.seatunnel.common.constants.PluginType;
 import org.apache.seatunnel.engine.core.checkpoint.InternalCheckpointListener;
@@ -246,7 +248,11 @@ public class SinkFlowLifeCycle<T, CommitInfoT extends Serializable, AggregatedCo
                 if (prepareClose) {
                     return;
                 }
-                writer.write((T) record.getData());
+                if (record.getData() instanceof ColumnarBatch) {
+                    writeBatch((ColumnarBatch) record.getData());
+                } else {
+                    writer.write((T) record.getData());
+                }
                 taskMetricsCalcContext.updateMetrics(record.getData());
             }
         } catch (Exception e) {
@@ -254,6 +260,16 @@ public class SinkFlowLifeCycle<T, CommitInfoT extends Serializable, AggregatedCo
         }
     }
 
+    private void writeBatch(ColumnarBatch batch) throws IOException {
+        if (writer instanceof SupportColumnarBatchWrite) {
+            ((SupportColumnarBatchWrite) writer).write(batch);
+            return;
+        }
+        for (int row = 0; row < batch.getRowCount(); row++) {
+            writer.write((T) batch.getRow(row));
+        }
+    }
+
     @Override
     public void notifyCheckpointComplete(long checkpointId) throws Exception {
         if (committer.isPresent() && lastCommitInfo.isPresent()) {
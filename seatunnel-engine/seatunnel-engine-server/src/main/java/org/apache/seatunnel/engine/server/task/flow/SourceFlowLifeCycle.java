@@ -152,13 +152,13 @@ public class SourceFlowLifeCycle<T, SplitT extends SourceSplit> extends ActionFl
             if (schemaChanging()) {
                 log.debug("schema is changing, stop reader collect records");
 
-                Thread.sleep(200);
+                runningTask.idle(200);
                 return;
             }
 
             reader.pollNext(collector);
             if (collector.isEmptyThisPollNext()) {
-                Thread.sleep(100);
+                runningTask.idle(100);
             } else {
                 collector.resetEmptyThisPollNext();
                 /**
@@ -191,10 +191,15 @@ public class SourceFlowLifeCycle<T, SplitT extends SourceSplit> extends ActionFl
                 log.info("triggered schema-change-after checkpoint, stopping collect data");
             }
         } else {
-            Thread.sleep(100);
+            runningTask.idle(100);
         }
     }
 
+    /** Resumes the task if it is backing off because the reader returned no records. */
+    public void signalDataAvailable() {
+        runningTask.wakeUp();
+    }
+
     public void signalNoMoreElement() {
         // ready close this reader
         try {
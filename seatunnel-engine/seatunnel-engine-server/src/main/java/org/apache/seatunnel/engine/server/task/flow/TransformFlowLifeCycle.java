@@ -17,8 +17,10 @@
 
 package org.apache.seatunnel.engine.server.task.flow;
 
+import org.apache.seatunnel.api.table.type.ColumnarBatch;
 import org.apache.seatunnel.api.table.type.Record;
 import org.apache.seatunnel.api.transform.Collector;
+import org.apache.seatunnel.api.transform.SeaTunnelFlatMapTransform;
 import org.apache.seatunnel.api.transform.SeaTunnelTransform;
 import org.apache.seatunnel.engine.core.dag.actions.TransformChainAction;
 import org.apache.seatunnel.engine.server.checkpoint.ActionStateKey;
@@ -30,6 +32,7 @@ import org.apache.seatunnel.engine.server.task.record.Barrier;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
@@ -44,6 +47,14 @@ public class TransformFlowLifeCycle<T> extends ActionFlowLifeCycle
 
     private final Collector<Record<?>> collector;
 
+    /**
+     * The max number of rows transformed at once, it is 0 if no transform of the chain is a {@link
+     * SeaTunnelFlatMapTransform}, then the rows are transformed one by one.
+     */
+    private final int batchSize;
+
+    private List<T> buffer;
+
     public TransformFlowLifeCycle(
             TransformChainAction<T> action,
             SeaTunnelTask runningTask,
@@ -53,6 +64,18 @@ public class TransformFlowLifeCycle<T> extends ActionFlowLifeCycle
         this.action = action;
         this.transform = action.getTransforms();
         this.collector = collector;
+        this.batchSize =
+                transform.stream()
+                        .filter(t -> t instanceof SeaTunnelFlatMapTransform)
+                        .mapToInt(t -> ((SeaTunnelFlatMapTransform<T>) t).getBatchSize())
+                        .map(size -> Math.max(size, 1))
+                        .min()
+                        .orElse(0);
+        this.buffer = new ArrayList<>();
+    }
+
+    public boolean isBatched() {
+        return batchSize > 0;
     }
 
     @Override
@@ -74,6 +97,8 @@ public class TransformFlowLifeCycle<T> extends ActionFlowLifeCycle
     @Override
     public void received(Record<?> record) {
         if (record.getData() instanceof Barrier) {
+            // the rows received before the barrier are sent before it
+            flush();
             CheckpointBarrier barrier = (CheckpointBarrier) record.getData();
             if (barrier.prepareClose(this.runningTask.getTaskLocation())) {
                 prepareClose = true;
@@ -88,6 +113,21 @@ public class TransformFlowLifeCycle<T> extends ActionFlowLifeCycle
             if (prepareClose) {
                 return;
             }
+            if (record.getData() instanceof ColumnarBatch) {
+                // the transforms receive the rows of the batch
+                ColumnarBatch batch = (ColumnarBatch) record.getData();
+                for (int row = 0; row < batch.getRowCount(); row++) {
+                    received(new Record<>(batch.getRow(row)));
+                }
+                return;
+            }
+            if (isBatched()) {
+                buffer.add((T) record.getData());
+                if (buffer.size() >= batchSize) {
+                    flush();
+                }
+                return;
+            }
             T inputData = (T) record.getData();
             T outputData = inputData;
             for (SeaTunnelTransform<T> t : transform) {
@@ -107,6 +147,41 @@ public class TransformFlowLifeCycle<T> extends ActionFlowLifeCycle
         }
     }
 
+    /** Transforms the buffered rows and sends the output downstream. */
+    @Override
+    public void flush() {
+        if (buffer.isEmpty()) {
+            return;
+        }
+        List<T> rows = buffer;
+        buffer = new ArrayList<>(rows.size());
+        for (SeaTunnelTransform<T> t : transform) {
+            rows = transform(t, rows);
+            if (rows.isEmpty()) {
+                return;
+            }
+        }
+        for (T row : rows) {
+            collector.collect(new Record<>(row));
+        }
+    }
+
+    private List<T> transform(SeaTunnelTransform<T> t, List<T> rows) {
+        List<T> output = new ArrayList<>(rows.size());
+        if (t instanceof SeaTunnelFlatMapTransform) {
+            ((SeaTunnelFlatMapTransform<T>) t).flatMap(rows, new ListCollector<>(output));
+        } else {
+            for (T row : rows) {
+                T outputData = t.map(row);
+                if (outputData != null) {
+                    output.add(outputData);
+                }
+            }
+        }
+        log.debug("Transform[{}] input {} rows and output {} rows", t, rows.size(), output.size());
+        return output;
+    }
+
     @Override
     public void restoreState(List<ActionSubtaskState> actionStateList) throws Exception {
         // nothing
@@ -127,4 +202,20 @@ public class TransformFlowLifeCycle<T> extends ActionFlowLifeCycle
         }
         super.close();
     }
+
+    private static class ListCollector<T> implements Collector<T> {
+        private final List<T> output;
+
+        private ListCollector(List<T> output) {
+            this.output = output;
+        }
+
+        @Override
+        public void collect(T record) {
+            output.add(record);
+        }
+
+        @Override
+        public void close() {}
+    }
 }
@@ -26,13 +26,16 @@ import org.apache.seatunnel.engine.server.task.group.queue.AbstractIntermediateQ
 import org.apache.seatunnel.engine.server.task.group.queue.IntermediateBlockingQueue;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 
 public class TaskGroupWithIntermediateBlockingQueue extends AbstractTaskGroupWithIntermediateQueue {
 
+    /** The number of records the queue holds, it is filled with batches of records. */
     public static final int QUEUE_SIZE = 2048;
 
     public TaskGroupWithIntermediateBlockingQueue(
@@ -40,11 +43,13 @@ public class TaskGroupWithIntermediateBlockingQueue extends AbstractTaskGroupWit
         super(taskGroupLocation, taskGroupName, tasks);
     }
 
-    private Map<Long, BlockingQueue<Record<?>>> blockingQueueCache = null;
+    private Map<Long, BlockingQueue<List<Record<?>>>> blockingQueueCache = null;
+    private Map<Long, AtomicReference<SeaTunnelTask>> consumerCache = null;
 
     @Override
     public void init() {
         blockingQueueCache = new ConcurrentHashMap<>();
+        consumerCache = new ConcurrentHashMap<>();
         getTasks().stream()
                 .filter(SeaTunnelTask.class::isInstance)
                 .map(s -> (SeaTunnelTask) s)
@@ -53,8 +58,12 @@ public class TaskGroupWithIntermediateBlockingQueue extends AbstractTaskGroupWit
 
     @Override
     public AbstractIntermediateQueue<?> getQueueCache(long id) {
-        blockingQueueCache.computeIfAbsent(id, i -> new ArrayBlockingQueue<>(QUEUE_SIZE));
-        return new IntermediateBlockingQueue(blockingQueueCache.get(id));
+        blockingQueueCache.computeIfAbsent(
+                id,
+                i -> new ArrayBlockingQueue<>(QUEUE_SIZE / AbstractIntermediateQueue.BATCH_SIZE));
+        return new IntermediateBlockingQueue(
+                blockingQueueCache.get(id),
+                consumerCache.computeIfAbsent(id, i -> new AtomicReference<>()));
     }
 
     @Override
@@ -17,24 +17,54 @@
 
 package org.apache.seatunnel.engine.server.task.group.queue;
 
+import org.apache.seatunnel.api.common.metrics.Counter;
+import org.apache.seatunnel.api.common.metrics.MetricNames;
+import org.apache.seatunnel.api.common.metrics.MetricsContext;
 import org.apache.seatunnel.api.table.type.Record;
 import org.apache.seatunnel.api.transform.Collector;
+import org.apache.seatunnel.engine.server.checkpoint.CheckpointBarrier;
 import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
 import org.apache.seatunnel.engine.server.task.flow.IntermediateQueueFlowLifeCycle;
+import org.apache.seatunnel.engine.server.task.record.Barrier;
 
 import lombok.Getter;
 import lombok.Setter;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * The writing task buffers the records and hands them over to the reading task in batches. A batch
+ * is published when it is full, when a barrier arrives, when the writing task finished a round of
+ * collecting its input, see {@link #flush()}, and when a record arrives after the first record of
+ * the batch waited longer than {@link #MAX_BATCH_DELAY_NANOS}.
+ *
+ * <p>The age of the batch is only checked on the writing task, there is no timer. A record
+ * therefore waits at most until the current call of the writing task returns, e.g. the {@code
+ * pollNext} of a source, which also bounds how long the task defers checkpoint barriers.
+ */
 public abstract class AbstractIntermediateQueue<T> {
 
+    public static final int BATCH_SIZE = 64;
+
+    /** A batch older than this is published with the next record, not on its own. */
+    public static final long MAX_BATCH_DELAY_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
     @Getter @Setter private SeaTunnelTask runningTask;
 
     @Getter @Setter private IntermediateQueueFlowLifeCycle<?> intermediateQueueFlowLifeCycle;
 
     private final T queue;
 
+    private List<Record<?>> batch = new ArrayList<>(BATCH_SIZE);
+    private long batchStartNanos;
+
+    private long waitNanos;
+    private Counter occupancy;
+    private Counter waitTime;
+
     public AbstractIntermediateQueue(T queue) {
         this.queue = queue;
     }
@@ -43,9 +73,68 @@ public abstract class AbstractIntermediateQueue<T> {
         return queue;
     }
 
-    public abstract void received(Record<?> record);
+    public void received(Record<?> record) {
+        if (record.getData() instanceof Barrier) {
+            CheckpointBarrier barrier = (CheckpointBarrier) record.getData();
+            runningTask.ack(barrier);
+            if (barrier.prepareClose(runningTask.getTaskLocation())) {
+                intermediateQueueFlowLifeCycle.setPrepareClose(true);
+            }
+            // the records received before the barrier are published together with it
+            batch.add(record);
+            flush();
+            return;
+        }
+        if (intermediateQueueFlowLifeCycle.getPrepareClose()) {
+            return;
+        }
+        if (batch.isEmpty()) {
+            batchStartNanos = System.nanoTime();
+        }
+        batch.add(record);
+        if (batch.size() >= BATCH_SIZE
+                || System.nanoTime() - batchStartNanos >= MAX_BATCH_DELAY_NANOS) {
+            flush();
+        }
+    }
+
+    /** Hands the buffered records over to the reading task. */
+    public void flush() {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<Record<?>> records = batch;
+        batch = new ArrayList<>(BATCH_SIZE);
+        long start = System.nanoTime();
+        try {
+            publish(records);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+        updateMetrics(System.nanoTime() - start);
+    }
+
+    /** Publishes the records in order, waits while the queue is full. */
+    protected abstract void publish(List<Record<?>> records) throws Exception;
+
+    /** The used capacity of the queue in percent. */
+    protected abstract int getOccupancy();
 
     public abstract void collect(Collector<Record<?>> collector) throws Exception;
 
     public abstract void close() throws IOException;
+
+    private void updateMetrics(long publishNanos) {
+        if (occupancy == null) {
+            MetricsContext metricsContext = runningTask.getMetricsContext();
+            if (metricsContext == null) {
+                return;
+            }
+            occupancy = metricsContext.counter(MetricNames.INTERMEDIATE_QUEUE_OCCUPANCY);
+            waitTime = metricsContext.counter(MetricNames.INTERMEDIATE_QUEUE_WAIT_TIME);
+        }
+        waitNanos += publishNanos;
+        occupancy.set(getOccupancy());
+        waitTime.set(TimeUnit.NANOSECONDS.toMillis(waitNanos));
+    }
 }
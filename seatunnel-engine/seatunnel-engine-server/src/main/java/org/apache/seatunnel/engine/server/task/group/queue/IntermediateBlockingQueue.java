@@ -19,60 +19,114 @@ package org.apache.seatunnel.engine.server.task.group.queue;
 
 import org.apache.seatunnel.api.table.type.Record;
 import org.apache.seatunnel.api.transform.Collector;
-import org.apache.seatunnel.common.utils.function.ConsumerWithException;
 import org.apache.seatunnel.engine.server.checkpoint.CheckpointBarrier;
+import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
 import org.apache.seatunnel.engine.server.task.record.Barrier;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
-public class IntermediateBlockingQueue extends AbstractIntermediateQueue<BlockingQueue<Record<?>>> {
+public class IntermediateBlockingQueue
+        extends AbstractIntermediateQueue<BlockingQueue<List<Record<?>>>> {
 
-    public IntermediateBlockingQueue(BlockingQueue<Record<?>> queue) {
+    /** The task reading the queue, shared by both ends so the writer can wake it up. */
+    private final AtomicReference<SeaTunnelTask> consumer;
+
+    private final List<List<Record<?>>> drained = new ArrayList<>();
+
+    public IntermediateBlockingQueue(BlockingQueue<List<Record<?>>> queue) {
+        this(queue, new AtomicReference<>());
+    }
+
+    public IntermediateBlockingQueue(
+            BlockingQueue<List<Record<?>>> queue, AtomicReference<SeaTunnelTask> consumer) {
         super(queue);
+        this.consumer = consumer;
     }
 
     @Override
-    public void received(Record<?> record) {
-        try {
-            handleRecord(record, getIntermediateQueue()::put);
-        } catch (Exception e) {
-            throw new RuntimeException(e);
+    protected void publish(List<Record<?>> records) throws InterruptedException {
+        getIntermediateQueue().put(records);
+        SeaTunnelTask task = consumer.get();
+        if (task != null) {
+            task.wakeUp();
         }
     }
 
+    @Override
+    protected int getOccupancy() {
+        BlockingQueue<List<Record<?>>> queue = getIntermediateQueue();
+        int size = queue.size();
+        return size * 100 / Math.max(size + queue.remainingCapacity(), 1);
+    }
+
     @Override
     public void collect(Collector<Record<?>> collector) throws Exception {
+        SeaTunnelTask runningTask = getRunningTask();
+        if (runningTask.getExecutionContext() != null
+                && runningTask.getExecutionContext().isCooperative()) {
+            consumer.set(runningTask);
+            collectAvailable(collector);
+            return;
+        }
         while (true) {
-            Record<?> record = getIntermediateQueue().poll(100, TimeUnit.MILLISECONDS);
-            if (record != null) {
-                handleRecord(record, collector::collect);
+            List<Record<?>> records = getIntermediateQueue().poll(100, TimeUnit.MILLISECONDS);
+            if (records != null) {
+                handleRecords(records, collector);
+                drainAvailable(collector);
             } else {
                 break;
             }
         }
     }
 
+    /** Drains the queue without blocking, a cooperative task is woken up by the writer. */
+    private void collectAvailable(Collector<Record<?>> collector) throws Exception {
+        if (!drainAvailable(collector)) {
+            getRunningTask().idle(100);
+        }
+    }
+
+    /** Takes all the published batches with a single lock acquisition. */
+    private boolean drainAvailable(Collector<Record<?>> collector) throws Exception {
+        if (getIntermediateQueue().drainTo(drained) == 0) {
+            return false;
+        }
+        try {
+            for (List<Record<?>> records : drained) {
+                handleRecords(records, collector);
+            }
+        } finally {
+            drained.clear();
+        }
+        return true;
+    }
+
     @Override
     public void close() throws IOException {
         getIntermediateQueue().clear();
     }
 
-    private void handleRecord(Record<?> record, ConsumerWithException<Record<?>> consumer)
+    private void handleRecords(List<Record<?>> records, Collector<Record<?>> collector)
             throws Exception {
-        if (record.getData() instanceof Barrier) {
-            CheckpointBarrier barrier = (CheckpointBarrier) record.getData();
-            getRunningTask().ack(barrier);
-            if (barrier.prepareClose(this.getRunningTask().getTaskLocation())) {
-                getIntermediateQueueFlowLifeCycle().setPrepareClose(true);
-            }
-            consumer.accept(record);
-        } else {
-            if (getIntermediateQueueFlowLifeCycle().getPrepareClose()) {
-                return;
+        for (Record<?> record : records) {
+            if (record.getData() instanceof Barrier) {
+                CheckpointBarrier barrier = (CheckpointBarrier) record.getData();
+                getRunningTask().ack(barrier);
+                if (barrier.prepareClose(this.getRunningTask().getTaskLocation())) {
+                    getIntermediateQueueFlowLifeCycle().setPrepareClose(true);
+                }
+                collector.collect(record);
+            } else {
+                if (getIntermediateQueueFlowLifeCycle().getPrepareClose()) {
+                    continue;
+                }
+                collector.collect(record);
             }
-            consumer.accept(record);
         }
     }
 }
@@ -23,9 +23,11 @@ import org.apache.seatunnel.engine.server.task.group.queue.disruptor.RecordEvent
 import org.apache.seatunnel.engine.server.task.group.queue.disruptor.RecordEventHandler;
 import org.apache.seatunnel.engine.server.task.group.queue.disruptor.RecordEventProducer;
 
+import com.lmax.disruptor.RingBuffer;
 import com.lmax.disruptor.dsl.Disruptor;
 
 import java.io.IOException;
+import java.util.List;
 
 public class IntermediateDisruptor extends AbstractIntermediateQueue<Disruptor<RecordEvent>> {
 
@@ -36,12 +38,15 @@ public class IntermediateDisruptor extends AbstractIntermediateQueue<Disruptor<R
     private volatile boolean isExecuted;
 
     @Override
-    public void received(Record<?> record) {
-        getIntermediateQueue().getRingBuffer();
-        RecordEventProducer.onData(
-                record,
-                getIntermediateQueue().getRingBuffer(),
-                getIntermediateQueueFlowLifeCycle());
+    protected void publish(List<Record<?>> records) {
+        RecordEventProducer.onData(records, getIntermediateQueue().getRingBuffer());
+    }
+
+    @Override
+    protected int getOccupancy() {
+        RingBuffer<RecordEvent> ringBuffer = getIntermediateQueue().getRingBuffer();
+        long used = ringBuffer.getBufferSize() - ringBuffer.remainingCapacity();
+        return (int) (used * 100 / ringBuffer.getBufferSize());
     }
 
     @Override
@@ -56,7 +61,8 @@ public class IntermediateDisruptor extends AbstractIntermediateQueue<Disruptor<R
             getIntermediateQueue().start();
             isExecuted = true;
         } else {
-            Thread.sleep(100);
+            // the records are handled by the disruptor threads
+            getRunningTask().idle(100);
         }
     }
 
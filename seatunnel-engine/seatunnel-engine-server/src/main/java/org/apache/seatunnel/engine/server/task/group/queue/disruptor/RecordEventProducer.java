@@ -18,38 +18,25 @@
 package org.apache.seatunnel.engine.server.task.group.queue.disruptor;
 
 import org.apache.seatunnel.api.table.type.Record;
-import org.apache.seatunnel.engine.server.checkpoint.CheckpointBarrier;
-import org.apache.seatunnel.engine.server.task.flow.IntermediateQueueFlowLifeCycle;
-import org.apache.seatunnel.engine.server.task.record.Barrier;
 
 import com.lmax.disruptor.RingBuffer;
 
-public class RecordEventProducer {
-
-    public static void onData(
-            Record<?> record,
-            RingBuffer<RecordEvent> ringBuffer,
-            IntermediateQueueFlowLifeCycle intermediateQueueFlowLifeCycle) {
+import java.util.List;
 
-        if (record.getData() instanceof Barrier) {
-            CheckpointBarrier barrier = (CheckpointBarrier) record.getData();
-            intermediateQueueFlowLifeCycle.getRunningTask().ack(barrier);
-            if (barrier.prepareClose(
-                    intermediateQueueFlowLifeCycle.getRunningTask().getTaskLocation())) {
-                intermediateQueueFlowLifeCycle.setPrepareClose(true);
-            }
-        } else {
-            if (intermediateQueueFlowLifeCycle.getPrepareClose()) {
-                return;
-            }
-        }
+public class RecordEventProducer {
 
-        long sequence = ringBuffer.next();
+    /** Claims the sequences of all the records at once and publishes them as one range. */
+    public static void onData(List<Record<?>> records, RingBuffer<RecordEvent> ringBuffer) {
+        int size = records.size();
+        long hi = ringBuffer.next(size);
+        long lo = hi - (size - 1);
         try {
-            RecordEvent recordEvent = ringBuffer.get(sequence);
-            recordEvent.setRecord(record);
+            for (int i = 0; i < size; i++) {
+                RecordEvent recordEvent = ringBuffer.get(lo + i);
+                recordEvent.setRecord(records.get(i));
+            }
         } finally {
-            ringBuffer.publish(sequence);
+            ringBuffer.publish(lo, hi);
         }
     }
 }
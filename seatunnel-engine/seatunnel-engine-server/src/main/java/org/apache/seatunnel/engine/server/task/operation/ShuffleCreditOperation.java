@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.operation;
+
+import org.apache.seatunnel.engine.server.SeaTunnelServer;
+import org.apache.seatunnel.engine.server.serializable.TaskDataSerializerHook;
+import org.apache.seatunnel.engine.server.task.shuffle.DirectShuffleOutput;
+
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+
+import java.io.IOException;
+
+/**
+ * Grants new credit to the writer of a direct shuffle channel, after the reader took the records
+ * which used up its credit.
+ */
+public class ShuffleCreditOperation extends TracingOperation implements IdentifiedDataSerializable {
+
+    private String channelName;
+
+    private long writerId;
+
+    private long credit;
+
+    public ShuffleCreditOperation() {}
+
+    public ShuffleCreditOperation(String channelName, long writerId, long credit) {
+        this.channelName = channelName;
+        this.writerId = writerId;
+        this.credit = credit;
+    }
+
+    @Override
+    public void runInternal() throws Exception {
+        SeaTunnelServer server = getService();
+        DirectShuffleOutput writer =
+                server.getTaskExecutionService().getShuffleChannelRegistry().getWriter(channelName);
+        if (writer != null) {
+            writer.grantCredit(writerId, credit);
+        }
+    }
+
+    @Override
+    public String getServiceName() {
+        return SeaTunnelServer.SERVICE_NAME;
+    }
+
+    @Override
+    protected void writeInternal(ObjectDataOutput out) throws IOException {
+        super.writeInternal(out);
+        out.writeString(channelName);
+        out.writeLong(writerId);
+        out.writeLong(credit);
+    }
+
+    @Override
+    protected void readInternal(ObjectDataInput in) throws IOException {
+        super.readInternal(in);
+        channelName = in.readString();
+        writerId = in.readLong();
+        credit = in.readLong();
+    }
+
+    @Override
+    public int getFactoryId() {
+        return TaskDataSerializerHook.FACTORY_ID;
+    }
+
+    @Override
+    public int getClassId() {
+        return TaskDataSerializerHook.SHUFFLE_CREDIT_OPERATION;
+    }
+}
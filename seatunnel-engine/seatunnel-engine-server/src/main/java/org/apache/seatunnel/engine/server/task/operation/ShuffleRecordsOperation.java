@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.operation;
+
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.engine.server.SeaTunnelServer;
+import org.apache.seatunnel.engine.server.serializable.TaskDataSerializerHook;
+import org.apache.seatunnel.engine.server.task.shuffle.ShuffleChannel;
+import org.apache.seatunnel.engine.server.utils.NodeEngineUtil;
+
+import com.hazelcast.cluster.Address;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+import com.hazelcast.spi.impl.NodeEngine;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Delivers a batch of records to a direct shuffle channel. The response is the credit granted to
+ * the writer, or -1 when the channel is not open on the target member. If the writer used up its
+ * credit, the new credit is sent back with a {@link ShuffleCreditOperation} later.
+ */
+public class ShuffleRecordsOperation extends TracingOperation
+        implements IdentifiedDataSerializable {
+
+    public static final int CHANNEL_NOT_FOUND = -1;
+
+    private String channelName;
+
+    private long writerId;
+
+    private long sequence;
+
+    private List<Record<?>> records;
+
+    private long response;
+
+    public ShuffleRecordsOperation() {}
+
+    public ShuffleRecordsOperation(
+            String channelName, long writerId, long sequence, List<Record<?>> records) {
+        this.channelName = channelName;
+        this.writerId = writerId;
+        this.sequence = sequence;
+        this.records = records;
+    }
+
+    @Override
+    public void runInternal() throws Exception {
+        SeaTunnelServer server = getService();
+        ShuffleChannel channel =
+                server.getTaskExecutionService()
+                        .getShuffleChannelRegistry()
+                        .getChannel(channelName);
+        if (channel == null) {
+            response = CHANNEL_NOT_FOUND;
+            return;
+        }
+        NodeEngine nodeEngine = getNodeEngine();
+        Address writerAddress = getCallerAddress();
+        response =
+                channel.offer(
+                        writerId,
+                        sequence,
+                        records,
+                        credit ->
+                                NodeEngineUtil.sendOperationToMemberNode(
+                                        nodeEngine,
+                                        new ShuffleCreditOperation(channelName, writerId, credit),
+                                        writerAddress));
+    }
+
+    @Override
+    public Object getResponse() {
+        return response;
+    }
+
+    @Override
+    public String getServiceName() {
+        return SeaTunnelServer.SERVICE_NAME;
+    }
+
+    @Override
+    protected void writeInternal(ObjectDataOutput out) throws IOException {
+        super.writeInternal(out);
+        out.writeString(channelName);
+        out.writeLong(writerId);
+        out.writeLong(sequence);
+        out.writeInt(records.size());
+        for (Record<?> record : records) {
+            out.writeObject(record);
+        }
+    }
+
+    @Override
+    protected void readInternal(ObjectDataInput in) throws IOException {
+        super.readInternal(in);
+        channelName = in.readString();
+        writerId = in.readLong();
+        sequence = in.readLong();
+        int size = in.readInt();
+        records = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            records.add(in.readObject());
+        }
+    }
+
+    @Override
+    public int getFactoryId() {
+        return TaskDataSerializerHook.FACTORY_ID;
+    }
+
+    @Override
+    public int getClassId() {
+        return TaskDataSerializerHook.SHUFFLE_RECORDS_OPERATION;
+    }
+}
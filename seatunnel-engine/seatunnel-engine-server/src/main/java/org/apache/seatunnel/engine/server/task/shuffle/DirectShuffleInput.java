@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.shuffle;
+
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.engine.common.Constant;
+import org.apache.seatunnel.engine.core.dag.actions.ShuffleStrategy;
+
+import com.hazelcast.cluster.Address;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Reads shuffle records pushed by the writer into a channel of this member. The member address is
+ * published under the channel name so that the writer can find it.
+ */
+@Slf4j
+public class DirectShuffleInput implements ShuffleInput {
+
+    private final ShuffleChannelRegistry channelRegistry;
+    private final ShuffleChannel channel;
+    private final IMap<String, Address> endpoints;
+    private final Address localAddress;
+
+    public DirectShuffleInput(
+            String name,
+            int capacity,
+            ShuffleChannelRegistry channelRegistry,
+            HazelcastInstance hazelcast) {
+        this.channelRegistry = channelRegistry;
+        this.channel = channelRegistry.openChannel(name, capacity);
+        this.endpoints = hazelcast.getMap(Constant.IMAP_SHUFFLE_ENDPOINTS);
+        this.localAddress = hazelcast.getCluster().getLocalMember().getAddress();
+        endpoints.put(name, localAddress);
+    }
+
+    @Override
+    public String getName() {
+        return channel.getName();
+    }
+
+    @Override
+    public int size() {
+        return channel.size();
+    }
+
+    @Override
+    public Record<?> take() throws InterruptedException {
+        return channel.take();
+    }
+
+    @Override
+    public int drainTo(Collection<Record<?>> records, int maxElements) {
+        return channel.drainTo(records, maxElements);
+    }
+
+    @Override
+    public void setDataAvailableListener(Runnable listener) {
+        channel.setDataAvailableListener(listener);
+    }
+
+    /** Removes the channels published by a member which left the cluster. */
+    public static void removeEndpoints(HazelcastInstance hazelcast, Address member) {
+        IMap<String, Address> endpoints = hazelcast.getMap(Constant.IMAP_SHUFFLE_ENDPOINTS);
+        for (Map.Entry<String, Address> endpoint : endpoints.entrySet()) {
+            if (endpoint.getValue().equals(member)) {
+                endpoints.remove(endpoint.getKey(), member);
+            }
+        }
+    }
+
+    /**
+     * Removes the channels of a pipeline which ended, so that the writers of a restored pipeline do
+     * not resolve the members its previous readers ran on.
+     */
+    public static void removeEndpoints(HazelcastInstance hazelcast, long jobId, int pipelineId) {
+        IMap<String, Address> endpoints = hazelcast.getMap(Constant.IMAP_SHUFFLE_ENDPOINTS);
+        for (String name : endpoints.keySet()) {
+            if (ShuffleStrategy.isShuffleOfPipeline(name, jobId, pipelineId)) {
+                endpoints.remove(name);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        log.info("close shuffle channel: {}", channel.getName());
+        if (channelRegistry.getChannel(channel.getName()) == channel) {
+            // a newer reader on this member may own the name already
+            endpoints.remove(channel.getName(), localAddress);
+        }
+        channelRegistry.closeChannel(channel);
+    }
+}
@@ -0,0 +1,353 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.shuffle;
+
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.engine.common.Constant;
+import org.apache.seatunnel.engine.server.execution.TaskExecutionContext;
+import org.apache.seatunnel.engine.server.task.operation.ShuffleRecordsOperation;
+
+import com.hazelcast.cluster.Address;
+import com.hazelcast.cluster.Cluster;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Sends shuffle records straight to the member running the reader of the channel, instead of going
+ * through a partitioned Hazelcast queue.
+ *
+ * <p>The writer only sends as many records as the reader granted credit for. Up to {@link
+ * #MAX_IN_FLIGHT_BATCHES} batches are sent without waiting for their responses, the reader appends
+ * them in the order they were sent. Every response carries the new credit, and when the credit is
+ * used up the reader grants new credit as soon as it took enough records. When the reader runs on
+ * the same member the records are handed over in memory.
+ *
+ * <p>The writer never waits. The records it can not send yet are left to the caller, which is
+ * notified by the available listener once there is credit, room in the local channel or a response.
+ */
+@Slf4j
+public class DirectShuffleOutput implements ShuffleOutput {
+
+    /** How often a writer waiting for credit checks whether the reader member is still alive. */
+    private static final long MEMBER_CHECK_INTERVAL_MILLIS = 1000;
+
+    private static final int MAX_IN_FLIGHT_BATCHES = 4;
+
+    private final String name;
+    private final TaskExecutionContext executionContext;
+    private final ShuffleChannelRegistry channelRegistry;
+    private final IMap<String, Address> endpoints;
+    private final Cluster cluster;
+    private final Address localAddress;
+    private final int maxBatchSize;
+
+    /** Records of batches which were not accepted by a closed channel and are sent again. */
+    private final Deque<Record<?>> unsent = new ArrayDeque<>();
+
+    /**
+     * The batches sent to the endpoint which were not accepted yet, in the order they were sent.
+     */
+    private final Deque<InFlightBatch> inFlight = new ArrayDeque<>();
+
+    @Setter private volatile Runnable availableListener;
+
+    private Address endpoint;
+    private ShuffleChannel localChannel;
+    private long writerId;
+    private long nextSequence;
+    private long sent;
+    private long credit;
+    private long lastMemberCheck;
+
+    public DirectShuffleOutput(
+            String name,
+            int maxBatchSize,
+            TaskExecutionContext executionContext,
+            HazelcastInstance hazelcast) {
+        this.name = name;
+        this.maxBatchSize = maxBatchSize;
+        this.executionContext = executionContext;
+        this.channelRegistry =
+                executionContext.getTaskExecutionService().getShuffleChannelRegistry();
+        this.endpoints = hazelcast.getMap(Constant.IMAP_SHUFFLE_ENDPOINTS);
+        this.cluster = hazelcast.getCluster();
+        this.localAddress = cluster.getLocalMember().getAddress();
+        channelRegistry.registerWriter(this);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public void write(Queue<Record<?>> records) throws IOException {
+        synchronized (this) {
+            // takes back the records of rejected batches even if there are no new records
+            completeBatches();
+        }
+        while (!unsent.isEmpty() || !records.isEmpty()) {
+            if (!resolveEndpoint()) {
+                // the reader did not open the channel yet
+                return;
+            }
+            Queue<Record<?>> next = unsent.isEmpty() ? records : unsent;
+            boolean blocked = localChannel != null ? !writeLocal(next) : !writeRemote(next);
+            if (blocked) {
+                long now = System.currentTimeMillis();
+                if (localChannel == null && now - lastMemberCheck >= MEMBER_CHECK_INTERVAL_MILLIS) {
+                    lastMemberCheck = now;
+                    checkEndpointAlive();
+                }
+                return;
+            }
+        }
+    }
+
+    @Override
+    public synchronized boolean hasPendingRecords() {
+        return !unsent.isEmpty()
+                || inFlight.stream().anyMatch(batch -> batch.done && !batch.isAccepted());
+    }
+
+    /** Called with the credit the reader granted after the writer used up its credit. */
+    public void grantCredit(long writerId, long credit) {
+        synchronized (this) {
+            if (writerId != this.writerId || credit <= this.credit) {
+                return;
+            }
+            this.credit = credit;
+        }
+        notifyAvailable();
+    }
+
+    /** Wakes up the caller, the reader may have room for the records left by the last write. */
+    public void notifyAvailable() {
+        Runnable listener = availableListener;
+        if (listener != null) {
+            listener.run();
+        }
+    }
+
+    /** @return false if the local channel is full */
+    private boolean writeLocal(Queue<Record<?>> records) {
+        Record<?> record;
+        while ((record = records.peek()) != null) {
+            if (localChannel.offer(record, this::notifyAvailable)) {
+                records.poll();
+            } else if (channelRegistry.getChannel(name) != localChannel) {
+                // the reader was closed or restarted, look the channel up again
+                resetEndpoint();
+                return true;
+            } else {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** @return false if the writer has to wait for credit or for the responses of its batches */
+    private boolean writeRemote(Queue<Record<?>> records) throws IOException {
+        long available;
+        synchronized (this) {
+            if (!completeBatches()) {
+                return false;
+            }
+            if (endpoint == null) {
+                // the channel is looked up again
+                return true;
+            }
+            available = credit - sent;
+            if (available <= 0 || inFlight.size() >= MAX_IN_FLIGHT_BATCHES) {
+                return false;
+            }
+        }
+        int batchSize = (int) Math.min(Math.min(available, maxBatchSize), records.size());
+        List<Record<?>> batch = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            batch.add(records.poll());
+        }
+        send(batch);
+        return true;
+    }
+
+    private void send(List<Record<?>> batch) {
+        InFlightBatch inFlightBatch = new InFlightBatch(batch);
+        synchronized (this) {
+            inFlight.add(inFlightBatch);
+        }
+        sent += batch.size();
+        executionContext
+                .<Long>sendToMember(
+                        new ShuffleRecordsOperation(name, writerId, nextSequence++, batch),
+                        endpoint)
+                .whenComplete((granted, error) -> onResponse(inFlightBatch, granted, error));
+    }
+
+    private void onResponse(InFlightBatch batch, Long granted, Throwable error) {
+        synchronized (this) {
+            batch.done = true;
+            batch.error = error;
+            batch.notFound = error == null && granted == ShuffleRecordsOperation.CHANNEL_NOT_FOUND;
+            if (batch.isAccepted() && granted > credit) {
+                credit = granted;
+            }
+            notifyAll();
+        }
+        notifyAvailable();
+    }
+
+    /**
+     * Removes the accepted batches. Once a batch was not accepted, the responses of all batches in
+     * flight are awaited. The batches rejected because the channel is not open on the endpoint are
+     * sent again after the channel was looked up again. A batch which failed otherwise may have
+     * been appended by the reader before the error, so the writer fails instead of sending it
+     * again.
+     *
+     * @return false if the writer has to wait for the responses of the batches in flight
+     */
+    private boolean completeBatches() throws IOException {
+        while (!inFlight.isEmpty() && inFlight.peek().isAccepted()) {
+            inFlight.poll();
+        }
+        if (inFlight.isEmpty() || !inFlight.peek().done) {
+            return true;
+        }
+        if (inFlight.stream().anyMatch(batch -> !batch.done)) {
+            return false;
+        }
+        for (InFlightBatch batch : inFlight) {
+            if (batch.error != null) {
+                throw new IOException(
+                        String.format(
+                                "Failed to send records to shuffle channel %s on member %s,"
+                                        + " the records may have been received",
+                                name, endpoint),
+                        batch.error);
+            }
+        }
+        Iterator<InFlightBatch> iterator = inFlight.descendingIterator();
+        while (iterator.hasNext()) {
+            InFlightBatch batch = iterator.next();
+            if (batch.isAccepted()) {
+                continue;
+            }
+            for (int i = batch.records.size() - 1; i >= 0; i--) {
+                unsent.addFirst(batch.records.get(i));
+            }
+        }
+        inFlight.clear();
+        log.info("shuffle channel {} is no longer open on {}, look it up again", name, endpoint);
+        resetEndpoint();
+        return true;
+    }
+
+    private void checkEndpointAlive() throws IOException {
+        if (cluster.getMembers().stream()
+                .noneMatch(member -> member.getAddress().equals(endpoint))) {
+            throw new IOException(
+                    String.format(
+                            "The reader of shuffle channel %s on member %s left the cluster",
+                            name, endpoint));
+        }
+    }
+
+    /** @return false if the channel is not open yet */
+    private boolean resolveEndpoint() {
+        if (endpoint != null) {
+            return true;
+        }
+        Address address = endpoints.get(name);
+        if (address == null) {
+            return false;
+        }
+        if (address.equals(localAddress)) {
+            localChannel = channelRegistry.getChannel(name);
+            if (localChannel == null) {
+                return false;
+            }
+        }
+        synchronized (this) {
+            endpoint = address;
+            writerId = ThreadLocalRandom.current().nextLong(1, Long.MAX_VALUE);
+            nextSequence = 0;
+            sent = 0;
+            credit = 0;
+        }
+        lastMemberCheck = System.currentTimeMillis();
+        log.info("shuffle channel {} resolved to {}", name, endpoint);
+        if (localChannel == null) {
+            // an empty batch asks the reader for the initial credit
+            send(new ArrayList<>());
+        }
+        return true;
+    }
+
+    private synchronized void resetEndpoint() {
+        endpoint = null;
+        localChannel = null;
+        writerId = 0;
+        credit = 0;
+    }
+
+    @Override
+    public void close() {
+        synchronized (this) {
+            try {
+                while (inFlight.stream().anyMatch(batch -> !batch.done)) {
+                    wait(MEMBER_CHECK_INTERVAL_MILLIS);
+                    checkEndpointAlive();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (IOException e) {
+                log.warn("records in flight of shuffle channel {} may be lost", name, e);
+            }
+            if (!unsent.isEmpty()) {
+                log.warn("{} records of shuffle channel {} were not sent", unsent.size(), name);
+            }
+        }
+        channelRegistry.unregisterWriter(this);
+    }
+
+    private static class InFlightBatch {
+        private final List<Record<?>> records;
+        private boolean done;
+        private boolean notFound;
+        private Throwable error;
+
+        private InFlightBatch(List<Record<?>> records) {
+            this.records = records;
+        }
+
+        private boolean isAccepted() {
+            return done && error == null && !notFound;
+        }
+    }
+}
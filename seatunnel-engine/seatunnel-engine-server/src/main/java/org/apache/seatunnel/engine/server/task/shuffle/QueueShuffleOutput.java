@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.shuffle;
+
+import org.apache.seatunnel.api.table.type.Record;
+
+import com.hazelcast.collection.IQueue;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Queue;
+
+/** Writes shuffle records into a distributed Hazelcast queue. */
+@Slf4j
+@AllArgsConstructor
+public class QueueShuffleOutput implements ShuffleOutput {
+
+    private final IQueue<Record<?>> queue;
+
+    @Override
+    public String getName() {
+        return queue.getName();
+    }
+
+    @Override
+    public void write(Queue<Record<?>> records) {
+        if (queue.remainingCapacity() <= 0 || !queue.addAll(records)) {
+            for (; ; ) {
+                Record<?> record = records.poll();
+                if (record == null) {
+                    break;
+                }
+                try {
+                    queue.put(record);
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        log.info("destroy shuffle queue: {}", queue.getName());
+        queue.destroy();
+    }
+}
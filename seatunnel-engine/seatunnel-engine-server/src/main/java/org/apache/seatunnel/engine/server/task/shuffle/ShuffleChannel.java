@@ -0,0 +1,195 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.shuffle;
+
+import org.apache.seatunnel.api.table.type.Record;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.LongConsumer;
+
+/**
+ * The receiving end of a direct shuffle, owned by the reading task. Each channel has exactly one
+ * writer, which only sends as many records as the credit it was granted, so an accepted batch
+ * always fits into the buffer.
+ *
+ * <p>A remote writer keeps several batches in flight, which may arrive out of order. They are
+ * numbered per writer and appended in sequence. The credit is the total number of records the
+ * writer may have sent, when it is used up the writer is notified once the reader took enough
+ * records to grant new credit. A writer on the same member appends the records directly, it is
+ * notified the same way when it found the buffer full.
+ */
+public class ShuffleChannel {
+
+    @Getter private final String name;
+    private final int capacity;
+    private final BlockingQueue<Record<?>> buffer;
+    @Setter private volatile Runnable dataAvailableListener;
+
+    private final Map<Long, Collection<Record<?>>> outOfOrderBatches = new TreeMap<>();
+    private long writerId;
+    private long nextSequence;
+    private long received;
+    private long taken;
+    private long creditOffset;
+    private LongConsumer creditListener;
+    private Runnable spaceListener;
+
+    public ShuffleChannel(String name, int capacity) {
+        this.name = name;
+        this.capacity = capacity;
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        this.creditOffset = capacity;
+    }
+
+    /**
+     * Appends a batch of a remote writer.
+     *
+     * @param writerId identifies the writer, a new writer starts over with sequence 0.
+     * @param sequence the number of the batch, counted per writer.
+     * @param creditListener called with the new credit if the writer used up its credit, once the
+     *     reader took enough records.
+     * @return the credit granted to the writer, that is the total number of records it may send.
+     */
+    public long offer(
+            long writerId,
+            long sequence,
+            Collection<Record<?>> records,
+            LongConsumer creditListener) {
+        synchronized (this) {
+            if (writerId != this.writerId) {
+                // batches of a previous writer which did not arrive in sequence are dropped
+                this.writerId = writerId;
+                nextSequence = 0;
+                received = 0;
+                outOfOrderBatches.clear();
+                creditOffset = buffer.remainingCapacity() - taken;
+                this.creditListener = null;
+            }
+            received += records.size();
+            if (received > credit()) {
+                throw new IllegalStateException(
+                        "Shuffle channel " + name + " received more records than its credit");
+            }
+            if (sequence != nextSequence) {
+                outOfOrderBatches.put(sequence, records);
+            } else {
+                append(records);
+                Collection<Record<?>> next;
+                while ((next = outOfOrderBatches.remove(nextSequence)) != null) {
+                    append(next);
+                }
+            }
+            if (credit() <= received) {
+                this.creditListener = creditListener;
+            }
+        }
+        notifyDataAvailable();
+        return credit();
+    }
+
+    /**
+     * Appends a record of a writer running on the same member, without waiting for free space.
+     *
+     * @param spaceListener called once the reader took enough records if the buffer is full.
+     * @return false if the buffer is full.
+     */
+    public boolean offer(Record<?> record, Runnable spaceListener) {
+        if (!buffer.offer(record)) {
+            synchronized (this) {
+                this.spaceListener = spaceListener;
+            }
+            // the reader may have taken the records before the listener was set
+            if (!buffer.offer(record)) {
+                return false;
+            }
+        }
+        notifyDataAvailable();
+        return true;
+    }
+
+    public synchronized long credit() {
+        return taken + creditOffset;
+    }
+
+    public int size() {
+        return buffer.size();
+    }
+
+    public Record<?> take() throws InterruptedException {
+        Record<?> record = buffer.take();
+        onTaken(1);
+        return record;
+    }
+
+    public int drainTo(Collection<Record<?>> records, int maxElements) {
+        int drained = buffer.drainTo(records, maxElements);
+        if (drained > 0) {
+            onTaken(drained);
+        }
+        return drained;
+    }
+
+    private void append(Collection<Record<?>> records) {
+        for (Record<?> record : records) {
+            if (!buffer.offer(record)) {
+                throw new IllegalStateException(
+                        "Shuffle channel " + name + " received more records than its credit");
+            }
+        }
+        nextSequence++;
+    }
+
+    private void onTaken(int count) {
+        LongConsumer listener = null;
+        Runnable localListener = null;
+        long credit;
+        synchronized (this) {
+            taken += count;
+            credit = credit();
+            // wait for half of the buffer to be free, so the writer is not woken up per record
+            if (creditListener != null && credit - received >= (capacity + 1) / 2) {
+                listener = creditListener;
+                creditListener = null;
+            }
+            if (spaceListener != null && buffer.remainingCapacity() >= (capacity + 1) / 2) {
+                localListener = spaceListener;
+                spaceListener = null;
+            }
+        }
+        if (listener != null) {
+            listener.accept(credit);
+        }
+        if (localListener != null) {
+            localListener.run();
+        }
+    }
+
+    private void notifyDataAvailable() {
+        Runnable listener = dataAvailableListener;
+        if (listener != null) {
+            listener.run();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.shuffle;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/** The direct shuffle channels whose reading task runs on this member, and their writers. */
+public class ShuffleChannelRegistry {
+
+    private final ConcurrentMap<String, ShuffleChannel> channels = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, DirectShuffleOutput> writers = new ConcurrentHashMap<>();
+
+    /**
+     * Opens the channel. A channel is owned by a single reader, so opening it twice fails instead
+     * of dropping the records buffered for the other reader.
+     */
+    public ShuffleChannel openChannel(String name, int capacity) {
+        ShuffleChannel channel = new ShuffleChannel(name, capacity);
+        if (channels.putIfAbsent(name, channel) != null) {
+            throw new IllegalStateException("Shuffle channel " + name + " is already open");
+        }
+        DirectShuffleOutput writer = writers.get(name);
+        if (writer != null) {
+            // the writer on this member may be waiting for the channel
+            writer.notifyAvailable();
+        }
+        return channel;
+    }
+
+    public ShuffleChannel getChannel(String name) {
+        return channels.get(name);
+    }
+
+    public void closeChannel(ShuffleChannel channel) {
+        channels.remove(channel.getName(), channel);
+    }
+
+    /** Registers the writer of a channel, which receives the credit granted by a remote reader. */
+    public void registerWriter(DirectShuffleOutput writer) {
+        writers.put(writer.getName(), writer);
+    }
+
+    public DirectShuffleOutput getWriter(String name) {
+        return writers.get(name);
+    }
+
+    public void unregisterWriter(DirectShuffleOutput writer) {
+        writers.remove(writer.getName(), writer);
+    }
+}
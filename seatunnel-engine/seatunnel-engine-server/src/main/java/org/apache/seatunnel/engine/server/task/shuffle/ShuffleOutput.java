@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.shuffle;
+
+import org.apache.seatunnel.api.table.type.Record;
+
+import java.io.IOException;
+import java.util.Queue;
+
+/** The writing end of a shuffle. */
+public interface ShuffleOutput {
+
+    String getName();
+
+    /**
+     * Sends the records in order. The records the reader has no room for are left in the queue if
+     * the output can notify the writer once there is room, otherwise it blocks.
+     */
+    void write(Queue<Record<?>> records) throws IOException;
+
+    /**
+     * Registers a callback which is invoked when the reader may have room for the records left by
+     * {@link #write(Queue)}. Outputs which block until all records are written ignore it.
+     */
+    default void setAvailableListener(Runnable listener) {}
+
+    /** Whether records taken by {@link #write(Queue)} still wait to be sent. */
+    default boolean hasPendingRecords() {
+        return false;
+    }
+
+    void close();
+}
@@ -17,6 +17,7 @@
 
 package org.apache.seatunnel.engine.server.telemetry.metrics;
 
+import org.apache.seatunnel.engine.server.telemetry.metrics.exports.CheckpointMetricExports;
 import org.apache.seatunnel.engine.server.telemetry.metrics.exports.ClusterMetricExports;
 import org.apache.seatunnel.engine.server.telemetry.metrics.exports.JobMetricExports;
 import org.apache.seatunnel.engine.server.telemetry.metrics.exports.JobThreadPoolStatusExports;
@@ -41,6 +42,8 @@ public final class ExportsInstanceInitializer {
             CollectorRegistry collectorRegistry = CollectorRegistry.defaultRegistry;
             // Job info detail
             new JobMetricExports(node).register(collectorRegistry);
+            // Checkpoint persist latency
+            new CheckpointMetricExports(node).register(collectorRegistry);
             // Thread pool status
             new JobThreadPoolStatusExports(node).register(collectorRegistry);
             // Node metrics
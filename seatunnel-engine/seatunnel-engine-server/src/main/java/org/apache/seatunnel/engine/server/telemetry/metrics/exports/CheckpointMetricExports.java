@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.telemetry.metrics.exports;
+
+import org.apache.seatunnel.engine.server.checkpoint.CheckpointPersistMetrics;
+import org.apache.seatunnel.engine.server.telemetry.metrics.AbstractCollector;
+
+import com.hazelcast.instance.impl.Node;
+import io.prometheus.client.GaugeMetricFamily;
+import io.prometheus.client.SummaryMetricFamily;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+public class CheckpointMetricExports extends AbstractCollector {
+
+    public CheckpointMetricExports(Node node) {
+        super(node);
+    }
+
+    @Override
+    public List<MetricFamilySamples> collect() {
+        List<MetricFamilySamples> mfs = new ArrayList();
+        // Only the master coordinates checkpoints
+        if (isMaster()) {
+            Map<Long, Map<Integer, CheckpointPersistMetrics>> persistMetrics =
+                    getCoordinatorService().getCheckpointPersistMetrics();
+
+            SummaryMetricFamily persistSeconds =
+                    new SummaryMetricFamily(
+                            "checkpoint_persist_seconds",
+                            "Time spent persisting the completed checkpoints of a pipeline in seconds",
+                            clusterLabelNames("job_id", "pipeline_id", "phase"));
+            GaugeMetricFamily inFlight =
+                    new GaugeMetricFamily(
+                            "checkpoint_persist_in_flight",
+                            "The completed checkpoints of a pipeline which are not persisted yet",
+                            clusterLabelNames("job_id", "pipeline_id"));
+
+            persistMetrics.forEach(
+                    (jobId, pipelines) ->
+                            pipelines.forEach(
+                                    (pipelineId, metrics) -> {
+                                        String job = String.valueOf(jobId);
+                                        String pipeline = String.valueOf(pipelineId);
+                                        for (CheckpointPersistMetrics.Phase phase :
+                                                CheckpointPersistMetrics.Phase.values()) {
+                                            persistSeconds.addMetric(
+                                                    labelValues(
+                                                            job,
+                                                            pipeline,
+                                                            phase.name().toLowerCase(Locale.ROOT)),
+                                                    metrics.getCount(phase),
+                                                    metrics.getTotalNanos(phase)
+                                                            / (double) TimeUnit.SECONDS.toNanos(1));
+                                        }
+                                        inFlight.addMetric(
+                                                labelValues(job, pipeline), metrics.getInFlight());
+                                    }));
+
+            mfs.add(persistSeconds);
+            mfs.add(inFlight);
+        }
+        return mfs;
+    }
+}
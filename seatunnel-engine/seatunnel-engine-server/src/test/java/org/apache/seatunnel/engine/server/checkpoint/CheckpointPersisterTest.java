@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.checkpoint;
+
+import org.apache.seatunnel.engine.checkpoint.storage.PipelineState;
+import org.apache.seatunnel.engine.checkpoint.storage.api.CheckpointStorage;
+import org.apache.seatunnel.engine.checkpoint.storage.exception.CheckpointStorageException;
+import org.apache.seatunnel.engine.core.checkpoint.CheckpointType;
+import org.apache.seatunnel.engine.serializer.protobuf.ProtoStuffSerializer;
+import org.apache.seatunnel.engine.server.checkpoint.CheckpointPersistMetrics.Phase;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+public class CheckpointPersisterTest {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    public void after() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testCompleteInCheckpointOrder() throws Exception {
+        CountDownLatch releaseFirstUpload = new CountDownLatch(1);
+        CheckpointStorage storage = Mockito.mock(CheckpointStorage.class);
+        Mockito.when(storage.storeCheckPoint(Mockito.any()))
+                .thenAnswer(
+                        invocation -> {
+                            PipelineState state = invocation.getArgument(0);
+                            if (state.getCheckpointId() == 1) {
+                                releaseFirstUpload.await();
+                            }
+                            return String.valueOf(state.getCheckpointId());
+                        });
+        CheckpointPersister persister = createPersister(storage, 2);
+        List<Long> persisted = new CopyOnWriteArrayList<>();
+
+        CompletableFuture<Void> first =
+                persister.persist(checkpoint(1), cp -> persisted.add(cp.getCheckpointId()));
+        Assertions.assertTrue(persister.hasCapacity());
+        CompletableFuture<Void> second =
+                persister.persist(checkpoint(2), cp -> persisted.add(cp.getCheckpointId()));
+        Assertions.assertFalse(persister.hasCapacity());
+        Assertions.assertEquals(2, persister.getMetrics().getInFlight());
+
+        // the second upload finishes first, but is only reported after the first one
+        Mockito.verify(storage, Mockito.timeout(5000))
+                .storeCheckPoint(Mockito.argThat(state -> state.getCheckpointId() == 2));
+        Thread.sleep(100);
+        Assertions.assertTrue(persisted.isEmpty());
+        Assertions.assertFalse(second.isDone());
+
+        releaseFirstUpload.countDown();
+        CompletableFuture.allOf(first, second).get(5, TimeUnit.SECONDS);
+        Assertions.assertEquals(Arrays.asList(1L, 2L), persisted);
+        Assertions.assertEquals(0, persister.getMetrics().getInFlight());
+        Assertions.assertTrue(persister.hasCapacity());
+        Assertions.assertEquals(2, persister.getMetrics().getCount(Phase.SERIALIZE));
+        Assertions.assertEquals(2, persister.getMetrics().getCount(Phase.UPLOAD));
+    }
+
+    @Test
+    public void testFailureFailsFollowingCheckpoints() throws Exception {
+        CheckpointStorage storage = Mockito.mock(CheckpointStorage.class);
+        Mockito.when(storage.storeCheckPoint(Mockito.any()))
+                .thenThrow(new CheckpointStorageException("storage is not available"))
+                .thenReturn("2");
+        CheckpointPersister persister = createPersister(storage, 2);
+        List<Long> persisted = new CopyOnWriteArrayList<>();
+
+        CompletableFuture<Void> first =
+                persister.persist(checkpoint(1), cp -> persisted.add(cp.getCheckpointId()));
+        CompletableFuture<Void> second =
+                persister.persist(checkpoint(2), cp -> persisted.add(cp.getCheckpointId()));
+
+        Assertions.assertThrows(ExecutionException.class, () -> first.get(5, TimeUnit.SECONDS));
+        Assertions.assertThrows(ExecutionException.class, () -> second.get(5, TimeUnit.SECONDS));
+        Assertions.assertTrue(persisted.isEmpty());
+        Assertions.assertEquals(0, persister.getMetrics().getInFlight());
+    }
+
+    @Test
+    public void testDeleteDoesNotWaitForRunningUploads() throws Exception {
+        CountDownLatch uploadStarted = new CountDownLatch(1);
+        CountDownLatch releaseUpload = new CountDownLatch(1);
+        CheckpointStorage storage = Mockito.mock(CheckpointStorage.class);
+        Mockito.when(storage.storeCheckPoint(Mockito.any()))
+                .thenAnswer(
+                        invocation -> {
+                            uploadStarted.countDown();
+                            releaseUpload.await();
+                            return "1";
+                        });
+        CheckpointPersister persister = createPersister(storage, 2);
+
+        CompletableFuture<Void> upload = persister.persist(checkpoint(1), cp -> {});
+        Assertions.assertTrue(uploadStarted.await(5, TimeUnit.SECONDS));
+        // the storage keeps the chunks of running uploads, so deleting must not wait for them
+        persister.delete("1", "1", Collections.singletonList("0")).get(5, TimeUnit.SECONDS);
+        Mockito.verify(storage).deleteCheckpoint("1", "1", Collections.singletonList("0"));
+        Assertions.assertEquals(1, persister.getMetrics().getCount(Phase.DELETE));
+        Assertions.assertFalse(upload.isDone());
+
+        releaseUpload.countDown();
+        upload.get(5, TimeUnit.SECONDS);
+    }
+
+    private CheckpointPersister createPersister(CheckpointStorage storage, int maxConcurrent) {
+        return new CheckpointPersister(
+                storage, new ProtoStuffSerializer(), executor, maxConcurrent);
+    }
+
+    private static CompletedCheckpoint checkpoint(long checkpointId) {
+        return new CompletedCheckpoint(
+                1L,
+                1,
+                checkpointId,
+                System.currentTimeMillis(),
+                CheckpointType.CHECKPOINT_TYPE,
+                System.currentTimeMillis(),
+                new HashMap<>(),
+                new HashMap<>());
+    }
+}
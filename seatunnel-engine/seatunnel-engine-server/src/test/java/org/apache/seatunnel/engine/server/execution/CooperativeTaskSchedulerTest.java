@@ -0,0 +1,300 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.execution;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import lombok.NonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.awaitility.Awaitility.await;
+
+public class CooperativeTaskSchedulerTest {
+
+    private final Set<String> workerThreads = ConcurrentHashMap.newKeySet();
+    private final CountDownLatch doneLatch = new CountDownLatch(1);
+    private CooperativeTaskScheduler scheduler;
+
+    @AfterEach
+    public void after() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    public void testRunTasksOnFixedWorkers() throws InterruptedException {
+        scheduler = createScheduler(2, 10_000);
+        int taskCount = 20;
+        CountDownLatch finished = new CountDownLatch(taskCount);
+        List<AtomicInteger> calls = new ArrayList<>();
+        for (int i = 0; i < taskCount; i++) {
+            AtomicInteger count = new AtomicInteger();
+            calls.add(count);
+            scheduler.submit(
+                    new TaskTracker(
+                            new TestCallTask(
+                                    i,
+                                    () -> {
+                                        if (count.incrementAndGet() < 100) {
+                                            return ProgressState.MADE_PROGRESS;
+                                        }
+                                        finished.countDown();
+                                        return ProgressState.DONE;
+                                    }),
+                            null));
+        }
+
+        Assertions.assertTrue(finished.await(10, TimeUnit.SECONDS));
+        calls.forEach(count -> Assertions.assertEquals(100, count.get()));
+        Assertions.assertTrue(workerThreads.size() <= 2, workerThreads::toString);
+        Assertions.assertEquals(0, scheduler.getDedicatedWorkerCount());
+    }
+
+    @Test
+    public void testParkTimeOfIdleTaskGrows() throws InterruptedException {
+        scheduler = createScheduler(1, 10_000);
+        int idleCalls = 5;
+        CountDownLatch idleLatch = new CountDownLatch(idleCalls);
+        TaskTracker tracker =
+                new TaskTracker(
+                        new TestCallTask(
+                                1,
+                                () -> {
+                                    idleLatch.countDown();
+                                    return ProgressState.NO_PROGRESS;
+                                }),
+                        null);
+        scheduler.submit(tracker);
+
+        Assertions.assertTrue(idleLatch.await(10, TimeUnit.SECONDS));
+        // the park time doubled after each of the previous idle calls
+        long minParkNanos = CooperativeTaskScheduler.MIN_PARK_NANOS << (idleCalls - 1);
+        Assertions.assertTrue(
+                tracker.parkNanos >= minParkNanos, "park time " + tracker.parkNanos + "ns");
+    }
+
+    @Test
+    public void testIdleTaskIsParkedUntilWokenUp() throws InterruptedException {
+        // the park time never elapses, so only the wake up resumes the task
+        long parkNanos = TimeUnit.HOURS.toNanos(1);
+        scheduler = createScheduler(1, 10_000, parkNanos, parkNanos);
+        AtomicInteger calls = new AtomicInteger();
+        AtomicInteger inputs = new AtomicInteger();
+        TaskTracker tracker =
+                new TaskTracker(
+                        new TestCallTask(
+                                1,
+                                () -> {
+                                    calls.incrementAndGet();
+                                    if (inputs.get() == 0) {
+                                        return ProgressState.NO_PROGRESS;
+                                    }
+                                    doneLatch.countDown();
+                                    return ProgressState.DONE;
+                                }),
+                        null);
+        scheduler.submit(tracker);
+
+        await().atMost(10, TimeUnit.SECONDS).until(() -> tracker.state.get() == TaskTracker.PARKED);
+        Assertions.assertEquals(1, calls.get());
+
+        inputs.incrementAndGet();
+        tracker.wakeUp();
+        Assertions.assertNotEquals(TaskTracker.PARKED, tracker.state.get());
+        Assertions.assertTrue(doneLatch.await(10, TimeUnit.SECONDS));
+        Assertions.assertEquals(2, calls.get());
+    }
+
+    @Test
+    public void testSlowCallGetsDedicatedWorker() throws InterruptedException {
+        scheduler = createScheduler(1, 100);
+        CountDownLatch releaseSlowTask = new CountDownLatch(1);
+        CountDownLatch slowTaskDone = new CountDownLatch(1);
+        scheduler.submit(
+                new TaskTracker(
+                        new TestCallTask(
+                                1,
+                                () -> {
+                                    try {
+                                        releaseSlowTask.await();
+                                    } catch (InterruptedException e) {
+                                        throw new RuntimeException(e);
+                                    }
+                                    slowTaskDone.countDown();
+                                    return ProgressState.DONE;
+                                }),
+                        null));
+        scheduler.submit(
+                new TaskTracker(
+                        new TestCallTask(
+                                2,
+                                () -> {
+                                    doneLatch.countDown();
+                                    return ProgressState.DONE;
+                                }),
+                        null));
+
+        // the other task runs on a new worker while the slow call blocks the first one
+        Assertions.assertTrue(doneLatch.await(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(1, scheduler.getDedicatedWorkerCount());
+        Assertions.assertEquals(2, workerThreads.size());
+
+        releaseSlowTask.countDown();
+        Assertions.assertTrue(slowTaskDone.await(5, TimeUnit.SECONDS));
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (scheduler.getDedicatedWorkerCount() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Assertions.assertEquals(0, scheduler.getDedicatedWorkerCount());
+    }
+
+    @Test
+    public void testDedicatedWorkersAreCapped() throws InterruptedException {
+        scheduler = createScheduler(2, 50, 1);
+        CountDownLatch releaseSlowTasks = new CountDownLatch(1);
+        CountDownLatch slowTasksStarted = new CountDownLatch(2);
+        for (int i = 0; i < 2; i++) {
+            scheduler.submit(
+                    new TaskTracker(
+                            new TestCallTask(
+                                    i,
+                                    () -> {
+                                        slowTasksStarted.countDown();
+                                        try {
+                                            releaseSlowTasks.await();
+                                        } catch (InterruptedException e) {
+                                            throw new RuntimeException(e);
+                                        }
+                                        return ProgressState.DONE;
+                                    }),
+                            null));
+        }
+        Assertions.assertTrue(slowTasksStarted.await(5, TimeUnit.SECONDS));
+        scheduler.submit(
+                new TaskTracker(
+                        new TestCallTask(
+                                2,
+                                () -> {
+                                    doneLatch.countDown();
+                                    return ProgressState.DONE;
+                                }),
+                        null));
+
+        // only one of the blocked workers is replaced, the other one keeps its thread
+        Assertions.assertTrue(doneLatch.await(5, TimeUnit.SECONDS));
+        Thread.sleep(200);
+        Assertions.assertEquals(1, scheduler.getDedicatedWorkerCount());
+        Assertions.assertEquals(3, workerThreads.size());
+        releaseSlowTasks.countDown();
+    }
+
+    @Test
+    public void testAccountCpuTimeOfCalls() throws Exception {
+        TaskTracker tracker =
+                new TaskTracker(
+                        new TestCallTask(
+                                1,
+                                () -> {
+                                    long end =
+                                            System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(50);
+                                    long spins = 0;
+                                    while (System.nanoTime() < end) {
+                                        spins++;
+                                    }
+                                    return spins > 0
+                                            ? ProgressState.DONE
+                                            : ProgressState.WAS_ALREADY_DONE;
+                                }),
+                        null);
+        Assertions.assertEquals(0, tracker.getCpuTimeNanos());
+        tracker.call(tt -> tt.task.call());
+        Assertions.assertTrue(
+                tracker.getCpuTimeNanos() >= TimeUnit.MILLISECONDS.toNanos(10),
+                "cpu time " + tracker.getCpuTimeNanos());
+    }
+
+    private CooperativeTaskScheduler createScheduler(int workerCount, long slowCallThreshold) {
+        return createScheduler(workerCount, slowCallThreshold, workerCount);
+    }
+
+    private CooperativeTaskScheduler createScheduler(
+            int workerCount, long slowCallThreshold, int maxDedicatedWorkers) {
+        return createScheduler(
+                workerCount,
+                slowCallThreshold,
+                maxDedicatedWorkers,
+                CooperativeTaskScheduler.MIN_PARK_NANOS,
+                CooperativeTaskScheduler.MAX_PARK_NANOS);
+    }
+
+    private CooperativeTaskScheduler createScheduler(
+            int workerCount, long slowCallThreshold, long minParkNanos, long maxParkNanos) {
+        return createScheduler(
+                workerCount, slowCallThreshold, workerCount, minParkNanos, maxParkNanos);
+    }
+
+    private CooperativeTaskScheduler createScheduler(
+            int workerCount,
+            long slowCallThreshold,
+            int maxDedicatedWorkers,
+            long minParkNanos,
+            long maxParkNanos) {
+        return new CooperativeTaskScheduler(
+                "test-cooperative",
+                workerCount,
+                slowCallThreshold,
+                maxDedicatedWorkers,
+                minParkNanos,
+                maxParkNanos,
+                tracker -> {
+                    workerThreads.add(Thread.currentThread().getName());
+                    return tracker.task.call();
+                });
+    }
+
+    private static class TestCallTask implements Task {
+        private final long taskId;
+        private final Supplier<ProgressState> call;
+
+        private TestCallTask(long taskId, Supplier<ProgressState> call) {
+            this.taskId = taskId;
+            this.call = call;
+        }
+
+        @NonNull @Override
+        public ProgressState call() {
+            return call.get();
+        }
+
+        @NonNull @Override
+        public Long getTaskID() {
+            return taskId;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.metrics;
+
+import org.apache.seatunnel.api.common.metrics.BytesMetricsMode;
+import org.apache.seatunnel.api.common.metrics.Counter;
+import org.apache.seatunnel.api.common.metrics.RowMetrics;
+import org.apache.seatunnel.api.common.metrics.StripedCounter;
+import org.apache.seatunnel.api.table.catalog.TablePath;
+import org.apache.seatunnel.api.table.type.ColumnarBatch;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.common.constants.PluginType;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.apache.seatunnel.api.common.metrics.MetricNames.SINK_WRITE_BYTES;
+import static org.apache.seatunnel.api.common.metrics.MetricNames.SINK_WRITE_COUNT;
+import static org.apache.seatunnel.api.common.metrics.MetricNames.SINK_WRITE_QPS;
+import static org.apache.seatunnel.api.common.metrics.MetricNames.SOURCE_RECEIVED_BYTES;
+import static org.apache.seatunnel.api.common.metrics.MetricNames.SOURCE_RECEIVED_COUNT;
+
+public class TaskMetricsCalcContextTest {
+
+    @Test
+    public void testMetricsPerTable() {
+        SeaTunnelMetricsContext metricsContext = new SeaTunnelMetricsContext();
+        TaskMetricsCalcContext context =
+                new TaskMetricsCalcContext(
+                        metricsContext,
+                        PluginType.SINK,
+                        true,
+                        Arrays.asList(TablePath.of("db.t1"), TablePath.of("db.t2")));
+        for (int i = 0; i < 10; i++) {
+            context.updateMetrics(row("db.t1", "abcd"));
+        }
+        context.updateMetrics(row("db.t3", "ab"));
+        context.updateMetrics(row("", "ab"));
+        context.updateMetrics("not a row");
+
+        Assertions.assertEquals(13, count(metricsContext, SINK_WRITE_COUNT));
+        Assertions.assertEquals(44, count(metricsContext, SINK_WRITE_BYTES));
+        Assertions.assertEquals(10, count(metricsContext, SINK_WRITE_COUNT + "#db.t1"));
+        Assertions.assertEquals(40, count(metricsContext, SINK_WRITE_BYTES + "#db.t1"));
+        Assertions.assertEquals(0, count(metricsContext, SINK_WRITE_COUNT + "#db.t2"));
+        Assertions.assertEquals(1, count(metricsContext, SINK_WRITE_COUNT + "#db.t3"));
+        Assertions.assertEquals(10, metricsContext.meter(SINK_WRITE_QPS + "#db.t1").getCount());
+        Assertions.assertTrue(
+                metricsContext.counter(SINK_WRITE_COUNT + "#db.t1") instanceof StripedCounter);
+    }
+
+    @Test
+    public void testBytesMetricsMode() {
+        SeaTunnelMetricsContext sampled = new SeaTunnelMetricsContext();
+        sampled.setBytesMetricsMode(BytesMetricsMode.SAMPLED);
+        SeaTunnelMetricsContext off = new SeaTunnelMetricsContext();
+        off.setBytesMetricsMode(BytesMetricsMode.OFF);
+        TaskMetricsCalcContext sampledContext =
+                new TaskMetricsCalcContext(
+                        sampled, PluginType.SOURCE, false, Collections.emptyList());
+        TaskMetricsCalcContext offContext =
+                new TaskMetricsCalcContext(off, PluginType.SOURCE, false, Collections.emptyList());
+        Assertions.assertFalse(sampledContext.isExactBytesSize());
+
+        int rows = RowMetrics.BYTES_SAMPLE_INTERVAL * 4;
+        for (int i = 0; i < rows; i++) {
+            sampledContext.updateMetrics(row(null, "abcd"));
+            offContext.updateMetrics(row(null, "abcd"));
+        }
+
+        Assertions.assertEquals(rows, count(sampled, SOURCE_RECEIVED_COUNT));
+        Assertions.assertEquals(rows * 4L, count(sampled, SOURCE_RECEIVED_BYTES));
+        Assertions.assertEquals(rows, count(off, SOURCE_RECEIVED_COUNT));
+        Assertions.assertEquals(0, count(off, SOURCE_RECEIVED_BYTES));
+    }
+
+    @Test
+    public void testColumnarBatchMetrics() {
+        SeaTunnelMetricsContext metricsContext = new SeaTunnelMetricsContext();
+        TaskMetricsCalcContext context =
+                new TaskMetricsCalcContext(
+                        metricsContext,
+                        PluginType.SOURCE,
+                        true,
+                        Collections.singletonList(TablePath.of("db.t1")));
+        context.updateMetrics(batch("db.t1", "abcd", "ab", null));
+        context.updateMetrics(row("db.t1", "abc"));
+
+        Assertions.assertEquals(4, count(metricsContext, SOURCE_RECEIVED_COUNT));
+        Assertions.assertEquals(9, count(metricsContext, SOURCE_RECEIVED_BYTES));
+        Assertions.assertEquals(4, count(metricsContext, SOURCE_RECEIVED_COUNT + "#db.t1"));
+    }
+
+    private static long count(SeaTunnelMetricsContext metricsContext, String name) {
+        return ((Counter) metricsContext.counter(name)).getCount();
+    }
+
+    private static ColumnarBatch batch(String tableId, String... values) {
+        return new ColumnarBatch() {
+            @Override
+            public String getTableId() {
+                return tableId;
+            }
+
+            @Override
+            public int getRowCount() {
+                return values.length;
+            }
+
+            @Override
+            public int getColumnCount() {
+                return 1;
+            }
+
+            @Override
+            public boolean isNullAt(int column, int row) {
+                return values[row] == null;
+            }
+
+            @Override
+            public Object getValue(int column, int row) {
+                return values[row];
+            }
+        };
+    }
+
+    private static SeaTunnelRow row(String tableId, String value) {
+        SeaTunnelRow row = new SeaTunnelRow(new Object[] {value});
+        row.setTableId(tableId);
+        return row;
+    }
+}
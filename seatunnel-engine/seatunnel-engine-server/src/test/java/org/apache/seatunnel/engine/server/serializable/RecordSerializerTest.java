@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.serializable;
+
+import org.apache.seatunnel.api.table.type.ArrayType;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.LocalTimeType;
+import org.apache.seatunnel.api.table.type.PrimitiveByteArrayType;
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.RowKind;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.hazelcast.config.SerializationConfig;
+import com.hazelcast.config.SerializerConfig;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.nio.serialization.HazelcastSerializationException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+@Slf4j
+public class RecordSerializerTest {
+
+    private static final String TABLE_ID = "fake.test.orders";
+
+    private static final SeaTunnelRowType ROW_TYPE =
+            new SeaTunnelRowType(
+                    new String[] {
+                        "id", "name", "flag", "tiny", "small", "amount", "ratio", "price", "score",
+                        "payload", "day", "time", "ts", "tags"
+                    },
+                    new SeaTunnelDataType[] {
+                        BasicType.LONG_TYPE,
+                        BasicType.STRING_TYPE,
+                        BasicType.BOOLEAN_TYPE,
+                        BasicType.BYTE_TYPE,
+                        BasicType.SHORT_TYPE,
+                        BasicType.INT_TYPE,
+                        BasicType.FLOAT_TYPE,
+                        new DecimalType(20, 4),
+                        BasicType.DOUBLE_TYPE,
+                        PrimitiveByteArrayType.INSTANCE,
+                        LocalTimeType.LOCAL_DATE_TYPE,
+                        LocalTimeType.LOCAL_TIME_TYPE,
+                        LocalTimeType.LOCAL_DATE_TIME_TYPE,
+                        ArrayType.STRING_ARRAY_TYPE
+                    });
+
+    private SerializationService serializationService;
+
+    @BeforeEach
+    public void setUp() {
+        SerializationConfig serializationConfig = new SerializationConfig();
+        serializationConfig.addSerializerConfig(
+                new SerializerConfig()
+                        .setTypeClass(Record.class)
+                        .setImplementation(new RecordSerializer()));
+        serializationService =
+                new DefaultSerializationServiceBuilder().setConfig(serializationConfig).build();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        SeaTunnelRowCodecRegistry.getInstance().release(TABLE_ID, ROW_TYPE);
+    }
+
+    @Test
+    public void testGenericFormatRoundTrip() {
+        SeaTunnelRow row = createRow(1);
+        Record<?> result =
+                serializationService.toObject(serializationService.toData(new Record<>(row)));
+        Assertions.assertEquals(row, result.getData());
+    }
+
+    @Test
+    public void testSchemaFormatRoundTrip() {
+        SeaTunnelRowCodecRegistry.getInstance().register(TABLE_ID, ROW_TYPE);
+
+        SeaTunnelRow row = createRow(1);
+        Data data = serializationService.toData(new Record<>(row));
+        Record<?> result = serializationService.toObject(data);
+        Assertions.assertEquals(row, result.getData());
+
+        SeaTunnelRow nullRow = new SeaTunnelRow(ROW_TYPE.getTotalFields());
+        nullRow.setTableId(TABLE_ID);
+        nullRow.setRowKind(RowKind.DELETE);
+        result = serializationService.toObject(serializationService.toData(new Record<>(nullRow)));
+        Assertions.assertEquals(nullRow, result.getData());
+    }
+
+    @Test
+    public void testSchemaFormatIsSmaller() {
+        SeaTunnelRow row = createRow(1);
+        int genericSize = serializationService.toData(new Record<>(row)).totalSize();
+        SeaTunnelRowCodecRegistry.getInstance().register(TABLE_ID, ROW_TYPE);
+        int schemaSize = serializationService.toData(new Record<>(row)).totalSize();
+        log.info("Bytes per row, generic format: {}, schema format: {}", genericSize, schemaSize);
+        Assertions.assertTrue(schemaSize < genericSize);
+    }
+
+    @Test
+    public void testFallbackForMismatchedRow() {
+        SeaTunnelRowCodecRegistry.getInstance().register(TABLE_ID, ROW_TYPE);
+
+        SeaTunnelRow row = createRow(1);
+        row.setField(0, "not a long");
+        Record<?> result =
+                serializationService.toObject(serializationService.toData(new Record<>(row)));
+        Assertions.assertEquals(row, result.getData());
+
+        SeaTunnelRow shorterRow = new SeaTunnelRow(new Object[] {1L, "a"});
+        shorterRow.setTableId(TABLE_ID);
+        result =
+                serializationService.toObject(
+                        serializationService.toData(new Record<>(shorterRow)));
+        Assertions.assertEquals(shorterRow, result.getData());
+    }
+
+    @Test
+    public void testUnknownSchemaIdNamesTable() {
+        SeaTunnelRowCodecRegistry.getInstance().register(TABLE_ID, ROW_TYPE);
+        Data data = serializationService.toData(new Record<>(createRow(1)));
+        SeaTunnelRowCodecRegistry.getInstance().release(TABLE_ID, ROW_TYPE);
+
+        HazelcastSerializationException exception =
+                Assertions.assertThrows(
+                        HazelcastSerializationException.class,
+                        () -> serializationService.toObject(data));
+        Assertions.assertTrue(
+                exception.getCause().getMessage().contains("table " + TABLE_ID),
+                exception.getCause().getMessage());
+    }
+
+    private static SeaTunnelRow createRow(int index) {
+        SeaTunnelRow row =
+                new SeaTunnelRow(
+                        new Object[] {
+                            (long) index,
+                            "name_" + index,
+                            index % 2 == 0,
+                            (byte) index,
+                            (short) index,
+                            index,
+                            index * 0.5f,
+                            new BigDecimal("12345.6789"),
+                            index * 0.25d,
+                            new byte[] {1, 2, 3},
+                            LocalDate.of(2024, 1, 1).plusDays(index % 365),
+                            LocalTime.of(12, 30, 15, 123_000_000),
+                            LocalDateTime.of(2024, 1, 1, 0, 0).plusSeconds(index),
+                            index % 3 == 0 ? null : new String[] {"a", "b"}
+                        });
+        row.setTableId(TABLE_ID);
+        row.setRowKind(RowKind.UPDATE_AFTER);
+        return row;
+    }
+}
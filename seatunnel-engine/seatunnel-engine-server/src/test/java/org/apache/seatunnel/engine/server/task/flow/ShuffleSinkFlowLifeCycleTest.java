@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.flow;
+
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.engine.common.config.server.ShuffleMode;
+import org.apache.seatunnel.engine.core.checkpoint.CheckpointType;
+import org.apache.seatunnel.engine.core.dag.actions.ShuffleAction;
+import org.apache.seatunnel.engine.core.dag.actions.ShuffleConfig;
+import org.apache.seatunnel.engine.core.dag.actions.ShufflePartitionStrategy;
+import org.apache.seatunnel.engine.server.AbstractSeaTunnelServerTest;
+import org.apache.seatunnel.engine.server.checkpoint.CheckpointBarrier;
+import org.apache.seatunnel.engine.server.execution.TaskExecutionContext;
+import org.apache.seatunnel.engine.server.execution.TaskGroupLocation;
+import org.apache.seatunnel.engine.server.execution.TaskLocation;
+import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
+import org.apache.seatunnel.engine.server.task.shuffle.DirectShuffleInput;
+import org.apache.seatunnel.engine.server.task.shuffle.ShuffleInput;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.hazelcast.spi.impl.NodeEngineImpl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+public class ShuffleSinkFlowLifeCycleTest
+        extends AbstractSeaTunnelServerTest<ShuffleSinkFlowLifeCycleTest> {
+
+    @Test
+    public void testKeepRecordsTheReaderHasNoRoomFor() throws Exception {
+        ShufflePartitionStrategy shuffleStrategy =
+                ShufflePartitionStrategy.builder()
+                        .jobId(1L)
+                        .inputPartitions(1)
+                        .targetPartitions(1)
+                        .build();
+        ShuffleAction shuffleAction =
+                new ShuffleAction(
+                        1L,
+                        "Shuffle [test]",
+                        ShuffleConfig.builder()
+                                .shuffleStrategy(shuffleStrategy)
+                                .shuffleMode(ShuffleMode.DIRECT)
+                                .batchSize(2)
+                                .build());
+        ShuffleInput input =
+                new DirectShuffleInput(
+                        shuffleStrategy.getShuffleNames(1, 0)[0],
+                        2,
+                        server.getTaskExecutionService().getShuffleChannelRegistry(),
+                        instance);
+        SeaTunnelTask task = mockTask();
+        ShuffleSinkFlowLifeCycle shuffleSink =
+                new ShuffleSinkFlowLifeCycle(
+                        task, 0, shuffleAction, instance, new CompletableFuture<>());
+
+        // the second batch does not fit into the channel, it is kept instead of waiting
+        for (int i = 1; i <= 4; i++) {
+            shuffleSink.received(row(i));
+        }
+        Assertions.assertTrue(shuffleSink.isBlocked());
+        Assertions.assertTrue(shuffleSink.flushBlocked());
+        Mockito.verify(task, Mockito.never()).wakeUp();
+
+        List<Record<?>> received = new ArrayList<>();
+        Assertions.assertEquals(2, input.drainTo(received, 2));
+        Mockito.verify(task).wakeUp();
+        Assertions.assertFalse(shuffleSink.flushBlocked());
+        Assertions.assertFalse(shuffleSink.isBlocked());
+
+        // the barrier waits behind the records
+        CheckpointBarrier barrier =
+                new CheckpointBarrier(
+                        1, System.currentTimeMillis(), CheckpointType.CHECKPOINT_TYPE);
+        shuffleSink.received(new Record<>(barrier));
+        Mockito.verify(task).ack(barrier);
+        Assertions.assertTrue(shuffleSink.isBlocked());
+        Assertions.assertEquals(2, input.drainTo(received, 2));
+        Assertions.assertFalse(shuffleSink.flushBlocked());
+        Assertions.assertEquals(1, input.drainTo(received, 2));
+
+        Assertions.assertEquals(
+                Arrays.asList(1, 2, 3, 4, barrier),
+                received.stream()
+                        .map(Record::getData)
+                        .map(
+                                data ->
+                                        data instanceof SeaTunnelRow
+                                                ? ((SeaTunnelRow) data).getField(0)
+                                                : data)
+                        .collect(Collectors.toList()));
+        shuffleSink.close();
+        input.close();
+    }
+
+    private SeaTunnelTask mockTask() {
+        SeaTunnelTask task = Mockito.mock(SeaTunnelTask.class);
+        Mockito.when(task.getTaskLocation())
+                .thenReturn(new TaskLocation(new TaskGroupLocation(1L, 1, 1), 1, 0));
+        Mockito.when(task.getExecutionContext())
+                .thenReturn(
+                        new TaskExecutionContext(
+                                null,
+                                (NodeEngineImpl) nodeEngine,
+                                server.getTaskExecutionService()));
+        return task;
+    }
+
+    private static Record<?> row(int value) {
+        return new Record<>(new SeaTunnelRow(new Object[] {value}));
+    }
+}
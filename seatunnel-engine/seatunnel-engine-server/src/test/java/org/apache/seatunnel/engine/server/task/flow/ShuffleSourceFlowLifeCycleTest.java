@@ -0,0 +1,244 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.flow;
+
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.transform.Collector;
+import org.apache.seatunnel.engine.common.config.server.ShuffleMode;
+import org.apache.seatunnel.engine.core.checkpoint.CheckpointType;
+import org.apache.seatunnel.engine.core.dag.actions.ShuffleAction;
+import org.apache.seatunnel.engine.core.dag.actions.ShuffleConfig;
+import org.apache.seatunnel.engine.core.dag.actions.ShuffleMultipleRowStrategy;
+import org.apache.seatunnel.engine.server.AbstractSeaTunnelServerTest;
+import org.apache.seatunnel.engine.server.checkpoint.ActionStateKey;
+import org.apache.seatunnel.engine.server.checkpoint.ActionSubtaskState;
+import org.apache.seatunnel.engine.server.checkpoint.CheckpointBarrier;
+import org.apache.seatunnel.engine.server.execution.TaskExecutionContext;
+import org.apache.seatunnel.engine.server.execution.TaskGroupLocation;
+import org.apache.seatunnel.engine.server.execution.TaskLocation;
+import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
+import org.apache.seatunnel.engine.server.task.shuffle.ShuffleChannelRegistry;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import com.hazelcast.spi.impl.NodeEngineImpl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+public class ShuffleSourceFlowLifeCycleTest
+        extends AbstractSeaTunnelServerTest<ShuffleSourceFlowLifeCycleTest> {
+
+    private static final String TABLE_ID = "db.t";
+
+    @Test
+    public void testUnalignedBarrierOvertakesBufferedRecords() throws Exception {
+        ShuffleAction shuffleAction = createShuffleAction(1L, true);
+        SeaTunnelTask task = mockTask(1L);
+        ShuffleSourceFlowLifeCycle<?> shuffleSource =
+                new ShuffleSourceFlowLifeCycle<>(
+                        task, 0, shuffleAction, instance, new CompletableFuture<>());
+        String[] names = shuffleAction.getConfig().getShuffleStrategy().getShuffleNames(1, 0);
+        CheckpointBarrier barrier =
+                new CheckpointBarrier(
+                        1, System.currentTimeMillis(), CheckpointType.CHECKPOINT_TYPE);
+
+        offer(names[0], row(1), new Record<>(barrier), row(2));
+        offer(names[1], row(3), row(4));
+        List<Object> output = new ArrayList<>();
+        shuffleSource.collect(new ListCollector(output));
+
+        // the barrier is forwarded before the records of the second channel
+        Assertions.assertEquals(Arrays.asList(1, barrier, 2, 3, 4), output);
+        Mockito.verify(task, Mockito.never()).ack(Mockito.any());
+
+        offer(names[1], new Record<>(barrier), row(5));
+        output.clear();
+        shuffleSource.collect(new ListCollector(output));
+        Assertions.assertEquals(Collections.singletonList(5), output);
+
+        ArgumentCaptor<List<byte[]>> state = ArgumentCaptor.forClass(List.class);
+        Mockito.verify(task)
+                .addState(
+                        Mockito.eq(barrier),
+                        Mockito.eq(ActionStateKey.of(shuffleAction)),
+                        state.capture());
+        Mockito.verify(task).ack(barrier);
+        Assertions.assertEquals(2, state.getValue().size());
+        shuffleSource.close();
+
+        // the in-flight records are replayed after restore
+        ShuffleSourceFlowLifeCycle<?> restored =
+                new ShuffleSourceFlowLifeCycle<>(
+                        mockTask(1L), 0, shuffleAction, instance, new CompletableFuture<>());
+        restored.restoreState(
+                Collections.singletonList(
+                        new ActionSubtaskState(
+                                ActionStateKey.of(shuffleAction), 0, state.getValue())));
+        offer(names[0], row(6));
+        output.clear();
+        restored.collect(new ListCollector(output));
+        restored.collect(new ListCollector(output));
+        Assertions.assertEquals(Arrays.asList(3, 4, 6), output);
+        restored.close();
+    }
+
+    @Test
+    public void testNewerUnalignedBarrierReplacesUnfinishedOne() throws Exception {
+        ShuffleAction shuffleAction = createShuffleAction(3L, true);
+        SeaTunnelTask task = mockTask(3L);
+        ShuffleSourceFlowLifeCycle<?> shuffleSource =
+                new ShuffleSourceFlowLifeCycle<>(
+                        task, 0, shuffleAction, instance, new CompletableFuture<>());
+        String[] names = shuffleAction.getConfig().getShuffleStrategy().getShuffleNames(1, 0);
+        CheckpointBarrier barrier1 =
+                new CheckpointBarrier(
+                        1, System.currentTimeMillis(), CheckpointType.CHECKPOINT_TYPE);
+        CheckpointBarrier barrier2 =
+                new CheckpointBarrier(
+                        2, System.currentTimeMillis(), CheckpointType.CHECKPOINT_TYPE);
+
+        offer(names[0], new Record<>(barrier1), row(1), new Record<>(barrier2));
+        offer(names[1], row(2));
+        List<Object> output = new ArrayList<>();
+        shuffleSource.collect(new ListCollector(output));
+        Assertions.assertEquals(Arrays.asList(barrier1, 1, barrier2, 2), output);
+
+        // the late barrier of the given up checkpoint is dropped
+        offer(names[1], new Record<>(barrier1), row(3), new Record<>(barrier2));
+        output.clear();
+        shuffleSource.collect(new ListCollector(output));
+        Assertions.assertEquals(Collections.singletonList(3), output);
+
+        ArgumentCaptor<List<byte[]>> state = ArgumentCaptor.forClass(List.class);
+        Mockito.verify(task)
+                .addState(
+                        Mockito.eq(barrier2),
+                        Mockito.eq(ActionStateKey.of(shuffleAction)),
+                        state.capture());
+        Assertions.assertEquals(2, state.getValue().size());
+        Mockito.verify(task).ack(barrier2);
+        Mockito.verify(task, Mockito.never()).ack(barrier1);
+
+        // a barrier which was already completed is stale as well
+        offer(names[0], new Record<>(barrier2), row(4));
+        output.clear();
+        shuffleSource.collect(new ListCollector(output));
+        Assertions.assertEquals(Collections.singletonList(4), output);
+        Mockito.verify(task).ack(barrier2);
+        shuffleSource.close();
+    }
+
+    @Test
+    public void testAlignedBarrierBlocksChannel() throws Exception {
+        ShuffleAction shuffleAction = createShuffleAction(2L, false);
+        SeaTunnelTask task = mockTask(2L);
+        ShuffleSourceFlowLifeCycle<?> shuffleSource =
+                new ShuffleSourceFlowLifeCycle<>(
+                        task, 0, shuffleAction, instance, new CompletableFuture<>());
+        String[] names = shuffleAction.getConfig().getShuffleStrategy().getShuffleNames(1, 0);
+        CheckpointBarrier barrier =
+                new CheckpointBarrier(
+                        1, System.currentTimeMillis(), CheckpointType.CHECKPOINT_TYPE);
+
+        offer(names[0], row(1), new Record<>(barrier), row(2));
+        offer(names[1], row(3));
+        List<Object> output = new ArrayList<>();
+        shuffleSource.collect(new ListCollector(output));
+        Assertions.assertEquals(Arrays.asList(1, 3), output);
+
+        offer(names[1], new Record<>(barrier));
+        offer(names[0], row(4));
+        output.clear();
+        shuffleSource.collect(new ListCollector(output));
+        shuffleSource.collect(new ListCollector(output));
+        Assertions.assertEquals(Arrays.asList(barrier, 2, 4), output);
+        Mockito.verify(task)
+                .addState(barrier, ActionStateKey.of(shuffleAction), Collections.emptyList());
+        Mockito.verify(task).ack(barrier);
+        shuffleSource.close();
+    }
+
+    private ShuffleAction createShuffleAction(long jobId, boolean unaligned) {
+        ShuffleMultipleRowStrategy shuffleStrategy =
+                ShuffleMultipleRowStrategy.builder()
+                        .jobId(jobId)
+                        .inputPartitions(2)
+                        .catalogTables(Collections.emptyList())
+                        .targetTableId(TABLE_ID)
+                        .build();
+        ShuffleConfig shuffleConfig =
+                ShuffleConfig.builder()
+                        .shuffleStrategy(shuffleStrategy)
+                        .shuffleMode(ShuffleMode.DIRECT)
+                        .unalignedCheckpoint(unaligned)
+                        .build();
+        return new ShuffleAction(jobId, "Shuffle [test]", shuffleConfig);
+    }
+
+    private SeaTunnelTask mockTask(long jobId) {
+        SeaTunnelTask task = Mockito.mock(SeaTunnelTask.class);
+        Mockito.when(task.getTaskLocation())
+                .thenReturn(new TaskLocation(new TaskGroupLocation(jobId, 1, 1), 1, 0));
+        Mockito.when(task.getExecutionContext())
+                .thenReturn(
+                        new TaskExecutionContext(
+                                null,
+                                (NodeEngineImpl) nodeEngine,
+                                server.getTaskExecutionService()));
+        return task;
+    }
+
+    private void offer(String name, Record<?>... records) {
+        ShuffleChannelRegistry registry =
+                server.getTaskExecutionService().getShuffleChannelRegistry();
+        for (Record<?> record : records) {
+            Assertions.assertTrue(registry.getChannel(name).offer(record, () -> {}));
+        }
+    }
+
+    private static Record<?> row(int value) {
+        SeaTunnelRow row = new SeaTunnelRow(new Object[] {value});
+        row.setTableId(TABLE_ID);
+        return new Record<>(row);
+    }
+
+    private static class ListCollector implements Collector<Record<?>> {
+        private final List<Object> output;
+
+        private ListCollector(List<Object> output) {
+            this.output = output;
+        }
+
+        @Override
+        public void collect(Record<?> record) {
+            Object data = record.getData();
+            output.add(data instanceof SeaTunnelRow ? ((SeaTunnelRow) data).getField(0) : data);
+        }
+
+        @Override
+        public void close() {}
+    }
+}
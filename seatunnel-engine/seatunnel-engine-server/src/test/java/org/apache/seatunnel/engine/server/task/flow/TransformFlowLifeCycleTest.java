@@ -0,0 +1,249 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.flow;
+
+import org.apache.seatunnel.api.table.catalog.CatalogTable;
+import org.apache.seatunnel.api.table.type.ColumnarBatch;
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.transform.Collector;
+import org.apache.seatunnel.api.transform.SeaTunnelFlatMapTransform;
+import org.apache.seatunnel.api.transform.SeaTunnelTransform;
+import org.apache.seatunnel.engine.core.checkpoint.CheckpointType;
+import org.apache.seatunnel.engine.core.dag.actions.TransformChainAction;
+import org.apache.seatunnel.engine.server.checkpoint.CheckpointBarrier;
+import org.apache.seatunnel.engine.server.execution.TaskGroupLocation;
+import org.apache.seatunnel.engine.server.execution.TaskLocation;
+import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+public class TransformFlowLifeCycleTest {
+
+    @Test
+    public void testFlatMapTransformInBatches() throws Exception {
+        SplitTransform split = new SplitTransform(3);
+        SeaTunnelTask task = mockTask();
+        List<Object> output = new ArrayList<>();
+        TransformFlowLifeCycle<SeaTunnelRow> transform =
+                createTransform(task, output, split, new FilterTransform(100));
+        Assertions.assertTrue(transform.isBatched());
+
+        transform.received(row(1));
+        transform.received(row(2));
+        Assertions.assertTrue(output.isEmpty());
+        transform.received(row(3));
+        Assertions.assertEquals(Arrays.asList(1, 10, 2, 20, 3, 30), output);
+
+        // the buffered rows are sent before the barrier
+        output.clear();
+        CheckpointBarrier barrier =
+                new CheckpointBarrier(
+                        1, System.currentTimeMillis(), CheckpointType.CHECKPOINT_TYPE);
+        transform.received(row(4));
+        transform.received(new Record<>(barrier));
+        Assertions.assertEquals(Arrays.asList(4, 40, barrier), output);
+        Mockito.verify(task).ack(barrier);
+
+        output.clear();
+        transform.received(row(20));
+        transform.flush();
+        transform.flush();
+        Assertions.assertEquals(Collections.singletonList(20), output);
+        Assertions.assertEquals(Arrays.asList(3, 1, 1), split.batchSizes);
+    }
+
+    @Test
+    public void testMapTransformRowByRow() throws Exception {
+        List<Object> output = new ArrayList<>();
+        TransformFlowLifeCycle<SeaTunnelRow> transform =
+                createTransform(mockTask(), output, new FilterTransform(1));
+        Assertions.assertFalse(transform.isBatched());
+
+        transform.received(row(1));
+        transform.received(row(2));
+        Assertions.assertEquals(Collections.singletonList(1), output);
+    }
+
+    @Test
+    public void testColumnarBatchIsTransformedAsRows() throws Exception {
+        SplitTransform split = new SplitTransform(10);
+        List<Object> output = new ArrayList<>();
+        TransformFlowLifeCycle<SeaTunnelRow> transform = createTransform(mockTask(), output, split);
+
+        transform.received(new Record<>(batch(1, 2, 3)));
+        transform.flush();
+        Assertions.assertEquals(Arrays.asList(1, 10, 2, 20, 3, 30), output);
+        Assertions.assertEquals(Collections.singletonList(3), split.batchSizes);
+    }
+
+    @Test
+    public void testMapOfFlatMapTransform() {
+        SplitTransform split = new SplitTransform(3);
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> split.map(value(1)));
+        split.emitCopy = false;
+        Assertions.assertEquals(1, split.map(value(1)).getField(0));
+    }
+
+    private static TransformFlowLifeCycle<SeaTunnelRow> createTransform(
+            SeaTunnelTask task, List<Object> output, SeaTunnelTransform<SeaTunnelRow>... transforms)
+            throws Exception {
+        TransformChainAction<SeaTunnelRow> action =
+                new TransformChainAction<>(
+                        1L,
+                        "Transform",
+                        Collections.emptySet(),
+                        Collections.emptySet(),
+                        Arrays.asList(transforms));
+        TransformFlowLifeCycle<SeaTunnelRow> transform =
+                new TransformFlowLifeCycle<>(
+                        action, task, new ListCollector(output), new CompletableFuture<>());
+        transform.open();
+        return transform;
+    }
+
+    private static SeaTunnelTask mockTask() {
+        SeaTunnelTask task = Mockito.mock(SeaTunnelTask.class);
+        Mockito.when(task.getTaskLocation())
+                .thenReturn(new TaskLocation(new TaskGroupLocation(1L, 1, 1), 1, 0));
+        return task;
+    }
+
+    private static ColumnarBatch batch(int... values) {
+        return new ColumnarBatch() {
+            @Override
+            public String getTableId() {
+                return null;
+            }
+
+            @Override
+            public int getRowCount() {
+                return values.length;
+            }
+
+            @Override
+            public int getColumnCount() {
+                return 1;
+            }
+
+            @Override
+            public boolean isNullAt(int column, int row) {
+                return false;
+            }
+
+            @Override
+            public Object getValue(int column, int row) {
+                return values[row];
+            }
+        };
+    }
+
+    private static Record<?> row(int value) {
+        return new Record<>(value(value));
+    }
+
+    private static SeaTunnelRow value(int value) {
+        return new SeaTunnelRow(new Object[] {value});
+    }
+
+    /** Emits a copy of each row with the value multiplied by 10. */
+    private static class SplitTransform implements SeaTunnelFlatMapTransform<SeaTunnelRow> {
+        private final int batchSize;
+        private final List<Integer> batchSizes = new ArrayList<>();
+        private boolean emitCopy = true;
+
+        private SplitTransform(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        @Override
+        public void flatMap(List<SeaTunnelRow> rows, Collector<SeaTunnelRow> collector) {
+            batchSizes.add(rows.size());
+            for (SeaTunnelRow row : rows) {
+                collector.collect(row);
+                if (emitCopy) {
+                    collector.collect(value((int) row.getField(0) * 10));
+                }
+            }
+        }
+
+        @Override
+        public CatalogTable getProducedCatalogTable() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String getPluginName() {
+            return "Split";
+        }
+    }
+
+    /** Filters the rows whose value is greater than the max value. */
+    private static class FilterTransform implements SeaTunnelTransform<SeaTunnelRow> {
+        private final int maxValue;
+
+        private FilterTransform(int maxValue) {
+            this.maxValue = maxValue;
+        }
+
+        @Override
+        public SeaTunnelRow map(SeaTunnelRow row) {
+            return (int) row.getField(0) > maxValue ? null : row;
+        }
+
+        @Override
+        public CatalogTable getProducedCatalogTable() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String getPluginName() {
+            return "Filter";
+        }
+    }
+
+    private static class ListCollector implements Collector<Record<?>> {
+        private final List<Object> output;
+
+        private ListCollector(List<Object> output) {
+            this.output = output;
+        }
+
+        @Override
+        public void collect(Record<?> record) {
+            Object data = record.getData();
+            output.add(data instanceof SeaTunnelRow ? ((SeaTunnelRow) data).getField(0) : data);
+        }
+
+        @Override
+        public void close() {}
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.group.queue;
+
+import org.apache.seatunnel.api.common.metrics.MetricNames;
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.transform.Collector;
+import org.apache.seatunnel.engine.core.checkpoint.CheckpointType;
+import org.apache.seatunnel.engine.server.checkpoint.CheckpointBarrier;
+import org.apache.seatunnel.engine.server.execution.TaskGroupLocation;
+import org.apache.seatunnel.engine.server.execution.TaskLocation;
+import org.apache.seatunnel.engine.server.metrics.SeaTunnelMetricsContext;
+import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
+import org.apache.seatunnel.engine.server.task.flow.IntermediateQueueFlowLifeCycle;
+import org.apache.seatunnel.engine.server.task.group.TaskGroupWithIntermediateDisruptor;
+import org.apache.seatunnel.engine.server.task.group.queue.disruptor.RecordEvent;
+import org.apache.seatunnel.engine.server.task.group.queue.disruptor.RecordEventFactory;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.lmax.disruptor.YieldingWaitStrategy;
+import com.lmax.disruptor.dsl.Disruptor;
+import com.lmax.disruptor.dsl.ProducerType;
+import com.lmax.disruptor.util.DaemonThreadFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+
+public class IntermediateQueueTest {
+
+    @Test
+    public void testBlockingQueueHandsOverBatches() throws Exception {
+        BlockingQueue<List<Record<?>>> queue = new ArrayBlockingQueue<>(8);
+        SeaTunnelMetricsContext metricsContext = new SeaTunnelMetricsContext();
+        SeaTunnelTask writerTask = mockTask(metricsContext);
+        SeaTunnelTask readerTask = mockTask(null);
+        IntermediateQueueFlowLifeCycle<?> writer =
+                new IntermediateQueueFlowLifeCycle<>(
+                        writerTask,
+                        new CompletableFuture<>(),
+                        new IntermediateBlockingQueue(queue));
+        IntermediateQueueFlowLifeCycle<?> reader =
+                new IntermediateQueueFlowLifeCycle<>(
+                        readerTask,
+                        new CompletableFuture<>(),
+                        new IntermediateBlockingQueue(queue));
+
+        for (int i = 0; i < AbstractIntermediateQueue.BATCH_SIZE + 1; i++) {
+            writer.received(new Record<>(i));
+        }
+        // a full batch is published, the last record waits for more
+        Assertions.assertEquals(1, queue.size());
+        Assertions.assertEquals(AbstractIntermediateQueue.BATCH_SIZE, queue.peek().size());
+
+        // the buffered records are published together with the barrier
+        CheckpointBarrier barrier =
+                new CheckpointBarrier(
+                        1, System.currentTimeMillis(), CheckpointType.CHECKPOINT_TYPE);
+        writer.received(new Record<>(barrier));
+        Mockito.verify(writerTask).ack(barrier);
+        Assertions.assertEquals(2, queue.size());
+
+        writer.received(new Record<>(-1));
+        writer.flush();
+        writer.flush();
+        Assertions.assertEquals(3, queue.size());
+        Assertions.assertEquals(
+                37, metricsContext.counter(MetricNames.INTERMEDIATE_QUEUE_OCCUPANCY).getCount());
+
+        List<Object> output = new ArrayList<>();
+        reader.collect(collector(output));
+        Assertions.assertTrue(queue.isEmpty());
+        Mockito.verify(readerTask).ack(barrier);
+        Assertions.assertEquals(AbstractIntermediateQueue.BATCH_SIZE + 3, output.size());
+        for (int i = 0; i < AbstractIntermediateQueue.BATCH_SIZE + 1; i++) {
+            Assertions.assertEquals(i, output.get(i));
+        }
+        Assertions.assertEquals(barrier, output.get(AbstractIntermediateQueue.BATCH_SIZE + 1));
+        Assertions.assertEquals(-1, output.get(AbstractIntermediateQueue.BATCH_SIZE + 2));
+    }
+
+    @Test
+    public void testDisruptorPublishesBatches() throws Exception {
+        Disruptor<RecordEvent> disruptor =
+                new Disruptor<>(
+                        new RecordEventFactory(),
+                        TaskGroupWithIntermediateDisruptor.RING_BUFFER_SIZE,
+                        DaemonThreadFactory.INSTANCE,
+                        ProducerType.SINGLE,
+                        new YieldingWaitStrategy());
+        IntermediateQueueFlowLifeCycle<?> writer =
+                new IntermediateQueueFlowLifeCycle<>(
+                        mockTask(null),
+                        new CompletableFuture<>(),
+                        new IntermediateDisruptor(disruptor));
+        IntermediateQueueFlowLifeCycle<?> reader =
+                new IntermediateQueueFlowLifeCycle<>(
+                        mockTask(null),
+                        new CompletableFuture<>(),
+                        new IntermediateDisruptor(disruptor));
+        List<Object> output = Collections.synchronizedList(new ArrayList<>());
+        // starts the handler thread of the disruptor
+        reader.collect(collector(output));
+
+        int count = AbstractIntermediateQueue.BATCH_SIZE * 3 + 5;
+        for (int i = 0; i < count; i++) {
+            writer.received(new Record<>(i));
+        }
+        Assertions.assertEquals(
+                AbstractIntermediateQueue.BATCH_SIZE * 3,
+                disruptor.getRingBuffer().getCursor() + 1);
+        writer.flush();
+        Assertions.assertEquals(count, disruptor.getRingBuffer().getCursor() + 1);
+
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (output.size() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Assertions.assertEquals(count, output.size());
+        for (int i = 0; i < count; i++) {
+            Assertions.assertEquals(i, output.get(i));
+        }
+        reader.close();
+    }
+
+    private static SeaTunnelTask mockTask(SeaTunnelMetricsContext metricsContext) {
+        SeaTunnelTask task = Mockito.mock(SeaTunnelTask.class);
+        Mockito.when(task.getTaskLocation())
+                .thenReturn(new TaskLocation(new TaskGroupLocation(1L, 1, 1), 1, 0));
+        Mockito.when(task.getMetricsContext()).thenReturn(metricsContext);
+        return task;
+    }
+
+    private static Collector<Record<?>> collector(List<Object> output) {
+        return new Collector<Record<?>>() {
+            @Override
+            public void collect(Record<?> record) {
+                output.add(record.getData());
+            }
+
+            @Override
+            public void close() {}
+        };
+    }
+}
@@ -0,0 +1,362 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.shuffle;
+
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.engine.common.Constant;
+import org.apache.seatunnel.engine.server.AbstractSeaTunnelServerTest;
+import org.apache.seatunnel.engine.server.SeaTunnelServer;
+import org.apache.seatunnel.engine.server.SeaTunnelServerStarter;
+import org.apache.seatunnel.engine.server.TestUtils;
+import org.apache.seatunnel.engine.server.execution.TaskExecutionContext;
+import org.apache.seatunnel.engine.server.task.operation.ShuffleRecordsOperation;
+import org.apache.seatunnel.engine.server.utils.NodeEngineUtil;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.hazelcast.cluster.Address;
+import com.hazelcast.instance.impl.HazelcastInstanceImpl;
+import com.hazelcast.map.IMap;
+import com.hazelcast.spi.impl.NodeEngineImpl;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.awaitility.Awaitility.await;
+
+public class DirectShuffleTest extends AbstractSeaTunnelServerTest<DirectShuffleTest> {
+
+    @Test
+    public void testLocalChannelKeepsOrder() throws Exception {
+        String name = "DirectShuffleTest_local";
+        ShuffleInput input =
+                new DirectShuffleInput(
+                        name,
+                        4,
+                        server.getTaskExecutionService().getShuffleChannelRegistry(),
+                        instance);
+        ShuffleOutput output =
+                new DirectShuffleOutput(
+                        name,
+                        2,
+                        new TaskExecutionContext(
+                                null,
+                                (NodeEngineImpl) nodeEngine,
+                                server.getTaskExecutionService()),
+                        instance);
+
+        Queue<Record<?>> records = new LinkedList<>();
+        for (int i = 0; i < 100; i++) {
+            records.add(new Record<>(new SeaTunnelRow(new Object[] {i})));
+        }
+        CompletableFuture<Void> writer =
+                CompletableFuture.runAsync(
+                        () -> {
+                            try {
+                                writeAll(output, records);
+                            } catch (Exception e) {
+                                throw new RuntimeException(e);
+                            }
+                        });
+
+        List<Record<?>> received = new ArrayList<>();
+        while (received.size() < 100) {
+            if (input.drainTo(received, 10) == 0) {
+                Thread.sleep(1);
+            }
+        }
+        writer.get(10, TimeUnit.SECONDS);
+        for (int i = 0; i < 100; i++) {
+            Assertions.assertEquals(i, ((SeaTunnelRow) received.get(i).getData()).getField(0));
+        }
+        output.close();
+        input.close();
+        Assertions.assertNull(
+                server.getTaskExecutionService().getShuffleChannelRegistry().getChannel(name));
+    }
+
+    @Test
+    public void testRemoteChannelKeepsOrder() throws Exception {
+        String name = "DirectShuffleTest_remote";
+        HazelcastInstanceImpl readerInstance =
+                SeaTunnelServerStarter.createHazelcastInstance(
+                        TestUtils.getClusterName(
+                                "AbstractSeaTunnelServerTest_"
+                                        + DirectShuffleTest.class.getName()));
+        try {
+            SeaTunnelServer readerServer =
+                    readerInstance.node.getNodeEngine().getService(SeaTunnelServer.SERVICE_NAME);
+            ShuffleInput input =
+                    new DirectShuffleInput(
+                            name,
+                            8,
+                            readerServer.getTaskExecutionService().getShuffleChannelRegistry(),
+                            readerInstance);
+            ShuffleOutput output =
+                    new DirectShuffleOutput(
+                            name,
+                            3,
+                            new TaskExecutionContext(
+                                    null,
+                                    (NodeEngineImpl) nodeEngine,
+                                    server.getTaskExecutionService()),
+                            instance);
+
+            Queue<Record<?>> records =
+                    new LinkedList<>(records(IntStream.range(0, 1000).toArray()));
+            CompletableFuture<Void> writer =
+                    CompletableFuture.runAsync(
+                            () -> {
+                                try {
+                                    writeAll(output, records);
+                                } catch (Exception e) {
+                                    throw new RuntimeException(e);
+                                }
+                            });
+
+            List<Record<?>> received = new ArrayList<>();
+            while (received.size() < 1000) {
+                if (input.drainTo(received, 5) == 0) {
+                    Thread.sleep(1);
+                }
+            }
+            writer.get(30, TimeUnit.SECONDS);
+            for (int i = 0; i < 1000; i++) {
+                Assertions.assertEquals(i, ((SeaTunnelRow) received.get(i).getData()).getField(0));
+            }
+            output.close();
+            input.close();
+        } finally {
+            readerInstance.shutdown();
+        }
+    }
+
+    @Test
+    public void testLocalWriterIsWokenUpWhenReaderTakesRecords() throws Exception {
+        String name = "DirectShuffleTest_wakeup";
+        ShuffleInput input =
+                new DirectShuffleInput(
+                        name,
+                        2,
+                        server.getTaskExecutionService().getShuffleChannelRegistry(),
+                        instance);
+        ShuffleOutput output =
+                new DirectShuffleOutput(
+                        name,
+                        2,
+                        new TaskExecutionContext(
+                                null,
+                                (NodeEngineImpl) nodeEngine,
+                                server.getTaskExecutionService()),
+                        instance);
+        AtomicInteger wakeUps = new AtomicInteger();
+        output.setAvailableListener(wakeUps::incrementAndGet);
+
+        // the writer returns instead of waiting for room
+        Queue<Record<?>> records = new LinkedList<>(records(1, 2, 3));
+        output.write(records);
+        Assertions.assertEquals(1, records.size());
+        Assertions.assertEquals(0, wakeUps.get());
+
+        List<Record<?>> received = new ArrayList<>();
+        Assertions.assertEquals(2, input.drainTo(received, 2));
+        Assertions.assertEquals(1, wakeUps.get());
+        output.write(records);
+        Assertions.assertTrue(records.isEmpty());
+        Assertions.assertEquals(1, input.drainTo(received, 2));
+
+        output.close();
+        input.close();
+    }
+
+    @Test
+    public void testRemoveEndpointsOfLeftMember() throws Exception {
+        String name = "DirectShuffleTest_left";
+        HazelcastInstanceImpl readerInstance =
+                SeaTunnelServerStarter.createHazelcastInstance(
+                        TestUtils.getClusterName(
+                                "AbstractSeaTunnelServerTest_"
+                                        + DirectShuffleTest.class.getName()));
+        SeaTunnelServer readerServer =
+                readerInstance.node.getNodeEngine().getService(SeaTunnelServer.SERVICE_NAME);
+        new DirectShuffleInput(
+                name,
+                8,
+                readerServer.getTaskExecutionService().getShuffleChannelRegistry(),
+                readerInstance);
+        IMap<String, Address> endpoints = instance.getMap(Constant.IMAP_SHUFFLE_ENDPOINTS);
+        Assertions.assertNotNull(endpoints.get(name));
+        readerInstance.shutdown();
+        await().atMost(30, TimeUnit.SECONDS).until(() -> endpoints.get(name) == null);
+
+        // the writer waits for the reader of the restored pipeline
+        ShuffleOutput output =
+                new DirectShuffleOutput(
+                        name,
+                        3,
+                        new TaskExecutionContext(
+                                null,
+                                (NodeEngineImpl) nodeEngine,
+                                server.getTaskExecutionService()),
+                        instance);
+        Queue<Record<?>> records = new LinkedList<>(records(1, 2));
+        output.write(records);
+        Assertions.assertEquals(2, records.size());
+        output.close();
+    }
+
+    @Test
+    public void testFailWhenBatchFailed() throws Exception {
+        String name = "DirectShuffleTest_failed";
+        IMap<String, Address> endpoints = instance.getMap(Constant.IMAP_SHUFFLE_ENDPOINTS);
+        // the operation fails on a member which is not part of the cluster
+        endpoints.put(name, new Address("127.0.0.1", 1));
+        ShuffleOutput output =
+                new DirectShuffleOutput(
+                        name,
+                        3,
+                        new TaskExecutionContext(
+                                null,
+                                (NodeEngineImpl) nodeEngine,
+                                server.getTaskExecutionService()),
+                        instance);
+        Queue<Record<?>> records = new LinkedList<>(records(1, 2));
+        // a failed batch may have been received, it is not sent again
+        IOException exception =
+                Assertions.assertThrows(IOException.class, () -> writeAll(output, records));
+        Assertions.assertTrue(exception.getMessage().contains(name), exception.getMessage());
+        output.close();
+        endpoints.remove(name);
+    }
+
+    @Test
+    public void testRemoveEndpointsOfPipeline() {
+        IMap<String, Address> endpoints = instance.getMap(Constant.IMAP_SHUFFLE_ENDPOINTS);
+        Address address = nodeEngine.getThisAddress();
+        endpoints.put("ShufflePartition-Queue_1_1_0_0", address);
+        endpoints.put("ShuffleMultipleRow-Queue_1_1_0_db.t", address);
+        endpoints.put("ShufflePartition-Queue_1_2_0_0", address);
+        endpoints.put("ShufflePartition-Queue_11_1_0_0", address);
+
+        DirectShuffleInput.removeEndpoints(instance, 1, 1);
+        Assertions.assertNull(endpoints.get("ShufflePartition-Queue_1_1_0_0"));
+        Assertions.assertNull(endpoints.get("ShuffleMultipleRow-Queue_1_1_0_db.t"));
+        Assertions.assertEquals(address, endpoints.get("ShufflePartition-Queue_1_2_0_0"));
+        Assertions.assertEquals(address, endpoints.get("ShufflePartition-Queue_11_1_0_0"));
+        endpoints.remove("ShufflePartition-Queue_1_2_0_0");
+        endpoints.remove("ShufflePartition-Queue_11_1_0_0");
+    }
+
+    @Test
+    public void testShuffleRecordsOperationGrantsCredit() {
+        String name = "DirectShuffleTest_credit";
+        ShuffleChannelRegistry registry =
+                server.getTaskExecutionService().getShuffleChannelRegistry();
+        ShuffleChannel channel = registry.openChannel(name, 3);
+        Address address = nodeEngine.getThisAddress();
+
+        List<Record<?>> batch =
+                Arrays.asList(
+                        new Record<>(new SeaTunnelRow(new Object[] {1})),
+                        new Record<>(new SeaTunnelRow(new Object[] {2})));
+        long credit =
+                NodeEngineUtil.<Long>sendOperationToMemberNode(
+                                nodeEngine, new ShuffleRecordsOperation(name, 1, 0, batch), address)
+                        .join();
+        Assertions.assertEquals(3, credit);
+        Assertions.assertEquals(2, channel.size());
+
+        registry.closeChannel(channel);
+        credit =
+                NodeEngineUtil.<Long>sendOperationToMemberNode(
+                                nodeEngine,
+                                new ShuffleRecordsOperation(name, 1, 1, new ArrayList<>()),
+                                address)
+                        .join();
+        Assertions.assertEquals(ShuffleRecordsOperation.CHANNEL_NOT_FOUND, credit);
+    }
+
+    @Test
+    public void testChannelAppendsBatchesInSequence() throws Exception {
+        ShuffleChannel channel = new ShuffleChannel("DirectShuffleTest_sequence", 4);
+        List<Long> granted = new ArrayList<>();
+
+        Assertions.assertEquals(4, channel.offer(1, 1, records(3, 4), granted::add));
+        Assertions.assertEquals(0, channel.size());
+        Assertions.assertEquals(4, channel.offer(1, 0, records(1, 2), granted::add));
+
+        List<Record<?>> received = new ArrayList<>();
+        Assertions.assertEquals(4, channel.drainTo(received, 4));
+        for (int i = 0; i < 4; i++) {
+            Assertions.assertEquals(i + 1, ((SeaTunnelRow) received.get(i).getData()).getField(0));
+        }
+        // the writer used up its credit and is notified once the records were taken
+        Assertions.assertEquals(Collections.singletonList(8L), granted);
+
+        Assertions.assertThrows(
+                IllegalStateException.class,
+                () -> channel.offer(1, 2, records(5, 6, 7, 8, 9), granted::add));
+    }
+
+    @Test
+    public void testChannelCanOnlyBeOpenedOnce() {
+        String name = "DirectShuffleTest_open";
+        ShuffleChannelRegistry registry =
+                server.getTaskExecutionService().getShuffleChannelRegistry();
+        ShuffleChannel channel = registry.openChannel(name, 3);
+        Assertions.assertThrows(IllegalStateException.class, () -> registry.openChannel(name, 3));
+        Assertions.assertSame(channel, registry.getChannel(name));
+        registry.closeChannel(channel);
+        registry.closeChannel(registry.openChannel(name, 3));
+    }
+
+    /** Writes all records, waiting for the reader to have room like a parked task does. */
+    private static void writeAll(ShuffleOutput output, Queue<Record<?>> records)
+            throws IOException, InterruptedException {
+        Semaphore available = new Semaphore(0);
+        output.setAvailableListener(available::release);
+        while (true) {
+            output.write(records);
+            if (records.isEmpty() && !output.hasPendingRecords()) {
+                return;
+            }
+            // the writer is not woken up when the reader opens the channel on another member
+            available.tryAcquire(10, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private static List<Record<?>> records(int... values) {
+        List<Record<?>> records = new ArrayList<>();
+        for (int value : values) {
+            records.add(new Record<>(new SeaTunnelRow(new Object[] {value})));
+        }
+        return records;
+    }
+}
@@ -24,6 +24,8 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.ToString;
 
+import java.util.List;
+
 @Data
 @Builder
 @ToString(exclude = "states")
@@ -33,4 +35,10 @@ public class PipelineState {
     private int pipelineId;
     private long checkpointId;
     private byte[] states;
+
+    /**
+     * The ids of the chunks the states are stored in when the checkpoint is incremental, {@link
+     * #states} is empty in the stored file then. Null for checkpoints stored as a whole.
+     */
+    private List<String> stateChunks;
 }
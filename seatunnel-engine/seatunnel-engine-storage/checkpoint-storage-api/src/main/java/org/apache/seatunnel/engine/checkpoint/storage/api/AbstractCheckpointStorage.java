@@ -21,6 +21,7 @@
 package org.apache.seatunnel.engine.checkpoint.storage.api;
 
 import org.apache.seatunnel.engine.checkpoint.storage.PipelineState;
+import org.apache.seatunnel.engine.checkpoint.storage.common.StateChunker;
 import org.apache.seatunnel.engine.checkpoint.storage.common.StorageThreadFactory;
 import org.apache.seatunnel.engine.checkpoint.storage.exception.CheckpointStorageException;
 import org.apache.seatunnel.engine.serializer.api.Serializer;
@@ -28,13 +29,17 @@ import org.apache.seatunnel.engine.serializer.protobuf.ProtoStuffSerializer;
 
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadLocalRandom;
@@ -80,6 +85,19 @@ public abstract class AbstractCheckpointStorage implements CheckpointStorage {
 
     private static final int DEFAULT_THREAD_POOL_QUENE_SIZE = 1024;
 
+    /** Stores the state chunks of incremental checkpoints, null if the storage has no chunks. */
+    private CheckpointChunkStore chunkStore;
+
+    private boolean incremental;
+
+    /**
+     * The chunks of the checkpoints which are being stored, per job and upload. They are not
+     * deleted although no checkpoint file references them yet, until the file of the upload is
+     * written and {@link #releaseInFlightChunks(PipelineState)} is called.
+     */
+    private final Map<String, Map<String, List<String>>> inFlightStateChunks =
+            new ConcurrentHashMap<>();
+
     /**
      * init storage instance
      *
@@ -105,12 +123,162 @@ public abstract class AbstractCheckpointStorage implements CheckpointStorage {
                 + FILE_FORMAT;
     }
 
+    /**
+     * Sets the store of the state chunks, which restores incremental checkpoints.
+     *
+     * @param incremental whether new checkpoints are stored incrementally
+     */
+    protected void setChunkStore(CheckpointChunkStore chunkStore, boolean incremental) {
+        this.chunkStore = chunkStore;
+        this.incremental = incremental;
+    }
+
+    public boolean isIncremental() {
+        return incremental;
+    }
+
+    /**
+     * Serializes a checkpoint for its file. The states of an incremental checkpoint are split into
+     * chunks first, only the chunks which do not exist yet are written and the file references
+     * them.
+     */
     public byte[] serializeCheckPointData(PipelineState state) throws IOException {
-        return serializer.serialize(state);
+        if (!incremental || state.getStates() == null || state.getStates().length == 0) {
+            return serializer.serialize(state);
+        }
+        List<String> chunkIds = new ArrayList<>();
+        int written = 0;
+        synchronized (chunkStore) {
+            for (byte[] chunk : StateChunker.split(state.getStates())) {
+                String chunkId = StateChunker.chunkId(chunk);
+                if (!chunkStore.exists(state.getJobId(), chunkId)) {
+                    chunkStore.write(state.getJobId(), chunkId, chunk);
+                    written += chunk.length;
+                }
+                chunkIds.add(chunkId);
+            }
+            inFlightStateChunks
+                    .computeIfAbsent(state.getJobId(), k -> new ConcurrentHashMap<>())
+                    .put(getUploadKey(state), chunkIds);
+        }
+        log.debug(
+                "Stored checkpoint {} of pipeline {}@{} in {} chunks, wrote {} of {} bytes",
+                state.getCheckpointId(),
+                state.getPipelineId(),
+                state.getJobId(),
+                chunkIds.size(),
+                written,
+                state.getStates().length);
+        return serializer.serialize(
+                PipelineState.builder()
+                        .jobId(state.getJobId())
+                        .pipelineId(state.getPipelineId())
+                        .checkpointId(state.getCheckpointId())
+                        .states(new byte[0])
+                        .stateChunks(chunkIds)
+                        .build());
     }
 
+    /** Deserializes a checkpoint file, reassembling the states of an incremental checkpoint. */
     public PipelineState deserializeCheckPointData(byte[] data) throws IOException {
-        return serializer.deserialize(data, PipelineState.class);
+        PipelineState state = serializer.deserialize(data, PipelineState.class);
+        List<String> chunkIds = state.getStateChunks();
+        if (chunkIds == null) {
+            return state;
+        }
+        if (chunkStore == null) {
+            throw new IOException(
+                    "Checkpoint "
+                            + state.getCheckpointId()
+                            + " is stored in chunks, which this storage can not read");
+        }
+        List<byte[]> chunks = new ArrayList<>(chunkIds.size());
+        int size = 0;
+        for (String chunkId : chunkIds) {
+            byte[] chunk = chunkStore.read(state.getJobId(), chunkId);
+            chunks.add(chunk);
+            size += chunk.length;
+        }
+        ByteArrayOutputStream states = new ByteArrayOutputStream(size);
+        for (byte[] chunk : chunks) {
+            states.write(chunk);
+        }
+        state.setStates(states.toByteArray());
+        state.setStateChunks(null);
+        return state;
+    }
+
+    /**
+     * Releases the chunks of a checkpoint stored by {@link #serializeCheckPointData(PipelineState)}
+     * once its file is written, or failed to be written.
+     */
+    protected void releaseInFlightChunks(PipelineState state) {
+        Map<String, List<String>> uploads = inFlightStateChunks.get(state.getJobId());
+        if (uploads != null) {
+            uploads.remove(getUploadKey(state));
+        }
+    }
+
+    private static String getUploadKey(PipelineState state) {
+        return state.getPipelineId() + FILE_NAME_SPLIT + state.getCheckpointId();
+    }
+
+    /**
+     * Deletes the state chunks of a job which are neither referenced by one of its remaining
+     * checkpoint files nor by a checkpoint which is still being stored by any of its pipelines.
+     *
+     * <p>The chunks of the uploads in flight are collected before the remaining files are read, so
+     * an upload which finishes in between is found in its file.
+     *
+     * @param remainingCheckpointData reads the content of all checkpoint files left of the job
+     */
+    protected void deleteUnreferencedChunks(
+            String jobId, CheckpointDataReader remainingCheckpointData) throws IOException {
+        if (chunkStore == null) {
+            return;
+        }
+        synchronized (chunkStore) {
+            Collection<String> chunkIds = chunkStore.list(jobId);
+            if (chunkIds.isEmpty()) {
+                return;
+            }
+            Set<String> referenced = new HashSet<>();
+            inFlightStateChunks
+                    .getOrDefault(jobId, new HashMap<>())
+                    .values()
+                    .forEach(referenced::addAll);
+            for (byte[] data : remainingCheckpointData.read()) {
+                List<String> stateChunks =
+                        serializer.deserialize(data, PipelineState.class).getStateChunks();
+                if (stateChunks != null) {
+                    referenced.addAll(stateChunks);
+                }
+            }
+            int deleted = 0;
+            for (String chunkId : chunkIds) {
+                if (!referenced.contains(chunkId)) {
+                    chunkStore.delete(jobId, chunkId);
+                    deleted++;
+                }
+            }
+            log.debug("Deleted {} of {} state chunks of job {}", deleted, chunkIds.size(), jobId);
+        }
+    }
+
+    /** Whether the job has state chunks which may have to be deleted with its checkpoints. */
+    protected boolean hasStateChunks(String jobId) throws IOException {
+        return chunkStore != null && !chunkStore.list(jobId).isEmpty();
+    }
+
+    /** Forgets the chunks in flight of a job after all of its checkpoints have been deleted. */
+    protected void releaseStateChunks(String jobId) {
+        inFlightStateChunks.remove(jobId);
+    }
+
+    /** Reads the content of the checkpoint files of a job. */
+    @FunctionalInterface
+    protected interface CheckpointDataReader {
+        Collection<byte[]> read() throws IOException;
     }
 
     public void setStorageNameSpace(String storageNameSpace) {
@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.apache.seatunnel.engine.checkpoint.storage.api;
+
+import java.io.IOException;
+import java.util.Collection;
+
+/**
+ * Stores the content addressed state chunks of incremental checkpoints. Chunks are immutable and
+ * shared by all checkpoints of a job, a chunk with a given id always has the same content.
+ */
+public interface CheckpointChunkStore {
+
+    boolean exists(String jobId, String chunkId) throws IOException;
+
+    /** Writes a chunk atomically, a concurrent writer of the same chunk must not fail it. */
+    void write(String jobId, String chunkId, byte[] data) throws IOException;
+
+    byte[] read(String jobId, String chunkId) throws IOException;
+
+    /** Lists the ids of all chunks of the job, an empty collection if there are none. */
+    Collection<String> list(String jobId) throws IOException;
+
+    void delete(String jobId, String chunkId) throws IOException;
+}
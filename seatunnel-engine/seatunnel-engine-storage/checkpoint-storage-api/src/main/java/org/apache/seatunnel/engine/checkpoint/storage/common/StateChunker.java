@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.apache.seatunnel.engine.checkpoint.storage.common;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Splits checkpoint states into content defined chunks. Chunk boundaries are chosen by a rolling
+ * gear hash over the content, so bytes inserted or removed in one part of the states only change
+ * the chunks around them and the other chunks keep their ids.
+ */
+public class StateChunker {
+
+    public static final int MIN_CHUNK_SIZE = 128 * 1024;
+    public static final int MAX_CHUNK_SIZE = 2 * 1024 * 1024;
+    /** Cuts on average every 512KB after the minimum size. */
+    private static final long BOUNDARY_MASK = (1L << 19) - 1;
+
+    private static final long[] GEAR = new long[256];
+
+    static {
+        // a fixed seed, the boundaries must be the same on every member and after restarts
+        Random random = new Random(0x5EA7C0DEL);
+        for (int i = 0; i < GEAR.length; i++) {
+            GEAR[i] = random.nextLong();
+        }
+    }
+
+    private StateChunker() {}
+
+    /** Splits the states into chunks, each chunk is a copy of a range of the given bytes. */
+    public static List<byte[]> split(byte[] states) {
+        List<byte[]> chunks = new ArrayList<>();
+        int start = 0;
+        while (start < states.length) {
+            int end = nextBoundary(states, start);
+            chunks.add(Arrays.copyOfRange(states, start, end));
+            start = end;
+        }
+        return chunks;
+    }
+
+    private static int nextBoundary(byte[] states, int start) {
+        int limit = Math.min(states.length, start + MAX_CHUNK_SIZE);
+        int position = start + MIN_CHUNK_SIZE;
+        if (position >= limit) {
+            return limit;
+        }
+        long hash = 0;
+        for (; position < limit; position++) {
+            hash = (hash << 1) + GEAR[states[position] & 0xFF];
+            if ((hash & BOUNDARY_MASK) == 0) {
+                return position + 1;
+            }
+        }
+        return limit;
+    }
+
+    /** The content address of a chunk, the hex encoded SHA-256 digest of its bytes. */
+    public static String chunkId(byte[] chunk) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+        byte[] hash = digest.digest(chunk);
+        StringBuilder id = new StringBuilder(hash.length * 2);
+        for (byte b : hash) {
+            id.append(Character.forDigit((b >> 4) & 0xF, 16))
+                    .append(Character.forDigit(b & 0xF, 16));
+        }
+        return id.toString();
+    }
+}
@@ -24,4 +24,10 @@ public class StorageConstants {
 
     /** The name of the configuration property that specifies the name of the file system. */
     public static final String STORAGE_NAME_SPACE = "namespace";
+
+    /**
+     * Whether checkpoint states are stored as content addressed chunks which are shared between
+     * checkpoints of the same job, so only changed chunks are written.
+     */
+    public static final String INCREMENTAL = "incremental";
 }
@@ -22,6 +22,7 @@ package org.apache.seatunnel.engine.checkpoint.storage.hdfs;
 
 import org.apache.seatunnel.engine.checkpoint.storage.PipelineState;
 import org.apache.seatunnel.engine.checkpoint.storage.api.AbstractCheckpointStorage;
+import org.apache.seatunnel.engine.checkpoint.storage.api.CheckpointChunkStore;
 import org.apache.seatunnel.engine.checkpoint.storage.exception.CheckpointStorageException;
 import org.apache.seatunnel.engine.checkpoint.storage.hdfs.common.AbstractConfiguration;
 import org.apache.seatunnel.engine.checkpoint.storage.hdfs.common.FileConfiguration;
@@ -40,10 +41,12 @@ import lombok.extern.slf4j.Slf4j;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import static org.apache.seatunnel.engine.checkpoint.storage.constants.StorageConstants.INCREMENTAL;
 import static org.apache.seatunnel.engine.checkpoint.storage.constants.StorageConstants.STORAGE_NAME_SPACE;
 
 @Slf4j
@@ -52,6 +55,8 @@ public class HdfsStorage extends AbstractCheckpointStorage {
     public FileSystem fs;
     private static final String STORAGE_TMP_SUFFIX = "tmp";
     private static final String STORAGE_TYPE_KEY = "storage.type";
+    private static final String CHUNK_DIRECTORY = "chunks";
+    private static final String CHUNK_SUFFIX = ".chunk";
 
     public HdfsStorage(Map<String, String> configuration) throws CheckpointStorageException {
         this.initStorage(configuration);
@@ -63,12 +68,14 @@ public class HdfsStorage extends AbstractCheckpointStorage {
             setStorageNameSpace(configuration.get(STORAGE_NAME_SPACE));
             configuration.remove(STORAGE_NAME_SPACE);
         }
+        boolean incremental = Boolean.parseBoolean(configuration.remove(INCREMENTAL));
         Configuration hadoopConf = getConfiguration(configuration);
         try {
             fs = FileSystem.get(hadoopConf);
         } catch (IOException e) {
             throw new CheckpointStorageException("Failed to get file system", e);
         }
+        setChunkStore(new HdfsChunkStore(), incremental);
     }
 
     private Configuration getConfiguration(Map<String, String> config)
@@ -104,32 +111,36 @@ public class HdfsStorage extends AbstractCheckpointStorage {
                                 + "/"
                                 + getCheckPointName(state)
                                 + STORAGE_TMP_SUFFIX);
-        try (FSDataOutputStream out = fs.create(tmpFilePath, false)) {
-            out.write(datas);
-        } catch (IOException e) {
-            throw new CheckpointStorageException(
-                    String.format(
-                            "Failed to write checkpoint data, file: %s, state: %s",
-                            tmpFilePath, state),
-                    e);
-        }
         try {
-            boolean success = fs.rename(tmpFilePath, filePath);
-            if (!success) {
-                throw new CheckpointStorageException("Failed to rename tmp file to final file");
+            try (FSDataOutputStream out = fs.create(tmpFilePath, false)) {
+                out.write(datas);
+            } catch (IOException e) {
+                throw new CheckpointStorageException(
+                        String.format(
+                                "Failed to write checkpoint data, file: %s, state: %s",
+                                tmpFilePath, state),
+                        e);
             }
-
-        } catch (IOException e) {
-            throw new CheckpointStorageException("Failed to rename tmp file to final file");
-        } finally {
             try {
-                // clean up tmp file, if still lying around
-                if (fs.exists(tmpFilePath)) {
-                    fs.delete(tmpFilePath, false);
+                boolean success = fs.rename(tmpFilePath, filePath);
+                if (!success) {
+                    throw new CheckpointStorageException("Failed to rename tmp file to final file");
+                }
+
+            } catch (IOException e) {
+                throw new CheckpointStorageException("Failed to rename tmp file to final file");
+            } finally {
+                try {
+                    // clean up tmp file, if still lying around
+                    if (fs.exists(tmpFilePath)) {
+                        fs.delete(tmpFilePath, false);
+                    }
+                } catch (IOException ioe) {
+                    log.error("Failed to delete tmp file", ioe);
                 }
-            } catch (IOException ioe) {
-                log.error("Failed to delete tmp file", ioe);
             }
+        } finally {
+            releaseInFlightChunks(state);
         }
 
         return filePath.getName();
@@ -240,6 +251,7 @@ public class HdfsStorage extends AbstractCheckpointStorage {
         } catch (IOException e) {
             log.warn("Failed to delete checkpoint for job {}", jobId, e);
         }
+        releaseStateChunks(jobId);
     }
 
     @Override
@@ -299,6 +311,7 @@ public class HdfsStorage extends AbstractCheckpointStorage {
                         }
                     }
                 });
+        deleteUnreferencedChunks(jobId);
     }
 
     @Override
@@ -329,6 +342,7 @@ public class HdfsStorage extends AbstractCheckpointStorage {
                         }
                     }
                 });
+        deleteUnreferencedChunks(jobId);
     }
 
     private List<String> getFileNames(String path) throws CheckpointStorageException {
@@ -350,6 +364,46 @@ public class HdfsStorage extends AbstractCheckpointStorage {
         }
     }
 
+    /** Deletes the state chunks of the job which are not referenced by any checkpoint anymore. */
+    private void deleteUnreferencedChunks(String jobId) {
+        try {
+            if (!hasStateChunks(jobId)) {
+                return;
+            }
+            String path = getStorageParentDirectory() + jobId;
+            deleteUnreferencedChunks(
+                    jobId,
+                    () -> {
+                        List<String> fileNames;
+                        try {
+                            fileNames = getFileNames(path);
+                        } catch (CheckpointStorageException e) {
+                            throw new IOException(e);
+                        }
+                        List<byte[]> remainingCheckpointData = new ArrayList<>();
+                        for (String fileName : fileNames) {
+                            remainingCheckpointData.add(
+                                    readFile(
+                                            new Path(
+                                                    path
+                                                            + DEFAULT_CHECKPOINT_FILE_PATH_SPLIT
+                                                            + fileName)));
+                        }
+                        return remainingCheckpointData;
+                    });
+        } catch (IOException e) {
+            log.warn("Failed to delete unreferenced state chunks for job {}", jobId, e);
+        }
+    }
+
+    private byte[] readFile(Path path) throws IOException {
+        try (FSDataInputStream in = fs.open(path);
+                ByteArrayOutputStream stream = new ByteArrayOutputStream()) {
+            IOUtils.copyBytes(in, stream, 1024);
+            return stream.toByteArray();
+        }
+    }
+
     /**
      * Get checkpoint name
      *
@@ -360,11 +414,8 @@ public class HdfsStorage extends AbstractCheckpointStorage {
             throws CheckpointStorageException {
         fileName =
                 getStorageParentDirectory() + jobId + DEFAULT_CHECKPOINT_FILE_PATH_SPLIT + fileName;
-        try (FSDataInputStream in = fs.open(new Path(fileName));
-                ByteArrayOutputStream stream = new ByteArrayOutputStream()) {
-            IOUtils.copyBytes(in, stream, 1024);
-            byte[] bytes = stream.toByteArray();
-            return deserializeCheckPointData(bytes);
+        try {
+            return deserializeCheckPointData(readFile(new Path(fileName)));
         } catch (IOException e) {
             throw new CheckpointStorageException(
                     String.format(
@@ -373,4 +424,65 @@ public class HdfsStorage extends AbstractCheckpointStorage {
                     e);
         }
     }
+
+    /** Stores the state chunks of a job in the chunks directory next to its checkpoints. */
+    private class HdfsChunkStore implements CheckpointChunkStore {
+
+        @Override
+        public boolean exists(String jobId, String chunkId) throws IOException {
+            return fs.exists(getChunkPath(jobId, chunkId));
+        }
+
+        @Override
+        public void write(String jobId, String chunkId, byte[] data) throws IOException {
+            Path chunkPath = getChunkPath(jobId, chunkId);
+            Path tmpChunkPath = new Path(chunkPath + STORAGE_TMP_SUFFIX);
+            try (FSDataOutputStream out = fs.create(tmpChunkPath, true)) {
+                out.write(data);
+            }
+            try {
+                // a chunk with the same id has the same content, so an existing one is fine
+                if (!fs.rename(tmpChunkPath, chunkPath) && !fs.exists(chunkPath)) {
+                    throw new IOException("Failed to rename tmp chunk file to " + chunkPath);
+                }
+            } finally {
+                if (fs.exists(tmpChunkPath)) {
+                    fs.delete(tmpChunkPath, false);
+                }
+            }
+        }
+
+        @Override
+        public byte[] read(String jobId, String chunkId) throws IOException {
+            return readFile(getChunkPath(jobId, chunkId));
+        }
+
+        @Override
+        public Collection<String> list(String jobId) throws IOException {
+            Path chunkDirectory = getChunkDirectory(jobId);
+            List<String> chunkIds = new ArrayList<>();
+            if (!fs.exists(chunkDirectory)) {
+                return chunkIds;
+            }
+            for (FileStatus status :
+                    fs.listStatus(chunkDirectory, path -> path.getName().endsWith(CHUNK_SUFFIX))) {
+                String name = status.getPath().getName();
+                chunkIds.add(name.substring(0, name.length() - CHUNK_SUFFIX.length()));
+            }
+            return chunkIds;
+        }
+
+        @Override
+        public void delete(String jobId, String chunkId) throws IOException {
+            fs.delete(getChunkPath(jobId, chunkId), false);
+        }
+
+        private Path getChunkDirectory(String jobId) {
+            return new Path(getStorageParentDirectory() + jobId + "/" + CHUNK_DIRECTORY);
+        }
+
+        private Path getChunkPath(String jobId, String chunkId) {
+            return new Path(getChunkDirectory(jobId), chunkId + CHUNK_SUFFIX);
+        }
+    }
 }
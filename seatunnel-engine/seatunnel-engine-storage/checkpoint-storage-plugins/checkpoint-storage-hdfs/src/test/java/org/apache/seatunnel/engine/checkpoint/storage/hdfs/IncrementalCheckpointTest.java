@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.apache.seatunnel.engine.checkpoint.storage.hdfs;
+
+import org.apache.seatunnel.engine.checkpoint.storage.PipelineState;
+import org.apache.seatunnel.engine.checkpoint.storage.common.StateChunker;
+import org.apache.seatunnel.engine.checkpoint.storage.exception.CheckpointStorageException;
+
+import org.apache.hadoop.fs.Path;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+@EnabledOnOs({OS.LINUX, OS.MAC})
+public class IncrementalCheckpointTest {
+
+    private static final String JOB_ID = "incremental";
+
+    private final HdfsStorage storage = new HdfsStorage(createConfig(true));
+
+    public IncrementalCheckpointTest() throws CheckpointStorageException {}
+
+    @Test
+    public void testShareChunksBetweenCheckpoints() throws Exception {
+        byte[] states = new byte[6 * 1024 * 1024];
+        new Random(2).nextBytes(states);
+        byte[] appendedStates = Arrays.copyOf(states, states.length + 1024 * 1024);
+        new Random(3).nextBytes(appendedStates);
+        System.arraycopy(states, 0, appendedStates, 0, states.length);
+
+        storage.storeCheckPoint(createState(1, states));
+        storage.storeCheckPoint(createState(2, appendedStates));
+        storage.storeCheckPoint(createState(3, appendedStates));
+        int chunks = StateChunker.split(appendedStates).size();
+        // the appended bytes only add chunks at the end
+        Assertions.assertTrue(countChunks() <= chunks + 1, "chunks " + countChunks());
+
+        // checkpoints in chunks are restored by a storage without incremental checkpoints too
+        HdfsStorage restoreStorage = new HdfsStorage(createConfig(false));
+        Assertions.assertArrayEquals(
+                states, restoreStorage.getCheckpoint(JOB_ID, "1", "1").getStates());
+        Assertions.assertArrayEquals(
+                appendedStates,
+                restoreStorage.getLatestCheckpointByJobIdAndPipelineId(JOB_ID, "1").getStates());
+
+        storage.deleteCheckpoint(JOB_ID, "1", Arrays.asList("1", "2"));
+        Assertions.assertEquals(chunks, countChunks());
+        Assertions.assertArrayEquals(
+                appendedStates, storage.getCheckpoint(JOB_ID, "1", "3").getStates());
+    }
+
+    @Test
+    public void testStoreEmptyStates() throws CheckpointStorageException {
+        storage.storeCheckPoint(createState(1, new byte[0]));
+        Assertions.assertArrayEquals(
+                new byte[0], storage.getCheckpoint(JOB_ID, "1", "1").getStates());
+    }
+
+    @AfterEach
+    public void teardown() {
+        storage.deleteCheckpoint(JOB_ID);
+    }
+
+    private int countChunks() throws IOException {
+        Path chunkDirectory = new Path(storage.getStorageParentDirectory() + JOB_ID + "/chunks");
+        return storage.fs.exists(chunkDirectory) ? storage.fs.listStatus(chunkDirectory).length : 0;
+    }
+
+    private static PipelineState createState(long checkpointId, byte[] states) {
+        return PipelineState.builder()
+                .jobId(JOB_ID)
+                .pipelineId(1)
+                .checkpointId(checkpointId)
+                .states(states)
+                .build();
+    }
+
+    private static Map<String, String> createConfig(boolean incremental) {
+        Map<String, String> config = new HashMap<>();
+        config.put("namespace", "/tmp/");
+        config.put("incremental", String.valueOf(incremental));
+        return config;
+    }
+}
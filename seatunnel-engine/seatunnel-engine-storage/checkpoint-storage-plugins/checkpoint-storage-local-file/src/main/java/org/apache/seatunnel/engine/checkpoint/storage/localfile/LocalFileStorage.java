@@ -22,6 +22,7 @@ package org.apache.seatunnel.engine.checkpoint.storage.localfile;
 
 import org.apache.seatunnel.engine.checkpoint.storage.PipelineState;
 import org.apache.seatunnel.engine.checkpoint.storage.api.AbstractCheckpointStorage;
+import org.apache.seatunnel.engine.checkpoint.storage.api.CheckpointChunkStore;
 import org.apache.seatunnel.engine.checkpoint.storage.exception.CheckpointStorageException;
 
 import org.apache.commons.collections4.MapUtils;
@@ -33,7 +34,10 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -43,6 +47,7 @@ import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import static org.apache.seatunnel.engine.checkpoint.storage.constants.StorageConstants.INCREMENTAL;
 import static org.apache.seatunnel.engine.checkpoint.storage.constants.StorageConstants.STORAGE_NAME_SPACE;
 
 @Slf4j
@@ -55,6 +60,10 @@ public class LocalFileStorage extends AbstractCheckpointStorage {
 
     private static final String DEFAULT_LINUX_OS_NAME_SPACE = "/tmp/seatunnel/checkpoint/";
 
+    private static final String CHUNK_DIRECTORY = "chunks";
+
+    private static final String CHUNK_EXTENSION = "chunk";
+
     public LocalFileStorage(Map<String, String> configuration) {
         initStorage(configuration);
     }
@@ -63,11 +72,14 @@ public class LocalFileStorage extends AbstractCheckpointStorage {
     public void initStorage(Map<String, String> configuration) {
         if (MapUtils.isEmpty(configuration)) {
             setDefaultStorageSpaceByOSName();
+            setChunkStore(new LocalFileChunkStore(), false);
             return;
         }
         if (StringUtils.isNotBlank(configuration.get(STORAGE_NAME_SPACE))) {
             setStorageNameSpace(configuration.get(STORAGE_NAME_SPACE));
         }
+        setChunkStore(
+                new LocalFileChunkStore(), Boolean.parseBoolean(configuration.get(INCREMENTAL)));
     }
 
     /** set default storage root directory */
@@ -96,16 +108,21 @@ public class LocalFileStorage extends AbstractCheckpointStorage {
 
         File file = new File(fileName);
         try {
-            FileUtils.touch(file);
-        } catch (IOException e) {
-            throw new CheckpointStorageException("Failed to create checkpoint file " + fileName, e);
-        }
+            try {
+                FileUtils.touch(file);
+            } catch (IOException e) {
+                throw new CheckpointStorageException(
+                        "Failed to create checkpoint file " + fileName, e);
+            }
 
-        try {
-            FileUtils.writeByteArrayToFile(file, datas);
-        } catch (IOException e) {
-            throw new CheckpointStorageException(
-                    "Failed to write checkpoint data to file " + fileName, e);
+            try {
+                FileUtils.writeByteArrayToFile(file, datas);
+            } catch (IOException e) {
+                throw new CheckpointStorageException(
+                        "Failed to write checkpoint data to file " + fileName, e);
+            }
+        } finally {
+            releaseInFlightChunks(state);
         }
 
         return fileName;
@@ -279,6 +296,7 @@ public class LocalFileStorage extends AbstractCheckpointStorage {
         } catch (IOException e) {
             log.warn("Failed to delete checkpoint directory " + jobPath, e);
         }
+        releaseStateChunks(jobId);
     }
 
     @Override
@@ -352,6 +370,7 @@ public class LocalFileStorage extends AbstractCheckpointStorage {
                         }
                     }
                 });
+        deleteUnreferencedChunks(jobId);
     }
 
     @Override
@@ -388,5 +407,87 @@ public class LocalFileStorage extends AbstractCheckpointStorage {
                         }
                     }
                 });
+        deleteUnreferencedChunks(jobId);
+    }
+
+    /** Deletes the state chunks of the job which are not referenced by any checkpoint anymore. */
+    private void deleteUnreferencedChunks(String jobId) {
+        try {
+            if (!hasStateChunks(jobId)) {
+                return;
+            }
+            deleteUnreferencedChunks(
+                    jobId,
+                    () -> {
+                        List<byte[]> remainingCheckpointData = new ArrayList<>();
+                        for (File file :
+                                FileUtils.listFiles(
+                                        new File(getStorageParentDirectory() + jobId),
+                                        FILE_EXTENSIONS,
+                                        false)) {
+                            remainingCheckpointData.add(FileUtils.readFileToByteArray(file));
+                        }
+                        return remainingCheckpointData;
+                    });
+        } catch (IOException e) {
+            log.warn("Failed to delete unreferenced state chunks for job {}", jobId, e);
+        }
+    }
+
+    /** Stores the state chunks of a job in the chunks directory next to its checkpoints. */
+    private class LocalFileChunkStore implements CheckpointChunkStore {
+
+        @Override
+        public boolean exists(String jobId, String chunkId) {
+            return getChunkFile(jobId, chunkId).exists();
+        }
+
+        @Override
+        public void write(String jobId, String chunkId, byte[] data) throws IOException {
+            File chunkFile = getChunkFile(jobId, chunkId);
+            File tmpChunkFile =
+                    new File(
+                            chunkFile.getParentFile(),
+                            chunkFile.getName() + "." + Thread.currentThread().getId() + ".tmp");
+            FileUtils.writeByteArrayToFile(tmpChunkFile, data);
+            try {
+                Files.move(
+                        tmpChunkFile.toPath(), chunkFile.toPath(), StandardCopyOption.ATOMIC_MOVE);
+            } catch (FileAlreadyExistsException e) {
+                // a chunk with the same id has the same content, so an existing one is fine
+            } finally {
+                Files.deleteIfExists(tmpChunkFile.toPath());
+            }
+        }
+
+        @Override
+        public byte[] read(String jobId, String chunkId) throws IOException {
+            return FileUtils.readFileToByteArray(getChunkFile(jobId, chunkId));
+        }
+
+        @Override
+        public Collection<String> list(String jobId) {
+            File chunkDirectory = getChunkDirectory(jobId);
+            if (!chunkDirectory.isDirectory()) {
+                return new ArrayList<>();
+            }
+            return FileUtils.listFiles(chunkDirectory, new String[] {CHUNK_EXTENSION}, false)
+                    .stream()
+                    .map(file -> StringUtils.removeEnd(file.getName(), "." + CHUNK_EXTENSION))
+                    .collect(Collectors.toList());
+        }
+
+        @Override
+        public void delete(String jobId, String chunkId) throws IOException {
+            Files.deleteIfExists(getChunkFile(jobId, chunkId).toPath());
+        }
+
+        private File getChunkDirectory(String jobId) {
+            return new File(getStorageParentDirectory() + jobId, CHUNK_DIRECTORY);
+        }
+
+        private File getChunkFile(String jobId, String chunkId) {
+            return new File(getChunkDirectory(jobId), chunkId + "." + CHUNK_EXTENSION);
+        }
     }
 }
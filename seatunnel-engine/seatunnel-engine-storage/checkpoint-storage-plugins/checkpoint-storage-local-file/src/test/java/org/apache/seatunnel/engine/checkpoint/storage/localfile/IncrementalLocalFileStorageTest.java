@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.apache.seatunnel.engine.checkpoint.storage.localfile;
+
+import org.apache.seatunnel.engine.checkpoint.storage.PipelineState;
+import org.apache.seatunnel.engine.checkpoint.storage.common.StateChunker;
+import org.apache.seatunnel.engine.checkpoint.storage.exception.CheckpointStorageException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.condition.OS.LINUX;
+import static org.junit.jupiter.api.condition.OS.MAC;
+
+@EnabledOnOs({LINUX, MAC})
+public class IncrementalLocalFileStorageTest {
+
+    private static final String NAMESPACE = "/tmp/seatunnel/incremental-checkpoint/";
+    private static final String JOB_ID = "incremental";
+
+    private final LocalFileStorage storage = new LocalFileStorage(createConfig());
+
+    @Test
+    public void testStoreOnlyChangedChunks() throws CheckpointStorageException {
+        byte[] states = new byte[8 * 1024 * 1024];
+        new Random(1).nextBytes(states);
+        storage.storeCheckPoint(createState(1, states));
+        int fullChunks = StateChunker.split(states).size();
+        Assertions.assertTrue(fullChunks > 1);
+        Assertions.assertEquals(fullChunks, countChunks());
+
+        byte[] changedStates = states.clone();
+        Arrays.fill(changedStates, 4 * 1024 * 1024, 4 * 1024 * 1024 + 100, (byte) 1);
+        storage.storeCheckPoint(createState(2, changedStates));
+        // only the chunks around the changed bytes are written again
+        Assertions.assertTrue(countChunks() <= fullChunks + 2, "chunks " + countChunks());
+
+        Assertions.assertArrayEquals(states, storage.getCheckpoint(JOB_ID, "1", "1").getStates());
+        Assertions.assertArrayEquals(
+                changedStates,
+                storage.getLatestCheckpointByJobIdAndPipelineId(JOB_ID, "1").getStates());
+
+        storage.deleteCheckpoint(JOB_ID, "1", "1");
+        Assertions.assertEquals(StateChunker.split(changedStates).size(), countChunks());
+        Assertions.assertArrayEquals(
+                changedStates, storage.getCheckpoint(JOB_ID, "1", "2").getStates());
+    }
+
+    @Test
+    public void testKeepChunksOfUploadsInFlight() throws Exception {
+        byte[] states = randomStates(1);
+        storage.storeCheckPoint(createState(1, states));
+        storage.storeCheckPoint(createState(2, randomStates(2)));
+
+        // the files of these uploads are not written yet
+        byte[] otherPipelineStates = randomStates(3);
+        storage.serializeCheckPointData(createState(2, 1, otherPipelineStates));
+        byte[] overtakenStates = randomStates(4);
+        storage.serializeCheckPointData(createState(3, overtakenStates));
+        storage.serializeCheckPointData(createState(4, randomStates(5)));
+
+        storage.deleteCheckpoint(JOB_ID, "1", "1");
+
+        Assertions.assertTrue(
+                hasChunks(otherPipelineStates), "chunks of another pipeline were deleted");
+        Assertions.assertTrue(
+                hasChunks(overtakenStates), "chunks of an overtaken upload were deleted");
+        Assertions.assertFalse(hasChunks(states));
+    }
+
+    @AfterEach
+    public void teardown() {
+        storage.deleteCheckpoint(JOB_ID);
+    }
+
+    private int countChunks() {
+        String[] chunks = new File(NAMESPACE + JOB_ID, "chunks").list();
+        return chunks == null ? 0 : chunks.length;
+    }
+
+    private boolean hasChunks(byte[] states) {
+        File chunks = new File(NAMESPACE + JOB_ID, "chunks");
+        return StateChunker.split(states).stream()
+                .allMatch(
+                        chunk -> new File(chunks, StateChunker.chunkId(chunk) + ".chunk").exists());
+    }
+
+    private static byte[] randomStates(long seed) {
+        byte[] states = new byte[2 * 1024 * 1024];
+        new Random(seed).nextBytes(states);
+        return states;
+    }
+
+    private static PipelineState createState(long checkpointId, byte[] states) {
+        return createState(1, checkpointId, states);
+    }
+
+    private static PipelineState createState(int pipelineId, long checkpointId, byte[] states) {
+        return PipelineState.builder()
+                .jobId(JOB_ID)
+                .pipelineId(pipelineId)
+                .checkpointId(checkpointId)
+                .states(states)
+                .build();
+    }
+
+    private static Map<String, String> createConfig() {
+        Map<String, String> config = new HashMap<>();
+        config.put("namespace", NAMESPACE);
+        config.put("incremental", "true");
+        return config;
+    }
+}
@@ -221,8 +221,7 @@ public class IMapFileStorage implements IMapStorage {
                     try {
                         IMapFileData data = buildDeleteIMapFileData(key);
                         long requestId = sendToDisruptorQueue(data, WALEventType.APPEND);
-                        walDisruptor.tryAppendPublish(data, requestId);
-                        requestMap.put(requestId, data);
+                        requestMap.put(requestId, key);
                     } catch (IOException e) {
                         log.error("parse to IMapFileData error", e);
                         failures.add(key);
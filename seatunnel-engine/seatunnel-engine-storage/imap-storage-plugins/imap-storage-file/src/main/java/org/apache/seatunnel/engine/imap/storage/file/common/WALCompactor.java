@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.apache.seatunnel.engine.imap.storage.file.common;
+
+import org.apache.seatunnel.engine.imap.storage.file.bean.IMapFileData;
+import org.apache.seatunnel.engine.serializer.api.Serializer;
+
+import org.apache.hadoop.fs.FSDataOutputStream;
+import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compacts the WAL segments of one writer into a snapshot, which keeps only the latest record of
+ * every key, deleted keys included. Loading the data only has to read the latest snapshot and the
+ * segments written after it, the compacted segments and the previous snapshot are deleted.
+ */
+@Slf4j
+public class WALCompactor {
+
+    private static final String TMP_FILE_SUFFIX = ".tmp";
+
+    private final FileSystem fs;
+
+    private final Path parentPath;
+
+    private final Serializer serializer;
+
+    public WALCompactor(FileSystem fs, Path parentPath, Serializer serializer) {
+        this.fs = fs;
+        this.parentPath = parentPath;
+        this.serializer = serializer;
+    }
+
+    /** Compacts the latest snapshot and all segments up to the given id into a new snapshot. */
+    public void compact(long segmentId) throws IOException {
+        Path lastSnapshot = null;
+        long lastSnapshotId = 0;
+        List<Path> segments = new ArrayList<>();
+        for (FileStatus fileStatus : fs.listStatus(parentPath)) {
+            Path path = fileStatus.getPath();
+            long id = WALDataUtils.parseSegmentId(path);
+            if (WALDataUtils.isSnapshot(path) && id <= segmentId && id > lastSnapshotId) {
+                lastSnapshot = path;
+                lastSnapshotId = id;
+            } else if (WALDataUtils.isSegment(path) && id > 0 && id <= segmentId) {
+                segments.add(path);
+            }
+        }
+        segments.sort(Comparator.comparingLong(WALDataUtils::parseSegmentId));
+
+        Map<Map.Entry<String, ByteBuffer>, Record> latestRecords = new HashMap<>();
+        List<Path> compacted = new ArrayList<>();
+        if (lastSnapshot != null) {
+            merge(latestRecords, lastSnapshot);
+            compacted.add(lastSnapshot);
+        }
+        for (Path segment : segments) {
+            if (WALDataUtils.parseSegmentId(segment) > lastSnapshotId) {
+                merge(latestRecords, segment);
+            }
+            compacted.add(segment);
+        }
+
+        Path snapshot = WALDataUtils.snapshotPath(parentPath, segmentId);
+        Path tmpSnapshot = new Path(parentPath, snapshot.getName() + TMP_FILE_SUFFIX);
+        try (FSDataOutputStream out = fs.create(tmpSnapshot, true)) {
+            for (Record record : latestRecords.values()) {
+                out.write(WALDataUtils.wrapperBytes(record.bytes));
+            }
+        }
+        if (!fs.rename(tmpSnapshot, snapshot)) {
+            fs.delete(tmpSnapshot, false);
+            throw new IOException("rename wal snapshot " + tmpSnapshot + " failed");
+        }
+        for (Path path : compacted) {
+            fs.delete(path, false);
+        }
+        log.info(
+                "compacted {} wal files into snapshot {} with {} records",
+                compacted.size(),
+                snapshot,
+                latestRecords.size());
+    }
+
+    private void merge(Map<Map.Entry<String, ByteBuffer>, Record> latestRecords, Path path)
+            throws IOException {
+        for (byte[] bytes : WALDataUtils.readRecords(fs, path)) {
+            IMapFileData data = serializer.deserialize(bytes, IMapFileData.class);
+            Map.Entry<String, ByteBuffer> key =
+                    new AbstractMap.SimpleImmutableEntry<>(
+                            data.getKeyClassName(), ByteBuffer.wrap(data.getKey()));
+            Record record = latestRecords.get(key);
+            // the later written record wins on equal timestamps
+            if (record == null || data.getTimestamp() >= record.timestamp) {
+                latestRecords.put(key, new Record(data.getTimestamp(), bytes));
+            }
+        }
+    }
+
+    private static class Record {
+        private final long timestamp;
+        private final byte[] bytes;
+
+        private Record(long timestamp, byte[] bytes) {
+            this.timestamp = timestamp;
+            this.bytes = bytes;
+        }
+    }
+}
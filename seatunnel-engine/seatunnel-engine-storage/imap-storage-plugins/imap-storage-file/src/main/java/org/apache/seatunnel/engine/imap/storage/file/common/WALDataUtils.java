@@ -20,10 +20,105 @@
 
 package org.apache.seatunnel.engine.imap.storage.file.common;
 
+import org.apache.seatunnel.engine.imap.storage.file.wal.writer.IFileWriter;
+
+import org.apache.hadoop.fs.FSDataInputStream;
+import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
 public class WALDataUtils {
 
     public static final int WAL_DATA_METADATA_LENGTH = 12;
 
+    /** Suffix of the WAL segment files, which are named {@code <segment id>_wal.txt}. */
+    public static final String WAL_FILE_SUFFIX = IFileWriter.FILE_NAME;
+
+    /**
+     * Suffix of the snapshot files, which are named {@code <segment id>_snapshot.txt} and contain
+     * the latest record of every key written to the segments up to the segment id.
+     */
+    public static final String SNAPSHOT_FILE_SUFFIX = "snapshot.txt";
+
+    private static final String SEGMENT_ID_SEPARATOR = "_";
+
+    public static Path segmentPath(Path parentPath, long segmentId) {
+        return new Path(parentPath, segmentId + SEGMENT_ID_SEPARATOR + WAL_FILE_SUFFIX);
+    }
+
+    public static Path snapshotPath(Path parentPath, long segmentId) {
+        return new Path(parentPath, segmentId + SEGMENT_ID_SEPARATOR + SNAPSHOT_FILE_SUFFIX);
+    }
+
+    public static boolean isSegment(Path path) {
+        return path.getName().endsWith(WAL_FILE_SUFFIX);
+    }
+
+    public static boolean isSnapshot(Path path) {
+        return path.getName().endsWith(SNAPSHOT_FILE_SUFFIX);
+    }
+
+    /**
+     * @return the segment id of a WAL segment or snapshot file, -1 for files written without a
+     *     segment id
+     */
+    public static long parseSegmentId(Path path) {
+        String name = path.getName();
+        int index = name.indexOf(SEGMENT_ID_SEPARATOR);
+        if (index <= 0) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(name.substring(0, index));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /** @return the highest segment id of the files in the directory, 0 if there is none */
+    public static long lastSegmentId(FileSystem fs, Path parentPath) throws IOException {
+        long lastSegmentId = 0;
+        if (!fs.exists(parentPath)) {
+            return lastSegmentId;
+        }
+        for (FileStatus fileStatus : fs.listStatus(parentPath)) {
+            Path path = fileStatus.getPath();
+            if (isSegment(path) || isSnapshot(path)) {
+                lastSegmentId = Math.max(lastSegmentId, parseSegmentId(path));
+            }
+        }
+        return lastSegmentId;
+    }
+
+    /** Reads the wrapped records of a file, an incompletely written last record is skipped. */
+    public static List<byte[]> readRecords(FileSystem fs, Path path) throws IOException {
+        List<byte[]> result = new ArrayList<>();
+        long length = fs.getFileStatus(path).getLen();
+        try (FSDataInputStream in = fs.open(path)) {
+            byte[] datas = new byte[(int) length];
+            in.readFully(datas);
+            int startIndex = 0;
+            while (startIndex + WAL_DATA_METADATA_LENGTH < datas.length) {
+                byte[] metadata = new byte[WAL_DATA_METADATA_LENGTH];
+                System.arraycopy(datas, startIndex, metadata, 0, WAL_DATA_METADATA_LENGTH);
+                int dataLength = byteArrayToInt(metadata);
+                startIndex += WAL_DATA_METADATA_LENGTH;
+                if (startIndex + dataLength > datas.length) {
+                    break;
+                }
+                byte[] data = new byte[dataLength];
+                System.arraycopy(datas, startIndex, data, 0, data.length);
+                result.add(data);
+                startIndex += data.length;
+            }
+        }
+        return result;
+    }
+
     public static byte[] wrapperBytes(byte[] bytes) {
         byte[] metadata = new byte[WAL_DATA_METADATA_LENGTH];
         byte[] length = intToByteArray(bytes.length);
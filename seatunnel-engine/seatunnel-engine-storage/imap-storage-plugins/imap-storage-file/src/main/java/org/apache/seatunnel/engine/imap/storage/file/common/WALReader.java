@@ -33,6 +33,9 @@ import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -51,8 +54,24 @@ public class WALReader {
         this.fileReader.initialize(fs, serializer);
     }
 
+    /** Reads the latest record of every key, sorted from the latest to the oldest record. */
     private List<IMapFileData> readAllData(Path parentPath) throws IOException {
-        return this.fileReader.readAllData(parentPath);
+        List<IMapFileData> allData = this.fileReader.readAllData(parentPath);
+        if (CollectionUtils.isEmpty(allData)) {
+            return allData;
+        }
+        Collections.sort(allData);
+        // skip overwritten records before their keys and values are deserialized
+        Set<Map.Entry<String, ByteBuffer>> readKeys = new HashSet<>(allData.size());
+        List<IMapFileData> latestData = new ArrayList<>(allData.size());
+        for (IMapFileData data : allData) {
+            if (readKeys.add(
+                    new AbstractMap.SimpleImmutableEntry<>(
+                            data.getKeyClassName(), ByteBuffer.wrap(data.getKey())))) {
+                latestData.add(data);
+            }
+        }
+        return latestData;
     }
 
     public Set<Object> loadAllKeys(Path parentPath) throws IOException {
@@ -60,7 +79,6 @@ public class WALReader {
         if (CollectionUtils.isEmpty(allData)) {
             return new HashSet<>();
         }
-        Collections.sort(allData);
         Set<Object> result = new HashSet<>(allData.size());
         Map<Object, Long> deleteMap = new HashMap<>();
         for (IMapFileData data : allData) {
@@ -86,7 +104,6 @@ public class WALReader {
         if (CollectionUtils.isEmpty(allData)) {
             return new HashMap<>();
         }
-        Collections.sort(allData);
         Map<Object, Object> result = new HashMap<>(allData.size());
         Map<Object, Long> deleteMap = new HashMap<>();
         boolean searchByKeys = CollectionUtils.isNotEmpty(searchKeys);
@@ -29,12 +29,36 @@ import org.apache.seatunnel.engine.serializer.api.Serializer;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
 
+import lombok.extern.slf4j.Slf4j;
+
 import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Appends the data to the WAL segments of the writer and compacts the closed segments into a
+ * snapshot in the background whenever {@code snapshot.segments} new segments have been closed.
+ */
+@Slf4j
 public class WALWriter implements AutoCloseable {
 
+    private static final int DEFAULT_CLOSE_WAIT_TIME_SECONDS = 3;
+
     IFileWriter writer;
 
+    private final WALCompactor compactor;
+
+    private final int snapshotSegments;
+
+    private final ExecutorService compactionExecutor;
+
+    private Future<?> compaction;
+
+    /** The last segment id which is covered by a snapshot. */
+    private long snapshotSegmentId;
+
     public WALWriter(
             FileSystem fs,
             FileConfiguration fileConfiguration,
@@ -44,14 +68,55 @@ public class WALWriter implements AutoCloseable {
         this.writer = DiscoveryWalFileFactory.getWriter(fileConfiguration.getName());
         this.writer.setBlockSize(fileConfiguration.getConfiguration().getBlockSize());
         this.writer.initialize(fs, parentPath, serializer);
+        this.snapshotSegments = fileConfiguration.getConfiguration().getSnapshotSegments();
+        this.compactor = new WALCompactor(fs, parentPath, serializer);
+        this.compactionExecutor =
+                Executors.newSingleThreadExecutor(
+                        runnable -> {
+                            Thread thread = new Thread(runnable, "imap-wal-compaction");
+                            thread.setDaemon(true);
+                            return thread;
+                        });
     }
 
+    /** Appends the data, it is durable after the next {@link #flush()}. */
     public void write(IMapFileData data) throws IOException {
         this.writer.write(data);
     }
 
+    /** Makes all written data durable and starts a compaction if enough segments are closed. */
+    public void flush() throws IOException {
+        this.writer.flush();
+        long closedSegmentId = writer.getClosedSegmentId();
+        if (snapshotSegments > 0
+                && closedSegmentId - snapshotSegmentId >= snapshotSegments
+                && (compaction == null || compaction.isDone())) {
+            snapshotSegmentId = closedSegmentId;
+            compaction = compactionExecutor.submit(() -> compact(closedSegmentId));
+        }
+    }
+
+    private void compact(long segmentId) {
+        try {
+            compactor.compact(segmentId);
+        } catch (Exception e) {
+            // the segments are compacted together with the next snapshot
+            log.warn("compact wal segments up to {} error", segmentId, e);
+        }
+    }
+
     @Override
     public void close() throws Exception {
-        this.writer.close();
+        try {
+            this.writer.flush();
+        } finally {
+            this.writer.close();
+            compactionExecutor.shutdown();
+            if (!compactionExecutor.awaitTermination(
+                    DEFAULT_CLOSE_WAIT_TIME_SECONDS, TimeUnit.SECONDS)) {
+                // a compaction which is not finished leaves all its input files behind
+                log.warn("wal compaction is not finished after closing the writer");
+            }
+        }
     }
 }
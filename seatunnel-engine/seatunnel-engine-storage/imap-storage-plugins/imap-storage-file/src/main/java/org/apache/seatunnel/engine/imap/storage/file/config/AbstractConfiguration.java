@@ -28,10 +28,15 @@ import java.util.Map;
 
 public abstract class AbstractConfiguration {
     public static final String BLOCK_SIZE = "block.size";
+    /** Number of closed WAL segments after which they are compacted into a snapshot. */
+    public static final String SNAPSHOT_SEGMENTS = "snapshot.segments";
+
     protected static final String HDFS_IMPL_KEY = "impl";
 
     private Long blockSize = 1024 * 1024L;
 
+    private int snapshotSegments = 16;
+
     public Long getBlockSize() {
         return blockSize;
     }
@@ -40,6 +45,25 @@ public abstract class AbstractConfiguration {
         this.blockSize = blockSize;
     }
 
+    public int getSnapshotSegments() {
+        return snapshotSegments;
+    }
+
+    public void setSnapshotSegments(int snapshotSegments) {
+        this.snapshotSegments = snapshotSegments;
+    }
+
+    /**
+     * set the WAL snapshot options, a value less than 1 disables snapshots
+     *
+     * @param config configuration
+     */
+    void setSnapshotConfiguration(Map<String, String> config) {
+        if (config.containsKey(SNAPSHOT_SEGMENTS)) {
+            setSnapshotSegments(Integer.parseInt(config.get(SNAPSHOT_SEGMENTS)));
+        }
+    }
+
     /**
      * check the configuration keys
      *
@@ -66,6 +90,7 @@ public abstract class AbstractConfiguration {
      */
     void setExtraConfiguration(
             Configuration hadoopConf, Map<String, String> config, String prefix) {
+        setSnapshotConfiguration(config);
         config.forEach(
                 (k, v) -> {
                     if (config.containsKey(BLOCK_SIZE)) {
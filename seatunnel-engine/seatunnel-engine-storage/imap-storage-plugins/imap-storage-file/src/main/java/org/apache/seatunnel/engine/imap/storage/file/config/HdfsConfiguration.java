@@ -84,6 +84,7 @@ public class HdfsConfiguration extends AbstractConfiguration {
                             String value = entry.getValue();
                             hadoopConf.set(key, value);
                         });
+        setSnapshotConfiguration(config);
 
         return hadoopConf;
     }
@@ -64,17 +64,17 @@ public class WALDisruptor implements Closeable {
             FileConfiguration fileConfiguration,
             String parentPath,
             Serializer serializer) {
-        // todo should support multi thread producer
+        // data is stored by many threads at once, the handler commits their records in groups
         ThreadFactory threadFactory = DaemonThreadFactory.INSTANCE;
         this.disruptor =
                 new Disruptor<>(
                         FileWALEvent.FACTORY,
                         DEFAULT_RING_BUFFER_SIZE,
                         threadFactory,
-                        ProducerType.SINGLE,
+                        ProducerType.MULTI,
                         new BlockingWaitStrategy());
 
-        disruptor.handleEventsWithWorkerPool(
+        disruptor.handleEventsWith(
                 new WALWorkHandler(fs, fileConfiguration, parentPath, serializer));
 
         disruptor.start();
@@ -30,17 +30,27 @@ import org.apache.seatunnel.engine.serializer.api.Serializer;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
 
-import com.lmax.disruptor.WorkHandler;
+import com.lmax.disruptor.EventHandler;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
-/** NOTICE: Single thread to write data to orc file. */
+/**
+ * NOTICE: Single thread to write data to the WAL. The records of all events which are available at
+ * once are committed together with a single flush, the requests are answered after the flush.
+ */
 @Slf4j
-public class WALWorkHandler implements WorkHandler<FileWALEvent> {
+public class WALWorkHandler implements EventHandler<FileWALEvent> {
+
+    /** The maximum number of records committed together. */
+    private static final int MAX_GROUP_COMMIT_SIZE = 1024;
 
     private WALWriter writer;
 
+    private final List<Long> pendingRequestIds = new ArrayList<>();
+
     public WALWorkHandler(
             FileSystem fs,
             FileConfiguration fileConfiguration,
@@ -55,33 +65,60 @@ public class WALWorkHandler implements WorkHandler<FileWALEvent> {
     }
 
     @Override
-    public void onEvent(FileWALEvent fileWALEvent) throws Exception {
-        log.debug("write data to orc file");
+    public void onEvent(FileWALEvent fileWALEvent, long sequence, boolean endOfBatch)
+            throws Exception {
+        log.debug("write data to wal file");
         walEvent(fileWALEvent.getData(), fileWALEvent.getType(), fileWALEvent.getRequestId());
+        if (!pendingRequestIds.isEmpty()
+                && (endOfBatch || pendingRequestIds.size() >= MAX_GROUP_COMMIT_SIZE)) {
+            commit();
+        }
     }
 
     private void walEvent(IMapFileData iMapFileData, WALEventType type, long requestId)
             throws Exception {
         if (type == WALEventType.APPEND) {
-            boolean writeSuccess = true;
             // write to current writer
             try {
                 writer.write(iMapFileData);
+                pendingRequestIds.add(requestId);
             } catch (IOException e) {
-                writeSuccess = false;
-                log.error("write orc file error, walEventBean is {} ", iMapFileData, e);
+                log.error("write wal file error, walEventBean is {} ", iMapFileData, e);
+                // the state of the pending records is unknown after a failed write
+                executeResponse(requestId, false);
+                completePendingRequests(false);
             }
-            // return the result to the client
-            executeResponse(requestId, writeSuccess);
             return;
         }
 
         if (type == WALEventType.CLOSED) {
+            if (!pendingRequestIds.isEmpty()) {
+                commit();
+            }
             // close writer and archive
             writer.close();
         }
     }
 
+    private void commit() {
+        boolean commitSuccess = true;
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            commitSuccess = false;
+            log.error("commit {} records to wal file error", pendingRequestIds.size(), e);
+        }
+        // return the result to the clients
+        completePendingRequests(commitSuccess);
+    }
+
+    private void completePendingRequests(boolean success) {
+        for (Long requestId : pendingRequestIds) {
+            executeResponse(requestId, success);
+        }
+        pendingRequestIds.clear();
+    }
+
     private void executeResponse(long requestId, boolean success) {
         if (null == RequestFutureCache.get(requestId)) {
             log.warn("requestId is {} not found in RequestFutureCache", requestId);
@@ -24,21 +24,28 @@ import org.apache.seatunnel.engine.imap.storage.file.bean.IMapFileData;
 import org.apache.seatunnel.engine.imap.storage.file.common.WALDataUtils;
 import org.apache.seatunnel.engine.serializer.api.Serializer;
 
-import org.apache.commons.collections.CollectionUtils;
-import org.apache.hadoop.fs.FSDataInputStream;
+import org.apache.hadoop.fs.FileStatus;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.LocatedFileStatus;
 import org.apache.hadoop.fs.Path;
 import org.apache.hadoop.fs.RemoteIterator;
 
+import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
-import static org.apache.seatunnel.engine.imap.storage.file.common.WALDataUtils.WAL_DATA_METADATA_LENGTH;
-
+/**
+ * Reads the data of every writer directory below the parent path. Only the latest snapshot of a
+ * directory and the segments written after it are read, older files are covered by the snapshot.
+ */
 public class DefaultReader implements IFileReader<IMapFileData> {
     private static final int DEFAULT_QUERY_LIST_SIZE = 1024;
+    /** A running compaction may delete the listed files while they are read. */
+    private static final int MAX_READ_ATTEMPTS = 3;
+
     FileSystem fs;
     Serializer serializer;
 
@@ -55,60 +62,88 @@ public class DefaultReader implements IFileReader<IMapFileData> {
 
     @Override
     public List<IMapFileData> readAllData(Path parentPath) throws IOException {
-        List<String> fileNames = getFileNames(parentPath);
-        if (CollectionUtils.isEmpty(fileNames)) {
-            return new ArrayList<>();
-        }
+        Map<Path, List<Path>> filesByDirectory = getFilesByDirectory(parentPath);
         List<IMapFileData> result = new ArrayList<>(DEFAULT_QUERY_LIST_SIZE);
-        for (String fileName : fileNames) {
-            result.addAll(readData(new Path(parentPath, fileName)));
+        for (Map.Entry<Path, List<Path>> entry : filesByDirectory.entrySet()) {
+            result.addAll(readDirectory(entry.getKey(), entry.getValue()));
         }
         return result;
     }
 
-    private List<String> getFileNames(Path parentPath) {
+    private Map<Path, List<Path>> getFilesByDirectory(Path parentPath) {
         try {
+            Map<Path, List<Path>> filesByDirectory = new LinkedHashMap<>();
             if (!fs.exists(parentPath)) {
-                return new ArrayList<>();
+                return filesByDirectory;
             }
             RemoteIterator<LocatedFileStatus> fileStatusRemoteIterator =
                     fs.listFiles(parentPath, true);
-            List<String> fileNames = new ArrayList<>();
             while (fileStatusRemoteIterator.hasNext()) {
-                LocatedFileStatus fileStatus = fileStatusRemoteIterator.next();
-                if (fileStatus.getPath().getName().endsWith("wal.txt")) {
-                    fileNames.add(fileStatus.getPath().toString());
+                Path path = fileStatusRemoteIterator.next().getPath();
+                if (WALDataUtils.isSegment(path) || WALDataUtils.isSnapshot(path)) {
+                    filesByDirectory
+                            .computeIfAbsent(path.getParent(), directory -> new ArrayList<>())
+                            .add(path);
                 }
             }
-            return fileNames;
+            return filesByDirectory;
         } catch (IOException e) {
             throw new IMapStorageException(e, "get file names error,path is s%", parentPath);
         }
     }
 
-    private List<IMapFileData> readData(Path path) throws IOException {
-        List<IMapFileData> result = new ArrayList<>(DEFAULT_QUERY_LIST_SIZE);
-        long length = fs.getFileStatus(path).getLen();
-        try (FSDataInputStream in = fs.open(path)) {
-            byte[] datas = new byte[(int) length];
-            in.readFully(datas);
-            int startIndex = 0;
-            while (startIndex + WAL_DATA_METADATA_LENGTH < datas.length) {
-
-                byte[] metadata = new byte[WAL_DATA_METADATA_LENGTH];
-                System.arraycopy(datas, startIndex, metadata, 0, WAL_DATA_METADATA_LENGTH);
-                int dataLength = WALDataUtils.byteArrayToInt(metadata);
-                startIndex += WAL_DATA_METADATA_LENGTH;
-                if (startIndex + dataLength > datas.length) {
-                    break;
+    private List<IMapFileData> readDirectory(Path directory, List<Path> files) throws IOException {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                List<IMapFileData> result = new ArrayList<>(DEFAULT_QUERY_LIST_SIZE);
+                for (Path path : selectFiles(files)) {
+                    result.addAll(readData(path));
+                }
+                return result;
+            } catch (FileNotFoundException e) {
+                if (attempt >= MAX_READ_ATTEMPTS) {
+                    throw e;
+                }
+                files = new ArrayList<>();
+                for (FileStatus fileStatus : fs.listStatus(directory)) {
+                    Path path = fileStatus.getPath();
+                    if (WALDataUtils.isSegment(path) || WALDataUtils.isSnapshot(path)) {
+                        files.add(path);
+                    }
                 }
-                byte[] data = new byte[dataLength];
-                System.arraycopy(datas, startIndex, data, 0, data.length);
-                IMapFileData fileData = serializer.deserialize(data, IMapFileData.class);
-                result.add(fileData);
-                startIndex += data.length;
             }
         }
+    }
+
+    /** The latest snapshot, the segments after it and the files written without segment id. */
+    private List<Path> selectFiles(List<Path> files) {
+        long snapshotId = 0;
+        Path snapshot = null;
+        for (Path path : files) {
+            long id = WALDataUtils.parseSegmentId(path);
+            if (WALDataUtils.isSnapshot(path) && id > snapshotId) {
+                snapshotId = id;
+                snapshot = path;
+            }
+        }
+        List<Path> selected = new ArrayList<>();
+        if (snapshot != null) {
+            selected.add(snapshot);
+        }
+        for (Path path : files) {
+            long id = WALDataUtils.parseSegmentId(path);
+            if (WALDataUtils.isSegment(path) && (id < 0 || id > snapshotId)) {
+                selected.add(path);
+            }
+        }
+        return selected;
+    }
+
+    private List<IMapFileData> readData(Path path) throws IOException {
+        List<IMapFileData> result = new ArrayList<>(DEFAULT_QUERY_LIST_SIZE);
+        for (byte[] data : WALDataUtils.readRecords(fs, path)) {
+            result.add(serializer.deserialize(data, IMapFileData.class));
+        }
         return result;
     }
 }
@@ -19,13 +19,10 @@
  */
 package org.apache.seatunnel.engine.imap.storage.file.wal.writer;
 
-import org.apache.seatunnel.engine.imap.storage.api.exception.IMapStorageException;
 import org.apache.seatunnel.engine.imap.storage.file.bean.IMapFileData;
 import org.apache.seatunnel.engine.imap.storage.file.common.WALDataUtils;
 import org.apache.seatunnel.engine.serializer.api.Serializer;
 
-import org.apache.curator.shaded.com.google.common.io.ByteStreams;
-import org.apache.hadoop.fs.FSDataInputStream;
 import org.apache.hadoop.fs.FSDataOutputStream;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
@@ -35,13 +32,16 @@ import io.netty.buffer.Unpooled;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
-import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * Object stores can not append to a file, so every flush writes the data buffered since the last
+ * flush as a new segment object. The segments are merged into snapshots by the {@link
+ * org.apache.seatunnel.engine.imap.storage.file.common.WALCompactor}.
+ */
 @Slf4j
 public abstract class CloudWriter implements IFileWriter<IMapFileData> {
     private FileSystem fs;
     private Path parentPath;
-    private Path path;
     private Serializer serializer;
 
     private ByteBuf bf = Unpooled.buffer(1024);
@@ -49,7 +49,8 @@ public abstract class CloudWriter implements IFileWriter<IMapFileData> {
     // block size,  default 1024*1024
     private long blockSize = 1024 * 1024;
 
-    private AtomicLong index = new AtomicLong(0);
+    /** The id of the last written segment. */
+    private long segmentId;
 
     @Override
     public void initialize(FileSystem fs, Path parentPath, Serializer serializer)
@@ -58,12 +59,7 @@ public abstract class CloudWriter implements IFileWriter<IMapFileData> {
         this.fs = fs;
         this.serializer = serializer;
         this.parentPath = parentPath;
-        this.path = createNewPath();
-        if (fs.exists(path)) {
-            try (FSDataInputStream fsDataInputStream = fs.open(path)) {
-                bf.writeBytes(ByteStreams.toByteArray(fsDataInputStream));
-            }
-        }
+        this.segmentId = WALDataUtils.lastSegmentId(fs, parentPath);
     }
 
     @Override
@@ -73,46 +69,37 @@ public abstract class CloudWriter implements IFileWriter<IMapFileData> {
         }
     }
 
-    // TODO Synchronous write, asynchronous write can be added in the future
     @Override
     public void write(IMapFileData data) throws IOException {
         byte[] bytes = serializer.serialize(data);
-        this.write(bytes);
+        bf.writeBytes(WALDataUtils.wrapperBytes(bytes));
+        // limit the size of a single segment
+        if (bf.readableBytes() >= blockSize) {
+            flush();
+        }
     }
 
-    private void write(byte[] bytes) {
-        try (FSDataOutputStream out = fs.create(path, true)) {
-            // Write to bytebuffer
-            byte[] data = WALDataUtils.wrapperBytes(bytes);
-            bf.writeBytes(data);
-
-            // Read all bytes
+    @Override
+    public void flush() throws IOException {
+        if (!bf.isReadable()) {
+            return;
+        }
+        try {
             byte[] allBytes = new byte[bf.readableBytes()];
             bf.readBytes(allBytes);
-
-            // write filesystem
-            out.write(allBytes);
-
-            // check and reset
-            checkAndSetNextScheduleRotation(allBytes.length);
-
-        } catch (Exception ex) {
-            throw new IMapStorageException(ex);
-        }
-    }
-
-    private void checkAndSetNextScheduleRotation(long allBytes) {
-        if (allBytes > blockSize) {
-            this.path = createNewPath();
-            this.bf.clear();
-        } else {
-            // reset index
-            bf.resetReaderIndex();
+            Path path = WALDataUtils.segmentPath(parentPath, segmentId + 1);
+            try (FSDataOutputStream out = fs.create(path, true)) {
+                out.write(allBytes);
+            }
+            segmentId++;
+        } finally {
+            bf.clear();
         }
     }
 
-    public Path createNewPath() {
-        return new Path(parentPath, index.incrementAndGet() + "_" + FILE_NAME);
+    @Override
+    public long getClosedSegmentId() {
+        return segmentId;
     }
 
     @Override
@@ -30,15 +30,31 @@ import org.apache.hadoop.fs.Path;
 import org.apache.hadoop.hdfs.DFSOutputStream;
 import org.apache.hadoop.hdfs.client.HdfsDataOutputStream;
 
+import lombok.extern.slf4j.Slf4j;
+
 import java.io.IOException;
 import java.util.EnumSet;
 
+/**
+ * Appends the data to segment files and syncs them on flush. A new segment is started once the
+ * current one is larger than the block size.
+ */
+@Slf4j
 public class HdfsWriter implements IFileWriter<IMapFileData> {
 
+    private FileSystem fs;
+
+    private Path parentPath;
+
     private FSDataOutputStream out;
 
     private Serializer serializer;
 
+    private long blockSize = DEFAULT_BLOCK_SIZE;
+
+    /** The id of the current segment, or of the last closed one if there is no current segment. */
+    private long segmentId;
+
     @Override
     public String identifier() {
         return "hdfs";
@@ -47,18 +63,67 @@ public class HdfsWriter implements IFileWriter<IMapFileData> {
     @Override
     public void initialize(FileSystem fs, Path parentPath, Serializer serializer)
             throws IOException {
-        Path path = new Path(parentPath, FILE_NAME);
-        this.out = fs.create(path);
+        this.fs = fs;
+        this.parentPath = parentPath;
         this.serializer = serializer;
+        this.segmentId = WALDataUtils.lastSegmentId(fs, parentPath);
+    }
+
+    /**
+     * Sets the size after which a new segment is started, the default block size is kept if it is
+     * null.
+     */
+    @Override
+    public void setBlockSize(Long blockSize) {
+        if (blockSize == null) {
+            return;
+        }
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException(
+                    "The block size of the WAL must be positive, but is " + blockSize);
+        }
+        this.blockSize = blockSize;
     }
 
     @Override
     public void write(IMapFileData data) throws IOException {
         byte[] bytes = serializer.serialize(data);
-        this.write(bytes);
+        if (out == null) {
+            segmentId++;
+            out = fs.create(WALDataUtils.segmentPath(parentPath, segmentId));
+        }
+        try {
+            this.out.write(WALDataUtils.wrapperBytes(bytes));
+        } catch (IOException e) {
+            // the segment may end with an incomplete record, continue with a new one
+            closeSegment();
+            throw e;
+        }
     }
 
+    @Override
     public void flush() throws IOException {
+        if (out == null) {
+            return;
+        }
+        try {
+            sync();
+        } catch (IOException e) {
+            // the segment may end with an incomplete record, continue with a new one
+            closeSegment();
+            throw e;
+        }
+        if (out.getPos() >= blockSize) {
+            closeSegment();
+        }
+    }
+
+    @Override
+    public long getClosedSegmentId() {
+        return out == null ? segmentId : segmentId - 1;
+    }
+
+    private void sync() throws IOException {
         // hsync to flag
         if (out instanceof HdfsDataOutputStream) {
             ((HdfsDataOutputStream) out)
@@ -73,16 +138,21 @@ public class HdfsWriter implements IFileWriter<IMapFileData> {
         this.out.hflush();
     }
 
-    private void write(byte[] bytes) throws IOException {
-        byte[] data = WALDataUtils.wrapperBytes(bytes);
-        this.out.write(data);
-        this.flush();
+    private void closeSegment() {
+        try {
+            out.close();
+        } catch (IOException e) {
+            log.warn("close wal segment {} error", segmentId, e);
+        } finally {
+            out = null;
+        }
     }
 
     @Override
     public void close() throws Exception {
         if (out != null) {
             out.close();
+            out = null;
         }
     }
 }
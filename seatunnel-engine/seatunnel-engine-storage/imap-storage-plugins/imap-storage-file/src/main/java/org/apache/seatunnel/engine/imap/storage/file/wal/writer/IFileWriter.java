@@ -36,5 +36,15 @@ public interface IFileWriter<T> extends AutoCloseable {
 
     default void setBlockSize(Long blockSize) {}
 
+    /** Appends the data to the current segment, it is durable after the next {@link #flush()}. */
     void write(T data) throws IOException;
+
+    /** Makes all data written since the last flush durable. */
+    void flush() throws IOException;
+
+    /**
+     * @return the id of the last segment which is completely written and will not be changed
+     *     anymore, 0 if there is none
+     */
+    long getClosedSegmentId();
 }
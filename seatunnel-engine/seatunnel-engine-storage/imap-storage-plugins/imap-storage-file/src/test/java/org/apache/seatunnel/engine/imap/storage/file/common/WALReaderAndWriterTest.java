@@ -22,10 +22,12 @@ package org.apache.seatunnel.engine.imap.storage.file.common;
 
 import org.apache.seatunnel.engine.imap.storage.file.bean.IMapFileData;
 import org.apache.seatunnel.engine.imap.storage.file.config.FileConfiguration;
+import org.apache.seatunnel.engine.imap.storage.file.wal.writer.HdfsWriter;
 import org.apache.seatunnel.engine.serializer.api.Serializer;
 import org.apache.seatunnel.engine.serializer.protobuf.ProtoStuffSerializer;
 
 import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FSDataOutputStream;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
 
@@ -34,8 +36,11 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.EnabledOnOs;
+import org.mockito.Mockito;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Map;
 
@@ -48,6 +53,8 @@ public class WALReaderAndWriterTest {
 
     private static FileSystem FS;
     private static final Path PARENT_PATH = new Path("/tmp/9/");
+    private static final Path SNAPSHOT_PARENT_PATH = new Path("/tmp/9-snapshot/");
+    private static final Path FAILURE_PARENT_PATH = new Path("/tmp/9-failure/");
     private static final Serializer SERIALIZER = new ProtoStuffSerializer();
 
     @BeforeAll
@@ -114,9 +121,105 @@ public class WALReaderAndWriterTest {
         Assertions.assertNull(result.get("key519"));
     }
 
+    @Test
+    public void testCompactSegmentsIntoSnapshot() throws Exception {
+        WALWriter writer =
+                new WALWriter(FS, FileConfiguration.S3, SNAPSHOT_PARENT_PATH, SERIALIZER);
+        long timestamp = System.currentTimeMillis();
+        // every flush writes a new segment
+        for (int i = 0; i < 100; i++) {
+            writer.write(
+                    IMapFileData.builder()
+                            .key(SERIALIZER.serialize("key" + i % 10))
+                            .keyClassName(String.class.getName())
+                            .value(SERIALIZER.serialize("value" + i))
+                            .valueClassName(String.class.getName())
+                            .timestamp(timestamp + i)
+                            .build());
+            writer.flush();
+        }
+        writer.write(
+                IMapFileData.builder()
+                        .key(SERIALIZER.serialize("key3"))
+                        .keyClassName(String.class.getName())
+                        .deleted(true)
+                        .timestamp(timestamp + 100)
+                        .build());
+        writer.close();
+
+        Assertions.assertEquals(1, countFiles(WALDataUtils.SNAPSHOT_FILE_SUFFIX));
+        Assertions.assertTrue(countFiles(WALDataUtils.WAL_FILE_SUFFIX) < 101);
+        assertSnapshotData();
+
+        new WALCompactor(FS, SNAPSHOT_PARENT_PATH, SERIALIZER)
+                .compact(WALDataUtils.lastSegmentId(FS, SNAPSHOT_PARENT_PATH));
+        Assertions.assertEquals(1, countFiles(WALDataUtils.SNAPSHOT_FILE_SUFFIX));
+        Assertions.assertEquals(0, countFiles(WALDataUtils.WAL_FILE_SUFFIX));
+        assertSnapshotData();
+    }
+
+    @Test
+    public void testContinueWithNewSegmentAfterFailedWrite() throws Exception {
+        FileSystem fs = Mockito.spy(FS);
+        Mockito.doReturn(
+                        new FSDataOutputStream(
+                                new OutputStream() {
+                                    @Override
+                                    public void write(int b) throws IOException {
+                                        throw new IOException("disk is full");
+                                    }
+                                },
+                                null))
+                .when(fs)
+                .create(WALDataUtils.segmentPath(FAILURE_PARENT_PATH, 1));
+        HdfsWriter writer = new HdfsWriter();
+        writer.initialize(fs, FAILURE_PARENT_PATH, SERIALIZER);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> writer.setBlockSize(0L));
+
+        Assertions.assertThrows(IOException.class, () -> writer.write(stringData("key1", "v1")));
+        writer.write(stringData("key2", "v2"));
+        writer.flush();
+        writer.close();
+
+        Mockito.verify(fs).create(WALDataUtils.segmentPath(FAILURE_PARENT_PATH, 2));
+        Map<Object, Object> result =
+                new WALReader(FS, FileConfiguration.HDFS, SERIALIZER)
+                        .loadAllData(FAILURE_PARENT_PATH, new HashSet<>());
+        Assertions.assertEquals(1, result.size());
+        Assertions.assertEquals("v2", result.get("key2"));
+    }
+
+    private static IMapFileData stringData(String key, String value) throws IOException {
+        return IMapFileData.builder()
+                .key(SERIALIZER.serialize(key))
+                .keyClassName(String.class.getName())
+                .value(SERIALIZER.serialize(value))
+                .valueClassName(String.class.getName())
+                .timestamp(System.nanoTime())
+                .build();
+    }
+
+    private void assertSnapshotData() throws IOException {
+        WALReader reader = new WALReader(FS, FileConfiguration.S3, SERIALIZER);
+        Map<Object, Object> result = reader.loadAllData(SNAPSHOT_PARENT_PATH, new HashSet<>());
+        Assertions.assertEquals(9, result.size());
+        Assertions.assertEquals("value90", result.get("key0"));
+        Assertions.assertEquals("value99", result.get("key9"));
+        Assertions.assertNull(result.get("key3"));
+        Assertions.assertEquals(9, reader.loadAllKeys(SNAPSHOT_PARENT_PATH).size());
+    }
+
+    private long countFiles(String suffix) throws IOException {
+        return Arrays.stream(FS.listStatus(SNAPSHOT_PARENT_PATH))
+                .filter(fileStatus -> fileStatus.getPath().getName().endsWith(suffix))
+                .count();
+    }
+
     @AfterAll
     public static void close() throws IOException {
         FS.delete(PARENT_PATH, true);
+        FS.delete(SNAPSHOT_PARENT_PATH, true);
+        FS.delete(FAILURE_PARENT_PATH, true);
         FS.close();
     }
 }
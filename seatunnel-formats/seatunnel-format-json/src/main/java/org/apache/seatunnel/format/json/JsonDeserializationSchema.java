@@ -18,7 +18,9 @@
 
 package org.apache.seatunnel.format.json;
 
+import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonParser;
 import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonProcessingException;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonToken;
 import org.apache.seatunnel.shade.com.fasterxml.jackson.core.json.JsonReadFeature;
 import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.DeserializationFeature;
 import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.JsonNode;
@@ -63,6 +65,15 @@ public class JsonDeserializationSchema implements DeserializationSchema<SeaTunne
      */
     private JsonToRowConverters.JsonToObjectConverter runtimeConverter;
 
+    /**
+     * Runtime converter that converts the tokens of a {@link JsonParser} into objects of internal
+     * data structures, used instead of {@link #runtimeConverter} in streaming parse mode.
+     */
+    private final JsonParserToRowConverters.JsonParserToObjectConverter streamingConverter;
+
+    /** Flag indicating whether to convert the messages while parsing, without a node tree. */
+    private final boolean streamingParse;
+
     /** Object mapper for parsing the JSON. */
     private final ObjectMapper objectMapper = new ObjectMapper();
 
@@ -70,40 +81,58 @@ public class JsonDeserializationSchema implements DeserializationSchema<SeaTunne
 
     public JsonDeserializationSchema(
             boolean failOnMissingField, boolean ignoreParseErrors, SeaTunnelRowType rowType) {
-        if (ignoreParseErrors && failOnMissingField) {
-            throw new SeaTunnelJsonFormatException(
-                    CommonErrorCodeDeprecated.ILLEGAL_ARGUMENT,
-                    "JSON format doesn't support failOnMissingField and ignoreParseErrors are both enabled.");
-        }
-        this.rowType = checkNotNull(rowType);
-        this.failOnMissingField = failOnMissingField;
-        this.ignoreParseErrors = ignoreParseErrors;
-        this.runtimeConverter =
-                new JsonToRowConverters(failOnMissingField, ignoreParseErrors)
-                        .createRowConverter(checkNotNull(rowType));
+        this(failOnMissingField, ignoreParseErrors, rowType, false);
+    }
 
-        if (hasDecimalType(rowType)) {
-            objectMapper.enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
-        }
-        objectMapper.configure(JsonReadFeature.ALLOW_UNESCAPED_CONTROL_CHARS.mappedFeature(), true);
+    public JsonDeserializationSchema(
+            boolean failOnMissingField,
+            boolean ignoreParseErrors,
+            SeaTunnelRowType rowType,
+            boolean streamingParse) {
+        this(null, rowType, failOnMissingField, ignoreParseErrors, streamingParse);
     }
 
     public JsonDeserializationSchema(
             CatalogTable catalogTable, boolean failOnMissingField, boolean ignoreParseErrors) {
+        this(catalogTable, failOnMissingField, ignoreParseErrors, false);
+    }
+
+    public JsonDeserializationSchema(
+            CatalogTable catalogTable,
+            boolean failOnMissingField,
+            boolean ignoreParseErrors,
+            boolean streamingParse) {
+        this(catalogTable, null, failOnMissingField, ignoreParseErrors, streamingParse);
+    }
+
+    private JsonDeserializationSchema(
+            CatalogTable catalogTable,
+            SeaTunnelRowType rowType,
+            boolean failOnMissingField,
+            boolean ignoreParseErrors,
+            boolean streamingParse) {
         if (ignoreParseErrors && failOnMissingField) {
             throw new SeaTunnelJsonFormatException(
                     CommonErrorCodeDeprecated.ILLEGAL_ARGUMENT,
                     "JSON format doesn't support failOnMissingField and ignoreParseErrors are both enabled.");
         }
         this.catalogTable = catalogTable;
-        this.rowType = checkNotNull(catalogTable.getSeaTunnelRowType());
+        this.rowType =
+                checkNotNull(catalogTable != null ? catalogTable.getSeaTunnelRowType() : rowType);
         this.failOnMissingField = failOnMissingField;
         this.ignoreParseErrors = ignoreParseErrors;
+        this.streamingParse = streamingParse;
         this.runtimeConverter =
                 new JsonToRowConverters(failOnMissingField, ignoreParseErrors)
-                        .createRowConverter(checkNotNull(rowType));
+                        .createRowConverter(this.rowType);
+
+        boolean useBigDecimalForFloats = hasDecimalType(this.rowType);
+        this.streamingConverter =
+                new JsonParserToRowConverters(
+                                failOnMissingField, ignoreParseErrors, useBigDecimalForFloats)
+                        .createRowConverter(this.rowType);
 
-        if (hasDecimalType(rowType)) {
+        if (useBigDecimalForFloats) {
             objectMapper.enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
         }
         objectMapper.configure(JsonReadFeature.ALLOW_UNESCAPED_CONTROL_CHARS.mappedFeature(), true);
@@ -129,6 +158,9 @@ public class JsonDeserializationSchema implements DeserializationSchema<SeaTunne
         if (message == null) {
             return null;
         }
+        if (streamingParse) {
+            return parseBytes(message);
+        }
         return convertJsonNode(convertBytes(message));
     }
 
@@ -136,10 +168,17 @@ public class JsonDeserializationSchema implements DeserializationSchema<SeaTunne
         if (message == null) {
             return null;
         }
+        if (streamingParse) {
+            return parseString(message);
+        }
         return convertJsonNode(convert(message));
     }
 
     public void collect(byte[] message, Collector<SeaTunnelRow> out) throws IOException {
+        if (streamingParse) {
+            collectWithParser(message, out);
+            return;
+        }
         JsonNode jsonNode = convertBytes(message);
         if (jsonNode.isArray()) {
             ArrayNode arrayNode = (ArrayNode) jsonNode;
@@ -181,10 +220,79 @@ public class JsonDeserializationSchema implements DeserializationSchema<SeaTunne
         return objectMapper.readTree(message);
     }
 
+    /** Reads the value at the current token of the parser as a {@link JsonNode}. */
+    public JsonNode deserializeToJsonNode(JsonParser parser) throws IOException {
+        return objectMapper.readTree(parser);
+    }
+
     public SeaTunnelRow convertToRowData(JsonNode message) {
         return (SeaTunnelRow) runtimeConverter.convert(message, null);
     }
 
+    /** Creates a parser over the message with the features configured for this schema. */
+    public JsonParser createParser(byte[] message) throws IOException {
+        return objectMapper.createParser(message);
+    }
+
+    /**
+     * Converts the value at the current token of the parser, leaving the parser on the last token
+     * of the value.
+     */
+    public SeaTunnelRow convertToRowData(JsonParser parser) throws IOException {
+        return (SeaTunnelRow) streamingConverter.convert(parser, null);
+    }
+
+    public boolean isStreamingParse() {
+        return streamingParse;
+    }
+
+    private void collectWithParser(byte[] message, Collector<SeaTunnelRow> out) {
+        try (JsonParser parser = createParser(message)) {
+            if (parser.nextToken() == JsonToken.START_ARRAY) {
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    collectRow(convertToRowData(parser), out);
+                }
+            } else {
+                collectRow(convertToRowData(parser), out);
+            }
+        } catch (IOException | RuntimeException e) {
+            if (!ignoreParseErrors) {
+                throw CommonError.jsonOperationError(FORMAT, new String(message), e);
+            }
+        }
+    }
+
+    private void collectRow(SeaTunnelRow row, Collector<SeaTunnelRow> out) {
+        if (row != null) {
+            setCollectorTablePath(row, catalogTable);
+            out.collect(row);
+        }
+    }
+
+    private SeaTunnelRow parseBytes(byte[] message) {
+        try (JsonParser parser = createParser(message)) {
+            parser.nextToken();
+            return convertToRowData(parser);
+        } catch (IOException | RuntimeException e) {
+            if (ignoreParseErrors) {
+                return null;
+            }
+            throw CommonError.jsonOperationError(FORMAT, new String(message), e);
+        }
+    }
+
+    private SeaTunnelRow parseString(String message) {
+        try (JsonParser parser = objectMapper.createParser(message)) {
+            parser.nextToken();
+            return convertToRowData(parser);
+        } catch (IOException | RuntimeException e) {
+            if (ignoreParseErrors) {
+                return null;
+            }
+            throw CommonError.jsonOperationError(FORMAT, message, e);
+        }
+    }
+
     private JsonNode convertBytes(byte[] message) {
         try {
             return objectMapper.readTree(message);
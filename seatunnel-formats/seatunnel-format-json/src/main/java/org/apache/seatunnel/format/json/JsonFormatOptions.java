@@ -39,6 +39,14 @@ public class JsonFormatOptions {
                             "Optional flag to skip fields and rows with parse errors instead of failing;\n"
                                     + "fields are set to null in case of errors, false by default.");
 
+    public static final Option<Boolean> STREAMING_PARSE =
+            Options.key("streaming-parse")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Optional flag to convert the JSON messages to rows while parsing them, "
+                                    + "without building a JSON node tree first. Fields which are not part of the schema are skipped, false by default.");
+
     public static boolean getFailOnMissingField(Map<String, String> options) {
         return Boolean.parseBoolean(
                 options.getOrDefault(
@@ -49,4 +57,10 @@ public class JsonFormatOptions {
         return Boolean.parseBoolean(
                 options.getOrDefault(IGNORE_PARSE_ERRORS.key(), IGNORE_PARSE_ERRORS.toString()));
     }
+
+    public static boolean getStreamingParse(Map<String, String> options) {
+        return Boolean.parseBoolean(
+                options.getOrDefault(
+                        STREAMING_PARSE.key(), STREAMING_PARSE.defaultValue().toString()));
+    }
 }
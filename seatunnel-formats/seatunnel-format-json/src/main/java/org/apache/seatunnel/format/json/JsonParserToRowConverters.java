@@ -0,0 +1,566 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.format.json;
+
+import org.apache.seatunnel.shade.com.fasterxml.jackson.core.Base64Variants;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonFactory;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonGenerator;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonParser;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonStreamContext;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonToken;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import org.apache.seatunnel.api.table.type.ArrayType;
+import org.apache.seatunnel.api.table.type.MapType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.api.table.type.SqlType;
+import org.apache.seatunnel.common.exception.CommonError;
+import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
+import org.apache.seatunnel.common.utils.DateTimeUtils;
+import org.apache.seatunnel.common.utils.DateUtils;
+import org.apache.seatunnel.format.json.exception.SeaTunnelJsonFormatException;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.io.StringWriter;
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalQueries;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tool class used to convert the tokens of a {@link JsonParser} to {@link SeaTunnelRow}s, without
+ * building a {@link org.apache.seatunnel.shade.com.fasterxml.jackson.databind.JsonNode} tree first.
+ *
+ * <p>The converters are driven by the target {@link SeaTunnelRowType}: fields which are not part of
+ * the row type are skipped, and numbers, dates and timestamps are decoded from the current token
+ * directly. The converted values are the same as the ones of {@link JsonToRowConverters}.
+ *
+ * <p>A converter is called with the parser positioned on the first token of the value, and returns
+ * with the parser positioned on the last token of the value.
+ */
+public class JsonParserToRowConverters implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final String FORMAT = "Common";
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    /** Flag indicating whether to fail if a field is missing. */
+    private final boolean failOnMissingField;
+
+    /** Flag indicating whether to ignore invalid fields/rows (default: throw an exception). */
+    private final boolean ignoreParseErrors;
+
+    /** Flag indicating whether floating point numbers are read as {@link BigDecimal}s. */
+    private final boolean useBigDecimalForFloats;
+
+    public Map<String, DateTimeFormatter> fieldFormatterMap = new HashMap<>();
+
+    public JsonParserToRowConverters(
+            boolean failOnMissingField, boolean ignoreParseErrors, boolean useBigDecimalForFloats) {
+        this.failOnMissingField = failOnMissingField;
+        this.ignoreParseErrors = ignoreParseErrors;
+        this.useBigDecimalForFloats = useBigDecimalForFloats;
+    }
+
+    /** Creates a runtime converter which is null safe. */
+    public JsonParserToObjectConverter createConverter(SeaTunnelDataType<?> type) {
+        return wrapIntoNullableConverter(createNotNullConverter(type));
+    }
+
+    /** Creates a runtime converter which assuming the current token is not null. */
+    private JsonParserToObjectConverter createNotNullConverter(SeaTunnelDataType<?> type) {
+        SqlType sqlType = type.getSqlType();
+        switch (sqlType) {
+            case NULL:
+                return new JsonParserToObjectConverter() {
+                    @Override
+                    public Object convert(JsonParser parser, String fieldName) throws IOException {
+                        parser.skipChildren();
+                        return null;
+                    }
+                };
+            case BOOLEAN:
+                return new JsonParserToObjectConverter() {
+                    @Override
+                    public Object convert(JsonParser parser, String fieldName) throws IOException {
+                        return convertToBoolean(parser);
+                    }
+                };
+            case TINYINT:
+                return new JsonParserToObjectConverter() {
+                    @Override
+                    public Object convert(JsonParser parser, String fieldName) throws IOException {
+                        return Byte.parseByte(getText(parser).trim());
+                    }
+                };
+            case SMALLINT:
+                return new JsonParserToObjectConverter() {
+                    @Override
+                    public Object convert(JsonParser parser, String fieldName) throws IOException {
+                        return Short.parseShort(getText(parser).trim());
+                    }
+                };
+            case INT:
+                return new JsonParserToObjectConverter() {
+                    @Override
+                    public Object convert(JsonParser parser, String fieldName) throws IOException {
+                        return convertToInt(parser);
+                    }
+                };
+            case BIGINT:
+                return new JsonParserToObjectConverter() {
+                    @Override
+                    public Object convert(JsonParser parser, String fieldName) throws IOException {
+                        return convertToLong(parser);
+                    }
+                };
+            case DATE:
+                return new JsonParserToObjectConverter() {
+                    @Override
+                    public Object convert(JsonParser parser, String fieldName) throws IOException {
+                        return convertToLocalDate(getText(parser), fieldName);
+                    }
+                };
+            case TIME:
+                return new JsonParserToObjectConverter() {
+                    @Override
+                    public Object convert(JsonParser parser, String fieldName) throws IOException {
+                        TemporalAccessor parsedTime =
+                                JsonToRowConverters.TIME_FORMAT.parse(getText(parser));
+                        return parsedTime.query(TemporalQueries.localTime());
+                    }
+                };
+            case TIMESTAMP:
+                return new JsonParserToObjectConverter() {
+                    @Override
+                    public Object convert(JsonParser parser, String fieldName) throws IOException {
+                        return convertToLocalDateTime(getText(parser), fieldName);
+                    }
+                };
+            case FLOAT:
+                return new JsonParserToObjectConverter() {
+                    @Override
+                    public Object convert(JsonParser parser, String fieldName) throws IOException {
+                        return convertToFloat(parser);
+                    }
+                };
+            case DOUBLE:
+                return new JsonParserToObjectConverter() {
+                    @Override
+                    public Object convert(JsonParser parser, String fieldName) throws IOException {
+                        return convertToDouble(parser);
+                    }
+                };
+            case STRING:
+                return new JsonParserToObjectConverter() {
+                    @Override
+                    public Object convert(JsonParser parser, String fieldName) throws IOException {
+                        return convertToString(parser);
+                    }
+                };
+            case BYTES:
+                return new JsonParserToObjectConverter() {
+                    @Override
+                    public Object convert(JsonParser parser, String fieldName) throws IOException {
+                        return convertToBytes(parser);
+                    }
+                };
+            case DECIMAL:
+                return new JsonParserToObjectConverter() {
+                    @Override
+                    public Object convert(JsonParser parser, String fieldName) throws IOException {
+                        return convertToBigDecimal(parser);
+                    }
+                };
+            case ARRAY:
+                return createArrayConverter((ArrayType<?, ?>) type);
+            case MAP:
+                return createMapConverter((MapType<?, ?>) type);
+            case ROW:
+                return createRowConverter((SeaTunnelRowType) type);
+            default:
+                throw new SeaTunnelJsonFormatException(
+                        CommonErrorCodeDeprecated.UNSUPPORTED_DATA_TYPE,
+                        "Unsupported type: " + type);
+        }
+    }
+
+    private boolean convertToBoolean(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_TRUE || token == JsonToken.VALUE_FALSE) {
+            return parser.getBooleanValue();
+        } else {
+            return Boolean.parseBoolean(getText(parser).trim());
+        }
+    }
+
+    private int convertToInt(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NUMBER_INT
+                && parser.getNumberType() == JsonParser.NumberType.INT) {
+            return parser.getIntValue();
+        } else if (token == JsonToken.VALUE_NUMBER_FLOAT) {
+            double value = parser.getDoubleValue();
+            if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+                return (int) value;
+            }
+        }
+        return Integer.parseInt(getText(parser).trim());
+    }
+
+    private long convertToLong(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NUMBER_INT
+                && parser.getNumberType() != JsonParser.NumberType.BIG_INTEGER) {
+            return parser.getLongValue();
+        } else if (token == JsonToken.VALUE_NUMBER_FLOAT) {
+            double value = parser.getDoubleValue();
+            if (value >= Long.MIN_VALUE && value <= Long.MAX_VALUE) {
+                return (long) value;
+            }
+        }
+        return Long.parseLong(getText(parser).trim());
+    }
+
+    private double convertToDouble(JsonParser parser) throws IOException {
+        if (parser.currentToken().isNumeric()) {
+            return parser.getDoubleValue();
+        } else {
+            return Double.parseDouble(getText(parser).trim());
+        }
+    }
+
+    private float convertToFloat(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NUMBER_FLOAT && !useBigDecimalForFloats) {
+            return (float) parser.getDoubleValue();
+        } else {
+            return Float.parseFloat(getText(parser).trim());
+        }
+    }
+
+    private BigDecimal convertToBigDecimal(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NUMBER_FLOAT && useBigDecimalForFloats) {
+            return getNormalizedDecimalValue(parser);
+        } else if (token == JsonToken.VALUE_NUMBER_INT) {
+            return parser.getDecimalValue();
+        } else {
+            return new BigDecimal(getText(parser));
+        }
+    }
+
+    /** Returns the decimal value with the same scale as the nodes of the default node factory. */
+    private static BigDecimal getNormalizedDecimalValue(JsonParser parser) throws IOException {
+        BigDecimal value = parser.getDecimalValue();
+        return value.signum() == 0 ? BigDecimal.ZERO : value.stripTrailingZeros();
+    }
+
+    private LocalDate convertToLocalDate(String dateStr, String fieldName) {
+        DateTimeFormatter dateFormatter = fieldFormatterMap.get(fieldName);
+        if (dateFormatter == null) {
+            dateFormatter = DateUtils.matchDateFormatter(dateStr);
+            fieldFormatterMap.put(fieldName, dateFormatter);
+        }
+        if (dateFormatter == null) {
+            throw CommonError.formatDateError(dateStr, fieldName);
+        }
+
+        return dateFormatter.parse(dateStr).query(TemporalQueries.localDate());
+    }
+
+    private LocalDateTime convertToLocalDateTime(String datetimeStr, String fieldName) {
+        DateTimeFormatter dateTimeFormatter = fieldFormatterMap.get(fieldName);
+        if (dateTimeFormatter == null) {
+            dateTimeFormatter = DateTimeUtils.matchDateTimeFormatter(datetimeStr);
+            fieldFormatterMap.put(fieldName, dateTimeFormatter);
+        }
+        if (dateTimeFormatter == null) {
+            throw CommonError.formatDateTimeError(datetimeStr, fieldName);
+        }
+
+        TemporalAccessor parsedTimestamp = dateTimeFormatter.parse(datetimeStr);
+        LocalTime localTime = parsedTimestamp.query(TemporalQueries.localTime());
+        LocalDate localDate = parsedTimestamp.query(TemporalQueries.localDate());
+        return LocalDateTime.of(localDate, localTime);
+    }
+
+    private String convertToString(JsonParser parser) throws IOException {
+        if (parser.currentToken().isStructStart()) {
+            StringWriter writer = new StringWriter();
+            try (JsonGenerator generator = JSON_FACTORY.createGenerator(writer)) {
+                generator.copyCurrentStructure(parser);
+            }
+            return writer.toString();
+        } else {
+            return getText(parser);
+        }
+    }
+
+    private byte[] convertToBytes(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_STRING) {
+            String text = parser.getText();
+            try {
+                return parser.getBinaryValue();
+            } catch (IOException e) {
+                throw CommonError.jsonOperationError(FORMAT, text, e);
+            }
+        } else if (token == JsonToken.FIELD_NAME) {
+            String text = parser.getCurrentName();
+            try {
+                return Base64Variants.getDefaultVariant().decode(text);
+            } catch (IllegalArgumentException e) {
+                throw CommonError.jsonOperationError(FORMAT, text, e);
+            }
+        }
+        parser.skipChildren();
+        return null;
+    }
+
+    /**
+     * Returns the text of the current token the same way as {@code JsonNode#asText()}: containers
+     * have an empty text, and floating point numbers are printed from their decoded value.
+     */
+    private String getText(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token.isStructStart()) {
+            parser.skipChildren();
+            return "";
+        }
+        if (token == JsonToken.VALUE_NUMBER_FLOAT) {
+            return useBigDecimalForFloats
+                    ? getNormalizedDecimalValue(parser).toString()
+                    : String.valueOf(parser.getDoubleValue());
+        }
+        return parser.getText();
+    }
+
+    public JsonParserToObjectConverter createRowConverter(SeaTunnelRowType rowType) {
+        final String[] fieldNames = rowType.getFieldNames();
+        final JsonParserToObjectConverter[] fieldConverters =
+                new JsonParserToObjectConverter[fieldNames.length];
+        final Map<String, Integer> fieldIndexes = new HashMap<>();
+        for (int i = 0; i < fieldNames.length; i++) {
+            fieldConverters[i] = createConverter(rowType.getFieldType(i));
+            fieldIndexes.put(fieldNames[i], i);
+        }
+
+        return new JsonParserToObjectConverter() {
+            @Override
+            public SeaTunnelRow convert(JsonParser parser, String rowFieldName) throws IOException {
+                JsonToken token = parser.currentToken();
+                if (token == null || token == JsonToken.VALUE_NULL) {
+                    return null;
+                }
+                int arity = fieldNames.length;
+                SeaTunnelRow row = new SeaTunnelRow(arity);
+                boolean[] presentFields = failOnMissingField ? new boolean[arity] : null;
+                if (token == JsonToken.START_OBJECT) {
+                    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                        Integer index = fieldIndexes.get(parser.getCurrentName());
+                        parser.nextToken();
+                        if (index == null) {
+                            parser.skipChildren();
+                            continue;
+                        }
+                        convertField(parser, rowFieldName, row, index, presentFields);
+                    }
+                } else if (token == JsonToken.START_ARRAY) {
+                    int index = 0;
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        if (index >= arity) {
+                            parser.skipChildren();
+                            continue;
+                        }
+                        convertField(parser, rowFieldName, row, index++, presentFields);
+                    }
+                }
+                if (presentFields != null) {
+                    for (int i = 0; i < arity; i++) {
+                        if (!presentFields[i]) {
+                            throw CommonError.jsonOperationError(
+                                    FORMAT,
+                                    String.format(
+                                            "Field $.%s in %s",
+                                            qualifiedName(rowFieldName, fieldNames[i]),
+                                            parser.getCurrentLocation()),
+                                    new IllegalArgumentException(
+                                            String.format(
+                                                    "Could not find field with name %s .",
+                                                    qualifiedName(rowFieldName, fieldNames[i]))));
+                        }
+                    }
+                }
+                return row;
+            }
+
+            private void convertField(
+                    JsonParser parser,
+                    String rowFieldName,
+                    SeaTunnelRow row,
+                    int index,
+                    boolean[] presentFields)
+                    throws IOException {
+                String fieldName = qualifiedName(rowFieldName, fieldNames[index]);
+                try {
+                    row.setField(index, fieldConverters[index].convert(parser, fieldName));
+                } catch (RuntimeException e) {
+                    throw CommonError.jsonOperationError(
+                            FORMAT,
+                            String.format(
+                                    "Field $.%s in %s", fieldName, parser.getCurrentLocation()),
+                            e);
+                }
+                if (presentFields != null) {
+                    presentFields[index] = true;
+                }
+            }
+        };
+    }
+
+    private static String qualifiedName(String rowFieldName, String fieldName) {
+        if (StringUtils.isNotBlank(rowFieldName)) {
+            return rowFieldName + "." + fieldName;
+        }
+        return fieldName;
+    }
+
+    private JsonParserToObjectConverter createArrayConverter(ArrayType<?, ?> type) {
+        JsonParserToObjectConverter valueConverter = createConverter(type.getElementType());
+        Class<?> elementClass = type.getElementType().getTypeClass();
+        return new JsonParserToObjectConverter() {
+            @Override
+            public Object convert(JsonParser parser, String fieldName) throws IOException {
+                if (parser.currentToken() != JsonToken.START_ARRAY) {
+                    parser.skipChildren();
+                    return Array.newInstance(elementClass, 0);
+                }
+                List<Object> values = new ArrayList<>();
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    values.add(valueConverter.convert(parser, fieldName));
+                }
+                Object arr = Array.newInstance(elementClass, values.size());
+                for (int i = 0; i < values.size(); i++) {
+                    Array.set(arr, i, values.get(i));
+                }
+                return arr;
+            }
+        };
+    }
+
+    private JsonParserToObjectConverter createMapConverter(MapType<?, ?> type) {
+        JsonParserToObjectConverter keyConverter = createConverter(type.getKeyType());
+        JsonParserToObjectConverter valueConverter = createConverter(type.getValueType());
+        return new JsonParserToObjectConverter() {
+            @Override
+            public Object convert(JsonParser parser, String fieldName) throws IOException {
+                Map<Object, Object> value = new HashMap<>();
+                if (parser.currentToken() != JsonToken.START_OBJECT) {
+                    parser.skipChildren();
+                    return value;
+                }
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    // the key converters read the text of the field name token
+                    Object key = keyConverter.convert(parser, fieldName + ".key");
+                    parser.nextToken();
+                    value.put(key, valueConverter.convert(parser, fieldName + ".value"));
+                }
+                return value;
+            }
+        };
+    }
+
+    private JsonParserToObjectConverter wrapIntoNullableConverter(
+            JsonParserToObjectConverter converter) {
+        return new JsonParserToObjectConverter() {
+            @Override
+            public Object convert(JsonParser parser, String fieldName) throws IOException {
+                JsonToken token = parser.currentToken();
+                if (token == null || token == JsonToken.VALUE_NULL) {
+                    return null;
+                }
+                // the context the parser returns to once the value has been read
+                JsonStreamContext valueParent =
+                        token.isStructStart() ? parser.getParsingContext().getParent() : null;
+                try {
+                    return converter.convert(parser, fieldName);
+                } catch (RuntimeException e) {
+                    if (!ignoreParseErrors) {
+                        throw e;
+                    }
+                    if (valueParent != null) {
+                        skipToEndOfValue(parser, valueParent);
+                    }
+                    return null;
+                }
+            }
+        };
+    }
+
+    private static void skipToEndOfValue(JsonParser parser, JsonStreamContext valueParent)
+            throws IOException {
+        while (parser.getParsingContext() != valueParent && parser.nextToken() != null) {
+            // read the rest of the value which failed to convert
+        }
+    }
+
+    /**
+     * Reads the text of the current value the same way as {@code JsonNode#asText()}, used for the
+     * meta fields of the changelog formats.
+     */
+    public static String readText(JsonParser parser) throws IOException {
+        if (parser.currentToken().isStructStart()) {
+            parser.skipChildren();
+            return "";
+        }
+        return parser.getText();
+    }
+
+    /**
+     * Copies the tokens of the current value, so that it can be converted once the meta fields of
+     * the message have been read. Returns null for a JSON null.
+     */
+    public static TokenBuffer bufferValue(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        TokenBuffer buffer = new TokenBuffer(parser);
+        buffer.copyCurrentStructure(parser);
+        return buffer;
+    }
+
+    /** Runtime converter that converts the current value of a {@link JsonParser} into objects. */
+    public interface JsonParserToObjectConverter extends Serializable {
+        Object convert(JsonParser parser, String fieldName) throws IOException;
+    }
+}
@@ -18,9 +18,12 @@
 
 package org.apache.seatunnel.format.json.canal;
 
+import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonParser;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonToken;
 import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.JsonNode;
 import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.node.ArrayNode;
 import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.node.ObjectNode;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.util.TokenBuffer;
 
 import org.apache.seatunnel.api.serialization.DeserializationSchema;
 import org.apache.seatunnel.api.source.Collector;
@@ -33,6 +36,7 @@ import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.common.exception.CommonError;
 import org.apache.seatunnel.common.exception.SeaTunnelRuntimeException;
 import org.apache.seatunnel.format.json.JsonDeserializationSchema;
+import org.apache.seatunnel.format.json.JsonParserToRowConverters;
 
 import lombok.NonNull;
 
@@ -97,10 +101,20 @@ public class CanalJsonDeserializationSchema implements DeserializationSchema<Sea
             String database,
             String table,
             boolean ignoreParseErrors) {
+        this(catalogTable, database, table, ignoreParseErrors, false);
+    }
+
+    public CanalJsonDeserializationSchema(
+            @NonNull CatalogTable catalogTable,
+            String database,
+            String table,
+            boolean ignoreParseErrors,
+            boolean streamingParse) {
         this.catalogTable = catalogTable;
         this.seaTunnelRowType = catalogTable.getSeaTunnelRowType();
         this.jsonDeserializer =
-                new JsonDeserializationSchema(catalogTable, false, ignoreParseErrors);
+                new JsonDeserializationSchema(
+                        catalogTable, false, ignoreParseErrors, streamingParse);
         this.database = database;
         this.table = table;
         this.fieldNames = seaTunnelRowType.getFieldNames();
@@ -220,12 +234,136 @@ public class CanalJsonDeserializationSchema implements DeserializationSchema<Sea
 
     @Override
     public void deserialize(byte[] message, Collector<SeaTunnelRow> out) throws IOException {
+        if (jsonDeserializer.isStreamingParse()) {
+            deserializeWithParser(message, out);
+            return;
+        }
         ObjectNode jsonNodes = convertBytes(message);
         if (jsonNodes != null) {
             deserialize(convertBytes(message), out);
         }
     }
 
+    /**
+     * Reads the meta fields while parsing the message, and converts the rows of "data" from the
+     * buffered tokens. The "old" rows only carry the changed fields, so they are read as nodes.
+     */
+    private void deserializeWithParser(byte[] message, Collector<SeaTunnelRow> out) {
+        if (message == null || message.length == 0) {
+            return;
+        }
+        TablePath tablePath =
+                Optional.ofNullable(catalogTable).map(CatalogTable::getTablePath).orElse(null);
+
+        try (JsonParser parser = jsonDeserializer.createParser(message)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalStateException(
+                        format("Canal JSON message '%s' is not an object", new String(message)));
+            }
+            String databaseName = null;
+            String tableName = null;
+            String op = null;
+            TokenBuffer data = null;
+            TokenBuffer old = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                parser.nextToken();
+                switch (fieldName) {
+                    case FIELD_DATABASE:
+                        databaseName = JsonParserToRowConverters.readText(parser);
+                        break;
+                    case FIELD_TABLE:
+                        tableName = JsonParserToRowConverters.readText(parser);
+                        break;
+                    case FIELD_TYPE:
+                        op = JsonParserToRowConverters.readText(parser);
+                        break;
+                    case FIELD_DATA:
+                        data = JsonParserToRowConverters.bufferValue(parser);
+                        break;
+                    case FIELD_OLD:
+                        old = JsonParserToRowConverters.bufferValue(parser);
+                        break;
+                    default:
+                        parser.skipChildren();
+                }
+            }
+
+            if (database != null && !databasePattern.matcher(databaseName).matches()) {
+                return;
+            }
+            if (table != null && !tablePattern.matcher(tableName).matches()) {
+                return;
+            }
+            if (op == null) {
+                throw new IllegalStateException(
+                        format("Missing operation type in '%s'", new String(message)));
+            }
+            // When a null value is encountered, an exception needs to be thrown for easy sensing
+            if (data == null) {
+                // We'll skip the query or create or alter event data
+                if (OP_QUERY.equals(op) || OP_CREATE.equals(op) || OP_ALTER.equals(op)) {
+                    return;
+                }
+                throw new IllegalStateException(
+                        format("Null data value '%s' Cannot send downstream", new String(message)));
+            }
+
+            RowKind rowKind;
+            switch (op) {
+                case OP_INSERT:
+                    rowKind = RowKind.INSERT;
+                    break;
+                case OP_UPDATE:
+                    rowKind = RowKind.UPDATE_AFTER;
+                    break;
+                case OP_DELETE:
+                    rowKind = RowKind.DELETE;
+                    break;
+                default:
+                    throw new IllegalStateException(
+                            String.format("Unknown operation type '%s'.", op));
+            }
+
+            ArrayNode oldNode =
+                    rowKind == RowKind.UPDATE_AFTER && old != null
+                            ? (ArrayNode) jsonDeserializer.deserializeToJsonNode(old.asParser())
+                            : null;
+            try (JsonParser dataParser = data.asParser()) {
+                if (dataParser.nextToken() != JsonToken.START_ARRAY) {
+                    throw new IllegalStateException(
+                            format("Canal JSON data '%s' is not an array", new String(message)));
+                }
+                for (int i = 0; dataParser.nextToken() != JsonToken.END_ARRAY; i++) {
+                    SeaTunnelRow row = jsonDeserializer.convertToRowData(dataParser);
+                    row.setRowKind(rowKind);
+                    if (rowKind == RowKind.UPDATE_AFTER) {
+                        SeaTunnelRow before = convertJsonNode(oldNode.get(i));
+                        for (int f = 0; f < fieldCount; f++) {
+                            if (before.isNullAt(f) && oldNode.findValue(fieldNames[f]) == null) {
+                                // fields not in "old" (before) are not changed
+                                before.setField(f, row.getField(f));
+                            }
+                        }
+                        before.setRowKind(RowKind.UPDATE_BEFORE);
+                        if (tablePath != null && !tablePath.toString().isEmpty()) {
+                            before.setTableId(tablePath.toString());
+                        }
+                        out.collect(before);
+                    }
+                    if (tablePath != null && !tablePath.toString().isEmpty()) {
+                        row.setTableId(tablePath.toString());
+                    }
+                    out.collect(row);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            if (!ignoreParseErrors) {
+                throw CommonError.jsonOperationError(FORMAT, new String(message), e);
+            }
+        }
+    }
+
     private SeaTunnelRow convertJsonNode(JsonNode root) {
         return jsonDeserializer.convertToRowData(root);
     }
@@ -248,6 +386,8 @@ public class CanalJsonDeserializationSchema implements DeserializationSchema<Sea
 
         private boolean ignoreParseErrors = false;
 
+        private boolean streamingParse = false;
+
         private String database = null;
 
         private String table = null;
@@ -273,6 +413,11 @@ public class CanalJsonDeserializationSchema implements DeserializationSchema<Sea
             return this;
         }
 
+        public Builder setStreamingParse(boolean streamingParse) {
+            this.streamingParse = streamingParse;
+            return this;
+        }
+
         public Builder setCatalogTable(CatalogTable catalogTable) {
             this.catalogTable = catalogTable;
             return this;
@@ -280,7 +425,7 @@ public class CanalJsonDeserializationSchema implements DeserializationSchema<Sea
 
         public CanalJsonDeserializationSchema build() {
             return new CanalJsonDeserializationSchema(
-                    catalogTable, database, table, ignoreParseErrors);
+                    catalogTable, database, table, ignoreParseErrors, streamingParse);
         }
     }
 }
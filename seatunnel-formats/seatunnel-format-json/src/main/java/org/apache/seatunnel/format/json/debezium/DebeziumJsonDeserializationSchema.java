@@ -17,7 +17,11 @@
 
 package org.apache.seatunnel.format.json.debezium;
 
+import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonParser;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonToken;
 import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.JsonNode;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.node.ObjectNode;
 
 import org.apache.seatunnel.api.serialization.DeserializationSchema;
 import org.apache.seatunnel.api.source.Collector;
@@ -29,6 +33,7 @@ import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.common.exception.CommonError;
 import org.apache.seatunnel.format.json.JsonDeserializationSchema;
+import org.apache.seatunnel.format.json.JsonParserToRowConverters;
 
 import java.io.IOException;
 import java.util.Optional;
@@ -74,11 +79,20 @@ public class DebeziumJsonDeserializationSchema implements DeserializationSchema<
 
     public DebeziumJsonDeserializationSchema(
             CatalogTable catalogTable, boolean ignoreParseErrors, boolean debeziumEnabledSchema) {
+        this(catalogTable, ignoreParseErrors, debeziumEnabledSchema, false);
+    }
+
+    public DebeziumJsonDeserializationSchema(
+            CatalogTable catalogTable,
+            boolean ignoreParseErrors,
+            boolean debeziumEnabledSchema,
+            boolean streamingParse) {
         this.catalogTable = catalogTable;
         this.rowType = catalogTable.getSeaTunnelRowType();
         this.ignoreParseErrors = ignoreParseErrors;
         this.jsonDeserializer =
-                new JsonDeserializationSchema(catalogTable, false, ignoreParseErrors);
+                new JsonDeserializationSchema(
+                        catalogTable, false, ignoreParseErrors, streamingParse);
         this.debeziumRowConverter = new DebeziumRowConverter(rowType);
         this.debeziumEnabledSchema = debeziumEnabledSchema;
         this.catalogTable = catalogTable;
@@ -105,7 +119,10 @@ public class DebeziumJsonDeserializationSchema implements DeserializationSchema<
         }
 
         try {
-            JsonNode payload = getPayload(convertBytes(message));
+            JsonNode payload =
+                    jsonDeserializer.isStreamingParse()
+                            ? parsePayload(message)
+                            : getPayload(convertBytes(message));
             String op = payload.get("op").asText();
 
             switch (op) {
@@ -161,6 +178,52 @@ public class DebeziumJsonDeserializationSchema implements DeserializationSchema<
         }
     }
 
+    /**
+     * Reads only the "op", "before" and "after" fields of the payload as nodes, the schema and
+     * source blocks of the message are skipped while parsing.
+     */
+    private JsonNode parsePayload(byte[] message) {
+        try (JsonParser parser = jsonDeserializer.createParser(message)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalStateException("The Debezium JSON message is not an object");
+            }
+            if (debeziumEnabledSchema && !moveToField(parser, "payload")) {
+                throw new IllegalStateException("The Debezium JSON message has no payload");
+            }
+            ObjectNode payload = JsonNodeFactory.instance.objectNode();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                parser.nextToken();
+                switch (fieldName) {
+                    case "op":
+                        payload.put(fieldName, JsonParserToRowConverters.readText(parser));
+                        break;
+                    case "before":
+                    case "after":
+                        payload.set(fieldName, jsonDeserializer.deserializeToJsonNode(parser));
+                        break;
+                    default:
+                        parser.skipChildren();
+                }
+            }
+            return payload;
+        } catch (IOException t) {
+            throw CommonError.jsonOperationError(FORMAT, new String(message), t);
+        }
+    }
+
+    /** Skips the fields of the current object until the start of the named object field. */
+    private static boolean moveToField(JsonParser parser, String name) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            boolean found = name.equals(parser.getCurrentName());
+            if (parser.nextToken() == JsonToken.START_OBJECT && found) {
+                return true;
+            }
+            parser.skipChildren();
+        }
+        return false;
+    }
+
     private JsonNode getPayload(JsonNode jsonNode) {
         if (debeziumEnabledSchema) {
             return jsonNode.get("payload");
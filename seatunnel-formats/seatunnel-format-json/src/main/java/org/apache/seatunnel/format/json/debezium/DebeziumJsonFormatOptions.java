@@ -29,6 +29,8 @@ public class DebeziumJsonFormatOptions {
 
     public static final Option<Boolean> IGNORE_PARSE_ERRORS = JsonFormatOptions.IGNORE_PARSE_ERRORS;
 
+    public static final Option<Boolean> STREAMING_PARSE = JsonFormatOptions.STREAMING_PARSE;
+
     public static final Option<Boolean> SCHEMA_INCLUDE =
             Options.key("schema-include")
                     .booleanType()
@@ -50,4 +52,10 @@ public class DebeziumJsonFormatOptions {
                 options.getOrDefault(
                         IGNORE_PARSE_ERRORS.key(), IGNORE_PARSE_ERRORS.defaultValue().toString()));
     }
+
+    public static boolean getStreamingParse(Map<String, String> options) {
+        return Boolean.parseBoolean(
+                options.getOrDefault(
+                        STREAMING_PARSE.key(), STREAMING_PARSE.defaultValue().toString()));
+    }
 }
@@ -18,8 +18,11 @@
 
 package org.apache.seatunnel.format.json.maxwell;
 
+import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonParser;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonToken;
 import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.JsonNode;
 import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.node.ObjectNode;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.util.TokenBuffer;
 
 import org.apache.seatunnel.api.serialization.DeserializationSchema;
 import org.apache.seatunnel.api.source.Collector;
@@ -30,6 +33,7 @@ import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.common.exception.CommonErrorCode;
 import org.apache.seatunnel.format.json.JsonDeserializationSchema;
+import org.apache.seatunnel.format.json.JsonParserToRowConverters;
 import org.apache.seatunnel.format.json.exception.SeaTunnelJsonFormatException;
 
 import java.io.IOException;
@@ -82,10 +86,20 @@ public class MaxWellJsonDeserializationSchema implements DeserializationSchema<S
 
     public MaxWellJsonDeserializationSchema(
             CatalogTable catalogTable, String database, String table, boolean ignoreParseErrors) {
+        this(catalogTable, database, table, ignoreParseErrors, false);
+    }
+
+    public MaxWellJsonDeserializationSchema(
+            CatalogTable catalogTable,
+            String database,
+            String table,
+            boolean ignoreParseErrors,
+            boolean streamingParse) {
         this.catalogTable = catalogTable;
         this.seaTunnelRowType = catalogTable.getSeaTunnelRowType();
         this.jsonDeserializer =
-                new JsonDeserializationSchema(false, ignoreParseErrors, seaTunnelRowType);
+                new JsonDeserializationSchema(
+                        false, ignoreParseErrors, seaTunnelRowType, streamingParse);
         this.database = database;
         this.table = table;
         this.fieldNames = seaTunnelRowType.getFieldNames();
@@ -110,6 +124,10 @@ public class MaxWellJsonDeserializationSchema implements DeserializationSchema<S
         if (message == null) {
             return;
         }
+        if (jsonDeserializer.isStreamingParse()) {
+            deserializeWithParser(message, out);
+            return;
+        }
         ObjectNode jsonNode = (ObjectNode) convertBytes(message);
         if (database != null
                 && !databasePattern.matcher(jsonNode.get(FIELD_DATABASE).asText()).matches()) {
@@ -159,6 +177,121 @@ public class MaxWellJsonDeserializationSchema implements DeserializationSchema<S
         }
     }
 
+    /**
+     * Reads the meta fields while parsing the message, and converts the "data" row from the
+     * buffered tokens. The "old" row only carries the changed fields, so it is read as a node.
+     */
+    private void deserializeWithParser(byte[] message, Collector<SeaTunnelRow> out) {
+        String databaseName = null;
+        String tableName = null;
+        String type = null;
+        TokenBuffer data = null;
+        TokenBuffer old = null;
+        try (JsonParser parser = jsonDeserializer.createParser(message)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalStateException("The MaxWell JSON message is not an object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                parser.nextToken();
+                switch (fieldName) {
+                    case FIELD_DATABASE:
+                        databaseName = JsonParserToRowConverters.readText(parser);
+                        break;
+                    case FIELD_TABLE:
+                        tableName = JsonParserToRowConverters.readText(parser);
+                        break;
+                    case FIELD_TYPE:
+                        type = JsonParserToRowConverters.readText(parser);
+                        break;
+                    case FIELD_DATA:
+                        data = JsonParserToRowConverters.bufferValue(parser);
+                        break;
+                    case FIELD_OLD:
+                        old = JsonParserToRowConverters.bufferValue(parser);
+                        break;
+                    default:
+                        parser.skipChildren();
+                }
+            }
+        } catch (Exception t) {
+            if (ignoreParseErrors) {
+                return;
+            }
+            throw new SeaTunnelJsonFormatException(
+                    CommonErrorCode.CONVERT_TO_CONNECTOR_TYPE_ERROR_SIMPLE,
+                    String.format("Failed to deserialize JSON '%s'.", new String(message)),
+                    t);
+        }
+
+        if (database != null && !databasePattern.matcher(databaseName).matches()) {
+            return;
+        }
+        if (table != null && !tablePattern.matcher(tableName).matches()) {
+            return;
+        }
+        if (OP_INSERT.equals(type)) {
+            SeaTunnelRow rowInsert = convertTokens(data);
+            rowInsert.setRowKind(RowKind.INSERT);
+            out.collect(rowInsert);
+        } else if (OP_UPDATE.equals(type)) {
+            SeaTunnelRow rowAfter = convertTokens(data);
+            JsonNode oldNode = readTree(old);
+            SeaTunnelRow rowBefore = convertJsonNode(oldNode);
+            for (int f = 0; f < fieldCount; f++) {
+                if (rowBefore.isNullAt(f) && oldNode.findValue(fieldNames[f]) == null) {
+                    // fields not in "old" (before) are not changed
+                    rowBefore.setField(f, rowAfter.getField(f));
+                }
+            }
+            rowBefore.setRowKind(RowKind.UPDATE_BEFORE);
+            rowAfter.setRowKind(RowKind.UPDATE_AFTER);
+            out.collect(rowBefore);
+            out.collect(rowAfter);
+        } else if (OP_DELETE.equals(type)) {
+            SeaTunnelRow rowDelete = convertTokens(data);
+            rowDelete.setRowKind(RowKind.DELETE);
+            out.collect(rowDelete);
+        } else {
+            if (!ignoreParseErrors) {
+                throw new SeaTunnelJsonFormatException(
+                        CommonErrorCode.UNSUPPORTED_DATA_TYPE,
+                        format(
+                                "Unknown \"type\" value \"%s\". The MaxWell JSON message is '%s'",
+                                type, new String(message)));
+            }
+        }
+    }
+
+    private SeaTunnelRow convertTokens(TokenBuffer tokens) {
+        if (tokens == null) {
+            return null;
+        }
+        try (JsonParser parser = tokens.asParser()) {
+            parser.nextToken();
+            return jsonDeserializer.convertToRowData(parser);
+        } catch (IOException e) {
+            throw new SeaTunnelJsonFormatException(
+                    CommonErrorCode.CONVERT_TO_CONNECTOR_TYPE_ERROR_SIMPLE,
+                    "Failed to convert the buffered MaxWell JSON data.",
+                    e);
+        }
+    }
+
+    private JsonNode readTree(TokenBuffer tokens) {
+        if (tokens == null) {
+            return null;
+        }
+        try (JsonParser parser = tokens.asParser()) {
+            return jsonDeserializer.deserializeToJsonNode(parser);
+        } catch (IOException e) {
+            throw new SeaTunnelJsonFormatException(
+                    CommonErrorCode.CONVERT_TO_CONNECTOR_TYPE_ERROR_SIMPLE,
+                    "Failed to read the buffered MaxWell JSON data.",
+                    e);
+        }
+    }
+
     private JsonNode convertBytes(byte[] message) {
         try {
             return jsonDeserializer.deserializeToJsonNode(message);
@@ -195,6 +328,8 @@ public class MaxWellJsonDeserializationSchema implements DeserializationSchema<S
 
         private boolean ignoreParseErrors = false;
 
+        private boolean streamingParse = false;
+
         private String database = null;
 
         private String table = null;
@@ -220,9 +355,14 @@ public class MaxWellJsonDeserializationSchema implements DeserializationSchema<S
             return this;
         }
 
+        public Builder setStreamingParse(boolean streamingParse) {
+            this.streamingParse = streamingParse;
+            return this;
+        }
+
         public MaxWellJsonDeserializationSchema build() {
             return new MaxWellJsonDeserializationSchema(
-                    catalogTable, database, table, ignoreParseErrors);
+                    catalogTable, database, table, ignoreParseErrors, streamingParse);
         }
     }
 }
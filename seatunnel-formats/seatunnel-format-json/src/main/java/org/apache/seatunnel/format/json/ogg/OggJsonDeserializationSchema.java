@@ -18,8 +18,11 @@
 
 package org.apache.seatunnel.format.json.ogg;
 
+import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonParser;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonToken;
 import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.JsonNode;
 import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.node.ObjectNode;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.util.TokenBuffer;
 
 import org.apache.seatunnel.api.serialization.DeserializationSchema;
 import org.apache.seatunnel.api.source.Collector;
@@ -32,6 +35,7 @@ import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.common.exception.CommonError;
 import org.apache.seatunnel.common.exception.SeaTunnelRuntimeException;
 import org.apache.seatunnel.format.json.JsonDeserializationSchema;
+import org.apache.seatunnel.format.json.JsonParserToRowConverters;
 
 import lombok.NonNull;
 
@@ -93,10 +97,20 @@ public class OggJsonDeserializationSchema implements DeserializationSchema<SeaTu
             String database,
             String table,
             boolean ignoreParseErrors) {
+        this(catalogTable, database, table, ignoreParseErrors, false);
+    }
+
+    public OggJsonDeserializationSchema(
+            @NonNull CatalogTable catalogTable,
+            String database,
+            String table,
+            boolean ignoreParseErrors,
+            boolean streamingParse) {
         this.catalogTable = catalogTable;
         this.seaTunnelRowType = catalogTable.getSeaTunnelRowType();
         this.jsonDeserializer =
-                new JsonDeserializationSchema(catalogTable, false, ignoreParseErrors);
+                new JsonDeserializationSchema(
+                        catalogTable, false, ignoreParseErrors, streamingParse);
         this.database = database;
         this.table = table;
         this.fieldNames = seaTunnelRowType.getFieldNames();
@@ -124,6 +138,10 @@ public class OggJsonDeserializationSchema implements DeserializationSchema<SeaTu
             // skip tombstone messages
             return;
         }
+        if (jsonDeserializer.isStreamingParse()) {
+            deserializeWithParser(message, out, tablePath);
+            return;
+        }
 
         ObjectNode jsonNode;
         try {
@@ -216,6 +234,106 @@ public class OggJsonDeserializationSchema implements DeserializationSchema<SeaTu
         }
     }
 
+    /**
+     * Reads the meta fields while parsing the message, and converts the "before" and "after" rows
+     * from the buffered tokens.
+     */
+    private void deserializeWithParser(
+            byte[] message, Collector<SeaTunnelRow> out, TablePath tablePath) {
+        try (JsonParser parser = jsonDeserializer.createParser(message)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalStateException(
+                        String.format(
+                                "Ogg JSON message '%s' is not an object", new String(message)));
+            }
+            String databaseTable = null;
+            String op = null;
+            TokenBuffer dataBefore = null;
+            TokenBuffer dataAfter = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                parser.nextToken();
+                switch (fieldName) {
+                    case FIELD_DATABASE_TABLE:
+                        databaseTable = JsonParserToRowConverters.readText(parser);
+                        break;
+                    case FIELD_TYPE:
+                        op = JsonParserToRowConverters.readText(parser).trim();
+                        break;
+                    case DATA_BEFORE:
+                        dataBefore = JsonParserToRowConverters.bufferValue(parser);
+                        break;
+                    case DATA_AFTER:
+                        dataAfter = JsonParserToRowConverters.bufferValue(parser);
+                        break;
+                    default:
+                        parser.skipChildren();
+                }
+            }
+
+            if (database != null
+                    && !databasePattern.matcher(databaseTable.split("\\.")[0]).matches()) {
+                return;
+            }
+            if (table != null && !tablePattern.matcher(databaseTable.split("\\.")[1]).matches()) {
+                return;
+            }
+            if (op == null) {
+                throw new IllegalStateException(
+                        String.format("Missing operation type in '%s'", new String(message)));
+            }
+
+            switch (op) {
+                case OP_INSERT:
+                    collect(convertTokens(dataAfter), RowKind.INSERT, out, tablePath);
+                    break;
+                case OP_UPDATE:
+                    // Modify Operation Data cannot be empty before modification
+                    if (dataBefore == null) {
+                        throw new IllegalStateException(
+                                String.format(REPLICA_IDENTITY_EXCEPTION, "UPDATE"));
+                    }
+                    collect(convertTokens(dataBefore), RowKind.UPDATE_BEFORE, out, tablePath);
+                    collect(convertTokens(dataAfter), RowKind.UPDATE_AFTER, out, tablePath);
+                    break;
+                case OP_DELETE:
+                    SeaTunnelRow beforeDelete = convertTokens(dataBefore);
+                    if (beforeDelete == null) {
+                        throw new IllegalStateException(
+                                String.format(REPLICA_IDENTITY_EXCEPTION, "DELETE"));
+                    }
+                    collect(beforeDelete, RowKind.DELETE, out, tablePath);
+                    break;
+                default:
+                    throw new IllegalStateException(
+                            String.format("Unknown operation type '%s'.", op));
+            }
+        } catch (IOException | RuntimeException e) {
+            if (!ignoreParseErrors) {
+                throw CommonError.jsonOperationError(FORMAT, new String(message), e);
+            }
+        }
+    }
+
+    private void collect(
+            SeaTunnelRow row, RowKind rowKind, Collector<SeaTunnelRow> out, TablePath tablePath) {
+        row.setRowKind(rowKind);
+        if (tablePath != null) {
+            row.setTableId(tablePath.toString());
+        }
+        out.collect(row);
+    }
+
+    private SeaTunnelRow convertTokens(TokenBuffer tokens) throws IOException {
+        if (tokens == null) {
+            return null;
+        }
+        try (JsonParser parser = tokens.asParser()) {
+            parser.nextToken();
+            return jsonDeserializer.convertToRowData(parser);
+        }
+    }
+
     private ObjectNode convertBytes(byte[] message) throws SeaTunnelRuntimeException {
         try {
             return (ObjectNode) jsonDeserializer.deserializeToJsonNode(message);
@@ -253,6 +371,8 @@ public class OggJsonDeserializationSchema implements DeserializationSchema<SeaTu
 
         private boolean ignoreParseErrors = false;
 
+        private boolean streamingParse = false;
+
         private String database = null;
 
         private String table = null;
@@ -278,9 +398,14 @@ public class OggJsonDeserializationSchema implements DeserializationSchema<SeaTu
             return this;
         }
 
+        public Builder setStreamingParse(boolean streamingParse) {
+            this.streamingParse = streamingParse;
+            return this;
+        }
+
         public OggJsonDeserializationSchema build() {
             return new OggJsonDeserializationSchema(
-                    catalogTable, database, table, ignoreParseErrors);
+                    catalogTable, database, table, ignoreParseErrors, streamingParse);
         }
     }
 }
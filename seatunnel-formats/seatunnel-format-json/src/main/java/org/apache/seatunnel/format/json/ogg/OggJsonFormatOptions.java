@@ -29,6 +29,8 @@ public class OggJsonFormatOptions {
 
     public static final Option<Boolean> IGNORE_PARSE_ERRORS = JsonFormatOptions.IGNORE_PARSE_ERRORS;
 
+    public static final Option<Boolean> STREAMING_PARSE = JsonFormatOptions.STREAMING_PARSE;
+
     public static final Option<String> DATABASE_INCLUDE =
             Options.key("database.include")
                     .stringType()
@@ -57,4 +59,10 @@ public class OggJsonFormatOptions {
         return Boolean.parseBoolean(
                 options.getOrDefault(IGNORE_PARSE_ERRORS.key(), IGNORE_PARSE_ERRORS.toString()));
     }
+
+    public static boolean getStreamingParse(Map<String, String> options) {
+        return Boolean.parseBoolean(
+                options.getOrDefault(
+                        STREAMING_PARSE.key(), STREAMING_PARSE.defaultValue().toString()));
+    }
 }
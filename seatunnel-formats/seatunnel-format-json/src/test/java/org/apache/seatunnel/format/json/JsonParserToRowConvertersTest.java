@@ -0,0 +1,209 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.format.json;
+
+import org.apache.seatunnel.api.source.Collector;
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.LocalTimeType;
+import org.apache.seatunnel.api.table.type.MapType;
+import org.apache.seatunnel.api.table.type.PrimitiveByteArrayType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.common.exception.SeaTunnelRuntimeException;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.apache.seatunnel.api.table.type.ArrayType.INT_ARRAY_TYPE;
+import static org.apache.seatunnel.api.table.type.BasicType.BOOLEAN_TYPE;
+import static org.apache.seatunnel.api.table.type.BasicType.BYTE_TYPE;
+import static org.apache.seatunnel.api.table.type.BasicType.DOUBLE_TYPE;
+import static org.apache.seatunnel.api.table.type.BasicType.FLOAT_TYPE;
+import static org.apache.seatunnel.api.table.type.BasicType.INT_TYPE;
+import static org.apache.seatunnel.api.table.type.BasicType.LONG_TYPE;
+import static org.apache.seatunnel.api.table.type.BasicType.SHORT_TYPE;
+import static org.apache.seatunnel.api.table.type.BasicType.STRING_TYPE;
+
+public class JsonParserToRowConvertersTest {
+
+    private static final SeaTunnelRowType NESTED_ROW_TYPE =
+            new SeaTunnelRowType(
+                    new String[] {"id", "created"},
+                    new SeaTunnelDataType[] {LONG_TYPE, LocalTimeType.LOCAL_DATE_TIME_TYPE});
+
+    private static final SeaTunnelRowType ROW_TYPE =
+            new SeaTunnelRowType(
+                    new String[] {
+                        "bool",
+                        "tiny",
+                        "small",
+                        "int",
+                        "long",
+                        "float",
+                        "double",
+                        "decimal",
+                        "name",
+                        "json",
+                        "bytes",
+                        "date",
+                        "time",
+                        "timestamp",
+                        "array",
+                        "map",
+                        "row"
+                    },
+                    new SeaTunnelDataType[] {
+                        BOOLEAN_TYPE,
+                        BYTE_TYPE,
+                        SHORT_TYPE,
+                        INT_TYPE,
+                        LONG_TYPE,
+                        FLOAT_TYPE,
+                        DOUBLE_TYPE,
+                        new DecimalType(10, 2),
+                        STRING_TYPE,
+                        STRING_TYPE,
+                        PrimitiveByteArrayType.INSTANCE,
+                        LocalTimeType.LOCAL_DATE_TYPE,
+                        LocalTimeType.LOCAL_TIME_TYPE,
+                        LocalTimeType.LOCAL_DATE_TIME_TYPE,
+                        INT_ARRAY_TYPE,
+                        new MapType<>(INT_TYPE, STRING_TYPE),
+                        NESTED_ROW_TYPE
+                    });
+
+    private static final String MESSAGE =
+            "{\"skipped\":{\"a\":[1,{\"b\":[]}],\"c\":\"d\"},"
+                    + "\"bool\":\"true\",\"tiny\":\"12\",\"small\":1234,\"int\":12.7,"
+                    + "\"long\":\"1234567890123\",\"float\":1.5,\"double\":\"2.25\","
+                    + "\"decimal\":1234.50,\"name\":7.10,\"json\":{\"k\":[1,\"v\",null]},"
+                    + "\"bytes\":\"AQID\",\"date\":\"2024-01-02\",\"time\":\"03:04:05.123\","
+                    + "\"timestamp\":\"2024-01-02 03:04:05\",\"array\":[1,null,\"3\"],"
+                    + "\"map\":{\"1\":\"a\",\"2\":null},"
+                    + "\"row\":{\"unknown\":[[]],\"id\":42,\"created\":\"2024-01-02T03:04:05\"},"
+                    + "\"tail\":[{\"x\":1}]}";
+
+    @Test
+    public void testSameRowsAsTreeConverters() throws Exception {
+        SeaTunnelRow streaming = streamingSchema(false, false).deserialize(bytes(MESSAGE));
+        Assertions.assertEquals(treeSchema(false, false).deserialize(bytes(MESSAGE)), streaming);
+
+        Assertions.assertEquals(true, streaming.getField(0));
+        Assertions.assertEquals((byte) 12, streaming.getField(1));
+        Assertions.assertEquals(12, streaming.getField(3));
+        Assertions.assertEquals(1234567890123L, streaming.getField(4));
+        Assertions.assertEquals(new BigDecimal("1234.5"), streaming.getField(7));
+        Assertions.assertEquals("7.1", streaming.getField(8));
+        Assertions.assertEquals("{\"k\":[1,\"v\",null]}", streaming.getField(9));
+        Assertions.assertArrayEquals(new byte[] {1, 2, 3}, (byte[]) streaming.getField(10));
+        Assertions.assertEquals(LocalDate.of(2024, 1, 2), streaming.getField(11));
+        Assertions.assertArrayEquals(
+                new Integer[] {1, null, 3}, (Integer[]) streaming.getField(14));
+        Assertions.assertEquals(
+                new SeaTunnelRow(new Object[] {42L, LocalDateTime.of(2024, 1, 2, 3, 4, 5)}),
+                streaming.getField(16));
+    }
+
+    @Test
+    public void testArrayAndNullMessages() throws Exception {
+        String positional = "[true,1,2,3,4,5.5,6.5,\"7.25\",\"name\"]";
+        Assertions.assertEquals(
+                treeSchema(false, false).deserialize(bytes(positional)),
+                streamingSchema(false, false).deserialize(bytes(positional)));
+        Assertions.assertNull(streamingSchema(false, false).deserialize(bytes("null")));
+        Assertions.assertNull(streamingSchema(false, false).deserialize(new byte[0]));
+
+        List<SeaTunnelRow> treeRows = new ArrayList<>();
+        List<SeaTunnelRow> streamingRows = new ArrayList<>();
+        String rows = "[" + MESSAGE + ",{\"int\":1,\"unknown\":{}}]";
+        treeSchema(false, false).collect(bytes(rows), new ListCollector(treeRows));
+        streamingSchema(false, false).collect(bytes(rows), new ListCollector(streamingRows));
+        Assertions.assertEquals(2, streamingRows.size());
+        Assertions.assertEquals(treeRows, streamingRows);
+    }
+
+    @Test
+    public void testIgnoreParseErrors() throws Exception {
+        String message =
+                "{\"int\":\"abc\",\"row\":{\"id\":\"x\",\"created\":\"2024-01-02T03:04:05\"},"
+                        + "\"array\":[1,\"y\"],\"name\":\"kept\"}";
+        SeaTunnelRow streaming = streamingSchema(false, true).deserialize(bytes(message));
+        Assertions.assertEquals(treeSchema(false, true).deserialize(bytes(message)), streaming);
+        Assertions.assertNull(streaming.getField(3));
+        Assertions.assertEquals("kept", streaming.getField(8));
+
+        Assertions.assertNull(streamingSchema(false, true).deserialize(bytes("{\"int\":")));
+        Assertions.assertThrows(
+                SeaTunnelRuntimeException.class,
+                () -> streamingSchema(false, false).deserialize(bytes("{\"int\":")));
+        Assertions.assertThrows(
+                SeaTunnelRuntimeException.class,
+                () -> streamingSchema(false, false).deserialize(bytes("{\"int\":\"abc\"}")));
+    }
+
+    @Test
+    public void testFailOnMissingField() throws Exception {
+        Assertions.assertNotNull(streamingSchema(true, false).deserialize(bytes(MESSAGE)));
+        SeaTunnelRuntimeException exception =
+                Assertions.assertThrows(
+                        SeaTunnelRuntimeException.class,
+                        () -> streamingSchema(true, false).deserialize(bytes("{\"int\":1}")));
+        Assertions.assertTrue(
+                exception.getCause().getCause().getMessage().contains("bool"), exception::toString);
+    }
+
+    private static JsonDeserializationSchema treeSchema(
+            boolean failOnMissingField, boolean ignoreParseErrors) {
+        return new JsonDeserializationSchema(failOnMissingField, ignoreParseErrors, ROW_TYPE);
+    }
+
+    private static JsonDeserializationSchema streamingSchema(
+            boolean failOnMissingField, boolean ignoreParseErrors) {
+        return new JsonDeserializationSchema(failOnMissingField, ignoreParseErrors, ROW_TYPE, true);
+    }
+
+    private static byte[] bytes(String message) {
+        return message.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static class ListCollector implements Collector<SeaTunnelRow> {
+        private final List<SeaTunnelRow> rows;
+
+        private ListCollector(List<SeaTunnelRow> rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public void collect(SeaTunnelRow record) {
+            rows.add(record);
+        }
+
+        @Override
+        public Object getCheckpointLock() {
+            return this;
+        }
+    }
+}
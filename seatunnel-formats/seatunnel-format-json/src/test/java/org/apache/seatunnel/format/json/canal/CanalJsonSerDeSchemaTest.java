@@ -67,6 +67,18 @@ public class CanalJsonSerDeSchemaTest {
         runTest(lines, deserializationSchema);
     }
 
+    @Test
+    public void testFilteringTablesWithStreamingParse() throws Exception {
+        List<String> lines = readLines("canal-data-filter-table.txt");
+        CanalJsonDeserializationSchema deserializationSchema =
+                new CanalJsonDeserializationSchema.Builder(catalogTables)
+                        .setDatabase("^my.*")
+                        .setTable("^prod.*")
+                        .setStreamingParse(true)
+                        .build();
+        runTest(lines, deserializationSchema);
+    }
+
     @Test
     public void testDeserializeNullRow() throws Exception {
         final CanalJsonDeserializationSchema deserializationSchema =
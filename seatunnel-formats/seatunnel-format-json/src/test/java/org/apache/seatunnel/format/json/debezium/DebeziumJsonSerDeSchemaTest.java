@@ -70,7 +70,17 @@ public class DebeziumJsonSerDeSchemaTest {
 
     @Test
     public void testSerializationAndSchemaExcludeDeserialization() throws Exception {
-        testSerializationDeserialization("debezium-data.txt", false);
+        testSerializationDeserialization("debezium-data.txt", false, false);
+    }
+
+    @Test
+    public void testSchemaExcludeDeserializationWithStreamingParse() throws Exception {
+        testSerializationDeserialization("debezium-data.txt", false, true);
+    }
+
+    @Test
+    public void testSchemaIncludeDeserializationWithStreamingParse() throws Exception {
+        testSerializationDeserialization("debezium-data-schema-include.txt", true, true);
     }
 
     @Test
@@ -161,11 +171,12 @@ public class DebeziumJsonSerDeSchemaTest {
                 String.format("Unknown operation type '%s'.", unknownType));
     }
 
-    private void testSerializationDeserialization(String resourceFile, boolean schemaInclude)
-            throws Exception {
+    private void testSerializationDeserialization(
+            String resourceFile, boolean schemaInclude, boolean streamingParse) throws Exception {
         List<String> lines = readLines(resourceFile);
         DebeziumJsonDeserializationSchema deserializationSchema =
-                new DebeziumJsonDeserializationSchema(catalogTables, true, schemaInclude);
+                new DebeziumJsonDeserializationSchema(
+                        catalogTables, true, schemaInclude, streamingParse);
 
         SimpleCollector collector = new SimpleCollector();
 
@@ -63,6 +63,18 @@ public class MaxWellJsonSerDeSchemaTest {
         runTest(lines, deserializationSchema);
     }
 
+    @Test
+    public void testFilteringTablesWithStreamingParse() throws Exception {
+        List<String> lines = readLines("maxwell-data-filter-table.txt");
+        MaxWellJsonDeserializationSchema deserializationSchema =
+                new MaxWellJsonDeserializationSchema.Builder(catalogTables)
+                        .setDatabase("^test.*")
+                        .setTable("^prod.*")
+                        .setStreamingParse(true)
+                        .build();
+        runTest(lines, deserializationSchema);
+    }
+
     @Test
     public void testDeserializeNullRow() throws Exception {
         final MaxWellJsonDeserializationSchema deserializationSchema =
@@ -68,6 +68,18 @@ public class OggJsonSerDeSchemaTest {
         runTest(lines, deserializationSchema);
     }
 
+    @Test
+    public void testFilteringTablesWithStreamingParse() throws Exception {
+        List<String> lines = readLines("ogg-data-filter-table.txt");
+        OggJsonDeserializationSchema deserializationSchema =
+                new OggJsonDeserializationSchema.Builder(catalogTables)
+                        .setDatabase("^OG.*")
+                        .setTable("^TBL.*")
+                        .setStreamingParse(true)
+                        .build();
+        runTest(lines, deserializationSchema);
+    }
+
     @Test
     public void testDeserializeNullRow() throws Exception {
         final OggJsonDeserializationSchema deserializationSchema =
@@ -33,8 +33,10 @@ import org.apache.seatunnel.common.utils.EncodingUtils;
 import org.apache.seatunnel.common.utils.TimeUtils;
 import org.apache.seatunnel.format.text.constant.TextFormatConstant;
 import org.apache.seatunnel.format.text.exception.SeaTunnelTextFormatException;
+import org.apache.seatunnel.format.text.splitor.CsvLineSplitor;
 import org.apache.seatunnel.format.text.splitor.DefaultTextLineSplitor;
 import org.apache.seatunnel.format.text.splitor.TextLineSplitor;
+import org.apache.seatunnel.format.text.splitor.TextLineTokenizer;
 
 import org.apache.commons.lang3.StringUtils;
 
@@ -42,7 +44,9 @@ import lombok.NonNull;
 
 import java.io.IOException;
 import java.math.BigDecimal;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -52,17 +56,31 @@ import java.time.temporal.ChronoField;
 import java.time.temporal.TemporalAccessor;
 import java.time.temporal.TemporalQueries;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
 
+/**
+ * Deserializes delimited text lines into rows.
+ *
+ * <p>UTF-8 lines split by the built-in splitters with a literal delimiter are tokenized on the
+ * bytes with {@link TextLineTokenizer}: only the fields which are read are decoded, and integers,
+ * booleans, dates and timestamps in the common layouts are parsed from the bytes directly. All
+ * other lines take the string based path.
+ */
 public class TextDeserializationSchema implements DeserializationSchema<SeaTunnelRow> {
+    private static final String REGEX_META_CHARS = ".$|()[]{}^?*+\\";
+
     private final SeaTunnelRowType seaTunnelRowType;
     private final String[] separators;
     private final String encoding;
     private final TextLineSplitor splitor;
     private final CatalogTable catalogTable;
+    private final boolean[] readFields;
+    private final int readFieldCount;
+    private final TextLineTokenizer tokenizer;
 
     @SuppressWarnings("MagicNumber")
     public static final DateTimeFormatter TIME_FORMAT =
@@ -78,12 +96,50 @@ public class TextDeserializationSchema implements DeserializationSchema<SeaTunne
             String[] separators,
             String encoding,
             TextLineSplitor splitor,
-            CatalogTable catalogTable) {
+            CatalogTable catalogTable,
+            int[] readFieldIndexes) {
         this.seaTunnelRowType = seaTunnelRowType;
         this.separators = separators;
         this.encoding = encoding;
         this.splitor = splitor;
         this.catalogTable = catalogTable;
+        this.readFields = new boolean[seaTunnelRowType.getTotalFields()];
+        if (readFieldIndexes == null) {
+            Arrays.fill(readFields, true);
+        } else {
+            for (int index : readFieldIndexes) {
+                readFields[index] = true;
+            }
+        }
+        int lastReadField = readFields.length - 1;
+        while (lastReadField >= 0 && !readFields[lastReadField]) {
+            lastReadField--;
+        }
+        this.readFieldCount = lastReadField + 1;
+        this.tokenizer = createTokenizer(splitor, separators[0], encoding);
+    }
+
+    /**
+     * Returns the byte tokenizer matching the splitter, or null if the splitter, delimiter or
+     * encoding can only be handled by the string based path.
+     */
+    private static TextLineTokenizer createTokenizer(
+            TextLineSplitor splitor, String delimiter, String encoding) {
+        if (StringUtils.isEmpty(delimiter)
+                || !StandardCharsets.UTF_8.equals(EncodingUtils.tryParseCharset(encoding))) {
+            return null;
+        }
+        if (splitor instanceof CsvLineSplitor) {
+            // CsvLineSplitor splits by the first character with the default CSV quoting
+            return new TextLineTokenizer(delimiter.substring(0, 1), '"', TextLineTokenizer.NONE);
+        }
+        if (splitor instanceof DefaultTextLineSplitor
+                && StringUtils.containsNone(delimiter, REGEX_META_CHARS)) {
+            // the delimiter is a regex for DefaultTextLineSplitor, it is only a literal without
+            // meta characters
+            return new TextLineTokenizer(delimiter);
+        }
+        return null;
     }
 
     public static Builder builder() {
@@ -100,6 +156,7 @@ public class TextDeserializationSchema implements DeserializationSchema<SeaTunne
         private TimeUtils.Formatter timeFormatter = TimeUtils.Formatter.HH_MM_SS;
         private String encoding = StandardCharsets.UTF_8.name();
         private TextLineSplitor textLineSplitor = new DefaultTextLineSplitor();
+        private int[] readFieldIndexes;
 
         private Builder() {}
 
@@ -148,27 +205,67 @@ public class TextDeserializationSchema implements DeserializationSchema<SeaTunne
             return this;
         }
 
+        /**
+         * Only convert the fields at the given indexes of the row type, the other fields of the
+         * deserialized rows are left null.
+         */
+        public Builder readFields(int[] readFieldIndexes) {
+            this.readFieldIndexes = readFieldIndexes;
+            return this;
+        }
+
         public TextDeserializationSchema build() {
             return new TextDeserializationSchema(
-                    seaTunnelRowType, separators, encoding, textLineSplitor, catalogTable);
+                    seaTunnelRowType,
+                    separators,
+                    encoding,
+                    textLineSplitor,
+                    catalogTable,
+                    readFieldIndexes);
         }
     }
 
     @Override
     public SeaTunnelRow deserialize(byte[] message) throws IOException {
-        if (message == null || message.length == 0) {
+        if (message == null) {
+            return null;
+        }
+        return deserialize(message, 0, message.length);
+    }
+
+    /** Deserializes the line in {@code message[offset, offset + length)}. */
+    public SeaTunnelRow deserialize(byte[] message, int offset, int length) throws IOException {
+        if (message == null || length == 0) {
             return null;
         }
-        String content = new String(message, EncodingUtils.tryParseCharset(encoding));
-        Map<Integer, String> splitsMap = splitLineBySeaTunnelRowType(content, seaTunnelRowType, 0);
         Object[] objects = new Object[seaTunnelRowType.getTotalFields()];
-        for (int i = 0; i < objects.length; i++) {
-            objects[i] =
-                    convert(
-                            splitsMap.get(i),
-                            seaTunnelRowType.getFieldType(i),
-                            0,
-                            seaTunnelRowType.getFieldNames()[i]);
+        if (tokenizer != null) {
+            int fieldCount = tokenizer.tokenize(message, offset, length, readFieldCount);
+            for (int i = 0; i < fieldCount; i++) {
+                if (readFields[i]) {
+                    objects[i] =
+                            convert(
+                                    tokenizer,
+                                    i,
+                                    seaTunnelRowType.getFieldType(i),
+                                    seaTunnelRowType.getFieldNames()[i]);
+                }
+            }
+        } else {
+            Charset charset = EncodingUtils.tryParseCharset(encoding);
+            String content = new String(message, offset, length, charset);
+            Map<Integer, String> splitsMap =
+                    splitLineBySeaTunnelRowType(content, seaTunnelRowType, 0);
+            for (int i = 0; i < objects.length; i++) {
+                if (readFields[i]) {
+                    objects[i] =
+                            convert(
+                                    splitsMap.get(i),
+                                    seaTunnelRowType.getFieldType(i),
+                                    0,
+                                    seaTunnelRowType.getFieldNames()[i]);
+                }
+            }
         }
         SeaTunnelRow seaTunnelRow = new SeaTunnelRow(objects);
         Optional<TablePath> tablePath =
@@ -201,6 +298,186 @@ public class TextDeserializationSchema implements DeserializationSchema<SeaTunne
         return splitsMap;
     }
 
+    /**
+     * Converts a top level field of the tokenized line, falling back to the string based conversion
+     * for everything that is not parsed from the bytes.
+     */
+    private Object convert(
+            TextLineTokenizer tokenizer,
+            int field,
+            SeaTunnelDataType<?> fieldType,
+            String fieldName) {
+        if (tokenizer.isEscaped(field)) {
+            return convert(tokenizer.text(field), fieldType, 0, fieldName);
+        }
+        byte[] bytes = tokenizer.getBytes();
+        int start = tokenizer.start(field);
+        int end = tokenizer.end(field);
+        if (isBlank(bytes, start, end)) {
+            return null;
+        }
+        switch (fieldType.getSqlType()) {
+            case STRING:
+                return new String(bytes, start, end - start, StandardCharsets.UTF_8);
+            case BOOLEAN:
+                return end - start == 4
+                        && (bytes[start] | 0x20) == 't'
+                        && (bytes[start + 1] | 0x20) == 'r'
+                        && (bytes[start + 2] | 0x20) == 'u'
+                        && (bytes[start + 3] | 0x20) == 'e';
+            case TINYINT:
+            case SMALLINT:
+            case INT:
+            case BIGINT:
+                Object number = parseInteger(bytes, start, end, fieldType);
+                if (number != null) {
+                    return number;
+                }
+                break;
+            case DATE:
+                if (end - start == 10 && isDate(bytes, start)) {
+                    try {
+                        return parseDate(bytes, start);
+                    } catch (DateTimeException e) {
+                        // leave invalid dates to the formatter
+                    }
+                }
+                break;
+            case TIMESTAMP:
+                LocalDateTime timestamp = parseTimestamp(bytes, start, end);
+                if (timestamp != null) {
+                    return timestamp;
+                }
+                break;
+            default:
+                break;
+        }
+        return convert(tokenizer.text(field), fieldType, 0, fieldName);
+    }
+
+    private static boolean isBlank(byte[] bytes, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (bytes[i] < 0) {
+                return StringUtils.isBlank(
+                        new String(bytes, start, end - start, StandardCharsets.UTF_8));
+            }
+            if (!Character.isWhitespace(bytes[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Parses plain decimal integers, null for anything {@code Long.parseLong} has to handle. */
+    private static Object parseInteger(
+            byte[] bytes, int start, int end, SeaTunnelDataType<?> fieldType) {
+        int position = start;
+        boolean negative = bytes[position] == '-';
+        if (negative || bytes[position] == '+') {
+            position++;
+        }
+        // 18 digits never overflow a long
+        if (end - position == 0 || end - position > 18) {
+            return null;
+        }
+        long value = 0;
+        for (; position < end; position++) {
+            int digit = bytes[position] - '0';
+            if (digit < 0 || digit > 9) {
+                return null;
+            }
+            value = value * 10 + digit;
+        }
+        if (negative) {
+            value = -value;
+        }
+        switch (fieldType.getSqlType()) {
+            case TINYINT:
+                return value < Byte.MIN_VALUE || value > Byte.MAX_VALUE ? null : (byte) value;
+            case SMALLINT:
+                return value < Short.MIN_VALUE || value > Short.MAX_VALUE ? null : (short) value;
+            case INT:
+                return value < Integer.MIN_VALUE || value > Integer.MAX_VALUE ? null : (int) value;
+            default:
+                return value;
+        }
+    }
+
+    /** Whether the bytes at the position have the layout {@code yyyy-MM-dd}. */
+    private static boolean isDate(byte[] bytes, int position) {
+        return isDigits(bytes, position, 4)
+                && bytes[position + 4] == '-'
+                && isDigits(bytes, position + 5, 2)
+                && bytes[position + 7] == '-'
+                && isDigits(bytes, position + 8, 2);
+    }
+
+    private static LocalDate parseDate(byte[] bytes, int position) {
+        return LocalDate.of(
+                digits(bytes, position, 4),
+                digits(bytes, position + 5, 2),
+                digits(bytes, position + 8, 2));
+    }
+
+    /**
+     * Parses {@code yyyy-MM-dd HH:mm:ss} with an optional fraction of up to nine digits, and the
+     * same with {@code T} as separator, null for all other layouts and invalid values.
+     */
+    private static LocalDateTime parseTimestamp(byte[] bytes, int start, int end) {
+        int length = end - start;
+        if (length < 19
+                || length == 20
+                || length > 29
+                || !isDate(bytes, start)
+                || (bytes[start + 10] != ' ' && bytes[start + 10] != 'T')
+                || !isDigits(bytes, start + 11, 2)
+                || bytes[start + 13] != ':'
+                || !isDigits(bytes, start + 14, 2)
+                || bytes[start + 16] != ':'
+                || !isDigits(bytes, start + 17, 2)) {
+            return null;
+        }
+        int nanos = 0;
+        if (length > 19) {
+            if (bytes[start + 19] != '.' || !isDigits(bytes, start + 20, length - 20)) {
+                return null;
+            }
+            nanos = digits(bytes, start + 20, length - 20);
+            for (int i = length - 20; i < 9; i++) {
+                nanos *= 10;
+            }
+        }
+        try {
+            return LocalDateTime.of(
+                    parseDate(bytes, start),
+                    LocalTime.of(
+                            digits(bytes, start + 11, 2),
+                            digits(bytes, start + 14, 2),
+                            digits(bytes, start + 17, 2),
+                            nanos));
+        } catch (DateTimeException e) {
+            // leave invalid timestamps to the formatter
+            return null;
+        }
+    }
+
+    private static boolean isDigits(byte[] bytes, int position, int count) {
+        for (int i = position; i < position + count; i++) {
+            if (bytes[i] < '0' || bytes[i] > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int digits(byte[] bytes, int position, int count) {
+        int value = 0;
+        for (int i = position; i < position + count; i++) {
+            value = value * 10 + bytes[i] - '0';
+        }
+        return value;
+    }
+
     private Object convert(
             String field, SeaTunnelDataType<?> fieldType, int level, String fieldName) {
         if (StringUtils.isBlank(field)) {
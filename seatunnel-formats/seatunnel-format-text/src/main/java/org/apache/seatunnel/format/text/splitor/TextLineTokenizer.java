@@ -0,0 +1,195 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.format.text.splitor;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Splits a UTF-8 encoded line into fields without decoding it, so that only the fields which are
+ * actually read have to be turned into strings or values.
+ *
+ * <p>The delimiter may be any non-empty byte sequence, multi-byte UTF-8 characters included, as a
+ * UTF-8 byte sequence can never match in the middle of another character. A field which starts with
+ * the quote character runs to the next unpaired quote, two quotes inside it stand for one, and the
+ * escape character takes the following byte literally. Quote and escape are disabled with {@link
+ * #NONE}. Fields containing either of them are marked as {@link #isEscaped(int) escaped} and are
+ * only resolved by {@link #text(int)}.
+ *
+ * <p>The tokenizer keeps the boundaries of the last tokenized line and is not thread safe.
+ */
+public class TextLineTokenizer implements Serializable {
+
+    public static final int NONE = -1;
+
+    private static final int INITIAL_FIELDS = 16;
+
+    private final byte[] delimiter;
+    private final int quote;
+    private final int escape;
+
+    private transient byte[] bytes;
+    private int fieldCount;
+    private int[] starts = new int[INITIAL_FIELDS];
+    private int[] ends = new int[INITIAL_FIELDS];
+    private boolean[] escaped = new boolean[INITIAL_FIELDS];
+
+    public TextLineTokenizer(String delimiter) {
+        this(delimiter, NONE, NONE);
+    }
+
+    public TextLineTokenizer(String delimiter, int quote, int escape) {
+        if (delimiter == null || delimiter.isEmpty()) {
+            throw new IllegalArgumentException("The delimiter must not be empty");
+        }
+        if (quote > Byte.MAX_VALUE || escape > Byte.MAX_VALUE) {
+            throw new IllegalArgumentException("The quote and escape characters must be ASCII");
+        }
+        this.delimiter = delimiter.getBytes(StandardCharsets.UTF_8);
+        this.quote = quote;
+        this.escape = escape;
+    }
+
+    /**
+     * Splits the line in {@code bytes[offset, offset + length)}.
+     *
+     * @param maxFields stop after this many fields, the rest of the line is not scanned
+     * @return the number of fields found, at most {@code maxFields}
+     */
+    public int tokenize(byte[] bytes, int offset, int length, int maxFields) {
+        this.bytes = bytes;
+        this.fieldCount = 0;
+        int end = offset + length;
+        int position = offset;
+        while (fieldCount < maxFields) {
+            int fieldStart = position;
+            boolean fieldEscaped = false;
+            boolean inQuote = false;
+            int delimiterAt = -1;
+            while (position < end) {
+                byte b = bytes[position];
+                if (escape != NONE && b == escape) {
+                    fieldEscaped = true;
+                    position += 2;
+                } else if (quote != NONE && b == quote && (inQuote || position == fieldStart)) {
+                    fieldEscaped = true;
+                    if (inQuote && position + 1 < end && bytes[position + 1] == quote) {
+                        position += 2;
+                    } else {
+                        inQuote = !inQuote;
+                        position++;
+                    }
+                } else if (!inQuote && b == delimiter[0] && matchesDelimiter(position, end)) {
+                    delimiterAt = position;
+                    break;
+                } else {
+                    position++;
+                }
+            }
+            addField(fieldStart, Math.min(position, end), fieldEscaped);
+            if (delimiterAt < 0) {
+                break;
+            }
+            position = delimiterAt + delimiter.length;
+        }
+        return fieldCount;
+    }
+
+    public int getFieldCount() {
+        return fieldCount;
+    }
+
+    public byte[] getBytes() {
+        return bytes;
+    }
+
+    /** The first byte of the field, the opening quote included. */
+    public int start(int field) {
+        return starts[field];
+    }
+
+    /** The end of the field (exclusive), the closing quote included. */
+    public int end(int field) {
+        return ends[field];
+    }
+
+    /** Whether the raw bytes of the field contain quote or escape characters. */
+    public boolean isEscaped(int field) {
+        return escaped[field];
+    }
+
+    /** Decodes the field, resolving quotes and escapes. */
+    public String text(int field) {
+        int start = starts[field];
+        int end = ends[field];
+        if (!escaped[field]) {
+            return new String(bytes, start, end - start, StandardCharsets.UTF_8);
+        }
+        byte[] unescaped = new byte[end - start];
+        int length = 0;
+        boolean inQuote = false;
+        int position = start;
+        while (position < end) {
+            byte b = bytes[position];
+            if (escape != NONE && b == escape) {
+                if (position + 1 < end) {
+                    unescaped[length++] = bytes[position + 1];
+                }
+                position += 2;
+            } else if (quote != NONE && b == quote && (inQuote || position == start)) {
+                if (inQuote && position + 1 < end && bytes[position + 1] == quote) {
+                    unescaped[length++] = b;
+                    position += 2;
+                } else {
+                    inQuote = !inQuote;
+                    position++;
+                }
+            } else {
+                unescaped[length++] = b;
+                position++;
+            }
+        }
+        return new String(unescaped, 0, length, StandardCharsets.UTF_8);
+    }
+
+    private boolean matchesDelimiter(int position, int end) {
+        if (position + delimiter.length > end) {
+            return false;
+        }
+        for (int i = 1; i < delimiter.length; i++) {
+            if (bytes[position + i] != delimiter[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void addField(int start, int end, boolean fieldEscaped) {
+        if (fieldCount == starts.length) {
+            int capacity = fieldCount * 2;
+            starts = Arrays.copyOf(starts, capacity);
+            ends = Arrays.copyOf(ends, capacity);
+            escaped = Arrays.copyOf(escaped, capacity);
+        }
+        starts[fieldCount] = start;
+        ends[fieldCount] = end;
+        escaped[fieldCount] = fieldEscaped;
+        fieldCount++;
+    }
+}
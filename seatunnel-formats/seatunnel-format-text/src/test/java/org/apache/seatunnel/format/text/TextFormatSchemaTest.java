@@ -33,6 +33,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Map;
 
@@ -154,6 +156,92 @@ public class TextFormatSchemaTest {
         Assertions.assertEquals(data, content);
     }
 
+    @Test
+    public void testParseBytesLikeStrings() throws IOException {
+        String[] lines =
+                new String[] {
+                    content,
+                    content.replace("2022-09-24 22:45:00", "2022-09-24T22:45:00.123"),
+                    content.replace(
+                            "\001true\0011\0012\0013\0014\001",
+                            "\001TRUE\001-1\001+2\001 \001\001"),
+                    content.replace("2022-09-24\001", "2022-02-30\001"),
+                    "\001\001 \001中文",
+                    "1"
+                };
+        for (String line : lines) {
+            // the date formatters are cached by field, use new schemas for every line
+            TextDeserializationSchema bytesSchema =
+                    TextDeserializationSchema.builder()
+                            .seaTunnelRowType(seaTunnelRowType)
+                            .delimiter("\u0001")
+                            .build();
+            TextDeserializationSchema stringSchema =
+                    TextDeserializationSchema.builder()
+                            .seaTunnelRowType(seaTunnelRowType)
+                            .delimiter("\u0001")
+                            .textLineSplitor(
+                                    (splitLine, separator) -> splitLine.split(separator, -1))
+                            .build();
+            byte[] bytes = line.getBytes(StandardCharsets.UTF_8);
+            Assertions.assertEquals(
+                    stringSchema.deserialize(bytes), bytesSchema.deserialize(bytes), line);
+        }
+
+        TextDeserializationSchema deserializationSchema =
+                TextDeserializationSchema.builder()
+                        .seaTunnelRowType(seaTunnelRowType)
+                        .delimiter("\u0001")
+                        .build();
+        Assertions.assertThrows(
+                NumberFormatException.class,
+                () ->
+                        deserializationSchema.deserialize(
+                                content.replace("\0011\0012\001", "\001128\0012\001").getBytes()));
+    }
+
+    @Test
+    public void testParseReadFields() throws IOException {
+        TextDeserializationSchema deserializationSchema =
+                TextDeserializationSchema.builder()
+                        .seaTunnelRowType(seaTunnelRowType)
+                        .delimiter("\u0001")
+                        .readFields(new int[] {6, 2})
+                        .build();
+        // the fields after the last read field are not checked
+        SeaTunnelRow seaTunnelRow =
+                deserializationSchema.deserialize(
+                        content.replace("2022-09-24\001", "not a date\001").getBytes());
+        Assertions.assertEquals("tyrantlucifer", seaTunnelRow.getField(2));
+        Assertions.assertEquals(3, seaTunnelRow.getField(6));
+        for (int i = 0; i < seaTunnelRowType.getTotalFields(); i++) {
+            if (i != 2 && i != 6) {
+                Assertions.assertNull(seaTunnelRow.getField(i));
+            }
+        }
+    }
+
+    @Test
+    public void testParseMultiByteDelimiter() throws IOException {
+        SeaTunnelRowType rowType =
+                new SeaTunnelRowType(
+                        new String[] {"id", "name", "birthday", "partition"},
+                        new SeaTunnelDataType<?>[] {
+                            LONG_TYPE, STRING_TYPE, LocalTimeType.LOCAL_DATE_TYPE, STRING_TYPE
+                        });
+        TextDeserializationSchema deserializationSchema =
+                TextDeserializationSchema.builder()
+                        .seaTunnelRowType(rowType)
+                        .delimiter("¦¦")
+                        .build();
+        byte[] line = "x9223372036854775807¦¦名字¦¦2024-01-02x".getBytes(StandardCharsets.UTF_8);
+        SeaTunnelRow seaTunnelRow = deserializationSchema.deserialize(line, 1, line.length - 2);
+        Assertions.assertEquals(
+                new SeaTunnelRow(
+                        new Object[] {Long.MAX_VALUE, "名字", LocalDate.of(2024, 1, 2), null}),
+                seaTunnelRow);
+    }
+
     @Test
     public void testParseUnsupportedDateTimeFormat() throws IOException {
         SeaTunnelRowType rowType =
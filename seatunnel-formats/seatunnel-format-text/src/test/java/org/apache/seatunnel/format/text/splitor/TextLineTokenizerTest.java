@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.format.text.splitor;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class TextLineTokenizerTest {
+
+    @Test
+    public void testSplitLikeDefaultSplitor() {
+        TextLineTokenizer tokenizer = new TextLineTokenizer(",");
+        String[] lines = new String[] {"", ",", "a,b", "a,,b,", ",a", "\"a,b\"", "中,文,"};
+        for (String line : lines) {
+            Assertions.assertEquals(
+                    Arrays.asList(line.split(",", -1)), tokenize(tokenizer, line), line);
+        }
+    }
+
+    @Test
+    public void testSplitLikeCsvSplitor() {
+        TextLineTokenizer tokenizer = new TextLineTokenizer(",", '"', TextLineTokenizer.NONE);
+        CsvLineSplitor splitor = new CsvLineSplitor();
+        String[] lines =
+                new String[] {"a,b", "\"a,b\",c", "\"a\"\"b\",\"\"", "a\"b,\"c\"\"\"", "1,\"\",3,"};
+        for (String line : lines) {
+            Assertions.assertEquals(
+                    Arrays.asList(splitor.spliteLine(line, ",")), tokenize(tokenizer, line), line);
+        }
+    }
+
+    @Test
+    public void testMultiByteDelimiterAndEscape() {
+        TextLineTokenizer tokenizer = new TextLineTokenizer("||", TextLineTokenizer.NONE, '\\');
+        Assertions.assertEquals(
+                Arrays.asList("a|b", "c||d", "", "é\\"),
+                tokenize(tokenizer, "a|b||c\\||d||||é\\\\"));
+
+        TextLineTokenizer unicodeTokenizer = new TextLineTokenizer("→");
+        Assertions.assertEquals(
+                Arrays.asList("α", "β→", "γ"),
+                tokenize(new TextLineTokenizer("→", '"', '\\'), "α→\"β→\"→γ"));
+        Assertions.assertEquals(Arrays.asList("", "a", ""), tokenize(unicodeTokenizer, "→a→"));
+    }
+
+    @Test
+    public void testStopAtMaxFields() {
+        TextLineTokenizer tokenizer = new TextLineTokenizer(",");
+        byte[] bytes = "a,b,c,d".getBytes(StandardCharsets.UTF_8);
+        Assertions.assertEquals(2, tokenizer.tokenize(bytes, 0, bytes.length, 2));
+        Assertions.assertEquals("b", tokenizer.text(1));
+        Assertions.assertEquals(0, tokenizer.tokenize(bytes, 0, bytes.length, 0));
+        Assertions.assertEquals(2, tokenizer.tokenize(bytes, 4, 3, 10));
+        Assertions.assertEquals("c", tokenizer.text(0));
+        Assertions.assertEquals(4, tokenizer.start(0));
+        Assertions.assertEquals(5, tokenizer.end(0));
+    }
+
+    private static List<String> tokenize(TextLineTokenizer tokenizer, String line) {
+        byte[] bytes = line.getBytes(StandardCharsets.UTF_8);
+        int fieldCount = tokenizer.tokenize(bytes, 0, bytes.length, Integer.MAX_VALUE);
+        List<String> fields = new ArrayList<>();
+        for (int i = 0; i < fieldCount; i++) {
+            fields.add(tokenizer.text(i));
+        }
+        return fields;
+    }
+}
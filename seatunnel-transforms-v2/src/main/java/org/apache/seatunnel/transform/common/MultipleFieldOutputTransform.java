@@ -53,6 +53,16 @@ public abstract class MultipleFieldOutputTransform extends AbstractCatalogSuppor
     @Override
     protected SeaTunnelRow transformRow(SeaTunnelRow inputRow) {
         Object[] fieldValues = getOutputFieldValues(new SeaTunnelRowAccessor(inputRow));
+        return createOutputRow(inputRow, fieldValues);
+    }
+
+    /**
+     * Creates the output row of the input row with the given values of the output fields.
+     *
+     * @param inputRow The inputRow of upstream input.
+     * @param fieldValues The values of the output fields.
+     */
+    protected SeaTunnelRow createOutputRow(SeaTunnelRow inputRow, Object[] fieldValues) {
         SeaTunnelRow outputRow = rowContainerGenerator.apply(inputRow);
         for (int i = 0; i < outputFieldNames.length; i++) {
             outputRow.setField(fieldsIndex[i], fieldValues == null ? null : fieldValues[i]);
@@ -26,6 +26,7 @@ import org.apache.seatunnel.api.table.catalog.TableIdentifier;
 import org.apache.seatunnel.api.table.catalog.TableSchema;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.api.transform.SupportProjectionPushDown;
 import org.apache.seatunnel.transform.common.AbstractCatalogSupportTransform;
 import org.apache.seatunnel.transform.exception.TransformCommonError;
 
@@ -38,10 +39,12 @@ import lombok.extern.slf4j.Slf4j;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Slf4j
-public class FieldMapperTransform extends AbstractCatalogSupportTransform {
+public class FieldMapperTransform extends AbstractCatalogSupportTransform
+        implements SupportProjectionPushDown {
     public static String PLUGIN_NAME = "FieldMapper";
     private final FieldMapperTransformConfig config;
     private List<Integer> needReaderColIndex;
@@ -87,6 +90,24 @@ public class FieldMapperTransform extends AbstractCatalogSupportTransform {
         return outputRow;
     }
 
+    @Override
+    public Optional<List<String>> getRequiredInputFields() {
+        return Optional.of(new ArrayList<>(config.getFieldMapper().keySet()));
+    }
+
+    @Override
+    public void applyInputProjection(CatalogTable projectedInputTable) {
+        getProducedCatalogTable();
+        inputCatalogTable = projectedInputTable;
+        SeaTunnelRowType seaTunnelRowType =
+                projectedInputTable.getTableSchema().toPhysicalRowDataType();
+        List<Integer> projectedColIndex = new ArrayList<>(config.getFieldMapper().size());
+        for (String field : config.getFieldMapper().keySet()) {
+            projectedColIndex.add(seaTunnelRowType.indexOf(field));
+        }
+        needReaderColIndex = projectedColIndex;
+    }
+
     @Override
     protected TableSchema transformTableSchema() {
         Map<String, String> fieldMapper = config.getFieldMapper();
@@ -28,6 +28,7 @@ import org.apache.seatunnel.api.table.catalog.TableIdentifier;
 import org.apache.seatunnel.api.table.catalog.TableSchema;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.api.transform.SupportProjectionPushDown;
 import org.apache.seatunnel.transform.common.AbstractCatalogSupportTransform;
 import org.apache.seatunnel.transform.exception.TransformCommonError;
 
@@ -37,6 +38,7 @@ import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -44,7 +46,8 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 @Slf4j
-public class FilterFieldTransform extends AbstractCatalogSupportTransform {
+public class FilterFieldTransform extends AbstractCatalogSupportTransform
+        implements SupportProjectionPushDown {
     public static final String PLUGIN_NAME = "Filter";
 
     private int[] inputValueIndexList;
@@ -91,6 +94,26 @@ public class FilterFieldTransform extends AbstractCatalogSupportTransform {
         return inputRow.copy(inputValueIndexList);
     }
 
+    @Override
+    public Optional<List<String>> getRequiredInputFields() {
+        return Optional.of(
+                Arrays.asList(getProducedCatalogTable().getSeaTunnelRowType().getFieldNames()));
+    }
+
+    @Override
+    public void applyInputProjection(CatalogTable projectedInputTable) {
+        // the excluded fields are resolved against the original input, so keep the output fields
+        SeaTunnelRowType outputRowType = getProducedCatalogTable().getSeaTunnelRowType();
+        inputCatalogTable = projectedInputTable;
+        SeaTunnelRowType seaTunnelRowType =
+                projectedInputTable.getTableSchema().toPhysicalRowDataType();
+        int[] projectedValueIndexList = new int[outputRowType.getTotalFields()];
+        for (int i = 0; i < projectedValueIndexList.length; i++) {
+            projectedValueIndexList[i] = seaTunnelRowType.indexOf(outputRowType.getFieldName(i));
+        }
+        inputValueIndexList = projectedValueIndexList;
+    }
+
     @Override
     protected TableSchema transformTableSchema() {
         List<Column> outputColumns = new ArrayList<>();
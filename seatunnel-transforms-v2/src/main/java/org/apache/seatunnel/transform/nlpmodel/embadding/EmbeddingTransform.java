@@ -21,8 +21,11 @@ import org.apache.seatunnel.api.configuration.ReadonlyConfig;
 import org.apache.seatunnel.api.table.catalog.CatalogTable;
 import org.apache.seatunnel.api.table.catalog.Column;
 import org.apache.seatunnel.api.table.catalog.PhysicalColumn;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.api.table.type.VectorType;
+import org.apache.seatunnel.api.transform.Collector;
+import org.apache.seatunnel.api.transform.SeaTunnelFlatMapTransform;
 import org.apache.seatunnel.transform.common.MultipleFieldOutputTransform;
 import org.apache.seatunnel.transform.common.SeaTunnelRowAccessor;
 import org.apache.seatunnel.transform.exception.TransformCommonError;
@@ -44,7 +47,8 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
-public class EmbeddingTransform extends MultipleFieldOutputTransform {
+public class EmbeddingTransform extends MultipleFieldOutputTransform
+        implements SeaTunnelFlatMapTransform<SeaTunnelRow> {
 
     private final ReadonlyConfig config;
     private List<String> fieldNames;
@@ -180,6 +184,31 @@ public class EmbeddingTransform extends MultipleFieldOutputTransform {
         }
     }
 
+    /** Vectorizes the fields of all rows together, so that the model requests are full. */
+    @Override
+    public void flatMap(List<SeaTunnelRow> rows, Collector<SeaTunnelRow> collector) {
+        tryOpen();
+        int fieldCount = fieldOriginalIndexes.size();
+        List<ByteBuffer> vectorization;
+        try {
+            Object[] fieldArray = new Object[rows.size() * fieldCount];
+            for (int i = 0; i < rows.size(); i++) {
+                SeaTunnelRow row = rows.get(i);
+                for (int j = 0; j < fieldCount; j++) {
+                    fieldArray[i * fieldCount + j] = row.getField(fieldOriginalIndexes.get(j));
+                }
+            }
+            vectorization = model.vectorization(fieldArray);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to data vectorization", e);
+        }
+        for (int i = 0; i < rows.size(); i++) {
+            Object[] fieldValues =
+                    vectorization.subList(i * fieldCount, (i + 1) * fieldCount).toArray();
+            collector.collect(createOutputRow(rows.get(i), fieldValues));
+        }
+    }
+
     @Override
     protected Column[] getOutputColumns() {
         Column[] columns = new Column[fieldNames.size()];
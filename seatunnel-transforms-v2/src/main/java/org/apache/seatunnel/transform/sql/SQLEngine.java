@@ -17,10 +17,13 @@
 
 package org.apache.seatunnel.transform.sql;
 
+import org.apache.seatunnel.api.source.filter.Predicate;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 public interface SQLEngine {
     void init(
@@ -33,5 +36,15 @@ public interface SQLEngine {
 
     SeaTunnelRow transformBySQL(SeaTunnelRow inputRow);
 
+    /** The predicates of the filter which can be pushed down to the source. */
+    default List<Predicate> getPushDownPredicates() {
+        return Collections.emptyList();
+    }
+
+    /** The input fields which are read by the query, or empty if it reads all of them. */
+    default Optional<List<String>> getRequiredInputFields() {
+        return Optional.empty();
+    }
+
     default void close() {}
 }
@@ -21,6 +21,7 @@ import org.apache.seatunnel.api.common.CommonOptions;
 import org.apache.seatunnel.api.configuration.Option;
 import org.apache.seatunnel.api.configuration.Options;
 import org.apache.seatunnel.api.configuration.ReadonlyConfig;
+import org.apache.seatunnel.api.source.filter.Predicate;
 import org.apache.seatunnel.api.table.catalog.CatalogTable;
 import org.apache.seatunnel.api.table.catalog.Column;
 import org.apache.seatunnel.api.table.catalog.ConstraintKey;
@@ -30,6 +31,8 @@ import org.apache.seatunnel.api.table.catalog.TableSchema;
 import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.api.transform.SupportPredicatePushDown;
+import org.apache.seatunnel.api.transform.SupportProjectionPushDown;
 import org.apache.seatunnel.transform.common.AbstractCatalogSupportTransform;
 import org.apache.seatunnel.transform.sql.SQLEngineFactory.EngineType;
 
@@ -39,12 +42,14 @@ import lombok.extern.slf4j.Slf4j;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import static org.apache.seatunnel.transform.sql.SQLEngineFactory.EngineType.ZETA;
 
 @Slf4j
-public class SQLTransform extends AbstractCatalogSupportTransform {
+public class SQLTransform extends AbstractCatalogSupportTransform
+        implements SupportPredicatePushDown, SupportProjectionPushDown {
     public static final String PLUGIN_NAME = "Sql";
 
     public static final Option<String> KEY_QUERY =
@@ -108,6 +113,29 @@ public class SQLTransform extends AbstractCatalogSupportTransform {
         return sqlEngine.transformBySQL(inputRow);
     }
 
+    @Override
+    public List<Predicate> getPushDownPredicates() {
+        tryOpen();
+        return sqlEngine.getPushDownPredicates();
+    }
+
+    @Override
+    public Optional<List<String>> getRequiredInputFields() {
+        tryOpen();
+        return sqlEngine.getRequiredInputFields();
+    }
+
+    @Override
+    public void applyInputProjection(CatalogTable projectedInputTable) {
+        // the fields are resolved by name, so the produced table is kept
+        getProducedCatalogTable();
+        inputCatalogTable = projectedInputTable;
+        if (sqlEngine != null) {
+            sqlEngine.close();
+            sqlEngine = null;
+        }
+    }
+
     @Override
     protected TableSchema transformTableSchema() {
         tryOpen();
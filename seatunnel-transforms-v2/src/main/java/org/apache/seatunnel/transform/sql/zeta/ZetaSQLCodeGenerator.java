@@ -0,0 +1,651 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.transform.sql.zeta;
+
+import org.apache.seatunnel.shade.org.codehaus.janino.ClassBodyEvaluator;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.api.table.type.SqlType;
+
+import org.apache.commons.lang3.tuple.Pair;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import net.sf.jsqlparser.expression.BinaryExpression;
+import net.sf.jsqlparser.expression.DoubleValue;
+import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.Function;
+import net.sf.jsqlparser.expression.LongValue;
+import net.sf.jsqlparser.expression.NullValue;
+import net.sf.jsqlparser.expression.Parenthesis;
+import net.sf.jsqlparser.expression.SignedExpression;
+import net.sf.jsqlparser.expression.StringValue;
+import net.sf.jsqlparser.expression.operators.arithmetic.Addition;
+import net.sf.jsqlparser.expression.operators.arithmetic.Division;
+import net.sf.jsqlparser.expression.operators.arithmetic.Modulo;
+import net.sf.jsqlparser.expression.operators.arithmetic.Multiplication;
+import net.sf.jsqlparser.expression.operators.arithmetic.Subtraction;
+import net.sf.jsqlparser.expression.operators.conditional.AndExpression;
+import net.sf.jsqlparser.expression.operators.conditional.OrExpression;
+import net.sf.jsqlparser.expression.operators.relational.ComparisonOperator;
+import net.sf.jsqlparser.expression.operators.relational.EqualsTo;
+import net.sf.jsqlparser.expression.operators.relational.GreaterThan;
+import net.sf.jsqlparser.expression.operators.relational.GreaterThanEquals;
+import net.sf.jsqlparser.expression.operators.relational.IsNullExpression;
+import net.sf.jsqlparser.expression.operators.relational.MinorThan;
+import net.sf.jsqlparser.expression.operators.relational.MinorThanEquals;
+import net.sf.jsqlparser.expression.operators.relational.NotEqualsTo;
+import net.sf.jsqlparser.schema.Column;
+import net.sf.jsqlparser.statement.select.AllColumns;
+import net.sf.jsqlparser.statement.select.PlainSelect;
+import net.sf.jsqlparser.statement.select.SelectExpressionItem;
+import net.sf.jsqlparser.statement.select.SelectItem;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Generates a {@link ZetaSQLCompiledQuery} for the WHERE clause and the select items of a query, so
+ * that rows are no longer evaluated by walking the expression tree.
+ *
+ * <p>Column references, literals, arithmetic, comparisons, IS NULL, AND/OR and function calls are
+ * compiled to type-specialized code with the same semantics as {@link ZetaSQLFilter} and {@link
+ * ZetaSQLFunction}. Any other expression is evaluated by the interpreter from the generated code.
+ */
+public class ZetaSQLCodeGenerator {
+    private static final Logger log = LoggerFactory.getLogger(ZetaSQLCodeGenerator.class);
+
+    private static final String INPUT = "in";
+
+    private final SeaTunnelRowType inputRowType;
+    private final ZetaSQLType zetaSQLType;
+
+    private final List<Expression> expressions = new ArrayList<>();
+    private final List<Object> constants = new ArrayList<>();
+    private final StringBuilder methods = new StringBuilder();
+
+    private int varIndex = 0;
+    private int methodIndex = 0;
+    private int compiledCount = 0;
+
+    public ZetaSQLCodeGenerator(SeaTunnelRowType inputRowType, ZetaSQLType zetaSQLType) {
+        this.inputRowType = inputRowType;
+        this.zetaSQLType = zetaSQLType;
+    }
+
+    /**
+     * Compile the query
+     *
+     * @param selectBody the parsed query
+     * @param zetaSQLFunction interpreter used for the unsupported value expressions
+     * @param zetaSQLFilter interpreter used for the unsupported conditions
+     * @return the compiled query, or null if no expression of the query can be compiled
+     */
+    public ZetaSQLCompiledQuery compile(
+            PlainSelect selectBody, ZetaSQLFunction zetaSQLFunction, ZetaSQLFilter zetaSQLFilter)
+            throws Exception {
+        String classBody = generate(selectBody);
+        if (classBody == null) {
+            return null;
+        }
+        log.debug("Generated code for SQL [{}]:\n{}", selectBody, classBody);
+
+        ClassBodyEvaluator evaluator = new ClassBodyEvaluator();
+        evaluator.setParentClassLoader(ZetaSQLCompiledQuery.class.getClassLoader());
+        evaluator.setExtendedClass(ZetaSQLCompiledQuery.class);
+        evaluator.cook(classBody);
+        ZetaSQLCompiledQuery query =
+                (ZetaSQLCompiledQuery) evaluator.getClazz().getDeclaredConstructor().newInstance();
+        query.bind(
+                zetaSQLFunction,
+                zetaSQLFilter,
+                expressions.toArray(new Expression[0]),
+                constants.toArray());
+        return query;
+    }
+
+    String generate(PlainSelect selectBody) {
+        Expression where = selectBody.getWhere();
+        String condition = where == null ? "true" : generateCondition(where);
+
+        List<SelectItem> selectItems = selectBody.getSelectItems();
+        int fieldCount = inputRowType.getTotalFields();
+        int columnsSize = 0;
+        for (SelectItem selectItem : selectItems) {
+            columnsSize += selectItem instanceof AllColumns ? fieldCount : 1;
+        }
+
+        StringBuilder project = new StringBuilder();
+        project.append("Object[] out = new Object[").append(columnsSize).append("];\n");
+        int idx = 0;
+        for (SelectItem selectItem : selectItems) {
+            if (selectItem instanceof AllColumns) {
+                project.append("System.arraycopy(in, 0, out, ")
+                        .append(idx)
+                        .append(", in.length);\n");
+                idx += fieldCount;
+            } else if (selectItem instanceof SelectExpressionItem) {
+                Expression expression = ((SelectExpressionItem) selectItem).getExpression();
+                project.append("out[")
+                        .append(idx)
+                        .append("] = ")
+                        .append(generateProjection(expression))
+                        .append(";\n");
+                idx++;
+            } else {
+                idx++;
+            }
+        }
+        project.append("return out;\n");
+
+        if (compiledCount == 0) {
+            return null;
+        }
+        return "public boolean filter(Object[] in) {\nreturn "
+                + condition
+                + ";\n}\n"
+                + "public Object[] project(Object[] in) {\n"
+                + project
+                + "}\n"
+                + methods;
+    }
+
+    private String generateProjection(Expression expression) {
+        int index = expression instanceof Column ? columnIndex((Column) expression) : -1;
+        if (index != -1) {
+            compiledCount++;
+            return INPUT + "[" + index + "]";
+        }
+        StringBuilder code = new StringBuilder();
+        Value value = generateValue(expression, code);
+        code.append("return ").append(box(value)).append(";\n");
+        return addMethod("Object", code);
+    }
+
+    private String generateCondition(Expression expression) {
+        if (expression instanceof Parenthesis) {
+            return "(" + generateCondition(((Parenthesis) expression).getExpression()) + ")";
+        }
+        // both sides are always evaluated, same as ZetaSQLFilter
+        if (expression instanceof AndExpression) {
+            AndExpression and = (AndExpression) expression;
+            return "("
+                    + generateCondition(and.getLeftExpression())
+                    + " & "
+                    + generateCondition(and.getRightExpression())
+                    + ")";
+        }
+        if (expression instanceof OrExpression) {
+            OrExpression or = (OrExpression) expression;
+            return "("
+                    + generateCondition(or.getLeftExpression())
+                    + " | "
+                    + generateCondition(or.getRightExpression())
+                    + ")";
+        }
+        if (expression instanceof IsNullExpression) {
+            IsNullExpression isNull = (IsNullExpression) expression;
+            StringBuilder code = new StringBuilder();
+            Value value = generateValue(isNull.getLeftExpression(), code);
+            code.append("return ")
+                    .append(isNull.isNot() ? "!" : "")
+                    .append(value.isNull)
+                    .append(";\n");
+            compiledCount++;
+            return addMethod("boolean", code);
+        }
+        if (expression instanceof ComparisonOperator) {
+            String comparison = generateComparison((ComparisonOperator) expression);
+            if (comparison != null) {
+                return comparison;
+            }
+        }
+        return "zetaSQLFilter.executeFilter(expressions[" + addExpression(expression) + "], in)";
+    }
+
+    private String generateComparison(ComparisonOperator comparison) {
+        int savedCompiledCount = compiledCount;
+        StringBuilder code = new StringBuilder();
+        Value left = generateValue(comparison.getLeftExpression(), code);
+        Value right = generateValue(comparison.getRightExpression(), code);
+
+        String eq;
+        String gt;
+        String ge;
+        String lt;
+        String le;
+        if (left.kind.isNumeric() && right.kind.isNumeric()) {
+            String l = toDouble(left);
+            String r = toDouble(right);
+            eq = l + " == " + r;
+            gt = l + " > " + r;
+            ge = l + " >= " + r;
+            lt = l + " < " + r;
+            le = l + " <= " + r;
+        } else if (left.kind == Kind.STRING && right.kind == Kind.STRING) {
+            eq = left.value + ".equals(" + right.value + ")";
+            String compare = left.value + ".compareTo(" + right.value + ")";
+            gt = compare + " > 0";
+            ge = compare + " >= 0";
+            lt = compare + " < 0";
+            le = compare + " <= 0";
+        } else if (left.kind.isTemporal() && left.kind == right.kind) {
+            eq = left.value + ".equals(" + right.value + ")";
+            gt = left.value + ".isAfter(" + right.value + ")";
+            ge = "!" + left.value + ".isBefore(" + right.value + ")";
+            lt = left.value + ".isBefore(" + right.value + ")";
+            le = "!" + left.value + ".isAfter(" + right.value + ")";
+        } else if (isBinaryComparison(comparison)) {
+            // the operand types are only known at runtime
+            code.append("return zetaSQLFilter.executeComparison((")
+                    .append(ComparisonOperator.class.getName())
+                    .append(") expressions[")
+                    .append(addExpression(comparison))
+                    .append("], ")
+                    .append(Pair.class.getName())
+                    .append(".of(")
+                    .append(box(left))
+                    .append(", ")
+                    .append(box(right))
+                    .append("));\n");
+            return addMethod("boolean", code);
+        } else {
+            compiledCount = savedCompiledCount;
+            return null;
+        }
+
+        String anyNull = "(" + left.isNull + " || " + right.isNull + ")";
+        String result;
+        if (comparison instanceof EqualsTo) {
+            result = "!" + anyNull + " && " + eq;
+        } else if (comparison instanceof NotEqualsTo) {
+            result = anyNull + " ? " + left.isNull + " != " + right.isNull + " : !(" + eq + ")";
+        } else if (comparison instanceof GreaterThan) {
+            result = "!" + anyNull + " && " + gt;
+        } else if (comparison instanceof GreaterThanEquals) {
+            result = "!" + anyNull + " && " + ge;
+        } else if (comparison instanceof MinorThan) {
+            result = "!" + anyNull + " && " + lt;
+        } else if (comparison instanceof MinorThanEquals) {
+            result = "!" + anyNull + " && " + le;
+        } else {
+            compiledCount = savedCompiledCount;
+            return null;
+        }
+        code.append("return ").append(result).append(";\n");
+        compiledCount++;
+        return addMethod("boolean", code);
+    }
+
+    private static boolean isBinaryComparison(ComparisonOperator comparison) {
+        return comparison instanceof EqualsTo
+                || comparison instanceof NotEqualsTo
+                || comparison instanceof GreaterThan
+                || comparison instanceof GreaterThanEquals
+                || comparison instanceof MinorThan
+                || comparison instanceof MinorThanEquals;
+    }
+
+    private Value generateValue(Expression expression, StringBuilder code) {
+        if (expression instanceof NullValue) {
+            return new Value("true", "null", Kind.OBJECT);
+        }
+        if (expression instanceof LongValue) {
+            long longVal = ((LongValue) expression).getValue();
+            if (longVal <= Integer.MAX_VALUE && longVal >= Integer.MIN_VALUE) {
+                return new Value("false", String.valueOf(longVal), Kind.INT);
+            }
+            return new Value("false", longVal + "L", Kind.LONG);
+        }
+        if (expression instanceof DoubleValue) {
+            return new Value("false", ((DoubleValue) expression).getValue() + "D", Kind.DOUBLE);
+        }
+        if (expression instanceof StringValue) {
+            String value = "((String) constants[" + addConstant(expression) + "])";
+            return new Value("false", value, Kind.STRING);
+        }
+        if (expression instanceof SignedExpression) {
+            SignedExpression signed = (SignedExpression) expression;
+            Expression inner = signed.getExpression();
+            if (signed.getSign() == '-'
+                    && (inner instanceof LongValue || inner instanceof DoubleValue)) {
+                Value value = generateValue(inner, code);
+                return new Value("false", "(-" + value.value + ")", value.kind);
+            }
+        }
+        if (expression instanceof Parenthesis) {
+            return generateValue(((Parenthesis) expression).getExpression(), code);
+        }
+        if (expression instanceof Column) {
+            int index = columnIndex((Column) expression);
+            if (index != -1) {
+                compiledCount++;
+                return generateColumn(index, code);
+            }
+        }
+        if (expression instanceof Addition
+                || expression instanceof Subtraction
+                || expression instanceof Multiplication
+                || expression instanceof Division
+                || expression instanceof Modulo) {
+            Value value = generateArithmetic((BinaryExpression) expression, code);
+            if (value != null) {
+                return value;
+            }
+        }
+        if (expression instanceof Function) {
+            return generateFunction((Function) expression, code);
+        }
+        String var = nextVar();
+        code.append("Object v")
+                .append(var)
+                .append(" = zetaSQLFunction.computeForValue(expressions[")
+                .append(addExpression(expression))
+                .append("], in);\n");
+        return declareNull(var, Kind.OBJECT, code);
+    }
+
+    private Value generateColumn(int index, StringBuilder code) {
+        String var = nextVar();
+        String field = INPUT + "[" + index + "]";
+        Kind kind = Kind.of(inputRowType.getFieldType(index).getSqlType());
+        if (kind.isPrimitive()) {
+            code.append("Object o").append(var).append(" = ").append(field).append(";\n");
+            code.append("boolean n").append(var).append(" = o").append(var).append(" == null;\n");
+            code.append(kind.javaType)
+                    .append(" v")
+                    .append(var)
+                    .append(" = n")
+                    .append(var)
+                    .append(" ? ")
+                    .append(kind.defaultValue)
+                    .append(" : ((Number) o")
+                    .append(var)
+                    .append(").")
+                    .append(kind.javaType)
+                    .append("Value();\n");
+            return new Value("n" + var, "v" + var, kind);
+        }
+        code.append(kind.javaType)
+                .append(" v")
+                .append(var)
+                .append(" = (")
+                .append(kind.javaType)
+                .append(") ")
+                .append(field)
+                .append(";\n");
+        return declareNull(var, kind, code);
+    }
+
+    private Value generateArithmetic(BinaryExpression expression, StringBuilder code) {
+        Kind kind;
+        switch (zetaSQLType.getExpressionType(expression).getSqlType()) {
+            case INT:
+                kind = Kind.INT;
+                break;
+            case BIGINT:
+                kind = Kind.LONG;
+                break;
+            case DOUBLE:
+                kind = Kind.DOUBLE;
+                break;
+            default:
+                return null;
+        }
+        int savedCompiledCount = compiledCount;
+        StringBuilder operands = new StringBuilder();
+        Value left = toNumber(generateValue(expression.getLeftExpression(), operands), operands);
+        Value right = toNumber(generateValue(expression.getRightExpression(), operands), operands);
+        if (left == null || right == null) {
+            compiledCount = savedCompiledCount;
+            return null;
+        }
+        String operator;
+        if (expression instanceof Addition) {
+            operator = " + ";
+        } else if (expression instanceof Subtraction) {
+            operator = " - ";
+        } else if (expression instanceof Multiplication) {
+            operator = " * ";
+        } else if (expression instanceof Division) {
+            operator = " / ";
+        } else {
+            operator = " % ";
+        }
+        code.append(operands);
+        String var = nextVar();
+        code.append("boolean n")
+                .append(var)
+                .append(" = ")
+                .append(left.isNull)
+                .append(" || ")
+                .append(right.isNull)
+                .append(";\n");
+        code.append(kind.javaType)
+                .append(" v")
+                .append(var)
+                .append(" = n")
+                .append(var)
+                .append(" ? ")
+                .append(kind.defaultValue)
+                .append(" : ")
+                .append(convert(left, kind))
+                .append(operator)
+                .append(convert(right, kind))
+                .append(";\n");
+        compiledCount++;
+        return new Value("n" + var, "v" + var, kind);
+    }
+
+    private Value generateFunction(Function function, StringBuilder code) {
+        List<Expression> parameters =
+                function.getParameters() == null
+                        ? Collections.emptyList()
+                        : function.getParameters().getExpressions();
+        List<Value> args = new ArrayList<>(parameters.size());
+        for (Expression parameter : parameters) {
+            args.add(generateValue(parameter, code));
+        }
+        String var = nextVar();
+        code.append("java.util.List a")
+                .append(var)
+                .append(" = new java.util.ArrayList(")
+                .append(args.size())
+                .append(");\n");
+        for (Value arg : args) {
+            code.append("a").append(var).append(".add(").append(box(arg)).append(");\n");
+        }
+        code.append("Object v")
+                .append(var)
+                .append(" = zetaSQLFunction.executeFunctionExpr((String) constants[")
+                .append(addConstant(function.getName()))
+                .append("], a")
+                .append(var)
+                .append(");\n");
+        compiledCount++;
+        return declareNull(var, Kind.OBJECT, code);
+    }
+
+    /** Cast an untyped value to {@link Number}, as the interpreter does for arithmetic. */
+    private Value toNumber(Value value, StringBuilder code) {
+        if (value.kind.isNumeric()) {
+            return value;
+        }
+        if (value.kind != Kind.OBJECT) {
+            return null;
+        }
+        if ("null".equals(value.value)) {
+            return new Value("true", "((Number) null)", Kind.NUMBER);
+        }
+        String var = nextVar();
+        code.append("Number c")
+                .append(var)
+                .append(" = (Number) ")
+                .append(value.value)
+                .append(";\n");
+        return new Value(value.isNull, "c" + var, Kind.NUMBER);
+    }
+
+    private Value declareNull(String var, Kind kind, StringBuilder code) {
+        code.append("boolean n").append(var).append(" = v").append(var).append(" == null;\n");
+        return new Value("n" + var, "v" + var, kind);
+    }
+
+    private String toDouble(Value value) {
+        return convert(value, Kind.DOUBLE);
+    }
+
+    private String convert(Value value, Kind kind) {
+        if (value.kind == kind) {
+            return value.value;
+        }
+        if (value.kind == Kind.NUMBER) {
+            return value.value + "." + kind.javaType + "Value()";
+        }
+        return "((" + kind.javaType + ") " + value.value + ")";
+    }
+
+    private String box(Value value) {
+        switch (value.kind) {
+            case INT:
+                return "(" + value.isNull + " ? null : Integer.valueOf(" + value.value + "))";
+            case LONG:
+                return "(" + value.isNull + " ? null : Long.valueOf(" + value.value + "))";
+            case DOUBLE:
+                return "(" + value.isNull + " ? null : Double.valueOf(" + value.value + "))";
+            default:
+                return "(Object) " + value.value;
+        }
+    }
+
+    private int columnIndex(Column column) {
+        String columnName = column.getColumnName();
+        int index = inputRowType.indexOf(columnName, false);
+        if (index == -1
+                && columnName.startsWith(ZetaSQLEngine.ESCAPE_IDENTIFIER)
+                && columnName.endsWith(ZetaSQLEngine.ESCAPE_IDENTIFIER)) {
+            columnName = columnName.substring(1, columnName.length() - 1);
+            index = inputRowType.indexOf(columnName, false);
+        }
+        return index;
+    }
+
+    private String addMethod(String returnType, StringBuilder code) {
+        String name = "m" + methodIndex++;
+        methods.append("private ")
+                .append(returnType)
+                .append(" ")
+                .append(name)
+                .append("(Object[] in) {\n")
+                .append(code)
+                .append("}\n");
+        return name + "(in)";
+    }
+
+    private int addExpression(Expression expression) {
+        expressions.add(expression);
+        return expressions.size() - 1;
+    }
+
+    private int addConstant(Object constant) {
+        if (constant instanceof StringValue) {
+            constant = ((StringValue) constant).getValue();
+        }
+        constants.add(constant);
+        return constants.size() - 1;
+    }
+
+    private String nextVar() {
+        return String.valueOf(varIndex++);
+    }
+
+    private static class Value {
+        /** Java expression that is true if the value is null */
+        private final String isNull;
+        /** Java expression of the value, only valid if it is not null */
+        private final String value;
+
+        private final Kind kind;
+
+        private Value(String isNull, String value, Kind kind) {
+            this.isNull = isNull;
+            this.value = value;
+            this.kind = kind;
+        }
+    }
+
+    private enum Kind {
+        INT("int", "0"),
+        LONG("long", "0L"),
+        DOUBLE("double", "0D"),
+        NUMBER("Number", "null"),
+        STRING("String", "null"),
+        DATE("java.time.LocalDate", "null"),
+        TIME("java.time.LocalTime", "null"),
+        TIMESTAMP("java.time.LocalDateTime", "null"),
+        OBJECT("Object", "null");
+
+        private final String javaType;
+        private final String defaultValue;
+
+        Kind(String javaType, String defaultValue) {
+            this.javaType = javaType;
+            this.defaultValue = defaultValue;
+        }
+
+        private boolean isPrimitive() {
+            return this == INT || this == LONG || this == DOUBLE;
+        }
+
+        private boolean isNumeric() {
+            return isPrimitive() || this == NUMBER;
+        }
+
+        private boolean isTemporal() {
+            return this == DATE || this == TIME || this == TIMESTAMP;
+        }
+
+        private static Kind of(SqlType sqlType) {
+            switch (sqlType) {
+                case INT:
+                    return INT;
+                case BIGINT:
+                    return LONG;
+                case DOUBLE:
+                    return DOUBLE;
+                case TINYINT:
+                case SMALLINT:
+                case FLOAT:
+                case DECIMAL:
+                    return NUMBER;
+                case STRING:
+                    return STRING;
+                case DATE:
+                    return DATE;
+                case TIME:
+                    return TIME;
+                case TIMESTAMP:
+                    return TIMESTAMP;
+                default:
+                    return OBJECT;
+            }
+        }
+    }
+}
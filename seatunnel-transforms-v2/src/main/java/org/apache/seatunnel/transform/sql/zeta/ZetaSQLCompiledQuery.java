@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.transform.sql.zeta;
+
+import net.sf.jsqlparser.expression.Expression;
+
+/**
+ * Base class of the query classes generated by {@link ZetaSQLCodeGenerator}. Expressions that the
+ * generator does not support are evaluated through the interpreter, using the expressions and
+ * constants bound here.
+ */
+public abstract class ZetaSQLCompiledQuery {
+    protected ZetaSQLFunction zetaSQLFunction;
+    protected ZetaSQLFilter zetaSQLFilter;
+    protected Expression[] expressions;
+    protected Object[] constants;
+
+    void bind(
+            ZetaSQLFunction zetaSQLFunction,
+            ZetaSQLFilter zetaSQLFilter,
+            Expression[] expressions,
+            Object[] constants) {
+        this.zetaSQLFunction = zetaSQLFunction;
+        this.zetaSQLFilter = zetaSQLFilter;
+        this.expressions = expressions;
+        this.constants = constants;
+    }
+
+    /**
+     * Evaluate the WHERE clause
+     *
+     * @param inputFields input fields
+     * @return true if the row is retained
+     */
+    public abstract boolean filter(Object[] inputFields);
+
+    /**
+     * Evaluate the select items
+     *
+     * @param inputFields input fields
+     * @return output fields
+     */
+    public abstract Object[] project(Object[] inputFields);
+}
@@ -17,6 +17,7 @@
 
 package org.apache.seatunnel.transform.sql.zeta;
 
+import org.apache.seatunnel.api.source.filter.Predicate;
 import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
@@ -29,6 +30,7 @@ import org.slf4j.LoggerFactory;
 
 import net.sf.jsqlparser.JSQLParserException;
 import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.ExpressionVisitorAdapter;
 import net.sf.jsqlparser.parser.CCJSqlParserUtil;
 import net.sf.jsqlparser.schema.Column;
 import net.sf.jsqlparser.schema.Table;
@@ -45,7 +47,10 @@ import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.ServiceLoader;
+import java.util.SortedSet;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 
 public class ZetaSQLEngine implements SQLEngine {
@@ -62,6 +67,7 @@ public class ZetaSQLEngine implements SQLEngine {
     private ZetaSQLFunction zetaSQLFunction;
     private ZetaSQLFilter zetaSQLFilter;
     private ZetaSQLType zetaSQLType;
+    @Nullable private ZetaSQLCompiledQuery compiledQuery;
 
     private Integer allColumnsCount = null;
 
@@ -87,6 +93,7 @@ public class ZetaSQLEngine implements SQLEngine {
         this.zetaSQLFilter = new ZetaSQLFilter(zetaSQLFunction, zetaSQLType);
 
         parseSQL();
+        compileSQL();
     }
 
     private void parseSQL() {
@@ -102,6 +109,17 @@ public class ZetaSQLEngine implements SQLEngine {
         }
     }
 
+    private void compileSQL() {
+        try {
+            this.compiledQuery =
+                    new ZetaSQLCodeGenerator(inputRowType, zetaSQLType)
+                            .compile(selectBody, zetaSQLFunction, zetaSQLFilter);
+        } catch (Exception e) {
+            log.warn("SQL compile failed: {}, fall back to the interpreter", sql, e);
+            this.compiledQuery = null;
+        }
+    }
+
     private void validateSQL(Statement statement) {
         try {
             if (!(statement instanceof Select)) {
@@ -225,6 +243,32 @@ public class ZetaSQLEngine implements SQLEngine {
         return new SeaTunnelRowType(fieldNames, seaTunnelDataTypes);
     }
 
+    @Override
+    public List<Predicate> getPushDownPredicates() {
+        return new ZetaSQLPredicateConverter(inputRowType).convert(selectBody.getWhere());
+    }
+
+    @Override
+    public Optional<List<String>> getRequiredInputFields() {
+        RequiredFieldsCollector collector = new RequiredFieldsCollector();
+        for (SelectItem selectItem : selectBody.getSelectItems()) {
+            if (!(selectItem instanceof SelectExpressionItem)) {
+                return Optional.empty();
+            }
+            ((SelectExpressionItem) selectItem).getExpression().accept(collector);
+        }
+        if (selectBody.getWhere() != null) {
+            selectBody.getWhere().accept(collector);
+        }
+        if (collector.unresolved) {
+            return Optional.empty();
+        }
+        return Optional.of(
+                collector.fieldIndexes.stream()
+                        .map(inputRowType::getFieldName)
+                        .collect(Collectors.toList()));
+    }
+
     @Override
     public SeaTunnelRow transformBySQL(SeaTunnelRow inputRow) {
         // ------Physical Query Plan Execution------
@@ -232,13 +276,17 @@ public class ZetaSQLEngine implements SQLEngine {
         Object[] inputFields = scanTable(inputRow);
 
         // Filter
-        boolean retain = zetaSQLFilter.executeFilter(selectBody.getWhere(), inputFields);
+        boolean retain =
+                compiledQuery != null
+                        ? compiledQuery.filter(inputFields)
+                        : zetaSQLFilter.executeFilter(selectBody.getWhere(), inputFields);
         if (!retain) {
             return null;
         }
 
         // Project
-        Object[] outputFields = project(inputFields);
+        Object[] outputFields =
+                compiledQuery != null ? compiledQuery.project(inputFields) : project(inputFields);
 
         SeaTunnelRow seaTunnelRow = new SeaTunnelRow(outputFields);
         seaTunnelRow.setRowKind(inputRow.getRowKind());
@@ -293,4 +341,36 @@ public class ZetaSQLEngine implements SQLEngine {
                         - allColumnsCnt;
         return allColumnsCount;
     }
+
+    /**
+     * Collects the input fields referenced by the columns of the expressions, a nested field
+     * requires its top level field. A column which is not an input field makes all fields required.
+     */
+    private class RequiredFieldsCollector extends ExpressionVisitorAdapter {
+        private final SortedSet<Integer> fieldIndexes = new TreeSet<>();
+        private boolean unresolved;
+
+        @Override
+        public void visit(Column column) {
+            int index = indexOfInputField(column.getColumnName());
+            if (index == -1) {
+                index = indexOfInputField(column.getFullyQualifiedName().split("\\.")[0]);
+            }
+            if (index == -1) {
+                unresolved = true;
+            } else {
+                fieldIndexes.add(index);
+            }
+        }
+
+        private int indexOfInputField(String name) {
+            int index = inputRowType.indexOf(name, false);
+            if (index == -1
+                    && name.startsWith(ESCAPE_IDENTIFIER)
+                    && name.endsWith(ESCAPE_IDENTIFIER)) {
+                index = inputRowType.indexOf(name.substring(1, name.length() - 1), false);
+            }
+            return index;
+        }
+    }
 }
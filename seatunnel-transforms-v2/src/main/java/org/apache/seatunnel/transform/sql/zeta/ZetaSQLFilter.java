@@ -86,24 +86,7 @@ public class ZetaSQLFilter {
         if (whereExpr instanceof ComparisonOperator) {
             Pair<Object, Object> pair =
                     executeComparisonOperator((ComparisonOperator) whereExpr, inputFields);
-            if (whereExpr instanceof EqualsTo) {
-                return equalsToExpr(pair);
-            }
-            if (whereExpr instanceof NotEqualsTo) {
-                return notEqualsToExpr(pair);
-            }
-            if (whereExpr instanceof GreaterThan) {
-                return greaterThanExpr(pair);
-            }
-            if (whereExpr instanceof GreaterThanEquals) {
-                return greaterThanEqualsExpr(pair);
-            }
-            if (whereExpr instanceof MinorThan) {
-                return minorThanExpr(pair);
-            }
-            if (whereExpr instanceof MinorThanEquals) {
-                return minorThanEqualsExpr(pair);
-            }
+            return executeComparison((ComparisonOperator) whereExpr, pair);
         }
         if (whereExpr instanceof AndExpression) {
             return andExpr((AndExpression) whereExpr, inputFields);
@@ -250,6 +233,38 @@ public class ZetaSQLFilter {
         return !matcher.matches();
     }
 
+    /**
+     * Compare the values of an evaluated comparison operator
+     *
+     * @param comparisonOperator comparison operator
+     * @param pair left and right values
+     * @return comparison result
+     */
+    public boolean executeComparison(
+            ComparisonOperator comparisonOperator, Pair<Object, Object> pair) {
+        if (comparisonOperator instanceof EqualsTo) {
+            return equalsToExpr(pair);
+        }
+        if (comparisonOperator instanceof NotEqualsTo) {
+            return notEqualsToExpr(pair);
+        }
+        if (comparisonOperator instanceof GreaterThan) {
+            return greaterThanExpr(pair);
+        }
+        if (comparisonOperator instanceof GreaterThanEquals) {
+            return greaterThanEqualsExpr(pair);
+        }
+        if (comparisonOperator instanceof MinorThan) {
+            return minorThanExpr(pair);
+        }
+        if (comparisonOperator instanceof MinorThanEquals) {
+            return minorThanEqualsExpr(pair);
+        }
+        throw new TransformException(
+                CommonErrorCodeDeprecated.UNSUPPORTED_OPERATION,
+                String.format("Unsupported SQL Expression: %s ", comparisonOperator));
+    }
+
     private Pair<Object, Object> executeComparisonOperator(
             ComparisonOperator comparisonOperator, Object[] inputFields) {
         Expression leftExpr = comparisonOperator.getLeftExpression();
@@ -0,0 +1,262 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.transform.sql.zeta;
+
+import org.apache.seatunnel.api.source.filter.AndPredicate;
+import org.apache.seatunnel.api.source.filter.ComparisonPredicate;
+import org.apache.seatunnel.api.source.filter.InPredicate;
+import org.apache.seatunnel.api.source.filter.IsNullPredicate;
+import org.apache.seatunnel.api.source.filter.OrPredicate;
+import org.apache.seatunnel.api.source.filter.Predicate;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.api.table.type.SqlType;
+
+import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.LongValue;
+import net.sf.jsqlparser.expression.Parenthesis;
+import net.sf.jsqlparser.expression.SignedExpression;
+import net.sf.jsqlparser.expression.StringValue;
+import net.sf.jsqlparser.expression.operators.conditional.AndExpression;
+import net.sf.jsqlparser.expression.operators.conditional.OrExpression;
+import net.sf.jsqlparser.expression.operators.relational.ComparisonOperator;
+import net.sf.jsqlparser.expression.operators.relational.EqualsTo;
+import net.sf.jsqlparser.expression.operators.relational.ExpressionList;
+import net.sf.jsqlparser.expression.operators.relational.GreaterThan;
+import net.sf.jsqlparser.expression.operators.relational.GreaterThanEquals;
+import net.sf.jsqlparser.expression.operators.relational.InExpression;
+import net.sf.jsqlparser.expression.operators.relational.IsNullExpression;
+import net.sf.jsqlparser.expression.operators.relational.MinorThan;
+import net.sf.jsqlparser.expression.operators.relational.MinorThanEquals;
+import net.sf.jsqlparser.schema.Column;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Converts the WHERE expression of the SQL to the {@link Predicate}s which can be pushed down to
+ * the source.
+ *
+ * <p>Only the expressions which a source evaluates the same way as {@link ZetaSQLFilter} are
+ * converted: comparisons of integer columns with integer literals, equality of string columns with
+ * string literals, and null checks of columns. Strings are not ordered because the order of a
+ * source may differ from the order of java strings, and integer literals are limited to the range
+ * in which {@link ZetaSQLFilter} compares exactly as it compares numbers as doubles.
+ */
+public class ZetaSQLPredicateConverter {
+
+    private static final BigInteger MAX_EXACT_LONG = BigInteger.ONE.shiftLeft(53);
+
+    private final SeaTunnelRowType inputRowType;
+
+    public ZetaSQLPredicateConverter(SeaTunnelRowType inputRowType) {
+        this.inputRowType = inputRowType;
+    }
+
+    /** Converts the convertible conjuncts of the WHERE expression. */
+    public List<Predicate> convert(Expression whereExpr) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (whereExpr != null) {
+            collectConjuncts(whereExpr, predicates);
+        }
+        return predicates;
+    }
+
+    private void collectConjuncts(Expression expression, List<Predicate> predicates) {
+        expression = unwrap(expression);
+        if (expression instanceof AndExpression) {
+            AndExpression andExpression = (AndExpression) expression;
+            collectConjuncts(andExpression.getLeftExpression(), predicates);
+            collectConjuncts(andExpression.getRightExpression(), predicates);
+            return;
+        }
+        Predicate predicate = toPredicate(expression);
+        if (predicate != null) {
+            predicates.add(predicate);
+        }
+    }
+
+    private Predicate toPredicate(Expression expression) {
+        expression = unwrap(expression);
+        if (expression instanceof AndExpression) {
+            List<Predicate> children = convert(expression);
+            if (children.isEmpty()) {
+                return null;
+            }
+            return children.size() == 1 ? children.get(0) : new AndPredicate(children);
+        }
+        if (expression instanceof OrExpression) {
+            OrExpression orExpression = (OrExpression) expression;
+            Predicate left = toPredicate(orExpression.getLeftExpression());
+            Predicate right = toPredicate(orExpression.getRightExpression());
+            if (left == null || right == null) {
+                return null;
+            }
+            return new OrPredicate(Arrays.asList(left, right));
+        }
+        if (expression instanceof IsNullExpression) {
+            IsNullExpression isNullExpression = (IsNullExpression) expression;
+            String fieldName = fieldName(isNullExpression.getLeftExpression());
+            if (fieldName == null || isNullExpression.isUseIsNull()) {
+                return null;
+            }
+            return new IsNullPredicate(fieldName, isNullExpression.isNot());
+        }
+        if (expression instanceof InExpression) {
+            return inPredicate((InExpression) expression);
+        }
+        if (expression instanceof ComparisonOperator) {
+            return comparisonPredicate((ComparisonOperator) expression);
+        }
+        return null;
+    }
+
+    private Predicate inPredicate(InExpression inExpression) {
+        if (inExpression.isNot()
+                || inExpression.getOldOracleJoinSyntax() != InExpression.NO_ORACLE_JOIN
+                || !(inExpression.getRightItemsList() instanceof ExpressionList)) {
+            return null;
+        }
+        String fieldName = fieldName(inExpression.getLeftExpression());
+        if (fieldName == null) {
+            return null;
+        }
+        SqlType sqlType = inputRowType.getFieldType(indexOf(fieldName)).getSqlType();
+        List<Expression> expressions =
+                ((ExpressionList) inExpression.getRightItemsList()).getExpressions();
+        if (expressions == null || expressions.isEmpty()) {
+            return null;
+        }
+        List<Object> values = new ArrayList<>(expressions.size());
+        for (Expression item : expressions) {
+            Object value = literal(sqlType, item);
+            if (value == null) {
+                return null;
+            }
+            values.add(value);
+        }
+        return new InPredicate(fieldName, values);
+    }
+
+    private Predicate comparisonPredicate(ComparisonOperator comparison) {
+        ComparisonPredicate.Operator operator = operator(comparison);
+        if (operator == null || comparison.getOldOracleJoinSyntax() != 0) {
+            return null;
+        }
+        Expression columnExpr = comparison.getLeftExpression();
+        Expression valueExpr = comparison.getRightExpression();
+        String fieldName = fieldName(columnExpr);
+        if (fieldName == null) {
+            columnExpr = comparison.getRightExpression();
+            valueExpr = comparison.getLeftExpression();
+            fieldName = fieldName(columnExpr);
+            operator = operator.reverse();
+        }
+        if (fieldName == null) {
+            return null;
+        }
+        SqlType sqlType = inputRowType.getFieldType(indexOf(fieldName)).getSqlType();
+        if (sqlType == SqlType.STRING && operator != ComparisonPredicate.Operator.EQUALS) {
+            return null;
+        }
+        Object value = literal(sqlType, valueExpr);
+        if (value == null) {
+            return null;
+        }
+        return new ComparisonPredicate(fieldName, operator, value);
+    }
+
+    private static ComparisonPredicate.Operator operator(ComparisonOperator comparison) {
+        if (comparison instanceof EqualsTo) {
+            return ComparisonPredicate.Operator.EQUALS;
+        }
+        if (comparison instanceof MinorThan) {
+            return ComparisonPredicate.Operator.LESS_THAN;
+        }
+        if (comparison instanceof MinorThanEquals) {
+            return ComparisonPredicate.Operator.LESS_THAN_OR_EQUALS;
+        }
+        if (comparison instanceof GreaterThan) {
+            return ComparisonPredicate.Operator.GREATER_THAN;
+        }
+        if (comparison instanceof GreaterThanEquals) {
+            return ComparisonPredicate.Operator.GREATER_THAN_OR_EQUALS;
+        }
+        return null;
+    }
+
+    /** The value of a literal which is compared with a column of the type, or null. */
+    private static Object literal(SqlType sqlType, Expression expression) {
+        expression = unwrap(expression);
+        switch (sqlType) {
+            case TINYINT:
+            case SMALLINT:
+            case INT:
+            case BIGINT:
+                boolean negative = false;
+                if (expression instanceof SignedExpression
+                        && ((SignedExpression) expression).getSign() == '-') {
+                    negative = true;
+                    expression = unwrap(((SignedExpression) expression).getExpression());
+                }
+                if (!(expression instanceof LongValue)) {
+                    return null;
+                }
+                BigInteger value = ((LongValue) expression).getBigIntegerValue();
+                if (value.abs().compareTo(MAX_EXACT_LONG) >= 0) {
+                    return null;
+                }
+                return negative ? -value.longValue() : value.longValue();
+            case STRING:
+                if (expression instanceof StringValue) {
+                    return ((StringValue) expression).getValue();
+                }
+                return null;
+            default:
+                return null;
+        }
+    }
+
+    /** The name of the top level input field of the column, or null. */
+    private String fieldName(Expression expression) {
+        expression = unwrap(expression);
+        if (!(expression instanceof Column) || ((Column) expression).getTable() != null) {
+            return null;
+        }
+        String columnName = ((Column) expression).getColumnName();
+        if (inputRowType.indexOf(columnName, false) == -1
+                && columnName.startsWith(ZetaSQLEngine.ESCAPE_IDENTIFIER)
+                && columnName.endsWith(ZetaSQLEngine.ESCAPE_IDENTIFIER)) {
+            columnName = columnName.substring(1, columnName.length() - 1);
+        }
+        int index = inputRowType.indexOf(columnName, false);
+        return index == -1 ? null : inputRowType.getFieldName(index);
+    }
+
+    private int indexOf(String fieldName) {
+        return inputRowType.indexOf(fieldName, false);
+    }
+
+    private static Expression unwrap(Expression expression) {
+        while (expression instanceof Parenthesis) {
+            expression = ((Parenthesis) expression).getExpression();
+        }
+        return expression;
+    }
+}
@@ -35,6 +35,7 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 class FilterFieldTransformTest {
 
@@ -228,4 +229,38 @@ class FilterFieldTransformTest {
             }
         }
     }
+
+    @Test
+    void testProjectionPushDown() {
+        Map<String, Object> configMap = new HashMap<>();
+        configMap.put(FilterFieldTransformConfig.EXCLUDE_FIELDS.key(), filterKeys);
+        FilterFieldTransform filterFieldTransform =
+                new FilterFieldTransform(ReadonlyConfig.fromMap(configMap), catalogTable);
+        Assertions.assertEquals(
+                Optional.of(Arrays.asList("key1", "key4", "key5")),
+                filterFieldTransform.getRequiredInputFields());
+        CatalogTable producedTable = filterFieldTransform.getProducedCatalogTable();
+
+        // the source may keep other fields than the required ones
+        TableSchema.Builder projectedSchema = TableSchema.builder();
+        for (String fieldName : Arrays.asList("key1", "key4", "key5", "partition")) {
+            projectedSchema.column(
+                    PhysicalColumn.of(
+                            fieldName, BasicType.STRING_TYPE, 1L, Boolean.FALSE, null, null));
+        }
+        filterFieldTransform.applyInputProjection(
+                CatalogTable.of(
+                        catalogTable.getTableId(),
+                        projectedSchema.build(),
+                        new HashMap<>(),
+                        new ArrayList<>(),
+                        "comment"));
+
+        Assertions.assertSame(producedTable, filterFieldTransform.getProducedCatalogTable());
+        SeaTunnelRow output =
+                filterFieldTransform.transformRow(
+                        new SeaTunnelRow(new Object[] {"value1", "value4", "value5", "p"}));
+        Assertions.assertArrayEquals(
+                new Object[] {"value1", "value4", "value5"}, output.getFields());
+    }
 }
@@ -34,9 +34,11 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Objects;
+import java.util.Optional;
 
 public class SQLTransformTest {
 
@@ -105,6 +107,39 @@ public class SQLTransformTest {
                         });
     }
 
+    @Test
+    public void testProjectionPushDown() {
+        SQLTransform sqlTransform =
+                new SQLTransform(
+                        ReadonlyConfig.fromMap(
+                                Collections.singletonMap(
+                                        "query",
+                                        "select upper(name) as upper_name, id from test where `age` > 1")),
+                        getCatalogTable());
+        Assertions.assertEquals(
+                Optional.of(Arrays.asList("id", "name", "age")),
+                sqlTransform.getRequiredInputFields());
+        CatalogTable producedTable = sqlTransform.getProducedCatalogTable();
+
+        sqlTransform.applyInputProjection(
+                CatalogTableUtil.getCatalogTable(
+                        TEST_NAME,
+                        new SeaTunnelRowType(
+                                new String[] {"id", "name", "age"},
+                                new SeaTunnelDataType[] {
+                                    BasicType.INT_TYPE, BasicType.STRING_TYPE, BasicType.INT_TYPE
+                                })));
+        Assertions.assertSame(producedTable, sqlTransform.getProducedCatalogTable());
+        SeaTunnelRow result = sqlTransform.transformRow(new SeaTunnelRow(new Object[] {1, "a", 2}));
+        Assertions.assertArrayEquals(new Object[] {"A", 1}, result.getFields());
+        Assertions.assertNull(
+                sqlTransform.transformRow(new SeaTunnelRow(new Object[] {1, "a", 1})));
+
+        Assertions.assertEquals(
+                Optional.empty(),
+                new SQLTransform(READONLY_CONFIG, getCatalogTable()).getRequiredInputFields());
+    }
+
     private CatalogTable getCatalogTable() {
         SeaTunnelRowType rowType =
                 new SeaTunnelRowType(
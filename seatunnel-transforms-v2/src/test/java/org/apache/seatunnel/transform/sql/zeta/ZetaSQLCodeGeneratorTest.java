@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.transform.sql.zeta;
+
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.LocalTimeType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import net.sf.jsqlparser.parser.CCJSqlParserUtil;
+import net.sf.jsqlparser.statement.select.PlainSelect;
+import net.sf.jsqlparser.statement.select.Select;
+import net.sf.jsqlparser.statement.select.SelectExpressionItem;
+import net.sf.jsqlparser.statement.select.SelectItem;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class ZetaSQLCodeGeneratorTest {
+
+    private static final SeaTunnelRowType ROW_TYPE =
+            new SeaTunnelRowType(
+                    new String[] {"id", "name", "age", "score", "amount", "birthday"},
+                    new SeaTunnelDataType[] {
+                        BasicType.INT_TYPE,
+                        BasicType.STRING_TYPE,
+                        BasicType.SHORT_TYPE,
+                        BasicType.DOUBLE_TYPE,
+                        BasicType.LONG_TYPE,
+                        LocalTimeType.LOCAL_DATE_TYPE
+                    });
+
+    private static final List<Object[]> ROWS =
+            Arrays.asList(
+                    new Object[] {1, "Alice", (short) 20, 90.5D, 100L, LocalDate.of(2000, 1, 1)},
+                    new Object[] {2, "Bob", (short) 35, 60D, 3000000000L, LocalDate.of(1989, 6, 4)},
+                    new Object[] {3, null, null, null, null, null},
+                    new Object[] {-4, "Carol", (short) 18, 99.9D, -7L, LocalDate.of(2006, 2, 28)});
+
+    private final ZetaSQLType zetaSQLType = new ZetaSQLType(ROW_TYPE, new ArrayList<>());
+    private final ZetaSQLFunction zetaSQLFunction =
+            new ZetaSQLFunction(ROW_TYPE, zetaSQLType, new ArrayList<>());
+    private final ZetaSQLFilter zetaSQLFilter = new ZetaSQLFilter(zetaSQLFunction, zetaSQLType);
+
+    @Test
+    public void testCompiledFilterMatchesInterpreter() throws Exception {
+        String[] conditions = {
+            "id > 1",
+            "id = 2.0",
+            "name = 'Bob' or age >= 35",
+            "name <> 'Bob'",
+            "age != 18",
+            "score <= 90.5 and amount > 100",
+            "amount / 2 > 50",
+            "(id + age) * 2 < 60",
+            "name is null",
+            "name is not null and (score > 80 or amount < 0)",
+            "birthday > birthday",
+            "birthday >= to_date('2000-01-01', 'yyyy-MM-dd') or id > 3",
+            "upper(name) = 'ALICE'",
+            "name like 'A%' or id = 2",
+            "id in (1, 3) and name is not null",
+            "id > -2147483648",
+            "null = id"
+        };
+        for (String condition : conditions) {
+            PlainSelect selectBody = parse("select * from test where " + condition);
+            ZetaSQLCompiledQuery query = compile(selectBody);
+            Assertions.assertNotNull(query, condition);
+            for (Object[] row : ROWS) {
+                Assertions.assertEquals(
+                        zetaSQLFilter.executeFilter(selectBody.getWhere(), row),
+                        query.filter(row),
+                        condition + " " + Arrays.toString(row));
+            }
+        }
+    }
+
+    @Test
+    public void testCompiledProjectionMatchesInterpreter() throws Exception {
+        String sql =
+                "select id, `name`, id + 1, id * 2.5, amount - id, amount % 3, age + age, "
+                        + "score / 2, -1, 2147483648, 'const', null, (id), "
+                        + "concat(name, '_', id), id + amount * 2, "
+                        + "case when id > 1 then 'big' else 'small' end from test";
+        PlainSelect selectBody = parse(sql);
+        ZetaSQLCompiledQuery query = compile(selectBody);
+        Assertions.assertNotNull(query);
+        for (Object[] row : ROWS) {
+            List<Object> expected = new ArrayList<>();
+            for (SelectItem selectItem : selectBody.getSelectItems()) {
+                expected.add(
+                        zetaSQLFunction.computeForValue(
+                                ((SelectExpressionItem) selectItem).getExpression(), row));
+            }
+            Assertions.assertEquals(expected, Arrays.asList(query.project(row)));
+            Assertions.assertTrue(query.filter(row));
+        }
+    }
+
+    @Test
+    public void testCompiledAllColumns() throws Exception {
+        ZetaSQLCompiledQuery query = compile(parse("select *, id from test where id > 1"));
+        Object[] row = ROWS.get(1);
+        Object[] result = query.project(row);
+        Assertions.assertEquals(ROW_TYPE.getTotalFields() + 1, result.length);
+        Assertions.assertArrayEquals(row, Arrays.copyOf(result, row.length));
+        Assertions.assertEquals(2, result[row.length]);
+    }
+
+    @Test
+    public void testNothingToCompile() throws Exception {
+        Assertions.assertNull(compile(parse("select * from test")));
+    }
+
+    @Test
+    public void testIntegerDivisionByZero() throws Exception {
+        PlainSelect selectBody = parse("select id / 0 from test");
+        ZetaSQLCompiledQuery query = compile(selectBody);
+        Assertions.assertThrows(ArithmeticException.class, () -> query.project(ROWS.get(0)));
+    }
+
+    private ZetaSQLCompiledQuery compile(PlainSelect selectBody) throws Exception {
+        return new ZetaSQLCodeGenerator(ROW_TYPE, zetaSQLType)
+                .compile(selectBody, zetaSQLFunction, zetaSQLFilter);
+    }
+
+    private static PlainSelect parse(String sql) throws Exception {
+        return (PlainSelect) ((Select) CCJSqlParserUtil.parse(sql)).getSelectBody();
+    }
+}
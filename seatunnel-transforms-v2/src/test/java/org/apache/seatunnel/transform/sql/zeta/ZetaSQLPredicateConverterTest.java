@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.transform.sql.zeta;
+
+import org.apache.seatunnel.api.source.filter.Predicate;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import net.sf.jsqlparser.parser.CCJSqlParserUtil;
+
+import java.util.List;
+
+public class ZetaSQLPredicateConverterTest {
+
+    private static final SeaTunnelRowType ROW_TYPE =
+            new SeaTunnelRowType(
+                    new String[] {"id", "name", "age", "score", "amount"},
+                    new SeaTunnelDataType[] {
+                        BasicType.INT_TYPE,
+                        BasicType.STRING_TYPE,
+                        BasicType.SHORT_TYPE,
+                        BasicType.DOUBLE_TYPE,
+                        BasicType.LONG_TYPE
+                    });
+
+    private final ZetaSQLPredicateConverter converter = new ZetaSQLPredicateConverter(ROW_TYPE);
+
+    @Test
+    public void testConvertConjuncts() throws Exception {
+        assertPredicates("[id > 1, name = Bob]", "id > 1 and name = 'Bob'");
+        assertPredicates("[age <= 18, amount >= -7]", "(18 >= age) and amount >= -7");
+        assertPredicates(
+                "[id IN [1, 2, 3], name IS NOT NULL]", "id in (1, 2, 3) and name is not null");
+        assertPredicates(
+                "[(id < 0) OR ((name IN [a, b]) AND (amount IS NULL))]",
+                "id < 0 or (name in ('a', 'b') and amount is null)");
+        assertPredicates("[id = 1]", "`id` = 1 and upper(name) = 'ALICE'");
+        assertPredicates("[amount = 9007199254740991]", "amount = 9007199254740991");
+    }
+
+    @Test
+    public void testSkipUnsafeExpressions() throws Exception {
+        assertPredicates("[]", null);
+        assertPredicates("[]", "name > 'Bob'");
+        assertPredicates("[]", "name <> 'Bob'");
+        assertPredicates("[]", "id not in (1, 2)");
+        assertPredicates("[]", "id in (1, null)");
+        assertPredicates("[]", "id = 2.0");
+        assertPredicates("[]", "id = '2'");
+        assertPredicates("[]", "name = 1");
+        assertPredicates("[]", "score > 1");
+        assertPredicates("[]", "amount = 9007199254740992");
+        assertPredicates("[]", "id + 1 > 2");
+        assertPredicates("[]", "id > age");
+        assertPredicates("[]", "unknown = 1");
+        assertPredicates("[]", "id > 1 or name like 'B%'");
+    }
+
+    private void assertPredicates(String expected, String where) throws Exception {
+        List<Predicate> predicates =
+                converter.convert(
+                        where == null ? null : CCJSqlParserUtil.parseCondExpression(where));
+        Assertions.assertEquals(expected, predicates.toString());
+    }
+}
@@ -29,6 +29,7 @@ import org.apache.flink.api.connector.source.SplitEnumeratorContext;
 import org.apache.flink.runtime.operators.coordination.OperatorCoordinator;
 import org.apache.flink.runtime.scheduler.SchedulerBase;
 import org.apache.flink.runtime.source.coordinator.SourceCoordinatorContext;
+import org.apache.flink.util.FlinkRuntimeException;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -95,6 +96,15 @@ public class FlinkSourceSplitEnumeratorContext<SplitT extends SourceSplit>
         return eventListener;
     }
 
+    @Override
+    public void failEnumerator(Throwable cause) {
+        // an error thrown in the coordinator thread fails the job
+        enumContext.runInCoordinatorThread(
+                () -> {
+                    throw new FlinkRuntimeException("The split enumerator failed", cause);
+                });
+    }
+
     private static String getFlinkJobId(SplitEnumeratorContext enumContext) {
         try {
             return getJobIdForV15(enumContext);